@@ -0,0 +1,74 @@
+package com.green.watcher.greenwatcher.benchmark;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.user.availability.UserAvailabilityService;
+import com.green.watcher.greenwatcher.common.user.entity.User;
+import com.green.watcher.greenwatcher.common.user.enumerate.Role;
+import com.green.watcher.greenwatcher.common.user.repository.UserRepository;
+import com.green.watcher.greenwatcher.common.user.security.jwt.JwtTokenProvider;
+import com.green.watcher.greenwatcher.common.user.security.service.UserService;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  벤치마크 공용 객체 생성 클래스
+ *  스프링 컨텍스트 / DB 없이 인증 경로 객체를 직접 조립한다.
+ *  UserRepository 는 findById 만 응답하는 메모리 구현으로 대체하여 순수 CPU 비용만 측정한다.
+ */
+final class BenchmarkFixtures {
+
+    //application.yml 의 jwt.secret 과 같은 길이(HS256)의 키
+    static final String JWT_SECRET = "U29tZVNlY3JldEtleUhlcmUgdGhhdCBpcyBhdCBsZWFzdCAzM0J5dGVz";
+
+    static final String USER_ID = "benchmark";
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user() {
+        return User.builder()
+                .id(USER_ID)
+                .nickname("벤치마크")
+                .email("benchmark@greenwatcher.com")
+                .password("{noop}password")
+                .role(Role.ROLE_USER)
+                .createdAt(LocalDateTime.of(2026, 10, 19, 0, 0))
+                .build();
+    }
+
+    //findById 만 지원하는 메모리 UserRepository
+    static UserRepository userRepository() {
+        Optional<User> user = Optional.of(user());
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if ("findById".equals(method.getName())) {
+                        return USER_ID.equals(args[0]) ? user : Optional.empty();
+                    }
+                    if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    static UserService userService(MetricsRegistry metricsRegistry) {
+        UserRepository userRepository = userRepository();
+        return new UserService(NoOpPasswordEncoder.getInstance(), userRepository, metricsRegistry,
+                new UserAvailabilityService(userRepository, metricsRegistry, Runnable::run, 1000, 0.01));
+    }
+
+    static JwtTokenProvider jwtTokenProvider() {
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        return new JwtTokenProvider(userService(metricsRegistry), metricsRegistry, JWT_SECRET);
+    }
+}
@@ -0,0 +1,87 @@
+package com.green.watcher.greenwatcher.benchmark;
+
+import com.green.watcher.greenwatcher.common.radar.CappiCoordinates;
+import com.green.watcher.greenwatcher.common.radar.CappiDecoder;
+import com.green.watcher.greenwatcher.common.radar.RadarPoints;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  CAPPI 디코딩 / 좌표 할당 벤치마크
+ *  레이더 영역 밖(-128)과 관측 없음(-127)이 대부분이고 일부 격자에만 강수가 있는 합성 데이터를 사용한다.
+ *  gridSize 는 xdim = ydim 크기이다.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CappiBenchmark {
+
+    private static final double START_LON = 121.0;
+    private static final double START_LAT = 31.0;
+    private static final double GRID_KM = 1.0;
+    private static final double ALTITUDE_KM = 1.5;
+
+    @Param({"480", "960"})
+    public int gridSize;
+
+    //강수가 있는 격자 비율
+    @Param({"0.1"})
+    public double rainRatio;
+
+    private String compressed;
+    private double[][] grid;
+
+    @Setup
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(20261019L);
+        StringBuilder csv = new StringBuilder(gridSize * gridSize * 6);
+        for (int i = 0; i < gridSize; i++) {
+            for (int j = 0; j < gridSize; j++) {
+                if (j > 0) {
+                    csv.append(',');
+                }
+                double r = random.nextDouble();
+                if (r < rainRatio) {
+                    csv.append(Math.round(random.nextDouble() * 5000) / 100.0);
+                } else if (r < 0.6) {
+                    csv.append("-127");
+                } else {
+                    csv.append("-128");
+                }
+            }
+            csv.append('\n');
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(csv.toString().getBytes(StandardCharsets.US_ASCII));
+        }
+        compressed = Base64.getEncoder().encodeToString(out.toByteArray());
+        grid = CappiDecoder.decode(compressed);
+    }
+
+    @Benchmark
+    public double[][] decode() {
+        return CappiDecoder.decode(compressed);
+    }
+
+    @Benchmark
+    public RadarPoints assignCoordinates() {
+        return CappiCoordinates.assign(START_LON, START_LAT, GRID_KM, grid, gridSize, gridSize, ALTITUDE_KM);
+    }
+
+    //api 응답 1건을 처리하는 전체 비용
+    @Benchmark
+    public RadarPoints decodeAndAssign() {
+        return CappiCoordinates.assign(START_LON, START_LAT, GRID_KM, CappiDecoder.decode(compressed),
+                gridSize, gridSize, ALTITUDE_KM);
+    }
+}
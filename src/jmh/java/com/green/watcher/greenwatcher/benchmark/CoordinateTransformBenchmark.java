@@ -0,0 +1,73 @@
+package com.green.watcher.greenwatcher.benchmark;
+
+import com.green.watcher.greenwatcher.common.crs.CrsPipeline;
+import com.green.watcher.greenwatcher.common.crs.CrsProperties;
+import com.green.watcher.greenwatcher.common.crs.service.CoordinateTransformService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  좌표계 일괄 변환 벤치마크
+ *  호출 한 번이 POINTS 개의 점을 변환하므로 점수는 점 하나 기준이다.
+ *  ./gradlew jmh -Pjmh.includes=CoordinateTransformBenchmark -Pjmh.mode=thrpt -Pjmh.timeUnit=s 로 실행하면 초당 변환 점 수가 나온다.
+ *  route 는 원본>대상 좌표계이며, EPSG:5174 는 Helmert 기준계 변환을 포함한다.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+public class CoordinateTransformBenchmark {
+
+    private static final int POINTS = 1_000_000;
+
+    @Param({"EPSG:5186>EPSG:4326", "EPSG:4326>EPSG:3857", "EPSG:5174>EPSG:5179"})
+    public String route;
+
+    private CoordinateTransformService service;
+    private CrsPipeline pipeline;
+    private String from;
+    private String to;
+    private double[] source;
+    private double[] work;
+
+    @Setup
+    public void setUp() {
+        service = new CoordinateTransformService(new CrsProperties());
+        String[] codes = route.split(">");
+        from = codes[0];
+        to = codes[1];
+        pipeline = service.pipeline(from, to);
+
+        //한반도 범위(경도 125 ~ 130, 위도 33 ~ 39)의 임의 점을 원본 좌표계로 바꾸어 둔다.
+        SplittableRandom random = new SplittableRandom(20261019L);
+        source = new double[POINTS * 2];
+        for (int i = 0; i < POINTS; i++) {
+            source[i * 2] = 125 + random.nextDouble() * 5;
+            source[i * 2 + 1] = 33 + random.nextDouble() * 6;
+        }
+        service.transform(CoordinateTransformService.WGS84, from, source);
+        work = new double[source.length];
+    }
+
+    //캐시된 파이프라인, 단일 스레드
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double[] sequential() {
+        System.arraycopy(source, 0, work, 0, source.length);
+        pipeline.transform(work);
+        return work;
+    }
+
+    //service 진입점 (파이프라인 캐시 조회 + 코어 병렬 분할)
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double[] parallel() {
+        System.arraycopy(source, 0, work, 0, source.length);
+        service.transform(from, to, work);
+        return work;
+    }
+}
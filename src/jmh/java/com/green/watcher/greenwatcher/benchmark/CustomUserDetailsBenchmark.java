@@ -0,0 +1,47 @@
+package com.green.watcher.greenwatcher.benchmark;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.user.entity.User;
+import com.green.watcher.greenwatcher.common.user.security.details.CustomUserDetails;
+import com.green.watcher.greenwatcher.common.user.security.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collections;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  CustomUserDetails 생성 벤치마크
+ *  생성자만 호출하는 경우와 UserService.loadUserByUsername(메모리 레파지토리)을 거치는 경우를 비교한다.
+ */
+@State(Scope.Benchmark)
+public class CustomUserDetailsBenchmark {
+
+    private User user;
+    private UserService userService;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user();
+        userService = BenchmarkFixtures.userService(new MetricsRegistry());
+    }
+
+    @Benchmark
+    public CustomUserDetails construct() {
+        return new CustomUserDetails(
+                user.getId(),
+                user.getNickname(),
+                user.getEmail(),
+                user.getPassword(),
+                Collections.singleton(new SimpleGrantedAuthority(user.getRole().name()))
+        );
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userService.loadUserByUsername(BenchmarkFixtures.USER_ID);
+    }
+}
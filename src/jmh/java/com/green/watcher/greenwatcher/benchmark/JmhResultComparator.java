@@ -0,0 +1,85 @@
+package com.green.watcher.greenwatcher.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  JMH JSON 결과 비교 도구
+ *  두 커밋의 결과 파일을 벤치마크(+파라미터) 단위로 맞춰 점수 변화율을 출력한다.
+ *  99.9% 오차 구간이 겹치지 않는 항목만 개선 / 저하로 표시하고, 겹치면 차이 없음(~)으로 본다.
+ *  usage: JmhResultComparator <baseline.json> <current.json>
+ */
+public class JmhResultComparator {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args[0].isBlank()) {
+            System.err.println("usage: JmhResultComparator <baseline.json> <current.json>");
+            System.exit(1);
+        }
+        Map<String, JsonNode> baseline = load(new File(args[0]));
+        Map<String, JsonNode> current = load(new File(args[1]));
+
+        System.out.printf("%-90s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode after = entry.getValue().get("primaryMetric");
+            JsonNode before = baseline.containsKey(entry.getKey()) ? baseline.get(entry.getKey()).get("primaryMetric") : null;
+            String unit = after.get("scoreUnit").asText();
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s  %s%n", entry.getKey(), "-", after.get("score").asDouble(), "new", unit);
+                continue;
+            }
+            double beforeScore = before.get("score").asDouble();
+            double afterScore = after.get("score").asDouble();
+            double change = (afterScore - beforeScore) / beforeScore * 100;
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%% %s %s%n", entry.getKey(), beforeScore, afterScore, change,
+                    verdict(before, after, unit), unit);
+        }
+    }
+
+    //벤치마크 이름 + 파라미터를 키로 결과를 읽는다.
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText()
+                    .replace("com.green.watcher.greenwatcher.benchmark.", ""));
+            JsonNode params = result.get("params");
+            if (params != null) {
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    /*
+     *  오차 구간 비교
+     *  시간 단위(us/op 등)는 낮을수록, 처리량 단위(ops/s 등)는 높을수록 좋다.
+     */
+    private static String verdict(JsonNode before, JsonNode after, String unit) {
+        JsonNode beforeRange = before.get("scoreConfidence");
+        JsonNode afterRange = after.get("scoreConfidence");
+        if (beforeRange == null || afterRange == null) {
+            return "~";
+        }
+        boolean lower = afterRange.get(1).asDouble() < beforeRange.get(0).asDouble();
+        boolean higher = afterRange.get(0).asDouble() > beforeRange.get(1).asDouble();
+        if (!lower && !higher) {
+            return "~";
+        }
+        boolean higherIsBetter = unit.startsWith("ops/");
+        return higher == higherIsBetter ? "+" : "-";
+    }
+}
@@ -0,0 +1,70 @@
+package com.green.watcher.greenwatcher.benchmark;
+
+import com.green.watcher.greenwatcher.common.user.security.jwt.JwtTokenProvider;
+import com.green.watcher.greenwatcher.common.user.security.jwt.TokenStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  JwtTokenProvider 토큰 생성 / 검증 / 인증 객체 조회 벤치마크
+ *  api 요청마다 JwtAuthenticationFilter 가 verify + getAuthentication 을 호출하므로 가장 자주 실행되는 경로이다.
+ *  스캐너가 보내는 형식 오류 토큰의 거절 경로 추가
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private Authentication authentication;
+    private String token;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider();
+        authentication = new UsernamePasswordAuthenticationToken(BenchmarkFixtures.USER_ID, "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = jwtTokenProvider.createToken(BenchmarkFixtures.USER_ID, authentication);
+        //서명 마지막 글자를 바꾼 토큰 (검증 실패 경로)
+        char last = token.charAt(token.length() - 1);
+        tamperedToken = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtTokenProvider.createToken(BenchmarkFixtures.USER_ID, authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtTokenProvider.validateToken(tamperedToken);
+    }
+
+    //형식이 틀린 토큰 (스캐너 / 잘못 설정된 클라이언트)
+    @Benchmark
+    public TokenStatus verifyMalformedToken() {
+        return jwtTokenProvider.verify("null");
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(token);
+    }
+
+    //필터가 실제로 수행하는 순서 (검증 후 인증 객체 조회)
+    @Benchmark
+    public Authentication validateAndAuthenticate() {
+        return jwtTokenProvider.verify(token) == TokenStatus.VALID ? jwtTokenProvider.getAuthentication(token) : null;
+    }
+}
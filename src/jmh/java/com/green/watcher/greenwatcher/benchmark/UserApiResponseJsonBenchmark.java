@@ -0,0 +1,52 @@
+package com.green.watcher.greenwatcher.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  UserApiResponse JSON 직렬화 벤치마크
+ *  스프링 MVC 와 같은 설정의 ObjectMapper 로 로그인 성공(토큰) / 실패 응답을 직렬화한다.
+ */
+@State(Scope.Benchmark)
+public class UserApiResponseJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter writer;
+    private UserApiResponse<String> success;
+    private UserApiResponse<Object> fail;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(UserApiResponse.class);
+        String token = BenchmarkFixtures.jwtTokenProvider().createToken(BenchmarkFixtures.USER_ID,
+                new UsernamePasswordAuthenticationToken(BenchmarkFixtures.USER_ID, ""));
+        //AuthApiController 로그인 응답과 같은 형태
+        success = UserApiResponse.success(token);
+        fail = UserApiResponse.fail(401, "로그인에 실패했습니다.");
+    }
+
+    @Benchmark
+    public byte[] serializeSuccess() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(success);
+    }
+
+    //ObjectWriter 를 미리 만들어 둔 경우
+    @Benchmark
+    public byte[] serializeSuccessWithWriter() throws JsonProcessingException {
+        return writer.writeValueAsBytes(success);
+    }
+
+    @Benchmark
+    public byte[] serializeFail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fail);
+    }
+}
@@ -0,0 +1,120 @@
+package com.green.watcher.greenwatcher.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  부하 테스트 결과 집계
+ *  시나리오 / 단계 이름별로 지연 시간(HdrHistogram)과 오류 수를 모으고,
+ *  측정 구간이 끝나면 표와 JSON 파일로 출력한다.
+ */
+public class LoadTestReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private long startNanos;
+    private long endNanos;
+
+    //워밍업이 끝나면 호출하여 이후 결과만 집계한다.
+    public void startRecording() {
+        metrics.values().forEach(metric -> metric.reset());
+        startNanos = System.nanoTime();
+        recording = true;
+    }
+
+    public void stopRecording() {
+        recording = false;
+        endNanos = System.nanoTime();
+    }
+
+    public void record(String name, long elapsedNanos, boolean error) {
+        if (!recording) {
+            return;
+        }
+        Metric metric = metrics.get(name);
+        if (metric == null) {
+            metric = metrics.computeIfAbsent(name, ignored -> new Metric());
+        }
+        metric.recorder.recordValue(Math.max(1, Math.min(elapsedNanos / 1000, HIGHEST_TRACKABLE_MICROS)));
+        if (error) {
+            metric.errors.increment();
+        }
+    }
+
+    /*
+     *  결과를 표로 출력하고 JSON 파일로 저장한다.
+     */
+    public void write(Map<String, String> settings, Path jsonFile) throws IOException {
+        double seconds = Math.max(0.001, (endNanos - startNanos) / 1_000_000_000.0);
+        Map<String, Histogram> histograms = new TreeMap<>();
+        metrics.forEach((name, metric) -> histograms.put(name, metric.recorder.getIntervalHistogram()));
+
+        System.out.printf("%-36s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "name", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        histograms.forEach((name, histogram) -> System.out.printf("%-36s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, histogram.getTotalCount(), metrics.get(name).errors.sum(), histogram.getTotalCount() / seconds,
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0));
+
+        Files.createDirectories(jsonFile.toAbsolutePath().getParent());
+        try (Writer out = Files.newBufferedWriter(jsonFile, StandardCharsets.UTF_8)) {
+            out.write("{\"durationSeconds\":" + seconds + ",\"settings\":{");
+            boolean first = true;
+            for (Map.Entry<String, String> setting : new TreeMap<>(settings).entrySet()) {
+                out.write((first ? "" : ",") + quote(setting.getKey()) + ":" + quote(setting.getValue()));
+                first = false;
+            }
+            out.write("},\"metrics\":{");
+            first = true;
+            for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+                Histogram histogram = entry.getValue();
+                out.write((first ? "" : ",") + quote(entry.getKey()) + ":{"
+                        + "\"count\":" + histogram.getTotalCount()
+                        + ",\"errors\":" + metrics.get(entry.getKey()).errors.sum()
+                        + ",\"throughput\":" + histogram.getTotalCount() / seconds
+                        + ",\"p50\":" + millis(histogram, 50)
+                        + ",\"p90\":" + millis(histogram, 90)
+                        + ",\"p99\":" + millis(histogram, 99)
+                        + ",\"p999\":" + millis(histogram, 99.9)
+                        + ",\"max\":" + histogram.getMaxValue() / 1000.0 + "}");
+                first = false;
+            }
+            out.write("}}\n");
+        }
+        System.out.println("report written to " + jsonFile);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static final class Metric {
+        private final Recorder recorder = new Recorder(1, HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        void reset() {
+            recorder.reset();
+            errors.reset();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.green.watcher.greenwatcher.loadtest;
+
+import com.green.watcher.greenwatcher.loadtest.scenario.ApiLoginScenario;
+import com.green.watcher.greenwatcher.loadtest.scenario.AuthenticatedApiScenario;
+import com.green.watcher.greenwatcher.loadtest.scenario.FormLoginMapScenario;
+import com.green.watcher.greenwatcher.loadtest.scenario.Scenario;
+import com.green.watcher.greenwatcher.loadtest.scenario.ScenarioContext;
+import com.green.watcher.greenwatcher.loadtest.stub.UpstreamStubServer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.2
+ *  open model 부하 테스트 러너
+ *  시나리오마다 초당 도착 수(arrival rate)를 정하고, 응답을 기다리지 않고 포아송 간격으로 새 사용자를 투입한다.
+ *  시나리오 전체 지연은 "도착 예정 시각"부터 재므로 서버가 밀려 생성기가 늦어져도 지연이 과소 측정되지 않는다.
+ *  업스트림 stub 서버를 함께 띄워 외부 api 없이 한 대의 리눅스 장비에서 같은 조건으로 반복 측정할 수 있다.
+ *  모든 요청이 같은 IP 에서 나가므로 대상 서버는 요청 제한을 끄고(--rate-limit.enabled=false) 띄운다.
+ *  1.0.2 폼 로그인 시나리오는 계정당 세션 1개 제한에 걸리지 않도록 별도 계정(load.formUsers)을 가상 사용자마다 빌려 쓴다.
+ *
+ *  설정 (시스템 프로퍼티)
+ *  load.baseUrl          대상 서버 (http://localhost:3000)
+ *  load.scenarios        시나리오:초당 도착 수 (apiLogin:5,formLoginMap:5,authenticatedApi:100)
+ *  load.durationSeconds  측정 시간 (60)
+ *  load.warmupSeconds    워밍업 시간, 결과에서 제외 (15)
+ *  load.users            미리 가입시켜 둘 사용자 수 (50)
+ *  load.formUsers        폼 로그인 시나리오 전용 계정 수, 동시에 진행 중인 폼 로그인 시나리오 상한이 된다 (200)
+ *  load.maxInFlight      동시에 진행 중인 시나리오 상한, 넘으면 오류로 기록 (20000)
+ *  load.stub.port        업스트림 stub 포트, 0 이하면 띄우지 않음 (18080)
+ *  load.stub.latency     제공자별 평균 지연 ms (vworld:20,kakao:50,its:150,kma:300,sgis:80,osrm:40)
+ *  load.stub.jitter      지연 편차 비율 (0.2)
+ *  load.report           JSON 결과 파일 (build/reports/loadtest/loadtest-<시각>.json)
+ */
+public class LoadTestRunner {
+
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("\"data\"\\s*:\\s*\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> settings = new LinkedHashMap<>();
+        String baseUrl = setting(settings, "load.baseUrl", "http://localhost:3000");
+        String scenarioSpec = setting(settings, "load.scenarios", "apiLogin:5,formLoginMap:5,authenticatedApi:100");
+        int durationSeconds = Integer.parseInt(setting(settings, "load.durationSeconds", "60"));
+        int warmupSeconds = Integer.parseInt(setting(settings, "load.warmupSeconds", "15"));
+        int users = Integer.parseInt(setting(settings, "load.users", "50"));
+        int formUsers = Integer.parseInt(setting(settings, "load.formUsers", "200"));
+        int maxInFlight = Integer.parseInt(setting(settings, "load.maxInFlight", "20000"));
+        int stubPort = Integer.parseInt(setting(settings, "load.stub.port", "18080"));
+        String stubLatency = setting(settings, "load.stub.latency", "vworld:20,kakao:50,its:150,kma:300,sgis:80,osrm:40");
+        double stubJitter = Double.parseDouble(setting(settings, "load.stub.jitter", "0.2"));
+        Path reportFile = Path.of(setting(settings, "load.report", "build/reports/loadtest/loadtest-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json"));
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+
+        UpstreamStubServer stub = null;
+        if (stubPort > 0) {
+            stub = new UpstreamStubServer(stubPort, UpstreamStubServer.parseLatency(stubLatency), stubJitter);
+            stub.start();
+            System.out.println("upstream stub : " + stub.baseUrl());
+        }
+
+        try {
+            List<String> userIds = seedUsers(httpClient, baseUrl, "loadtest", users);
+            List<String> tokens = issueTokens(httpClient, baseUrl, userIds);
+            List<String> formUserIds = seedUsers(httpClient, baseUrl, "loadform", formUsers);
+            LoadTestReport report = new LoadTestReport();
+            ScenarioContext context = new ScenarioContext(httpClient, baseUrl, stub == null ? null : stub.baseUrl(),
+                    userIds, tokens, formUserIds, report);
+
+            List<Arrivals> arrivals = new ArrayList<>();
+            AtomicInteger inFlight = new AtomicInteger();
+            for (Map.Entry<Scenario, Double> entry : parseScenarios(scenarioSpec).entrySet()) {
+                arrivals.add(new Arrivals(entry.getKey(), entry.getValue(), context, report, inFlight, maxInFlight));
+            }
+            arrivals.forEach(Thread::start);
+
+            System.out.printf("warmup %ds ...%n", warmupSeconds);
+            Thread.sleep(Duration.ofSeconds(warmupSeconds).toMillis());
+            report.startRecording();
+            System.out.printf("measuring %s for %ds (%s)%n", baseUrl, durationSeconds, scenarioSpec);
+            Thread.sleep(Duration.ofSeconds(durationSeconds).toMillis());
+            report.stopRecording();
+
+            arrivals.forEach(Arrivals::shutdown);
+            for (Arrivals arrival : arrivals) {
+                arrival.join();
+            }
+            report.write(settings, reportFile);
+        } finally {
+            if (stub != null) {
+                stub.close();
+            }
+        }
+    }
+
+    private static String setting(Map<String, String> settings, String key, String defaultValue) {
+        String value = System.getProperty(key);
+        value = value == null || value.isBlank() ? defaultValue : value;
+        settings.put(key, value);
+        return value;
+    }
+
+    //"apiLogin:5,formLoginMap:5" → 시나리오별 초당 도착 수
+    private static Map<Scenario, Double> parseScenarios(String spec) {
+        Map<String, Scenario> known = new LinkedHashMap<>();
+        for (Scenario scenario : List.of(new ApiLoginScenario(), new FormLoginMapScenario(), new AuthenticatedApiScenario())) {
+            known.put(scenario.name(), scenario);
+        }
+        Map<Scenario, Double> scenarios = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            Scenario scenario = known.get(parts[0].trim());
+            if (scenario == null) {
+                throw new IllegalArgumentException("알 수 없는 시나리오입니다: " + parts[0] + " (사용 가능 : " + known.keySet() + ")");
+            }
+            double rate = Double.parseDouble(parts[1].trim());
+            if (rate > 0) {
+                scenarios.put(scenario, rate);
+            }
+        }
+        return scenarios;
+    }
+
+    /*
+     *  부하 테스트용 사용자(prefix0000, prefix0001 ...)를 가입시킨다.
+     *  이미 있는 사용자(409)는 그대로 사용한다.
+     */
+    private static List<String> seedUsers(HttpClient httpClient, String baseUrl, String prefix, int users) throws Exception {
+        List<String> userIds = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String id = String.format("%s%04d", prefix, i);
+            String body = "{\"id\":\"" + id + "\",\"nickname\":\"" + id + "\",\"email\":\"" + id
+                    + "@loadtest.local\",\"password\":\"" + ScenarioContext.PASSWORD + "\"}";
+            HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/signup"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200 && response.statusCode() != 409) {
+                throw new IllegalStateException("사용자 가입 실패 " + id + " : " + response.statusCode());
+            }
+            userIds.add(id);
+        }
+        return userIds;
+    }
+
+    //인증된 api 시나리오에서 사용할 토큰을 사용자마다 하나씩 발급받는다.
+    private static List<String> issueTokens(HttpClient httpClient, String baseUrl, List<String> userIds) throws Exception {
+        List<String> tokens = new ArrayList<>(userIds.size());
+        for (String id : userIds) {
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"id\":\"" + id + "\",\"password\":\"" + ScenarioContext.PASSWORD + "\"}"))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = TOKEN_PATTERN.matcher(response.body());
+            if (response.statusCode() != 200 || !matcher.find()) {
+                throw new IllegalStateException("토큰 발급 실패 " + id + " : " + response.statusCode());
+            }
+            tokens.add(matcher.group(1));
+        }
+        return tokens;
+    }
+
+    /*
+     *  시나리오 하나의 도착 생성 스레드
+     *  지수 분포 간격으로 다음 도착 시각을 정하고, 그 시각이 되면 응답을 기다리지 않고 시나리오를 시작한다.
+     */
+    private static final class Arrivals extends Thread {
+        private final Scenario scenario;
+        private final double ratePerSecond;
+        private final ScenarioContext context;
+        private final LoadTestReport report;
+        private final AtomicInteger inFlight;
+        private final int maxInFlight;
+        private volatile boolean running = true;
+
+        Arrivals(Scenario scenario, double ratePerSecond, ScenarioContext context, LoadTestReport report,
+                 AtomicInteger inFlight, int maxInFlight) {
+            super("arrivals-" + scenario.name());
+            this.scenario = scenario;
+            this.ratePerSecond = ratePerSecond;
+            this.context = context;
+            this.report = report;
+            this.inFlight = inFlight;
+            this.maxInFlight = maxInFlight;
+            setDaemon(true);
+        }
+
+        void shutdown() {
+            running = false;
+        }
+
+        @Override
+        public void run() {
+            String metric = "scenario." + scenario.name();
+            long next = System.nanoTime();
+            while (running) {
+                double gapSeconds = -Math.log(1 - ThreadLocalRandom.current().nextDouble()) / ratePerSecond;
+                next += (long) (gapSeconds * 1_000_000_000L);
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long intendedStart = next;
+                if (inFlight.incrementAndGet() > maxInFlight) {
+                    inFlight.decrementAndGet();
+                    report.record(metric, System.nanoTime() - intendedStart, true);
+                    continue;
+                }
+                scenario.run(context).whenComplete((ignored, error) -> {
+                    inFlight.decrementAndGet();
+                    report.record(metric, System.nanoTime() - intendedStart, error != null);
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.green.watcher.greenwatcher.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  기동 시간 벤치마크
+ *  풀어 놓은 애플리케이션 jar 를 실행 모드별로 여러 번 띄워, 프로세스 시작부터 첫 HTTP 응답을 받을 때까지의 시간(time-to-first-request)과
+ *  스프링이 출력하는 "Started ... in N seconds" 값을 함께 기록한다.
+ *  실행 모드 : jar(기본), cds(-XX:SharedArchiveFile), cds+aot(-Dspring.aot.enabled=true, -PfastStart 로 빌드한 경우)
+ *  모든 모드는 prod 프로파일(ddl validate)로 실행하므로 DB 스키마가 먼저 만들어져 있어야 한다.
+ *
+ *  설정 (시스템 프로퍼티, ./gradlew startupBenchmark 가 채운다)
+ *  startup.java        java 실행 파일
+ *  startup.jar         풀어 놓은 애플리케이션 jar
+ *  startup.cdsArchive  CDS 아카이브 (없으면 cds 모드 생략)
+ *  startup.aot         AOT 코드 포함 여부 (false)
+ *  startup.runs        모드별 실행 횟수 (5)
+ *  startup.port        서버 포트 (3100)
+ *  startup.path        첫 요청 경로 (/auth/login)
+ */
+public class StartupBenchmark {
+
+    private static final Pattern STARTED_PATTERN = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    public static void main(String[] args) throws Exception {
+        String java = System.getProperty("startup.java", "java");
+        String jar = required("startup.jar");
+        String cdsArchive = System.getProperty("startup.cdsArchive", "");
+        boolean aot = Boolean.parseBoolean(System.getProperty("startup.aot", "false"));
+        int runs = Integer.parseInt(System.getProperty("startup.runs", "5"));
+        int port = Integer.parseInt(System.getProperty("startup.port", "3100"));
+        String path = System.getProperty("startup.path", "/auth/login");
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("jar", List.of());
+        if (!cdsArchive.isBlank() && Files.exists(Path.of(cdsArchive))) {
+            modes.put("cds", List.of("-XX:SharedArchiveFile=" + cdsArchive));
+            if (aot) {
+                modes.put("cds+aot", List.of("-XX:SharedArchiveFile=" + cdsArchive, "-Dspring.aot.enabled=true"));
+            }
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        URI uri = URI.create("http://localhost:" + port + path);
+
+        System.out.printf("startup benchmark %s runs=%d probe=%s%n", jar, runs, uri);
+        System.out.printf("%-8s %12s %12s %12s %14s%n", "mode", "ttfr min", "ttfr p50", "ttfr max", "spring p50");
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            List<String> command = new ArrayList<>();
+            command.add(java);
+            command.addAll(mode.getValue());
+            command.add("-Dspring.profiles.active=prod");
+            command.add("-jar");
+            command.add(jar);
+            command.add("--server.port=" + port);
+
+            //첫 실행은 OS 파일 캐시를 채우는 워밍업으로 버린다.
+            measure(command, httpClient, uri);
+            long[] firstRequest = new long[runs];
+            long[] springStarted = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                long[] result = measure(command, httpClient, uri);
+                firstRequest[i] = result[0];
+                springStarted[i] = result[1];
+            }
+            Arrays.sort(firstRequest);
+            Arrays.sort(springStarted);
+            System.out.printf("%-8s %10dms %10dms %10dms %12dms%n", mode.getKey(),
+                    firstRequest[0], firstRequest[runs / 2], firstRequest[runs - 1], springStarted[runs / 2]);
+        }
+    }
+
+    /*
+     *  프로세스를 한 번 띄워 [첫 응답까지 ms, 스프링 기동 ms] 를 돌려준다.
+     *  응답 상태 코드는 보지 않는다. (톰캣이 요청을 처리하기 시작한 시점만 잰다)
+     */
+    private static long[] measure(List<String> command, HttpClient httpClient, URI uri) throws IOException, InterruptedException {
+        AtomicLong springStartedMillis = new AtomicLong(-1);
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        Thread reader = new Thread(() -> readOutput(process, springStartedMillis), "startup-output");
+        reader.setDaemon(true);
+        reader.start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build();
+            long deadline = start + START_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션이 기동 중에 종료되었습니다. (exit=" + process.exitValue() + ")");
+                }
+                try {
+                    httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    long firstRequestMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    reader.join(1000);
+                    return new long[]{firstRequestMillis, springStartedMillis.get()};
+                } catch (IOException e) {
+                    Thread.sleep(POLL_INTERVAL_MILLIS);
+                }
+            }
+            throw new IllegalStateException("기동 대기 시간을 초과했습니다: " + START_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    //"Started ... in N seconds" 를 찾을 때까지 출력을 읽고, 이후에는 버퍼가 차지 않도록 버린다.
+    private static void readOutput(Process process, AtomicLong springStartedMillis) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (springStartedMillis.get() < 0) {
+                    Matcher matcher = STARTED_PATTERN.matcher(line);
+                    if (matcher.find()) {
+                        springStartedMillis.set(Math.round(Double.parseDouble(matcher.group(1)) * 1000));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            //프로세스 종료
+        }
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " 시스템 프로퍼티가 필요합니다.");
+        }
+        return value;
+    }
+}
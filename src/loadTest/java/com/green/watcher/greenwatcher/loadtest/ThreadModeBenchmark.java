@@ -0,0 +1,140 @@
+package com.green.watcher.greenwatcher.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  스레드 실행 모드 비교 벤치마크
+ *  지정한 수의 지도 클라이언트가 동시에 요청을 반복(closed model)하고 처리량과 지연 백분위를 출력한다.
+ *  서버를 플랫폼 스레드 모드(./gradlew bootRun)와 가상 스레드 모드(./gradlew bootRun -PvirtualThreads)로
+ *  각각 띄운 뒤 같은 인자로 실행하여 결과를 비교한다.
+ *
+ *  사용법 : ThreadModeBenchmark [baseUrl] [clients] [durationSeconds] [path]
+ */
+public class ThreadModeBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:3000";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int durationSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+        String path = args.length > 3 ? args[3] : "/map";
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        // 워밍업 : JIT / 커넥션 / 템플릿 캐시를 채운다.
+        runClients(httpClient, request, Math.min(clients, 50), 10, false);
+
+        System.out.printf("benchmark %s clients=%d duration=%ds%n", baseUrl + path, clients, durationSeconds);
+        runClients(httpClient, request, clients, durationSeconds, true);
+    }
+
+    private static void runClients(HttpClient httpClient, HttpRequest request, int clients, int durationSeconds,
+                                   boolean report) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+        ClientLoop[] loops = new ClientLoop[clients];
+        CountDownLatch done = new CountDownLatch(clients);
+        AtomicLong errors = new AtomicLong();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            loops[i] = new ClientLoop(httpClient, request, deadline, done, errors);
+            loops[i].next();
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+
+        if (!report) {
+            return;
+        }
+
+        int total = 0;
+        for (ClientLoop loop : loops) {
+            total += loop.count;
+        }
+        long[] all = new long[total];
+        int pos = 0;
+        for (ClientLoop loop : loops) {
+            System.arraycopy(loop.samples, 0, all, pos, loop.count);
+            pos += loop.count;
+        }
+        Arrays.sort(all);
+
+        double seconds = elapsed / 1_000_000_000.0;
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n", total, errors.get(), total / seconds);
+        System.out.printf("p50=%.2fms p90=%.2fms p99=%.2fms p999=%.2fms max=%.2fms%n",
+                percentile(all, 50), percentile(all, 90), percentile(all, 99), percentile(all, 99.9),
+                total == 0 ? 0 : all[total - 1] / 1_000_000.0);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    /*
+     *  클라이언트 하나의 요청 루프
+     *  응답을 받으면 지연을 기록하고 마감 시각 전까지 다음 요청을 보낸다.
+     */
+    private static final class ClientLoop {
+        private final HttpClient httpClient;
+        private final HttpRequest request;
+        private final long deadline;
+        private final CountDownLatch done;
+        private final AtomicLong errors;
+
+        private long[] samples = new long[256];
+        private int count;
+
+        ClientLoop(HttpClient httpClient, HttpRequest request, long deadline, CountDownLatch done, AtomicLong errors) {
+            this.httpClient = httpClient;
+            this.request = request;
+            this.deadline = deadline;
+            this.done = done;
+            this.errors = errors;
+        }
+
+        void next() {
+            if (System.nanoTime() >= deadline) {
+                done.countDown();
+                return;
+            }
+            long sentAt = System.nanoTime();
+            CompletableFuture<HttpResponse<Void>> future =
+                    httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            future.whenComplete((response, error) -> {
+                if (error != null || response.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                } else {
+                    record(System.nanoTime() - sentAt);
+                }
+                next();
+            });
+        }
+
+        private void record(long latencyNanos) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = latencyNanos;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.green.watcher.greenwatcher.loadtest.scenario;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  JWT 로그인 시나리오
+ *  POST /api/auth/login 으로 토큰을 발급받는다. (BCrypt 검증 + 토큰 서명 비용)
+ */
+public class ApiLoginScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "apiLogin";
+    }
+
+    @Override
+    public CompletableFuture<Void> run(ScenarioContext context) {
+        String body = "{\"id\":\"" + context.randomUserId() + "\",\"password\":\"" + ScenarioContext.PASSWORD + "\"}";
+        HttpRequest request = context.request("/api/auth/login")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return context.send("api.auth.login", request, HttpResponse.BodyHandlers.discarding(), 200)
+                .thenApply(response -> null);
+    }
+}
@@ -0,0 +1,30 @@
+package com.green.watcher.greenwatcher.loadtest.scenario;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  인증된 api 호출 시나리오
+ *  미리 발급받은 토큰으로 /api/** 를 호출한다. (JwtAuthenticationFilter 검증 + 사용자 조회 비용)
+ */
+public class AuthenticatedApiScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "authenticatedApi";
+    }
+
+    @Override
+    public CompletableFuture<Void> run(ScenarioContext context) {
+        HttpRequest request = context.request("/api/test")
+                .header("Authorization", "Bearer " + context.randomToken())
+                .GET()
+                .build();
+        return context.send("api.test", request, HttpResponse.BodyHandlers.discarding(), 200)
+                .thenApply(response -> null);
+    }
+}
@@ -0,0 +1,106 @@
+package com.green.watcher.greenwatcher.loadtest.scenario;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  폼 로그인 + 지도 화면 시나리오
+ *  1. POST /auth/login 폼 로그인 후 /map 으로의 302 응답에서 세션 쿠키를 얻는다.
+ *  2. 세션 쿠키로 GET /map 화면과 뷰포트 피처(/map/features/cctv)를 조회한다.
+ *  3. stub 서버가 있으면 화면이 처음 띄워질 때 브라우저가 호출하는 업스트림(배경 타일, 레이더, CCTV)을 함께 호출한다.
+ *  1.0.1 가상 사용자마다 쉬고 있는 폼 로그인 계정을 빌려 쓰고 끝나면 돌려준다. (계정당 세션 1개 제한으로 서로의 세션을 만료시키지 않도록)
+ *        빌릴 계정이 없으면 요청을 보내지 않고 실패로 기록한다. (load.formUsers 를 늘린다)
+ */
+public class FormLoginMapScenario implements Scenario {
+
+    //초기 화면(대한민국 전역)에서 요청되는 배경 타일 수
+    private static final int INITIAL_TILES = 12;
+
+    private static final String KOREA_BBOX = "124.5,33.0,131.0,38.7";
+
+    @Override
+    public String name() {
+        return "formLoginMap";
+    }
+
+    @Override
+    public CompletableFuture<Void> run(ScenarioContext context) {
+        String userId = context.leaseFormUserId();
+        if (userId == null) {
+            return CompletableFuture.failedFuture(new ScenarioFailure("web.auth.login : no free form login account"));
+        }
+        return run(context, userId).whenComplete((ignored, error) -> context.releaseFormUserId(userId));
+    }
+
+    private CompletableFuture<Void> run(ScenarioContext context, String userId) {
+        String form = "id=" + URLEncoder.encode(userId, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(ScenarioContext.PASSWORD, StandardCharsets.UTF_8);
+        HttpRequest login = context.request("/auth/login")
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        return context.send("web.auth.login", login, HttpResponse.BodyHandlers.discarding(), 302)
+                .thenCompose(response -> {
+                    String location = response.headers().firstValue("Location").orElse("");
+                    if (location.contains("error")) {
+                        throw new ScenarioFailure("web.auth.login : " + location);
+                    }
+                    String cookie = sessionCookie(response);
+                    HttpRequest page = context.request("/map").header("Cookie", cookie).GET().build();
+                    return context.send("web.map", page, HttpResponse.BodyHandlers.discarding(), 200)
+                            .thenCompose(ignored -> {
+                                HttpRequest features = context.request("/map/features/cctv?bbox=" + KOREA_BBOX)
+                                        .header("Cookie", cookie).GET().build();
+                                List<CompletableFuture<?>> calls = new ArrayList<>();
+                                calls.add(context.send("web.map.features", features, HttpResponse.BodyHandlers.discarding(), 200));
+                                calls.addAll(initialUpstreamCalls(context));
+                                return CompletableFuture.allOf(calls.toArray(new CompletableFuture[0]));
+                            });
+                });
+    }
+
+    private List<CompletableFuture<?>> initialUpstreamCalls(ScenarioContext context) {
+        List<CompletableFuture<?>> calls = new ArrayList<>();
+        if (context.upstreamRequest("vworld", "/") == null) {
+            return calls;
+        }
+        for (int i = 0; i < INITIAL_TILES; i++) {
+            int x = 108 + i % 4;
+            int y = 48 + i / 4;
+            calls.add(context.send("upstream.vworld.tile",
+                    context.upstreamRequest("vworld", "/req/wmts/1.0.0/key/Base/7/" + y + "/" + x + ".png").GET().build(),
+                    HttpResponse.BodyHandlers.discarding(), 200));
+        }
+        calls.add(context.send("upstream.kma.radar",
+                context.upstreamRequest("kma", "/1360000/RadarObsInfoService/getNationalRadarRn?dataType=json").GET().build(),
+                HttpResponse.BodyHandlers.discarding(), 200));
+        calls.add(context.send("upstream.its.cctv",
+                context.upstreamRequest("its", "/cctvInfo?type=all&cctvType=1&getType=json").GET().build(),
+                HttpResponse.BodyHandlers.discarding(), 200));
+        return calls;
+    }
+
+    //Set-Cookie 헤더에서 "이름=값" 부분만 모아 Cookie 헤더 값을 만든다.
+    private static String sessionCookie(HttpResponse<?> response) {
+        StringBuilder cookie = new StringBuilder();
+        for (String setCookie : response.headers().allValues("Set-Cookie")) {
+            int end = setCookie.indexOf(';');
+            if (cookie.length() > 0) {
+                cookie.append("; ");
+            }
+            cookie.append(end < 0 ? setCookie : setCookie.substring(0, end));
+        }
+        if (cookie.length() == 0) {
+            throw new ScenarioFailure("web.auth.login : no session cookie");
+        }
+        return cookie.toString();
+    }
+}
@@ -0,0 +1,18 @@
+package com.green.watcher.greenwatcher.loadtest.scenario;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  부하 테스트 시나리오
+ *  도착(arrival) 하나마다 run 이 호출되며, 사용자 한 명이 수행하는 요청 흐름을 비동기로 실행한다.
+ *  각 단계의 지연은 ScenarioContext.send 가 기록하고, 시나리오 전체 지연은 러너가 기록한다.
+ */
+public interface Scenario {
+
+    String name();
+
+    CompletableFuture<Void> run(ScenarioContext context);
+}
@@ -0,0 +1,100 @@
+package com.green.watcher.greenwatcher.loadtest.scenario;
+
+import com.green.watcher.greenwatcher.loadtest.LoadTestReport;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  시나리오 공용 실행 환경
+ *  하나의 HttpClient 를 공유하고 (리다이렉트는 따라가지 않는다), 세션 쿠키는 시나리오가 직접 다룬다.
+ *  사용자별 HttpClient / CookieManager 를 만들지 않아야 부하 생성기 자체가 병목이 되지 않는다.
+ *  1.0.1 폼 로그인 계정은 진행 중인 가상 사용자끼리 겹치지 않도록 빌려 쓰고 돌려준다.
+ *        웹 체인은 계정당 세션 1개(maximumSessions(1))이므로 같은 계정으로 동시에 로그인하면 먼저 로그인한 세션이 만료된다.
+ */
+public class ScenarioContext {
+
+    public static final String PASSWORD = "loadtest!23";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String stubBaseUrl;
+    private final List<String> userIds;
+    private final List<String> tokens;
+    private final Queue<String> formUserIds;
+    private final LoadTestReport report;
+
+    public ScenarioContext(HttpClient httpClient, String baseUrl, String stubBaseUrl,
+                           List<String> userIds, List<String> tokens, List<String> formUserIds, LoadTestReport report) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.stubBaseUrl = stubBaseUrl;
+        this.userIds = userIds;
+        this.tokens = tokens;
+        this.formUserIds = new ConcurrentLinkedQueue<>(formUserIds);
+        this.report = report;
+    }
+
+    public HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    //stub 서버가 없으면 null
+    public HttpRequest.Builder upstreamRequest(String provider, String pathAndQuery) {
+        if (stubBaseUrl == null) {
+            return null;
+        }
+        return HttpRequest.newBuilder(URI.create(stubBaseUrl + "/" + provider + pathAndQuery)).timeout(REQUEST_TIMEOUT);
+    }
+
+    public String randomUserId() {
+        return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+    }
+
+    public String randomToken() {
+        return tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+    }
+
+    //쉬고 있는 폼 로그인 계정, 모두 사용 중이면 null
+    public String leaseFormUserId() {
+        return formUserIds.poll();
+    }
+
+    public void releaseFormUserId(String userId) {
+        formUserIds.add(userId);
+    }
+
+    /*
+     *  요청을 보내고 단계 지연을 기록한다.
+     *  응답 코드가 expectedStatus 가 아니면 오류로 기록하고 ScenarioFailure 로 완료하여 이후 단계를 건너뛴다.
+     */
+    public <T> CompletableFuture<HttpResponse<T>> send(String step, HttpRequest request,
+                                                      HttpResponse.BodyHandler<T> bodyHandler, int expectedStatus) {
+        long start = System.nanoTime();
+        return httpClient.sendAsync(request, bodyHandler)
+                .handle((response, error) -> {
+                    boolean failed = error != null || response.statusCode() != expectedStatus;
+                    report.record(step, System.nanoTime() - start, failed);
+                    if (error != null) {
+                        throw new ScenarioFailure(step + " : " + error.getMessage());
+                    }
+                    if (failed) {
+                        throw new ScenarioFailure(step + " : status " + response.statusCode());
+                    }
+                    return response;
+                });
+    }
+}
@@ -0,0 +1,15 @@
+package com.green.watcher.greenwatcher.loadtest.scenario;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  시나리오 단계의 응답이 기대와 다를 때 남은 단계를 중단하기 위한 예외
+ *  스택 트레이스는 필요 없으므로 만들지 않는다.
+ */
+public class ScenarioFailure extends RuntimeException {
+
+    public ScenarioFailure(String message) {
+        super(message, null, false, false);
+    }
+}
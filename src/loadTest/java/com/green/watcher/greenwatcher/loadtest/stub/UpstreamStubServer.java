@@ -0,0 +1,194 @@
+package com.green.watcher.greenwatcher.loadtest.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  업스트림(vworld, kakao, its, kma, sgis, osrm) stub 서버
+ *  upstream-recordings/recordings.properties 에 등록된 녹화 응답을 그대로 돌려준다.
+ *  제공자별 지연 시간(평균 ± jitter)을 설정할 수 있고, 지연은 스레드를 잡지 않고 스케줄러로 응답을 미뤄 처리한다.
+ *  요청 주소는 http://host:port/<제공자>/<원래 경로> 이다.
+ *
+ *  단독 실행 : UpstreamStubServer [port] [latency(kma:300,its:150)] [jitter(0.2)]
+ *  1.0.1 osrm table(도달 가능 영역) 녹화 응답 추가, osrm-foot / osrm-bike 도 /osrm 녹화 응답을 쓴다. (application-stub.yml)
+ */
+public class UpstreamStubServer implements AutoCloseable {
+
+    private static final String RECORDINGS_ROOT = "upstream-recordings/";
+
+    private final HttpServer server;
+    private final ExecutorService handlerExecutor;
+    private final ScheduledExecutorService delayScheduler;
+    private final Map<String, List<Recording>> recordings;
+    private final Map<String, Long> latencyMillis;
+    private final double jitter;
+    private final AtomicLong served = new AtomicLong();
+
+    public UpstreamStubServer(int port, Map<String, Long> latencyMillis, double jitter) throws IOException {
+        this.recordings = loadRecordings();
+        this.latencyMillis = latencyMillis;
+        this.jitter = jitter;
+        this.handlerExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        this.delayScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "upstream-stub-delay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.server.setExecutor(handlerExecutor);
+        for (String provider : recordings.keySet()) {
+            server.createContext("/" + provider + "/", exchange -> handle(provider, exchange));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+        Map<String, Long> latency = parseLatency(args.length > 1 ? args[1] : "");
+        double jitter = args.length > 2 ? Double.parseDouble(args[2]) : 0.2;
+        UpstreamStubServer stub = new UpstreamStubServer(port, latency, jitter);
+        stub.start();
+        System.out.printf("upstream stub listening on %s (latency=%s jitter=%.2f)%n", stub.baseUrl(), latency, jitter);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public long served() {
+        return served.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        handlerExecutor.shutdownNow();
+        delayScheduler.shutdownNow();
+    }
+
+    //"kma:300,its:150" → {kma=300, its=150}
+    public static Map<String, Long> parseLatency(String spec) {
+        Map<String, Long> latency = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return latency;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            latency.put(parts[0].trim(), Long.parseLong(parts[1].trim()));
+        }
+        return latency;
+    }
+
+    /*
+     *  경로에 맞는 녹화 응답을 찾아 설정된 지연 뒤에 응답한다.
+     */
+    private void handle(String provider, HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath().substring(provider.length() + 1);
+        Recording recording = recordings.get(provider).stream()
+                .filter(candidate -> path.startsWith(candidate.pathPrefix))
+                .findFirst()
+                .orElse(null);
+        long delay = delayMillis(provider);
+        if (delay <= 0) {
+            respond(exchange, recording);
+        } else {
+            delayScheduler.schedule(() -> handlerExecutor.execute(() -> respond(exchange, recording)), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private long delayMillis(String provider) {
+        long mean = latencyMillis.getOrDefault(provider, 0L);
+        if (mean <= 0 || jitter <= 0) {
+            return mean;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Math.round(mean * factor);
+    }
+
+    private void respond(HttpExchange exchange, Recording recording) {
+        try (exchange) {
+            if (recording == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", recording.contentType);
+            exchange.sendResponseHeaders(200, recording.body.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(recording.body);
+            }
+            served.incrementAndGet();
+        } catch (IOException e) {
+            //클라이언트가 먼저 끊은 경우
+        }
+    }
+
+    /*
+     *  recordings.properties 를 읽어 제공자별로 긴 prefix 순으로 정렬한다.
+     */
+    private static Map<String, List<Recording>> loadRecordings() throws IOException {
+        Properties index = new Properties();
+        try (InputStream in = resource(RECORDINGS_ROOT + "recordings.properties")) {
+            index.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        Map<String, List<Recording>> recordings = new HashMap<>();
+        for (String key : index.stringPropertyNames()) {
+            int dot = key.indexOf('.');
+            String provider = key.substring(0, dot);
+            String[] value = index.getProperty(key).split("\\|", 2);
+            byte[] body;
+            try (InputStream in = resource(RECORDINGS_ROOT + value[0].trim())) {
+                body = in.readAllBytes();
+            }
+            recordings.computeIfAbsent(provider, ignored -> new ArrayList<>())
+                    .add(new Recording(key.substring(dot + 1), value.length > 1 ? value[1].trim() : "application/json", body));
+        }
+        recordings.values().forEach(list -> list.sort(Comparator.comparingInt((Recording r) -> r.pathPrefix.length()).reversed()));
+        return recordings;
+    }
+
+    private static InputStream resource(String name) {
+        InputStream in = UpstreamStubServer.class.getClassLoader().getResourceAsStream(name);
+        if (in == null) {
+            throw new UncheckedIOException(new IOException("녹화 응답을 찾을 수 없습니다: " + name));
+        }
+        return in;
+    }
+
+    private static final class Recording {
+        private final String pathPrefix;
+        private final String contentType;
+        private final byte[] body;
+
+        Recording(String pathPrefix, String contentType, byte[] body) {
+            this.pathPrefix = pathPrefix;
+            this.contentType = contentType;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.green.watcher.greenwatcher.common.admincode.controller;
+
+import com.green.watcher.greenwatcher.common.admincode.dto.AdminCodeDTO;
+import com.green.watcher.greenwatcher.common.admincode.dto.AdminCodePathDTO;
+import com.green.watcher.greenwatcher.common.admincode.service.AdminCodeService;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  행정동 코드 조회 컨트롤러
+ *  화면은 선택한 상위 코드의 하위 목록만 단계별로 요청한다.
+ *  응답에는 데이터 버전 ETag 와 캐시 헤더를 붙여, 같은 목록은 브라우저 캐시나 304 로 처리된다.
+ */
+@RestController
+@RequestMapping("/map/codes")
+@RequiredArgsConstructor
+public class AdminCodeController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
+    private final AdminCodeService adminCodeService;
+
+    /*
+     *  하위 코드 목록 조회
+     *  parent 가 없으면 시도, 시도 코드면 시군구, 시군구 코드면 읍면동 목록
+     */
+    @GetMapping
+    public ResponseEntity<UserApiResponse<List<AdminCodeDTO>>> findChildren(@RequestParam(defaultValue = "") String parent) {
+        return ResponseEntity.ok()
+                .eTag(adminCodeService.getVersion())
+                .cacheControl(CACHE_CONTROL)
+                .body(UserApiResponse.success(adminCodeService.findChildren(parent)));
+    }
+
+    /*
+     *  시도 / 시군구 / 읍면동 이름으로 코드 조회 (좌표 → 주소 변환 결과를 셀렉트에 반영할 때 사용)
+     */
+    @GetMapping("/resolve")
+    public ResponseEntity<UserApiResponse<AdminCodePathDTO>> resolve(@RequestParam(required = false) String sido,
+                                                                    @RequestParam(required = false) String sigugun,
+                                                                    @RequestParam(required = false) String dong) {
+        return ResponseEntity.ok()
+                .eTag(adminCodeService.getVersion())
+                .cacheControl(CACHE_CONTROL)
+                .body(UserApiResponse.success(adminCodeService.resolve(sido, sigugun, dong)));
+    }
+}
@@ -0,0 +1,18 @@
+package com.green.watcher.greenwatcher.common.admincode.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  행정동 코드 응답 객체 (시도 / 시군구 / 읍면동 공통)
+ */
+@Getter
+@AllArgsConstructor
+public class AdminCodeDTO {
+
+    private String code;
+    private String name;
+}
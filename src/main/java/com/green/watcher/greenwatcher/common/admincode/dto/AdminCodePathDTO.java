@@ -0,0 +1,20 @@
+package com.green.watcher.greenwatcher.common.admincode.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  이름으로 찾은 시도 / 시군구 / 읍면동 코드 응답 객체
+ *  찾지 못한 단계부터는 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class AdminCodePathDTO {
+
+    private String sido;
+    private String sigugun;
+    private String dong;
+}
@@ -0,0 +1,128 @@
+package com.green.watcher.greenwatcher.common.admincode.service;
+
+import com.green.watcher.greenwatcher.common.admincode.dto.AdminCodeDTO;
+import com.green.watcher.greenwatcher.common.admincode.dto.AdminCodePathDTO;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  행정동 코드 사전 service 클래스
+ *  data/admin-codes.csv 를 기동 시 한 번 읽어 메모리에 둔다. (약 3,800건)
+ *  1. 코드 → 이름
+ *  2. 상위 코드 → 하위 코드 목록 (시도의 상위 코드는 "")
+ *  3. 상위 코드 + 이름 → 코드
+ *  코드 길이로 단계를 구분하며(시도 2 / 시군구 5 / 읍면동 8자리) 상위 코드는 코드의 앞자리이다.
+ */
+@Service
+public class AdminCodeService {
+
+    public static final String ROOT = "";
+
+    private static final String DATA_LOCATION = "data/admin-codes.csv";
+
+    private final Map<String, AdminCodeDTO> byCode = new HashMap<>();
+    private final Map<String, List<AdminCodeDTO>> childrenByParent = new HashMap<>();
+    private final Map<String, String> codeByParentAndName = new HashMap<>();
+    private final String version;
+
+    public AdminCodeService() {
+        this(new ClassPathResource(DATA_LOCATION));
+    }
+
+    AdminCodeService(Resource resource) {
+        byte[] data;
+        try (InputStream in = resource.getInputStream()) {
+            data = in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("행정동 코드 파일을 읽을 수 없습니다: " + resource, e);
+        }
+        this.version = DigestUtils.md5DigestAsHex(data);
+        load(data);
+        //읽기 전용으로 고정
+        childrenByParent.replaceAll((parent, children) -> List.copyOf(children));
+    }
+
+    //데이터 버전(파일 md5), ETag 로 사용한다.
+    public String getVersion() {
+        return version;
+    }
+
+    //하위 코드 목록, 상위 코드가 ROOT("") 이면 시도 목록
+    public List<AdminCodeDTO> findChildren(String parentCode) {
+        return childrenByParent.getOrDefault(parentCode == null ? ROOT : parentCode, List.of());
+    }
+
+    public AdminCodeDTO findByCode(String code) {
+        return byCode.get(code);
+    }
+
+    /*
+     *  시도 / 시군구 / 읍면동 이름으로 코드를 찾는다.
+     *  상위 단계를 찾지 못하면 하위 단계는 찾지 않는다.
+     */
+    public AdminCodePathDTO resolve(String sidoName, String sigugunName, String dongName) {
+        String sido = findCode(ROOT, sidoName);
+        String sigugun = sido == null ? null : findCode(sido, sigugunName);
+        String dong = sigugun == null ? null : findCode(sigugun, dongName);
+        return new AdminCodePathDTO(sido, sigugun, dong);
+    }
+
+    private String findCode(String parentCode, String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return codeByParentAndName.get(key(parentCode, name.trim()));
+    }
+
+    private void load(byte[] data) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(data), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                int comma = line.indexOf(',');
+                String code = line.substring(0, comma).trim();
+                String name = line.substring(comma + 1).trim();
+                String parent = parentCode(code);
+                AdminCodeDTO adminCode = new AdminCodeDTO(code, name);
+                byCode.put(code, adminCode);
+                childrenByParent.computeIfAbsent(parent, ignored -> new ArrayList<>()).add(adminCode);
+                codeByParentAndName.putIfAbsent(key(parent, name), code);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //시도(2) → "", 시군구(5) → 시도 2자리, 읍면동(8) → 시군구 5자리
+    static String parentCode(String code) {
+        return switch (code.length()) {
+            case 2 -> ROOT;
+            case 5 -> code.substring(0, 2);
+            case 8 -> code.substring(0, 5);
+            default -> throw new IllegalArgumentException("행정동 코드 형식이 아닙니다: " + code);
+        };
+    }
+
+    private static String key(String parentCode, String name) {
+        return parentCode + ':' + name;
+    }
+}
@@ -0,0 +1,43 @@
+package com.green.watcher.greenwatcher.common.audit;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  인증 감사 빈 설정 클래스
+ *  auth-audit.enabled=false 면 리스너와 writer 를 만들지 않는다. (조회 API 는 기존 기록을 계속 보여준다)
+ *  JWT 거절 집계(TokenRejectionCounter) 추가
+ */
+@Configuration
+@EnableConfigurationProperties(AuthAuditProperties.class)
+@ConditionalOnProperty(prefix = "auth-audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AuthAuditConfig {
+
+    @Bean
+    public AuthAuditRingBuffer authAuditRingBuffer(AuthAuditProperties properties) {
+        return new AuthAuditRingBuffer(properties.getBufferSize());
+    }
+
+    @Bean
+    public TokenRejectionCounter tokenRejectionCounter() {
+        return new TokenRejectionCounter();
+    }
+
+    @Bean
+    public AuthAuditListener authAuditListener(AuthAuditRingBuffer authAuditRingBuffer, TokenRejectionCounter tokenRejectionCounter) {
+        return new AuthAuditListener(authAuditRingBuffer, tokenRejectionCounter);
+    }
+
+    @Bean
+    public AuthAuditWriter authAuditWriter(AuthAuditRingBuffer authAuditRingBuffer, TokenRejectionCounter tokenRejectionCounter,
+                                           JdbcTemplate jdbcTemplate, AuthAuditProperties properties, MetricsRegistry metricsRegistry) {
+        return new AuthAuditWriter(authAuditRingBuffer, tokenRejectionCounter, jdbcTemplate, properties, metricsRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.green.watcher.greenwatcher.common.audit;
+
+import com.green.watcher.greenwatcher.common.audit.enumerate.AuthEventType;
+import com.green.watcher.greenwatcher.common.concurrency.MpscRingBuffer;
+
+import java.sql.Timestamp;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  링 버퍼 슬롯에 미리 할당되어 재사용되는 인증 감사 항목
+ *  인증 이벤트를 처리하는 요청 스레드가 값을 채우고 writer 스레드가 읽는다. 가시성은 AuthAuditRingBuffer(MpscRingBuffer) 의 시퀀스가 보장한다.
+ */
+public class AuthAuditEntry implements MpscRingBuffer.Slot {
+
+    long timestamp;
+    AuthEventType type;
+    String username;
+    String channel;
+    String clientIp;
+    String detail;
+
+    void set(long timestamp, AuthEventType type, String username, String channel, String clientIp, String detail) {
+        this.timestamp = timestamp;
+        this.type = type;
+        this.username = username;
+        this.channel = channel;
+        this.clientIp = clientIp;
+        this.detail = detail;
+    }
+
+    @Override
+    public void clear() {
+        this.type = null;
+        this.username = null;
+        this.channel = null;
+        this.clientIp = null;
+        this.detail = null;
+    }
+
+    //JDBC 배치 파라미터로 복사한다. (슬롯은 반환 후 재사용되므로 값을 꺼내 둔다)
+    Object[] toParameters() {
+        return new Object[]{type.name(), username, channel, clientIp, detail, new Timestamp(timestamp)};
+    }
+}
@@ -0,0 +1,85 @@
+package com.green.watcher.greenwatcher.common.audit;
+
+import com.green.watcher.greenwatcher.common.audit.enumerate.AuthEventType;
+import com.green.watcher.greenwatcher.common.concurrency.ConcurrencyLimitExceededException;
+import com.green.watcher.greenwatcher.common.user.security.jwt.JwtTokenRejectedEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.RememberMeAuthenticationToken;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.2
+ *  인증 이벤트 감사 리스너
+ *  spring security 인증 이벤트(ProviderManager 가 발행)와 JWT 거절 이벤트를 받아 링 버퍼에 넣기만 한다.
+ *  이벤트는 요청 스레드에서 동기로 전달되므로 DB 접근 없이 바로 반환하여 로그인 지연에 영향을 주지 않는다.
+ *  비밀번호 등 자격 증명은 기록하지 않는다.
+ *  JWT 거절은 요청 수만큼 발생할 수 있으므로 버퍼에 넣지 않고 TokenRejectionCounter 로 사유별 건수만 센다.
+ *  DB 동시성 한도 초과로 사용자 조회가 거절된 로그인은 자격 증명 실패가 아니므로 LOGIN_FAILURE 로 남기지 않는다.
+ */
+public class AuthAuditListener {
+
+    private static final String CHANNEL_API = "API";
+    private static final String CHANNEL_WEB = "WEB";
+
+    //T_AUTH_AUDIT 컬럼 길이
+    private static final int MAX_USERNAME = 100;
+    private static final int MAX_DETAIL = 255;
+
+    private final AuthAuditRingBuffer buffer;
+    private final TokenRejectionCounter tokenRejections;
+
+    public AuthAuditListener(AuthAuditRingBuffer buffer, TokenRejectionCounter tokenRejections) {
+        this.buffer = buffer;
+        this.tokenRejections = tokenRejections;
+    }
+
+    //로그인 성공 / remember-me 자동 로그인
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        Authentication authentication = event.getAuthentication();
+        AuthEventType type = authentication instanceof RememberMeAuthenticationToken
+                ? AuthEventType.REMEMBER_ME_LOGIN : AuthEventType.LOGIN_SUCCESS;
+        record(type, authentication.getName(), null);
+    }
+
+    //로그인 실패 (실패 사유는 예외 클래스 이름만 남긴다)
+    @EventListener
+    public void onFailure(AbstractAuthenticationFailureEvent event) {
+        if (ConcurrencyLimitExceededException.find(event.getException()) != null) {
+            return;
+        }
+        record(AuthEventType.LOGIN_FAILURE, event.getAuthentication().getName(),
+                event.getException().getClass().getSimpleName());
+    }
+
+    //JWT 거절 (로그인 기록과 같은 버퍼를 쓰지 않도록 건수만 센다)
+    @EventListener
+    public void onTokenRejected(JwtTokenRejectedEvent event) {
+        tokenRejections.record(event.getStatus());
+    }
+
+    private void record(AuthEventType type, String username, String detail) {
+        HttpServletRequest request = currentRequest();
+        String channel = request == null ? null : request.getRequestURI().startsWith("/api/") ? CHANNEL_API : CHANNEL_WEB;
+        String clientIp = request == null ? null : request.getRemoteAddr();
+        buffer.offer(System.currentTimeMillis(), type, truncate(username, MAX_USERNAME), channel, clientIp, truncate(detail, MAX_DETAIL));
+    }
+
+    //요청 스레드 밖(배치 작업 등)에서 발생한 이벤트는 요청 정보 없이 기록한다.
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+
+    private static String truncate(String value, int max) {
+        return value == null || value.length() <= max ? value : value.substring(0, max);
+    }
+}
@@ -0,0 +1,39 @@
+package com.green.watcher.greenwatcher.common.audit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  인증 감사 설정 (application.yml 의 auth-audit.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth-audit")
+public class AuthAuditProperties {
+
+    private boolean enabled = true;
+
+    //링 버퍼 크기 (2의 거듭제곱으로 올림)
+    private int bufferSize = 8192;
+
+    //한 번에 insert 하는 최대 건수
+    private int batchSize = 500;
+
+    //버퍼가 비었을 때 writer 스레드 대기 시간
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    //배치 insert 실패 시 재시도 횟수 (모두 실패하면 해당 배치를 버린다)
+    private int maxRetries = 3;
+
+    //재시도 간격 (시도마다 두 배로 늘린다)
+    private Duration retryBackoff = Duration.ofMillis(200);
+
+    //JWT 거절 건수를 사유별 한 행으로 기록하는 간격
+    private Duration tokenRejectionInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,34 @@
+package com.green.watcher.greenwatcher.common.audit;
+
+import com.green.watcher.greenwatcher.common.audit.enumerate.AuthEventType;
+import com.green.watcher.greenwatcher.common.concurrency.MpscRingBuffer;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  인증 감사용 lock-free 링 버퍼 (다중 생산자 / 단일 소비자)
+ *  로그인 스레드는 CAS 한 번으로 슬롯을 차지하고 값을 채운 뒤 바로 반환한다.
+ *  버퍼가 가득 차면 로그인을 막지 않고 해당 항목을 버린다(dropped 증가).
+ *  동시성 처리는 공용 MpscRingBuffer 를 쓰고 항목을 채우는 offer 만 둔다.
+ */
+public class AuthAuditRingBuffer extends MpscRingBuffer<AuthAuditEntry> {
+
+    public AuthAuditRingBuffer(int requestedCapacity) {
+        super(requestedCapacity, AuthAuditEntry::new);
+    }
+
+    /*
+     *  감사 항목을 버퍼에 넣는다.
+     *  버퍼가 가득 차 있으면 false 를 반환한다.
+     */
+    public boolean offer(long timestamp, AuthEventType type, String username, String channel, String clientIp, String detail) {
+        long position = claim();
+        if (position < 0) {
+            return false;
+        }
+        slot(position).set(timestamp, type, username, channel, clientIp, detail);
+        publish(position);
+        return true;
+    }
+}
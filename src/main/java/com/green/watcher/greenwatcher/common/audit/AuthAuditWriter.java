@@ -0,0 +1,137 @@
+package com.green.watcher.greenwatcher.common.audit;
+
+import com.green.watcher.greenwatcher.common.audit.enumerate.AuthEventType;
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  인증 감사 백그라운드 writer
+ *  링 버퍼에서 항목을 배치로 꺼내 T_AUTH_AUDIT 에 JDBC batch insert 한다.
+ *  DB 장애 시 재시도 후 배치를 버리며, 어떤 경우에도 로그인 요청 스레드는 기다리지 않는다.
+ *  저장 / 폐기 건수는 audit.auth.written, audit.auth.dropped 카운터로 남긴다. (버퍼가 가득 차 버린 건수는 버퍼의 dropped)
+ *  JWT 거절은 token-rejection-interval 마다 사유별로 한 행(detail: "{사유} x{건수}")만 기록하여 insert 수를 요청 수와 무관하게 묶는다.
+ */
+@Slf4j
+public class AuthAuditWriter implements InitializingBean, DisposableBean, Runnable {
+
+    static final String INSERT_SQL = "INSERT INTO T_AUTH_AUDIT (EVENT_TYPE, USERNAME, CHANNEL, CLIENT_IP, DETAIL, OCCURRED_AT) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final AuthAuditRingBuffer buffer;
+    private final TokenRejectionCounter tokenRejections;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuthAuditProperties properties;
+    private final LongAdder written;
+    private final LongAdder dropped;
+    private final List<Object[]> batch;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public AuthAuditWriter(AuthAuditRingBuffer buffer, TokenRejectionCounter tokenRejections, JdbcTemplate jdbcTemplate,
+                           AuthAuditProperties properties, MetricsRegistry metricsRegistry) {
+        this.buffer = buffer;
+        this.tokenRejections = tokenRejections;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.written = metricsRegistry.counter("audit.auth.written");
+        this.dropped = metricsRegistry.counter("audit.auth.dropped");
+        this.batch = new ArrayList<>(properties.getBatchSize());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        thread = new Thread(this, "auth-audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void run() {
+        long idleNanos = properties.getFlushInterval().toNanos();
+        long rejectionNanos = properties.getTokenRejectionInterval().toNanos();
+        long nextRejectionFlush = System.nanoTime() + rejectionNanos;
+        while (running) {
+            if (System.nanoTime() - nextRejectionFlush >= 0) {
+                flushTokenRejections();
+                nextRejectionFlush = System.nanoTime() + rejectionNanos;
+            }
+            if (flushBatch() == 0) {
+                LockSupport.parkNanos(idleNanos);
+            }
+        }
+        //종료 시 남은 항목을 모두 기록한다.
+        while (flushBatch() > 0) {
+            // drain
+        }
+        flushTokenRejections();
+    }
+
+    /*
+     *  버퍼에서 배치 하나를 꺼내 insert 한다.
+     *  실패하면 retryBackoff 부터 두 배씩 늘려 maxRetries 번 재시도하고, 그래도 실패하면 배치를 버린다.
+     */
+    int flushBatch() {
+        batch.clear();
+        int count = buffer.drain(entry -> batch.add(entry.toParameters()), properties.getBatchSize());
+        if (count == 0) {
+            return 0;
+        }
+        insert(batch);
+        return count;
+    }
+
+    /*
+     *  지난 집계 이후의 JWT 거절 건수를 사유별 한 행으로 insert 한다.
+     */
+    int flushTokenRejections() {
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        tokenRejections.drain((status, count) -> rows.add(
+                new Object[]{AuthEventType.TOKEN_REJECTED.name(), null, "API", null, status.name() + " x" + count, now}));
+        if (!rows.isEmpty()) {
+            insert(rows);
+        }
+        return rows.size();
+    }
+
+    private void insert(List<Object[]> rows) {
+        int count = rows.size();
+        long backoffNanos = properties.getRetryBackoff().toNanos();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                written.add(count);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= properties.getMaxRetries()) {
+                    log.warn("auth audit insert failed, {} entries dropped: {}", count, e.getMessage());
+                    dropped.add(count);
+                    return;
+                }
+                LockSupport.parkNanos(backoffNanos << attempt);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(5000);
+        }
+    }
+}
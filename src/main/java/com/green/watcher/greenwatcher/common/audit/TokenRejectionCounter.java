@@ -0,0 +1,45 @@
+package com.green.watcher.greenwatcher.common.audit;
+
+import com.green.watcher.greenwatcher.common.user.security.jwt.TokenStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjLongConsumer;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  JWT 거절 건수 집계
+ *  위조 토큰을 대량으로 보내는 요청이 링 버퍼를 채워 로그인 기록을 밀어내거나 요청 수만큼 insert 를 일으키지 않도록,
+ *  거절은 건별로 버퍼에 넣지 않고 사유(TokenStatus)별로 세기만 한다.
+ *  writer 가 auth-audit.token-rejection-interval 마다 사유별 한 행으로 기록한다.
+ */
+public class TokenRejectionCounter {
+
+    //생성 후 바뀌지 않으므로 여러 스레드가 읽어도 된다.
+    private final Map<TokenStatus, LongAdder> counts = new EnumMap<>(TokenStatus.class);
+
+    public TokenRejectionCounter() {
+        for (TokenStatus status : TokenStatus.values()) {
+            counts.put(status, new LongAdder());
+        }
+    }
+
+    public void record(TokenStatus status) {
+        counts.get(status).increment();
+    }
+
+    /*
+     *  사유별 건수를 꺼내 0 으로 되돌린다. 건수가 0 인 사유는 넘기지 않는다.
+     */
+    public void drain(ObjLongConsumer<TokenStatus> consumer) {
+        for (Map.Entry<TokenStatus, LongAdder> entry : counts.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                consumer.accept(entry.getKey(), count);
+            }
+        }
+    }
+}
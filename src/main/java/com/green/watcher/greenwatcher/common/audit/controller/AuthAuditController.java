@@ -0,0 +1,47 @@
+package com.green.watcher.greenwatcher.common.audit.controller;
+
+import com.green.watcher.greenwatcher.common.audit.dto.AuthAuditPageDTO;
+import com.green.watcher.greenwatcher.common.audit.enumerate.AuthEventType;
+import com.green.watcher.greenwatcher.common.audit.service.AuthAuditService;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  관리자 인증 감사 기록 조회 컨트롤러
+ *  /admin/** 이므로 ROLE_ADMIN 만 접근할 수 있다.
+ */
+@RestController
+@RequestMapping("/admin/audit/auth")
+@RequiredArgsConstructor
+public class AuthAuditController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final AuthAuditService authAuditService;
+
+    /*
+     *  인증 감사 기록 최신순 조회
+     *  cursor 는 이전 응답의 nextCursor, from / to 는 ISO-8601 일시 (to 는 포함하지 않는다)
+     */
+    @GetMapping
+    public ResponseEntity<UserApiResponse<AuthAuditPageDTO>> findPage(@RequestParam(required = false) String username,
+                                                                      @RequestParam(required = false) AuthEventType type,
+                                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                                      @RequestParam(required = false) Long cursor,
+                                                                      @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(UserApiResponse.success(
+                authAuditService.findPage(username, type, from, to, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)))));
+    }
+}
@@ -0,0 +1,26 @@
+package com.green.watcher.greenwatcher.common.audit.dto;
+
+import com.green.watcher.greenwatcher.common.audit.enumerate.AuthEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  인증 감사 기록 응답 객체
+ */
+@Getter
+@AllArgsConstructor
+public class AuthAuditDTO {
+
+    private Long id;
+    private AuthEventType eventType;
+    private String username;
+    private String channel;
+    private String clientIp;
+    private String detail;
+    private LocalDateTime occurredAt;
+}
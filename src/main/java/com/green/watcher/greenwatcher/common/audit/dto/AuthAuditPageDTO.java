@@ -0,0 +1,21 @@
+package com.green.watcher.greenwatcher.common.audit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  인증 감사 기록 keyset 페이지 응답 객체
+ *  nextCursor 가 null 이면 마지막 페이지이다.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthAuditPageDTO {
+
+    private List<AuthAuditDTO> items;
+    private Long nextCursor;
+}
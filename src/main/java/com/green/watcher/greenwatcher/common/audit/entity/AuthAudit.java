@@ -0,0 +1,55 @@
+package com.green.watcher.greenwatcher.common.audit.entity;
+
+import com.green.watcher.greenwatcher.common.audit.enumerate.AuthEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  인증 감사 기록 Entity
+ *  AuthAuditWriter 가 JDBC batch insert 로만 쓰고, JPA 로는 조회만 한다.
+ *  조회는 최신순 keyset(id 내림차순) 이므로 사용자 / 종류 조건 인덱스에 ID 를 함께 둔다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "T_AUTH_AUDIT", indexes = {
+        @Index(name = "IDX_AUTH_AUDIT_USERNAME_ID", columnList = "USERNAME, ID"),
+        @Index(name = "IDX_AUTH_AUDIT_TYPE_ID", columnList = "EVENT_TYPE, ID")
+})
+public class AuthAudit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "EVENT_TYPE", nullable = false, length = 30)
+    private AuthEventType eventType;
+
+    //로그인 시도 아이디 (JWT 거절은 null)
+    @Column(name = "USERNAME", length = 100)
+    private String username;
+
+    //API / WEB
+    @Column(name = "CHANNEL", length = 10)
+    private String channel;
+
+    @Column(name = "CLIENT_IP", length = 64)
+    private String clientIp;
+
+    //실패 사유 등
+    @Column(name = "DETAIL")
+    private String detail;
+
+    @Column(name = "OCCURRED_AT", nullable = false)
+    private LocalDateTime occurredAt;
+}
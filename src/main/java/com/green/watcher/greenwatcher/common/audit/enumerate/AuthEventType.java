@@ -0,0 +1,18 @@
+package com.green.watcher.greenwatcher.common.audit.enumerate;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  인증 감사 이벤트 종류 enum 클래스
+ */
+public enum AuthEventType {
+    //로그인 성공 (폼 로그인, API 로그인)
+    LOGIN_SUCCESS,
+    //로그인 실패 (비밀번호 불일치, 잠긴 계정 등)
+    LOGIN_FAILURE,
+    //remember-me 쿠키 자동 로그인
+    REMEMBER_ME_LOGIN,
+    //JWT 검증 실패 (위조, 만료 등)
+    TOKEN_REJECTED
+}
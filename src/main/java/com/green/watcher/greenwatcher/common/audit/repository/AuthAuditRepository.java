@@ -0,0 +1,13 @@
+package com.green.watcher.greenwatcher.common.audit.repository;
+
+import com.green.watcher.greenwatcher.common.audit.entity.AuthAudit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  인증 감사 기록 레파지토리
+ */
+public interface AuthAuditRepository extends JpaRepository<AuthAudit, Long>, AuthAuditRepositoryCustom {
+}
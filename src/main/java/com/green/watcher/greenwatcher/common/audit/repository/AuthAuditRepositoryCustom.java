@@ -0,0 +1,22 @@
+package com.green.watcher.greenwatcher.common.audit.repository;
+
+import com.green.watcher.greenwatcher.common.audit.dto.AuthAuditDTO;
+import com.green.watcher.greenwatcher.common.audit.enumerate.AuthEventType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  인증 감사 기록 QueryDSL 커스텀 레파지토리
+ */
+public interface AuthAuditRepositoryCustom {
+
+    /*
+     *  최신순 keyset 조회
+     *  조건이 null 이면 사용하지 않으며, beforeId 보다 작은 id 를 최대 limit 건 반환한다.
+     */
+    List<AuthAuditDTO> findPage(String username, AuthEventType type, LocalDateTime from, LocalDateTime to, Long beforeId, int limit);
+}
@@ -0,0 +1,51 @@
+package com.green.watcher.greenwatcher.common.audit.repository;
+
+import com.green.watcher.greenwatcher.common.audit.dto.AuthAuditDTO;
+import com.green.watcher.greenwatcher.common.audit.entity.QAuthAudit;
+import com.green.watcher.greenwatcher.common.audit.enumerate.AuthEventType;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  인증 감사 기록 QueryDSL 레파지토리 구현체
+ *  offset 없이 id < 커서 조건으로 내려가므로 오래된 페이지도 인덱스 범위 검색 한 번으로 읽는다.
+ *  엔티티 대신 DTO 로 바로 조회하여 영속성 컨텍스트에 올리지 않는다.
+ */
+public class AuthAuditRepositoryImpl implements AuthAuditRepositoryCustom {
+
+    private static final QAuthAudit authAudit = QAuthAudit.authAudit;
+
+    private final JPAQueryFactory queryFactory;
+
+    public AuthAuditRepositoryImpl(EntityManager entityManager) {
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    @Override
+    public List<AuthAuditDTO> findPage(String username, AuthEventType type, LocalDateTime from, LocalDateTime to, Long beforeId, int limit) {
+        return queryFactory.select(Projections.constructor(AuthAuditDTO.class,
+                        authAudit.id,
+                        authAudit.eventType,
+                        authAudit.username,
+                        authAudit.channel,
+                        authAudit.clientIp,
+                        authAudit.detail,
+                        authAudit.occurredAt))
+                .from(authAudit)
+                .where(username == null ? null : authAudit.username.eq(username),
+                        type == null ? null : authAudit.eventType.eq(type),
+                        from == null ? null : authAudit.occurredAt.goe(from),
+                        to == null ? null : authAudit.occurredAt.lt(to),
+                        beforeId == null ? null : authAudit.id.lt(beforeId))
+                .orderBy(authAudit.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -0,0 +1,39 @@
+package com.green.watcher.greenwatcher.common.audit.service;
+
+import com.green.watcher.greenwatcher.common.audit.dto.AuthAuditDTO;
+import com.green.watcher.greenwatcher.common.audit.dto.AuthAuditPageDTO;
+import com.green.watcher.greenwatcher.common.audit.enumerate.AuthEventType;
+import com.green.watcher.greenwatcher.common.audit.repository.AuthAuditRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  인증 감사 기록 조회 service 클래스
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthAuditService {
+
+    private final AuthAuditRepository authAuditRepository;
+
+    /*
+     *  최신순 keyset 페이지 조회
+     *  limit + 1 건을 읽어 다음 페이지 존재 여부를 판단하므로 마지막 페이지에서 빈 요청이 한 번 더 생기지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public AuthAuditPageDTO findPage(String username, AuthEventType type, LocalDateTime from, LocalDateTime to, Long cursor, int limit) {
+        List<AuthAuditDTO> items = authAuditRepository.findPage(username, type, from, to, cursor, limit + 1);
+        if (items.size() <= limit) {
+            return new AuthAuditPageDTO(items, null);
+        }
+        List<AuthAuditDTO> page = items.subList(0, limit);
+        return new AuthAuditPageDTO(List.copyOf(page), page.get(limit - 1).getId());
+    }
+}
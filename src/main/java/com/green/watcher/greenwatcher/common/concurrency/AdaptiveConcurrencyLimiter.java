@@ -0,0 +1,173 @@
+package com.green.watcher.greenwatcher.common.concurrency;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  지연 시간 기반 적응형 동시성 제한기 (gradient 방식)
+ *  고정 크기 세마포어와 달리 한도를 넘은 요청은 기다리지 않고 바로 거절되어, 자원이 느려질 때 대기열이 쌓이지 않는다.
+ *  구간(window)마다 단기 평균 지연과 장기 평균 지연을 비교하여 한도를 조정한다.
+ *  1. gradient = tolerance * 장기 지연 / 단기 지연 (0.5 ~ 1.0)
+ *  2. 새 한도 = 현재 한도 * gradient + sqrt(현재 한도), 이를 smoothing 비율만큼만 반영한다.
+ *  3. 타임아웃 등 실패(drop)가 있던 구간은 backoffRatio 를 곱해 줄인다.
+ *  사용량이 한도의 절반에 못 미친 구간에서는 한도를 늘리지 않는다.
+ *  {name}.limit, {name}.inFlight 게이지와 {name}.rejected 카운터를 남긴다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    //장기 평균 지연이 따라오는 구간 수
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final double backoffRatio;
+    private final boolean adaptive;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    //현재 구간의 표본
+    private final LongAdder rttSum = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private volatile boolean dropped;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicBoolean updating = new AtomicBoolean();
+
+    //updating 을 얻은 스레드만 접근한다.
+    private double longRttNanos;
+
+    private final LongAdder rejected;
+
+    public AdaptiveConcurrencyLimiter(String name, AdaptiveLimitSettings settings, int maxLimit, MetricsRegistry metricsRegistry) {
+        this.maxLimit = Math.max(1, maxLimit);
+        this.minLimit = Math.max(1, Math.min(settings.getMinLimit(), this.maxLimit));
+        this.tolerance = settings.getTolerance();
+        this.smoothing = settings.getSmoothing();
+        this.windowNanos = settings.getWindow().toNanos();
+        this.minWindowSamples = Math.max(1, settings.getMinWindowSamples());
+        this.backoffRatio = settings.getBackoffRatio();
+        this.adaptive = settings.isEnabled();
+        this.limit = adaptive ? clamp(settings.getInitialLimit()) : this.maxLimit;
+        this.rejected = metricsRegistry.counter(name + ".rejected");
+        metricsRegistry.gauge(name + ".limit", this::getLimit);
+        metricsRegistry.gauge(name + ".inFlight", inFlight::get);
+    }
+
+    /*
+     *  한도 안이면 자리를 차지하고 true 를 반환한다.
+     *  true 를 받은 호출자는 반드시 onSuccess / onDropped / onIgnored 중 하나로 자리를 반납해야 한다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                int peak = peakInFlight.get();
+                while (current + 1 > peak && !peakInFlight.compareAndSet(peak, current + 1)) {
+                    peak = peakInFlight.get();
+                }
+                return true;
+            }
+        }
+    }
+
+    //정상 완료 (걸린 시간을 표본으로 쓴다)
+    public void onSuccess(long rttNanos) {
+        inFlight.decrementAndGet();
+        rttSum.add(rttNanos);
+        samples.increment();
+        maybeUpdate();
+    }
+
+    //타임아웃, 커넥션 획득 실패 등 과부하로 인한 실패
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        dropped = true;
+        maybeUpdate();
+    }
+
+    //지연과 무관한 실패 (잘못된 요청 등) 는 표본에서 뺀다.
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void maybeUpdate() {
+        if (!adaptive) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - windowStart.get() < windowNanos) {
+            return;
+        }
+        if (!dropped && samples.sum() < minWindowSamples) {
+            return;
+        }
+        if (!updating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            windowStart.set(now);
+            update();
+        } finally {
+            updating.set(false);
+        }
+    }
+
+    private void update() {
+        long count = samples.sumThenReset();
+        long sum = rttSum.sumThenReset();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        boolean drop = dropped;
+        dropped = false;
+
+        double current = limit;
+        double next;
+        if (drop) {
+            next = current * backoffRatio;
+        } else if (count == 0) {
+            return;
+        } else {
+            double shortRtt = Math.max(1.0, (double) sum / count);
+            longRttNanos = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) / LONG_WINDOW;
+            //지연이 크게 줄어든 뒤에는 장기 평균이 빨리 따라 내려오게 한다.
+            if (longRttNanos / shortRtt > 2) {
+                longRttNanos *= 0.95;
+            }
+            //한도의 절반도 쓰지 않았으면 지연 정보로 한도를 늘릴 근거가 없다.
+            if (peak < current / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+            double estimate = current * gradient + Math.sqrt(current);
+            next = current * (1 - smoothing) + estimate * smoothing;
+        }
+        limit = clamp(next);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
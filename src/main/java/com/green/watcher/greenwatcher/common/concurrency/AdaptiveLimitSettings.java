@@ -0,0 +1,45 @@
+package com.green.watcher.greenwatcher.common.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  적응형 동시성 한도 설정
+ *  repository-limit.* 와 upstream.adaptive-limit.* 가 같은 항목을 쓴다.
+ */
+@Getter
+@Setter
+public class AdaptiveLimitSettings {
+
+    //false 면 한도를 최대값으로 고정한다.
+    private boolean enabled = true;
+
+    //시작 한도
+    private int initialLimit = 20;
+
+    //최소 한도 (지연이 아무리 늘어도 이 수만큼은 허용한다)
+    private int minLimit = 2;
+
+    //최대 한도 (커넥션 풀 크기 등 자원의 상한)
+    private int maxLimit = 200;
+
+    //장기 평균 대비 이 배수까지의 지연 증가는 정상으로 본다.
+    private double tolerance = 1.5;
+
+    //새 한도를 반영하는 비율 (0 ~ 1)
+    private double smoothing = 0.2;
+
+    //한도를 다시 계산하는 최소 간격
+    private Duration window = Duration.ofMillis(100);
+
+    //구간 안에 이만큼 표본이 모여야 다시 계산한다.
+    private int minWindowSamples = 10;
+
+    //타임아웃 등으로 실패하면 한도에 곱하는 비율
+    private double backoffRatio = 0.9;
+}
@@ -0,0 +1,82 @@
+package com.green.watcher.greenwatcher.common.concurrency;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+
+import java.lang.reflect.Method;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  repository 적응형 동시성 한도 빈 설정 클래스
+ *  repository 팩토리 빈에 프록시 후처리기를 등록하여 모든 repository 메서드 호출 앞에 한도 검사를 둔다.
+ *  한도는 repository.limit / repository.inFlight 게이지로 확인한다.
+ *  1.0.1 @Transactional 메서드는 트랜잭션 시작에서 커넥션을 잡으므로 트랜잭션 advice 바깥에도 같은 한도 검사를 둔다.
+ *        TransactionTemplate / JdbcTemplate 을 직접 쓰는 경로(사용자 일괄 등록, 세션 저장소, remember-me 토큰)는 한도 밖이다.
+ */
+@Configuration
+@EnableConfigurationProperties(RepositoryLimitProperties.class)
+@ConditionalOnProperty(prefix = "repository-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public RepositoryConcurrencyLimitInterceptor repositoryConcurrencyLimitInterceptor(RepositoryLimitProperties properties,
+                                                                                       MetricsRegistry metricsRegistry) {
+        return new RepositoryConcurrencyLimitInterceptor(new AdaptiveConcurrencyLimiter(
+                RepositoryConcurrencyLimitInterceptor.LIMITER_NAME, properties, properties.getMaxLimit(), metricsRegistry));
+    }
+
+    /*
+     *  @Transactional 메서드의 트랜잭션 advice 바로 바깥에 한도 검사를 둔다.
+     *  트랜잭션 advisor(LOWEST_PRECEDENCE)보다 먼저 실행되어 한도를 넘은 호출은 doBegin 에서 커넥션을 요청하기 전에 거절된다.
+     *  트랜잭션 안의 repository 호출은 이미 자리를 잡은 스레드이므로 다시 세지 않는다.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public Advisor transactionConcurrencyLimitAdvisor(RepositoryConcurrencyLimitInterceptor interceptor) {
+        TransactionAttributeSource attributeSource = new AnnotationTransactionAttributeSource();
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return attributeSource.getTransactionAttribute(method, targetClass) != null;
+            }
+        }, interceptor);
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+
+    /*
+     *  repository 프록시의 가장 바깥에 한도 검사 advice 를 추가한다.
+     *  repository 의 트랜잭션 advice 보다 앞에 두어 트랜잭션 밖의 repository 호출도 커넥션을 요청하기 전에 거절된다.
+     *  BeanPostProcessor 이므로 static 으로 선언하고, advice 는 repository 를 만들 때 꺼낸다.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryConcurrencyLimitPostProcessor(
+            ObjectProvider<RepositoryConcurrencyLimitInterceptor> interceptor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(0, interceptor.getObject())));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.green.watcher.greenwatcher.common.concurrency;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  적응형 동시성 한도를 넘어 요청이 거절되었을 때 발생하는 예외
+ *  대기 없이 바로 던져지며 OverloadExceptionResponseHandler 가 503 으로 응답한다.
+ *  1.0.1 다른 예외(InternalAuthenticationServiceException 등)에 감싸여 온 경우를 찾는 find 추가
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final String limiter;
+
+    public ConcurrencyLimitExceededException(String limiter, String message) {
+        super(message);
+        this.limiter = limiter;
+    }
+
+    public String getLimiter() {
+        return limiter;
+    }
+
+    //원인 체인에서 동시성 한도 초과 예외를 찾는다. 없으면 null
+    public static ConcurrencyLimitExceededException find(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConcurrencyLimitExceededException exceeded) {
+                return exceeded;
+            }
+        }
+        return null;
+    }
+}
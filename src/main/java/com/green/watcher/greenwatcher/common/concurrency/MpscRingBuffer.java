@@ -0,0 +1,112 @@
+package com.green.watcher.greenwatcher.common.concurrency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  미리 할당한 슬롯을 재사용하는 lock-free 링 버퍼 (다중 생산자 / 단일 소비자)
+ *  슬롯마다 시퀀스 번호를 두어 생산자는 CAS 한 번으로 슬롯을 차지(claim)하고, 값을 채운 뒤 공개(publish)한다.
+ *  버퍼가 가득 차면 생산자를 막지 않고 claim 이 -1 을 돌려준다(dropped 증가).
+ *  접근 로그(AccessLogRingBuffer), 인증 감사(AuthAuditRingBuffer) 버퍼가 항목 타입별 offer 만 더해 사용한다.
+ */
+public class MpscRingBuffer<T extends MpscRingBuffer.Slot> {
+
+    /*
+     *  버퍼 슬롯 항목
+     *  소비자가 읽은 뒤 참조를 놓아 주도록 clear 를 호출한다.
+     */
+    public interface Slot {
+        void clear();
+    }
+
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    //소비자 스레드 하나만 접근한다.
+    private long dequeuePosition;
+
+    public MpscRingBuffer(int requestedCapacity, Supplier<T> factory) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.slots = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = factory.get();
+            sequences.set(i, i);
+        }
+    }
+
+    /*
+     *  빈 슬롯 하나를 차지하고 위치를 반환한다.
+     *  버퍼가 가득 차 있으면 -1 을 반환한다. 차지한 슬롯은 반드시 publish 해야 한다.
+     */
+    public long claim() {
+        long position = enqueuePosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                dropped.incrementAndGet();
+                return -1;
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+    }
+
+    //claim 으로 차지한 위치의 슬롯
+    @SuppressWarnings("unchecked")
+    public T slot(long position) {
+        return (T) slots[(int) (position & mask)];
+    }
+
+    //시퀀스 갱신으로 소비자에게 슬롯을 공개한다.
+    public void publish(long position) {
+        sequences.lazySet((int) (position & mask), position + 1);
+    }
+
+    /*
+     *  최대 maxItems 개의 항목을 꺼내 consumer 에 넘긴다. (단일 소비자 전용)
+     *  consumer 는 호출 중에만 항목을 읽어야 하며, 반환 후 슬롯은 비워져 재사용된다.
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<T> consumer, int maxItems) {
+        int drained = 0;
+        while (drained < maxItems) {
+            long position = dequeuePosition;
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            T slot = (T) slots[index];
+            consumer.accept(slot);
+            slot.clear();
+            sequences.lazySet(index, position + mask + 1);
+            dequeuePosition = position + 1;
+            drained++;
+        }
+        return drained;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,81 @@
+package com.green.watcher.greenwatcher.common.concurrency;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  Spring Data repository 호출 / @Transactional 메서드 앞의 적응형 동시성 제한
+ *  모든 repository 프록시와 트랜잭션 경계가 하나의 한도를 공유하므로 DB(커넥션 풀) 전체에 들어가는 호출 수가 묶인다.
+ *  한도를 넘으면 커넥션 획득 대기열에 줄 서지 않고 ConcurrencyLimitExceededException 으로 바로 거절한다.
+ *  커넥션 획득 실패 / 쿼리 타임아웃은 과부하 신호로 보고 한도를 줄인다.
+ *  1.0.1 스레드가 이미 자리를 잡은 경우(트랜잭션 안의 repository 호출 등)는 다시 세지 않는다.
+ *        커넥션은 트랜잭션 시작(JpaTransactionManager.doBegin)에서 잡히므로 트랜잭션 경계에서 먼저 거절해야 한다. (ConcurrencyLimitConfig)
+ */
+public class RepositoryConcurrencyLimitInterceptor implements MethodInterceptor {
+
+    public static final String LIMITER_NAME = "repository";
+
+    //현재 스레드가 한도 자리를 잡고 있는지 (바깥 호출이 끝날 때 반납한다)
+    private static final ThreadLocal<Boolean> HELD = new ThreadLocal<>();
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public RepositoryConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (invocation.getMethod().getDeclaringClass() == Object.class || HELD.get() != null) {
+            return invocation.proceed();
+        }
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(LIMITER_NAME,
+                    "DB 동시 호출 한도(" + limiter.getLimit() + ")를 초과했습니다.");
+        }
+        HELD.set(Boolean.TRUE);
+        long start = System.nanoTime();
+        boolean success = false;
+        boolean overloaded = false;
+        try {
+            Object result = invocation.proceed();
+            success = true;
+            return result;
+        } catch (Throwable e) {
+            overloaded = isOverload(e);
+            throw e;
+        } finally {
+            HELD.remove();
+            if (success) {
+                limiter.onSuccess(System.nanoTime() - start);
+            } else if (overloaded) {
+                limiter.onDropped();
+            } else {
+                limiter.onIgnored();
+            }
+        }
+    }
+
+    //원인 체인에 커넥션 획득 실패 / 타임아웃이 있으면 과부하로 본다.
+    static boolean isOverload(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof QueryTimeoutException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof TransientDataAccessResourceException
+                    || cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
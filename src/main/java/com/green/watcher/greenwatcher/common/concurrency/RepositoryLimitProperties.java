@@ -0,0 +1,14 @@
+package com.green.watcher.greenwatcher.common.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  repository 호출 적응형 동시성 한도 설정 (application.yml 의 repository-limit.*)
+ *  max-limit 는 커넥션 풀 크기(spring.datasource.hikari.maximum-pool-size)에 맞춘다.
+ */
+@ConfigurationProperties(prefix = "repository-limit")
+public class RepositoryLimitProperties extends AdaptiveLimitSettings {
+}
@@ -0,0 +1,40 @@
+package com.green.watcher.greenwatcher.common.concurrency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  security 필터 안의 사용자 조회가 DB 동시성 한도로 거절된 경우 503 응답 필터
+ *  자동 로그인(remember-me) 등 필터 단계에서 던져진 ConcurrencyLimitExceededException 은
+ *  OverloadExceptionResponseHandler 에 닿지 않고 컨테이너 500 이 되므로 여기서 503 과 Retry-After 로 바꾼다.
+ */
+public class SecurityOverloadFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (RuntimeException | ServletException e) {
+            ConcurrencyLimitExceededException overload = ConcurrencyLimitExceededException.find(e);
+            if (overload == null || response.isCommitted()) {
+                throw e;
+            }
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), overload.getMessage());
+        }
+    }
+}
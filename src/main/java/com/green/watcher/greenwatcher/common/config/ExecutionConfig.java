@@ -0,0 +1,94 @@
+package com.green.watcher.greenwatcher.common.config;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.upstream.HttpClientUpstreamTransport;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamCallLimiter;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamClient;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamProperties;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamTransport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import javax.sql.DataSource;
+import java.net.http.HttpClient;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  요청 처리 / 업스트림 호출 실행 모델 설정 클래스
+ *  spring.threads.virtual.enabled=true (application-virtual.yml) 이면
+ *  톰캣 요청 처리는 스프링 부트가, 업스트림 HTTP 호출은 이 클래스의 executor 가 가상 스레드로 처리한다.
+ *  업스트림 공용 클라이언트(UpstreamClient)와 전송 계층 빈 추가
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(UpstreamProperties.class)
+public class ExecutionConfig {
+
+    /*
+     *  업스트림 호출용 HttpClient 빈을 생성한다.
+     *  가상 스레드 모드에서는 호출마다 가상 스레드를, 그렇지 않으면 플랫폼 스레드를 사용한다.
+     *  executor 를 빈으로 노출하면 스프링 부트의 applicationTaskExecutor 자동 설정이 꺼지므로 내부에서만 생성한다.
+     *  keep-alive 커넥션은 HttpClient 내부 풀에서 재사용되고, 동시 호출 수 제한은 UpstreamCallLimiter 가 담당한다.
+     */
+    @Bean
+    public HttpClient upstreamHttpClient(UpstreamProperties properties, Environment environment) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("upstream-");
+        executor.setVirtualThreads(isVirtualThreadsEnabled(environment));
+        return HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+    }
+
+    /*
+     *  업스트림 전송 계층
+     *  테스트에서 UpstreamTransport 빈을 등록하면 네트워크 없이 stub 응답을 사용한다.
+     */
+    @Bean
+    @ConditionalOnMissingBean(UpstreamTransport.class)
+    public UpstreamTransport upstreamTransport(HttpClient upstreamHttpClient) {
+        return new HttpClientUpstreamTransport(upstreamHttpClient);
+    }
+
+    @Bean
+    public UpstreamClient upstreamClient(UpstreamProperties properties, UpstreamCallLimiter upstreamCallLimiter,
+                                         UpstreamTransport upstreamTransport, MetricsRegistry metricsRegistry) {
+        return new UpstreamClient(properties, upstreamCallLimiter, upstreamTransport, metricsRegistry);
+    }
+
+    /*
+     *  가상 스레드 모드에서 DataSource 를 PermitLimitedDataSource 로 감싼다.
+     *  BeanPostProcessor 이므로 static 으로 선언한다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "upstream.jdbc-guard", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor jdbcConcurrencyGuard(Environment environment) {
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        long timeoutMillis = environment.getProperty("spring.datasource.hikari.connection-timeout", Long.class, 30000L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof PermitLimitedDataSource)) {
+                    log.info("JDBC concurrency guard enabled for '{}' (permits={})", beanName, poolSize);
+                    return new PermitLimitedDataSource(dataSource, poolSize, timeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static boolean isVirtualThreadsEnabled(Environment environment) {
+        return environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                && Runtime.version().feature() >= 21;
+    }
+}
@@ -0,0 +1,51 @@
+package com.green.watcher.greenwatcher.common.config;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.web.servlet.resource.AbstractVersionStrategy;
+
+import java.io.IOException;
+import java.util.Properties;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  빌드 시 계산한 content hash 를 리소스 버전으로 사용하는 전략
+ *  processResources 단계가 static 아래 파일마다 "md5:크기" 를 static-asset-manifest.properties 에 기록한다.
+ *  manifest 에 없거나 크기가 다르면(빌드 없이 파일만 바뀐 경우) ContentVersionStrategy 와 같이 내용의 md5 를 계산한다.
+ *  두 경로 모두 같은 md5 를 내므로 url 은 manifest 유무와 관계없이 같다.
+ *  파일명 형식은 name-{hash}.ext 이다.
+ */
+public class ManifestVersionStrategy extends AbstractVersionStrategy {
+
+    private static final String STATIC_ROOT = "static/";
+
+    private final Properties manifest;
+
+    public ManifestVersionStrategy(Properties manifest) {
+        super(new FileNameVersionPathStrategy());
+        this.manifest = manifest;
+    }
+
+    @Override
+    public String getResourceVersion(Resource resource) {
+        try {
+            String entry = resource instanceof ClassPathResource classPathResource
+                    && classPathResource.getPath().startsWith(STATIC_ROOT)
+                    ? manifest.getProperty(classPathResource.getPath().substring(STATIC_ROOT.length()))
+                    : null;
+            if (entry != null) {
+                int separator = entry.indexOf(':');
+                if (separator > 0 && Long.parseLong(entry.substring(separator + 1)) == resource.contentLength()) {
+                    return entry.substring(0, separator);
+                }
+            }
+            return DigestUtils.md5DigestAsHex(FileCopyUtils.copyToByteArray(resource.getInputStream()));
+        } catch (IOException e) {
+            throw new IllegalStateException("리소스 버전을 계산할 수 없습니다: " + resource, e);
+        }
+    }
+}
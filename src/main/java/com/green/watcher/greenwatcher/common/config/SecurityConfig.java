@@ -1,11 +1,23 @@
 package com.green.watcher.greenwatcher.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.watcher.greenwatcher.common.concurrency.ConcurrencyLimitExceededException;
+import com.green.watcher.greenwatcher.common.concurrency.SecurityOverloadFilter;
+import com.green.watcher.greenwatcher.common.metrics.MetricsScrapeTokenFilter;
+import com.green.watcher.greenwatcher.common.ratelimit.RateLimitFilter;
+import com.green.watcher.greenwatcher.common.ratelimit.RateLimiter;
+import com.green.watcher.greenwatcher.common.user.security.jwt.JwtAuthenticationEntryPoint;
 import com.green.watcher.greenwatcher.common.user.security.jwt.JwtAuthenticationFilter;
 import com.green.watcher.greenwatcher.common.user.security.jwt.JwtTokenProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -13,13 +25,17 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
 import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+import org.springframework.security.web.authentication.rememberme.RememberMeAuthenticationFilter;
 import org.springframework.security.web.session.SimpleRedirectInvalidSessionStrategy;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -32,9 +48,18 @@ import java.util.Arrays;
 /**
  *  @author kim
  *  @since 2024.09.16
- *  @version 1.0.1
+ *  @version 1.0.10
  *  spring security bean 설정 클래스
  *  api 인증 / 인가 jwt 필터 설정 추가
+ *  회원가입 중복 확인 api 허용
+ *  동시 세션 제어를 공유 세션 저장소 기반 SessionRegistry 로 변경
+ *  요청 제한 필터(RateLimitFilter) 추가
+ *  JWT 거절 이벤트 발행 (인증 감사 기록)
+ *  공간 피처 import(POST /map/features/**)는 ROLE_ADMIN 만 허용
+ *  DB 동시성 한도로 폼 로그인 사용자 조회가 거절되면 로그인 실패 화면 대신 503 으로 응답
+ *  수집기 스크랩(/metrics/**)용 SecurityFilterChain 추가 (bearer 토큰, 세션 없음)
+ *  JWT 검증 실패는 JwtAuthenticationFilter 에서 바로 401 로 응답 (인가 단계 예외 생략)
+ *  자동 로그인 사용자 조회가 DB 동시성 한도로 거절되면 500 대신 503 으로 응답 (SecurityOverloadFilter)
  */
 @Configuration
 @EnableWebSecurity
@@ -43,14 +68,28 @@ public class SecurityConfig {
     private final DataSource dataSource;
     private final JwtTokenProvider jwtTokenProvider;
 
-    private final AuthenticationEntryPoint entryPoint;
+    private final JwtAuthenticationEntryPoint entryPoint;
+
+    private final SessionRegistry sessionRegistry;
+
+    private final RateLimiter rateLimiter;
+
+    private final ObjectMapper objectMapper;
+
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Autowired
-    public SecurityConfig(DataSource dataSource, JwtTokenProvider jwtTokenProvider, AuthenticationEntryPoint entryPoint) {
+    public SecurityConfig(DataSource dataSource, JwtTokenProvider jwtTokenProvider, JwtAuthenticationEntryPoint entryPoint,
+                          SessionRegistry sessionRegistry, RateLimiter rateLimiter, ObjectMapper objectMapper,
+                          ApplicationEventPublisher eventPublisher) {
         this.dataSource = dataSource;
         this.jwtTokenProvider = jwtTokenProvider;
         this.entryPoint = entryPoint;
+        this.sessionRegistry = sessionRegistry;
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     // API용 SecurityFilterChain (JWT 인증)
@@ -65,19 +104,38 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .securityMatcher("/api/**") // Spring Security 6.x부터 antMatcher 대신 securityMatcher 사용
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/auth/login", "/api/auth/signup").permitAll()
+                        .requestMatchers(JwtAuthenticationFilter.PUBLIC_PATHS).permitAll()
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, eventPublisher, entryPoint),
                         UsernamePasswordAuthenticationFilter.class)
+                //JWT 인증 뒤에서 사용자 id / IP 기준으로 요청 수를 제한한다.
+                .addFilterAfter(new RateLimitFilter(rateLimiter, objectMapper), JwtAuthenticationFilter.class)
                 .exceptionHandling(handler -> handler.authenticationEntryPoint(entryPoint));
 
         return http.build();
     }
 
+    // 수집기 스크랩용 SecurityFilterChain (metrics.scrape-token bearer 인증)
+    @Bean
+    public SecurityFilterChain metricsSecurityFilterChain(HttpSecurity http,
+                                                          @Value("${metrics.scrape-token:}") String scrapeToken) throws Exception {
+        http
+                .csrf(AbstractHttpConfigurer::disable)
+                .securityMatcher("/metrics/**")
+                //토큰 확인은 MetricsScrapeTokenFilter 가 하고, 통과한 요청은 모두 허용
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .addFilterBefore(new MetricsScrapeTokenFilter(scrapeToken), AuthorizationFilter.class);
+
+        return http.build();
+    }
+
     // 웹용 SecurityFilterChain (폼 로그인)
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -86,10 +144,16 @@ public class SecurityConfig {
             .csrf(AbstractHttpConfigurer::disable)
             //iframe 허용(h2 console)
             .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin))
+            //세션 사용자 / IP 기준 요청 제한 (폼 로그인 처리보다 앞에 두어 로그인 시도도 제한한다)
+            .addFilterBefore(new RateLimitFilter(rateLimiter, objectMapper), UsernamePasswordAuthenticationFilter.class)
+            //자동 로그인(remember-me) 사용자 조회가 DB 동시성 한도로 거절되면 503 으로 응답
+            .addFilterBefore(new SecurityOverloadFilter(), RememberMeAuthenticationFilter.class)
             //필터 등록(예시)
             .authorizeHttpRequests(auth -> auth
                 //admin URL은 ROLE_ADMIN 권한이 있는 사용자만
                 .requestMatchers("/admin/**").hasRole("ADMIN")
+                //공간 피처 import 는 DB 에 쓰므로 ROLE_ADMIN 권한이 있는 사용자만 (조회는 모두 허용)
+                .requestMatchers(HttpMethod.POST, "/map/features/**").hasRole("ADMIN")
                 //user URL은 ROLE_USER 권한이 있는 사용자만
                 .requestMatchers("/user/**").hasRole("USER")
                 //h2 console 페이지는 모든 사용자에게 허용
@@ -103,6 +167,8 @@ public class SecurityConfig {
                 .invalidSessionStrategy(new SimpleRedirectInvalidSessionStrategy("/auth/login?error=true"))
                 //최대 1개의 세션만 허용
                 .maximumSessions(1)
+                //모든 노드가 공유하는 세션 저장소 기반 레지스트리 (SessionStoreConfig)
+                .sessionRegistry(sessionRegistry)
                 //true면 중복 로그인 시 새로운 세션을 허용하지 않음
                 .maxSessionsPreventsLogin(false)
                 //중복로그인으로 인해 만료시 이동할 URL
@@ -120,8 +186,8 @@ public class SecurityConfig {
                 .passwordParameter("password")
                 //로그인 성공 시 리다이렉트 할 URL
                 .defaultSuccessUrl("/map", true)
-                //로그인 실패 시 리다이렉트 할 URL
-                .failureUrl("/auth/login?error=true")
+                //로그인 실패 시 리다이렉트 (DB 과부하로 거절된 경우는 503)
+                .failureHandler(loginFailureHandler())
                 //모든 사용자에게 허용
                 .permitAll()
             )
@@ -133,8 +199,8 @@ public class SecurityConfig {
                 .logoutSuccessUrl("/auth/login?logout=true")
                 //세션 무효화
                 .invalidateHttpSession(true)
-                //톰캣 쿠키 삭제
-                .deleteCookies("JSESSIONID")
+                //톰캣 / spring session 쿠키 삭제
+                .deleteCookies("JSESSIONID", "SESSION")
                 //모든 사용자에게 허용
                 .permitAll()
             )
@@ -208,4 +274,22 @@ public class SecurityConfig {
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
     }
+
+    /*
+     *  폼 로그인 실패 처리
+     *  사용자 조회가 DB 동시성 한도로 거절된 경우(InternalAuthenticationServiceException 에 감싸여 온다)는
+     *  비밀번호 오류 화면이 아니라 503 과 Retry-After 로 응답하고, 나머지는 로그인 화면으로 리다이렉트한다.
+     */
+    private static AuthenticationFailureHandler loginFailureHandler() {
+        SimpleUrlAuthenticationFailureHandler failure = new SimpleUrlAuthenticationFailureHandler("/auth/login?error=true");
+        return (request, response, exception) -> {
+            ConcurrencyLimitExceededException overload = ConcurrencyLimitExceededException.find(exception);
+            if (overload != null) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), overload.getMessage());
+                return;
+            }
+            failure.onAuthenticationFailure(request, response, exception);
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.green.watcher.greenwatcher.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  지정한 패키지의 빈만 지연 초기화하는 BeanFactoryPostProcessor
+ *  spring.main.lazy-initialization 은 모든 빈을 첫 요청까지 미뤄 첫 요청이 느려지므로,
+ *  기동 시간에 비해 거의 쓰이지 않는 빈(springdoc 문서 생성 등)만 골라 첫 사용 시점에 만든다.
+ *  AOT 처리 시에도 빌드 시점에 적용되어 지연 여부가 생성 코드에 그대로 남는다.
+ */
+@Slf4j
+public class SelectiveLazyInitialization implements BeanFactoryPostProcessor {
+
+    private final List<String> packages;
+
+    public SelectiveLazyInitialization(List<String> packages) {
+        this.packages = packages;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        int count = 0;
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition.getLazyInit() == null && matches(beanClassName(definition))) {
+                definition.setLazyInit(true);
+                count++;
+            }
+        }
+        log.info("lazy initialization applied to {} beans in {}", count, packages);
+    }
+
+    //@Bean 메서드로 만든 빈은 선언한 설정 클래스의 패키지로 판단한다.
+    private static String beanClassName(BeanDefinition definition) {
+        if (definition.getBeanClassName() != null) {
+            return definition.getBeanClassName();
+        }
+        if (definition.getFactoryBeanName() != null && definition.getResolvableType().resolve() != null) {
+            return definition.getResolvableType().resolve().getName();
+        }
+        return null;
+    }
+
+    private boolean matches(String className) {
+        if (className == null) {
+            return false;
+        }
+        for (String prefix : packages) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
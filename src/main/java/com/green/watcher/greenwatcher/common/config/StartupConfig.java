@@ -0,0 +1,32 @@
+package com.green.watcher.greenwatcher.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  기동 시간 설정 클래스
+ *  startup.lazy-packages 에 지정한 패키지의 빈을 지연 초기화한다. (application-prod.yml)
+ */
+@Configuration
+public class StartupConfig {
+
+    /*
+     *  BeanFactoryPostProcessor 이므로 static 으로 선언하고 설정은 Binder 로 직접 읽는다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "startup", name = "lazy-packages")
+    public static SelectiveLazyInitialization selectiveLazyInitialization(Environment environment) {
+        List<String> packages = Binder.get(environment).bind("startup.lazy-packages", String[].class)
+                .map(List::of)
+                .orElse(List.of());
+        return new SelectiveLazyInitialization(packages);
+    }
+}
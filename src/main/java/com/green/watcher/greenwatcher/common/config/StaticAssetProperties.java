@@ -0,0 +1,28 @@
+package com.green.watcher.greenwatcher.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  정적 리소스(/lib/**, /resources/**) 제공 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "static-assets")
+public class StaticAssetProperties {
+
+    //false 면 스프링 부트 기본 정적 리소스 처리(버전 url, 압축본 없음)를 사용한다.
+    private boolean enabled = true;
+
+    //버전이 붙은 url 의 브라우저 캐시 기간
+    private Duration cacheMaxAge = Duration.ofDays(365);
+
+    //빌드 시 생성되는 파일별 content hash 목록 (classpath 기준)
+    private String manifest = "classpath:static-asset-manifest.properties";
+}
@@ -0,0 +1,70 @@
+package com.green.watcher.greenwatcher.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  정적 리소스 제공 설정 클래스
+ *  1. url 에 content hash 를 붙이고(VersionResourceResolver) 1년 immutable 캐시 헤더를 보낸다.
+ *  2. 빌드 시 만든 .br / .gz 파일이 있으면 Accept-Encoding 에 맞는 압축본을 그대로 보낸다.(EncodedResourceResolver)
+ *  3. 템플릿의 th:src / th:href(@{...}) 는 ResourceUrlEncodingFilter 가 버전 url 로 바꾼다.
+ *  4. css 안의 url(...) 도 버전 url 로 바꾼다.
+ *  1.0.1 immutable 캐시 헤더는 버전이 맞는 url 에만 보내고, 버전 없는 url 은 no-cache(ETag / Last-Modified 재검증)로 보낸다.
+ */
+@Configuration
+@EnableConfigurationProperties(StaticAssetProperties.class)
+@ConditionalOnProperty(prefix = "static-assets", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private final StaticAssetProperties properties;
+    private final Properties manifest;
+
+    public StaticResourceConfig(StaticAssetProperties properties, ResourceLoader resourceLoader) throws IOException {
+        this.properties = properties;
+        Resource manifestResource = resourceLoader.getResource(properties.getManifest());
+        this.manifest = manifestResource.exists() ? PropertiesLoaderUtils.loadProperties(manifestResource) : new Properties();
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        addVersionedHandler(registry, "/lib/**", "classpath:/static/lib/");
+        addVersionedHandler(registry, "/resources/**", "classpath:/static/resources/");
+    }
+
+    private void addVersionedHandler(ResourceHandlerRegistry registry, String pathPattern, String location) {
+        registry.addResourceHandler(pathPattern)
+                .addResourceLocations(location)
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new ImmutableVersionResourceResolver(CacheControl.maxAge(properties.getCacheMaxAge().toSeconds(), TimeUnit.SECONDS)
+                        .cachePublic()
+                        .immutable())
+                        .addVersionStrategy(new ManifestVersionStrategy(manifest), "/**"))
+                .addTransformer(new CssLinkResourceTransformer());
+    }
+
+    //템플릿의 @{...} 링크를 버전 url 로 바꾸는 필터
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
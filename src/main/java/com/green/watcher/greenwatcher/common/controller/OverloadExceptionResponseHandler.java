@@ -0,0 +1,39 @@
+package com.green.watcher.greenwatcher.common.controller;
+
+import com.green.watcher.greenwatcher.common.concurrency.ConcurrencyLimitExceededException;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamRejectedException;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  과부하로 거절된 요청 응답 처리
+ *  DB / 업스트림 동시성 한도, 호출량 예산, 서킷 거절은 503 과 Retry-After 로 응답하여 클라이언트가 잠시 뒤 다시 시도하게 한다.
+ */
+@RestControllerAdvice
+public class OverloadExceptionResponseHandler {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<UserApiResponse<Void>> handleConcurrencyLimitExceeded(ConcurrencyLimitExceededException e) {
+        return serviceUnavailable(e.getMessage());
+    }
+
+    @ExceptionHandler(UpstreamRejectedException.class)
+    public ResponseEntity<UserApiResponse<Void>> handleUpstreamRejected(UpstreamRejectedException e) {
+        return serviceUnavailable(e.getMessage());
+    }
+
+    private static ResponseEntity<UserApiResponse<Void>> serviceUnavailable(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(UserApiResponse.fail(HttpStatus.SERVICE_UNAVAILABLE.value(), message));
+    }
+}
@@ -0,0 +1,22 @@
+package com.green.watcher.greenwatcher.common.crs;
+
+import com.green.watcher.greenwatcher.common.crs.service.CoordinateTransformService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  좌표 변환 빈 설정 클래스
+ */
+@Configuration
+@EnableConfigurationProperties(CrsProperties.class)
+public class CrsConfig {
+
+    @Bean
+    public CoordinateTransformService coordinateTransformService(CrsProperties properties) {
+        return new CoordinateTransformService(properties);
+    }
+}
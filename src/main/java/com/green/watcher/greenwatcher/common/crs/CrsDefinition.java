@@ -0,0 +1,131 @@
+package com.green.watcher.greenwatcher.common.crs;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  proj4 문자열로 정의한 좌표계
+ *  proj4-defs.js 와 같은 정의 문자열을 그대로 읽는다. 지원 투영은 longlat, tmerc, utm, merc 이다.
+ *  +towgs84 가 없거나 모두 0 이면 WGS84 와 같은 기준계로 본다.
+ */
+public final class CrsDefinition {
+
+    @Getter
+    private final String code;
+    @Getter
+    private final String proj4;
+    @Getter
+    private final Ellipsoid ellipsoid;
+    @Getter(AccessLevel.PACKAGE)
+    private final double[] toWgs84;
+    @Getter(AccessLevel.PACKAGE)
+    private final Projection projection;
+
+    private CrsDefinition(String code, String proj4, Ellipsoid ellipsoid, double[] toWgs84, Projection projection) {
+        this.code = code;
+        this.proj4 = proj4;
+        this.ellipsoid = ellipsoid;
+        this.toWgs84 = toWgs84;
+        this.projection = projection;
+    }
+
+    /*
+     *  proj4 문자열을 읽는다.
+     *  지원하지 않는 투영이나 단위가 있으면 IllegalArgumentException
+     */
+    public static CrsDefinition parse(String code, String proj4) {
+        Map<String, String> params = new HashMap<>();
+        for (String token : proj4.trim().split("\\s+")) {
+            if (!token.startsWith("+")) {
+                continue;
+            }
+            int eq = token.indexOf('=');
+            params.put(eq < 0 ? token.substring(1) : token.substring(1, eq), eq < 0 ? "" : token.substring(eq + 1));
+        }
+        String units = params.get("units");
+        if (units != null && !"m".equals(units)) {
+            throw new IllegalArgumentException(code + " : 지원하지 않는 단위입니다: " + units);
+        }
+        Ellipsoid ellipsoid = ellipsoid(params);
+        double lat0 = Math.toRadians(number(params, "lat_0", 0));
+        double lon0 = Math.toRadians(number(params, "lon_0", 0));
+        double k0 = number(params, "k", number(params, "k_0", 1));
+        double x0 = number(params, "x_0", 0);
+        double y0 = number(params, "y_0", 0);
+        String proj = params.getOrDefault("proj", "");
+        Projection projection = switch (proj) {
+            case "longlat", "latlong" -> new LongLat();
+            case "tmerc", "etmerc" -> new TransverseMercator(ellipsoid, lat0, lon0, k0, x0, y0);
+            case "utm" -> {
+                int zone = (int) number(params, "zone", 0);
+                if (zone < 1 || zone > 60) {
+                    throw new IllegalArgumentException(code + " : utm zone 이 올바르지 않습니다.");
+                }
+                yield new TransverseMercator(ellipsoid, 0, Math.toRadians(zone * 6 - 183), 0.9996, 500000,
+                        params.containsKey("south") ? 10000000 : 0);
+            }
+            case "merc" -> new Mercator(ellipsoid, lon0, k0, x0, y0);
+            default -> throw new IllegalArgumentException(code + " : 지원하지 않는 투영입니다: " + proj);
+        };
+        return new CrsDefinition(code, proj4, ellipsoid, toWgs84(params), projection);
+    }
+
+    //두 좌표계의 기준계가 다르면 Helmert 변환이 필요하다.
+    boolean sameDatum(CrsDefinition other) {
+        return toWgs84 == null && other.toWgs84 == null;
+    }
+
+    private static Ellipsoid ellipsoid(Map<String, String> params) {
+        if (params.containsKey("R")) {
+            double r = number(params, "R", 0);
+            return Ellipsoid.ofAxes(r, r);
+        }
+        if (params.containsKey("a")) {
+            double a = number(params, "a", 0);
+            if (params.containsKey("b")) {
+                return Ellipsoid.ofAxes(a, number(params, "b", a));
+            }
+            return Ellipsoid.ofInverseFlattening(a, number(params, "rf", 0));
+        }
+        if (params.containsKey("ellps")) {
+            return Ellipsoid.named(params.get("ellps"));
+        }
+        return Ellipsoid.WGS84;
+    }
+
+    private static double[] toWgs84(Map<String, String> params) {
+        String value = params.get("towgs84");
+        if (value == null) {
+            return null;
+        }
+        String[] parts = value.split(",");
+        if (parts.length != 3 && parts.length != 7) {
+            throw new IllegalArgumentException("towgs84 는 3개 또는 7개 값이어야 합니다: " + value);
+        }
+        double[] result = new double[parts.length];
+        boolean zero = true;
+        for (int i = 0; i < parts.length; i++) {
+            result[i] = Double.parseDouble(parts[i].trim());
+            zero &= result[i] == 0;
+        }
+        return zero ? null : result;
+    }
+
+    private static double number(Map<String, String> params, String key, double defaultValue) {
+        String value = params.get(key);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("+" + key + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+}
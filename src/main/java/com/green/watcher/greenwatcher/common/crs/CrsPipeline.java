@@ -0,0 +1,71 @@
+package com.green.watcher.greenwatcher.common.crs;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  두 좌표계 사이의 변환 파이프라인
+ *  원본 투영 역변환 -> (기준계가 다르면) Helmert 변환 -> 대상 투영 순방향 변환 단계를 한 번 만들어 두고 재사용한다.
+ *  좌표는 x, y 가 번갈아 놓인 double[] 에 담아 제자리에서 바꾸며, 점 객체를 만들지 않는다.
+ *  단계는 BLOCK_POINTS 개씩 끊어 적용하여 블록이 캐시에 남아 있는 동안 모든 단계를 거치게 한다.
+ *  상태가 없으므로 여러 스레드가 같은 파이프라인으로 배열의 다른 구간을 동시에 바꿀 수 있다.
+ */
+public final class CrsPipeline {
+
+    static final int BLOCK_POINTS = 1024;
+
+    private interface Step {
+        void apply(double[] xy, int from, int to);
+    }
+
+    @Getter
+    private final String sourceCode;
+    @Getter
+    private final String targetCode;
+    private final Step[] steps;
+
+    private CrsPipeline(String sourceCode, String targetCode, Step[] steps) {
+        this.sourceCode = sourceCode;
+        this.targetCode = targetCode;
+        this.steps = steps;
+    }
+
+    public static CrsPipeline compile(CrsDefinition source, CrsDefinition target) {
+        if (source.getProj4().equals(target.getProj4())) {
+            return new CrsPipeline(source.getCode(), target.getCode(), new Step[0]);
+        }
+        List<Step> steps = new ArrayList<>(3);
+        steps.add(source.getProjection()::inverse);
+        if (!source.sameDatum(target)) {
+            steps.add(new DatumShift(source.getEllipsoid(), source.getToWgs84(), target.getEllipsoid(), target.getToWgs84())::apply);
+        }
+        steps.add(target.getProjection()::forward);
+        return new CrsPipeline(source.getCode(), target.getCode(), steps.toArray(Step[]::new));
+    }
+
+    //배열 전체 변환
+    public void transform(double[] xy) {
+        transform(xy, 0, xy.length);
+    }
+
+    /*
+     *  배열 인덱스 from(포함) ~ to(제외) 구간 변환
+     *  구간 길이는 짝수여야 한다.
+     */
+    public void transform(double[] xy, int from, int to) {
+        if (((to - from) & 1) != 0) {
+            throw new IllegalArgumentException("좌표 배열 길이는 짝수(x, y 쌍)여야 합니다.");
+        }
+        for (int start = from; start < to; start += BLOCK_POINTS * 2) {
+            int end = Math.min(to, start + BLOCK_POINTS * 2);
+            for (Step step : steps) {
+                step.apply(xy, start, end);
+            }
+        }
+    }
+}
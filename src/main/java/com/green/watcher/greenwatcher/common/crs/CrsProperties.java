@@ -0,0 +1,33 @@
+package com.green.watcher.greenwatcher.common.crs;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  좌표 변환 설정 (application.yml 의 crs.*)
+ *  1.0.1 병렬 변환 스레드 수 추가
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "crs")
+public class CrsProperties {
+
+    //기본 좌표계 외에 추가하거나 덮어쓸 정의 (코드 -> proj4 문자열), yml 에서는 "[EPSG:5174]" 처럼 대괄호로 감싼다.
+    private Map<String, String> definitions = new LinkedHashMap<>();
+
+    //이 점 수 이상이면 여러 코어로 나누어 변환한다.
+    private int parallelThreshold = 65_536;
+
+    //병렬 변환 시 작업 하나가 맡는 점 수
+    private int parallelChunk = 16_384;
+
+    //병렬 변환 전용 풀의 스레드 수 (0 이면 코어 수)
+    private int parallelThreads = 0;
+}
@@ -0,0 +1,98 @@
+package com.green.watcher.greenwatcher.common.crs;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  측지 기준계 변환 (+towgs84 7 변수 Helmert 변환)
+ *  경위도(라디안) -> 지심 직교 좌표 -> WGS84 -> 대상 기준계 -> 경위도 순으로 바꾼다. 높이는 0 으로 본다.
+ *  회전은 proj4 와 같은 position vector 방식(초 단위), 축척은 ppm 이다.
+ */
+final class DatumShift {
+
+    private static final double SECONDS_TO_RADIANS = Math.PI / (180 * 3600);
+    private static final int LATITUDE_ITERATIONS = 5;
+
+    private final Ellipsoid source;
+    private final Ellipsoid target;
+    //{dx, dy, dz, rx, ry, rz, m}, 기준계가 WGS84 와 같으면 null
+    private final double[] toWgs84;
+    private final double[] fromWgs84;
+
+    DatumShift(Ellipsoid source, double[] sourceToWgs84, Ellipsoid target, double[] targetToWgs84) {
+        this.source = source;
+        this.target = target;
+        this.toWgs84 = helmert(sourceToWgs84);
+        this.fromWgs84 = helmert(targetToWgs84);
+    }
+
+    void apply(double[] xy, int from, int to) {
+        double[] xyz = new double[3];
+        for (int i = from; i < to; i += 2) {
+            toGeocentric(source, xy[i], xy[i + 1], xyz);
+            if (toWgs84 != null) {
+                toWgs84(toWgs84, xyz);
+            }
+            if (fromWgs84 != null) {
+                fromWgs84(fromWgs84, xyz);
+            }
+            toGeodetic(target, xyz, xy, i);
+        }
+    }
+
+    //proj4 의 +towgs84 값(3 또는 7개)을 라디안 / 배율로 바꾼다.
+    private static double[] helmert(double[] params) {
+        if (params == null) {
+            return null;
+        }
+        double[] h = new double[7];
+        System.arraycopy(params, 0, h, 0, 3);
+        if (params.length == 7) {
+            h[3] = params[3] * SECONDS_TO_RADIANS;
+            h[4] = params[4] * SECONDS_TO_RADIANS;
+            h[5] = params[5] * SECONDS_TO_RADIANS;
+            h[6] = 1 + params[6] / 1e6;
+        } else {
+            h[6] = 1;
+        }
+        return h;
+    }
+
+    private static void toGeocentric(Ellipsoid ellipsoid, double lambda, double phi, double[] xyz) {
+        double sinPhi = Math.sin(phi);
+        double cosPhi = Math.cos(phi);
+        double n = ellipsoid.a / Math.sqrt(1 - ellipsoid.es * sinPhi * sinPhi);
+        xyz[0] = n * cosPhi * Math.cos(lambda);
+        xyz[1] = n * cosPhi * Math.sin(lambda);
+        xyz[2] = n * (1 - ellipsoid.es) * sinPhi;
+    }
+
+    private static void toGeodetic(Ellipsoid ellipsoid, double[] xyz, double[] xy, int i) {
+        double p = Math.hypot(xyz[0], xyz[1]);
+        double phi = Math.atan2(xyz[2], p * (1 - ellipsoid.es));
+        for (int k = 0; k < LATITUDE_ITERATIONS; k++) {
+            double sinPhi = Math.sin(phi);
+            double n = ellipsoid.a / Math.sqrt(1 - ellipsoid.es * sinPhi * sinPhi);
+            double h = p / Math.cos(phi) - n;
+            phi = Math.atan2(xyz[2], p * (1 - ellipsoid.es * n / (n + h)));
+        }
+        xy[i] = Math.atan2(xyz[1], xyz[0]);
+        xy[i + 1] = phi;
+    }
+
+    private static void toWgs84(double[] h, double[] xyz) {
+        double x = xyz[0], y = xyz[1], z = xyz[2];
+        xyz[0] = h[6] * (x - h[5] * y + h[4] * z) + h[0];
+        xyz[1] = h[6] * (h[5] * x + y - h[3] * z) + h[1];
+        xyz[2] = h[6] * (-h[4] * x + h[3] * y + z) + h[2];
+    }
+
+    private static void fromWgs84(double[] h, double[] xyz) {
+        double x = (xyz[0] - h[0]) / h[6];
+        double y = (xyz[1] - h[1]) / h[6];
+        double z = (xyz[2] - h[2]) / h[6];
+        xyz[0] = x + h[5] * y - h[4] * z;
+        xyz[1] = -h[5] * x + y + h[3] * z;
+        xyz[2] = h[4] * x - h[3] * y + z;
+    }
+}
@@ -0,0 +1,86 @@
+package com.green.watcher.greenwatcher.common.crs;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  회전 타원체 (장반경 a, 편평률 f)
+ *  등각 위도 변환은 TransverseMercator, Mercator 가 공통으로 사용한다.
+ */
+public final class Ellipsoid {
+
+    public static final Ellipsoid WGS84 = ofInverseFlattening(6378137.0, 298.257223563);
+    public static final Ellipsoid GRS80 = ofInverseFlattening(6378137.0, 298.257222101);
+    public static final Ellipsoid BESSEL = ofInverseFlattening(6377397.155, 299.1528128);
+
+    //등각 위도 -> 위도 반복 허용 오차(라디안)
+    private static final double LATITUDE_EPSILON = 1e-14;
+    private static final int LATITUDE_ITERATIONS = 15;
+
+    final double a;
+    final double f;
+    //이심률 제곱, 이심률
+    final double es;
+    final double e;
+
+    private Ellipsoid(double a, double f) {
+        this.a = a;
+        this.f = f;
+        this.es = f * (2 - f);
+        this.e = Math.sqrt(es);
+    }
+
+    public static Ellipsoid ofInverseFlattening(double a, double rf) {
+        return new Ellipsoid(a, rf == 0 ? 0 : 1 / rf);
+    }
+
+    public static Ellipsoid ofAxes(double a, double b) {
+        return new Ellipsoid(a, (a - b) / a);
+    }
+
+    //proj4 +ellps 이름
+    public static Ellipsoid named(String name) {
+        return switch (name) {
+            case "WGS84" -> WGS84;
+            case "GRS80" -> GRS80;
+            case "bessel" -> BESSEL;
+            default -> throw new IllegalArgumentException("지원하지 않는 타원체입니다: " + name);
+        };
+    }
+
+    public double getSemiMajorAxis() {
+        return a;
+    }
+
+    public double getFlattening() {
+        return f;
+    }
+
+    //위도 phi 의 등각 위도 tan 값
+    double conformalTan(double phi) {
+        double sin = Math.sin(phi);
+        return Math.sinh(atanh(sin) - e * atanh(e * sin));
+    }
+
+    //등각 위도 chi 에 대응하는 위도
+    double latitudeFromConformal(double chi) {
+        if (e == 0) {
+            return chi;
+        }
+        double base = Math.tan(Math.PI / 4 + chi / 2);
+        double phi = chi;
+        for (int i = 0; i < LATITUDE_ITERATIONS; i++) {
+            double esin = e * Math.sin(phi);
+            double next = 2 * Math.atan(base * Math.pow((1 + esin) / (1 - esin), e / 2)) - Math.PI / 2;
+            if (Math.abs(next - phi) < LATITUDE_EPSILON) {
+                return next;
+            }
+            phi = next;
+        }
+        return phi;
+    }
+
+    static double atanh(double x) {
+        return 0.5 * Math.log1p(2 * x / (1 - x));
+    }
+}
@@ -0,0 +1,27 @@
+package com.green.watcher.greenwatcher.common.crs;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  경위도 좌표계 (+proj=longlat), 단위는 도
+ */
+final class LongLat implements Projection {
+
+    private static final double TO_RADIANS = Math.PI / 180;
+    private static final double TO_DEGREES = 180 / Math.PI;
+
+    @Override
+    public void forward(double[] xy, int from, int to) {
+        for (int i = from; i < to; i++) {
+            xy[i] *= TO_DEGREES;
+        }
+    }
+
+    @Override
+    public void inverse(double[] xy, int from, int to) {
+        for (int i = from; i < to; i++) {
+            xy[i] *= TO_RADIANS;
+        }
+    }
+}
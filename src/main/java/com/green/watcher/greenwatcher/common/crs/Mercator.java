@@ -0,0 +1,51 @@
+package com.green.watcher.greenwatcher.common.crs;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  메르카토르 투영 (+proj=merc)
+ *  EPSG:3857 처럼 구(a = b)로 정의하면 Web Mercator 가 된다.
+ */
+final class Mercator implements Projection {
+
+    //극 부근에서 무한대가 되지 않도록 위도를 자른다.
+    private static final double MAX_LATITUDE = Math.toRadians(89.5);
+
+    private final Ellipsoid ellipsoid;
+    private final double lon0;
+    private final double scale;
+    private final double x0;
+    private final double y0;
+
+    Mercator(Ellipsoid ellipsoid, double lon0, double k0, double x0, double y0) {
+        this.ellipsoid = ellipsoid;
+        this.lon0 = lon0;
+        this.scale = ellipsoid.a * k0;
+        this.x0 = x0;
+        this.y0 = y0;
+    }
+
+    @Override
+    public void forward(double[] xy, int from, int to) {
+        for (int i = from; i < to; i += 2) {
+            double phi = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, xy[i + 1]));
+            xy[i] = x0 + scale * (xy[i] - lon0);
+            xy[i + 1] = y0 + scale * asinh(ellipsoid.conformalTan(phi));
+        }
+    }
+
+    @Override
+    public void inverse(double[] xy, int from, int to) {
+        for (int i = from; i < to; i += 2) {
+            double psi = (xy[i + 1] - y0) / scale;
+            xy[i] = (xy[i] - x0) / scale + lon0;
+            xy[i + 1] = ellipsoid.latitudeFromConformal(Math.atan(Math.sinh(psi)));
+        }
+    }
+
+    private static double asinh(double x) {
+        double abs = Math.abs(x);
+        return Math.copySign(Math.log(abs + Math.sqrt(abs * abs + 1)), x);
+    }
+}
@@ -0,0 +1,17 @@
+package com.green.watcher.greenwatcher.common.crs;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  지도 투영
+ *  좌표는 x, y 가 번갈아 놓인 double[] 이고 from, to 는 배열 인덱스(짝수) 구간이다.
+ *  forward 는 경위도(라디안) -> 투영 좌표, inverse 는 투영 좌표 -> 경위도(라디안) 로 제자리에서 바꾼다.
+ *  구현체는 상태를 가지지 않으므로 여러 스레드가 함께 사용할 수 있다.
+ */
+interface Projection {
+
+    void forward(double[] xy, int from, int to);
+
+    void inverse(double[] xy, int from, int to);
+}
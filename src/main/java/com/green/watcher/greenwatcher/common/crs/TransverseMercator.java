@@ -0,0 +1,93 @@
+package com.green.watcher.greenwatcher.common.crs;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  횡축 메르카토르 투영 (+proj=tmerc)
+ *  Krüger 6차 급수(PROJ 의 etmerc 와 같은 방식)를 사용하여 투영 원점에서 수천 km 까지 mm 이하 오차를 가진다.
+ *  급수 계수와 원점 자오선 호 길이는 생성 시 한 번만 계산한다.
+ */
+final class TransverseMercator implements Projection {
+
+    private static final int ORDER = 6;
+
+    private final Ellipsoid ellipsoid;
+    private final double lon0;
+    private final double x0;
+    private final double y0;
+    //k0 * 정류 반경
+    private final double scale;
+    //원점 위도의 정류 위도 (y 원점 보정)
+    private final double xi0;
+    private final double[] alpha = new double[ORDER + 1];
+    private final double[] beta = new double[ORDER + 1];
+
+    TransverseMercator(Ellipsoid ellipsoid, double lat0, double lon0, double k0, double x0, double y0) {
+        this.ellipsoid = ellipsoid;
+        this.lon0 = lon0;
+        this.x0 = x0;
+        this.y0 = y0;
+
+        double n = ellipsoid.f / (2 - ellipsoid.f);
+        double n2 = n * n, n3 = n2 * n, n4 = n3 * n, n5 = n4 * n, n6 = n5 * n;
+        this.scale = k0 * ellipsoid.a / (1 + n) * (1 + n2 / 4 + n4 / 64 + n6 / 256);
+
+        alpha[1] = n / 2 - 2 * n2 / 3 + 5 * n3 / 16 + 41 * n4 / 180 - 127 * n5 / 288 + 7891 * n6 / 37800;
+        alpha[2] = 13 * n2 / 48 - 3 * n3 / 5 + 557 * n4 / 1440 + 281 * n5 / 630 - 1983433 * n6 / 1935360;
+        alpha[3] = 61 * n3 / 240 - 103 * n4 / 140 + 15061 * n5 / 26880 + 167603 * n6 / 181440;
+        alpha[4] = 49561 * n4 / 161280 - 179 * n5 / 168 + 6601661 * n6 / 7257600;
+        alpha[5] = 34729 * n5 / 80640 - 3418889 * n6 / 1995840;
+        alpha[6] = 212378941 * n6 / 319334400;
+
+        beta[1] = n / 2 - 2 * n2 / 3 + 37 * n3 / 96 - n4 / 360 - 81 * n5 / 512 + 96199 * n6 / 604800;
+        beta[2] = n2 / 48 + n3 / 15 - 437 * n4 / 1440 + 46 * n5 / 105 - 1118711 * n6 / 3870720;
+        beta[3] = 17 * n3 / 480 - 37 * n4 / 840 - 209 * n5 / 4480 + 5569 * n6 / 90720;
+        beta[4] = 4397 * n4 / 161280 - 11 * n5 / 504 - 830251 * n6 / 7257600;
+        beta[5] = 4583 * n5 / 161280 - 108847 * n6 / 3991680;
+        beta[6] = 20648693 * n6 / 638668800;
+
+        double chi0 = Math.atan(ellipsoid.conformalTan(lat0));
+        double xi = chi0;
+        for (int j = 1; j <= ORDER; j++) {
+            xi += alpha[j] * Math.sin(2 * j * chi0);
+        }
+        this.xi0 = xi;
+    }
+
+    @Override
+    public void forward(double[] xy, int from, int to) {
+        for (int i = from; i < to; i += 2) {
+            double lambda = xy[i] - lon0;
+            double t = ellipsoid.conformalTan(xy[i + 1]);
+            double cosLambda = Math.cos(lambda);
+            double xiP = Math.atan2(t, cosLambda);
+            double etaP = Ellipsoid.atanh(Math.sin(lambda) / Math.sqrt(1 + t * t));
+            double xi = xiP;
+            double eta = etaP;
+            for (int j = 1; j <= ORDER; j++) {
+                xi += alpha[j] * Math.sin(2 * j * xiP) * Math.cosh(2 * j * etaP);
+                eta += alpha[j] * Math.cos(2 * j * xiP) * Math.sinh(2 * j * etaP);
+            }
+            xy[i] = x0 + scale * eta;
+            xy[i + 1] = y0 + scale * (xi - xi0);
+        }
+    }
+
+    @Override
+    public void inverse(double[] xy, int from, int to) {
+        for (int i = from; i < to; i += 2) {
+            double eta = (xy[i] - x0) / scale;
+            double xi = (xy[i + 1] - y0) / scale + xi0;
+            double xiP = xi;
+            double etaP = eta;
+            for (int j = 1; j <= ORDER; j++) {
+                xiP -= beta[j] * Math.sin(2 * j * xi) * Math.cosh(2 * j * eta);
+                etaP -= beta[j] * Math.cos(2 * j * xi) * Math.sinh(2 * j * eta);
+            }
+            double chi = Math.asin(Math.sin(xiP) / Math.cosh(etaP));
+            xy[i] = lon0 + Math.atan2(Math.sinh(etaP), Math.cos(xiP));
+            xy[i + 1] = ellipsoid.latitudeFromConformal(chi);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.green.watcher.greenwatcher.common.crs.controller;
+
+import com.green.watcher.greenwatcher.common.crs.dto.CoordinateTransformRequestDTO;
+import com.green.watcher.greenwatcher.common.crs.service.CoordinateTransformService;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  좌표계 변환 컨트롤러
+ *  브라우저에서 점마다 ol.proj.transform 을 호출하는 대신 좌표 묶음을 한 번에 변환한다.
+ *  1.0.1 인증 없이 호출되므로 한 번에 변환할 수 있는 점 수를 50,000 개로 낮춘다.
+ */
+@RestController
+@RequestMapping("/map/crs")
+@RequiredArgsConstructor
+public class CoordinateTransformController {
+
+    //요청 한 번에 변환할 수 있는 최대 점 수 (crs.parallel-threshold 보다 작아 요청 스레드에서 바로 변환된다)
+    private static final int MAX_POINTS = 50_000;
+
+    private final CoordinateTransformService transformService;
+
+    //등록된 좌표계 목록
+    @GetMapping
+    public ResponseEntity<UserApiResponse<Map<String, String>>> definitions() {
+        return ResponseEntity.ok(UserApiResponse.success(transformService.definitions()));
+    }
+
+    /*
+     *  좌표 일괄 변환
+     *  응답 배열은 요청과 같은 순서의 [x0, y0, x1, y1, ...] 이다.
+     */
+    @PostMapping("/transform")
+    public ResponseEntity<UserApiResponse<double[]>> transform(@RequestBody CoordinateTransformRequestDTO request) {
+        double[] coordinates = request.getCoordinates();
+        try {
+            if (request.getFrom() == null || request.getTo() == null || coordinates == null) {
+                throw new IllegalArgumentException("from, to, coordinates 가 필요합니다.");
+            }
+            if (coordinates.length % 2 != 0 || coordinates.length / 2 > MAX_POINTS) {
+                throw new IllegalArgumentException("coordinates 는 " + MAX_POINTS + " 개 이하의 x, y 쌍이어야 합니다.");
+            }
+            transformService.transform(request.getFrom(), request.getTo(), coordinates);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(UserApiResponse.fail(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        }
+        return ResponseEntity.ok(UserApiResponse.success(coordinates));
+    }
+}
@@ -0,0 +1,22 @@
+package com.green.watcher.greenwatcher.common.crs.dto;
+
+import lombok.*;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  좌표 일괄 변환 요청 객체
+ *  coordinates 는 [x0, y0, x1, y1, ...] 형식의 평탄한 배열이다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoordinateTransformRequestDTO {
+
+    private String from;
+    private String to;
+    private double[] coordinates;
+}
@@ -0,0 +1,199 @@
+package com.green.watcher.greenwatcher.common.crs.service;
+
+import com.green.watcher.greenwatcher.common.crs.CrsDefinition;
+import com.green.watcher.greenwatcher.common.crs.CrsPipeline;
+import com.green.watcher.greenwatcher.common.crs.CrsProperties;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Geometry;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  좌표계 변환 service 클래스
+ *  proj4-defs.js 와 같은 한국 좌표계 정의를 가지고, 좌표계 쌍마다 만든 CrsPipeline 을 캐시하여 재사용한다.
+ *  좌표는 x, y 가 번갈아 놓인 double[] 로 주고받으며, 점이 많으면 구간을 나누어 여러 코어에서 변환한다.
+ *  import / export / 경계 조회 등 서버 측 모듈이 공통으로 사용한다.
+ *  1.0.1 병렬 변환을 공용 ForkJoinPool 대신 크기가 정해진 전용 풀에서 한다.
+ */
+public class CoordinateTransformService implements DisposableBean {
+
+    public static final String WGS84 = "EPSG:4326";
+
+    //proj4-defs.js 의 projDefinitions 와 같은 정의 + 경위도 / Web Mercator / Bessel 중부원점
+    private static final Map<String, String> BUILT_IN = new LinkedHashMap<>();
+
+    static {
+        BUILT_IN.put("EPSG:4326", "+proj=longlat +datum=WGS84 +no_defs");
+        BUILT_IN.put("EPSG:3857", "+proj=merc +a=6378137 +b=6378137 +lat_ts=0 +lon_0=0 +x_0=0 +y_0=0 +k=1 +units=m +nadgrids=@null +no_defs");
+        BUILT_IN.put("EPSG:5174", "+proj=tmerc +lat_0=38 +lon_0=127.0028902777778 +k=1 +x_0=200000 +y_0=500000 +ellps=bessel +units=m +no_defs +towgs84=-115.80,474.99,674.11,1.16,-2.31,-1.63,6.43");
+        BUILT_IN.put("EPSG:5178", "+proj=tmerc +lat_0=38 +lon_0=127.5 +k=0.9996 +x_0=500000 +y_0=2000000 +ellps=GRS80 +units=m +no_defs");
+        BUILT_IN.put("EPSG:5179", "+proj=tmerc +lat_0=38 +lon_0=127.5 +k=0.9996 +x_0=1000000 +y_0=2000000 +ellps=GRS80 +towgs84=0,0,0,0,0,0,0 +units=m +no_defs");
+        BUILT_IN.put("EPSG:5180", "+proj=tmerc +lat_0=38 +lon_0=125 +k=1 +x_0=200000 +y_0=500000 +ellps=GRS80 +units=m +no_defs");
+        BUILT_IN.put("EPSG:5181", "+proj=tmerc +lat_0=38 +lon_0=127 +k=1 +x_0=200000 +y_0=500000 +ellps=GRS80 +units=m +no_defs");
+        BUILT_IN.put("EPSG:5182", "+proj=tmerc +lat_0=38 +lon_0=127 +k=1 +x_0=200000 +y_0=550000 +ellps=GRS80 +units=m +no_defs");
+        BUILT_IN.put("EPSG:5183", "+proj=tmerc +lat_0=38 +lon_0=129 +k=1 +x_0=200000 +y_0=500000 +ellps=GRS80 +units=m +no_defs");
+        BUILT_IN.put("EPSG:5184", "+proj=tmerc +lat_0=38 +lon_0=131 +k=1 +x_0=200000 +y_0=500000 +ellps=GRS80 +units=m +no_defs");
+        BUILT_IN.put("EPSG:5185", "+proj=tmerc +lat_0=38 +lon_0=125 +k=1 +x_0=200000 +y_0=600000 +ellps=GRS80 +units=m +no_defs");
+        BUILT_IN.put("EPSG:5186", "+proj=tmerc +lat_0=38 +lon_0=127 +k=1 +x_0=200000 +y_0=600000 +ellps=GRS80 +units=m +no_defs");
+        BUILT_IN.put("EPSG:5187", "+proj=tmerc +lat_0=38 +lon_0=129 +k=1 +x_0=200000 +y_0=600000 +ellps=GRS80 +units=m +no_defs");
+        BUILT_IN.put("EPSG:5188", "+proj=tmerc +lat_0=38 +lon_0=131 +k=1 +x_0=200000 +y_0=600000 +ellps=GRS80 +units=m +no_defs");
+    }
+
+    private final Map<String, CrsDefinition> definitions = new LinkedHashMap<>();
+    private final Map<String, CrsPipeline> pipelines = new ConcurrentHashMap<>();
+    private final int parallelThreshold;
+    private final int parallelChunk;
+    private final ThreadPoolExecutor transformExecutor;
+
+    public CoordinateTransformService(CrsProperties properties) {
+        Map<String, String> sources = new LinkedHashMap<>(BUILT_IN);
+        sources.putAll(properties.getDefinitions());
+        sources.forEach((code, proj4) -> definitions.put(normalize(code), CrsDefinition.parse(normalize(code), proj4)));
+        this.parallelThreshold = properties.getParallelThreshold();
+        this.parallelChunk = Math.max(1, properties.getParallelChunk());
+
+        //CPU 연산이므로 parallelThreads(0 이면 코어 수)만 돌린다. 큐가 차면 호출 스레드가 직접 변환하여 속도를 맞춘다.
+        int threads = properties.getParallelThreads() > 0 ? properties.getParallelThreads() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.transformExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "crs-transform-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    //등록된 좌표계 코드 -> proj4 문자열
+    public Map<String, String> definitions() {
+        Map<String, String> result = new LinkedHashMap<>();
+        definitions.forEach((code, definition) -> result.put(code, definition.getProj4()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /*
+     *  좌표계 쌍의 변환 파이프라인 (처음 요청 시 만들어 캐시한다)
+     *  등록되지 않은 코드면 IllegalArgumentException
+     */
+    public CrsPipeline pipeline(String from, String to) {
+        String source = normalize(from);
+        String target = normalize(to);
+        return pipelines.computeIfAbsent(source + '>' + target,
+                key -> CrsPipeline.compile(definition(source), definition(target)));
+    }
+
+    /*
+     *  x, y 가 번갈아 놓인 좌표 배열을 제자리에서 변환한다.
+     *  점 수가 parallelThreshold 이상이면 parallelChunk 점씩 나누어 전용 풀에서 변환한다.
+     */
+    public void transform(String from, String to, double[] xy) {
+        CrsPipeline pipeline = pipeline(from, to);
+        int points = xy.length / 2;
+        if (points < parallelThreshold) {
+            pipeline.transform(xy);
+            return;
+        }
+        int chunks = (points + parallelChunk - 1) / parallelChunk;
+        List<Future<?>> futures = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int start = chunk * parallelChunk * 2;
+            int end = Math.min(xy.length, start + parallelChunk * 2);
+            futures.add(transformExecutor.submit(() -> pipeline.transform(xy, start, end)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(false));
+            throw new IllegalStateException("좌표 변환이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /*
+     *  geometry 의 좌표를 변환한 사본을 돌려준다.
+     *  모든 좌표를 배열 하나에 모아 한 번에 변환한 뒤 다시 써 넣는다.
+     */
+    public Geometry transform(Geometry geometry, String from, String to) {
+        Geometry copy = geometry.copy();
+        double[] xy = new double[copy.getNumPoints() * 2];
+        copy.apply(new PackingFilter(xy, false));
+        transform(from, to, xy);
+        copy.apply(new PackingFilter(xy, true));
+        return copy;
+    }
+
+    @Override
+    public void destroy() {
+        transformExecutor.shutdownNow();
+    }
+
+    private CrsDefinition definition(String code) {
+        CrsDefinition definition = definitions.get(code);
+        if (definition == null) {
+            throw new IllegalArgumentException("등록되지 않은 좌표계입니다: " + code);
+        }
+        return definition;
+    }
+
+    private static String normalize(String code) {
+        return code.trim().toUpperCase();
+    }
+
+    //geometry 좌표를 배열로 모으거나(write = false) 배열 값을 좌표에 써 넣는다(write = true).
+    private static final class PackingFilter implements CoordinateSequenceFilter {
+
+        private final double[] xy;
+        private final boolean write;
+        private int index;
+
+        private PackingFilter(double[] xy, boolean write) {
+            this.xy = xy;
+            this.write = write;
+        }
+
+        @Override
+        public void filter(CoordinateSequence sequence, int i) {
+            if (write) {
+                sequence.setOrdinate(i, 0, xy[index++]);
+                sequence.setOrdinate(i, 1, xy[index++]);
+            } else {
+                xy[index++] = sequence.getX(i);
+                xy[index++] = sequence.getY(i);
+            }
+        }
+
+        @Override
+        public boolean isDone() {
+            return false;
+        }
+
+        @Override
+        public boolean isGeometryChanged() {
+            return write;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.green.watcher.greenwatcher.common.feature.controller;
+
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import com.green.watcher.greenwatcher.common.feature.dto.FeatureDTO;
+import com.green.watcher.greenwatcher.common.feature.dto.FeaturePageDTO;
+import com.green.watcher.greenwatcher.common.feature.dto.FeatureQuery;
+import com.green.watcher.greenwatcher.common.feature.flatgeobuf.FlatGeobufService;
+import com.green.watcher.greenwatcher.common.feature.flatgeobuf.FlatGeobufWriter;
+import com.green.watcher.greenwatcher.common.feature.service.SpatialFeatureService;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.3
+ *  공간 피처 조회 / import 컨트롤러
+ *  좌표는 EPSG:4326(경도, 위도) 기준이다.
+ *  Accept: application/flatgeobuf 요청은 JSON 대신 FlatGeobuf(인덱스 포함)로 응답한다.
+ *  import 에 crs 파라미터를 주면 해당 좌표계의 GeoJSON 을 EPSG:4326 으로 변환하여 저장한다.
+ *  1.0.3 피처가 없는 레이어의 .fgb 파일 요청은 404 로 응답한다.
+ *        가까운 피처 조회의 k, maxDistance 범위를 검사한다.
+ */
+@RestController
+@RequestMapping("/map/features")
+@RequiredArgsConstructor
+public class FeatureController {
+
+    private static final int MAX_PAGE_SIZE = 5000;
+    private static final int MAX_NEAREST = 100;
+    //가까운 피처 조회 최대 거리(도)
+    private static final double MAX_NEAREST_DISTANCE = 1.0;
+
+    private final SpatialFeatureService featureService;
+
+    private final FlatGeobufService flatGeobufService;
+
+    /*
+     *  뷰포트 피처 조회
+     *  bbox=minX,minY,maxX,maxY, cursor 는 이전 응답의 nextCursor
+     */
+    @GetMapping("/{layer}")
+    public ResponseEntity<UserApiResponse<FeaturePageDTO>> findByViewport(@PathVariable String layer,
+                                                                         @RequestParam String bbox,
+                                                                         @RequestParam(required = false) Long cursor,
+                                                                         @RequestParam(defaultValue = "500") int size) {
+        Envelope envelope;
+        try {
+            envelope = parseBbox(bbox);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(UserApiResponse.fail(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        }
+        FeatureQuery query = FeatureQuery.builder()
+                .layer(layer)
+                .bbox(envelope)
+                .afterId(cursor)
+                .limit(Math.max(1, Math.min(size, MAX_PAGE_SIZE)))
+                .build();
+        return ResponseEntity.ok(UserApiResponse.success(featureService.findPage(query)));
+    }
+
+    /*
+     *  뷰포트 피처 FlatGeobuf 조회
+     *  페이지 없이 bbox 에 걸리는 모든 피처를 스트리밍으로 인코딩하여 보낸다.
+     */
+    @GetMapping(value = "/{layer}", produces = FlatGeobufWriter.MEDIA_TYPE)
+    public void findByViewportFlatGeobuf(@PathVariable String layer,
+                                         @RequestParam String bbox,
+                                         HttpServletResponse response) throws IOException {
+        Envelope envelope;
+        try {
+            envelope = parseBbox(bbox);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return;
+        }
+        response.setContentType(FlatGeobufWriter.MEDIA_TYPE);
+        flatGeobufService.write(FeatureQuery.builder().layer(layer).bbox(envelope).build(), response.getOutputStream());
+    }
+
+    /*
+     *  레이어 전체 FlatGeobuf 파일
+     *  Range 요청을 지원하므로 클라이언트가 인덱스로 bbox 에 걸리는 피처 구간만 읽을 수 있다.
+     *  피처가 없는 레이어는 404 이다.
+     */
+    @GetMapping("/{layer}/layer.fgb")
+    public ResponseEntity<Resource> layerFile(@PathVariable String layer) throws IOException {
+        FlatGeobufService.LayerFile layerFile = flatGeobufService.layerFile(layer).orElse(null);
+        if (layerFile == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .eTag(layerFile.getTag())
+                .contentType(MediaType.parseMediaType(FlatGeobufWriter.MEDIA_TYPE))
+                .body(new FileSystemResource(layerFile.getPath()));
+    }
+
+    /*
+     *  가까운 피처 조회
+     *  maxDistance 는 좌표계 단위(도) 이다. k 는 1 ~ 100, maxDistance 는 0 초과 1도 이하
+     */
+    @GetMapping("/{layer}/nearest")
+    public ResponseEntity<UserApiResponse<List<FeatureDTO>>> findNearest(@PathVariable String layer,
+                                                                        @RequestParam double x,
+                                                                        @RequestParam double y,
+                                                                        @RequestParam(defaultValue = "10") int k,
+                                                                        @RequestParam(defaultValue = "0.1") double maxDistance) {
+        if (k < 1 || k > MAX_NEAREST) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(UserApiResponse.fail(HttpStatus.BAD_REQUEST.value(), "k 는 1 ~ " + MAX_NEAREST + " 이어야 합니다."));
+        }
+        if (!(maxDistance > 0 && maxDistance <= MAX_NEAREST_DISTANCE)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(UserApiResponse.fail(HttpStatus.BAD_REQUEST.value(), "maxDistance 는 0 보다 크고 " + MAX_NEAREST_DISTANCE + " 이하여야 합니다."));
+        }
+        return ResponseEntity.ok(UserApiResponse.success(featureService.findNearest(layer,
+                GeometryConverter.geometryFactory().createPoint(new Coordinate(x, y)), k, maxDistance)));
+    }
+
+    /*
+     *  GeoJSON FeatureCollection import
+     *  요청 본문을 스트리밍으로 읽는다. crs 는 원본 좌표계 코드(예: EPSG:5186) 이다.
+     */
+    @PostMapping("/{layer}")
+    public ResponseEntity<UserApiResponse<Integer>> importGeoJson(@PathVariable String layer,
+                                                                  @RequestParam(required = false) String crs,
+                                                                  HttpServletRequest request) throws IOException {
+        try {
+            return ResponseEntity.ok(UserApiResponse.success(featureService.importGeoJson(layer, request.getInputStream(), crs)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(UserApiResponse.fail(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        }
+    }
+
+    //"minX,minY,maxX,maxY" 형식의 bbox 파싱
+    static Envelope parseBbox(String bbox) {
+        String[] parts = bbox.split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("bbox 는 minX,minY,maxX,maxY 형식이어야 합니다.");
+        }
+        try {
+            return new Envelope(Double.parseDouble(parts[0].trim()), Double.parseDouble(parts[2].trim()),
+                    Double.parseDouble(parts[1].trim()), Double.parseDouble(parts[3].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("bbox 좌표가 숫자가 아닙니다.");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.green.watcher.greenwatcher.common.feature.controller;
+
+import com.green.watcher.greenwatcher.common.feature.dto.RouteCorridorDTO;
+import com.green.watcher.greenwatcher.common.feature.dto.RouteCorridorRequestDTO;
+import com.green.watcher.greenwatcher.common.feature.service.RouteCorridorService;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  경로 주변 피처 조회 컨트롤러
+ *  경로탐색(OSRM) 결과 경로를 따라 buffer(m) 안에 있는 CCTV 를 경로 진행 순서로 돌려준다.
+ */
+@RestController
+@RequestMapping("/map/corridor")
+@RequiredArgsConstructor
+public class RouteCorridorController {
+
+    private final RouteCorridorService corridorService;
+
+    /*
+     *  경로 주변 피처 조회
+     *  geometry 는 GeoJSON LineString(EPSG:4326), buffer 는 미터
+     */
+    @PostMapping
+    public ResponseEntity<UserApiResponse<RouteCorridorDTO>> findAlongRoute(@RequestBody RouteCorridorRequestDTO request) {
+        try {
+            return ResponseEntity.ok(UserApiResponse.success(corridorService.findAlongRoute(request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(UserApiResponse.fail(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        }
+    }
+}
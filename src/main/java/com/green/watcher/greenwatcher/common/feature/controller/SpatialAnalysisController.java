@@ -0,0 +1,42 @@
+package com.green.watcher.greenwatcher.common.feature.controller;
+
+import com.green.watcher.greenwatcher.common.feature.dto.SpatialAnalysisDTO;
+import com.green.watcher.greenwatcher.common.feature.dto.SpatialAnalysisRequestDTO;
+import com.green.watcher.greenwatcher.common.feature.service.SpatialAnalysisService;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  지도에 그린 도형(다각형, 원) 공간 분석 컨트롤러
+ *  도형 안의 CCTV, 행정구역 등 레이어 피처와 겹치는 면적을 돌려준다.
+ */
+@RestController
+@RequestMapping("/map/analysis")
+@RequiredArgsConstructor
+public class SpatialAnalysisController {
+
+    private final SpatialAnalysisService analysisService;
+
+    /*
+     *  도형 분석
+     *  geometry(GeoJSON) 또는 center([경도, 위도]) + radius(미터) 중 하나를 보낸다.
+     */
+    @PostMapping
+    public ResponseEntity<UserApiResponse<SpatialAnalysisDTO>> analyze(@RequestBody SpatialAnalysisRequestDTO request) {
+        try {
+            return ResponseEntity.ok(UserApiResponse.success(analysisService.analyze(request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(UserApiResponse.fail(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.green.watcher.greenwatcher.common.feature.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  JTS Geometry <-> EWKB 바이트 변환기
+ *  H2 / PostgreSQL 양쪽에서 동일하게 동작하도록 geometry 를 VARBINARY(bytea) 컬럼에 EWKB 로 저장한다.
+ *  WKBReader / WKBWriter 는 thread-safe 하지 않으므로 호출마다 생성한다.
+ */
+@Converter
+public class GeometryConverter implements AttributeConverter<Geometry, byte[]> {
+
+    public static final int SRID = 4326;
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), SRID);
+
+    @Override
+    public byte[] convertToDatabaseColumn(Geometry geometry) {
+        if (geometry == null) {
+            return null;
+        }
+        return new WKBWriter(2, true).write(geometry);
+    }
+
+    @Override
+    public Geometry convertToEntityAttribute(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return new WKBReader(GEOMETRY_FACTORY).read(bytes);
+        } catch (ParseException e) {
+            throw new IllegalStateException("geometry 컬럼을 읽을 수 없습니다.", e);
+        }
+    }
+
+    public static GeometryFactory geometryFactory() {
+        return GEOMETRY_FACTORY;
+    }
+}
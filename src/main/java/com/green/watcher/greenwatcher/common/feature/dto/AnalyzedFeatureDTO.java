@@ -0,0 +1,28 @@
+package com.green.watcher.greenwatcher.common.feature.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  공간 분석에 걸린 피처 객체
+ *  면 피처만 overlapArea(㎡)와 overlapRatio(피처 면적 대비 겹친 비율)를 가진다.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnalyzedFeatureDTO {
+
+    private Long id;
+    private String name;
+
+    @JsonRawValue
+    private String properties;
+
+    private Double overlapArea;
+    private Double overlapRatio;
+}
@@ -0,0 +1,24 @@
+package com.green.watcher.greenwatcher.common.feature.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  경로 주변 피처 객체
+ *  offset 은 경로 시작점부터 피처와 가장 가까운 경로 지점까지의 경로 거리(m),
+ *  distance 는 그 지점과 피처 사이의 거리(m) 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class CorridorFeatureDTO {
+
+    private Long id;
+    private String name;
+    private double x;
+    private double y;
+    private double offset;
+    private double distance;
+}
@@ -0,0 +1,44 @@
+package com.green.watcher.greenwatcher.common.feature.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.green.watcher.greenwatcher.common.feature.entity.SpatialFeature;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.locationtech.jts.io.geojson.GeoJsonWriter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  공간 피처 응답 객체
+ *  geometry 는 GeoJSON, properties 는 저장된 JSON 문자열을 그대로 내려준다.
+ */
+@Getter
+@AllArgsConstructor
+public class FeatureDTO {
+
+    private Long id;
+    private String layer;
+    private String name;
+
+    @JsonRawValue
+    private String properties;
+
+    @JsonRawValue
+    private String geometry;
+
+    /*
+     *  entity -> dto 변환 메서드
+     */
+    public static FeatureDTO from(SpatialFeature feature) {
+        GeoJsonWriter writer = new GeoJsonWriter();
+        writer.setEncodeCRS(false);
+        return new FeatureDTO(
+                feature.getId(),
+                feature.getLayer(),
+                feature.getName(),
+                feature.getProperties(),
+                writer.write(feature.getGeometry())
+        );
+    }
+}
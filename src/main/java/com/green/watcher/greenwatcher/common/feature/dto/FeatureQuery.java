@@ -0,0 +1,42 @@
+package com.green.watcher.greenwatcher.common.feature.dto;
+
+import com.green.watcher.greenwatcher.common.feature.enumerate.SpatialRelation;
+import lombok.Builder;
+import lombok.Getter;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  공간 피처 검색 조건 객체
+ *  bbox 만 주면 envelope 인덱스 검색만 수행하고, geometry 를 주면 후보를 JTS 로 정밀 검사한다.
+ *  afterId 는 keyset 페이지네이션 커서(이전 페이지 마지막 피처 id)이다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class FeatureQuery {
+
+    private String layer;
+
+    private Envelope bbox;
+
+    private Geometry geometry;
+
+    @Builder.Default
+    private SpatialRelation relation = SpatialRelation.INTERSECTS;
+
+    private Long afterId;
+
+    @Builder.Default
+    private int limit = 500;
+
+    //검색에 사용할 bbox (geometry 만 주어진 경우 geometry 의 envelope)
+    public Envelope searchEnvelope() {
+        if (bbox != null) {
+            return bbox;
+        }
+        return geometry.getEnvelopeInternal();
+    }
+}
@@ -0,0 +1,26 @@
+package com.green.watcher.greenwatcher.common.feature.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  레이어 하나의 공간 분석 결과 객체
+ *  count 는 도형에 걸리는 전체 피처 수, features 는 그중 limit 개이다.
+ *  면 피처는 겹치는 면적이 큰 순서, 나머지는 id 순서이다.
+ */
+@Getter
+@AllArgsConstructor
+public class LayerAnalysisDTO {
+
+    private String layer;
+    private long count;
+    private boolean truncated;
+    //면 피처가 도형과 겹치는 면적 합(㎡)
+    private double overlapArea;
+    private List<AnalyzedFeatureDTO> features;
+}
@@ -0,0 +1,26 @@
+package com.green.watcher.greenwatcher.common.feature.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  경로 주변 피처 조회 결과 객체
+ *  features 는 경로 진행 순서(offset 오름차순) 이며, count 는 경로 주변 전체 피처 수이다.
+ */
+@Getter
+@AllArgsConstructor
+public class RouteCorridorDTO {
+
+    private String layer;
+    //경로 길이(m)
+    private double length;
+    private long elapsedMillis;
+    private long count;
+    private boolean truncated;
+    private List<CorridorFeatureDTO> features;
+}
@@ -0,0 +1,27 @@
+package com.green.watcher.greenwatcher.common.feature.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.*;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  경로 주변 피처(CCTV) 조회 요청 객체
+ *  geometry 는 경로 LineString(GeoJSON, EPSG:4326) 으로 OSRM 응답의 routes[0].geometry 를 그대로 보낸다.
+ *  layer 를 비우면 feature.corridor.layer 를 조회한다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteCorridorRequestDTO {
+
+    private JsonNode geometry;
+    //경로 양옆 탐색 거리(미터)
+    private Double buffer;
+    private String layer;
+    //응답에 담을 최대 피처 수 (경로 앞쪽부터)
+    private Integer limit;
+}
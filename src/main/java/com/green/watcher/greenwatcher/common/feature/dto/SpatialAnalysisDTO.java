@@ -0,0 +1,22 @@
+package com.green.watcher.greenwatcher.common.feature.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  그린 도형 공간 분석 응답 객체
+ *  area 는 그린 도형의 면적(㎡)이다.
+ */
+@Getter
+@AllArgsConstructor
+public class SpatialAnalysisDTO {
+
+    private double area;
+    private long elapsedMillis;
+    private List<LayerAnalysisDTO> layers;
+}
@@ -0,0 +1,29 @@
+package com.green.watcher.greenwatcher.common.feature.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  그린 도형 공간 분석 요청 객체
+ *  다각형은 geometry(GeoJSON, EPSG:4326)로, 원은 center([경도, 위도]) + radius(미터)로 보낸다.
+ *  layers 를 비우면 feature.analysis.default-layers 를 분석한다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpatialAnalysisRequestDTO {
+
+    private JsonNode geometry;
+    private double[] center;
+    private Double radius;
+    private List<String> layers;
+    //레이어마다 응답에 담을 최대 피처 수 (개수는 전체를 센다)
+    private Integer limit;
+}
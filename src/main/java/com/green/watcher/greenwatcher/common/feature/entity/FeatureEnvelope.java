@@ -0,0 +1,60 @@
+package com.green.watcher.greenwatcher.common.feature.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  공간 피처 bbox(envelope) Entity
+ *  geometry 본문 없이 레이어와 bbox 만 가지는 좁은 테이블로, 뷰포트 검색은 이 테이블의 인덱스만 훑고
+ *  후보 id 로 T_FEATURE 를 조회한다. id 는 SpatialFeature 의 id 와 같다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "T_FEATURE_ENVELOPE", indexes = {
+        @Index(name = "IDX_FEATURE_ENVELOPE_BBOX", columnList = "LAYER, MIN_X, MAX_X, MIN_Y, MAX_Y"),
+        @Index(name = "IDX_FEATURE_ENVELOPE_LAYER_ID", columnList = "LAYER, ID")
+})
+public class FeatureEnvelope {
+
+    @Id
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "LAYER", nullable = false, length = 100)
+    private String layer;
+
+    @Column(name = "MIN_X", nullable = false)
+    private double minX;
+
+    @Column(name = "MIN_Y", nullable = false)
+    private double minY;
+
+    @Column(name = "MAX_X", nullable = false)
+    private double maxX;
+
+    @Column(name = "MAX_Y", nullable = false)
+    private double maxY;
+
+    /*
+     *  피처로부터 envelope 를 만든다.
+     */
+    public static FeatureEnvelope of(SpatialFeature feature) {
+        Envelope envelope = feature.getGeometry().getEnvelopeInternal();
+        return FeatureEnvelope.builder()
+                .id(feature.getId())
+                .layer(feature.getLayer())
+                .minX(envelope.getMinX())
+                .minY(envelope.getMinY())
+                .maxX(envelope.getMaxX())
+                .maxY(envelope.getMaxY())
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.green.watcher.greenwatcher.common.feature.entity;
+
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import jakarta.persistence.*;
+import lombok.*;
+import org.locationtech.jts.geom.Geometry;
+
+import java.time.LocalDateTime;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  공간 피처 Entity
+ *  좌표계는 EPSG:4326(경위도) 이며, bbox 검색은 T_FEATURE_ENVELOPE 테이블을 사용한다.
+ *  @See FeatureEnvelope
+ *  1.0.1 컬럼 길이를 상수로 두어 import 검증에서 함께 사용한다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "T_FEATURE", indexes = {
+        @Index(name = "IDX_FEATURE_LAYER_ID", columnList = "LAYER, ID")
+})
+public class SpatialFeature {
+
+    public static final int LAYER_LENGTH = 100;
+    public static final int NAME_LENGTH = 255;
+    public static final int PROPERTIES_LENGTH = 4000;
+
+    //insert 배치를 위해 IDENTITY 대신 시퀀스를 사용한다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "feature_seq")
+    @SequenceGenerator(name = "feature_seq", sequenceName = "SEQ_FEATURE", allocationSize = 100)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "LAYER", nullable = false, length = LAYER_LENGTH)
+    private String layer;
+
+    @Column(name = "NAME", length = NAME_LENGTH)
+    private String name;
+
+    //피처 속성(JSON 문자열)
+    @Column(name = "PROPERTIES", length = PROPERTIES_LENGTH)
+    private String properties;
+
+    @Convert(converter = GeometryConverter.class)
+    @Column(name = "GEOM", nullable = false, length = 10_000_000)
+    private Geometry geometry;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
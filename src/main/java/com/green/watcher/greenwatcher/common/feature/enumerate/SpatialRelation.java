@@ -0,0 +1,14 @@
+package com.green.watcher.greenwatcher.common.feature.enumerate;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  공간 검색 관계 enum 클래스
+ *  INTERSECTS : 검색 영역과 겹치는 피처
+ *  WITHIN     : 검색 영역 안에 완전히 포함되는 피처
+ */
+public enum SpatialRelation {
+    INTERSECTS,
+    WITHIN
+}
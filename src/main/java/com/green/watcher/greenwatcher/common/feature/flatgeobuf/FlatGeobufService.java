@@ -0,0 +1,234 @@
+package com.green.watcher.greenwatcher.common.feature.flatgeobuf;
+
+import com.green.watcher.greenwatcher.common.feature.dto.FeatureQuery;
+import com.green.watcher.greenwatcher.common.feature.repository.FeatureEnvelopeRepository;
+import com.green.watcher.greenwatcher.common.feature.repository.FeatureLayerVersion;
+import com.green.watcher.greenwatcher.common.feature.service.SpatialFeatureService;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.2
+ *  FlatGeobuf 응답 service 클래스
+ *  1. 뷰포트 조회 : 검색 결과를 페이지 단위로 읽으며 FlatGeobufWriter 로 바로 인코딩하여 응답한다.
+ *  2. 레이어 파일 : 레이어 전체를 .fgb 파일로 만들어 두고 레이어 버전(피처 수, 최대 id)이 바뀔 때만 다시 만든다.
+ *     클라이언트는 이 파일의 header 와 인덱스만 먼저 읽고 bbox 에 걸리는 피처를 HTTP Range 요청으로 가져간다.
+ *  1.0.1 피처가 없는 레이어는 파일을 만들지 않고 빈 결과를 돌려주며, 캐시 레이어 수와 잠금 수를 제한한다.
+ *  1.0.2 다시 만들거나 캐시에서 밀려난 파일은 바로 지우지 않고 deleteGrace 가 지난 뒤 다음 호출에서 지운다.
+ *        그 사이 이미 경로를 받아 간 응답(Range 요청 포함)이 파일을 열 수 있고, 한 번 연 파일은 지워져도 끝까지 읽힌다.
+ */
+@Slf4j
+@Service
+public class FlatGeobufService {
+
+    //뷰포트 / 레이어 조회 시 한 번에 읽는 피처 수
+    private static final int PAGE_SIZE = 1000;
+    private static final Envelope WORLD = new Envelope(-Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, Double.MAX_VALUE);
+    //레이어 파일 생성 잠금 개수 (레이어 이름 hash 로 나눠 쓴다)
+    private static final int LOCK_STRIPES = 64;
+
+    private final SpatialFeatureService featureService;
+    private final FeatureEnvelopeRepository envelopeRepository;
+    private final Path cacheDir;
+    private final int maxLayers;
+    private final long deleteGraceNanos;
+    private final Map<String, LayerFile> layerFiles = new ConcurrentHashMap<>();
+    //지울 차례를 기다리는 파일 (교체 / 제거된 순서)
+    private final Queue<RetiredFile> retiredFiles = new ConcurrentLinkedQueue<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    @Autowired
+    public FlatGeobufService(SpatialFeatureService featureService, FeatureEnvelopeRepository envelopeRepository,
+                             @Value("${feature.flatgeobuf.cache-dir:${java.io.tmpdir}/greenwatcher-fgb}") Path cacheDir,
+                             @Value("${feature.flatgeobuf.max-layers:64}") int maxLayers,
+                             @Value("${feature.flatgeobuf.delete-grace:5m}") Duration deleteGrace) {
+        this.featureService = featureService;
+        this.envelopeRepository = envelopeRepository;
+        this.cacheDir = cacheDir;
+        this.maxLayers = Math.max(1, maxLayers);
+        this.deleteGraceNanos = deleteGrace.toNanos();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /*
+     *  검색 조건에 맞는 피처를 FlatGeobuf 로 쓴다.
+     *  커서 / 크기 제한 없이 조건에 맞는 전체 피처를 보낸다.
+     */
+    public void write(FeatureQuery query, OutputStream out) throws IOException {
+        try (FlatGeobufWriter writer = new FlatGeobufWriter(query.getLayer())) {
+            addAll(writer, query.toBuilder().afterId(null).limit(PAGE_SIZE).build());
+            writer.writeTo(out);
+        }
+    }
+
+    /*
+     *  레이어 전체 .fgb 파일
+     *  레이어 버전이 같으면 만들어 둔 파일을 그대로 돌려주고, 다르면 같은 레이어의 동시 요청 중 하나만 다시 만든다.
+     *  피처가 없는 레이어(없는 레이어 이름 포함)는 아무것도 만들지 않고 빈 값을 돌려준다.
+     */
+    public Optional<LayerFile> layerFile(String layer) throws IOException {
+        purgeRetired();
+        FeatureLayerVersion version = envelopeRepository.findLayerVersion(layer);
+        if (version.getCount() == 0) {
+            evict(layer);
+            return Optional.empty();
+        }
+        String tag = version.getCount() + "-" + (version.getMaxId() == null ? 0 : version.getMaxId());
+        LayerFile current = layerFiles.get(layer);
+        if (current != null && current.getTag().equals(tag)) {
+            current.touch();
+            return Optional.of(current);
+        }
+        synchronized (locks[Math.floorMod(layer.hashCode(), LOCK_STRIPES)]) {
+            current = layerFiles.get(layer);
+            if (current != null && current.getTag().equals(tag)) {
+                current.touch();
+                return Optional.of(current);
+            }
+            if (current == null) {
+                evictLeastRecentlyUsed();
+            }
+            Files.createDirectories(cacheDir);
+            String baseName = HexFormat.of().formatHex(layer.getBytes(StandardCharsets.UTF_8));
+            Path target = cacheDir.resolve(baseName + "-" + tag + ".fgb");
+            Path temp = Files.createTempFile(cacheDir, baseName, ".part");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                write(FeatureQuery.builder().layer(layer).bbox(WORLD).build(), out);
+            }
+            //같은 버전으로 다시 만든 경우 기다리던 삭제를 취소한다.
+            retiredFiles.removeIf(retired -> retired.path.equals(target));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LayerFile created = new LayerFile(target, tag);
+            layerFiles.put(layer, created);
+            if (current != null && !current.getPath().equals(target)) {
+                retire(current);
+            }
+            log.info("flatgeobuf layer file created: {} ({} features, {} bytes)", layer, version.getCount(), Files.size(target));
+            return Optional.of(created);
+        }
+    }
+
+    //캐시 레이어 수가 최대이면 가장 오래 쓰지 않은 레이어 파일을 내린다.
+    private void evictLeastRecentlyUsed() {
+        while (layerFiles.size() >= maxLayers) {
+            Map.Entry<String, LayerFile> oldest = null;
+            for (Map.Entry<String, LayerFile> entry : layerFiles.entrySet()) {
+                if (oldest == null || entry.getValue().lastUsed < oldest.getValue().lastUsed) {
+                    oldest = entry;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            if (layerFiles.remove(oldest.getKey(), oldest.getValue())) {
+                retire(oldest.getValue());
+            }
+        }
+    }
+
+    private void evict(String layer) {
+        LayerFile removed = layerFiles.remove(layer);
+        if (removed != null) {
+            retire(removed);
+        }
+    }
+
+    private void retire(LayerFile layerFile) {
+        retiredFiles.add(new RetiredFile(layerFile.getPath(), System.nanoTime()));
+    }
+
+    /*
+     *  deleteGrace 가 지난 파일을 지운다.
+     *  지우지 못한 파일(열려 있는 파일을 지울 수 없는 OS 등)은 다시 deleteGrace 뒤에 시도한다.
+     */
+    private void purgeRetired() {
+        long now = System.nanoTime();
+        List<RetiredFile> failed = new ArrayList<>();
+        RetiredFile retired;
+        while ((retired = retiredFiles.peek()) != null && now - retired.retiredAt >= deleteGraceNanos) {
+            if (!retiredFiles.remove(retired)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(retired.path);
+            } catch (IOException e) {
+                log.warn("flatgeobuf layer file delete failed, retry later: {}", retired.path, e);
+                failed.add(new RetiredFile(retired.path, now));
+            }
+        }
+        retiredFiles.addAll(failed);
+    }
+
+    private void addAll(FlatGeobufWriter writer, FeatureQuery query) throws IOException {
+        try {
+            featureService.forEach(query, feature -> {
+                try {
+                    writer.add(feature);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    //지울 차례를 기다리는 파일과 교체 / 제거된 시각
+    private static final class RetiredFile {
+        private final Path path;
+        private final long retiredAt;
+
+        RetiredFile(Path path, long retiredAt) {
+            this.path = path;
+            this.retiredAt = retiredAt;
+        }
+    }
+
+    //만들어 둔 레이어 파일과 버전 태그 (ETag 로 사용)
+    public static final class LayerFile {
+        private final Path path;
+        private final String tag;
+        private volatile long lastUsed = System.nanoTime();
+
+        LayerFile(Path path, String tag) {
+            this.path = path;
+            this.tag = tag;
+        }
+
+        void touch() {
+            lastUsed = System.nanoTime();
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.green.watcher.greenwatcher.common.feature.flatgeobuf;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import com.green.watcher.greenwatcher.common.feature.entity.SpatialFeature;
+import org.locationtech.jts.geom.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  FlatGeobuf 스트리밍 인코더
+ *  파일 구조 : magic(8) | header(크기 + FlatBuffer) | packed Hilbert R-tree 인덱스 | feature(크기 + FlatBuffer) ...
+ *  인덱스가 피처보다 앞에 와야 하므로 피처는 add 시점에 바로 인코딩하여 임시 파일에 쓰고,
+ *  메모리에는 피처마다 bbox 와 임시 파일 위치만 남긴다. writeTo 에서 Hilbert 순서로 인덱스를 만든 뒤 피처 바이트를 순서대로 복사한다.
+ *  컬럼은 id(Long), name(String), properties(Json) 세 개이고 좌표계는 EPSG:4326 이다.
+ */
+public class FlatGeobufWriter implements Closeable {
+
+    public static final String MEDIA_TYPE = "application/flatgeobuf";
+
+    private static final byte[] MAGIC = {0x66, 0x67, 0x62, 0x03, 0x66, 0x67, 0x62, 0x00};
+    private static final int NODE_SIZE = 16;
+
+    //GeometryType
+    private static final byte UNKNOWN = 0;
+    private static final byte POINT = 1;
+    private static final byte LINE_STRING = 2;
+    private static final byte POLYGON = 3;
+    private static final byte MULTI_POINT = 4;
+    private static final byte MULTI_LINE_STRING = 5;
+    private static final byte MULTI_POLYGON = 6;
+    private static final byte GEOMETRY_COLLECTION = 7;
+
+    //ColumnType
+    private static final byte COLUMN_LONG = 7;
+    private static final byte COLUMN_STRING = 11;
+    private static final byte COLUMN_JSON = 12;
+
+    private static final String[] COLUMN_NAMES = {"id", "name", "properties"};
+    private static final byte[] COLUMN_TYPES = {COLUMN_LONG, COLUMN_STRING, COLUMN_JSON};
+
+    private final String name;
+    private final Path spillFile;
+    private final FileChannel spill;
+    private final FlatBufferBuilder builder = new FlatBufferBuilder(1024);
+
+    private int count;
+    //피처마다 minX, minY, maxX, maxY
+    private double[] boxes = new double[4 * 256];
+    //피처마다 임시 파일 위치, 크기
+    private long[] spillOffsets = new long[256];
+    private int[] sizes = new int[256];
+    private long spillSize;
+
+    private final Envelope extent = new Envelope();
+    private byte geometryType = -1;
+
+    public FlatGeobufWriter(String name) throws IOException {
+        this.name = name;
+        this.spillFile = Files.createTempFile("features-", ".fgb.part");
+        this.spill = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /*
+     *  피처 하나를 인코딩하여 임시 파일에 쓴다.
+     *  빈 geometry 는 인덱스에 넣을 수 없으므로 건너뛴다.
+     */
+    public void add(SpatialFeature feature) throws IOException {
+        Geometry geometry = feature.getGeometry();
+        if (geometry == null || geometry.isEmpty()) {
+            return;
+        }
+        builder.clear();
+        int geometryOffset = geometry(geometry);
+        int propertiesOffset = builder.createByteVector(properties(feature));
+        builder.startTable(3);
+        builder.addOffset(1, propertiesOffset, 0);
+        builder.addOffset(0, geometryOffset, 0);
+        builder.finishSizePrefixed(builder.endTable());
+
+        ByteBuffer encoded = builder.dataBuffer();
+        int size = encoded.remaining();
+        while (encoded.hasRemaining()) {
+            spill.write(encoded, spillSize + size - encoded.remaining());
+        }
+
+        ensureCapacity();
+        Envelope envelope = geometry.getEnvelopeInternal();
+        boxes[count * 4] = envelope.getMinX();
+        boxes[count * 4 + 1] = envelope.getMinY();
+        boxes[count * 4 + 2] = envelope.getMaxX();
+        boxes[count * 4 + 3] = envelope.getMaxY();
+        spillOffsets[count] = spillSize;
+        sizes[count] = size;
+        spillSize += size;
+        count++;
+        extent.expandToInclude(envelope);
+
+        byte type = typeOf(geometry);
+        geometryType = geometryType == -1 || geometryType == type ? type : UNKNOWN;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /*
+     *  header, 인덱스, 피처를 순서대로 쓴다.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(MAGIC);
+        out.write(header());
+        if (count == 0) {
+            out.flush();
+            return;
+        }
+
+        //Hilbert 값(상위) + 피처 번호(하위)를 long 하나로 묶어 정렬한다.
+        long[] order = new long[count];
+        double width = extent.getWidth();
+        double height = extent.getHeight();
+        for (int i = 0; i < count; i++) {
+            long hilbert = PackedRTree.hilbert(boxes[i * 4], boxes[i * 4 + 1], boxes[i * 4 + 2], boxes[i * 4 + 3],
+                    extent.getMinX(), extent.getMinY(), width, height);
+            order[i] = (hilbert << 31) | i;
+        }
+        Arrays.sort(order);
+
+        int numNodes = (int) PackedRTree.numNodes(count, NODE_SIZE);
+        double[] nodeBoxes = new double[numNodes * 4];
+        long[] nodeOffsets = new long[numNodes];
+        int leafStart = numNodes - count;
+        long featureOffset = 0;
+        for (int i = 0; i < count; i++) {
+            int item = (int) (order[i] & Integer.MAX_VALUE);
+            System.arraycopy(boxes, item * 4, nodeBoxes, (leafStart + i) * 4, 4);
+            nodeOffsets[leafStart + i] = featureOffset;
+            featureOffset += sizes[item];
+        }
+        PackedRTree.buildParents(nodeBoxes, nodeOffsets, count, NODE_SIZE);
+
+        ByteBuffer nodes = ByteBuffer.allocate(PackedRTree.NODE_ITEM_BYTES * 256).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < numNodes; i++) {
+            if (!nodes.hasRemaining()) {
+                out.write(nodes.array(), 0, nodes.position());
+                nodes.clear();
+            }
+            nodes.putDouble(nodeBoxes[i * 4]);
+            nodes.putDouble(nodeBoxes[i * 4 + 1]);
+            nodes.putDouble(nodeBoxes[i * 4 + 2]);
+            nodes.putDouble(nodeBoxes[i * 4 + 3]);
+            nodes.putLong(nodeOffsets[i]);
+        }
+        out.write(nodes.array(), 0, nodes.position());
+        out.flush();
+
+        WritableByteChannel target = Channels.newChannel(out);
+        for (int i = 0; i < count; i++) {
+            int item = (int) (order[i] & Integer.MAX_VALUE);
+            long position = spillOffsets[item];
+            long remaining = sizes[item];
+            while (remaining > 0) {
+                long transferred = spill.transferTo(position, remaining, target);
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            spill.close();
+        } finally {
+            Files.deleteIfExists(spillFile);
+        }
+    }
+
+    private byte[] header() {
+        builder.clear();
+        int nameOffset = builder.createString(name);
+        int envelopeOffset = 0;
+        if (count > 0) {
+            builder.startVector(8, 4, 8);
+            builder.addDouble(extent.getMaxY());
+            builder.addDouble(extent.getMaxX());
+            builder.addDouble(extent.getMinY());
+            builder.addDouble(extent.getMinX());
+            envelopeOffset = builder.endVector();
+        }
+        int[] columns = new int[COLUMN_NAMES.length];
+        for (int i = 0; i < columns.length; i++) {
+            int columnName = builder.createString(COLUMN_NAMES[i]);
+            builder.startTable(11);
+            builder.addOffset(0, columnName, 0);
+            builder.addByte(1, COLUMN_TYPES[i], 0);
+            columns[i] = builder.endTable();
+        }
+        int columnsOffset = tableVector(columns);
+        int org = builder.createString("EPSG");
+        builder.startTable(6);
+        builder.addOffset(0, org, 0);
+        builder.addInt(1, 4326, 0);
+        int crs = builder.endTable();
+
+        builder.startTable(14);
+        builder.addLong(8, count, 0);
+        builder.addOffset(0, nameOffset, 0);
+        builder.addOffset(1, envelopeOffset, 0);
+        builder.addOffset(7, columnsOffset, 0);
+        builder.addOffset(10, crs, 0);
+        //피처가 없으면 인덱스도 없다. (기본값 16 과 다르므로 0 이 기록된다)
+        builder.addShort(9, (short) (count > 0 ? NODE_SIZE : 0), 16);
+        builder.addByte(2, geometryType == -1 ? UNKNOWN : geometryType, 0);
+        builder.finishSizePrefixed(builder.endTable());
+        return builder.sizedByteArray();
+    }
+
+    /*
+     *  Geometry 테이블을 만든다.
+     *  MultiPolygon / GeometryCollection 은 parts 로, 나머지는 xy 좌표와 링(파트) 끝 위치(ends)로 표현한다.
+     */
+    private int geometry(Geometry geometry) {
+        byte type = typeOf(geometry);
+        if (type == MULTI_POLYGON || type == GEOMETRY_COLLECTION) {
+            int[] parts = new int[geometry.getNumGeometries()];
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = geometry(geometry.getGeometryN(i));
+            }
+            int partsOffset = tableVector(parts);
+            builder.startTable(8);
+            builder.addOffset(7, partsOffset, 0);
+            builder.addByte(6, type, 0);
+            return builder.endTable();
+        }
+
+        Coordinate[] coordinates = geometry.getCoordinates();
+        int[] ends = ends(geometry, type);
+        builder.startVector(8, coordinates.length * 2, 8);
+        for (int i = coordinates.length - 1; i >= 0; i--) {
+            builder.addDouble(coordinates[i].y);
+            builder.addDouble(coordinates[i].x);
+        }
+        int xy = builder.endVector();
+        int endsOffset = 0;
+        if (ends != null) {
+            builder.startVector(4, ends.length, 4);
+            for (int i = ends.length - 1; i >= 0; i--) {
+                builder.addInt(ends[i]);
+            }
+            endsOffset = builder.endVector();
+        }
+        builder.startTable(8);
+        builder.addOffset(1, xy, 0);
+        builder.addOffset(0, endsOffset, 0);
+        builder.addByte(6, type, 0);
+        return builder.endTable();
+    }
+
+    //링 / 라인이 둘 이상일 때 각 파트의 끝 좌표 번호 (하나면 생략)
+    private static int[] ends(Geometry geometry, byte type) {
+        if (type == POLYGON) {
+            Polygon polygon = (Polygon) geometry;
+            if (polygon.getNumInteriorRing() == 0) {
+                return null;
+            }
+            int[] ends = new int[polygon.getNumInteriorRing() + 1];
+            int end = polygon.getExteriorRing().getNumPoints();
+            ends[0] = end;
+            for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                end += polygon.getInteriorRingN(i).getNumPoints();
+                ends[i + 1] = end;
+            }
+            return ends;
+        }
+        if (type == MULTI_LINE_STRING && geometry.getNumGeometries() > 1) {
+            int[] ends = new int[geometry.getNumGeometries()];
+            int end = 0;
+            for (int i = 0; i < ends.length; i++) {
+                end += geometry.getGeometryN(i).getNumPoints();
+                ends[i] = end;
+            }
+            return ends;
+        }
+        return null;
+    }
+
+    private int tableVector(int[] offsets) {
+        builder.startVector(4, offsets.length, 4);
+        for (int i = offsets.length - 1; i >= 0; i--) {
+            builder.addOffset(offsets[i]);
+        }
+        return builder.endVector();
+    }
+
+    /*
+     *  속성 바이트 : (컬럼 번호 ushort, 값) 반복, little endian
+     *  Long 은 8바이트, String / Json 은 uint 길이 + UTF-8 바이트이다. null 인 값은 쓰지 않는다.
+     */
+    private static byte[] properties(SpatialFeature feature) {
+        byte[] nameBytes = feature.getName() == null ? null : feature.getName().getBytes(StandardCharsets.UTF_8);
+        byte[] propertyBytes = feature.getProperties() == null ? null : feature.getProperties().getBytes(StandardCharsets.UTF_8);
+        int size = (feature.getId() == null ? 0 : 10)
+                + (nameBytes == null ? 0 : 6 + nameBytes.length)
+                + (propertyBytes == null ? 0 : 6 + propertyBytes.length);
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        if (feature.getId() != null) {
+            buffer.putShort((short) 0).putLong(feature.getId());
+        }
+        if (nameBytes != null) {
+            buffer.putShort((short) 1).putInt(nameBytes.length).put(nameBytes);
+        }
+        if (propertyBytes != null) {
+            buffer.putShort((short) 2).putInt(propertyBytes.length).put(propertyBytes);
+        }
+        return buffer.array();
+    }
+
+    private static byte typeOf(Geometry geometry) {
+        if (geometry instanceof Point) {
+            return POINT;
+        }
+        if (geometry instanceof LineString) {
+            return LINE_STRING;
+        }
+        if (geometry instanceof Polygon) {
+            return POLYGON;
+        }
+        if (geometry instanceof MultiPoint) {
+            return MULTI_POINT;
+        }
+        if (geometry instanceof MultiLineString) {
+            return MULTI_LINE_STRING;
+        }
+        if (geometry instanceof MultiPolygon) {
+            return MULTI_POLYGON;
+        }
+        return GEOMETRY_COLLECTION;
+    }
+
+    private void ensureCapacity() {
+        if (count < sizes.length) {
+            return;
+        }
+        int capacity = sizes.length * 2;
+        boxes = Arrays.copyOf(boxes, capacity * 4);
+        spillOffsets = Arrays.copyOf(spillOffsets, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+    }
+}
@@ -0,0 +1,143 @@
+package com.green.watcher.greenwatcher.common.feature.flatgeobuf;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  FlatGeobuf packed Hilbert R-tree 계산 유틸
+ *  노드는 (minX, minY, maxX, maxY, offset) 40바이트이고 루트가 맨 앞, 리프가 맨 뒤에 오도록 레벨 역순으로 배치한다.
+ *  리프 offset 은 피처 영역 시작 기준 바이트 위치, 내부 노드 offset 은 첫 자식 노드의 번호이다.
+ */
+public final class PackedRTree {
+
+    public static final int NODE_ITEM_BYTES = 40;
+    private static final int HILBERT_MAX = (1 << 16) - 1;
+
+    private PackedRTree() {
+    }
+
+    /*
+     *  레벨별 [시작, 끝) 노드 번호
+     *  0 번이 리프 레벨이고 마지막이 루트 레벨이다.
+     */
+    public static long[][] levelBounds(long numItems, int nodeSize) {
+        if (numItems < 1) {
+            throw new IllegalArgumentException("피처가 없으면 인덱스를 만들 수 없습니다.");
+        }
+        int levels = 1;
+        long n = numItems;
+        long numNodes = n;
+        do {
+            n = (n + nodeSize - 1) / nodeSize;
+            numNodes += n;
+            levels++;
+        } while (n != 1);
+
+        long[] levelNumNodes = new long[levels];
+        n = numItems;
+        levelNumNodes[0] = n;
+        for (int i = 1; i < levels; i++) {
+            n = (n + nodeSize - 1) / nodeSize;
+            levelNumNodes[i] = n;
+        }
+        long[][] bounds = new long[levels][2];
+        long end = numNodes;
+        for (int i = 0; i < levels; i++) {
+            bounds[i][0] = end - levelNumNodes[i];
+            bounds[i][1] = end;
+            end -= levelNumNodes[i];
+        }
+        return bounds;
+    }
+
+    public static long numNodes(long numItems, int nodeSize) {
+        return levelBounds(numItems, nodeSize)[0][1];
+    }
+
+    /*
+     *  리프가 채워진 노드 배열에서 상위 노드를 만든다.
+     *  boxes 는 노드마다 minX, minY, maxX, maxY 4칸, offsets 는 노드마다 1칸이다.
+     */
+    public static void buildParents(double[] boxes, long[] offsets, long numItems, int nodeSize) {
+        long[][] levels = levelBounds(numItems, nodeSize);
+        for (int i = 0; i < levels.length - 1; i++) {
+            int pos = (int) levels[i][0];
+            int childEnd = (int) levels[i][1];
+            for (int parent = (int) levels[i + 1][0]; parent < levels[i + 1][1]; parent++) {
+                double minX = Double.POSITIVE_INFINITY;
+                double minY = Double.POSITIVE_INFINITY;
+                double maxX = Double.NEGATIVE_INFINITY;
+                double maxY = Double.NEGATIVE_INFINITY;
+                offsets[parent] = pos;
+                for (int k = 0; k < nodeSize && pos < childEnd; k++, pos++) {
+                    minX = Math.min(minX, boxes[pos * 4]);
+                    minY = Math.min(minY, boxes[pos * 4 + 1]);
+                    maxX = Math.max(maxX, boxes[pos * 4 + 2]);
+                    maxY = Math.max(maxY, boxes[pos * 4 + 3]);
+                }
+                boxes[parent * 4] = minX;
+                boxes[parent * 4 + 1] = minY;
+                boxes[parent * 4 + 2] = maxX;
+                boxes[parent * 4 + 3] = maxY;
+            }
+        }
+    }
+
+    //bbox 중심의 Hilbert 값 (전체 범위를 16비트 격자로 나눈다)
+    public static long hilbert(double minX, double minY, double maxX, double maxY,
+                               double extentMinX, double extentMinY, double width, double height) {
+        int x = width == 0 ? 0 : (int) Math.floor(HILBERT_MAX * ((minX + maxX) / 2 - extentMinX) / width);
+        int y = height == 0 ? 0 : (int) Math.floor(HILBERT_MAX * ((minY + maxY) / 2 - extentMinY) / height);
+        return hilbert(x, y);
+    }
+
+    /*
+     *  16비트 좌표 (x, y) 의 Hilbert 곡선 값
+     *  flatbush / FlatGeobuf 와 같은 비트 연산 구현이다.
+     */
+    static long hilbert(int x, int y) {
+        int a = x ^ y;
+        int b = 0xFFFF ^ a;
+        int c = 0xFFFF ^ (x | y);
+        int d = x & (y ^ 0xFFFF);
+
+        int A = a | (b >> 1);
+        int B = (a >> 1) ^ a;
+        int C = ((c >> 1) ^ (b & (d >> 1))) ^ c;
+        int D = ((a & (c >> 1)) ^ (d >> 1)) ^ d;
+
+        a = A; b = B; c = C; d = D;
+        A = (a & (a >> 2)) ^ (b & (b >> 2));
+        B = (a & (b >> 2)) ^ (b & ((a ^ b) >> 2));
+        C ^= (a & (c >> 2)) ^ (b & (d >> 2));
+        D ^= (b & (c >> 2)) ^ ((a ^ b) & (d >> 2));
+
+        a = A; b = B; c = C; d = D;
+        A = (a & (a >> 4)) ^ (b & (b >> 4));
+        B = (a & (b >> 4)) ^ (b & ((a ^ b) >> 4));
+        C ^= (a & (c >> 4)) ^ (b & (d >> 4));
+        D ^= (b & (c >> 4)) ^ ((a ^ b) & (d >> 4));
+
+        a = A; b = B; c = C; d = D;
+        C ^= (a & (c >> 8)) ^ (b & (d >> 8));
+        D ^= (b & (c >> 8)) ^ ((a ^ b) & (d >> 8));
+
+        a = C ^ (C >> 1);
+        b = D ^ (D >> 1);
+
+        int i0 = x ^ y;
+        int i1 = b | (0xFFFF ^ (i0 | a));
+
+        i0 = (i0 | (i0 << 8)) & 0x00FF00FF;
+        i0 = (i0 | (i0 << 4)) & 0x0F0F0F0F;
+        i0 = (i0 | (i0 << 2)) & 0x33333333;
+        i0 = (i0 | (i0 << 1)) & 0x55555555;
+
+        i1 = (i1 | (i1 << 8)) & 0x00FF00FF;
+        i1 = (i1 | (i1 << 4)) & 0x0F0F0F0F;
+        i1 = (i1 | (i1 << 2)) & 0x33333333;
+        i1 = (i1 | (i1 << 1)) & 0x55555555;
+
+        return ((i1 << 1) | i0) & 0xFFFFFFFFL;
+    }
+}
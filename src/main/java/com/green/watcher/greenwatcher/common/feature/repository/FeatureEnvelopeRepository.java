@@ -0,0 +1,19 @@
+package com.green.watcher.greenwatcher.common.feature.repository;
+
+import com.green.watcher.greenwatcher.common.feature.entity.FeatureEnvelope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  공간 피처 envelope JPA 레파지토리
+ *  레이어 버전 조회 추가 (IDX_FEATURE_ENVELOPE_LAYER_ID 인덱스만 읽는다)
+ */
+public interface FeatureEnvelopeRepository extends JpaRepository<FeatureEnvelope, Long> {
+
+    @Query("select count(e) as count, max(e.id) as maxId from FeatureEnvelope e where e.layer = :layer")
+    FeatureLayerVersion findLayerVersion(@Param("layer") String layer);
+}
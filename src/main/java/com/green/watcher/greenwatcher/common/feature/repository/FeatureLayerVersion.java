@@ -0,0 +1,13 @@
+package com.green.watcher.greenwatcher.common.feature.repository;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  레이어 버전 프로젝션 (피처 수, 가장 큰 피처 id)
+ *  피처는 추가만 되므로 두 값이 같으면 레이어 내용도 같다.
+ */
+public interface FeatureLayerVersion {
+    Long getCount();
+    Long getMaxId();
+}
@@ -0,0 +1,14 @@
+package com.green.watcher.greenwatcher.common.feature.repository;
+
+import com.green.watcher.greenwatcher.common.feature.entity.SpatialFeature;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  공간 피처 JPA 레파지토리
+ *  공간 검색은 SpatialFeatureRepositoryCustom(QueryDSL) 에서 처리한다.
+ */
+public interface SpatialFeatureRepository extends JpaRepository<SpatialFeature, Long>, SpatialFeatureRepositoryCustom {
+}
@@ -0,0 +1,34 @@
+package com.green.watcher.greenwatcher.common.feature.repository;
+
+import com.green.watcher.greenwatcher.common.feature.dto.FeatureQuery;
+import com.green.watcher.greenwatcher.common.feature.entity.SpatialFeature;
+import org.locationtech.jts.geom.Point;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  공간 피처 QueryDSL 레파지토리
+ */
+public interface SpatialFeatureRepositoryCustom {
+
+    /*
+     *  검색 조건에 맞는 피처를 id 오름차순으로 최대 limit 개 조회한다.
+     *  다음 페이지는 마지막 피처 id 를 afterId 로 넘겨 조회한다. (OFFSET 없음)
+     */
+    List<SpatialFeature> findPage(FeatureQuery query);
+
+    /*
+     *  검색 조건에 맞는 모든 피처를 keyset 페이지 단위로 읽어 스트림으로 반환한다.
+     *  페이지를 넘길 때마다 영속성 컨텍스트를 비우므로 읽기 전용 트랜잭션 안에서 소비해야 한다.
+     */
+    Stream<SpatialFeature> stream(FeatureQuery query);
+
+    /*
+     *  point 에서 maxDistance(좌표계 단위) 이내의 가까운 피처를 거리순으로 최대 k 개 조회한다.
+     */
+    List<SpatialFeature> findNearest(String layer, Point point, int k, double maxDistance);
+}
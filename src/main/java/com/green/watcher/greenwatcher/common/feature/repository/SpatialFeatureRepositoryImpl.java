@@ -0,0 +1,195 @@
+package com.green.watcher.greenwatcher.common.feature.repository;
+
+import com.green.watcher.greenwatcher.common.feature.dto.FeatureQuery;
+import com.green.watcher.greenwatcher.common.feature.entity.QFeatureEnvelope;
+import com.green.watcher.greenwatcher.common.feature.entity.QSpatialFeature;
+import com.green.watcher.greenwatcher.common.feature.entity.SpatialFeature;
+import com.green.watcher.greenwatcher.common.feature.enumerate.SpatialRelation;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.2
+ *  공간 피처 QueryDSL 레파지토리 구현체
+ *  1. T_FEATURE_ENVELOPE 에서 bbox 조건으로 후보 id 를 keyset(id > 커서) 으로 조회한다.
+ *  2. 후보 id 로 T_FEATURE 를 조회한다.
+ *  3. 검색 geometry 가 있으면 PreparedGeometry 로 정밀 검사한다.
+ *  IDX_FEATURE_ENVELOPE_BBOX 는 B-tree 이므로 범위 탐색은 LAYER + MIN_X 까지만 쓰이고 MAX_X / MIN_Y / MAX_Y 는 인덱스 안에서 걸러진다.
+ *  그래서 같은 경도 띠에 피처가 몰린 레이어는 작은 bbox 라도 그 띠 전체의 인덱스 항목을 훑는다.
+ *  1.0.1 nearest 검색의 후보 조회를 NEAREST_MAX_CANDIDATES 건으로 제한하고, 넘으면 반경을 좁혀 다시 조회한다.
+ *  1.0.2 nearest 후보를 id 순이 아닌 envelope 거리순으로 읽어, 잘린 후보에도 가장 가까운 피처가 포함되게 한다.
+ */
+public class SpatialFeatureRepositoryImpl implements SpatialFeatureRepositoryCustom {
+
+    private static final QFeatureEnvelope envelope = QFeatureEnvelope.featureEnvelope;
+    private static final QSpatialFeature feature = QSpatialFeature.spatialFeature;
+
+    //nearest 검색 시 처음 탐색할 반경 비율 (maxDistance 기준)
+    private static final int NEAREST_INITIAL_DIVISOR = 64;
+    //nearest 검색 한 번에 읽는 최대 후보 수
+    private static final int NEAREST_MAX_CANDIDATES = 2000;
+    //nearest 검색의 반경 조정(넓히기 / 좁히기) 최대 횟수
+    private static final int NEAREST_MAX_ATTEMPTS = 16;
+
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+
+    public SpatialFeatureRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    @Override
+    public List<SpatialFeature> findPage(FeatureQuery query) {
+        PreparedGeometry prepared = query.getGeometry() == null ? null : PreparedGeometryFactory.prepare(query.getGeometry());
+        Envelope bbox = query.searchEnvelope();
+        int limit = query.getLimit();
+
+        List<SpatialFeature> result = new ArrayList<>(limit);
+        Long cursor = query.getAfterId();
+
+        //정밀 검사에서 걸러지는 후보가 있으므로 limit 를 채우거나 후보가 없을 때까지 반복한다.
+        while (result.size() < limit) {
+            List<Long> ids = candidateIds(query.getLayer(), query.getRelation(), bbox, cursor, limit);
+            if (ids.isEmpty()) {
+                break;
+            }
+            for (SpatialFeature candidate : fetch(ids)) {
+                if (matches(prepared, query.getRelation(), candidate.getGeometry())) {
+                    result.add(candidate);
+                    if (result.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            if (ids.size() < limit) {
+                break;
+            }
+            cursor = ids.get(ids.size() - 1);
+        }
+        return result;
+    }
+
+    @Override
+    public Stream<SpatialFeature> stream(FeatureQuery query) {
+        Iterator<SpatialFeature> iterator = new Iterator<>() {
+            private Long cursor = query.getAfterId();
+            private Iterator<SpatialFeature> page = List.<SpatialFeature>of().iterator();
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                while (!page.hasNext() && !exhausted) {
+                    if (cursor != null) {
+                        //이전 페이지 엔티티를 분리하여 메모리를 일정하게 유지한다.
+                        entityManager.clear();
+                    }
+                    List<SpatialFeature> next = findPage(query.toBuilder().afterId(cursor).build());
+                    exhausted = next.size() < query.getLimit();
+                    if (!next.isEmpty()) {
+                        cursor = next.get(next.size() - 1).getId();
+                    }
+                    page = next.iterator();
+                }
+                return page.hasNext();
+            }
+
+            @Override
+            public SpatialFeature next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /*
+     *  반경을 두 배씩 넓히며 k 개를 찾는다.
+     *  후보가 NEAREST_MAX_CANDIDATES 를 넘으면 k 개가 부족했던 반경(low)과 넘친 반경(high) 사이로 좁혀 다시 조회한다.
+     *  NEAREST_MAX_ATTEMPTS 안에 맞는 반경을 못 찾으면(아주 밀집한 레이어) 읽은 후보 안에서 가까운 k 개를 돌려준다.
+     *  후보는 envelope 거리순으로 읽으므로 잘려도 가까운 쪽이 남는다. (점 피처는 정확, 그 밖의 피처는 envelope 기준 근사)
+     */
+    @Override
+    public List<SpatialFeature> findNearest(String layer, Point point, int k, double maxDistance) {
+        double low = 0;
+        double high = Double.NaN;
+        double radius = maxDistance / NEAREST_INITIAL_DIVISOR;
+        for (int attempt = 1; ; attempt++) {
+            List<Long> ids = queryFactory.select(envelope.id)
+                    .from(envelope)
+                    .where(envelope.layer.eq(layer),
+                            SpatialPredicates.near(envelope, point.getX(), point.getY(), radius))
+                    .orderBy(SpatialPredicates.squaredDistance(envelope, point.getX(), point.getY()).asc(), envelope.id.asc())
+                    .limit(NEAREST_MAX_CANDIDATES + 1)
+                    .fetch();
+            boolean truncated = ids.size() > NEAREST_MAX_CANDIDATES;
+            boolean lastAttempt = attempt >= NEAREST_MAX_ATTEMPTS;
+            if (truncated && !lastAttempt) {
+                high = radius;
+                radius = (low + high) / 2;
+                continue;
+            }
+
+            List<SpatialFeature> candidates = new ArrayList<>();
+            for (SpatialFeature candidate : fetch(truncated ? ids.subList(0, NEAREST_MAX_CANDIDATES) : ids)) {
+                if (candidate.getGeometry().distance(point) <= radius) {
+                    candidates.add(candidate);
+                }
+            }
+            //반경 안에서 k 개를 찾았거나 최대 반경까지 넓혔거나 더 조정할 수 없으면 종료한다.
+            if (candidates.size() >= k || radius >= maxDistance || truncated || lastAttempt) {
+                candidates.sort(Comparator.comparingDouble(candidate -> candidate.getGeometry().distance(point)));
+                return candidates.size() > k ? new ArrayList<>(candidates.subList(0, k)) : candidates;
+            }
+            low = radius;
+            radius = Double.isNaN(high) ? Math.min(radius * 2, maxDistance) : (low + high) / 2;
+        }
+    }
+
+    private List<Long> candidateIds(String layer, SpatialRelation relation, Envelope bbox, Long cursor, int limit) {
+        return queryFactory.select(envelope.id)
+                .from(envelope)
+                .where(envelope.layer.eq(layer),
+                        SpatialPredicates.of(envelope, relation, bbox),
+                        cursor == null ? null : envelope.id.gt(cursor))
+                .orderBy(envelope.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private List<SpatialFeature> fetch(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory.selectFrom(feature)
+                .where(feature.id.in(ids))
+                .orderBy(feature.id.asc())
+                .fetch();
+    }
+
+    private boolean matches(PreparedGeometry prepared, SpatialRelation relation, Geometry geometry) {
+        if (prepared == null) {
+            return true;
+        }
+        return relation == SpatialRelation.WITHIN ? prepared.contains(geometry) : prepared.intersects(geometry);
+    }
+}
@@ -0,0 +1,65 @@
+package com.green.watcher.greenwatcher.common.feature.repository;
+
+import com.green.watcher.greenwatcher.common.feature.entity.QFeatureEnvelope;
+import com.green.watcher.greenwatcher.common.feature.enumerate.SpatialRelation;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  T_FEATURE_ENVELOPE 에 대한 QueryDSL 공간 조건 모음
+ *  bbox 비교만으로 표현되므로 (LAYER, MIN_X, ...) 인덱스 범위 검색으로 처리된다.
+ *  1.0.1 점에서 envelope 까지 거리의 제곱(nearest 후보 정렬용) 추가
+ */
+public final class SpatialPredicates {
+
+    private SpatialPredicates() {
+    }
+
+    //envelope 가 bbox 와 겹치는 조건
+    public static BooleanExpression intersects(QFeatureEnvelope envelope, Envelope bbox) {
+        return envelope.minX.loe(bbox.getMaxX())
+                .and(envelope.maxX.goe(bbox.getMinX()))
+                .and(envelope.minY.loe(bbox.getMaxY()))
+                .and(envelope.maxY.goe(bbox.getMinY()));
+    }
+
+    //envelope 가 bbox 안에 완전히 포함되는 조건
+    public static BooleanExpression within(QFeatureEnvelope envelope, Envelope bbox) {
+        return envelope.minX.goe(bbox.getMinX())
+                .and(envelope.maxX.loe(bbox.getMaxX()))
+                .and(envelope.minY.goe(bbox.getMinY()))
+                .and(envelope.maxY.loe(bbox.getMaxY()));
+    }
+
+    //점 (x, y) 에서 distance 이내에 있을 수 있는 envelope 조건 (nearest 후보)
+    public static BooleanExpression near(QFeatureEnvelope envelope, double x, double y, double distance) {
+        return intersects(envelope, new Envelope(x - distance, x + distance, y - distance, y + distance));
+    }
+
+    //점 (x, y) 에서 envelope 까지 거리의 제곱 (envelope 안이면 0)
+    //점 피처는 실제 거리와 같고, 그 밖의 피처는 실제 거리의 하한이다.
+    public static NumberExpression<Double> squaredDistance(QFeatureEnvelope envelope, double x, double y) {
+        NumberExpression<Double> dx = gap(envelope.minX, envelope.maxX, x);
+        NumberExpression<Double> dy = gap(envelope.minY, envelope.maxY, y);
+        return dx.multiply(dx).add(dy.multiply(dy));
+    }
+
+    //한 축에서 [min, max] 구간과 value 사이의 거리
+    private static NumberExpression<Double> gap(NumberPath<Double> min, NumberPath<Double> max, double value) {
+        return new CaseBuilder()
+                .when(min.gt(value)).then(min.subtract(value))
+                .when(max.lt(value)).then(Expressions.asNumber(value).subtract(max))
+                .otherwise(0.0);
+    }
+
+    public static BooleanExpression of(QFeatureEnvelope envelope, SpatialRelation relation, Envelope bbox) {
+        return relation == SpatialRelation.WITHIN ? within(envelope, bbox) : intersects(envelope, bbox);
+    }
+}
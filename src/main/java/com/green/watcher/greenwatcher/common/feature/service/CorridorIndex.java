@@ -0,0 +1,235 @@
+package com.green.watcher.greenwatcher.common.feature.service;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  경로 주변 피처 검색용 메모리 점 인덱스
+ *  레이어 피처를 대표점(점 피처는 그 점, 나머지는 내부점) 하나로 줄여 STRtree 에 담는다.
+ *  만든 뒤에는 바뀌지 않으므로 여러 스레드가 동시에 검색해도 된다.
+ *  거리 계산은 선분마다 선분 중앙 위도 기준 등장방형(equirectangular) 투영으로 미터 단위로 한다.
+ *  선분 길이와 탐색 거리가 수 km 이내이면 오차는 무시할 수 있다.
+ */
+public class CorridorIndex {
+
+    private static final double EARTH_RADIUS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS * Math.PI / 180;
+    //극지방에서 경도 1도 거리가 0 에 가까워질 때 탐색 범위가 무한대가 되지 않게 한다.
+    private static final double MIN_COS_LAT = 1e-6;
+
+    //레이어 버전 (피처 수-최대 id)
+    private final String tag;
+    private final long[] ids;
+    private final String[] names;
+    private final double[] xs;
+    private final double[] ys;
+    private final STRtree tree;
+
+    private CorridorIndex(String tag, long[] ids, String[] names, double[] xs, double[] ys) {
+        this.tag = tag;
+        this.ids = ids;
+        this.names = names;
+        this.xs = xs;
+        this.ys = ys;
+        this.tree = new STRtree();
+        for (int i = 0; i < ids.length; i++) {
+            tree.insert(new Envelope(xs[i], xs[i], ys[i], ys[i]), i);
+        }
+        //검색 시 lazy build 가 일어나지 않도록 미리 만든다.
+        tree.build();
+    }
+
+    public static Builder builder(String tag) {
+        return new Builder(tag);
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long id(int index) {
+        return ids[index];
+    }
+
+    public String name(int index) {
+        return names[index];
+    }
+
+    public double x(int index) {
+        return xs[index];
+    }
+
+    public double y(int index) {
+        return ys[index];
+    }
+
+    /*
+     *  경로의 [from, to) 선분마다 buffer(m) 안에 있는 피처를 찾는다.
+     *  같은 피처가 여러 선분에 걸리면 가장 가까운 선분 기준 결과를 남긴다. 결과 key 는 인덱스 내 피처 번호이다.
+     */
+    public Map<Integer, Hit> search(Route route, int from, int to, double buffer) {
+        Map<Integer, Hit> hits = new HashMap<>();
+        double dy = buffer / METERS_PER_DEGREE;
+        for (int i = from; i < to; i++) {
+            double x1 = route.xs[i];
+            double y1 = route.ys[i];
+            double x2 = route.xs[i + 1];
+            double y2 = route.ys[i + 1];
+            double dx = dy / Math.max(MIN_COS_LAT, Math.cos(Math.toRadians(Math.max(Math.abs(y1), Math.abs(y2)))));
+            Envelope envelope = new Envelope(Math.min(x1, x2) - dx, Math.max(x1, x2) + dx,
+                    Math.min(y1, y2) - dy, Math.max(y1, y2) + dy);
+
+            double scale = route.scales[i];
+            double bx = (x2 - x1) * scale;
+            double by = (y2 - y1) * METERS_PER_DEGREE;
+            double length = route.lengths[i];
+            double startOffset = route.offsets[i];
+            tree.query(envelope, item -> {
+                int index = (Integer) item;
+                double px = (xs[index] - x1) * scale;
+                double py = (ys[index] - y1) * METERS_PER_DEGREE;
+                //선분 위에서 피처와 가장 가까운 지점의 비율(0 ~ 1)
+                double t = length == 0 ? 0 : Math.max(0, Math.min(1, (px * bx + py * by) / (length * length)));
+                double distance = Math.hypot(px - t * bx, py - t * by);
+                if (distance <= buffer) {
+                    Hit.merge(hits, index, new Hit(index, startOffset + t * length, distance));
+                }
+            });
+        }
+        return hits;
+    }
+
+    /*
+     *  경로 선분별 투영 배율과 누적 거리를 미리 계산해 둔 경로
+     */
+    public static class Route {
+
+        private final double[] xs;
+        private final double[] ys;
+        //선분 i 의 경도 1도 거리(m)
+        private final double[] scales;
+        //선분 i 의 길이(m)
+        private final double[] lengths;
+        //시작점부터 점 i 까지의 경로 거리(m)
+        private final double[] offsets;
+
+        private Route(Coordinate[] coordinates) {
+            int n = coordinates.length;
+            xs = new double[n];
+            ys = new double[n];
+            scales = new double[Math.max(0, n - 1)];
+            lengths = new double[Math.max(0, n - 1)];
+            offsets = new double[n];
+            for (int i = 0; i < n; i++) {
+                xs[i] = coordinates[i].getX();
+                ys[i] = coordinates[i].getY();
+                if (i > 0) {
+                    double scale = METERS_PER_DEGREE * Math.cos(Math.toRadians((ys[i - 1] + ys[i]) / 2));
+                    scales[i - 1] = scale;
+                    lengths[i - 1] = Math.hypot((xs[i] - xs[i - 1]) * scale, (ys[i] - ys[i - 1]) * METERS_PER_DEGREE);
+                    offsets[i] = offsets[i - 1] + lengths[i - 1];
+                }
+            }
+        }
+
+        public static Route of(Coordinate[] coordinates) {
+            return new Route(coordinates);
+        }
+
+        //선분 수
+        public int segments() {
+            return lengths.length;
+        }
+
+        //경로 전체 길이(m)
+        public double length() {
+            return offsets.length == 0 ? 0 : offsets[offsets.length - 1];
+        }
+    }
+
+    /*
+     *  경로 주변에서 찾은 피처 하나
+     */
+    public static class Hit {
+
+        private final int index;
+        private final double offset;
+        private final double distance;
+
+        Hit(int index, double offset, double distance) {
+            this.index = index;
+            this.offset = offset;
+            this.distance = distance;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public double getOffset() {
+            return offset;
+        }
+
+        public double getDistance() {
+            return distance;
+        }
+
+        //더 가까운 쪽, 거리가 같으면 경로 앞쪽을 남긴다.
+        static void merge(Map<Integer, Hit> hits, int index, Hit hit) {
+            hits.merge(index, hit, (current, candidate) ->
+                    candidate.distance < current.distance
+                            || (candidate.distance == current.distance && candidate.offset < current.offset) ? candidate : current);
+        }
+    }
+
+    /*
+     *  인덱스 builder
+     *  피처 수를 모르는 상태로 페이지 단위로 읽으며 추가하므로 배열을 늘려 가며 담는다.
+     */
+    public static class Builder {
+
+        private final String tag;
+        private long[] ids = new long[1024];
+        private String[] names = new String[1024];
+        private double[] xs = new double[1024];
+        private double[] ys = new double[1024];
+        private int size;
+
+        private Builder(String tag) {
+            this.tag = tag;
+        }
+
+        public Builder add(long id, String name, double x, double y) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                names = Arrays.copyOf(names, capacity);
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+            }
+            ids[size] = id;
+            names[size] = name;
+            xs[size] = x;
+            ys[size] = y;
+            size++;
+            return this;
+        }
+
+        public CorridorIndex build() {
+            return new CorridorIndex(tag, Arrays.copyOf(ids, size), Arrays.copyOf(names, size),
+                    Arrays.copyOf(xs, size), Arrays.copyOf(ys, size));
+        }
+    }
+}
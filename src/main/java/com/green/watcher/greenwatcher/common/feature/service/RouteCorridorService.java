@@ -0,0 +1,220 @@
+package com.green.watcher.greenwatcher.common.feature.service;
+
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import com.green.watcher.greenwatcher.common.feature.dto.CorridorFeatureDTO;
+import com.green.watcher.greenwatcher.common.feature.dto.FeatureQuery;
+import com.green.watcher.greenwatcher.common.feature.dto.RouteCorridorDTO;
+import com.green.watcher.greenwatcher.common.feature.dto.RouteCorridorRequestDTO;
+import com.green.watcher.greenwatcher.common.feature.repository.FeatureEnvelopeRepository;
+import com.green.watcher.greenwatcher.common.feature.repository.FeatureLayerVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.geojson.GeoJsonReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  경로 주변 피처(CCTV) 조회 service 클래스
+ *  1. 레이어 피처를 메모리 점 인덱스(CorridorIndex, STRtree)로 만들어 두고 레이어 버전(피처 수, 최대 id)이 바뀔 때만 다시 만든다.
+ *  2. 경로를 선분 묶음(feature.corridor.chunk-segments)으로 나누어 applicationTaskExecutor 에서 병렬로 검색한다.
+ *  3. 묶음 결과를 피처마다 가장 가까운 지점으로 합치고 경로 진행 거리(offset) 순서로 돌려준다.
+ *  경로가 같은 피처 옆을 두 번 지나가면 더 가까이 지나가는 쪽의 offset 을 쓴다.
+ *  1.0.1 조회 레이어를 feature.corridor.layers 로 제한하여 인덱스 / 잠금이 그 레이어 수만큼만 생기게 하고,
+ *        요청 하나의 병렬 작업 수를 feature.corridor.max-chunks 이하로 맞춘다.
+ */
+@Slf4j
+@Service
+public class RouteCorridorService {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final int MAX_LIMIT = 5000;
+    private static final Envelope WORLD = new Envelope(-Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, Double.MAX_VALUE);
+
+    private static final Comparator<CorridorIndex.Hit> ORDER = Comparator
+            .comparingDouble(CorridorIndex.Hit::getOffset)
+            .thenComparingDouble(CorridorIndex.Hit::getDistance)
+            .thenComparingInt(CorridorIndex.Hit::getIndex);
+
+    private final SpatialFeatureService featureService;
+    private final FeatureEnvelopeRepository envelopeRepository;
+    private final Executor executor;
+    private final String defaultLayer;
+    private final Map<String, Object> locks;
+    private final double defaultBuffer;
+    private final double maxBuffer;
+    private final int chunkSegments;
+    private final int maxChunks;
+    private final int maxVertices;
+    private final Map<String, CorridorIndex> indexes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RouteCorridorService(SpatialFeatureService featureService, FeatureEnvelopeRepository envelopeRepository,
+                                @Qualifier("applicationTaskExecutor") Executor executor,
+                                @Value("${feature.corridor.layer:cctv}") String defaultLayer,
+                                @Value("${feature.corridor.layers:cctv}") List<String> layers,
+                                @Value("${feature.corridor.default-buffer:100}") double defaultBuffer,
+                                @Value("${feature.corridor.max-buffer:2000}") double maxBuffer,
+                                @Value("${feature.corridor.chunk-segments:256}") int chunkSegments,
+                                @Value("${feature.corridor.max-chunks:16}") int maxChunks,
+                                @Value("${feature.corridor.max-vertices:20000}") int maxVertices) {
+        this.featureService = featureService;
+        this.envelopeRepository = envelopeRepository;
+        this.executor = executor;
+        this.defaultLayer = defaultLayer;
+        //잠금은 허용 레이어마다 미리 만들어 두고 요청 레이어 이름으로는 새로 만들지 않는다.
+        Map<String, Object> allowed = new HashMap<>();
+        for (String layer : new LinkedHashSet<>(layers)) {
+            allowed.put(layer.trim(), new Object());
+        }
+        allowed.putIfAbsent(defaultLayer, new Object());
+        this.locks = Map.copyOf(allowed);
+        this.defaultBuffer = defaultBuffer;
+        this.maxBuffer = maxBuffer;
+        this.chunkSegments = Math.max(1, chunkSegments);
+        this.maxChunks = Math.max(1, maxChunks);
+        this.maxVertices = maxVertices;
+    }
+
+    /*
+     *  경로 주변 buffer(m) 안의 피처를 경로 진행 순서로 조회한다.
+     *  경로나 buffer 가 잘못되면 IllegalArgumentException
+     */
+    public RouteCorridorDTO findAlongRoute(RouteCorridorRequestDTO request) {
+        long start = System.nanoTime();
+        double buffer = request.getBuffer() == null ? defaultBuffer : request.getBuffer();
+        if (!(buffer > 0) || buffer > maxBuffer) {
+            throw new IllegalArgumentException("buffer 는 0 보다 크고 " + (long) maxBuffer + "m 이하여야 합니다.");
+        }
+        LineString line = route(request, maxVertices);
+        String layer = request.getLayer() == null || request.getLayer().isBlank() ? defaultLayer : request.getLayer();
+        if (!locks.containsKey(layer)) {
+            throw new IllegalArgumentException("경로 주변 조회를 지원하지 않는 레이어입니다: " + layer);
+        }
+        int limit = Math.max(1, Math.min(request.getLimit() == null ? 1000 : request.getLimit(), MAX_LIMIT));
+
+        CorridorIndex index = index(layer);
+        CorridorIndex.Route route = CorridorIndex.Route.of(line.getCoordinates());
+        List<CorridorIndex.Hit> hits = search(index, route, buffer, chunkSize(route.segments(), chunkSegments, maxChunks), executor);
+
+        List<CorridorFeatureDTO> features = new ArrayList<>(Math.min(limit, hits.size()));
+        for (CorridorIndex.Hit hit : hits.subList(0, Math.min(limit, hits.size()))) {
+            int i = hit.getIndex();
+            features.add(new CorridorFeatureDTO(index.id(i), index.name(i), index.x(i), index.y(i), hit.getOffset(), hit.getDistance()));
+        }
+        return new RouteCorridorDTO(layer, route.length(), (System.nanoTime() - start) / 1_000_000,
+                hits.size(), hits.size() > features.size(), features);
+    }
+
+    /*
+     *  경로를 chunkSegments 개 선분 묶음으로 나누어 병렬 검색하고 offset 순서로 합친다.
+     *  묶음이 하나뿐이면 호출 스레드에서 바로 검색한다.
+     */
+    static List<CorridorIndex.Hit> search(CorridorIndex index, CorridorIndex.Route route, double buffer,
+                                          int chunkSegments, Executor executor) {
+        int segments = route.segments();
+        Map<Integer, CorridorIndex.Hit> merged;
+        if (segments <= chunkSegments) {
+            merged = index.search(route, 0, segments, buffer);
+        } else {
+            List<CompletableFuture<Map<Integer, CorridorIndex.Hit>>> futures = new ArrayList<>();
+            for (int from = 0; from < segments; from += chunkSegments) {
+                int chunkFrom = from;
+                int chunkTo = Math.min(segments, from + chunkSegments);
+                futures.add(CompletableFuture.supplyAsync(() -> index.search(route, chunkFrom, chunkTo, buffer), executor));
+            }
+            merged = new HashMap<>();
+            try {
+                for (CompletableFuture<Map<Integer, CorridorIndex.Hit>> future : futures) {
+                    for (Map.Entry<Integer, CorridorIndex.Hit> entry : future.join().entrySet()) {
+                        CorridorIndex.Hit.merge(merged, entry.getKey(), entry.getValue());
+                    }
+                }
+            } catch (CompletionException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        List<CorridorIndex.Hit> hits = new ArrayList<>(merged.values());
+        hits.sort(ORDER);
+        return hits;
+    }
+
+    //묶음 수가 maxChunks 를 넘지 않도록 늘린 묶음 하나의 선분 수
+    static int chunkSize(int segments, int chunkSegments, int maxChunks) {
+        return Math.max(chunkSegments, (segments + maxChunks - 1) / maxChunks);
+    }
+
+    /*
+     *  레이어 점 인덱스
+     *  레이어 버전이 같으면 만들어 둔 인덱스를 그대로 쓰고, 다르면 같은 레이어의 동시 요청 중 하나만 다시 만든다.
+     */
+    CorridorIndex index(String layer) {
+        FeatureLayerVersion version = envelopeRepository.findLayerVersion(layer);
+        String tag = version.getCount() + "-" + (version.getMaxId() == null ? 0 : version.getMaxId());
+        CorridorIndex current = indexes.get(layer);
+        if (current != null && current.getTag().equals(tag)) {
+            return current;
+        }
+        synchronized (locks.get(layer)) {
+            current = indexes.get(layer);
+            if (current != null && current.getTag().equals(tag)) {
+                return current;
+            }
+            long start = System.nanoTime();
+            CorridorIndex.Builder builder = CorridorIndex.builder(tag);
+            featureService.forEach(FeatureQuery.builder().layer(layer).bbox(WORLD).limit(PAGE_SIZE).build(), feature -> {
+                Geometry geometry = feature.getGeometry();
+                if (geometry == null || geometry.isEmpty()) {
+                    return;
+                }
+                Coordinate point = geometry instanceof Point ? geometry.getCoordinate() : geometry.getInteriorPoint().getCoordinate();
+                builder.add(feature.getId(), feature.getName(), point.getX(), point.getY());
+            });
+            CorridorIndex created = builder.build();
+            indexes.put(layer, created);
+            log.info("corridor index created: {} ({} features, {} ms)", layer, created.size(), (System.nanoTime() - start) / 1_000_000);
+            return created;
+        }
+    }
+
+    //요청의 경로 LineString
+    static LineString route(RouteCorridorRequestDTO request, int maxVertices) {
+        if (request.getGeometry() == null || request.getGeometry().isNull()) {
+            throw new IllegalArgumentException("경로 geometry 가 필요합니다.");
+        }
+        Geometry geometry;
+        try {
+            geometry = new GeoJsonReader(GeometryConverter.geometryFactory()).read(request.getGeometry().toString());
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("geometry 를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        if (!(geometry instanceof LineString line) || line.getNumPoints() < 2) {
+            throw new IllegalArgumentException("경로는 점이 2개 이상인 LineString 이어야 합니다.");
+        }
+        if (line.getNumPoints() > maxVertices) {
+            throw new IllegalArgumentException("경로 점은 " + maxVertices + "개 이하여야 합니다.");
+        }
+        return line;
+    }
+}
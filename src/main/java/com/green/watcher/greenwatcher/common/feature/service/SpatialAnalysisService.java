@@ -0,0 +1,239 @@
+package com.green.watcher.greenwatcher.common.feature.service;
+
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import com.green.watcher.greenwatcher.common.feature.dto.AnalyzedFeatureDTO;
+import com.green.watcher.greenwatcher.common.feature.dto.FeatureQuery;
+import com.green.watcher.greenwatcher.common.feature.dto.LayerAnalysisDTO;
+import com.green.watcher.greenwatcher.common.feature.dto.SpatialAnalysisDTO;
+import com.green.watcher.greenwatcher.common.feature.dto.SpatialAnalysisRequestDTO;
+import com.green.watcher.greenwatcher.common.feature.entity.SpatialFeature;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.geojson.GeoJsonReader;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  그린 도형(다각형, 원) 공간 분석 service 클래스
+ *  레이어마다 envelope 인덱스로 후보를 좁히고 PreparedGeometry 로 정밀 검사한 뒤(SpatialFeatureRepositoryImpl),
+ *  면 피처는 도형과 겹치는 면적을 계산한다. 레이어들은 applicationTaskExecutor 에서 병렬로 분석한다.
+ *  면적은 정적 사인곡선 투영(sinusoidal, 등적)으로 바꾸어 ㎡ 로 계산한다.
+ *  1.0.1 요청 하나의 레이어 수(feature.analysis.max-layers)와 도형 범위 면적(feature.analysis.max-area-km2)을 제한하고
+ *        원 중심 경위도 범위를 검사한다.
+ */
+@Service
+public class SpatialAnalysisService {
+
+    private static final double EARTH_RADIUS = 6_371_008.8;
+    private static final int CIRCLE_SEGMENTS = 64;
+    private static final int PAGE_SIZE = 1000;
+    private static final int MAX_LIMIT = 5000;
+
+    private static final Comparator<AnalyzedFeatureDTO> RANK = Comparator
+            .comparingDouble((AnalyzedFeatureDTO feature) -> feature.getOverlapArea() == null ? 0 : feature.getOverlapArea())
+            .reversed()
+            .thenComparing(AnalyzedFeatureDTO::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final SpatialFeatureService featureService;
+    private final Executor executor;
+    private final List<String> defaultLayers;
+    private final double maxRadius;
+    private final double maxArea;
+    private final int maxLayers;
+
+    @Autowired
+    public SpatialAnalysisService(SpatialFeatureService featureService,
+                                  @Qualifier("applicationTaskExecutor") Executor executor,
+                                  @Value("${feature.analysis.default-layers:cctv,admin}") List<String> defaultLayers,
+                                  @Value("${feature.analysis.max-radius:50000}") double maxRadius,
+                                  @Value("${feature.analysis.max-area-km2:10000}") double maxAreaKm2,
+                                  @Value("${feature.analysis.max-layers:8}") int maxLayers) {
+        this.featureService = featureService;
+        this.executor = executor;
+        this.defaultLayers = defaultLayers;
+        this.maxRadius = maxRadius;
+        this.maxArea = maxAreaKm2 * 1_000_000;
+        this.maxLayers = maxLayers;
+    }
+
+    /*
+     *  요청 도형에 걸리는 레이어별 피처를 분석한다.
+     *  도형이나 레이어 수가 잘못되면 IllegalArgumentException
+     */
+    public SpatialAnalysisDTO analyze(SpatialAnalysisRequestDTO request) {
+        long start = System.nanoTime();
+        List<String> layers = (request.getLayers() == null || request.getLayers().isEmpty() ? defaultLayers : request.getLayers())
+                .stream()
+                .distinct()
+                .toList();
+        if (layers.size() > maxLayers) {
+            throw new IllegalArgumentException("layers 는 " + maxLayers + "개 이하여야 합니다.");
+        }
+        Geometry shape = shape(request, maxRadius, maxArea);
+        PreparedGeometry prepared = PreparedGeometryFactory.prepare(shape);
+        int limit = Math.max(1, Math.min(request.getLimit() == null ? 1000 : request.getLimit(), MAX_LIMIT));
+
+        //레이어 수가 제한되어 있으므로 하나가 실패해도 나머지는 끝까지 돌게 두고 첫 오류만 던진다.
+        List<CompletableFuture<LayerAnalysisDTO>> futures = layers.stream()
+                .map(layer -> CompletableFuture.supplyAsync(() -> analyzeLayer(layer, shape, prepared, limit), executor))
+                .toList();
+        List<LayerAnalysisDTO> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<LayerAnalysisDTO> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        return new SpatialAnalysisDTO(squareMeters(shape), (System.nanoTime() - start) / 1_000_000, results);
+    }
+
+    /*
+     *  레이어 하나를 분석한다.
+     *  도형 안에 완전히 들어가는 면 피처는 교차 연산 없이 피처 면적을 그대로 쓴다.
+     */
+    LayerAnalysisDTO analyzeLayer(String layer, Geometry shape, PreparedGeometry prepared, int limit) {
+        FeatureQuery query = FeatureQuery.builder()
+                .layer(layer)
+                .geometry(shape)
+                .limit(PAGE_SIZE)
+                .build();
+        //순위가 가장 낮은 피처가 맨 앞에 오는 heap 으로 상위 limit 개만 유지한다.
+        PriorityQueue<AnalyzedFeatureDTO> top = new PriorityQueue<>(RANK.reversed());
+        long[] count = {0};
+        double[] overlapSum = {0};
+        featureService.forEach(query, feature -> {
+            AnalyzedFeatureDTO analyzed = analyzeFeature(feature, shape, prepared);
+            count[0]++;
+            if (analyzed.getOverlapArea() != null) {
+                overlapSum[0] += analyzed.getOverlapArea();
+            }
+            top.add(analyzed);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+        List<AnalyzedFeatureDTO> features = new ArrayList<>(top);
+        features.sort(RANK);
+        return new LayerAnalysisDTO(layer, count[0], count[0] > features.size(), overlapSum[0], features);
+    }
+
+    private static AnalyzedFeatureDTO analyzeFeature(SpatialFeature feature, Geometry shape, PreparedGeometry prepared) {
+        Geometry geometry = feature.getGeometry();
+        Double overlapArea = null;
+        Double overlapRatio = null;
+        if (geometry instanceof Polygonal && shape instanceof Polygonal) {
+            double area = squareMeters(geometry);
+            if (prepared.containsProperly(geometry)) {
+                overlapArea = area;
+            } else {
+                overlapArea = squareMeters(OverlayNGRobust.overlay(shape, geometry, OverlayNG.INTERSECTION));
+            }
+            overlapRatio = area == 0 ? 0 : Math.min(1, overlapArea / area);
+        }
+        return new AnalyzedFeatureDTO(feature.getId(), feature.getName(), feature.getProperties(), overlapArea, overlapRatio);
+    }
+
+    /*
+     *  요청의 다각형 또는 원을 geometry 로 만든다.
+     *  다각형은 범위(envelope) 면적이 maxArea(㎡) 이하여야 한다. 가늘고 긴 도형도 후보 조회 범위가 커지므로 도형 면적이 아닌 범위로 본다.
+     */
+    static Geometry shape(SpatialAnalysisRequestDTO request, double maxRadius, double maxArea) {
+        if (request.getGeometry() != null && !request.getGeometry().isNull()) {
+            Geometry geometry;
+            try {
+                geometry = new GeoJsonReader(GeometryConverter.geometryFactory()).read(request.getGeometry().toString());
+            } catch (ParseException e) {
+                throw new IllegalArgumentException("geometry 를 읽을 수 없습니다: " + e.getMessage(), e);
+            }
+            if (geometry.isEmpty()) {
+                throw new IllegalArgumentException("빈 도형은 분석할 수 없습니다.");
+            }
+            Envelope envelope = geometry.getEnvelopeInternal();
+            if (envelope.getMinX() < -180 || envelope.getMaxX() > 180 || envelope.getMinY() < -90 || envelope.getMaxY() > 90) {
+                throw new IllegalArgumentException("geometry 좌표는 경도 -180 ~ 180, 위도 -90 ~ 90 이어야 합니다.");
+            }
+            if (squareMeters(geometry.getEnvelope()) > maxArea) {
+                throw new IllegalArgumentException("도형 범위는 " + (long) (maxArea / 1_000_000) + "㎢ 이하여야 합니다.");
+            }
+            return geometry.isValid() ? geometry : geometry.buffer(0);
+        }
+        if (request.getCenter() == null || request.getCenter().length != 2 || request.getRadius() == null) {
+            throw new IllegalArgumentException("geometry 또는 center, radius 가 필요합니다.");
+        }
+        if (request.getRadius() <= 0 || request.getRadius() > maxRadius) {
+            throw new IllegalArgumentException("radius 는 0 보다 크고 " + (long) maxRadius + "m 이하여야 합니다.");
+        }
+        double x = request.getCenter()[0];
+        double y = request.getCenter()[1];
+        //극 근처는 경도 방향 반경이 무한히 커지므로 위도 85도까지만 받는다.
+        if (!(x >= -180 && x <= 180) || !(y >= -85 && y <= 85)) {
+            throw new IllegalArgumentException("center 는 [경도(-180 ~ 180), 위도(-85 ~ 85)] 여야 합니다.");
+        }
+        return circle(x, y, request.getRadius());
+    }
+
+    /*
+     *  중심(경도, 위도)과 반경(미터)으로 원을 근사한 다각형
+     */
+    static Geometry circle(double x, double y, double radius) {
+        Coordinate[] ring = new Coordinate[CIRCLE_SEGMENTS + 1];
+        double dy = Math.toDegrees(radius / EARTH_RADIUS);
+        double dx = dy / Math.cos(Math.toRadians(y));
+        for (int i = 0; i < CIRCLE_SEGMENTS; i++) {
+            double angle = 2 * Math.PI * i / CIRCLE_SEGMENTS;
+            ring[i] = new Coordinate(x + dx * Math.cos(angle), y + dy * Math.sin(angle));
+        }
+        ring[CIRCLE_SEGMENTS] = ring[0].copy();
+        return GeometryConverter.geometryFactory().createPolygon(ring);
+    }
+
+    //경위도 geometry 의 면적(㎡), sinusoidal 투영으로 바꾸어 계산한다.
+    static double squareMeters(Geometry geometry) {
+        if (!(geometry instanceof Polygonal) && geometry.getDimension() < 2) {
+            return 0;
+        }
+        Geometry projected = geometry.copy();
+        projected.apply(new CoordinateSequenceFilter() {
+            @Override
+            public void filter(CoordinateSequence sequence, int i) {
+                double lat = Math.toRadians(sequence.getY(i));
+                sequence.setOrdinate(i, 0, EARTH_RADIUS * Math.toRadians(sequence.getX(i)) * Math.cos(lat));
+                sequence.setOrdinate(i, 1, EARTH_RADIUS * lat);
+            }
+
+            @Override
+            public boolean isDone() {
+                return false;
+            }
+
+            @Override
+            public boolean isGeometryChanged() {
+                return true;
+            }
+        });
+        return projected.getArea();
+    }
+}
@@ -0,0 +1,186 @@
+package com.green.watcher.greenwatcher.common.feature.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.watcher.greenwatcher.common.crs.service.CoordinateTransformService;
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import com.green.watcher.greenwatcher.common.feature.dto.FeatureDTO;
+import com.green.watcher.greenwatcher.common.feature.dto.FeaturePageDTO;
+import com.green.watcher.greenwatcher.common.feature.dto.FeatureQuery;
+import com.green.watcher.greenwatcher.common.feature.entity.FeatureEnvelope;
+import com.green.watcher.greenwatcher.common.feature.entity.SpatialFeature;
+import com.green.watcher.greenwatcher.common.feature.repository.SpatialFeatureRepository;
+import jakarta.persistence.EntityManager;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.geojson.GeoJsonReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.3
+ *  공간 피처 저장 / 검색 service 클래스
+ *  지도, import, 분석 기능이 공통으로 사용한다.
+ *  import 시 원본 좌표계를 지정하면 EPSG:4326 으로 변환하여 저장한다.
+ *  import 중 geometry 가 없거나 읽을 수 없는 피처는 몇 번째 피처인지 담아 IllegalArgumentException 으로 거절한다.
+ *  1.0.3 컬럼 길이를 넘는 name / properties 와 JSON 문법 오류도 DB 오류(500) 대신 몇 번째 피처인지 담아 거절한다.
+ */
+@Service
+public class SpatialFeatureService {
+
+    //import 시 영속성 컨텍스트를 비우는 단위 (hibernate.jdbc.batch_size 와 맞춘다)
+    private static final int IMPORT_FLUSH_SIZE = 500;
+
+    private final SpatialFeatureRepository featureRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final CoordinateTransformService transformService;
+
+    @Autowired
+    public SpatialFeatureService(SpatialFeatureRepository featureRepository, EntityManager entityManager, ObjectMapper objectMapper,
+                                 CoordinateTransformService transformService) {
+        this.featureRepository = featureRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transformService = transformService;
+    }
+
+    /*
+     *  피처 한 건을 저장한다.
+     *  envelope 는 피처 id 를 그대로 쓰므로 merge(select) 없이 persist 한다.
+     */
+    @Transactional
+    public SpatialFeature save(String layer, String name, String properties, Geometry geometry) {
+        SpatialFeature feature = SpatialFeature.builder()
+                .layer(layer)
+                .name(name)
+                .properties(properties)
+                .geometry(geometry)
+                .build();
+        entityManager.persist(feature);
+        entityManager.persist(FeatureEnvelope.of(feature));
+        return feature;
+    }
+
+    /*
+     *  GeoJSON FeatureCollection 을 스트리밍으로 읽어 레이어에 저장한다.
+     *  전체 문서를 메모리에 올리지 않고 feature 단위로 읽어 배치 insert 한다.
+     */
+    @Transactional
+    public int importGeoJson(String layer, InputStream inputStream) throws IOException {
+        return importGeoJson(layer, inputStream, null);
+    }
+
+    /*
+     *  crs 좌표계(EPSG 코드)의 GeoJSON 을 EPSG:4326 으로 변환하며 저장한다.
+     *  crs 가 null 이면 변환하지 않는다.
+     */
+    @Transactional
+    public int importGeoJson(String layer, InputStream inputStream, String crs) throws IOException {
+        if (crs != null) {
+            //등록되지 않은 좌표계면 본문을 읽기 전에 실패한다.
+            transformService.pipeline(crs, CoordinateTransformService.WGS84);
+        }
+        if (layer.length() > SpatialFeature.LAYER_LENGTH) {
+            throw new IllegalArgumentException("레이어 이름은 " + SpatialFeature.LAYER_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        GeoJsonReader reader = new GeoJsonReader(GeometryConverter.geometryFactory());
+        int count = 0;
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("GeoJSON FeatureCollection 형식이 아닙니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (!"features".equals(field) || token != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    JsonNode node = parser.readValueAsTree();
+                    JsonNode properties = node.get("properties");
+                    String name = properties != null && properties.hasNonNull("name") ? properties.get("name").asText() : null;
+                    String json = properties == null || properties.isNull() ? null : properties.toString();
+                    checkLength(name, SpatialFeature.NAME_LENGTH, "name", count + 1);
+                    checkLength(json, SpatialFeature.PROPERTIES_LENGTH, "properties", count + 1);
+                    Geometry geometry = readGeometry(reader, node.get("geometry"), count + 1);
+                    if (crs != null) {
+                        geometry = transformService.transform(geometry, crs, CoordinateTransformService.WGS84);
+                    }
+                    save(layer, name, json, geometry);
+                    if (++count % IMPORT_FLUSH_SIZE == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException((count + 1) + "번째 피처 부근의 JSON 을 읽을 수 없습니다: " + e.getOriginalMessage(), e);
+        }
+        return count;
+    }
+
+    //index 번째(1부터) 피처의 field 값이 컬럼 길이를 넘으면 IllegalArgumentException
+    private static void checkLength(String value, int maxLength, String field, int index) {
+        if (value != null && value.length() > maxLength) {
+            throw new IllegalArgumentException(index + "번째 피처의 " + field + " 가 " + maxLength + "자를 넘습니다. (" + value.length() + "자)");
+        }
+    }
+
+    //index 번째(1부터) 피처의 geometry, 없거나(null 포함) 읽을 수 없으면 IllegalArgumentException
+    private static Geometry readGeometry(GeoJsonReader reader, JsonNode geometry, int index) {
+        if (geometry == null || geometry.isNull()) {
+            throw new IllegalArgumentException(index + "번째 피처에 geometry 가 없습니다.");
+        }
+        try {
+            return reader.read(geometry.toString());
+        } catch (ParseException e) {
+            throw new IllegalArgumentException(index + "번째 피처의 geometry 를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /*
+     *  뷰포트(bbox) 기준 keyset 페이지 조회
+     */
+    @Transactional(readOnly = true)
+    public FeaturePageDTO findPage(FeatureQuery query) {
+        List<SpatialFeature> features = featureRepository.findPage(query);
+        Long nextCursor = features.size() < query.getLimit() ? null : features.get(features.size() - 1).getId();
+        return new FeaturePageDTO(features.stream().map(FeatureDTO::from).toList(), nextCursor);
+    }
+
+    /*
+     *  검색 조건에 맞는 모든 피처를 페이지 단위로 읽으며 consumer 에 넘긴다.
+     *  전체 결과를 메모리에 모으지 않으므로 export / 분석처럼 큰 결과를 다룰 때 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public void forEach(FeatureQuery query, Consumer<SpatialFeature> consumer) {
+        try (Stream<SpatialFeature> stream = featureRepository.stream(query)) {
+            stream.forEach(consumer);
+        }
+    }
+
+    /*
+     *  가까운 피처 조회
+     */
+    @Transactional(readOnly = true)
+    public List<FeatureDTO> findNearest(String layer, Point point, int k, double maxDistance) {
+        return featureRepository.findNearest(layer, point, k, maxDistance).stream()
+                .map(FeatureDTO::from)
+                .toList();
+    }
+}
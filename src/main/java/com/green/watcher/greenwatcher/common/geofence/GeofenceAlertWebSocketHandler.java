@@ -0,0 +1,112 @@
+package com.green.watcher.greenwatcher.common.geofence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.watcher.greenwatcher.common.geofence.dto.GeofenceAlertDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  강우 지오펜스 경보 웹소켓 핸들러 (/ws/geofence-alerts)
+ *  로그인한 사용자의 세션만 구독할 수 있고, 경보는 지오펜스를 등록한 사용자의 세션에만 보낸다.
+ *  세션마다 ConcurrentWebSocketSessionDecorator 로 감싸 느린 클라이언트가 다른 세션 전송을 막지 않게 한다.
+ */
+@Slf4j
+public class GeofenceAlertWebSocketHandler extends TextWebSocketHandler {
+
+    private static final int SEND_TIME_LIMIT_MILLIS = 5_000;
+    private static final int BUFFER_SIZE_LIMIT = 256 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Set<WebSocketSession>> sessionsByUser = new ConcurrentHashMap<>();
+
+    public GeofenceAlertWebSocketHandler(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Principal principal = session.getPrincipal();
+        if (principal == null) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("로그인이 필요합니다."));
+            return;
+        }
+        session.getAttributes().put(SessionHolder.KEY, new SessionHolder(principal.getName(),
+                new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MILLIS, BUFFER_SIZE_LIMIT)));
+        sessionsByUser.computeIfAbsent(principal.getName(), key -> ConcurrentHashMap.newKeySet())
+                .add(holder(session).decorated);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        SessionHolder holder = holder(session);
+        if (holder == null) {
+            return;
+        }
+        sessionsByUser.computeIfPresent(holder.user, (user, sessions) -> {
+            sessions.remove(holder.decorated);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    /*
+     *  경보를 지오펜스 소유자의 모든 세션에 보낸다.
+     */
+    public void publish(GeofenceAlertDTO alert) {
+        Set<WebSocketSession> sessions = sessionsByUser.get(alert.getOwner());
+        if (sessions == null || sessions.isEmpty()) {
+            return;
+        }
+        TextMessage message;
+        try {
+            message = new TextMessage(objectMapper.writeValueAsString(alert));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        for (WebSocketSession session : sessions) {
+            try {
+                session.sendMessage(message);
+            } catch (IOException | RuntimeException e) {
+                log.debug("지오펜스 경보 전송 실패 session={}", session.getId(), e);
+                sessions.remove(session);
+            }
+        }
+    }
+
+    //사용자별 연결된 세션 수
+    public int sessionCount(String user) {
+        Set<WebSocketSession> sessions = sessionsByUser.get(user);
+        return sessions == null ? 0 : sessions.size();
+    }
+
+    private static SessionHolder holder(WebSocketSession session) {
+        return (SessionHolder) session.getAttributes().get(SessionHolder.KEY);
+    }
+
+    //웹소켓 세션 속성에 두는 사용자 / 감싼 세션
+    private static final class SessionHolder {
+
+        private static final String KEY = SessionHolder.class.getName();
+
+        private final String user;
+        private final WebSocketSession decorated;
+
+        private SessionHolder(String user, WebSocketSession decorated) {
+            this.user = user;
+            this.decorated = decorated;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.green.watcher.greenwatcher.common.geofence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  강우 지오펜스 설정 클래스
+ *  경보 웹소켓(/ws/geofence-alerts)은 웹 세션 로그인 사용자가 같은 출처에서만 연결할 수 있다.
+ */
+@Configuration
+@EnableWebSocket
+@EnableConfigurationProperties(GeofenceProperties.class)
+public class GeofenceConfig implements WebSocketConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    public GeofenceConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    public GeofenceAlertWebSocketHandler geofenceAlertWebSocketHandler() {
+        return new GeofenceAlertWebSocketHandler(objectMapper);
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(geofenceAlertWebSocketHandler(), "/ws/geofence-alerts");
+    }
+}
@@ -0,0 +1,41 @@
+package com.green.watcher.greenwatcher.common.geofence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  강우 지오펜스 설정 (application.yml 의 geofence.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "geofence")
+public class GeofenceProperties {
+
+    //사용자별 최대 지오펜스 수
+    private int maxPerUser = 200;
+
+    private Poll poll = new Poll();
+
+    @Getter
+    @Setter
+    public static class Poll {
+
+        //기상청 레이더(getNationalRadarRn) 주기 조회 여부, API 키가 있어야 한다.
+        private boolean enabled = false;
+
+        private Duration interval = Duration.ofMinutes(5);
+
+        //관측 자료가 올라오기까지의 지연 (ol-layer.js 와 같이 20분 전 자료를 조회한다)
+        private Duration delay = Duration.ofMinutes(20);
+
+        private String serviceKey = "";
+
+        private String path = "/1360000/RadarObsInfoService/getNationalRadarRn";
+    }
+}
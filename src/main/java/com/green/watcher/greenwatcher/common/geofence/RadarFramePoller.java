@@ -0,0 +1,116 @@
+package com.green.watcher.greenwatcher.common.geofence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.watcher.greenwatcher.common.geofence.service.GeofenceService;
+import com.green.watcher.greenwatcher.common.radar.CappiDecoder;
+import com.green.watcher.greenwatcher.common.radar.CappiGrid;
+import com.green.watcher.greenwatcher.common.radar.RadarFrame;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamClient;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamProvider;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  기상청 레이더 강우(getNationalRadarRn) 주기 조회
+ *  geofence.poll.interval 마다 delay 이전 시각(10분 단위)의 자료를 조회하여, 처음 보는 시각이면 지오펜스를 평가한다.
+ *  geofence.poll.enabled=true 일 때만 등록된다.
+ *  1.0.1 조회는 생성자가 아니라 ApplicationReadyEvent 에서 GeofenceService.load 뒤에 시작한다.
+ *        (기동 중 첫 frame 이 빈 엔진으로 평가되어 그 시각을 건너뛰지 않도록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "geofence.poll", name = "enabled", havingValue = "true")
+public class RadarFramePoller {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    private final UpstreamClient upstreamClient;
+    private final GeofenceService geofenceService;
+    private final ObjectMapper objectMapper;
+    private final GeofenceProperties.Poll poll;
+    private final ScheduledExecutorService scheduler;
+    private volatile String lastDateTime;
+
+    public RadarFramePoller(UpstreamClient upstreamClient, GeofenceService geofenceService, ObjectMapper objectMapper,
+                            GeofenceProperties properties) {
+        this.upstreamClient = upstreamClient;
+        this.geofenceService = geofenceService;
+        this.objectMapper = objectMapper;
+        this.poll = properties.getPoll();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "radar-frame-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    //저장된 지오펜스를 엔진에 올린 뒤(GeofenceService.load) 조회를 시작한다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void start() {
+        long interval = poll.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::pollSafely, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void pollSafely() {
+        try {
+            pollOnce();
+        } catch (Exception e) {
+            log.warn("레이더 강우 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    //최신 frame 을 조회하여 새 시각이면 평가한다.
+    void pollOnce() throws IOException {
+        ZonedDateTime target = ZonedDateTime.now(KST).minus(poll.getDelay());
+        String dateTime = target.withMinute(target.getMinute() / 10 * 10).format(DATE_TIME);
+        if (dateTime.equals(lastDateTime)) {
+            return;
+        }
+        UpstreamResponse response = upstreamClient.get(UpstreamProvider.KMA, poll.getPath()
+                + "?ServiceKey=" + URLEncoder.encode(poll.getServiceKey(), StandardCharsets.UTF_8)
+                + "&pageNo=1&numOfRows=10&dataType=json&qcType=NQC&compType=M&dateTime=" + dateTime);
+        if (!response.isSuccess()) {
+            throw new IOException("HTTP " + response.getStatus());
+        }
+        JsonNode root = objectMapper.readTree(response.getBody());
+        JsonNode header = root.path("response").path("header");
+        if (!"00".equals(header.path("resultCode").asText())) {
+            throw new IOException("resultCode " + header.path("resultCode").asText() + " " + header.path("resultMsg").asText());
+        }
+        JsonNode item = root.path("response").path("body").path("items").path("item").path(0);
+        CappiGrid grid = new CappiGrid(item.path("lon").asDouble(), item.path("lat").asDouble(), item.path("gridKm").asDouble(),
+                item.path("xdim").asInt(), item.path("ydim").asInt(), item.path("altitudeKm").asDouble());
+        RadarFrame frame = new RadarFrame(dateTime, grid, CappiDecoder.decode(item.path("cappiCompressData").asText()));
+        int alerts = geofenceService.onFrame(frame).size();
+        lastDateTime = dateTime;
+        log.debug("레이더 강우 {} 평가, 경보 {} 건", dateTime, alerts);
+    }
+}
@@ -0,0 +1,67 @@
+package com.green.watcher.greenwatcher.common.geofence.controller;
+
+import com.green.watcher.greenwatcher.common.geofence.dto.GeofenceDTO;
+import com.green.watcher.greenwatcher.common.geofence.dto.GeofenceRequestDTO;
+import com.green.watcher.greenwatcher.common.geofence.service.GeofenceService;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  강우 지오펜스 컨트롤러
+ *  로그인한 사용자 본인의 지오펜스만 조회 / 등록 / 삭제할 수 있다.
+ *  경보는 /ws/geofence-alerts 웹소켓으로 받는다.
+ */
+@RestController
+@RequestMapping("/map/geofences")
+@RequiredArgsConstructor
+public class GeofenceController {
+
+    private final GeofenceService geofenceService;
+
+    @GetMapping
+    public ResponseEntity<UserApiResponse<List<GeofenceDTO>>> findAll(Principal principal) {
+        if (principal == null) {
+            return unauthorized();
+        }
+        return ResponseEntity.ok(UserApiResponse.success(geofenceService.findAll(principal.getName())));
+    }
+
+    @PostMapping
+    public ResponseEntity<UserApiResponse<GeofenceDTO>> register(@RequestBody GeofenceRequestDTO request, Principal principal) {
+        if (principal == null) {
+            return unauthorized();
+        }
+        try {
+            return ResponseEntity.ok(UserApiResponse.success(geofenceService.register(principal.getName(), request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(UserApiResponse.fail(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<UserApiResponse<Boolean>> delete(@PathVariable Long id, Principal principal) {
+        if (principal == null) {
+            return unauthorized();
+        }
+        if (!geofenceService.delete(principal.getName(), id)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(UserApiResponse.fail(HttpStatus.NOT_FOUND.value(), "지오펜스를 찾을 수 없습니다."));
+        }
+        return ResponseEntity.ok(UserApiResponse.success(true));
+    }
+
+    private static <T> ResponseEntity<UserApiResponse<T>> unauthorized() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(UserApiResponse.fail(HttpStatus.UNAUTHORIZED.value(), "로그인이 필요합니다."));
+    }
+}
@@ -0,0 +1,30 @@
+package com.green.watcher.greenwatcher.common.geofence.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.green.watcher.greenwatcher.common.geofence.enumerate.GeofenceAlertType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  강우 지오펜스 경보 객체 (웹소켓으로 보낸다)
+ */
+@Getter
+@AllArgsConstructor
+public class GeofenceAlertDTO {
+
+    //경보를 받을 사용자 (응답에는 포함하지 않는다)
+    @JsonIgnore
+    private String owner;
+
+    private GeofenceAlertType type;
+    private Long geofenceId;
+    private String name;
+    private String frameTime;
+    private Double max;
+    private Double mean;
+    private Double maxThreshold;
+    private Double meanThreshold;
+}
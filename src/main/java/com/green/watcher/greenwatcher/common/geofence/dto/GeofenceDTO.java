@@ -0,0 +1,28 @@
+package com.green.watcher.greenwatcher.common.geofence.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  강우 지오펜스 응답 객체
+ *  cells 는 레이더 격자 칸 수, lastMax / lastMean 은 마지막 frame(frameTime) 의 집계이다.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GeofenceDTO {
+
+    private Long id;
+    private String name;
+    private Double maxThreshold;
+    private Double meanThreshold;
+    private Long cells;
+    private String frameTime;
+    private Double lastMax;
+    private Double lastMean;
+    private boolean alerting;
+}
@@ -0,0 +1,24 @@
+package com.green.watcher.greenwatcher.common.geofence.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.*;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  강우 지오펜스 등록 요청 객체
+ *  geometry 는 GeoJSON Polygon / MultiPolygon (EPSG:4326), 기준은 mm/h 이며 하나 이상 필요하다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeofenceRequestDTO {
+
+    private String name;
+    private JsonNode geometry;
+    private Double maxThreshold;
+    private Double meanThreshold;
+}
@@ -0,0 +1,180 @@
+package com.green.watcher.greenwatcher.common.geofence.engine;
+
+import com.green.watcher.greenwatcher.common.geofence.dto.GeofenceAlertDTO;
+import com.green.watcher.greenwatcher.common.geofence.dto.GeofenceDTO;
+import com.green.watcher.greenwatcher.common.geofence.entity.Geofence;
+import com.green.watcher.greenwatcher.common.geofence.enumerate.GeofenceAlertType;
+import com.green.watcher.greenwatcher.common.metrics.LatencyRecorder;
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.radar.CappiGrid;
+import com.green.watcher.greenwatcher.common.radar.RadarFrame;
+import org.locationtech.jts.geom.Geometry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  레이더 강우 지오펜스 평가 엔진
+ *  1. 지오펜스는 등록할 때(격자를 아직 모르면 첫 frame 에서) 한 번만 CAPPI 격자에 래스터화하여 GridMask 로 둔다.
+ *  2. frame 이 들어오면 RainfallIndex(누적 합 테이블 + 블록 최댓값)를 한 번 만들고 모든 지오펜스를 직사각형 단위로 집계한다.
+ *  3. 최대 / 평균 강우가 기준 이상이 되는 순간 RAISED, 다시 내려가는 순간 CLEARED 경보를 만든다.
+ *  격자 정의가 바뀐 frame 이 오면 모든 지오펜스를 다시 래스터화한다.
+ *  frame 평가는 한 번에 하나씩(synchronized) 진행하고, 등록 / 삭제는 평가 중에도 할 수 있다.
+ *  평가 시간은 geofence.evaluate, 경보 수는 geofence.alerts 로 기록한다.
+ *  1.0.1 저장 트랜잭션 안에서 도형만 미리 검사하는 validate 추가 (등록은 커밋 뒤에 한다)
+ */
+@Component
+public class GeofenceEngine {
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final RainfallIndex index = new RainfallIndex();
+    private final LatencyRecorder evaluateRecorder;
+    private final LongAdder alertCounter;
+    private volatile CappiGrid grid;
+    private volatile String frameTime;
+
+    public GeofenceEngine(MetricsRegistry metricsRegistry) {
+        this.evaluateRecorder = metricsRegistry.recorder("geofence.evaluate");
+        this.alertCounter = metricsRegistry.counter("geofence.alerts");
+    }
+
+    /*
+     *  지오펜스를 등록(또는 교체)한다.
+     *  격자를 알고 있으면 바로 래스터화하므로, 격자 밖 도형이면 IllegalArgumentException 을 던진다.
+     */
+    public void register(Geofence geofence) {
+        Entry entry = new Entry(geofence.getId(), geofence.getOwner(), geofence.getName(), geofence.getGeometry(),
+                geofence.getMaxThreshold(), geofence.getMeanThreshold());
+        CappiGrid current = grid;
+        if (current != null) {
+            entry.rasterize(current);
+            if (entry.mask.cellCount() == 0) {
+                throw new IllegalArgumentException("레이더 격자와 겹치지 않는 도형입니다.");
+            }
+        }
+        entries.put(entry.id, entry);
+    }
+
+    /*
+     *  격자를 알고 있으면 도형이 격자와 겹치는지만 검사한다.
+     *  겹치지 않으면 IllegalArgumentException
+     */
+    public void validate(Geometry geometry) {
+        CappiGrid current = grid;
+        if (current != null && GridMask.rasterize(geometry, current).cellCount() == 0) {
+            throw new IllegalArgumentException("레이더 격자와 겹치지 않는 도형입니다.");
+        }
+    }
+
+    public void remove(Long id) {
+        entries.remove(id);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /*
+     *  frame 하나를 평가하고 상태가 바뀐 지오펜스의 경보를 돌려준다.
+     */
+    public synchronized List<GeofenceAlertDTO> evaluate(RadarFrame frame) {
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            CappiGrid frameGrid = frame.getGrid();
+            grid = frameGrid;
+            index.build(frame);
+            List<GeofenceAlertDTO> alerts = new ArrayList<>();
+            for (Entry entry : entries.values()) {
+                if (!frameGrid.equals(entry.maskGrid)) {
+                    entry.rasterize(frameGrid);
+                }
+                GeofenceAlertType type = entry.update(index.aggregate(entry.mask), frame.getDateTime());
+                if (type != null) {
+                    alerts.add(entry.alert(type));
+                }
+            }
+            frameTime = frame.getDateTime();
+            alertCounter.add(alerts.size());
+            error = false;
+            return alerts;
+        } finally {
+            evaluateRecorder.recordSince(start, error);
+        }
+    }
+
+    /*
+     *  지오펜스의 마지막 평가 상태, 등록되지 않은 id 면 null
+     */
+    public GeofenceDTO status(Long id) {
+        Entry entry = entries.get(id);
+        return entry == null ? null : entry.status();
+    }
+
+    //마지막으로 평가한 frame 시각
+    public String frameTime() {
+        return frameTime;
+    }
+
+    private static final class Entry {
+
+        private final Long id;
+        private final String owner;
+        private final String name;
+        private final Geometry geometry;
+        private final Double maxThreshold;
+        private final Double meanThreshold;
+
+        private volatile CappiGrid maskGrid;
+        private volatile GridMask mask;
+        private volatile String frameTime;
+        private volatile Double lastMax;
+        private volatile Double lastMean;
+        private volatile boolean alerting;
+
+        private Entry(Long id, String owner, String name, Geometry geometry, Double maxThreshold, Double meanThreshold) {
+            this.id = id;
+            this.owner = owner;
+            this.name = name;
+            this.geometry = geometry;
+            this.maxThreshold = maxThreshold;
+            this.meanThreshold = meanThreshold;
+        }
+
+        private void rasterize(CappiGrid target) {
+            mask = GridMask.rasterize(geometry, target);
+            maskGrid = target;
+        }
+
+        //집계를 반영하고 경보 상태가 바뀌었으면 경보 종류를 돌려준다.
+        private GeofenceAlertType update(RainfallStats stats, String time) {
+            lastMax = stats.maxOrNull();
+            lastMean = stats.mean();
+            frameTime = time;
+            boolean exceeded = (maxThreshold != null && lastMax != null && lastMax >= maxThreshold)
+                    || (meanThreshold != null && lastMean != null && lastMean >= meanThreshold);
+            if (exceeded == alerting) {
+                return null;
+            }
+            alerting = exceeded;
+            return exceeded ? GeofenceAlertType.RAISED : GeofenceAlertType.CLEARED;
+        }
+
+        private GeofenceAlertDTO alert(GeofenceAlertType type) {
+            return new GeofenceAlertDTO(owner, type, id, name, frameTime, lastMax, lastMean, maxThreshold, meanThreshold);
+        }
+
+        private GeofenceDTO status() {
+            GridMask current = mask;
+            return new GeofenceDTO(id, name, maxThreshold, meanThreshold, current == null ? null : current.cellCount(),
+                    frameTime, lastMax, lastMean, alerting);
+        }
+    }
+}
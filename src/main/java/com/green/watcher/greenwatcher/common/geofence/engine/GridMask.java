@@ -0,0 +1,164 @@
+package com.green.watcher.greenwatcher.common.geofence.engine;
+
+import com.green.watcher.greenwatcher.common.radar.CappiGrid;
+import org.locationtech.jts.densify.Densifier;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  CAPPI 격자 위에 래스터화한 도형 (중심점이 도형 안에 있는 격자 칸 집합)
+ *  도형 꼭짓점을 격자 (열, 행) 좌표로 옮긴 뒤 행마다 scanline(even-odd)으로 칸 구간을 구하고,
+ *  위아래 행의 같은 구간을 이어 붙여 직사각형 목록으로 저장한다.
+ *  직사각형 하나는 RainfallIndex 의 누적 합 테이블로 O(1) 에 합계를 구할 수 있다.
+ */
+public final class GridMask {
+
+    //rects 는 {행 시작, 행 끝, 열 시작, 열 끝} (모두 포함) 4개씩
+    private final int[] rects;
+    private final long cellCount;
+
+    private GridMask(int[] rects, long cellCount) {
+        this.rects = rects;
+        this.cellCount = cellCount;
+    }
+
+    /*
+     *  면 도형을 격자에 래스터화한다.
+     *  격자 좌표 사이의 변은 직선으로 보므로, 긴 변은 격자 간격 정도로 잘게 나눈 뒤 옮긴다.
+     */
+    public static GridMask rasterize(Geometry geometry, CappiGrid grid) {
+        double step = grid.getGridKm() / 111.0;
+        Geometry densified = Densifier.densify(geometry, step);
+        List<double[]> rings = new ArrayList<>();
+        for (int i = 0; i < densified.getNumGeometries(); i++) {
+            if (densified.getGeometryN(i) instanceof Polygon polygon) {
+                rings.add(toGrid(polygon.getExteriorRing(), grid));
+                for (int h = 0; h < polygon.getNumInteriorRing(); h++) {
+                    rings.add(toGrid(polygon.getInteriorRingN(h), grid));
+                }
+            }
+        }
+        if (rings.isEmpty()) {
+            throw new IllegalArgumentException("면(Polygon, MultiPolygon) 도형만 래스터화할 수 있습니다.");
+        }
+        return fromRuns(scan(rings, grid.getXdim(), grid.getYdim()));
+    }
+
+    //격자 칸 수
+    public long cellCount() {
+        return cellCount;
+    }
+
+    //직사각형 수
+    public int rectCount() {
+        return rects.length / 4;
+    }
+
+    int[] rects() {
+        return rects;
+    }
+
+    //링 꼭짓점을 {열, 행, 열, 행, ...} 격자 좌표로 옮긴다.
+    private static double[] toGrid(LinearRing ring, CappiGrid grid) {
+        Coordinate[] coordinates = ring.getCoordinates();
+        double[] xy = new double[coordinates.length * 2];
+        for (int i = 0; i < coordinates.length; i++) {
+            xy[i * 2] = grid.column(coordinates[i].x, coordinates[i].y);
+            xy[i * 2 + 1] = grid.row(coordinates[i].y);
+        }
+        return xy;
+    }
+
+    /*
+     *  행 r 마다 변과의 교차점을 구해 정렬하고, 짝을 이루는 교차점 사이의 정수 열을 칸 구간으로 만든다.
+     *  반환값은 행별 {열 시작, 열 끝, ...} 구간 배열이다.
+     */
+    static int[][] scan(List<double[]> rings, int xdim, int ydim) {
+        double minRow = Double.POSITIVE_INFINITY;
+        double maxRow = Double.NEGATIVE_INFINITY;
+        for (double[] ring : rings) {
+            for (int i = 1; i < ring.length; i += 2) {
+                minRow = Math.min(minRow, ring[i]);
+                maxRow = Math.max(maxRow, ring[i]);
+            }
+        }
+        int[][] runs = new int[ydim][];
+        int first = (int) Math.max(0, Math.ceil(minRow));
+        int last = (int) Math.min(ydim - 1, Math.floor(maxRow));
+        double[] crossings = new double[16];
+        for (int r = first; r <= last; r++) {
+            int count = 0;
+            for (double[] ring : rings) {
+                for (int i = 0; i + 3 < ring.length; i += 2) {
+                    double x0 = ring[i], y0 = ring[i + 1], x1 = ring[i + 2], y1 = ring[i + 3];
+                    //꼭짓점이 두 번 세어지지 않도록 아래쪽 끝만 포함한다.
+                    if ((y0 <= r && r < y1) || (y1 <= r && r < y0)) {
+                        if (count == crossings.length) {
+                            crossings = Arrays.copyOf(crossings, count * 2);
+                        }
+                        crossings[count++] = x0 + (r - y0) * (x1 - x0) / (y1 - y0);
+                    }
+                }
+            }
+            if (count < 2) {
+                continue;
+            }
+            Arrays.sort(crossings, 0, count);
+            int[] row = new int[count];
+            int size = 0;
+            for (int k = 0; k + 1 < count; k += 2) {
+                int c0 = (int) Math.max(0, Math.ceil(crossings[k]));
+                int c1 = (int) Math.min(xdim - 1, Math.floor(crossings[k + 1]));
+                if (c0 <= c1) {
+                    row[size++] = c0;
+                    row[size++] = c1;
+                }
+            }
+            runs[r] = size == 0 ? null : Arrays.copyOf(row, size);
+        }
+        return runs;
+    }
+
+    //행별 구간을 세로로 이어 붙여 직사각형으로 만든다.
+    static GridMask fromRuns(int[][] runs) {
+        List<int[]> closed = new ArrayList<>();
+        Map<Long, int[]> open = new HashMap<>();
+        long cells = 0;
+        for (int r = 0; r < runs.length; r++) {
+            Map<Long, int[]> next = new HashMap<>();
+            int[] row = runs[r];
+            if (row != null) {
+                for (int k = 0; k < row.length; k += 2) {
+                    long key = ((long) row[k] << 32) | row[k + 1];
+                    int[] rect = open.remove(key);
+                    if (rect == null) {
+                        rect = new int[]{r, r, row[k], row[k + 1]};
+                    } else {
+                        rect[1] = r;
+                    }
+                    next.put(key, rect);
+                    cells += row[k + 1] - row[k] + 1;
+                }
+            }
+            closed.addAll(open.values());
+            open = next;
+        }
+        closed.addAll(open.values());
+        int[] rects = new int[closed.size() * 4];
+        for (int i = 0; i < closed.size(); i++) {
+            System.arraycopy(closed.get(i), 0, rects, i * 4, 4);
+        }
+        return new GridMask(rects, cells);
+    }
+}
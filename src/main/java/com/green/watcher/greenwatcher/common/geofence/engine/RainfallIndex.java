@@ -0,0 +1,126 @@
+package com.green.watcher.greenwatcher.common.geofence.engine;
+
+import com.green.watcher.greenwatcher.common.radar.RadarFrame;
+
+import java.util.Arrays;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  레이더 frame 하나의 강우 집계 색인
+ *  1. 관측값 합계와 관측 칸 수의 누적 합 테이블(summed-area table)로 직사각형 합계 / 평균을 O(1) 에 구한다.
+ *  2. BLOCK x BLOCK 칸 블록별 최댓값을 두어, 최댓값은 블록 단위로 건너뛰며 가장자리 블록만 칸을 훑는다.
+ *  frame 마다 배열을 새로 만들지 않도록 격자 크기가 같으면 이전 배열을 재사용한다. 한 스레드에서만 사용한다.
+ */
+public final class RainfallIndex {
+
+    static final int BLOCK = 16;
+
+    private int xdim;
+    private int ydim;
+    private int width;
+    private double[] sums = new double[0];
+    private int[] counts = new int[0];
+    private int blockColumns;
+    private double[] blockMax = new double[0];
+    private double[][] values;
+
+    //frame 으로 색인을 다시 만든다.
+    public void build(RadarFrame frame) {
+        xdim = frame.getGrid().getXdim();
+        ydim = frame.getGrid().getYdim();
+        values = frame.getValues();
+        width = xdim + 1;
+        int size = width * (ydim + 1);
+        if (sums.length != size) {
+            sums = new double[size];
+            counts = new int[size];
+        }
+        blockColumns = (xdim + BLOCK - 1) / BLOCK;
+        int blocks = blockColumns * ((ydim + BLOCK - 1) / BLOCK);
+        if (blockMax.length != blocks) {
+            blockMax = new double[blocks];
+        }
+        Arrays.fill(blockMax, Double.NEGATIVE_INFINITY);
+
+        for (int r = 0; r < ydim; r++) {
+            double[] row = r < values.length ? values[r] : null;
+            int columns = row == null ? 0 : Math.min(xdim, row.length);
+            double rowSum = 0;
+            int rowCount = 0;
+            int above = r * width;
+            int here = above + width;
+            int blockRow = (r / BLOCK) * blockColumns;
+            for (int c = 0; c < xdim; c++) {
+                double v = c < columns ? row[c] : -128;
+                if (RadarFrame.isObserved(v)) {
+                    rowSum += v;
+                    rowCount++;
+                    int block = blockRow + c / BLOCK;
+                    if (v > blockMax[block]) {
+                        blockMax[block] = v;
+                    }
+                }
+                sums[here + c + 1] = sums[above + c + 1] + rowSum;
+                counts[here + c + 1] = counts[above + c + 1] + rowCount;
+            }
+        }
+    }
+
+    /*
+     *  마스크 영역의 관측 칸 수, 합계, 최댓값
+     *  관측 칸이 없으면 max 는 NEGATIVE_INFINITY 이다.
+     */
+    public RainfallStats aggregate(GridMask mask) {
+        int[] rects = mask.rects();
+        double sum = 0;
+        long count = 0;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < rects.length; i += 4) {
+            int r0 = rects[i], r1 = rects[i + 1], c0 = rects[i + 2], c1 = rects[i + 3];
+            if (r1 >= ydim || c1 >= xdim) {
+                continue;
+            }
+            int top = r0 * width, bottom = (r1 + 1) * width;
+            sum += sums[bottom + c1 + 1] - sums[top + c1 + 1] - sums[bottom + c0] + sums[top + c0];
+            count += counts[bottom + c1 + 1] - counts[top + c1 + 1] - counts[bottom + c0] + counts[top + c0];
+            max = max(r0, r1, c0, c1, max);
+        }
+        return new RainfallStats(count, sum, max);
+    }
+
+    //직사각형 최댓값, 블록 최댓값이 지금까지의 최댓값 이하인 블록은 건너뛴다.
+    private double max(int r0, int r1, int c0, int c1, double current) {
+        double max = current;
+        for (int br = r0 / BLOCK; br <= r1 / BLOCK; br++) {
+            int rowStart = Math.max(r0, br * BLOCK);
+            int rowEnd = Math.min(r1, br * BLOCK + BLOCK - 1);
+            for (int bc = c0 / BLOCK; bc <= c1 / BLOCK; bc++) {
+                double block = blockMax[br * blockColumns + bc];
+                if (block <= max) {
+                    continue;
+                }
+                int colStart = Math.max(c0, bc * BLOCK);
+                int colEnd = Math.min(c1, bc * BLOCK + BLOCK - 1);
+                boolean whole = rowStart == br * BLOCK && colStart == bc * BLOCK
+                        && (rowEnd == br * BLOCK + BLOCK - 1 || rowEnd == ydim - 1)
+                        && (colEnd == bc * BLOCK + BLOCK - 1 || colEnd == xdim - 1);
+                if (whole) {
+                    max = block;
+                    continue;
+                }
+                for (int r = rowStart; r <= rowEnd && r < values.length; r++) {
+                    double[] row = values[r];
+                    for (int c = colStart; c <= colEnd && c < row.length; c++) {
+                        double v = row[c];
+                        if (v > max && RadarFrame.isObserved(v)) {
+                            max = v;
+                        }
+                    }
+                }
+            }
+        }
+        return max;
+    }
+}
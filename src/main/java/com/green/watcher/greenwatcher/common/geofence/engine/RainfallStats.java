@@ -0,0 +1,30 @@
+package com.green.watcher.greenwatcher.common.geofence.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  지오펜스 한 개의 frame 강우 집계 (mm/h)
+ */
+@Getter
+@AllArgsConstructor
+public class RainfallStats {
+
+    //관측값이 있는 칸 수
+    private long observedCells;
+    private double sum;
+    private double max;
+
+    //평균 강우, 관측 칸이 없으면 null
+    public Double mean() {
+        return observedCells == 0 ? null : sum / observedCells;
+    }
+
+    //최대 강우, 관측 칸이 없으면 null
+    public Double maxOrNull() {
+        return observedCells == 0 ? null : max;
+    }
+}
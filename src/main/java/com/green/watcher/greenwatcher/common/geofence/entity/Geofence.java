@@ -0,0 +1,58 @@
+package com.green.watcher.greenwatcher.common.geofence.entity;
+
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import jakarta.persistence.*;
+import lombok.*;
+import org.locationtech.jts.geom.Geometry;
+
+import java.time.LocalDateTime;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  강우 지오펜스 Entity
+ *  사용자가 등록한 보호 구역(유역, 행정구역 등) 면 도형과 경보 기준(mm/h)을 가진다. 좌표계는 EPSG:4326 이다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "T_GEOFENCE", indexes = {
+        @Index(name = "IDX_GEOFENCE_OWNER", columnList = "OWNER")
+})
+public class Geofence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    //등록한 사용자 아이디
+    @Column(name = "OWNER", nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "NAME", nullable = false)
+    private String name;
+
+    @Convert(converter = GeometryConverter.class)
+    @Column(name = "GEOM", nullable = false, length = 10_000_000)
+    private Geometry geometry;
+
+    //최대 강우 경보 기준 (null 이면 사용하지 않는다)
+    @Column(name = "MAX_THRESHOLD")
+    private Double maxThreshold;
+
+    //평균 강우 경보 기준 (null 이면 사용하지 않는다)
+    @Column(name = "MEAN_THRESHOLD")
+    private Double meanThreshold;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
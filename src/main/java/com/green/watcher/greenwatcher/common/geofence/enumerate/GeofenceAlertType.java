@@ -0,0 +1,13 @@
+package com.green.watcher.greenwatcher.common.geofence.enumerate;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  지오펜스 경보 종류 enum 클래스
+ *  경보 기준을 넘는 순간 RAISED, 다시 기준 아래로 내려가는 순간 CLEARED 를 한 번씩 보낸다.
+ */
+public enum GeofenceAlertType {
+    RAISED,
+    CLEARED
+}
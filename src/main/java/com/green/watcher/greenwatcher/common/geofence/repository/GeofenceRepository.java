@@ -0,0 +1,22 @@
+package com.green.watcher.greenwatcher.common.geofence.repository;
+
+import com.green.watcher.greenwatcher.common.geofence.entity.Geofence;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  강우 지오펜스 레파지토리
+ */
+public interface GeofenceRepository extends JpaRepository<Geofence, Long> {
+
+    List<Geofence> findByOwnerOrderByIdAsc(String owner);
+
+    Optional<Geofence> findByIdAndOwner(Long id, String owner);
+
+    long countByOwner(String owner);
+}
@@ -0,0 +1,174 @@
+package com.green.watcher.greenwatcher.common.geofence.service;
+
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import com.green.watcher.greenwatcher.common.geofence.GeofenceAlertWebSocketHandler;
+import com.green.watcher.greenwatcher.common.geofence.GeofenceProperties;
+import com.green.watcher.greenwatcher.common.geofence.dto.GeofenceAlertDTO;
+import com.green.watcher.greenwatcher.common.geofence.dto.GeofenceDTO;
+import com.green.watcher.greenwatcher.common.geofence.dto.GeofenceRequestDTO;
+import com.green.watcher.greenwatcher.common.geofence.engine.GeofenceEngine;
+import com.green.watcher.greenwatcher.common.geofence.entity.Geofence;
+import com.green.watcher.greenwatcher.common.geofence.repository.GeofenceRepository;
+import com.green.watcher.greenwatcher.common.radar.RadarFrame;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.geojson.GeoJsonReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  강우 지오펜스 service 클래스
+ *  지오펜스는 DB(T_GEOFENCE)에 저장하고 기동 시 GeofenceEngine 에 모두 올린다.
+ *  레이더 frame 평가 결과 경보는 소유자의 웹소켓 세션으로 보낸다.
+ *  1.0.1 엔진 등록 / 삭제는 트랜잭션 커밋 뒤에 하여 롤백된 지오펜스가 엔진에 남거나 커밋 전 삭제되지 않게 한다.
+ *        load 는 레이더 조회(RadarFramePoller)보다 먼저 돈다.
+ */
+@Slf4j
+@Service
+public class GeofenceService {
+
+    private final GeofenceRepository geofenceRepository;
+    private final GeofenceEngine engine;
+    private final GeofenceAlertWebSocketHandler alertHandler;
+    private final GeofenceProperties properties;
+
+    @Autowired
+    public GeofenceService(GeofenceRepository geofenceRepository, GeofenceEngine engine,
+                           GeofenceAlertWebSocketHandler alertHandler, GeofenceProperties properties) {
+        this.geofenceRepository = geofenceRepository;
+        this.engine = engine;
+        this.alertHandler = alertHandler;
+        this.properties = properties;
+    }
+
+    //저장된 지오펜스를 엔진에 올린다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(readOnly = true)
+    public void load() {
+        for (Geofence geofence : geofenceRepository.findAll()) {
+            try {
+                engine.register(geofence);
+            } catch (IllegalArgumentException e) {
+                log.warn("지오펜스 {} 를 올리지 못했습니다: {}", geofence.getId(), e.getMessage());
+            }
+        }
+        log.info("강우 지오펜스 {} 개 로드", engine.size());
+    }
+
+    @Transactional(readOnly = true)
+    public List<GeofenceDTO> findAll(String owner) {
+        return geofenceRepository.findByOwnerOrderByIdAsc(owner).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    /*
+     *  지오펜스 등록
+     *  도형 / 기준이 잘못되었거나 사용자별 최대 수를 넘으면 IllegalArgumentException
+     */
+    @Transactional
+    public GeofenceDTO register(String owner, GeofenceRequestDTO request) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new IllegalArgumentException("name 이 필요합니다.");
+        }
+        if (request.getMaxThreshold() == null && request.getMeanThreshold() == null) {
+            throw new IllegalArgumentException("maxThreshold, meanThreshold 중 하나 이상이 필요합니다.");
+        }
+        if (geofenceRepository.countByOwner(owner) >= properties.getMaxPerUser()) {
+            throw new IllegalArgumentException("지오펜스는 " + properties.getMaxPerUser() + " 개까지 등록할 수 있습니다.");
+        }
+        Geometry geometry = polygon(request);
+        //격자 밖 도형이면 저장하기 전에 거절한다.
+        engine.validate(geometry);
+        Geofence geofence = geofenceRepository.save(Geofence.builder()
+                .owner(owner)
+                .name(request.getName())
+                .geometry(geometry)
+                .maxThreshold(request.getMaxThreshold())
+                .meanThreshold(request.getMeanThreshold())
+                .build());
+        afterCommit(() -> {
+            try {
+                engine.register(geofence);
+            } catch (IllegalArgumentException e) {
+                log.warn("지오펜스 {} 를 올리지 못했습니다: {}", geofence.getId(), e.getMessage());
+            }
+        });
+        return toDTO(geofence);
+    }
+
+    //지오펜스 삭제, 없거나 다른 사용자의 지오펜스면 false
+    @Transactional
+    public boolean delete(String owner, Long id) {
+        return geofenceRepository.findByIdAndOwner(id, owner)
+                .map(geofence -> {
+                    geofenceRepository.delete(geofence);
+                    afterCommit(() -> engine.remove(id));
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /*
+     *  레이더 frame 을 평가하고 경보를 보낸다.
+     */
+    public List<GeofenceAlertDTO> onFrame(RadarFrame frame) {
+        List<GeofenceAlertDTO> alerts = engine.evaluate(frame);
+        alerts.forEach(alertHandler::publish);
+        return alerts;
+    }
+
+    //트랜잭션 안이면 커밋된 뒤에, 아니면 바로 실행한다.
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private GeofenceDTO toDTO(Geofence geofence) {
+        GeofenceDTO status = engine.status(geofence.getId());
+        if (status != null) {
+            return status;
+        }
+        return new GeofenceDTO(geofence.getId(), geofence.getName(), geofence.getMaxThreshold(), geofence.getMeanThreshold(),
+                null, null, null, null, false);
+    }
+
+    private static Geometry polygon(GeofenceRequestDTO request) {
+        if (request.getGeometry() == null || request.getGeometry().isNull()) {
+            throw new IllegalArgumentException("geometry 가 필요합니다.");
+        }
+        Geometry geometry;
+        try {
+            geometry = new GeoJsonReader(GeometryConverter.geometryFactory()).read(request.getGeometry().toString());
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("geometry 를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        if (!(geometry instanceof Polygonal) || geometry.isEmpty()) {
+            throw new IllegalArgumentException("geometry 는 Polygon 또는 MultiPolygon 이어야 합니다.");
+        }
+        return geometry.isValid() ? geometry : geometry.buffer(0);
+    }
+}
@@ -0,0 +1,15 @@
+package com.green.watcher.greenwatcher.common.isochrone;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  도달 가능 영역(isochrone) 설정 클래스
+ */
+@Configuration
+@EnableConfigurationProperties(IsochroneProperties.class)
+public class IsochroneConfig {
+}
@@ -0,0 +1,48 @@
+package com.green.watcher.greenwatcher.common.isochrone;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  도달 가능 영역(isochrone) 설정 (application.yml 의 isochrone.*)
+ *  1.0.1 OSRM table 요청 전용 스레드 수 / 대기열 크기와 계산 하나의 동시 batch 수 추가
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "isochrone")
+public class IsochroneProperties {
+
+    //한 변의 격자 칸 수 (짝수로 맞추어 출발지가 격자점이 되게 한다)
+    private int gridSize = 24;
+
+    //OSRM table 요청 한 번의 목적지 수 (출발지를 더한 좌표 수가 OSRM --max-table-size 이하여야 한다)
+    private int batchSize = 99;
+
+    //출발지를 맞추는 격자 간격(m), 캐시 key 에 쓴다
+    private double snapMeters = 100;
+
+    //최대 시간 예산(분)
+    private int maxMinutes = 60;
+
+    //격자점 / 출발지에서 가장 가까운 도로까지 이동 속도(m/s)
+    private double offRoadSpeed = 1.4;
+
+    //OSRM table 요청 전용 스레드 수, 노드 전체의 동시 table 요청 수 상한이다. (upstream.adaptive-limit.initial-limit 보다 작게 둔다)
+    private int threads = 8;
+
+    //전용 스레드가 모두 바쁠 때 기다릴 수 있는 batch 작업 수, 넘으면 503
+    private int queueSize = 64;
+
+    //계산 하나가 동시에 보내는 table 요청 수
+    private int parallelBatches = 4;
+
+    private Duration cacheTtl = Duration.ofMinutes(10);
+
+    private int cacheSize = 256;
+}
@@ -0,0 +1,48 @@
+package com.green.watcher.greenwatcher.common.isochrone.controller;
+
+import com.green.watcher.greenwatcher.common.isochrone.dto.IsochroneDTO;
+import com.green.watcher.greenwatcher.common.isochrone.enumerate.TravelProfile;
+import com.green.watcher.greenwatcher.common.isochrone.service.IsochroneService;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  도달 가능 영역(isochrone) 컨트롤러
+ *  출발지(x=경도, y=위도)에서 이동 수단(profile)으로 minutes 분 안에 갈 수 있는 영역을 GeoJSON 으로 돌려준다.
+ *  OSRM 응답을 받지 못하면 502, 동시 호출 한도 / 서킷 거절은 OverloadExceptionResponseHandler 가 503 으로 응답한다.
+ */
+@RestController
+@RequestMapping("/map/isochrone")
+@RequiredArgsConstructor
+public class IsochroneController {
+
+    private final IsochroneService isochroneService;
+
+    @GetMapping
+    public ResponseEntity<UserApiResponse<IsochroneDTO>> isochrone(@RequestParam double x,
+                                                                  @RequestParam double y,
+                                                                  @RequestParam(defaultValue = "car") String profile,
+                                                                  @RequestParam(defaultValue = "10") int minutes) {
+        try {
+            return ResponseEntity.ok(UserApiResponse.success(
+                    isochroneService.isochrone(x, y, TravelProfile.fromKey(profile), minutes)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(UserApiResponse.fail(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                    .body(UserApiResponse.fail(HttpStatus.BAD_GATEWAY.value(), "경로 서버(OSRM) 응답을 받지 못했습니다."));
+        }
+    }
+}
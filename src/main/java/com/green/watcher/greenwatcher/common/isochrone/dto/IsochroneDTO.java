@@ -0,0 +1,31 @@
+package com.green.watcher.greenwatcher.common.isochrone.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  도달 가능 영역 응답 객체
+ *  x, y 는 격자에 맞춘 출발지(EPSG:4326), geometry 는 시간 예산 안에 갈 수 있는 영역(GeoJSON) 이다.
+ *  캐시된 결과는 처음 계산할 때의 elapsedMillis 를 그대로 가진다.
+ */
+@Getter
+@AllArgsConstructor
+public class IsochroneDTO {
+
+    private String profile;
+    private int minutes;
+    private double x;
+    private double y;
+    //이동 시간을 조회한 격자점 수
+    private int sampled;
+    //시간 예산 안에 갈 수 있는 격자점 수
+    private int reachable;
+    private long elapsedMillis;
+
+    @JsonRawValue
+    private String geometry;
+}
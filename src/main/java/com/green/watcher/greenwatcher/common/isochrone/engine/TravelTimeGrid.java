@@ -0,0 +1,144 @@
+package com.green.watcher.greenwatcher.common.isochrone.engine;
+
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  출발지 중심 정사각 격자의 격자점별 이동 시간(초)
+ *  격자점 번호는 row * (size + 1) + column 이며 (0, 0) 이 남서쪽 모서리, 출발지는 가운데 격자점이다.
+ *  이동 시간을 모르는(도로로 갈 수 없는) 격자점은 무한대로 둔다.
+ *  contour 는 marching squares 로 칸마다 시간 예산 안쪽 영역을 다각형으로 만들고(변 위 경계는 선형 보간) 모두 합친다.
+ *  두 대각 모서리만 안쪽인 칸(saddle)은 이어진 것으로 본다.
+ */
+public class TravelTimeGrid {
+
+    private static final double EARTH_RADIUS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS * Math.PI / 180;
+
+    private final double originX;
+    private final double originY;
+    //한 변의 칸 수 (짝수)
+    private final int size;
+    //칸 한 변의 경도 / 위도 크기(도)
+    private final double dx;
+    private final double dy;
+    private final double[] seconds;
+
+    public TravelTimeGrid(double originX, double originY, int size, double cellMeters) {
+        this.originX = originX;
+        this.originY = originY;
+        this.size = Math.max(2, size + (size & 1));
+        this.dy = cellMeters / METERS_PER_DEGREE;
+        this.dx = cellMeters / (METERS_PER_DEGREE * Math.cos(Math.toRadians(originY)));
+        this.seconds = new double[(this.size + 1) * (this.size + 1)];
+        Arrays.fill(seconds, Double.POSITIVE_INFINITY);
+    }
+
+    public double getOriginX() {
+        return originX;
+    }
+
+    public double getOriginY() {
+        return originY;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    //격자점 수
+    public int points() {
+        return seconds.length;
+    }
+
+    public double x(int point) {
+        return originX + (point % (size + 1) - size / 2) * dx;
+    }
+
+    public double y(int point) {
+        return originY + (point / (size + 1) - size / 2) * dy;
+    }
+
+    public double seconds(int point) {
+        return seconds[point];
+    }
+
+    //격자점 이동 시간, 음수나 NaN 은 갈 수 없는 것으로 본다.
+    public void set(int point, double value) {
+        seconds[point] = value >= 0 ? value : Double.POSITIVE_INFINITY;
+    }
+
+    //시간 예산 안에 갈 수 있는 격자점 수
+    public int reachable(double budget) {
+        int count = 0;
+        for (double value : seconds) {
+            if (value <= budget) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /*
+     *  시간 예산(초) 안에 갈 수 있는 영역
+     *  갈 수 있는 곳이 없으면 빈 Polygon
+     */
+    public Geometry contour(double budget) {
+        GeometryFactory geometryFactory = GeometryConverter.geometryFactory();
+        List<Polygon> pieces = new ArrayList<>();
+        int[] corners = new int[4];
+        List<Coordinate> ring = new ArrayList<>(9);
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                //반시계 방향 모서리 : 남서, 남동, 북동, 북서
+                corners[0] = row * (size + 1) + column;
+                corners[1] = corners[0] + 1;
+                corners[2] = corners[1] + size + 1;
+                corners[3] = corners[0] + size + 1;
+                ring.clear();
+                for (int k = 0; k < 4; k++) {
+                    int a = corners[k];
+                    int b = corners[(k + 1) % 4];
+                    boolean insideA = seconds[a] <= budget;
+                    if (insideA) {
+                        ring.add(new Coordinate(x(a), y(a)));
+                    }
+                    if (insideA != seconds[b] <= budget) {
+                        ring.add(insideA ? interpolate(a, b, budget) : interpolate(b, a, budget));
+                    }
+                }
+                if (ring.size() < 3) {
+                    continue;
+                }
+                ring.add(ring.get(0).copy());
+                Polygon polygon = geometryFactory.createPolygon(ring.toArray(new Coordinate[0]));
+                if (polygon.getArea() > 0) {
+                    pieces.add(polygon);
+                }
+            }
+        }
+        if (pieces.isEmpty()) {
+            return geometryFactory.createPolygon();
+        }
+        return OverlayNGRobust.union(geometryFactory.buildGeometry(pieces));
+    }
+
+    //안쪽 격자점 inside 에서 바깥 격자점 outside 방향으로 이동 시간이 budget 이 되는 지점, 바깥이 무한대이면 중간 지점
+    private Coordinate interpolate(int inside, int outside, double budget) {
+        double from = seconds[inside];
+        double to = seconds[outside];
+        double ratio = Double.isInfinite(to) ? 0.5 : Math.max(0, Math.min(1, (budget - from) / (to - from)));
+        return new Coordinate(x(inside) + (x(outside) - x(inside)) * ratio, y(inside) + (y(outside) - y(inside)) * ratio);
+    }
+}
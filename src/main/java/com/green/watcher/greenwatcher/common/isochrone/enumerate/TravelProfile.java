@@ -0,0 +1,39 @@
+package com.green.watcher.greenwatcher.common.isochrone.enumerate;
+
+import com.green.watcher.greenwatcher.common.upstream.UpstreamProvider;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  이동 수단(OSRM 프로필) enum 클래스
+ *  key 는 요청 파라미터 이름(ol-route.js 의 경로탐색 종류와 같다), provider 는 프로필의 OSRM 서버이다.
+ *  extentSpeedKmh 는 격자 범위(출발지에서 시간 예산 동안 갈 수 있는 최대 거리)를 정할 때 쓰는 속도이다.
+ */
+@Getter
+public enum TravelProfile {
+    CAR("car", UpstreamProvider.OSRM, 80),
+    FOOT("foot", UpstreamProvider.OSRM_FOOT, 6),
+    BIKE("bike", UpstreamProvider.OSRM_BIKE, 20);
+
+    private final String key;
+    private final UpstreamProvider provider;
+    private final double extentSpeedKmh;
+
+    TravelProfile(String key, UpstreamProvider provider, double extentSpeedKmh) {
+        this.key = key;
+        this.provider = provider;
+        this.extentSpeedKmh = extentSpeedKmh;
+    }
+
+    //요청 파라미터 이름으로 프로필 조회, 없으면 null
+    public static TravelProfile fromKey(String key) {
+        for (TravelProfile profile : values()) {
+            if (profile.key.equalsIgnoreCase(key)) {
+                return profile;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,287 @@
+package com.green.watcher.greenwatcher.common.isochrone.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.watcher.greenwatcher.common.concurrency.ConcurrencyLimitExceededException;
+import com.green.watcher.greenwatcher.common.isochrone.IsochroneProperties;
+import com.green.watcher.greenwatcher.common.isochrone.dto.IsochroneDTO;
+import com.green.watcher.greenwatcher.common.isochrone.engine.TravelTimeGrid;
+import com.green.watcher.greenwatcher.common.isochrone.enumerate.TravelProfile;
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamClient;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamResponse;
+import org.locationtech.jts.io.geojson.GeoJsonWriter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  도달 가능 영역(isochrone) service 클래스
+ *  1. 출발지를 snap-meters 격자에 맞추고 (프로필, 시간 예산, 맞춘 출발지) 로 캐시를 찾는다.
+ *  2. 출발지 중심으로 프로필 속도 x 시간 예산 만큼 떨어진 정사각 범위에 격자점을 만든다.
+ *  3. 격자점을 batch-size 개씩 나누어 OSRM table(출발지 1 : 목적지 N) 요청을 전용 스레드 풀에서 병렬로 보낸다.
+ *     도로까지의 거리(OSRM 이 좌표를 도로에 맞춘 거리)는 off-road-speed 로 걸어가는 시간으로 더한다.
+ *  4. TravelTimeGrid 의 marching squares 로 시간 예산 안쪽 영역을 다각형으로 만든다.
+ *  같은 key 의 동시 요청은 먼저 온 요청의 계산 결과를 함께 기다린다. 계산이 실패하면 캐시에 남기지 않는다.
+ *  캐시 적중 / 미적중 수는 isochrone.cacheHits, isochrone.cacheMisses 카운터로 남긴다.
+ *  1.0.1 table 요청은 applicationTaskExecutor 와 나눈 전용 고정 크기 스레드 풀에서 보내고, 계산 하나의 동시 요청 수를 parallel-batches 로 제한한다.
+ *        전용 풀 대기열이 차면 기다리지 않고 ConcurrencyLimitExceededException(503) 으로 거절한다.
+ *        batch 하나가 실패하면 남은 batch 는 보내지 않는다.
+ */
+@Service
+public class IsochroneService implements DisposableBean {
+
+    private static final double EARTH_RADIUS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS * Math.PI / 180;
+    //OSRM 서버는 프로필마다 따로 띄우므로 URL 의 프로필 이름은 모두 driving 이다. (ol-route.js 와 같다)
+    private static final String TABLE_PATH = "/table/v1/driving/";
+
+    private final UpstreamClient upstreamClient;
+    private final ObjectMapper objectMapper;
+    private final IsochroneProperties properties;
+    private final Executor executor;
+    private final LongAdder cacheHits;
+    private final LongAdder cacheMisses;
+    private final Map<String, CachedIsochrone> cache = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IsochroneService(UpstreamClient upstreamClient, ObjectMapper objectMapper, IsochroneProperties properties,
+                            MetricsRegistry metricsRegistry) {
+        this(upstreamClient, objectMapper, properties, newExecutor(properties), metricsRegistry);
+    }
+
+    //테스트에서 executor 를 직접 넘길 때 쓴다.
+    public IsochroneService(UpstreamClient upstreamClient, ObjectMapper objectMapper, IsochroneProperties properties,
+                            Executor executor, MetricsRegistry metricsRegistry) {
+        this.upstreamClient = upstreamClient;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.executor = executor;
+        this.cacheHits = metricsRegistry.counter("isochrone.cacheHits");
+        this.cacheMisses = metricsRegistry.counter("isochrone.cacheMisses");
+    }
+
+    /*
+     *  OSRM table 요청 전용 스레드 풀
+     *  executor 를 빈으로 노출하면 applicationTaskExecutor 자동 설정이 꺼지므로 서비스 안에서 만든다. (ExecutionConfig 참고)
+     */
+    private static ThreadPoolExecutor newExecutor(IsochroneProperties properties) {
+        int threads = Math.max(1, properties.getThreads());
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueSize())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "isochrone-osrm-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /*
+     *  출발지(경도, 위도)에서 minutes 분 안에 갈 수 있는 영역
+     *  요청 값이 잘못되면 IllegalArgumentException, OSRM 응답을 받지 못하면 IOException
+     */
+    public IsochroneDTO isochrone(double x, double y, TravelProfile profile, int minutes) throws IOException {
+        if (profile == null) {
+            throw new IllegalArgumentException("profile 은 car, foot, bike 중 하나여야 합니다.");
+        }
+        if (minutes < 1 || minutes > properties.getMaxMinutes()) {
+            throw new IllegalArgumentException("minutes 는 1 ~ " + properties.getMaxMinutes() + " 이어야 합니다.");
+        }
+        if (!(Math.abs(x) <= 180) || !(Math.abs(y) <= 85)) {
+            throw new IllegalArgumentException("출발지 좌표가 경위도 범위를 벗어났습니다.");
+        }
+        double snapY = properties.getSnapMeters() / METERS_PER_DEGREE;
+        long row = Math.round(y / snapY);
+        double originY = row * snapY;
+        double snapX = properties.getSnapMeters() / (METERS_PER_DEGREE * Math.cos(Math.toRadians(originY)));
+        long column = Math.round(x / snapX);
+        double originX = column * snapX;
+        String key = profile.getKey() + ":" + minutes + ":" + column + ":" + row;
+
+        long now = System.nanoTime();
+        CachedIsochrone entry = new CachedIsochrone(new CompletableFuture<>(), now + properties.getCacheTtl().toNanos());
+        CachedIsochrone current = cache.compute(key, (k, cached) -> cached != null && !cached.isExpired(now) ? cached : entry);
+        if (current != entry) {
+            cacheHits.increment();
+            return await(current.result);
+        }
+        cacheMisses.increment();
+        evict(now);
+        try {
+            IsochroneDTO result = compute(originX, originY, profile, minutes);
+            entry.result.complete(result);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            cache.remove(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /*
+     *  격자점 이동 시간을 OSRM table 로 병렬 조회하여 등시선 다각형을 만든다.
+     *  batch 들을 parallel-batches 개 작업에 번갈아 나누어 주고, 작업 하나는 맡은 batch 를 차례로 보낸다.
+     */
+    IsochroneDTO compute(double x, double y, TravelProfile profile, int minutes) throws IOException {
+        long start = System.nanoTime();
+        double budget = minutes * 60.0;
+        double extent = profile.getExtentSpeedKmh() / 3.6 * budget;
+        TravelTimeGrid grid = new TravelTimeGrid(x, y, properties.getGridSize(), 2 * extent / Math.max(2, properties.getGridSize()));
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int batches = (grid.points() + batchSize - 1) / batchSize;
+        int workers = Math.max(1, Math.min(properties.getParallelBatches(), batches));
+        AtomicBoolean failed = new AtomicBoolean();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+        try {
+            for (int worker = 0; worker < workers; worker++) {
+                int first = worker;
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int batch = first; batch < batches && !failed.get(); batch += workers) {
+                        int from = batch * batchSize;
+                        try {
+                            queryBatch(profile, grid, from, Math.min(grid.points(), from + batchSize));
+                        } catch (IOException e) {
+                            failed.set(true);
+                            throw new UncheckedIOException(e);
+                        } catch (RuntimeException e) {
+                            failed.set(true);
+                            throw e;
+                        }
+                    }
+                }, executor));
+            }
+        } catch (RejectedExecutionException e) {
+            failed.set(true);
+            throw new ConcurrencyLimitExceededException("isochrone", "도달 가능 영역 계산 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        try {
+            futures.forEach(CompletableFuture::join);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException cause) {
+                throw cause.getCause();
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+
+        GeoJsonWriter writer = new GeoJsonWriter();
+        writer.setEncodeCRS(false);
+        return new IsochroneDTO(profile.getKey(), minutes, x, y, grid.points(), grid.reachable(budget),
+                (System.nanoTime() - start) / 1_000_000, writer.write(grid.contour(budget)));
+    }
+
+    /*
+     *  출발지에서 격자점 [from, to) 까지의 이동 시간을 OSRM table 요청 한 번으로 조회한다.
+     *  OSRM 이 경로를 찾지 못한 격자점(null)은 갈 수 없는 것으로 둔다.
+     */
+    private void queryBatch(TravelProfile profile, TravelTimeGrid grid, int from, int to) throws IOException {
+        StringBuilder path = new StringBuilder(TABLE_PATH);
+        appendCoordinate(path, grid.getOriginX(), grid.getOriginY());
+        for (int point = from; point < to; point++) {
+            appendCoordinate(path.append(';'), grid.x(point), grid.y(point));
+        }
+        path.append("?sources=0&annotations=duration&destinations=");
+        for (int i = 1; i <= to - from; i++) {
+            path.append(i == 1 ? "" : ";").append(i);
+        }
+
+        UpstreamResponse response = upstreamClient.get(profile.getProvider(), path.toString());
+        JsonNode root = response.getBody() == null || response.getBody().length == 0
+                ? objectMapper.createObjectNode() : objectMapper.readTree(response.getBody());
+        if (!response.isSuccess() || !"Ok".equals(root.path("code").asText())) {
+            throw new IOException("OSRM table HTTP " + response.getStatus() + " " + root.path("code").asText()
+                    + " " + root.path("message").asText());
+        }
+        JsonNode durations = root.path("durations").path(0);
+        JsonNode destinations = root.path("destinations");
+        double originWalk = root.path("sources").path(0).path("distance").asDouble(0);
+        for (int i = 0; i < to - from; i++) {
+            JsonNode duration = durations.path(i);
+            if (!duration.isNumber()) {
+                continue;
+            }
+            double walk = originWalk + destinations.path(i).path("distance").asDouble(0);
+            grid.set(from + i, duration.asDouble() + walk / properties.getOffRoadSpeed());
+        }
+    }
+
+    private static void appendCoordinate(StringBuilder path, double x, double y) {
+        path.append(String.format(Locale.ROOT, "%.6f,%.6f", x, y));
+    }
+
+    //만료된 결과를 지우고, 그래도 cache-size 를 넘으면 가장 먼저 만료될 결과부터 지운다.
+    private void evict(long now) {
+        if (cache.size() <= properties.getCacheSize()) {
+            return;
+        }
+        cache.values().removeIf(cached -> cached.isExpired(now));
+        while (cache.size() > properties.getCacheSize()) {
+            Map.Entry<String, CachedIsochrone> oldest = null;
+            for (Map.Entry<String, CachedIsochrone> candidate : cache.entrySet()) {
+                if (oldest == null || candidate.getValue().expiresAt < oldest.getValue().expiresAt) {
+                    oldest = candidate;
+                }
+            }
+            if (oldest == null || !cache.remove(oldest.getKey(), oldest.getValue())) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+
+    private static IsochroneDTO await(CompletableFuture<IsochroneDTO> result) throws IOException {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    //계산 중이거나 계산을 마친 결과와 만료 시각
+    private static final class CachedIsochrone {
+        private final CompletableFuture<IsochroneDTO> result;
+        private final long expiresAt;
+
+        CachedIsochrone(CompletableFuture<IsochroneDTO> result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.green.watcher.greenwatcher.common.logging;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  접근 로그 빈 설정 클래스
+ *  필터는 security 필터 체인보다 앞에 두어 인증 실패 응답까지 기록한다.
+ */
+@Configuration
+@EnableConfigurationProperties(AccessLogProperties.class)
+@ConditionalOnProperty(prefix = "access-log", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogConfig {
+
+    @Bean
+    public AccessLogRingBuffer accessLogRingBuffer(AccessLogProperties properties) {
+        return new AccessLogRingBuffer(properties.getBufferSize());
+    }
+
+    @Bean
+    public AccessLogWriter accessLogWriter(AccessLogRingBuffer accessLogRingBuffer, AccessLogProperties properties) {
+        return new AccessLogWriter(accessLogRingBuffer, properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(AccessLogRingBuffer accessLogRingBuffer, AccessLogProperties properties) {
+        FilterRegistrationBean<AccessLogFilter> registration =
+                new FilterRegistrationBean<>(new AccessLogFilter(accessLogRingBuffer, properties));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
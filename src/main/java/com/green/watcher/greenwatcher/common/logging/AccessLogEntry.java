@@ -0,0 +1,80 @@
+package com.green.watcher.greenwatcher.common.logging;
+
+import com.green.watcher.greenwatcher.common.concurrency.MpscRingBuffer;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  링 버퍼 슬롯에 미리 할당되어 재사용되는 접근 로그 항목
+ *  요청 스레드가 값을 채우고 writer 스레드가 읽는다. 가시성은 AccessLogRingBuffer(MpscRingBuffer) 의 시퀀스가 보장한다.
+ */
+public class AccessLogEntry implements MpscRingBuffer.Slot {
+
+    long timestamp;
+    String method;
+    String uri;
+    int status;
+    long durationMicros;
+    String clientIp;
+    boolean slow;
+
+    void set(long timestamp, String method, String uri, int status, long durationMicros, String clientIp, boolean slow) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.uri = uri;
+        this.status = status;
+        this.durationMicros = durationMicros;
+        this.clientIp = clientIp;
+        this.slow = slow;
+    }
+
+    @Override
+    public void clear() {
+        this.method = null;
+        this.uri = null;
+        this.clientIp = null;
+    }
+
+    /*
+     *  JSON 한 줄로 직렬화한다.
+     */
+    void appendJson(StringBuilder sb) {
+        sb.append("{\"ts\":").append(timestamp)
+                .append(",\"method\":\"").append(method)
+                .append("\",\"uri\":");
+        appendString(sb, uri);
+        sb.append(",\"status\":").append(status)
+                .append(",\"durationUs\":").append(durationMicros)
+                .append(",\"ip\":");
+        appendString(sb, clientIp);
+        sb.append(",\"slow\":").append(slow)
+                .append('}');
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
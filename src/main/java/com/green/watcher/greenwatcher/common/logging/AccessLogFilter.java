@@ -0,0 +1,54 @@
+package com.green.watcher.greenwatcher.common.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  접근 로그 수집 필터
+ *  요청 메타데이터를 링 버퍼에 넣기만 하고, 직렬화와 파일 기록은 AccessLogWriter 스레드가 처리한다.
+ *  느린 요청은 항상, 나머지는 sample-rate 비율로 기록한다.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private final AccessLogRingBuffer buffer;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final boolean slowOnly;
+
+    public AccessLogFilter(AccessLogRingBuffer buffer, AccessLogProperties properties) {
+        this.buffer = buffer;
+        this.sampleRate = properties.getSampleRate();
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.slowOnly = properties.isSlowOnly();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            boolean slow = elapsed >= slowThresholdNanos;
+            if (slow || (!slowOnly && sampled())) {
+                buffer.offer(System.currentTimeMillis(), request.getMethod(), request.getRequestURI(),
+                        response.getStatus(), elapsed / 1000, request.getRemoteAddr(), slow);
+            }
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
@@ -0,0 +1,42 @@
+package com.green.watcher.greenwatcher.common.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  접근 로그 설정 (application.yml 의 access-log.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperties {
+
+    private boolean enabled = true;
+
+    //일반 요청 기록 비율 (0.0 ~ 1.0)
+    private double sampleRate = 1.0;
+
+    //이 시간 이상 걸린 요청은 샘플링과 관계없이 항상 기록한다.
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    //true 면 느린 요청만 기록한다.
+    private boolean slowOnly = false;
+
+    //링 버퍼 크기 (2의 거듭제곱으로 올림)
+    private int bufferSize = 8192;
+
+    //한 번에 기록하는 최대 건수
+    private int batchSize = 512;
+
+    //버퍼가 비었을 때 writer 스레드 대기 시간
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    //JSON lines 파일 경로
+    private String file = "logs/access.log";
+}
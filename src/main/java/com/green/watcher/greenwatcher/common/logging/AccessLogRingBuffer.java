@@ -0,0 +1,33 @@
+package com.green.watcher.greenwatcher.common.logging;
+
+import com.green.watcher.greenwatcher.common.concurrency.MpscRingBuffer;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  접근 로그용 lock-free 링 버퍼 (다중 생산자 / 단일 소비자)
+ *  슬롯마다 시퀀스 번호를 두어 생산자는 CAS 한 번으로 슬롯을 차지하고, 미리 할당된 항목에 값을 채운다.
+ *  버퍼가 가득 차면 요청 스레드를 막지 않고 해당 로그를 버린다(dropped 증가).
+ *  동시성 처리는 공용 MpscRingBuffer 로 옮기고 항목을 채우는 offer 만 둔다.
+ */
+public class AccessLogRingBuffer extends MpscRingBuffer<AccessLogEntry> {
+
+    public AccessLogRingBuffer(int requestedCapacity) {
+        super(requestedCapacity, AccessLogEntry::new);
+    }
+
+    /*
+     *  로그 항목을 버퍼에 넣는다.
+     *  버퍼가 가득 차 있으면 false 를 반환한다.
+     */
+    public boolean offer(long timestamp, String method, String uri, int status, long durationMicros, String clientIp, boolean slow) {
+        long position = claim();
+        if (position < 0) {
+            return false;
+        }
+        slot(position).set(timestamp, method, uri, status, durationMicros, clientIp, slow);
+        publish(position);
+        return true;
+    }
+}
@@ -0,0 +1,94 @@
+package com.green.watcher.greenwatcher.common.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  접근 로그 백그라운드 writer
+ *  링 버퍼에서 항목을 배치로 꺼내 JSON lines 형식으로 파일에 기록한다.
+ *  파일 I/O 는 이 스레드에서만 일어나므로 요청 스레드의 지연에 영향을 주지 않는다.
+ */
+@Slf4j
+public class AccessLogWriter implements InitializingBean, DisposableBean, Runnable {
+
+    private final AccessLogRingBuffer buffer;
+    private final AccessLogProperties properties;
+    private final StringBuilder batch = new StringBuilder(64 * 1024);
+
+    private volatile boolean running;
+    private Thread thread;
+    private Writer writer;
+
+    public AccessLogWriter(AccessLogRingBuffer buffer, AccessLogProperties properties) {
+        this.buffer = buffer;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        Path path = Path.of(properties.getFile());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        running = true;
+        thread = new Thread(this, "access-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void run() {
+        long idleNanos = properties.getFlushInterval().toNanos();
+        while (running) {
+            if (flushBatch() == 0) {
+                LockSupport.parkNanos(idleNanos);
+            }
+        }
+        //종료 시 남은 항목을 모두 기록한다.
+        while (flushBatch() > 0) {
+            // drain
+        }
+    }
+
+    private int flushBatch() {
+        batch.setLength(0);
+        int count = buffer.drain(entry -> {
+            entry.appendJson(batch);
+            batch.append('\n');
+        }, properties.getBatchSize());
+        if (count > 0) {
+            try {
+                writer.write(batch.toString());
+                writer.flush();
+            } catch (IOException e) {
+                log.warn("access log write failed: {}", e.getMessage());
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(5000);
+        }
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
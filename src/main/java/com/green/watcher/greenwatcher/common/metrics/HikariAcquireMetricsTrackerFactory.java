@@ -0,0 +1,37 @@
+package com.green.watcher.greenwatcher.common.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  Hikari 커넥션 획득 시간 측정기
+ *  커넥션 획득 대기 시간을 hikari.acquire 로, 획득 타임아웃을 오류로 기록한다.
+ */
+public class HikariAcquireMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    private final MetricsRegistry metricsRegistry;
+
+    public HikariAcquireMetricsTrackerFactory(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        LatencyRecorder recorder = metricsRegistry.recorder("hikari.acquire");
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                recorder.record(elapsedAcquiredNanos, false);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                recorder.record(0, true);
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.green.watcher.greenwatcher.common.metrics;
+
+import com.green.watcher.greenwatcher.common.metrics.dto.LatencySnapshot;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  구간별 지연 시간 기록기
+ *  기록(record)은 HdrHistogram Recorder 와 LongAdder 만 사용하므로 wait-free 이다.
+ *  조회(snapshot) 시 window 가 지났으면 구간 히스토그램을 교체하여 최근 window 의 백분위를 계산한다.
+ *  1.0.1 누적 지연 시간 합계(sum)를 함께 계산하고, 조회가 없어도 MetricsRegistry 가 주기적으로 구간을 교체(rollIfDue)한다.
+ */
+public class LatencyRecorder {
+
+    //1us ~ 60s 범위, 유효숫자 2자리 (마이크로초 단위로 기록)
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(1, HIGHEST_TRACKABLE_MICROS, 2);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+
+    //아래 필드는 snapshot() 안에서만 접근한다.
+    private final Histogram cumulative = new Histogram(1, HIGHEST_TRACKABLE_MICROS, 2);
+    private Histogram interval;
+    private long lastRollNanos = System.nanoTime();
+    private long totalErrors;
+    private long windowErrors;
+    private long totalSumMicros;
+    private double windowSeconds;
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(long elapsedNanos, boolean error) {
+        long micros = Math.max(1, Math.min(elapsedNanos / 1000, HIGHEST_TRACKABLE_MICROS));
+        recorder.recordValue(micros);
+        sumMicros.add(micros);
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    //startNanos(System.nanoTime) 부터 지금까지의 시간을 기록한다.
+    public void recordSince(long startNanos, boolean error) {
+        record(System.nanoTime() - startNanos, error);
+    }
+
+    //window 가 지났으면(처음 포함) 구간 히스토그램을 교체한다.
+    public synchronized void rollIfDue(long windowNanos) {
+        long now = System.nanoTime();
+        if (interval == null || now - lastRollNanos >= windowNanos) {
+            interval = recorder.getIntervalHistogram(interval);
+            cumulative.add(interval);
+            windowErrors = errors.sumThenReset();
+            totalErrors += windowErrors;
+            totalSumMicros += sumMicros.sumThenReset();
+            windowSeconds = Math.max(0.001, (now - lastRollNanos) / 1_000_000_000.0);
+            lastRollNanos = now;
+        }
+    }
+
+    /*
+     *  최근 window 구간과 누적 통계를 반환한다.
+     */
+    public synchronized LatencySnapshot snapshot(long windowNanos) {
+        rollIfDue(windowNanos);
+        long windowCount = interval.getTotalCount();
+        return new LatencySnapshot(
+                name,
+                cumulative.getTotalCount(),
+                toMillis(totalSumMicros),
+                totalErrors,
+                windowCount / windowSeconds,
+                windowCount == 0 ? 0.0 : (double) windowErrors / windowCount,
+                toMillis(interval.getValueAtPercentile(50)),
+                toMillis(interval.getValueAtPercentile(99)),
+                toMillis(interval.getValueAtPercentile(99.9)),
+                toMillis(interval.getMaxValue())
+        );
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,55 @@
+package com.green.watcher.greenwatcher.common.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  지연 시간 계측 빈 설정 클래스
+ */
+@Configuration
+public class MetricsConfig {
+
+    //security 필터 체인 바로 앞
+    @Bean
+    public FilterRegistrationBean<RequestLatencyFilter> requestLatencyFilter(MetricsRegistry metricsRegistry) {
+        FilterRegistrationBean<RequestLatencyFilter> registration = new FilterRegistrationBean<>(new RequestLatencyFilter(metricsRegistry));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    //security 필터 체인 바로 뒤
+    @Bean
+    public FilterRegistrationBean<RequestLatencyFilter.SecurityExitFilter> securityExitFilter() {
+        FilterRegistrationBean<RequestLatencyFilter.SecurityExitFilter> registration =
+                new FilterRegistrationBean<>(new RequestLatencyFilter.SecurityExitFilter());
+        registration.addUrlPatterns("/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    /*
+     *  Hikari 풀이 시작되기 전에 커넥션 획득 측정기를 등록한다.
+     *  BeanPostProcessor 이므로 static 으로 선언하고 MetricsRegistry 는 지연 조회한다.
+     */
+    @Bean
+    public static BeanPostProcessor hikariMetricsPostProcessor(ObjectProvider<MetricsRegistry> metricsRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null) {
+                    dataSource.setMetricsTrackerFactory(new HikariAcquireMetricsTrackerFactory(metricsRegistry.getObject()));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package com.green.watcher.greenwatcher.common.metrics;
+
+import com.green.watcher.greenwatcher.common.metrics.dto.LatencySnapshot;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.2
+ *  지연 시간 기록기 / 카운터 저장소
+ *  주요 hot path(필터 체인, JWT 검증, 사용자 조회, 커넥션 획득, 업스트림 호출)가 이름별로 기록한다.
+ *  조회 시점에 값을 읽는 게이지(동시성 한도 등) 추가
+ *  1.0.2 조회가 없는 동안 쌓인 기록이 다음 구간에 섞이지 않도록 window / 4 마다 구간 교체를 확인한다.
+ */
+@Component
+public class MetricsRegistry {
+
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private ScheduledExecutorService roller;
+
+    @Autowired
+    public MetricsRegistry(@Value("${metrics.window:10s}") Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    //테스트 등 스프링 밖에서 사용할 때의 기본 생성자
+    public MetricsRegistry() {
+        this(Duration.ofSeconds(10));
+    }
+
+    //스프링 빈일 때만 시작한다. (스프링 밖에서는 조회 시점에만 구간을 교체한다)
+    @PostConstruct
+    public void start() {
+        roller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-window-roller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, windowNanos / 4);
+        roller.scheduleAtFixedRate(() -> recorders.values().forEach(recorder -> recorder.rollIfDue(windowNanos)),
+                period, period, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (roller != null) {
+            roller.shutdownNow();
+        }
+    }
+
+    public LatencyRecorder recorder(String name) {
+        LatencyRecorder recorder = recorders.get(name);
+        return recorder != null ? recorder : recorders.computeIfAbsent(name, LatencyRecorder::new);
+    }
+
+    public LongAdder counter(String name) {
+        LongAdder counter = counters.get(name);
+        return counter != null ? counter : counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    //같은 이름으로 다시 등록하면 마지막 supplier 를 쓴다.
+    public void gauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    public List<LatencySnapshot> latencySnapshots() {
+        return recorders.values().stream()
+                .map(recorder -> recorder.snapshot(windowNanos))
+                .sorted(Comparator.comparing(LatencySnapshot::getName))
+                .toList();
+    }
+
+    public Map<String, Long> counterValues() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        return values;
+    }
+
+    public Map<String, Long> gaugeValues() {
+        Map<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        return values;
+    }
+}
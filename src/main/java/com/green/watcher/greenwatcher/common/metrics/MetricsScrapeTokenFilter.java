@@ -0,0 +1,49 @@
+package com.green.watcher.greenwatcher.common.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  수집기 스크랩 토큰 필터
+ *  Authorization: Bearer 헤더가 metrics.scrape-token 과 같을 때만 통과시킨다. (세션 / 폼 로그인 없이 스크랩)
+ *  토큰이 설정되지 않았으면 스크랩 엔드포인트를 노출하지 않는다(404).
+ */
+public class MetricsScrapeTokenFilter extends OncePerRequestFilter {
+
+    private final byte[] token;
+
+    public MetricsScrapeTokenFilter(String token) {
+        this.token = token == null || token.isBlank() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (token == null) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        //길이 외의 정보가 응답 시간으로 드러나지 않도록 상수 시간 비교
+        if (header == null || !header.startsWith("Bearer ")
+                || !MessageDigest.isEqual(token, header.substring(7).getBytes(StandardCharsets.UTF_8))) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer realm=\"metrics\"");
+            response.sendError(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,55 @@
+package com.green.watcher.greenwatcher.common.metrics;
+
+import com.green.watcher.greenwatcher.common.metrics.dto.LatencySnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  prometheus text exposition 형식 변환
+ *  관리자 조회(/admin/metrics/prometheus)와 수집기 스크랩(/metrics/prometheus)이 같은 본문을 쓴다.
+ *  1.0.1 summary 에 _sum 을 함께 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrometheusExposition {
+
+    private final MetricsRegistry metricsRegistry;
+
+    public String render() {
+        StringBuilder sb = new StringBuilder();
+        List<LatencySnapshot> snapshots = metricsRegistry.latencySnapshots();
+
+        sb.append("# TYPE greenwatcher_latency_seconds summary\n");
+        for (LatencySnapshot snapshot : snapshots) {
+            appendQuantile(sb, snapshot.getName(), "0.5", snapshot.getP50());
+            appendQuantile(sb, snapshot.getName(), "0.99", snapshot.getP99());
+            appendQuantile(sb, snapshot.getName(), "0.999", snapshot.getP999());
+            sb.append("greenwatcher_latency_seconds_sum{name=\"").append(snapshot.getName()).append("\"} ")
+                    .append(snapshot.getSum() / 1000.0).append('\n');
+            sb.append("greenwatcher_latency_seconds_count{name=\"").append(snapshot.getName()).append("\"} ")
+                    .append(snapshot.getCount()).append('\n');
+        }
+        sb.append("# TYPE greenwatcher_errors_total counter\n");
+        for (LatencySnapshot snapshot : snapshots) {
+            sb.append("greenwatcher_errors_total{name=\"").append(snapshot.getName()).append("\"} ")
+                    .append(snapshot.getErrors()).append('\n');
+        }
+        sb.append("# TYPE greenwatcher_events_total counter\n");
+        metricsRegistry.counterValues().forEach((name, value) ->
+                sb.append("greenwatcher_events_total{name=\"").append(name).append("\"} ").append(value).append('\n'));
+        sb.append("# TYPE greenwatcher_gauge gauge\n");
+        metricsRegistry.gaugeValues().forEach((name, value) ->
+                sb.append("greenwatcher_gauge{name=\"").append(name).append("\"} ").append(value).append('\n'));
+        return sb.toString();
+    }
+
+    private static void appendQuantile(StringBuilder sb, String name, String quantile, double millis) {
+        sb.append("greenwatcher_latency_seconds{name=\"").append(name).append("\",quantile=\"").append(quantile).append("\"} ")
+                .append(millis / 1000.0).append('\n');
+    }
+}
@@ -0,0 +1,61 @@
+package com.green.watcher.greenwatcher.common.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  요청 전체 / security 필터 체인 지연 시간 측정 필터
+ *  security 필터 체인 바로 앞에서 시작 시각을 재고, 체인 바로 뒤의 SecurityExitFilter 가 통과 시각을 남긴다.
+ *  통과 시각이 없으면 security 단계에서 응답이 끝난 요청(인증 실패 등)이므로 전체 시간을 security 시간으로 본다.
+ */
+public class RequestLatencyFilter extends OncePerRequestFilter {
+
+    static final String SECURITY_EXIT_ATTRIBUTE = RequestLatencyFilter.class.getName() + ".securityExit";
+
+    private final LatencyRecorder serverRecorder;
+    private final LatencyRecorder securityRecorder;
+
+    public RequestLatencyFilter(MetricsRegistry metricsRegistry) {
+        this.serverRecorder = metricsRegistry.recorder("http.server");
+        this.securityRecorder = metricsRegistry.recorder("security.filterChain");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean error = true;
+        try {
+            filterChain.doFilter(request, response);
+            error = response.getStatus() >= 500;
+        } finally {
+            long end = System.nanoTime();
+            Object exit = request.getAttribute(SECURITY_EXIT_ATTRIBUTE);
+            securityRecorder.record((exit instanceof Long exitNanos ? exitNanos : end) - start, false);
+            serverRecorder.record(end - start, error);
+        }
+    }
+
+    /*
+     *  security 필터 체인을 통과한 시각을 요청 속성에 남기는 필터
+     */
+    public static class SecurityExitFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request,
+                                        HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            request.setAttribute(SECURITY_EXIT_ATTRIBUTE, System.nanoTime());
+            filterChain.doFilter(request, response);
+        }
+    }
+}
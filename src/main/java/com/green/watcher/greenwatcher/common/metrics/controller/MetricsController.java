@@ -0,0 +1,57 @@
+package com.green.watcher.greenwatcher.common.metrics.controller;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.metrics.PrometheusExposition;
+import com.green.watcher.greenwatcher.common.metrics.dto.LatencySnapshot;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.2
+ *  지연 시간 / 처리량 조회 컨트롤러
+ *  관리자 대시보드가 주기적으로 조회한다.
+ *  게이지(동시성 한도 / 사용 중 수) 조회 추가
+ *  prometheus 본문 생성을 PrometheusExposition 으로 분리 (수집기용 /metrics/prometheus 와 공유)
+ */
+@RestController
+@RequestMapping("/admin/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final MetricsRegistry metricsRegistry;
+
+    private final PrometheusExposition prometheusExposition;
+
+    @GetMapping("/latency")
+    public ResponseEntity<UserApiResponse<List<LatencySnapshot>>> latency() {
+        return ResponseEntity.ok(UserApiResponse.success(metricsRegistry.latencySnapshots()));
+    }
+
+    @GetMapping("/counters")
+    public ResponseEntity<UserApiResponse<Map<String, Long>>> counters() {
+        return ResponseEntity.ok(UserApiResponse.success(metricsRegistry.counterValues()));
+    }
+
+    @GetMapping("/gauges")
+    public ResponseEntity<UserApiResponse<Map<String, Long>>> gauges() {
+        return ResponseEntity.ok(UserApiResponse.success(metricsRegistry.gaugeValues()));
+    }
+
+    /*
+     *  prometheus text exposition 형식 (수집기는 /metrics/prometheus 를 스크랩한다)
+     */
+    @GetMapping(value = "/prometheus", produces = MediaType.TEXT_PLAIN_VALUE)
+    public String prometheus() {
+        return prometheusExposition.render();
+    }
+}
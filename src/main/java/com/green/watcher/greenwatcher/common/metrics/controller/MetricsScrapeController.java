@@ -0,0 +1,28 @@
+package com.green.watcher.greenwatcher.common.metrics.controller;
+
+import com.green.watcher.greenwatcher.common.metrics.PrometheusExposition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  수집기 스크랩 컨트롤러
+ *  관리자 세션 없이 bearer 토큰(metrics.scrape-token)으로 인증한다. (SecurityConfig, MetricsScrapeTokenFilter)
+ */
+@RestController
+@RequestMapping("/metrics")
+@RequiredArgsConstructor
+public class MetricsScrapeController {
+
+    private final PrometheusExposition prometheusExposition;
+
+    @GetMapping(value = "/prometheus", produces = MediaType.TEXT_PLAIN_VALUE)
+    public String prometheus() {
+        return prometheusExposition.render();
+    }
+}
@@ -0,0 +1,28 @@
+package com.green.watcher.greenwatcher.common.metrics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  지연 시간 통계 응답 객체
+ *  count / errors 는 누적값, 나머지는 최근 window 구간 값이다. 지연 시간 단위는 ms.
+ *  1.0.1 누적 지연 시간 합계(sum) 추가
+ */
+@Getter
+@AllArgsConstructor
+public class LatencySnapshot {
+
+    private String name;
+    private long count;
+    private double sum;
+    private long errors;
+    private double throughput;
+    private double errorRate;
+    private double p50;
+    private double p99;
+    private double p999;
+    private double max;
+}
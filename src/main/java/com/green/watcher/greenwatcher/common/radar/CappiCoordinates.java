@@ -0,0 +1,64 @@
+package com.green.watcher.greenwatcher.common.radar;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  CAPPI 격자에 EPSG:4326 좌표를 할당하는 클래스
+ *  utils.js 의 assignCoordinates 를 옮긴 것으로 turf.destination 과 같은 구면 공식(반경 6371.0088km)을 사용한다.
+ *  1. 열 j 의 경도는 행의 시작점에서 동쪽(90도)으로 sqrt((gridKm * j)^2 + altitude^2) km 떨어진 지점의 경도이다.
+ *  2. 위도는 행마다 북쪽(0도)으로 gridKm 씩 이동한다.
+ *  3. 관측 없음(-127), 영역 밖(-128) 값은 건너뛴다.
+ *  열별 각거리의 sin / cos 는 행에 관계없이 같으므로 한 번만 계산한다.
+ */
+public final class CappiCoordinates {
+
+    //turf 의 earthRadius (km)
+    static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final double NO_DATA = -127;
+    private static final double OUT_OF_RANGE = -128;
+
+    private CappiCoordinates() {
+    }
+
+    public static RadarPoints assign(double startLon, double startLat, double gridKm,
+                                     double[][] grid, int xdim, int ydim, double altitude) {
+        int rows = Math.min(ydim, grid.length);
+        double[] sinDelta = new double[xdim];
+        double[] cosDelta = new double[xdim];
+        for (int j = 0; j < xdim; j++) {
+            double distance = Math.sqrt(Math.pow(gridKm * j, 2) + Math.pow(altitude, 2));
+            double delta = distance / EARTH_RADIUS_KM;
+            sinDelta[j] = Math.sin(delta);
+            cosDelta[j] = Math.cos(delta);
+        }
+        double rowDelta = gridKm / EARTH_RADIUS_KM;
+        double sinRowDelta = Math.sin(rowDelta);
+        double cosRowDelta = Math.cos(rowDelta);
+        double lambda = Math.toRadians(startLon);
+
+        RadarPoints points = new RadarPoints(rows * xdim / 4);
+        double lat = startLat;
+        for (int i = 0; i < rows; i++) {
+            double[] row = grid[i];
+            double phi = Math.toRadians(lat);
+            double sinPhi = Math.sin(phi);
+            double cosPhi = Math.cos(phi);
+            int columns = Math.min(xdim, row.length);
+            for (int j = 0; j < columns; j++) {
+                double v = row[j];
+                if (v == NO_DATA || v == OUT_OF_RANGE) {
+                    continue;
+                }
+                //bearing 90 도 destination
+                double sinPhi2 = sinPhi * cosDelta[j];
+                double lon = lambda + Math.atan2(sinDelta[j] * cosPhi, cosDelta[j] - sinPhi * sinPhi2);
+                points.add(Math.toDegrees(lon), lat, v);
+            }
+            //bearing 0 도 destination (다음 행 위도)
+            lat = Math.toDegrees(Math.asin(sinPhi * cosRowDelta + cosPhi * sinRowDelta));
+        }
+        return points;
+    }
+}
@@ -0,0 +1,109 @@
+package com.green.watcher.greenwatcher.common.radar;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  기상청 CAPPI 압축 데이터(cappiCompressData) 디코더
+ *  utils.js 의 decodeCAPPIData 를 옮긴 것으로, BASE64 → zlib 압축 해제 → CSV 순서로 처리한다.
+ *  CSV 를 문자열 배열로 나누지 않고 바이트를 직접 읽어 행 단위 double 배열로 반환한다.
+ */
+public final class CappiDecoder {
+
+    private static final int INFLATE_BUFFER_SIZE = 64 * 1024;
+
+    private CappiDecoder() {
+    }
+
+    /*
+     *  BASE64 로 인코딩된 압축 CSV 를 행 단위 값 배열로 디코딩한다.
+     *  빈 행(마지막 개행 뒤)은 포함하지 않는다.
+     */
+    public static double[][] decode(String cappiCompressData) {
+        byte[] compressed = Base64.getMimeDecoder().decode(cappiCompressData);
+        return parseCsv(inflate(compressed));
+    }
+
+    //zlib 압축 해제
+    static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] buffer = new byte[INFLATE_BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("CAPPI 데이터 압축을 해제할 수 없습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /*
+     *  "v,v,v\nv,v,v\n" 형식의 ASCII CSV 를 파싱한다.
+     *  숫자는 정수 / 소수만 있으므로 Double.parseDouble 없이 직접 누적한다.
+     */
+    static double[][] parseCsv(byte[] csv) {
+        List<double[]> rows = new ArrayList<>();
+        double[] row = new double[256];
+        int columns = 0;
+        int i = 0;
+        int length = csv.length;
+        while (i < length) {
+            byte c = csv[i];
+            if (c == '\n' || c == '\r') {
+                if (columns > 0) {
+                    rows.add(Arrays.copyOf(row, columns));
+                    columns = 0;
+                }
+                i++;
+                continue;
+            }
+            //숫자 하나 읽기
+            boolean negative = false;
+            if (c == '-') {
+                negative = true;
+                i++;
+            }
+            double value = 0;
+            while (i < length && csv[i] >= '0' && csv[i] <= '9') {
+                value = value * 10 + (csv[i++] - '0');
+            }
+            if (i < length && csv[i] == '.') {
+                i++;
+                double scale = 0.1;
+                while (i < length && csv[i] >= '0' && csv[i] <= '9') {
+                    value += (csv[i++] - '0') * scale;
+                    scale *= 0.1;
+                }
+            }
+            if (columns == row.length) {
+                row = Arrays.copyOf(row, columns * 2);
+            }
+            row[columns++] = negative ? -value : value;
+            //구분자(,) 또는 공백 건너뛰기
+            while (i < length && csv[i] != '\n' && csv[i] != '\r' && (csv[i] < '0' || csv[i] > '9') && csv[i] != '-' && csv[i] != '.') {
+                i++;
+            }
+        }
+        if (columns > 0) {
+            rows.add(Arrays.copyOf(row, columns));
+        }
+        return rows.toArray(new double[0][]);
+    }
+}
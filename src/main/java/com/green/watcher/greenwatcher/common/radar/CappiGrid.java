@@ -0,0 +1,75 @@
+package com.green.watcher.greenwatcher.common.radar;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  CAPPI 격자 정의 (시작 경위도, 격자 간격, 크기, 고도)
+ *  격자 (행 i, 열 j) 의 좌표는 CappiCoordinates 와 같은 구면 공식을 따른다.
+ *  1. 행 i 의 위도는 시작 위도에서 북쪽으로 gridKm * i 만큼 떨어진 위도이다.
+ *  2. 열 j 의 경도는 행의 시작점에서 동쪽으로 sqrt((gridKm * j)^2 + altitude^2) km 떨어진 지점의 경도이다.
+ *  경위도 -> (열, 행) 역변환도 닫힌 식으로 계산하므로 도형을 격자 좌표로 바로 옮길 수 있다.
+ */
+@Getter
+@EqualsAndHashCode
+public final class CappiGrid {
+
+    private final double startLon;
+    private final double startLat;
+    private final double gridKm;
+    private final int xdim;
+    private final int ydim;
+    private final double altitudeKm;
+
+    public CappiGrid(double startLon, double startLat, double gridKm, int xdim, int ydim, double altitudeKm) {
+        if (gridKm <= 0 || xdim <= 0 || ydim <= 0) {
+            throw new IllegalArgumentException("CAPPI 격자 정의가 올바르지 않습니다.");
+        }
+        this.startLon = startLon;
+        this.startLat = startLat;
+        this.gridKm = gridKm;
+        this.xdim = xdim;
+        this.ydim = ydim;
+        this.altitudeKm = altitudeKm;
+    }
+
+    //행 간 위도 간격(도)
+    private double rowDeltaDegrees() {
+        return Math.toDegrees(gridKm / CappiCoordinates.EARTH_RADIUS_KM);
+    }
+
+    //행 i 의 위도
+    public double latitude(int row) {
+        return startLat + row * rowDeltaDegrees();
+    }
+
+    //행 i, 열 j 의 경도
+    public double longitude(int row, int column) {
+        double phi = Math.toRadians(latitude(row));
+        double cosPhi = Math.cos(phi);
+        double delta = Math.hypot(gridKm * column, altitudeKm) / CappiCoordinates.EARTH_RADIUS_KM;
+        double cosDelta = Math.cos(delta);
+        return startLon + Math.toDegrees(Math.atan2(Math.sin(delta) * cosPhi, cosDelta * cosPhi * cosPhi));
+    }
+
+    //위도의 (실수) 행 좌표
+    public double row(double lat) {
+        return (lat - startLat) / rowDeltaDegrees();
+    }
+
+    /*
+     *  경위도의 (실수) 열 좌표
+     *  tan(경도차) = tan(각거리) / cos(위도) 를 거꾸로 풀고 고도 성분을 뺀다.
+     *  시작 경도보다 서쪽이면 음수를 돌려준다.
+     */
+    public double column(double lon, double lat) {
+        double dLambda = Math.toRadians(lon - startLon);
+        double delta = Math.atan(Math.tan(Math.abs(dLambda)) * Math.cos(Math.toRadians(lat)));
+        double distance = delta * CappiCoordinates.EARTH_RADIUS_KM;
+        double ground = Math.sqrt(Math.max(0, distance * distance - altitudeKm * altitudeKm));
+        return Math.copySign(ground / gridKm, dLambda);
+    }
+}
@@ -0,0 +1,33 @@
+package com.green.watcher.greenwatcher.common.radar;
+
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  레이더 강우 관측 한 시각(frame)
+ *  values[행][열] 은 CappiDecoder 로 디코딩한 값이며 -127(관측 없음), -128(영역 밖)은 관측값이 아니다.
+ */
+@Getter
+public class RadarFrame {
+
+    private static final double NO_DATA = -127;
+    private static final double OUT_OF_RANGE = -128;
+
+    //관측 시각 (yyyyMMddHHmm)
+    private final String dateTime;
+    private final CappiGrid grid;
+    private final double[][] values;
+
+    public RadarFrame(String dateTime, CappiGrid grid, double[][] values) {
+        this.dateTime = dateTime;
+        this.grid = grid;
+        this.values = values;
+    }
+
+    //관측값 여부
+    public static boolean isObserved(double value) {
+        return value != NO_DATA && value != OUT_OF_RANGE && !Double.isNaN(value);
+    }
+}
@@ -0,0 +1,54 @@
+package com.green.watcher.greenwatcher.common.radar;
+
+import java.util.Arrays;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  좌표가 할당된 레이더 격자 값 목록
+ *  점 하나마다 객체를 만들지 않도록 경도 / 위도 / 값을 각각의 배열에 담는다. (EPSG:4326)
+ */
+public class RadarPoints {
+
+    private double[] lon;
+    private double[] lat;
+    private double[] value;
+    private int size;
+
+    public RadarPoints(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        this.lon = new double[capacity];
+        this.lat = new double[capacity];
+        this.value = new double[capacity];
+    }
+
+    void add(double x, double y, double v) {
+        if (size == lon.length) {
+            int capacity = size * 2;
+            lon = Arrays.copyOf(lon, capacity);
+            lat = Arrays.copyOf(lat, capacity);
+            value = Arrays.copyOf(value, capacity);
+        }
+        lon[size] = x;
+        lat[size] = y;
+        value[size] = v;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double lon(int index) {
+        return lon[index];
+    }
+
+    public double lat(int index) {
+        return lat[index];
+    }
+
+    public double value(int index) {
+        return value[index];
+    }
+}
@@ -0,0 +1,23 @@
+package com.green.watcher.greenwatcher.common.ratelimit;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  요청 제한 빈 설정 클래스
+ *  RateLimitFilter 는 서블릿 필터로 자동 등록되지 않도록 빈으로 만들지 않고 SecurityConfig 에서 필터 체인에 추가한다.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties, MetricsRegistry metricsRegistry) {
+        return new RateLimiter(properties, metricsRegistry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.green.watcher.greenwatcher.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  요청 제한 필터
+ *  security 필터 체인의 인증 필터 뒤에 두어 인증된 사용자 id 를 키로 쓸 수 있게 한다.
+ *  제한을 넘으면 429 와 Retry-After 헤더를 응답하고 이후 필터(로그인 BCrypt, DB 조회)를 실행하지 않는다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final byte[] rejectedBody;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) throws IOException {
+        this.rateLimiter = rateLimiter;
+        //거절 응답 본문은 항상 같으므로 미리 직렬화한다.
+        this.rejectedBody = objectMapper.writeValueAsBytes(UserApiResponse.fail(HttpStatus.TOO_MANY_REQUESTS.value(),
+                "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long retryAfterMillis = rateLimiter.tryAcquire(request);
+        if (retryAfterMillis == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMillis + 999) / 1000));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(rejectedBody.length);
+        response.getOutputStream().write(rejectedBody);
+    }
+}
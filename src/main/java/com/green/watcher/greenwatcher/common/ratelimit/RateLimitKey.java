@@ -0,0 +1,16 @@
+package com.green.watcher.greenwatcher.common.ratelimit;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  요청 제한 기준 enum 클래스
+ *  USER: 인증된 사용자 id (JWT subject, 세션 로그인 사용자), 인증되지 않은 요청은 제한하지 않는다.
+ *  IP: 클라이언트 IP
+ *  USER_OR_IP: 인증된 요청은 사용자 id, 아니면 IP
+ */
+public enum RateLimitKey {
+    USER,
+    IP,
+    USER_OR_IP
+}
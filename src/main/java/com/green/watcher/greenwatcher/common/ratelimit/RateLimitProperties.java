@@ -0,0 +1,48 @@
+package com.green.watcher.greenwatcher.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  요청 제한 설정 (application.yml 의 rate-limit.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    //정책마다 두는 버킷 수 (2의 거듭제곱으로 올림)
+    private int stripes = 16384;
+
+    //프록시 뒤에서 X-Forwarded-For 의 첫 주소를 클라이언트 IP 로 사용할지 여부
+    private boolean trustForwardedFor = false;
+
+    //경로 패턴별 정책, 요청 경로에 맞는 정책을 모두 적용한다.
+    private List<Policy> policies = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        //카운터 이름 (ratelimit.rejected.{name})
+        private String name;
+        //경로 패턴 (예: /api/**)
+        private String pattern;
+        //HTTP 메서드 (비어 있으면 모든 메서드)
+        private String method;
+        private RateLimitKey key = RateLimitKey.USER_OR_IP;
+        //순간 최대 요청 수
+        private long capacity = 60;
+        //초당 충전 요청 수
+        private double refillPerSecond = 10;
+    }
+}
@@ -0,0 +1,140 @@
+package com.green.watcher.greenwatcher.common.ratelimit;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  경로 패턴별 요청 제한기
+ *  정책마다 고정 크기 TokenBucketArray 를 두고, 키(사용자 id / IP)를 해시 두 개로 두 버킷에 대응시킨다.
+ *  두 버킷 중 하나라도 토큰을 내주면 허용하므로 다른 키와 버킷이 겹쳐도 그 키 때문에 막히지 않고,
+ *  과도한 요청을 보내는 키는 자신의 두 버킷을 모두 비우게 되어 거절된다.
+ *  키 수와 관계없이 메모리가 일정하고 정리 작업이 필요 없다.
+ */
+public class RateLimiter {
+
+    private final boolean enabled;
+    private final boolean trustForwardedFor;
+    private final int mask;
+    private final List<CompiledPolicy> policies = new ArrayList<>();
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimiter(RateLimitProperties properties, MetricsRegistry metricsRegistry) {
+        this.enabled = properties.isEnabled();
+        this.trustForwardedFor = properties.isTrustForwardedFor();
+        int stripes = Integer.highestOneBit(Math.max(1, properties.getStripes() - 1)) << 1;
+        this.mask = stripes - 1;
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            policies.add(new CompiledPolicy(policy,
+                    new TokenBucketArray(stripes, policy.getCapacity(), policy.getRefillPerSecond()),
+                    metricsRegistry.counter("ratelimit.rejected." + policy.getName())));
+        }
+    }
+
+    /*
+     *  요청 경로에 맞는 정책을 모두 적용한다.
+     *  허용이면 0, 거절이면 다시 시도할 수 있을 때까지의 시간(ms, 최소 1)을 반환한다.
+     */
+    public long tryAcquire(HttpServletRequest request) {
+        if (!enabled) {
+            return 0;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String user = null;
+        boolean userResolved = false;
+        for (CompiledPolicy policy : policies) {
+            if ((policy.method != null && !policy.method.equalsIgnoreCase(request.getMethod()))
+                    || !pathMatcher.match(policy.pattern, path)) {
+                continue;
+            }
+            if (!userResolved) {
+                user = currentUser();
+                userResolved = true;
+            }
+            String key = switch (policy.key) {
+                case USER -> user == null ? null : "u:" + user;
+                case IP -> "ip:" + clientIp(request);
+                case USER_OR_IP -> user == null ? "ip:" + clientIp(request) : "u:" + user;
+            };
+            if (key == null) {
+                continue;
+            }
+            long retryAfter = policy.tryAcquire(key, mask);
+            if (retryAfter > 0) {
+                return retryAfter;
+            }
+        }
+        return 0;
+    }
+
+    //인증된 사용자 id (JWT subject 또는 세션 로그인 사용자), 없으면 null
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                int comma = forwarded.indexOf(',');
+                return (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static final class CompiledPolicy {
+        private final String pattern;
+        private final String method;
+        private final RateLimitKey key;
+        private final TokenBucketArray buckets;
+        private final LongAdder rejected;
+
+        private CompiledPolicy(RateLimitProperties.Policy policy, TokenBucketArray buckets, LongAdder rejected) {
+            this.pattern = policy.getPattern();
+            this.method = policy.getMethod() == null || policy.getMethod().isBlank() ? null : policy.getMethod();
+            this.key = policy.getKey();
+            this.buckets = buckets;
+            this.rejected = rejected;
+        }
+
+        //두 버킷 중 하나라도 토큰이 있으면 허용(0), 아니면 재시도까지의 시간
+        private long tryAcquire(String value, int mask) {
+            int hash = spread(value.hashCode());
+            int first = hash & mask;
+            int second = spread(hash ^ 0x9E3779B9) & mask;
+            boolean firstAcquired = buckets.tryAcquire(first);
+            boolean secondAcquired = second != first && buckets.tryAcquire(second);
+            if (firstAcquired || secondAcquired) {
+                return 0;
+            }
+            rejected.increment();
+            return Math.max(1, Math.min(buckets.millisUntilAvailable(first), buckets.millisUntilAvailable(second)));
+        }
+    }
+}
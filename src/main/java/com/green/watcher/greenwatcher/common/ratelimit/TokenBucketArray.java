@@ -0,0 +1,87 @@
+package com.green.watcher.greenwatcher.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  락 없는 토큰 버킷 배열
+ *  버킷 하나의 상태(마지막 충전 시각, 남은 토큰)를 long 하나에 담아 CAS 로 갱신한다.
+ *  상위 40비트: 생성 시점 기준 경과 밀리초(+1, 0 은 미사용 버킷), 하위 24비트: 남은 토큰 x 1000
+ *  따라서 버킷 용량은 최대 16777 토큰이다.
+ */
+public class TokenBucketArray {
+
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MILLI = 1000;
+    private static final long MAX_CAPACITY = TOKEN_MASK / MILLI;
+
+    private final AtomicLongArray buckets;
+    private final long capacityMilli;
+    //초당 충전 토큰 수 = 밀리초당 충전 milli-token 수
+    private final double refillMilliPerMilli;
+    private final long baseNanos = System.nanoTime();
+
+    public TokenBucketArray(int size, long capacity, double refillPerSecond) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("버킷 용량은 1 ~ " + MAX_CAPACITY + " 이어야 합니다: " + capacity);
+        }
+        if (refillPerSecond <= 0) {
+            throw new IllegalArgumentException("충전 속도는 0 보다 커야 합니다: " + refillPerSecond);
+        }
+        this.buckets = new AtomicLongArray(size);
+        this.capacityMilli = capacity * MILLI;
+        this.refillMilliPerMilli = refillPerSecond;
+    }
+
+    /*
+     *  버킷에서 토큰 하나를 꺼낸다.
+     *  토큰이 없으면 false
+     */
+    public boolean tryAcquire(int index) {
+        long now = nowMillis();
+        while (true) {
+            long state = buckets.get(index);
+            long last = state >>> TOKEN_BITS;
+            long tokens;
+            long refilledAt;
+            if (state == 0) {
+                tokens = capacityMilli;
+                refilledAt = now;
+            } else {
+                long added = (long) (Math.max(0, now - last) * refillMilliPerMilli);
+                tokens = Math.min(capacityMilli, (state & TOKEN_MASK) + added);
+                //충전량이 0 이면 시각을 그대로 두어 느린 충전 속도에서도 경과 시간이 누적되게 한다.
+                refilledAt = added == 0 ? last : now;
+            }
+            if (tokens < MILLI) {
+                return false;
+            }
+            long next = (refilledAt << TOKEN_BITS) | (tokens - MILLI);
+            if (buckets.compareAndSet(index, state, next)) {
+                return true;
+            }
+        }
+    }
+
+    //토큰 하나가 충전될 때까지 남은 시간(ms), 이미 있으면 0
+    public long millisUntilAvailable(int index) {
+        long state = buckets.get(index);
+        if (state == 0) {
+            return 0;
+        }
+        long added = (long) (Math.max(0, nowMillis() - (state >>> TOKEN_BITS)) * refillMilliPerMilli);
+        long tokens = Math.min(capacityMilli, (state & TOKEN_MASK) + added);
+        return tokens >= MILLI ? 0 : (long) Math.ceil((MILLI - tokens) / refillMilliPerMilli);
+    }
+
+    public int size() {
+        return buckets.length();
+    }
+
+    private long nowMillis() {
+        return (System.nanoTime() - baseNanos) / 1_000_000 + 1;
+    }
+}
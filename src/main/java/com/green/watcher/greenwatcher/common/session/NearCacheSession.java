@@ -0,0 +1,186 @@
+package com.green.watcher.greenwatcher.common.session;
+
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  near-cache 세션
+ *  요청마다 near-cache 의 스냅샷을 복사한 MapSession 위에서 동작하며 변경 내용(속성, 만료 시간, id)을 따로 기록한다.
+ *  저장 시 NearCacheSessionRepository 가 변경이 있으면 JDBC 세션에 반영하고,
+ *  마지막 접근 시간만 바뀌었으면 비동기 일괄 반영 대상으로 넘긴다.
+ */
+public class NearCacheSession implements Session {
+
+    private final MapSession state;
+    private final Function<String, Session> originLoader;
+    private String originalId;
+    private boolean isNew;
+
+    //변경된 속성 (값이 null 이면 삭제)
+    private final Map<String, Object> delta = new HashMap<>();
+    private boolean maxInactiveIntervalChanged;
+    private boolean lastAccessedTimeChanged;
+
+    //JDBC 세션 원본 (신규 세션이거나 id 변경 / 저장 시에만 로드한다)
+    private Session origin;
+
+    NearCacheSession(MapSession state, Session origin, boolean isNew, Function<String, Session> originLoader) {
+        this.state = state;
+        this.originalId = state.getId();
+        this.origin = origin;
+        this.isNew = isNew;
+        this.originLoader = originLoader;
+    }
+
+    @Override
+    public String getId() {
+        return state.getId();
+    }
+
+    /*
+     *  세션 고정 공격 방지용 id 변경
+     *  id 는 JDBC 세션이 만들어야 DB 와 일치하므로 원본을 로드하여 변경한다.
+     */
+    @Override
+    public String changeSessionId() {
+        String newId = origin().changeSessionId();
+        state.setId(newId);
+        return newId;
+    }
+
+    @Override
+    public <T> T getAttribute(String attributeName) {
+        return state.getAttribute(attributeName);
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        return state.getAttributeNames();
+    }
+
+    @Override
+    public void setAttribute(String attributeName, Object attributeValue) {
+        state.setAttribute(attributeName, attributeValue);
+        delta.put(attributeName, attributeValue);
+    }
+
+    @Override
+    public void removeAttribute(String attributeName) {
+        state.removeAttribute(attributeName);
+        delta.put(attributeName, null);
+    }
+
+    @Override
+    public Instant getCreationTime() {
+        return state.getCreationTime();
+    }
+
+    @Override
+    public void setLastAccessedTime(Instant lastAccessedTime) {
+        state.setLastAccessedTime(lastAccessedTime);
+        lastAccessedTimeChanged = true;
+    }
+
+    @Override
+    public Instant getLastAccessedTime() {
+        return state.getLastAccessedTime();
+    }
+
+    @Override
+    public void setMaxInactiveInterval(Duration interval) {
+        state.setMaxInactiveInterval(interval);
+        maxInactiveIntervalChanged = true;
+    }
+
+    @Override
+    public Duration getMaxInactiveInterval() {
+        return state.getMaxInactiveInterval();
+    }
+
+    @Override
+    public boolean isExpired() {
+        return state.isExpired();
+    }
+
+    //신규 세션 여부
+    boolean isNew() {
+        return isNew;
+    }
+
+    //DB 에 즉시 반영해야 하는 변경(신규, 속성, 만료 시간, id)이 있는지 여부
+    boolean requiresWrite() {
+        return isNew || !delta.isEmpty() || maxInactiveIntervalChanged || !originalId.equals(getId());
+    }
+
+    boolean isLastAccessedTimeChanged() {
+        return lastAccessedTimeChanged;
+    }
+
+    String getOriginalId() {
+        return originalId;
+    }
+
+    /*
+     *  JDBC 세션 원본
+     *  아직 로드하지 않았으면 DB 에서 읽고, 다른 노드에서 삭제되었으면 null 을 반환한다.
+     */
+    Session loadOrigin() {
+        if (origin == null) {
+            origin = originLoader.apply(originalId);
+        }
+        return origin;
+    }
+
+    /*
+     *  기록한 변경 내용을 JDBC 세션 원본에 적용한다.
+     */
+    void applyTo(Session target) {
+        if (isNew) {
+            for (String name : state.getAttributeNames()) {
+                target.setAttribute(name, state.getAttribute(name));
+            }
+        } else {
+            delta.forEach((name, value) -> {
+                if (value == null) {
+                    target.removeAttribute(name);
+                } else {
+                    target.setAttribute(name, value);
+                }
+            });
+        }
+        target.setMaxInactiveInterval(state.getMaxInactiveInterval());
+        target.setLastAccessedTime(state.getLastAccessedTime());
+    }
+
+    //저장 후 변경 기록 초기화
+    void markSaved() {
+        originalId = getId();
+        isNew = false;
+        delta.clear();
+        maxInactiveIntervalChanged = false;
+        lastAccessedTimeChanged = false;
+    }
+
+    //near-cache 에 넣을 스냅샷
+    MapSession snapshot() {
+        return new MapSession(state);
+    }
+
+    private Session origin() {
+        Session loaded = loadOrigin();
+        if (loaded == null) {
+            throw new IllegalStateException("세션이 이미 만료되었습니다: " + originalId);
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,245 @@
+package com.green.watcher.greenwatcher.common.session;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  JDBC 공유 세션 저장소 앞단의 near-cache 세션 레파지토리
+ *  1. 조회: near-cache 에 올린 지 TTL 이 지나지 않은 세션은 DB 를 조회하지 않는다.
+ *     TTL 이 지나면 DB 에서 다시 읽어 다른 노드의 변경(로그인, 중복 로그인 만료 표시, 삭제)을 반영한다.
+ *  2. 저장: 속성 / 만료 시간 / id 가 바뀐 경우에만 JDBC 세션에 즉시 쓰고,
+ *     요청마다 바뀌는 마지막 접근 시간은 모아 두었다가 주기적으로 batch update 한다.
+ *  3. 사용자별 세션 조회(findByPrincipalName)는 동시 세션 제어에 쓰이므로 항상 DB 를 조회한다.
+ */
+@Slf4j
+public class NearCacheSessionRepository implements FindByIndexNameSessionRepository<NearCacheSession>, DisposableBean {
+
+    private final FindByIndexNameSessionRepository<Session> delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final String updateLastAccessSql;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final Map<String, CachedSession> cache = new ConcurrentHashMap<>();
+    private final Map<String, MapSession> pendingLastAccess = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder flushed;
+
+    @SuppressWarnings("unchecked")
+    public NearCacheSessionRepository(FindByIndexNameSessionRepository<? extends Session> delegate,
+                                      JdbcTemplate jdbcTemplate,
+                                      String tableName,
+                                      SessionStoreProperties properties,
+                                      MetricsRegistry metricsRegistry) {
+        this.delegate = (FindByIndexNameSessionRepository<Session>) delegate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.updateLastAccessSql = "UPDATE " + tableName
+                + " SET LAST_ACCESS_TIME = ?, EXPIRY_TIME = ? WHERE SESSION_ID = ? AND LAST_ACCESS_TIME < ?";
+        this.ttlNanos = properties.getNearCacheTtl().toNanos();
+        this.maxEntries = properties.getNearCacheMaxEntries();
+        this.hits = metricsRegistry.counter("session.nearCache.hit");
+        this.misses = metricsRegistry.counter("session.nearCache.miss");
+        this.flushed = metricsRegistry.counter("session.lastAccess.flushed");
+
+        long interval = properties.getLastAccessFlushInterval().toMillis();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-last-access-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public NearCacheSession createSession() {
+        Session origin = delegate.createSession();
+        return new NearCacheSession(new MapSession(origin), origin, true, delegate::findById);
+    }
+
+    /*
+     *  세션 저장
+     *  즉시 반영할 변경이 있으면 JDBC 세션에 쓰고, 마지막 접근 시간만 바뀌었으면 일괄 반영 대상에 넣는다.
+     */
+    @Override
+    public void save(NearCacheSession session) {
+        if (session.requiresWrite()) {
+            Session origin = session.loadOrigin();
+            if (origin == null) {
+                //다른 노드에서 삭제(로그아웃, 만료)된 세션
+                evict(session.getOriginalId());
+                return;
+            }
+            session.applyTo(origin);
+            delegate.save(origin);
+            pendingLastAccess.remove(session.getOriginalId());
+            pendingLastAccess.remove(session.getId());
+            evict(session.getOriginalId());
+            put(session.getId(), session.snapshot(), System.nanoTime());
+            session.markSaved();
+            return;
+        }
+        if (session.isLastAccessedTimeChanged()) {
+            MapSession snapshot = session.snapshot();
+            pendingLastAccess.put(session.getId(), snapshot);
+            //DB 확인 시점(loadedAt)은 유지하여 TTL 마다 다른 노드의 변경을 다시 읽는다.
+            cache.computeIfPresent(session.getId(), (id, cached) -> new CachedSession(snapshot, cached.loadedAt));
+            session.markSaved();
+        }
+    }
+
+    /*
+     *  세션 조회
+     *  near-cache 가 유효하면 스냅샷 복사본을, 아니면 DB 에서 읽은 세션을 반환한다.
+     */
+    @Override
+    public NearCacheSession findById(String id) {
+        long now = System.nanoTime();
+        CachedSession cached = cache.get(id);
+        MapSession state;
+        if (cached != null && now - cached.loadedAt < ttlNanos) {
+            hits.increment();
+            state = new MapSession(cached.session);
+        } else {
+            misses.increment();
+            Session loaded = delegate.findById(id);
+            if (loaded == null) {
+                evict(id);
+                pendingLastAccess.remove(id);
+                return null;
+            }
+            state = new MapSession(loaded);
+            //아직 DB 에 반영하지 않은 마지막 접근 시간이 더 최근이면 유지한다.
+            MapSession pending = pendingLastAccess.get(id);
+            if (pending != null && pending.getLastAccessedTime().isAfter(state.getLastAccessedTime())) {
+                state.setLastAccessedTime(pending.getLastAccessedTime());
+            }
+            put(id, new MapSession(state), now);
+        }
+        if (state.isExpired()) {
+            deleteById(id);
+            return null;
+        }
+        return new NearCacheSession(state, null, false, delegate::findById);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        evict(id);
+        pendingLastAccess.remove(id);
+        delegate.deleteById(id);
+    }
+
+    /*
+     *  인덱스(사용자 이름)로 세션 조회
+     *  동시 세션 제어가 모든 노드의 세션을 봐야 하므로 near-cache 를 거치지 않고 DB 를 조회한다.
+     */
+    @Override
+    public Map<String, NearCacheSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+        Map<String, Session> sessions = delegate.findByIndexNameAndIndexValue(indexName, indexValue);
+        Map<String, NearCacheSession> result = new LinkedHashMap<>(sessions.size());
+        long now = System.nanoTime();
+        sessions.forEach((id, session) -> {
+            MapSession state = new MapSession(session);
+            put(id, new MapSession(state), now);
+            result.put(id, new NearCacheSession(state, null, false, delegate::findById));
+        });
+        return result;
+    }
+
+    /*
+     *  모아 둔 마지막 접근 시간을 batch update 한다.
+     *  DB 값보다 최근일 때만 갱신하므로 다른 노드의 더 최근 기록을 덮어쓰지 않는다.
+     */
+    public void flushLastAccess() {
+        if (pendingLastAccess.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>(pendingLastAccess.size());
+        for (String id : pendingLastAccess.keySet()) {
+            MapSession session = pendingLastAccess.remove(id);
+            if (session == null) {
+                continue;
+            }
+            long lastAccess = session.getLastAccessedTime().toEpochMilli();
+            long expiry = session.getMaxInactiveInterval().isNegative()
+                    ? Long.MAX_VALUE
+                    : session.getLastAccessedTime().plus(session.getMaxInactiveInterval()).toEpochMilli();
+            batch.add(new Object[]{lastAccess, expiry, id, lastAccess});
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(updateLastAccessSql, batch);
+            flushed.add(batch.size());
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flushLastAccess();
+        } catch (RuntimeException e) {
+            log.warn("세션 마지막 접근 시간 반영 실패", e);
+        }
+    }
+
+    private void put(String id, MapSession session, long loadedAt) {
+        if (cache.size() >= maxEntries && !cache.containsKey(id)) {
+            evictStale(System.nanoTime());
+            if (cache.size() >= maxEntries) {
+                //만료된 항목을 비워도 가득 차 있으면 저장하지 않는다. (다음 요청은 DB 에서 읽는다)
+                return;
+            }
+        }
+        cache.put(id, new CachedSession(session, loadedAt));
+    }
+
+    private void evict(String id) {
+        cache.remove(id);
+    }
+
+    private void evictStale(long now) {
+        cache.entrySet().removeIf(entry -> now - entry.getValue().loadedAt >= ttlNanos
+                || entry.getValue().session.isExpired());
+    }
+
+    //near-cache 세션 수
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdown();
+        flushSafely();
+    }
+
+    //near-cache 항목 (loadedAt 은 DB 에서 읽거나 DB 에 쓴 시점)
+    private static final class CachedSession {
+        private final MapSession session;
+        private final long loadedAt;
+
+        private CachedSession(MapSession session, long loadedAt) {
+            this.session = session;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
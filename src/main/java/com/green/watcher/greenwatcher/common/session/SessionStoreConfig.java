@@ -0,0 +1,75 @@
+package com.green.watcher.greenwatcher.common.session;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.session.JdbcSessionDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.session.JdbcSessionProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  공유 세션 저장소 빈 설정 클래스
+ *  세션을 기존 데이터소스의 SPRING_SESSION 테이블에 저장하여 여러 노드가 같은 세션을 보게 하고,
+ *  그 앞에 NearCacheSessionRepository 를 두어 요청마다 DB 를 조회하지 않게 한다.
+ *  동시 세션 제어(maximumSessions)는 같은 저장소를 사용하는 SpringSessionBackedSessionRegistry 로 노드 간에 적용한다.
+ */
+@Configuration
+@EnableSpringHttpSession
+@EnableConfigurationProperties({SessionStoreProperties.class, JdbcSessionProperties.class})
+public class SessionStoreConfig {
+
+    /*
+     *  JDBC 세션 레파지토리
+     *  만료 세션 정리는 spring.session.jdbc.cleanup-cron 주기로 레파지토리가 직접 수행한다.
+     */
+    @Bean
+    public JdbcIndexedSessionRepository jdbcSessionRepository(JdbcTemplate jdbcTemplate,
+                                                              PlatformTransactionManager transactionManager,
+                                                              JdbcSessionProperties jdbcSessionProperties,
+                                                              @Value("${server.servlet.session.timeout:30m}") Duration timeout) {
+        JdbcIndexedSessionRepository repository =
+                new JdbcIndexedSessionRepository(jdbcTemplate, new TransactionTemplate(transactionManager));
+        repository.setTableName(jdbcSessionProperties.getTableName());
+        repository.setCleanupCron(jdbcSessionProperties.getCleanupCron());
+        repository.setDefaultMaxInactiveInterval(timeout);
+        return repository;
+    }
+
+    @Bean
+    @Primary
+    public NearCacheSessionRepository sessionRepository(JdbcIndexedSessionRepository jdbcSessionRepository,
+                                                        JdbcTemplate jdbcTemplate,
+                                                        JdbcSessionProperties jdbcSessionProperties,
+                                                        SessionStoreProperties properties,
+                                                        MetricsRegistry metricsRegistry) {
+        return new NearCacheSessionRepository(jdbcSessionRepository, jdbcTemplate,
+                jdbcSessionProperties.getTableName(), properties, metricsRegistry);
+    }
+
+    @Bean
+    public SessionRegistry sessionRegistry(NearCacheSessionRepository sessionRepository) {
+        return new SpringSessionBackedSessionRegistry<>(sessionRepository);
+    }
+
+    //SPRING_SESSION 테이블 생성 (spring.session.jdbc.initialize-schema)
+    @Bean
+    public JdbcSessionDataSourceScriptDatabaseInitializer jdbcSessionDataSourceScriptDatabaseInitializer(
+            DataSource dataSource, JdbcSessionProperties jdbcSessionProperties) {
+        return new JdbcSessionDataSourceScriptDatabaseInitializer(dataSource, jdbcSessionProperties);
+    }
+}
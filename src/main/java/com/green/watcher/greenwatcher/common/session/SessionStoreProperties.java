@@ -0,0 +1,28 @@
+package com.green.watcher.greenwatcher.common.session;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  공유 세션 저장소 설정 (application.yml 의 session-store.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "session-store")
+public class SessionStoreProperties {
+
+    //near-cache 에 올린 세션을 DB 확인 없이 사용하는 시간 (다른 노드의 변경 / 만료가 반영되는 최대 지연)
+    private Duration nearCacheTtl = Duration.ofSeconds(5);
+
+    //near-cache 최대 세션 수
+    private int nearCacheMaxEntries = 10000;
+
+    //마지막 접근 시간 일괄 반영 주기
+    private Duration lastAccessFlushInterval = Duration.ofSeconds(10);
+}
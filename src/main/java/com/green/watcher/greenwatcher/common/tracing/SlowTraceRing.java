@@ -0,0 +1,59 @@
+package com.green.watcher.greenwatcher.common.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  최근 느린 요청 추적 기록 링
+ *  크기가 고정되어 있어 가장 오래된 기록을 덮어쓴다. 쓰기는 느린 요청에서만 일어나므로 CAS 한 번으로 충분하다.
+ */
+public class SlowTraceRing {
+
+    private final AtomicReferenceArray<Trace> traces;
+    private final AtomicLong position = new AtomicLong();
+
+    public SlowTraceRing(int capacity) {
+        this.traces = new AtomicReferenceArray<>(Math.max(1, capacity));
+    }
+
+    public void add(Trace trace) {
+        long slot = position.getAndIncrement();
+        traces.set((int) (slot % traces.length()), trace);
+    }
+
+    /*
+     *  최신순으로 최대 limit 개를 반환한다.
+     */
+    public List<Trace> recent(int limit) {
+        long end = position.get();
+        int count = (int) Math.min(Math.min(limit, traces.length()), end);
+        List<Trace> result = new ArrayList<>(count);
+        for (long slot = end - 1; slot >= end - count; slot--) {
+            Trace trace = traces.get((int) (slot % traces.length()));
+            if (trace != null) {
+                result.add(trace);
+            }
+        }
+        return result;
+    }
+
+    //correlation id 로 조회 (이미 덮어써졌으면 null)
+    public Trace find(String id) {
+        for (int i = 0; i < traces.length(); i++) {
+            Trace trace = traces.get(i);
+            if (trace != null && trace.getId().equals(id)) {
+                return trace;
+            }
+        }
+        return null;
+    }
+
+    public int capacity() {
+        return traces.length();
+    }
+}
@@ -0,0 +1,148 @@
+package com.green.watcher.greenwatcher.common.tracing;
+
+import com.green.watcher.greenwatcher.common.tracing.enumerate.SpanKind;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  요청 하나의 추적 기록
+ *  요청 스레드 하나만 기록하므로 동기화하지 않는다. 요청이 끝난 뒤에는 변경하지 않으며 SlowTraceRing 을 통해 다른 스레드에 공개된다.
+ *  span 은 객체 대신 병렬 배열로 저장하고 필요할 때만 늘려 빠른 요청의 할당을 줄인다.
+ *  maxSpans 를 넘는 span 은 기록하지 않고 droppedSpans 만 센다.
+ */
+public class Trace {
+
+    private static final int INITIAL_SPANS = 16;
+
+    @Getter
+    private final String id;
+    @Getter
+    private final String method;
+    @Getter
+    private final String uri;
+    @Getter
+    private final long startedAt;
+    private final long startNanos;
+    private final int maxSpans;
+
+    private String[] names = new String[INITIAL_SPANS];
+    private SpanKind[] kinds = new SpanKind[INITIAL_SPANS];
+    private String[] details = new String[INITIAL_SPANS];
+    private int[] parents = new int[INITIAL_SPANS];
+    private long[] starts = new long[INITIAL_SPANS];
+    private long[] ends = new long[INITIAL_SPANS];
+    private boolean[] errors = new boolean[INITIAL_SPANS];
+
+    private int size;
+    //현재 열려 있는 span (-1 이면 최상위)
+    private int current = -1;
+    @Getter
+    private int droppedSpans;
+
+    @Getter
+    private int status;
+    @Getter
+    private long durationNanos;
+
+    Trace(String id, String method, String uri, int maxSpans) {
+        this.id = id;
+        this.method = method;
+        this.uri = uri;
+        this.startedAt = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+        this.maxSpans = maxSpans;
+    }
+
+    /*
+     *  현재 span 아래에 새 span 을 연다.
+     *  maxSpans 를 넘으면 -1 을 반환한다.
+     */
+    int startSpan(SpanKind kind, String name, String detail) {
+        if (size == maxSpans) {
+            droppedSpans++;
+            return -1;
+        }
+        if (size == names.length) {
+            grow(Math.min(maxSpans, size * 2));
+        }
+        int index = size++;
+        names[index] = name;
+        kinds[index] = kind;
+        details[index] = detail;
+        parents[index] = current;
+        starts[index] = System.nanoTime();
+        ends[index] = 0;
+        errors[index] = false;
+        current = index;
+        return index;
+    }
+
+    void endSpan(int index) {
+        ends[index] = System.nanoTime();
+        current = parents[index];
+    }
+
+    void markError(int index) {
+        errors[index] = true;
+    }
+
+    void finish(int status) {
+        this.status = status;
+        this.durationNanos = System.nanoTime() - startNanos;
+        //닫히지 않은 span 은 요청 종료 시점으로 닫는다.
+        long now = startNanos + durationNanos;
+        for (int i = 0; i < size; i++) {
+            if (ends[i] == 0) {
+                ends[i] = now;
+            }
+        }
+    }
+
+    private void grow(int capacity) {
+        names = Arrays.copyOf(names, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+        details = Arrays.copyOf(details, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        errors = Arrays.copyOf(errors, capacity);
+    }
+
+    public int getSpanCount() {
+        return size;
+    }
+
+    public String spanName(int index) {
+        return names[index];
+    }
+
+    public SpanKind spanKind(int index) {
+        return kinds[index];
+    }
+
+    public String spanDetail(int index) {
+        return details[index];
+    }
+
+    //부모 span 인덱스 (-1 이면 최상위)
+    public int spanParent(int index) {
+        return parents[index];
+    }
+
+    //요청 시작부터 span 시작까지 걸린 시간
+    public long spanOffsetNanos(int index) {
+        return starts[index] - startNanos;
+    }
+
+    public long spanDurationNanos(int index) {
+        return ends[index] - starts[index];
+    }
+
+    public boolean spanError(int index) {
+        return errors[index];
+    }
+}
@@ -0,0 +1,54 @@
+package com.green.watcher.greenwatcher.common.tracing;
+
+import com.green.watcher.greenwatcher.common.tracing.enumerate.SpanKind;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  현재 스레드의 추적 기록 보관소
+ *  TraceFilter 가 요청 시작 시 Trace 를 열고, 계측 지점은 span() 으로 구간을 남긴다.
+ *  추적 중이 아닌 스레드(스케줄러, 백그라운드 작업)에서는 ThreadLocal 조회 한 번으로 끝난다.
+ *  다른 스레드로 넘긴 작업(CompletableFuture 등)의 구간은 기록되지 않는다.
+ */
+public final class TraceContext {
+
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+
+    private TraceContext() {
+    }
+
+    static Trace begin(String id, String method, String uri, int maxSpans) {
+        Trace trace = new Trace(id, method, uri, maxSpans);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    //현재 스레드가 추적 중이면 true
+    public static boolean active() {
+        return CURRENT.get() != null;
+    }
+
+    //현재 요청의 correlation id (추적 중이 아니면 null)
+    public static String currentId() {
+        Trace trace = CURRENT.get();
+        return trace == null ? null : trace.getId();
+    }
+
+    /*
+     *  현재 span 아래에 새 구간을 연다.
+     *  detail 은 SQL, URL 처럼 구간을 구분할 부가 정보이며 null 이어도 된다.
+     */
+    public static TraceScope span(SpanKind kind, String name, String detail) {
+        Trace trace = CURRENT.get();
+        if (trace == null) {
+            return TraceScope.NOOP;
+        }
+        int index = trace.startSpan(kind, name, detail);
+        return index < 0 ? TraceScope.NOOP : new TraceScope(trace, index);
+    }
+}
@@ -0,0 +1,74 @@
+package com.green.watcher.greenwatcher.common.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  요청 correlation id / 추적 필터
+ *  security 필터 체인(JwtAuthenticationFilter)보다 앞에서 correlation id 를 정하고 응답 헤더와 로그 MDC(traceId)에 남긴다.
+ *  모든 요청의 구간을 기록하지만 slow-threshold 를 넘은 요청만 SlowTraceRing 에 보관하고 나머지는 버린다.
+ */
+public class TraceFilter extends OncePerRequestFilter {
+
+    public static final String MDC_KEY = "traceId";
+
+    //클라이언트가 보낸 id 는 로그 / 헤더에 그대로 쓰므로 안전한 문자만 허용한다.
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final SlowTraceRing ring;
+    private final String header;
+    private final long slowThresholdNanos;
+    private final int maxSpans;
+    private final LongAdder slowCount;
+
+    public TraceFilter(SlowTraceRing ring, TracingProperties properties, LongAdder slowCount) {
+        this.ring = ring;
+        this.header = properties.getHeader();
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.maxSpans = properties.getMaxSpans();
+        this.slowCount = slowCount;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String id = request.getHeader(header);
+        if (id == null || !VALID_ID.matcher(id).matches()) {
+            id = newId();
+        }
+        response.setHeader(header, id);
+        MDC.put(MDC_KEY, id);
+        Trace trace = TraceContext.begin(id, request.getMethod(), request.getRequestURI(), maxSpans);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TraceContext.end();
+            MDC.remove(MDC_KEY);
+            trace.finish(response.getStatus());
+            if (trace.getDurationNanos() >= slowThresholdNanos) {
+                ring.add(trace);
+                slowCount.increment();
+            }
+        }
+    }
+
+    //16자리 16진수 id
+    private static String newId() {
+        long value = ThreadLocalRandom.current().nextLong();
+        String hex = Long.toHexString(value);
+        return "0".repeat(16 - hex.length()) + hex;
+    }
+}
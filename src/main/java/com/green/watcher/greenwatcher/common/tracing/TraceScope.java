@@ -0,0 +1,35 @@
+package com.green.watcher.greenwatcher.common.tracing;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  열린 span 핸들
+ *  try-with-resources 로 닫는다. 추적 중이 아니면 아무 일도 하지 않는 NOOP 이 반환된다.
+ */
+public final class TraceScope implements AutoCloseable {
+
+    static final TraceScope NOOP = new TraceScope(null, -1);
+
+    private final Trace trace;
+    private final int index;
+
+    TraceScope(Trace trace, int index) {
+        this.trace = trace;
+        this.index = index;
+    }
+
+    //구간이 실패로 끝났음을 표시한다.
+    public void error() {
+        if (trace != null) {
+            trace.markError(index);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (trace != null) {
+            trace.endSpan(index);
+        }
+    }
+}
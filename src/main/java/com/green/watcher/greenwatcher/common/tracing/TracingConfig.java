@@ -0,0 +1,62 @@
+package com.green.watcher.greenwatcher.common.tracing;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  요청 추적 빈 설정 클래스
+ *  추적 필터는 접근 로그 필터와 security 필터 체인보다 앞에 둔다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+@ConditionalOnProperty(prefix = "tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    public SlowTraceRing slowTraceRing(TracingProperties properties) {
+        return new SlowTraceRing(properties.getCapacity());
+    }
+
+    @Bean
+    public FilterRegistrationBean<TraceFilter> traceFilter(SlowTraceRing slowTraceRing, TracingProperties properties,
+                                                           MetricsRegistry metricsRegistry) {
+        FilterRegistrationBean<TraceFilter> registration =
+                new FilterRegistrationBean<>(new TraceFilter(slowTraceRing, properties, metricsRegistry.counter("tracing.slow")));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    /*
+     *  DataSource 를 TracingDataSource 로 감싼다.
+     *  BeanPostProcessor 이므로 static 으로 선언하고 설정은 Environment 에서 직접 읽는다.
+     */
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor(Environment environment) {
+        boolean jdbc = environment.getProperty("tracing.jdbc", Boolean.class, true);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (jdbc && bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+                    log.info("JDBC tracing enabled for '{}'", beanName);
+                    return new TracingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package com.green.watcher.greenwatcher.common.tracing;
+
+import com.green.watcher.greenwatcher.common.tracing.enumerate.SpanKind;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  커넥션 획득 / SQL 실행 구간을 기록하는 DataSource
+ *  추적 중인 요청 스레드가 얻은 커넥션만 프록시로 감싸므로 백그라운드 작업의 JDBC 호출에는 비용이 없다.
+ *  Hikari 대기(db.connection)와 Hibernate / JdbcTemplate 의 SQL 실행(db.query)이 모두 여기서 잡힌다.
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    //span detail 에 남기는 SQL 최대 길이
+    private static final int MAX_SQL_LENGTH = 200;
+
+    public TracingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TraceContext.active()) {
+            return super.getConnection();
+        }
+        try (TraceScope scope = TraceContext.span(SpanKind.DB_CONNECTION, "db.connection", null)) {
+            try {
+                return traced(super.getConnection());
+            } catch (SQLException | RuntimeException e) {
+                scope.error();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!TraceContext.active()) {
+            return super.getConnection(username, password);
+        }
+        try (TraceScope scope = TraceContext.span(SpanKind.DB_CONNECTION, "db.connection", null)) {
+            try {
+                return traced(super.getConnection(username, password));
+            } catch (SQLException | RuntimeException e) {
+                scope.error();
+                throw e;
+            }
+        }
+    }
+
+    /*
+     *  statement 를 만드는 메서드의 결과를 SQL 실행 구간을 기록하는 프록시로 감싼다.
+     */
+    private static Connection traced(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("unwrap".equals(method.getName()) && args != null && ((Class<?>) args[0]).isInstance(target)) {
+                        return target;
+                    }
+                    Object result = invoke(target, method, args);
+                    if (result instanceof CallableStatement statement) {
+                        return traced(statement, CallableStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof PreparedStatement statement) {
+                        return traced(statement, PreparedStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof Statement statement) {
+                        return traced(statement, Statement.class, null);
+                    }
+                    return result;
+                });
+    }
+
+    private static <T extends Statement> T traced(T target, Class<T> type, String preparedSql) {
+        String preparedDetail = abbreviate(preparedSql);
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if ("unwrap".equals(method.getName()) && args != null && ((Class<?>) args[0]).isInstance(target)) {
+                        return target;
+                    }
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(target, method, args);
+                    }
+                    //Statement.execute(sql) 처럼 실행 시점에 SQL 을 받는 경우
+                    String detail = args != null && args.length > 0 && args[0] instanceof String sql ? abbreviate(sql) : preparedDetail;
+                    try (TraceScope scope = TraceContext.span(SpanKind.DB_QUERY, "db.query", detail)) {
+                        try {
+                            return invoke(target, method, args);
+                        } catch (SQLException | RuntimeException e) {
+                            scope.error();
+                            throw e;
+                        }
+                    }
+                }));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        if (sql == null || sql.length() <= MAX_SQL_LENGTH) {
+            return sql;
+        }
+        return sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,36 @@
+package com.green.watcher.greenwatcher.common.tracing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  요청 추적 설정 (application.yml 의 tracing.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tracing")
+public class TracingProperties {
+
+    private boolean enabled = true;
+
+    //이 시간 이상 걸린 요청만 보관한다.
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    //보관할 느린 요청 수
+    private int capacity = 200;
+
+    //요청 하나에 기록할 최대 span 수
+    private int maxSpans = 256;
+
+    //correlation id 를 주고받는 헤더
+    private String header = "X-Request-Id";
+
+    //JDBC 커넥션 획득 / SQL 실행 구간 기록 여부
+    private boolean jdbc = true;
+}
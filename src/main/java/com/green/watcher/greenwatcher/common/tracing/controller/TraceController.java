@@ -0,0 +1,53 @@
+package com.green.watcher.greenwatcher.common.tracing.controller;
+
+import com.green.watcher.greenwatcher.common.tracing.SlowTraceRing;
+import com.green.watcher.greenwatcher.common.tracing.Trace;
+import com.green.watcher.greenwatcher.common.tracing.dto.TraceDTO;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  느린 요청 추적 조회 컨트롤러
+ *  /admin/** 이므로 ROLE_ADMIN 만 접근할 수 있다. tracing.enabled=false 면 빈 목록을 반환한다.
+ */
+@RestController
+@RequestMapping("/admin/traces")
+@RequiredArgsConstructor
+public class TraceController {
+
+    private final ObjectProvider<SlowTraceRing> slowTraceRing;
+
+    //최근 느린 요청 목록 (최신순)
+    @GetMapping
+    public ResponseEntity<UserApiResponse<List<TraceDTO>>> recent(@RequestParam(defaultValue = "50") int size) {
+        SlowTraceRing ring = slowTraceRing.getIfAvailable();
+        List<TraceDTO> traces = ring == null ? List.of()
+                : ring.recent(Math.max(1, size)).stream().map(TraceDTO::summary).toList();
+        return ResponseEntity.ok(UserApiResponse.success(traces));
+    }
+
+    //correlation id 로 span 트리 조회
+    @GetMapping("/{id}")
+    public ResponseEntity<UserApiResponse<TraceDTO>> find(@PathVariable String id) {
+        SlowTraceRing ring = slowTraceRing.getIfAvailable();
+        Trace trace = ring == null ? null : ring.find(id);
+        if (trace == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(UserApiResponse.fail(HttpStatus.NOT_FOUND.value(), "추적 기록이 없습니다: " + id));
+        }
+        return ResponseEntity.ok(UserApiResponse.success(TraceDTO.tree(trace)));
+    }
+}
@@ -0,0 +1,27 @@
+package com.green.watcher.greenwatcher.common.tracing.dto;
+
+import com.green.watcher.greenwatcher.common.tracing.enumerate.SpanKind;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  추적 구간 응답 객체
+ *  offsetMillis 는 요청 시작부터 구간 시작까지의 시간이다.
+ */
+@Getter
+@AllArgsConstructor
+public class SpanDTO {
+
+    private String name;
+    private SpanKind kind;
+    private String detail;
+    private double offsetMillis;
+    private double durationMillis;
+    private boolean error;
+    private List<SpanDTO> children;
+}
@@ -0,0 +1,72 @@
+package com.green.watcher.greenwatcher.common.tracing.dto;
+
+import com.green.watcher.greenwatcher.common.tracing.Trace;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  느린 요청 추적 응답 객체
+ *  목록 조회에서는 spans 가 null 이고, 단건 조회에서 span 트리를 채운다.
+ *  selfMillis 는 기록된 최상위 구간에 속하지 않은 시간(필터, 컨트롤러, 직렬화 등)이다.
+ */
+@Getter
+@AllArgsConstructor
+public class TraceDTO {
+
+    private String id;
+    private String method;
+    private String uri;
+    private int status;
+    private Instant startedAt;
+    private double durationMillis;
+    private double selfMillis;
+    private int spanCount;
+    private int droppedSpans;
+    private List<SpanDTO> spans;
+
+    //목록용 요약
+    public static TraceDTO summary(Trace trace) {
+        return of(trace, null);
+    }
+
+    //span 트리 포함
+    public static TraceDTO tree(Trace trace) {
+        int size = trace.getSpanCount();
+        List<List<SpanDTO>> children = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            children.add(new ArrayList<>());
+        }
+        List<SpanDTO> roots = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            SpanDTO span = new SpanDTO(trace.spanName(i), trace.spanKind(i), trace.spanDetail(i),
+                    millis(trace.spanOffsetNanos(i)), millis(trace.spanDurationNanos(i)), trace.spanError(i), children.get(i));
+            //부모 span 은 항상 자식보다 먼저 기록된다.
+            int parent = trace.spanParent(i);
+            (parent < 0 ? roots : children.get(parent)).add(span);
+        }
+        return of(trace, roots);
+    }
+
+    private static TraceDTO of(Trace trace, List<SpanDTO> spans) {
+        long covered = 0;
+        for (int i = 0; i < trace.getSpanCount(); i++) {
+            if (trace.spanParent(i) < 0) {
+                covered += trace.spanDurationNanos(i);
+            }
+        }
+        return new TraceDTO(trace.getId(), trace.getMethod(), trace.getUri(), trace.getStatus(),
+                Instant.ofEpochMilli(trace.getStartedAt()), millis(trace.getDurationNanos()),
+                millis(Math.max(0, trace.getDurationNanos() - covered)), trace.getSpanCount(), trace.getDroppedSpans(), spans);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
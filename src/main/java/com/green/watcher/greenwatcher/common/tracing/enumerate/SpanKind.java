@@ -0,0 +1,20 @@
+package com.green.watcher.greenwatcher.common.tracing.enumerate;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  추적 구간(span) 종류 enum 클래스
+ */
+public enum SpanKind {
+    //인증 / 인가 처리 (JWT 검증, 사용자 조회)
+    SECURITY,
+    //커넥션 풀에서 커넥션을 얻기까지 대기
+    DB_CONNECTION,
+    //SQL 실행
+    DB_QUERY,
+    //외부 API 호출 (슬롯 대기, 재시도 포함)
+    UPSTREAM,
+    //그 밖의 애플리케이션 구간
+    INTERNAL
+}
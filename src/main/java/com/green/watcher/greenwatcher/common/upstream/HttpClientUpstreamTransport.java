@@ -0,0 +1,36 @@
+package com.green.watcher.greenwatcher.common.upstream;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  java.net.http.HttpClient 기반 UpstreamTransport
+ *  ExecutionConfig 의 upstreamHttpClient 하나를 모든 제공자가 공유하며, keep-alive 커넥션은 HttpClient 가 호스트별로 풀링한다.
+ */
+public class HttpClientUpstreamTransport implements UpstreamTransport {
+
+    private final HttpClient httpClient;
+
+    public HttpClientUpstreamTransport(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public CompletableFuture<UpstreamResponse> send(UpstreamProvider provider, URI uri, UpstreamRequest request, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .method(request.getMethod(), request.getBody() == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(request.getBody()));
+        request.getHeaders().forEach(builder::header);
+        return httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> new UpstreamResponse(response.statusCode(), response.headers().map(), response.body()));
+    }
+}
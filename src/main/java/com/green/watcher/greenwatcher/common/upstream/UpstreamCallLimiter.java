@@ -0,0 +1,104 @@
+package com.green.watcher.greenwatcher.common.upstream;
+
+import com.green.watcher.greenwatcher.common.concurrency.AdaptiveConcurrencyLimiter;
+import com.green.watcher.greenwatcher.common.metrics.LatencyRecorder;
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.ratelimit.TokenBucketArray;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.4
+ *  업스트림 제공자별 동시 호출 수 제한기
+ *  가상 스레드 모드에서는 스레드 풀 크기가 상한 역할을 하지 못하므로
+ *  제공자마다 동시에 나가는 호출 수를 묶는다.
+ *  호출 지연 시간과 오류는 upstream.{제공자} 이름으로 기록한다.
+ *  API 키 호출량 예산(upstream.quota.{제공자})이 설정된 제공자는 노드 전체가 공유하는 토큰 버킷으로 호출 수를 제한하여
+ *  한 사용자의 과도한 요청이 키의 일일 한도를 소진하지 않게 한다. 거절 수는 upstream.{제공자}.quotaRejected 카운터로 남긴다.
+ *  고정 세마포어 대기 대신 지연 시간 기반 적응형 한도(AdaptiveConcurrencyLimiter)를 쓴다.
+ *  제공자가 느려지면 한도가 줄어 초과 호출은 기다리지 않고 바로 거절되며, 한도는 upstream.{제공자}.limit 게이지로 남긴다.
+ *  호출량 예산은 실제로 보내는 요청(재시도, 헤징 포함)마다 tryAcquireQuota 로 차감하고, call 은 시도 한 번의 동시 호출 자리만 관리한다.
+ */
+@Component
+public class UpstreamCallLimiter {
+
+    private final Map<UpstreamProvider, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(UpstreamProvider.class);
+    private final Map<UpstreamProvider, LatencyRecorder> recorders = new EnumMap<>(UpstreamProvider.class);
+    private final Map<UpstreamProvider, TokenBucketArray> quotas = new EnumMap<>(UpstreamProvider.class);
+    private final Map<UpstreamProvider, LongAdder> quotaRejected = new EnumMap<>(UpstreamProvider.class);
+
+    public UpstreamCallLimiter(UpstreamProperties properties, MetricsRegistry metricsRegistry) {
+        for (UpstreamProvider provider : UpstreamProvider.values()) {
+            String name = "upstream." + provider.name().toLowerCase();
+            limiters.put(provider, new AdaptiveConcurrencyLimiter(name, properties.getAdaptiveLimit(),
+                    properties.getMaxConcurrentCalls(), metricsRegistry));
+            recorders.put(provider, metricsRegistry.recorder(name));
+            UpstreamProperties.Quota quota = properties.getQuota().get(provider);
+            if (quota != null) {
+                quotas.put(provider, new TokenBucketArray(1, quota.getCapacity(), quota.getRefillPerSecond()));
+                quotaRejected.put(provider, metricsRegistry.counter(name + ".quotaRejected"));
+            }
+        }
+    }
+
+    /*
+     *  요청 한 번을 보낼 호출량 예산을 차감한다.
+     *  예산이 설정되지 않은 제공자는 항상 true, 예산이 없으면 거절 수를 남기고 false
+     */
+    public boolean tryAcquireQuota(UpstreamProvider provider) {
+        TokenBucketArray quota = quotas.get(provider);
+        if (quota == null || quota.tryAcquire(0)) {
+            return true;
+        }
+        quotaRejected.get(provider).increment();
+        return false;
+    }
+
+    /*
+     *  제공자의 동시 호출 자리를 얻은 뒤 작업(시도 한 번)을 실행한다.
+     *  현재 동시 호출 한도를 넘었으면 기다리지 않고 UpstreamRejectedException 을 던진다.
+     *  I/O 오류(타임아웃, 연결 실패)는 과부하 신호로 보고 한도를 줄인다.
+     */
+    public <T> T call(UpstreamProvider provider, Callable<T> task) throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(provider);
+        LatencyRecorder recorder = recorders.get(provider);
+        long start = System.nanoTime();
+        if (!limiter.tryAcquire()) {
+            recorder.recordSince(start, true);
+            throw new UpstreamRejectedException(provider,
+                    provider + " 동시 호출 한도(" + limiter.getLimit() + ")를 초과했습니다.");
+        }
+        boolean success = false;
+        boolean overloaded = false;
+        try {
+            T result = task.call();
+            success = true;
+            return result;
+        } catch (IOException e) {
+            overloaded = true;
+            throw e;
+        } finally {
+            if (success) {
+                limiter.onSuccess(System.nanoTime() - start);
+            } else if (overloaded) {
+                limiter.onDropped();
+            } else {
+                limiter.onIgnored();
+            }
+            recorder.recordSince(start, !success);
+        }
+    }
+
+    //현재 한도에서 남은 자리 수
+    public int availablePermits(UpstreamProvider provider) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(provider);
+        return Math.max(0, limiter.getLimit() - limiter.getInFlight());
+    }
+}
@@ -0,0 +1,127 @@
+package com.green.watcher.greenwatcher.common.upstream;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  제공자 하나의 서킷 브레이커
+ *  최근 windowSize 번의 호출 결과를 링 버퍼에 두고 실패율이 기준을 넘으면 서킷을 연다.
+ *  열린 동안에는 업스트림을 호출하지 않고 바로 거절하여, 장애가 난 제공자를 기다리느라 요청 스레드와 동시 호출 슬롯이 묶이지 않게 한다.
+ *  openDuration 이 지나면 시험 호출 하나만 허용(HALF_OPEN)하고, 성공하면 닫고 실패하면 다시 연다.
+ */
+public class UpstreamCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final boolean[] outcomes;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier clock;
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private int position;
+    private int recorded;
+    private int failures;
+
+    public UpstreamCircuitBreaker(UpstreamProperties.Circuit circuit) {
+        this(circuit, System::nanoTime);
+    }
+
+    UpstreamCircuitBreaker(UpstreamProperties.Circuit circuit, LongSupplier clock) {
+        this.outcomes = new boolean[Math.max(1, circuit.getWindowSize())];
+        this.minimumCalls = Math.max(1, Math.min(circuit.getMinimumCalls(), outcomes.length));
+        this.failureRateThreshold = circuit.getFailureRateThreshold();
+        this.openDurationNanos = circuit.getOpenDuration().toNanos();
+        this.clock = clock;
+    }
+
+    /*
+     *  호출해도 되는지 확인한다.
+     *  HALF_OPEN 에서는 시험 호출 하나만 true 를 받는다.
+     */
+    public boolean tryAcquire() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+        }
+        return probeInFlight.compareAndSet(false, true);
+    }
+
+    public void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    public void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+    }
+
+    //결과를 판단할 수 없이 끝난 호출(호출량 예산 초과 등)의 시험 호출 자리를 돌려준다.
+    public void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight.set(false);
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private synchronized void record(boolean failure) {
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (recorded == outcomes.length) {
+            if (outcomes[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % outcomes.length;
+        if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    private synchronized void open() {
+        openedAt = clock.getAsLong();
+        state = State.OPEN;
+        probeInFlight.set(false);
+    }
+
+    private synchronized void close() {
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        state = State.CLOSED;
+        probeInFlight.set(false);
+    }
+}
@@ -0,0 +1,14 @@
+package com.green.watcher.greenwatcher.common.upstream;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  제공자의 서킷 브레이커가 열려 있어 호출하지 않고 거절했을 때 발생하는 예외
+ */
+public class UpstreamCircuitOpenException extends UpstreamRejectedException {
+
+    public UpstreamCircuitOpenException(UpstreamProvider provider) {
+        super(provider, provider + " 호출 실패가 많아 잠시 호출을 중단했습니다.");
+    }
+}
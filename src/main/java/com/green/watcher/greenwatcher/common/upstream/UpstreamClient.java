@@ -0,0 +1,248 @@
+package com.green.watcher.greenwatcher.common.upstream;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.tracing.TraceContext;
+import com.green.watcher.greenwatcher.common.tracing.TraceScope;
+import com.green.watcher.greenwatcher.common.tracing.enumerate.SpanKind;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.2
+ *  업스트림(vworld, kakao, its, kma, sgis, osrm) 공용 HTTP 클라이언트
+ *  제공자 설정(upstream.providers.{제공자})에 따라 다음 순서로 호출한다.
+ *  1. 서킷 브레이커가 열려 있으면 바로 UpstreamCircuitOpenException 을 던진다.
+ *  2. UpstreamCallLimiter 로 호출량 예산을 차감한다. 예산이 없으면 UpstreamRejectedException 을 던진다.
+ *  3. 시도마다 동시 호출 슬롯(bulkhead)을 얻는다. 지연 시간과 오류도 시도 단위로 기록되어 백오프 대기는 포함되지 않는다.
+ *  4. idempotent 요청은 hedgeDelay 안에 응답이 없으면 같은 요청을 한 번 더 보내 먼저 온 응답을 쓴다.
+ *  5. 연결 오류, 타임아웃, 429 / 5xx 응답은 full jitter 지수 백오프로 maxAttempts 까지 재시도한다.
+ *  재시도와 헤징도 API 키를 쓰는 실제 요청이므로 보낼 때마다 예산을 차감하고, 예산이 없으면 재시도 / 헤징하지 않는다.
+ *  최종 응답의 상태 코드는 그대로 돌려주므로 4xx 처리는 호출하는 쪽이 판단한다.
+ *  재시도 / 헤징 / 서킷 거절 수는 upstream.{제공자}.retries, .hedges, .circuitRejected 카운터로 남긴다.
+ *  추적 중인 요청이면 슬롯 대기와 재시도를 포함한 호출 전체를 upstream.{제공자} 구간으로 남긴다. (쿼리 문자열은 키가 섞일 수 있어 남기지 않는다)
+ */
+public class UpstreamClient {
+
+    private final UpstreamCallLimiter callLimiter;
+    private final UpstreamTransport transport;
+    private final Map<UpstreamProvider, ProviderState> providers = new EnumMap<>(UpstreamProvider.class);
+
+    public UpstreamClient(UpstreamProperties properties, UpstreamCallLimiter callLimiter, UpstreamTransport transport,
+                          MetricsRegistry metricsRegistry) {
+        this.callLimiter = callLimiter;
+        this.transport = transport;
+        properties.getProviders().forEach((provider, client) ->
+                providers.put(provider, new ProviderState(provider, client, metricsRegistry)));
+    }
+
+    public UpstreamResponse get(UpstreamProvider provider, String pathAndQuery) throws IOException {
+        return execute(provider, UpstreamRequest.get(pathAndQuery));
+    }
+
+    /*
+     *  요청을 보내고 최종 응답을 돌려준다.
+     *  거절되면 UpstreamRejectedException, 재시도를 모두 써도 응답을 받지 못하면 IOException 을 던진다.
+     */
+    public UpstreamResponse execute(UpstreamProvider provider, UpstreamRequest request) throws IOException {
+        ProviderState state = providers.get(provider);
+        if (state == null) {
+            throw new IllegalStateException(provider + " 제공자 설정(upstream.providers)이 없습니다.");
+        }
+        if (!state.circuitBreaker.tryAcquire()) {
+            state.circuitRejected.increment();
+            throw new UpstreamCircuitOpenException(provider);
+        }
+        UpstreamRequest merged = state.merge(request);
+        URI uri = URI.create(state.client.getBaseUrl() + merged.getPathAndQuery());
+        boolean completed = false;
+        TraceScope scope = TraceContext.span(SpanKind.UPSTREAM, state.spanName, uri.getHost() + uri.getPath());
+        try {
+            if (!callLimiter.tryAcquireQuota(provider)) {
+                throw new UpstreamRejectedException(provider, provider + " API 호출량 예산을 초과했습니다.");
+            }
+            UpstreamResponse response = executeWithRetry(state, uri, merged);
+            completed = true;
+            if (response.getStatus() >= 500) {
+                scope.error();
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            scope.error();
+            throw e;
+        } catch (Exception e) {
+            scope.error();
+            throw new IOException(e);
+        } finally {
+            scope.close();
+            if (!completed) {
+                //시도 결과가 기록되지 않은 거절(호출량 예산, 동시 호출 슬롯)은 시험 호출 자리만 돌려준다.
+                state.circuitBreaker.onIgnored();
+            }
+        }
+    }
+
+    //첫 시도의 예산은 호출하는 쪽(execute)이 차감한다.
+    private UpstreamResponse executeWithRetry(ProviderState state, URI uri, UpstreamRequest request) throws Exception {
+        UpstreamProperties.Client client = state.client;
+        int maxAttempts = request.isIdempotent() ? Math.max(1, client.getMaxAttempts()) : 1;
+        for (int attempt = 1; ; attempt++) {
+            UpstreamResponse response = null;
+            IOException failure = null;
+            try {
+                response = callLimiter.call(state.provider, () -> attempt(state, uri, request));
+            } catch (IOException e) {
+                failure = e;
+            }
+            boolean failed = failure != null || response.isRetryable();
+            if (failed) {
+                state.circuitBreaker.onFailure();
+            } else {
+                state.circuitBreaker.onSuccess();
+            }
+            //재시도할 예산이 없으면 마지막 결과를 돌려준다.
+            if (!failed || attempt >= maxAttempts || state.circuitBreaker.getState() != UpstreamCircuitBreaker.State.CLOSED
+                    || !callLimiter.tryAcquireQuota(state.provider)) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return response;
+            }
+            state.retries.increment();
+            sleep(backoffMillis(client, attempt));
+        }
+    }
+
+    /*
+     *  요청 한 번을 보낸다.
+     *  헤징이 켜져 있으면 hedgeDelay 안에 응답이 없을 때 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 쓴다.
+     *  헤징 요청의 예산이 없으면 첫 요청만 기다린다.
+     */
+    private UpstreamResponse attempt(ProviderState state, URI uri, UpstreamRequest request) throws IOException {
+        Duration timeout = state.client.getRequestTimeout();
+        Duration hedgeDelay = state.client.getHedgeDelay();
+        CompletableFuture<UpstreamResponse> primary = transport.send(state.provider, uri, request, timeout);
+        if (hedgeDelay == null || !request.isIdempotent()) {
+            return await(primary, timeout);
+        }
+        try {
+            return primary.get(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (!callLimiter.tryAcquireQuota(state.provider)) {
+                return await(primary, timeout.minus(hedgeDelay));
+            }
+            state.hedges.increment();
+        } catch (InterruptedException e) {
+            primary.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            throw asIOException(e.getCause());
+        }
+        CompletableFuture<UpstreamResponse> hedge = transport.send(state.provider, uri, request, timeout);
+        try {
+            return await(firstSuccessful(primary, hedge), timeout.minus(hedgeDelay));
+        } finally {
+            primary.cancel(true);
+            hedge.cancel(true);
+        }
+    }
+
+    //먼저 성공한 응답, 둘 다 실패하면 나중 실패
+    private static CompletableFuture<UpstreamResponse> firstSuccessful(CompletableFuture<UpstreamResponse> first,
+                                                                       CompletableFuture<UpstreamResponse> second) {
+        CompletableFuture<UpstreamResponse> winner = new CompletableFuture<>();
+        AtomicInteger failed = new AtomicInteger();
+        for (CompletableFuture<UpstreamResponse> future : new CompletableFuture[]{first, second}) {
+            future.whenComplete((response, error) -> {
+                if (error == null) {
+                    winner.complete(response);
+                } else if (failed.incrementAndGet() == 2) {
+                    winner.completeExceptionally(error);
+                }
+            });
+        }
+        return winner;
+    }
+
+    private static UpstreamResponse await(CompletableFuture<UpstreamResponse> future, Duration timeout) throws IOException {
+        try {
+            return future.get(Math.max(1, timeout.toNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new IOException("업스트림 응답 시간을 초과했습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            throw asIOException(e.getCause());
+        }
+    }
+
+    private static IOException asIOException(Throwable cause) {
+        return cause instanceof IOException io ? io : new IOException(cause);
+    }
+
+    //full jitter : 0 ~ min(max, base * 2^(attempt-1))
+    static long backoffMillis(UpstreamProperties.Client client, int attempt) {
+        long ceiling = Math.min(client.getMaxRetryBackoff().toMillis(),
+                client.getRetryBackoff().toMillis() << Math.min(attempt - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    //제공자별 설정 / 서킷 브레이커 / 카운터
+    private static final class ProviderState {
+        private final UpstreamProvider provider;
+        private final UpstreamProperties.Client client;
+        private final UpstreamCircuitBreaker circuitBreaker;
+        private final LongAdder retries;
+        private final LongAdder hedges;
+        private final LongAdder circuitRejected;
+        private final String spanName;
+
+        ProviderState(UpstreamProvider provider, UpstreamProperties.Client client, MetricsRegistry metricsRegistry) {
+            String name = "upstream." + provider.name().toLowerCase();
+            this.provider = provider;
+            this.client = client;
+            this.circuitBreaker = new UpstreamCircuitBreaker(client.getCircuit());
+            this.retries = metricsRegistry.counter(name + ".retries");
+            this.hedges = metricsRegistry.counter(name + ".hedges");
+            this.circuitRejected = metricsRegistry.counter(name + ".circuitRejected");
+            this.spanName = name;
+        }
+
+        //제공자 기본 헤더 뒤에 요청 헤더를 덮어쓴다.
+        UpstreamRequest merge(UpstreamRequest request) {
+            if (client.getHeaders().isEmpty()) {
+                return request;
+            }
+            Map<String, String> headers = new LinkedHashMap<>(client.getHeaders());
+            headers.putAll(request.getHeaders());
+            return request.toBuilder().clearHeaders().headers(headers).build();
+        }
+    }
+}
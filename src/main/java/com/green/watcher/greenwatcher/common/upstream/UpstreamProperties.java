@@ -0,0 +1,91 @@
+package com.green.watcher.greenwatcher.common.upstream;
+
+import com.green.watcher.greenwatcher.common.concurrency.AdaptiveLimitSettings;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.3
+ *  업스트림 호출 설정 (application.yml 의 upstream.*)
+ *  제공자별 API 키 호출량 예산(quota) 추가
+ *  제공자별 UpstreamClient 설정(주소, 타임아웃, 재시도, 헤징, 서킷 브레이커) 추가
+ *  동시 호출 슬롯을 적응형 한도(adaptive-limit)로 변경하여 슬롯 대기(acquire-timeout)를 없앰
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "upstream")
+public class UpstreamProperties {
+
+    //제공자별 동시 호출 수 상한 (적응형 한도의 최대값)
+    private int maxConcurrentCalls = 64;
+
+    //제공자별 적응형 동시 호출 한도 (max-limit 는 max-concurrent-calls 를 쓴다)
+    private AdaptiveLimitSettings adaptiveLimit = new AdaptiveLimitSettings();
+
+    //업스트림 연결 타임아웃
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    private JdbcGuard jdbcGuard = new JdbcGuard();
+
+    //제공자별 호출량 예산 (설정하지 않은 제공자는 제한하지 않는다)
+    private Map<UpstreamProvider, Quota> quota = new EnumMap<>(UpstreamProvider.class);
+
+    //제공자별 UpstreamClient 설정 (설정하지 않은 제공자는 UpstreamClient 로 호출할 수 없다)
+    private Map<UpstreamProvider, Client> providers = new EnumMap<>(UpstreamProvider.class);
+
+    @Getter
+    @Setter
+    public static class JdbcGuard {
+        //가상 스레드 모드에서 JDBC 진입 동시성 제한 여부
+        private boolean enabled = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Quota {
+        //순간 최대 호출 수
+        private long capacity = 100;
+        //초당 충전 호출 수 (일일 한도 / 86400 보다 작게 잡는다)
+        private double refillPerSecond = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class Client {
+        //요청 주소 앞에 붙는 기본 주소 (예: https://dapi.kakao.com)
+        private String baseUrl;
+        //모든 요청에 붙는 헤더 (예: Authorization: KakaoAK {key})
+        private Map<String, String> headers = new LinkedHashMap<>();
+        //요청 한 번의 응답 타임아웃
+        private Duration requestTimeout = Duration.ofSeconds(5);
+        //최대 시도 횟수 (1 이면 재시도하지 않는다)
+        private int maxAttempts = 3;
+        //재시도 대기 기준값, 시도마다 두 배로 늘리고 0 ~ 대기값 사이에서 무작위로 고른다 (full jitter)
+        private Duration retryBackoff = Duration.ofMillis(100);
+        private Duration maxRetryBackoff = Duration.ofSeconds(2);
+        //첫 응답이 이 시간 안에 오지 않으면 같은 요청을 한 번 더 보낸다 (없으면 헤징하지 않음)
+        private Duration hedgeDelay;
+        private Circuit circuit = new Circuit();
+    }
+
+    @Getter
+    @Setter
+    public static class Circuit {
+        //실패율을 계산하는 최근 호출 수
+        private int windowSize = 50;
+        //실패율을 계산하기 위한 최소 호출 수
+        private int minimumCalls = 20;
+        //서킷을 여는 실패율
+        private double failureRateThreshold = 0.5;
+        //서킷이 열린 뒤 시험 호출을 허용하기까지의 시간
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
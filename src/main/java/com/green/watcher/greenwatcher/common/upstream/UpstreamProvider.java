@@ -0,0 +1,19 @@
+package com.green.watcher.greenwatcher.common.upstream;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  외부 업스트림 API 제공자 enum 클래스
+ *  OSRM 은 프로필(차량, 도보, 자전거)마다 서버가 다르므로 도보(OSRM_FOOT), 자전거(OSRM_BIKE) 제공자 추가
+ */
+public enum UpstreamProvider {
+    VWORLD,
+    KAKAO,
+    ITS,
+    KMA,
+    SGIS,
+    OSRM,
+    OSRM_FOOT,
+    OSRM_BIKE
+}
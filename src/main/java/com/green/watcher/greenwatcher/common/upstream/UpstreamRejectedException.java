@@ -0,0 +1,21 @@
+package com.green.watcher.greenwatcher.common.upstream;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  업스트림 동시 호출 한도 또는 호출량 예산을 초과하여 호출이 거절되었을 때 발생하는 예외
+ */
+public class UpstreamRejectedException extends RuntimeException {
+
+    private final UpstreamProvider provider;
+
+    public UpstreamRejectedException(UpstreamProvider provider, String message) {
+        super(message);
+        this.provider = provider;
+    }
+
+    public UpstreamProvider getProvider() {
+        return provider;
+    }
+}
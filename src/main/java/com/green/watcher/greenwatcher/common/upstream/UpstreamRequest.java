@@ -0,0 +1,40 @@
+package com.green.watcher.greenwatcher.common.upstream;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.Map;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  UpstreamClient 요청
+ *  pathAndQuery 는 제공자 baseUrl 뒤에 붙는 경로와 쿼리 문자열이다. (예: /v2/local/geo/coord2address.json?x=127&y=37)
+ *  재시도와 헤징은 idempotent 요청에만 적용한다. GET 은 기본으로 idempotent 이다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class UpstreamRequest {
+
+    @Builder.Default
+    private final String method = "GET";
+
+    private final String pathAndQuery;
+
+    @Singular
+    private final Map<String, String> headers;
+
+    private final byte[] body;
+
+    private final Boolean idempotent;
+
+    public static UpstreamRequest get(String pathAndQuery) {
+        return UpstreamRequest.builder().pathAndQuery(pathAndQuery).build();
+    }
+
+    public boolean isIdempotent() {
+        return idempotent != null ? idempotent : "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method);
+    }
+}
@@ -0,0 +1,50 @@
+package com.green.watcher.greenwatcher.common.upstream;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  UpstreamClient 응답
+ *  업스트림 응답은 크기가 작으므로(JSON, 타일 한 장) 본문을 byte[] 로 모두 읽어 둔다.
+ */
+@Getter
+public class UpstreamResponse {
+
+    private final int status;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+
+    public UpstreamResponse(int status, Map<String, List<String>> headers, byte[] body) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public boolean isSuccess() {
+        return status >= 200 && status < 300;
+    }
+
+    //재시도하면 성공할 수 있는 상태 코드 (429, 5xx)
+    public boolean isRetryable() {
+        return status == 429 || status >= 500;
+    }
+
+    public String header(String name) {
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name) && !entry.getValue().isEmpty()) {
+                return entry.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    public String bodyAsString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,18 @@
+package com.green.watcher.greenwatcher.common.upstream;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  UpstreamClient 가 요청 한 번을 실제로 보내는 전송 계층
+ *  운영에서는 HttpClientUpstreamTransport 를, 테스트에서는 네트워크 없이 응답을 돌려주는 stub 구현을 사용한다.
+ *  반환한 future 를 cancel 하면 진행 중인 요청을 포기할 수 있어야 한다. (헤징에서 진 요청을 정리할 때 사용)
+ */
+public interface UpstreamTransport {
+
+    CompletableFuture<UpstreamResponse> send(UpstreamProvider provider, URI uri, UpstreamRequest request, Duration timeout);
+}
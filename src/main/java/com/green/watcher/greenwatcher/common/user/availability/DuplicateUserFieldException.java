@@ -0,0 +1,24 @@
+package com.green.watcher.greenwatcher.common.user.availability;
+
+import com.green.watcher.greenwatcher.common.user.enumerate.UserField;
+import lombok.Getter;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  회원가입 시 유니크 제약 위반 예외
+ *  어떤 필드(아이디, 닉네임, 이메일)가 중복되었는지 함께 전달한다.
+ *  기존 호출부가 DataIntegrityViolationException 으로 처리할 수 있도록 상속한다.
+ */
+@Getter
+public class DuplicateUserFieldException extends DataIntegrityViolationException {
+
+    private final UserField field;
+
+    public DuplicateUserFieldException(UserField field, Throwable cause) {
+        super("이미 사용 중인 " + field.getLabel() + "입니다.", cause);
+        this.field = field;
+    }
+}
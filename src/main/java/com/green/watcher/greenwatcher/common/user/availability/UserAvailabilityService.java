@@ -0,0 +1,192 @@
+package com.green.watcher.greenwatcher.common.user.availability;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.user.entity.User;
+import com.green.watcher.greenwatcher.common.user.enumerate.UserField;
+import com.green.watcher.greenwatcher.common.user.repository.UserIdentity;
+import com.green.watcher.greenwatcher.common.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  아이디 / 닉네임 / 이메일 사용 가능 여부 service 클래스
+ *  필드마다 Bloom filter 를 두고, 필터가 "없음" 이라고 답하면 DB 를 조회하지 않고 바로 사용 가능으로 응답한다.
+ *  필터가 "있을 수도 있음" 이라고 답할 때만 DB 로 확인한다.
+ *  필터는 애플리케이션 기동 후 keyset 페이지로 채우고, 회원가입 insert 가 커밋된 후 값을 추가한다.
+ *  필터가 준비되기 전에는 DB 로 확인하므로 결과는 항상 정확하다.
+ *  1.0.1 가입 반영과 필터 교체를 같은 잠금으로 묶고, 재생성 중 가입한 값은 교체 직전에 새 필터에 다시 반영한다.
+ *        포화 시 재생성은 applicationTaskExecutor 에서 실행한다.
+ */
+@Slf4j
+@Service
+public class UserAvailabilityService {
+
+    //필터를 채울 때 한 번에 읽는 사용자 수
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    private final UserRepository userRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final LongAdder filterNegatives;
+    private final LongAdder databaseChecks;
+    private final LongAdder falsePositives;
+
+    private final Executor executor;
+
+    //조회에 사용하는 필터 (null 이면 준비 전)
+    private volatile Map<UserField, BloomFilter> filters;
+    private final AtomicBoolean loading = new AtomicBoolean();
+
+    //가입 반영과 필터 교체를 묶는 잠금
+    private final Object swapLock = new Object();
+    //재생성 중 가입한 사용자 (재생성 중이 아니면 null, swapLock 으로 보호)
+    private List<User> pending;
+
+    @Autowired
+    public UserAvailabilityService(UserRepository userRepository,
+                                   MetricsRegistry metricsRegistry,
+                                   @Qualifier("applicationTaskExecutor") Executor executor,
+                                   @Value("${user.availability.expected-insertions:100000}") long expectedInsertions,
+                                   @Value("${user.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.executor = executor;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filterNegatives = metricsRegistry.counter("user.availability.filter.negative");
+        this.databaseChecks = metricsRegistry.counter("user.availability.database.check");
+        this.falsePositives = metricsRegistry.counter("user.availability.filter.falsePositive");
+    }
+
+    //기동 완료 후 필터 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        load();
+    }
+
+    /*
+     *  전체 사용자의 유니크 키로 필터를 새로 만든다.
+     *  현재 사용자 수의 두 배 이상으로 크기를 잡아 이후 가입자가 들어올 여유를 둔다.
+     *  스캔이 이미 지나간 아이디로 가입한 사용자는 pending 에 모았다가 교체 직전에 새 필터에 반영한다.
+     */
+    public void load() {
+        if (!loading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            long capacity = Math.max(expectedInsertions, userRepository.count() * 2);
+            Map<UserField, BloomFilter> next = new EnumMap<>(UserField.class);
+            for (UserField field : UserField.values()) {
+                next.put(field, BloomFilter.create(capacity, falsePositiveRate));
+            }
+            synchronized (swapLock) {
+                pending = new ArrayList<>();
+            }
+
+            String cursor = "";
+            long loaded = 0;
+            while (true) {
+                List<UserIdentity> page = userRepository.findIdentitiesAfter(cursor, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (UserIdentity identity : page) {
+                    addValue(next.get(UserField.ID), identity.getId());
+                    addValue(next.get(UserField.NICKNAME), identity.getNickname());
+                    addValue(next.get(UserField.EMAIL), identity.getEmail());
+                }
+                loaded += page.size();
+                if (page.size() < LOAD_PAGE_SIZE) {
+                    break;
+                }
+                cursor = page.get(page.size() - 1).getId();
+            }
+
+            synchronized (swapLock) {
+                for (User user : pending) {
+                    add(next, user);
+                }
+                filters = next;
+                pending = null;
+            }
+            log.info("중복 검사 필터 생성 완료: 사용자 {}명, 용량 {}, {}ms", loaded, capacity, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            synchronized (swapLock) {
+                pending = null;
+            }
+            log.warn("중복 검사 필터 생성 실패, DB 조회로 대체합니다.", e);
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    /*
+     *  값을 사용할 수 있는지 확인한다.
+     *  필터가 없다고 답하면 DB 조회 없이 true 를 반환한다.
+     */
+    public boolean isAvailable(UserField field, String value) {
+        Map<UserField, BloomFilter> current = filters;
+        if (current != null && !current.get(field).mightContain(value)) {
+            filterNegatives.increment();
+            return true;
+        }
+        databaseChecks.increment();
+        boolean exists = switch (field) {
+            case ID -> userRepository.existsById(value);
+            case NICKNAME -> userRepository.existsByNickname(value);
+            case EMAIL -> userRepository.existsByEmail(value);
+        };
+        if (!exists && current != null) {
+            falsePositives.increment();
+        }
+        return !exists;
+    }
+
+    /*
+     *  가입한 사용자의 값을 필터에 추가한다.
+     *  insert 가 커밋된 뒤 호출해야 한다. 재생성 시작 전에 커밋된 행은 스캔이 읽고, 시작 후 가입한 값은 pending 으로 반영된다.
+     */
+    public void register(User user) {
+        Map<UserField, BloomFilter> current;
+        synchronized (swapLock) {
+            current = filters;
+            add(current, user);
+            if (pending != null) {
+                pending.add(user);
+            }
+        }
+        if (current != null && current.get(UserField.ID).isSaturated() && !loading.get()) {
+            executor.execute(this::load);
+        }
+    }
+
+    private void add(Map<UserField, BloomFilter> target, User user) {
+        if (target == null) {
+            return;
+        }
+        addValue(target.get(UserField.ID), user.getId());
+        addValue(target.get(UserField.NICKNAME), user.getNickname());
+        addValue(target.get(UserField.EMAIL), user.getEmail());
+    }
+
+    private void addValue(BloomFilter filter, String value) {
+        if (value != null) {
+            filter.add(value);
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.green.watcher.greenwatcher.common.user.controller;
 
+import com.green.watcher.greenwatcher.common.concurrency.ConcurrencyLimitExceededException;
+import com.green.watcher.greenwatcher.common.user.availability.DuplicateUserFieldException;
+import com.green.watcher.greenwatcher.common.user.availability.UserAvailabilityService;
 import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import com.green.watcher.greenwatcher.common.user.dto.UserAvailabilityDTO;
 import com.green.watcher.greenwatcher.common.user.dto.UserRegistrationDTO;
 import com.green.watcher.greenwatcher.common.user.entity.User;
 import com.green.watcher.greenwatcher.common.user.enumerate.Role;
+import com.green.watcher.greenwatcher.common.user.enumerate.UserField;
 import com.green.watcher.greenwatcher.common.user.repository.UserRepository;
 import com.green.watcher.greenwatcher.common.user.security.jwt.JwtTokenProvider;
 import com.green.watcher.greenwatcher.common.user.security.service.UserService;
@@ -24,17 +29,21 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  *  @author kim
  *  @since 2024.09.18
- *  @version 1.0.0
+ *  @version 1.0.2
  *  api 로그인 컨트롤러
  *  swagger를 이용한 api 문서 자동화
+ *  아이디 / 닉네임 / 이메일 사용 가능 여부 확인 api, 회원가입 중복 필드 응답 추가
+ *  DB 동시성 한도로 로그인 사용자 조회가 거절되면 503 으로 응답
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -46,15 +55,18 @@ public class AuthApiController {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
+    private final UserAvailabilityService availabilityService;
 
     public AuthApiController(AuthenticationManager authenticationManager,
                           JwtTokenProvider jwtTokenProvider,
                              UserService userService,
-                          PasswordEncoder passwordEncoder) {
+                          PasswordEncoder passwordEncoder,
+                             UserAvailabilityService availabilityService) {
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = jwtTokenProvider;
         this.userService = userService;
         this.passwordEncoder = passwordEncoder;
+        this.availabilityService = availabilityService;
     }
 
     // 로그인 엔드포인트
@@ -83,6 +95,11 @@ public class AuthApiController {
             return ResponseEntity.ok(UserApiResponse.success(token));
 
         } catch (AuthenticationException e) {
+            //사용자 조회가 DB 동시성 한도로 거절되었으면 401 이 아니라 503 (OverloadExceptionResponseHandler)
+            ConcurrencyLimitExceededException overload = ConcurrencyLimitExceededException.find(e);
+            if (overload != null) {
+                throw overload;
+            }
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(UserApiResponse.fail(HttpStatus.UNAUTHORIZED.value(), "로그인에 실패했습니다."));
         }
@@ -94,10 +111,10 @@ public class AuthApiController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = UserApiResponse.class),
                             examples = @ExampleObject(value = "{\"statusCode\": 200, \"message\": \"성공\", \"data\": \"회원가입이 완료되었습니다.\"}"))),
-            @ApiResponse(responseCode = "409", description = "회원가입 실패 (중복된 사용자)",
+            @ApiResponse(responseCode = "409", description = "회원가입 실패 (중복된 사용자), data 는 중복된 필드(id, nickname, email)",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = UserApiResponse.class),
-                            examples = @ExampleObject(value = "{\"statusCode\": 409, \"message\": \"회원가입에 실패했습니다: Duplicate entry\", \"data\": null}")))
+                            examples = @ExampleObject(value = "{\"statusCode\": 409, \"message\": \"회원가입에 실패했습니다: 이미 사용 중인 닉네임입니다.\", \"data\": \"nickname\"}")))
     })
     @PostMapping("/signup")
     public ResponseEntity<UserApiResponse<String>> signup(
@@ -106,9 +123,41 @@ public class AuthApiController {
         try {
             userService.registerUser(signUpRequest);
             return ResponseEntity.ok(UserApiResponse.success("회원가입이 완료되었습니다."));
+        } catch (DuplicateUserFieldException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new UserApiResponse<>(HttpStatus.CONFLICT.value(),
+                            "회원가입에 실패했습니다: " + e.getMessage(), e.getField().getKey()));
         } catch (DataIntegrityViolationException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT)
                     .body(UserApiResponse.fail(HttpStatus.CONFLICT.value(), "회원가입에 실패했습니다"));
         }
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "사용 가능 여부 확인", description = "아이디, 닉네임, 이메일이 이미 사용 중인지 확인합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "확인 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UserApiResponse.class),
+                            examples = @ExampleObject(value = "{\"statusCode\": 200, \"message\": \"성공\", \"data\": {\"field\": \"nickname\", \"value\": \"닉네임\", \"available\": true}}"))),
+            @ApiResponse(responseCode = "400", description = "잘못된 필드 또는 빈 값",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UserApiResponse.class),
+                            examples = @ExampleObject(value = "{\"statusCode\": 400, \"message\": \"확인할 수 없는 필드입니다.\", \"data\": null}")))
+    })
+    @GetMapping("/availability")
+    public ResponseEntity<UserApiResponse<UserAvailabilityDTO>> availability(
+            @Parameter(description = "확인할 필드 (id, nickname, email)", example = "nickname") @RequestParam String field,
+            @Parameter(description = "확인할 값", example = "닉네임") @RequestParam String value) {
+        UserField userField = UserField.fromKey(field);
+        if (userField == null) {
+            return ResponseEntity.badRequest()
+                    .body(UserApiResponse.fail(HttpStatus.BAD_REQUEST.value(), "확인할 수 없는 필드입니다."));
+        }
+        if (value.isBlank()) {
+            return ResponseEntity.badRequest()
+                    .body(UserApiResponse.fail(HttpStatus.BAD_REQUEST.value(), "값을 입력해주세요."));
+        }
+        boolean available = availabilityService.isAvailable(userField, value);
+        return ResponseEntity.ok(UserApiResponse.success(new UserAvailabilityDTO(userField.getKey(), value, available)));
+    }
+}
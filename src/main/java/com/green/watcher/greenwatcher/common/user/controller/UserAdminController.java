@@ -0,0 +1,113 @@
+package com.green.watcher.greenwatcher.common.user.controller;
+
+import com.green.watcher.greenwatcher.common.user.dto.AdminUserPageDTO;
+import com.green.watcher.greenwatcher.common.user.dto.AdminUserQuery;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
+import com.green.watcher.greenwatcher.common.user.dto.UserImportReportDTO;
+import com.green.watcher.greenwatcher.common.user.enumerate.Role;
+import com.green.watcher.greenwatcher.common.user.provisioning.UserImportService;
+import com.green.watcher.greenwatcher.common.user.service.UserAdminService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  관리자 사용자 관리 컨트롤러
+ *  /admin/** 이므로 ROLE_ADMIN 만 접근할 수 있다.
+ *  사용자 검색(keyset 페이지) / CSV export 추가
+ */
+@RestController
+@RequestMapping("/admin/users")
+@RequiredArgsConstructor
+public class UserAdminController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final UserImportService userImportService;
+
+    private final UserAdminService userAdminService;
+
+    /*
+     *  사용자 검색 (가입일 최신순)
+     *  cursor 는 이전 응답의 nextCursor, nickname / email 은 앞부분 일치, createdFrom / createdTo 는 ISO-8601 일시이다.
+     */
+    @GetMapping
+    public ResponseEntity<UserApiResponse<AdminUserPageDTO>> findUsers(@RequestParam(required = false) Role role,
+                                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                                                       @RequestParam(required = false) String nickname,
+                                                                       @RequestParam(required = false) String email,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "100") int size) {
+        AdminUserQuery query;
+        try {
+            query = query(role, createdFrom, createdTo, nickname, email)
+                    .limit(Math.max(1, Math.min(size, MAX_PAGE_SIZE)))
+                    .build()
+                    .after(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(UserApiResponse.fail(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        }
+        return ResponseEntity.ok(UserApiResponse.success(userAdminService.findPage(query)));
+    }
+
+    /*
+     *  검색 조건에 맞는 사용자 전체 CSV export
+     *  페이지 단위로 읽으며 바로 응답에 쓴다.
+     */
+    @GetMapping("/export")
+    public void exportUsers(@RequestParam(required = false) Role role,
+                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                            @RequestParam(required = false) String nickname,
+                            @RequestParam(required = false) String email,
+                            HttpServletResponse response) throws IOException {
+        response.setContentType("text/csv");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.csv\"");
+        userAdminService.export(query(role, createdFrom, createdTo, nickname, email).build(), response.getWriter());
+    }
+
+    /*
+     *  사용자 일괄 등록
+     *  요청 본문(text/csv, application/json, application/x-ndjson)을 스트리밍으로 읽어 등록하고 행별 결과를 반환한다.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<UserApiResponse<UserImportReportDTO>> importUsers(HttpServletRequest request) throws IOException {
+        try {
+            return ResponseEntity.ok(UserApiResponse.success(
+                    userImportService.importUsers(request.getContentType(), request.getInputStream())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(UserApiResponse.fail(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        }
+    }
+
+    //빈 문자열 조건은 사용하지 않는다.
+    private static AdminUserQuery.AdminUserQueryBuilder query(Role role, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                                              String nickname, String email) {
+        return AdminUserQuery.builder()
+                .role(role)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .nicknamePrefix(nickname == null || nickname.isBlank() ? null : nickname.trim())
+                .emailPrefix(email == null || email.isBlank() ? null : email.trim());
+    }
+}
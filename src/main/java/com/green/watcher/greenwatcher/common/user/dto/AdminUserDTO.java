@@ -0,0 +1,26 @@
+package com.green.watcher.greenwatcher.common.user.dto;
+
+import com.green.watcher.greenwatcher.common.user.enumerate.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  관리자 사용자 목록 응답 객체
+ *  QueryDSL 프로젝션으로 바로 조회하며 비밀번호는 포함하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class AdminUserDTO {
+
+    private String id;
+    private String nickname;
+    private String email;
+    private Role role;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,75 @@
+package com.green.watcher.greenwatcher.common.user.dto;
+
+import com.green.watcher.greenwatcher.common.user.enumerate.Role;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  관리자 사용자 검색 조건 객체
+ *  목록은 가입일 최신순(createdAt, id 내림차순)이며, afterCreatedAt / afterId 는 이전 페이지 마지막 사용자의 값이다.
+ *  nickname / email 은 앞부분 일치(prefix) 검색이다.
+ *  1.0.1 가입일이 null 인 사용자는 목록 맨 뒤에 오며, 커서의 가입일 부분을 비워 표현한다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class AdminUserQuery {
+
+    private Role role;
+
+    //가입일 시작 (포함)
+    private LocalDateTime createdFrom;
+
+    //가입일 끝 (포함하지 않는다)
+    private LocalDateTime createdTo;
+
+    private String nicknamePrefix;
+
+    private String emailPrefix;
+
+    private LocalDateTime afterCreatedAt;
+
+    private String afterId;
+
+    @Builder.Default
+    private int limit = 100;
+
+    /*
+     *  마지막 사용자로 다음 페이지 커서 문자열을 만든다.
+     *  "가입일|아이디" 를 URL-safe base64 로 인코딩한다. 가입일이 없으면 "|아이디" 이다.
+     */
+    public static String encodeCursor(AdminUserDTO last) {
+        String raw = (last.getCreatedAt() == null ? "" : last.getCreatedAt().toString()) + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /*
+     *  커서 문자열을 검색 조건에 반영한다.
+     *  형식이 잘못되면 IllegalArgumentException 을 던진다.
+     */
+    public AdminUserQuery after(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return this;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+            }
+            return toBuilder()
+                    .afterCreatedAt(separator == 0 ? null : LocalDateTime.parse(raw.substring(0, separator)))
+                    .afterId(raw.substring(separator + 1))
+                    .build();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("올바르지 않은 커서입니다.", e);
+        }
+    }
+}
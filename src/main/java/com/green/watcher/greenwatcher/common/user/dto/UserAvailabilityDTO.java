@@ -0,0 +1,18 @@
+package com.green.watcher.greenwatcher.common.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  아이디 / 닉네임 / 이메일 사용 가능 여부 응답 객체
+ */
+@Getter
+@AllArgsConstructor
+public class UserAvailabilityDTO {
+    private String field;
+    private String value;
+    private boolean available;
+}
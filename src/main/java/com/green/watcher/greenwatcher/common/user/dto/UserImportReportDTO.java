@@ -0,0 +1,22 @@
+package com.green.watcher.greenwatcher.common.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  사용자 일괄 등록 결과 객체
+ */
+@Getter
+@AllArgsConstructor
+public class UserImportReportDTO {
+    private long total;
+    private long created;
+    private long failed;
+    private long elapsedMillis;
+    private List<UserImportRowDTO> rows;
+}
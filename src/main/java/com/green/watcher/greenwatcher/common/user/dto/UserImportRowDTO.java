@@ -0,0 +1,23 @@
+package com.green.watcher.greenwatcher.common.user.dto;
+
+import com.green.watcher.greenwatcher.common.user.enumerate.UserImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  사용자 일괄 등록 행별 결과 객체
+ *  row 는 CSV 의 줄 번호(헤더 포함) 또는 JSON 배열의 순번(1부터)이다.
+ *  field 는 실패 원인이 된 필드(id, nickname, email, password, role)이며 없으면 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserImportRowDTO {
+    private long row;
+    private String id;
+    private UserImportStatus status;
+    private String field;
+    private String message;
+}
@@ -12,8 +12,10 @@ import java.time.LocalDateTime;
 /**
  *  @author kim
  *  @since 2024.09.17
- *  @version 1.0.0
+ *  @version 1.0.2
  *  사용자 관련 Entity
+ *  회원가입 시 중복 필드를 구분할 수 있도록 유니크 제약 이름 지정
+ *  관리자 목록(가입일 최신순 keyset) 용 가입일 / 권한 인덱스 추가
  */
 @Entity
 @Getter
@@ -22,16 +24,25 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @DynamicInsert
-@Table(name = "T_USER")
+@Table(name = "T_USER", uniqueConstraints = {
+        @UniqueConstraint(name = User.UK_NICKNAME, columnNames = "nickname"),
+        @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email")
+}, indexes = {
+        @Index(name = "IDX_USER_CREATED_AT_ID", columnList = "createdAt, id"),
+        @Index(name = "IDX_USER_ROLE_CREATED_AT_ID", columnList = "role, createdAt, id")
+})
 public class User {
 
+    public static final String UK_NICKNAME = "UK_USER_NICKNAME";
+    public static final String UK_EMAIL = "UK_USER_EMAIL";
+
     @Id
     private String id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String nickname;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -0,0 +1,35 @@
+package com.green.watcher.greenwatcher.common.user.enumerate;
+
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  중복 검사 대상 사용자 필드 enum 클래스
+ *  key 는 요청 파라미터 / 응답에 쓰는 이름, label 은 화면에 표출하는 이름이다.
+ */
+@Getter
+public enum UserField {
+    ID("id", "아이디"),
+    NICKNAME("nickname", "닉네임"),
+    EMAIL("email", "이메일");
+
+    private final String key;
+    private final String label;
+
+    UserField(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    //요청 파라미터 이름으로 필드 조회, 없으면 null
+    public static UserField fromKey(String key) {
+        for (UserField field : values()) {
+            if (field.key.equalsIgnoreCase(key)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
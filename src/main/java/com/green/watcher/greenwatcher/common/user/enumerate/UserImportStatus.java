@@ -0,0 +1,12 @@
+package com.green.watcher.greenwatcher.common.user.enumerate;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  사용자 일괄 등록 행 처리 결과 enum 클래스
+ */
+public enum UserImportStatus {
+    CREATED,
+    FAILED
+}
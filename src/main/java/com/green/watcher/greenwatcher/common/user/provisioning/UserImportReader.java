@@ -0,0 +1,258 @@
+package com.green.watcher.greenwatcher.common.user.provisioning;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  사용자 일괄 등록 입력 스트림 reader
+ *  전체 입력을 메모리에 올리지 않고 한 행씩 읽는다.
+ *  CSV: 첫 줄은 헤더(id, nickname, email, password, role 순서 무관, role 은 생략 가능), 큰따옴표 인용 지원
+ *  JSON: 객체 배열([{...}, ...]) 또는 줄 단위 객체(NDJSON)
+ *  JSON 구문 오류(잘린 입력 등)는 IllegalArgumentException 으로 바꾸어 400 으로 응답되게 한다.
+ */
+public abstract class UserImportReader implements Iterator<UserImportRow>, Closeable {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("id", "nickname", "email", "password");
+
+    private UserImportRow next;
+
+    /*
+     *  Content-Type 에 맞는 reader 를 생성한다.
+     *  지원하지 않는 형식이면 IllegalArgumentException 을 던진다.
+     */
+    public static UserImportReader of(String contentType, InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (type.startsWith("text/csv") || type.startsWith("text/plain")) {
+            return new Csv(inputStream);
+        }
+        if (type.startsWith("application/json") || type.startsWith("application/x-ndjson")) {
+            return new Json(objectMapper.createParser(inputStream));
+        }
+        throw new IllegalArgumentException("text/csv 또는 application/json 형식만 지원합니다.");
+    }
+
+    //다음 행을 읽는다. 입력이 끝나면 null
+    protected abstract UserImportRow read() throws IOException;
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = read();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public UserImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        UserImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /*
+     *  CSV reader
+     */
+    static class Csv extends UserImportReader {
+
+        private final BufferedReader reader;
+        private Map<String, Integer> columns;
+        private long line;
+
+        Csv(InputStream inputStream) {
+            this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        protected UserImportRow read() throws IOException {
+            if (columns == null) {
+                readHeader();
+            }
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank());
+
+            List<String> values;
+            try {
+                values = split(text);
+            } catch (IllegalArgumentException e) {
+                return UserImportRow.builder().row(line).error(e.getMessage()).build();
+            }
+            if (values.size() < columns.size()) {
+                return UserImportRow.builder().row(line).error("컬럼 수가 헤더보다 적습니다.").build();
+            }
+            return UserImportRow.builder()
+                    .row(line)
+                    .id(trimToNull(values.get(columns.get("id"))))
+                    .nickname(trimToNull(values.get(columns.get("nickname"))))
+                    .email(trimToNull(values.get(columns.get("email"))))
+                    .password(values.get(columns.get("password")))
+                    .role(columns.containsKey("role") ? trimToNull(values.get(columns.get("role"))) : null)
+                    .build();
+        }
+
+        private void readHeader() throws IOException {
+            String header = reader.readLine();
+            line++;
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+            }
+            //UTF-8 BOM 제거
+            if (header.startsWith("\uFEFF")) {
+                header = header.substring(1);
+            }
+            Map<String, Integer> parsed = new HashMap<>();
+            List<String> names = split(header);
+            for (int i = 0; i < names.size(); i++) {
+                parsed.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String required : REQUIRED_COLUMNS) {
+                if (!parsed.containsKey(required)) {
+                    throw new IllegalArgumentException("CSV 헤더에 " + required + " 컬럼이 없습니다.");
+                }
+            }
+            columns = parsed;
+        }
+
+        //쉼표 구분, 큰따옴표 인용("" 는 따옴표 하나) 한 줄 파싱
+        static List<String> split(String text) {
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                            current.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            if (quoted) {
+                throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+            }
+            values.add(current.toString());
+            return values;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /*
+     *  JSON reader
+     */
+    static class Json extends UserImportReader {
+
+        private final JsonParser parser;
+        private boolean started;
+        private boolean array;
+        private long index;
+
+        Json(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        protected UserImportRow read() throws IOException {
+            try {
+                return readObject();
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다. (" + (index + 1) + "번째 객체, "
+                        + e.getOriginalMessage() + ")", e);
+            }
+        }
+
+        private UserImportRow readObject() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (!started) {
+                started = true;
+                array = token == JsonToken.START_ARRAY;
+                if (array) {
+                    token = parser.nextToken();
+                }
+            }
+            if (token == null || (array && token == JsonToken.END_ARRAY)) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("사용자 객체 배열 형식이 아닙니다.");
+            }
+            JsonNode node = parser.readValueAsTree();
+            index++;
+            return UserImportRow.builder()
+                    .row(index)
+                    .id(trimToNull(text(node, "id")))
+                    .nickname(trimToNull(text(node, "nickname")))
+                    .email(trimToNull(text(node, "email")))
+                    .password(text(node, "password"))
+                    .role(trimToNull(text(node, "role")))
+                    .build();
+        }
+
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
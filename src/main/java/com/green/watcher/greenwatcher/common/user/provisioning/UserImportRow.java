@@ -0,0 +1,23 @@
+package com.green.watcher.greenwatcher.common.user.provisioning;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  일괄 등록 입력 한 행
+ *  행 형식 자체가 잘못된 경우 error 에 사유를 담고 나머지 값은 비어 있을 수 있다.
+ */
+@Getter
+@Builder
+public class UserImportRow {
+    private final long row;
+    private final String id;
+    private final String nickname;
+    private final String email;
+    private final String password;
+    private final String role;
+    private final String error;
+}
@@ -0,0 +1,326 @@
+package com.green.watcher.greenwatcher.common.user.provisioning;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.watcher.greenwatcher.common.user.availability.UserAvailabilityService;
+import com.green.watcher.greenwatcher.common.user.dto.UserImportReportDTO;
+import com.green.watcher.greenwatcher.common.user.dto.UserImportRowDTO;
+import com.green.watcher.greenwatcher.common.user.entity.User;
+import com.green.watcher.greenwatcher.common.user.enumerate.Role;
+import com.green.watcher.greenwatcher.common.user.enumerate.UserField;
+import com.green.watcher.greenwatcher.common.user.enumerate.UserImportStatus;
+import com.green.watcher.greenwatcher.common.user.security.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  사용자 일괄 등록 service 클래스
+ *  1. 입력 스트림을 한 행씩 읽으며 검증한다. (필수값, 형식, 파일 내 중복, 기존 사용자 중복)
+ *  2. 검증을 통과한 행을 chunk 단위로 모아 비밀번호 해시를 고정 크기 풀에서 병렬로 계산한다.
+ *  3. chunk 하나를 트랜잭션 하나로 JDBC batch insert 한다.
+ *     검증 이후 다른 요청이 같은 값을 먼저 넣어 batch 가 실패하면 해당 chunk 만 행 단위로 다시 넣어 실패 행을 가려낸다.
+ *  모든 행의 처리 결과를 행 번호 순으로 반환한다.
+ */
+@Slf4j
+@Service
+public class UserImportService implements DisposableBean {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO T_USER (ID, NICKNAME, EMAIL, PASSWORD, ROLE, CREATED_AT) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    //T_USER 문자열 컬럼 길이
+    private static final int MAX_LENGTH = 255;
+
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserAvailabilityService availabilityService;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxRows;
+    private final ThreadPoolExecutor hashExecutor;
+
+    @Autowired
+    public UserImportService(PasswordEncoder passwordEncoder,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             UserAvailabilityService availabilityService,
+                             ObjectMapper objectMapper,
+                             @Value("${user.import.chunk-size:500}") int chunkSize,
+                             @Value("${user.import.max-rows:50000}") int maxRows,
+                             @Value("${user.import.hash-threads:0}") int hashThreads) {
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.availabilityService = availabilityService;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+
+        //BCrypt 는 CPU 연산이므로 코어 수만큼만 돌린다. 큐가 차면 호출 스레드가 직접 계산하여 자연스럽게 속도를 맞춘다.
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.hashExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(chunkSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /*
+     *  사용자 일괄 등록
+     *  입력 형식이 잘못되었으면 IllegalArgumentException 을 던진다. (이미 처리된 chunk 는 등록된 상태로 남는다)
+     */
+    public UserImportReportDTO importUsers(String contentType, InputStream inputStream) throws IOException {
+        long started = System.nanoTime();
+        List<UserImportRowDTO> results = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        Set<String> nicknames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<PendingUser> chunk = new ArrayList<>(chunkSize);
+        long total = 0;
+
+        try (UserImportReader reader = UserImportReader.of(contentType, inputStream, objectMapper)) {
+            while (reader.hasNext()) {
+                UserImportRow row = reader.next();
+                if (++total > maxRows) {
+                    results.add(failed(row.getRow(), row.getId(), null, "한 번에 등록할 수 있는 사용자는 최대 " + maxRows + "명입니다."));
+                    break;
+                }
+                UserImportRowDTO failure = validate(row, ids, nicknames, emails);
+                if (failure != null) {
+                    results.add(failure);
+                    continue;
+                }
+                chunk.add(new PendingUser(row.getRow(), toUser(row)));
+                if (chunk.size() == chunkSize) {
+                    results.addAll(write(chunk));
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                results.addAll(write(chunk));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        results.sort(Comparator.comparingLong(UserImportRowDTO::getRow));
+        long created = results.stream().filter(result -> result.getStatus() == UserImportStatus.CREATED).count();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("사용자 일괄 등록: {}행 중 {}명 등록, {}ms", results.size(), created, elapsedMillis);
+        return new UserImportReportDTO(results.size(), created, results.size() - created, elapsedMillis, results);
+    }
+
+    /*
+     *  행 검증
+     *  통과하면 null, 실패하면 실패 결과를 반환한다.
+     *  파일 안의 중복은 먼저 나온 행을 남기고, 기존 사용자 중복은 Bloom filter 로 거른 뒤 DB 로 확인한다.
+     */
+    private UserImportRowDTO validate(UserImportRow row, Set<String> ids, Set<String> nicknames, Set<String> emails) {
+        if (row.getError() != null) {
+            return failed(row.getRow(), row.getId(), null, row.getError());
+        }
+        for (UserField field : UserField.values()) {
+            UserImportRowDTO failure = required(row, field);
+            if (failure != null) {
+                return failure;
+            }
+        }
+        if (row.getPassword() == null || row.getPassword().isEmpty()) {
+            return failed(row.getRow(), row.getId(), "password", "비밀번호를 입력해주세요.");
+        }
+        if (!EMAIL_PATTERN.matcher(row.getEmail()).matches()) {
+            return failed(row.getRow(), row.getId(), UserField.EMAIL.getKey(), "이메일 형식이 올바르지 않습니다.");
+        }
+        if (row.getRole() != null && parseRole(row.getRole()) == null) {
+            return failed(row.getRow(), row.getId(), "role", "알 수 없는 권한입니다: " + row.getRole());
+        }
+        if (ids.contains(row.getId())) {
+            return duplicatedInFile(row, UserField.ID);
+        }
+        if (nicknames.contains(row.getNickname())) {
+            return duplicatedInFile(row, UserField.NICKNAME);
+        }
+        if (emails.contains(row.getEmail())) {
+            return duplicatedInFile(row, UserField.EMAIL);
+        }
+        if (!availabilityService.isAvailable(UserField.ID, row.getId())) {
+            return alreadyUsed(row.getRow(), row.getId(), UserField.ID);
+        }
+        if (!availabilityService.isAvailable(UserField.NICKNAME, row.getNickname())) {
+            return alreadyUsed(row.getRow(), row.getId(), UserField.NICKNAME);
+        }
+        if (!availabilityService.isAvailable(UserField.EMAIL, row.getEmail())) {
+            return alreadyUsed(row.getRow(), row.getId(), UserField.EMAIL);
+        }
+        ids.add(row.getId());
+        nicknames.add(row.getNickname());
+        emails.add(row.getEmail());
+        return null;
+    }
+
+    /*
+     *  chunk 를 등록한다.
+     *  비밀번호 해시를 병렬로 계산한 뒤 한 트랜잭션에서 batch insert 한다.
+     */
+    private List<UserImportRowDTO> write(List<PendingUser> chunk) {
+        List<Future<String>> hashes = new ArrayList<>(chunk.size());
+        for (PendingUser pending : chunk) {
+            String rawPassword = pending.user.getPassword();
+            hashes.add(hashExecutor.submit(() -> passwordEncoder.encode(rawPassword)));
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            chunk.get(i).user.setPassword(await(hashes.get(i)));
+        }
+
+        List<UserImportRowDTO> results = new ArrayList<>(chunk.size());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, chunk, chunk.size(), (ps, pending) -> bind(ps, pending.user)));
+            for (PendingUser pending : chunk) {
+                availabilityService.register(pending.user);
+                results.add(created(pending));
+            }
+        } catch (DataIntegrityViolationException e) {
+            //검증 이후 다른 요청이 같은 값을 먼저 등록한 경우, 행 단위로 다시 넣어 실패 행만 가려낸다.
+            log.debug("batch insert 실패, 행 단위로 재시도합니다: {}", e.getMostSpecificCause().getMessage());
+            for (PendingUser pending : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, pending.user)));
+                    availabilityService.register(pending.user);
+                    results.add(created(pending));
+                } catch (DataIntegrityViolationException rowException) {
+                    results.add(alreadyUsed(pending.row, pending.user.getId(), UserService.violatedField(rowException)));
+                }
+            }
+        }
+        return results;
+    }
+
+    private static void bind(PreparedStatement ps, User user) throws SQLException {
+        ps.setString(1, user.getId());
+        ps.setString(2, user.getNickname());
+        ps.setString(3, user.getEmail());
+        ps.setString(4, user.getPassword());
+        ps.setString(5, user.getRole().name());
+        ps.setTimestamp(6, Timestamp.valueOf(user.getCreatedAt()));
+    }
+
+    private static String await(Future<String> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해시 계산에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private static User toUser(UserImportRow row) {
+        return User.builder()
+                .id(row.getId())
+                .nickname(row.getNickname())
+                .email(row.getEmail())
+                .password(row.getPassword())
+                .role(row.getRole() == null ? Role.ROLE_USER : parseRole(row.getRole()))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    //"ROLE_ADMIN", "admin" 모두 허용
+    private static Role parseRole(String value) {
+        String name = value.toUpperCase(Locale.ROOT);
+        for (Role role : Role.values()) {
+            if (role.name().equals(name) || role.name().equals("ROLE_" + name)) {
+                return role;
+            }
+        }
+        return null;
+    }
+
+    private static UserImportRowDTO required(UserImportRow row, UserField field) {
+        String value = switch (field) {
+            case ID -> row.getId();
+            case NICKNAME -> row.getNickname();
+            case EMAIL -> row.getEmail();
+        };
+        if (value == null) {
+            return failed(row.getRow(), row.getId(), field.getKey(), field.getLabel() + "을(를) 입력해주세요.");
+        }
+        if (value.length() > MAX_LENGTH) {
+            return failed(row.getRow(), row.getId(), field.getKey(), field.getLabel() + "은(는) " + MAX_LENGTH + "자 이하여야 합니다.");
+        }
+        return null;
+    }
+
+    private static UserImportRowDTO duplicatedInFile(UserImportRow row, UserField field) {
+        return failed(row.getRow(), row.getId(), field.getKey(), "파일 안에서 중복된 " + field.getLabel() + "입니다.");
+    }
+
+    private static UserImportRowDTO alreadyUsed(long row, String id, UserField field) {
+        return failed(row, id, field.getKey(), "이미 사용 중인 " + field.getLabel() + "입니다.");
+    }
+
+    private static UserImportRowDTO created(PendingUser pending) {
+        return new UserImportRowDTO(pending.row, pending.user.getId(), UserImportStatus.CREATED, null, null);
+    }
+
+    private static UserImportRowDTO failed(long row, String id, String field, String message) {
+        return new UserImportRowDTO(row, id, UserImportStatus.FAILED, field, message);
+    }
+
+    @Override
+    public void destroy() {
+        hashExecutor.shutdownNow();
+    }
+
+    //검증을 통과한 행 (password 는 해시 전 원문, 해시 후 교체한다)
+    private static final class PendingUser {
+        private final long row;
+        private final User user;
+
+        private PendingUser(long row, User user) {
+            this.row = row;
+            this.user = user;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.green.watcher.greenwatcher.common.user.repository;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  사용자 유니크 키(아이디, 닉네임, 이메일) 프로젝션
+ *  중복 검사 필터를 채울 때 비밀번호 등 나머지 컬럼을 읽지 않기 위해 사용한다.
+ */
+public interface UserIdentity {
+    String getId();
+    String getNickname();
+    String getEmail();
+}
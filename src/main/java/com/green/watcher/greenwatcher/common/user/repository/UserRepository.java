@@ -1,16 +1,29 @@
 package com.green.watcher.greenwatcher.common.user.repository;
 
 import com.green.watcher.greenwatcher.common.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  *  @author kim
  *  @since 2024.09.17
- *  @version 1.0.0
+ *  @version 1.0.1
  *  사용자 JPA 레파지토리
+ *  닉네임 / 이메일 존재 여부, 유니크 키 keyset 조회 추가
  */
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, String>, UserRepositoryCustom {
     Optional<User> findById(String id);
-}
\ No newline at end of file
+
+    boolean existsByNickname(String nickname);
+
+    boolean existsByEmail(String email);
+
+    //아이디 순 keyset 페이지로 유니크 키만 조회
+    @Query("select u.id as id, u.nickname as nickname, u.email as email from User u where u.id > :afterId order by u.id")
+    List<UserIdentity> findIdentitiesAfter(@Param("afterId") String afterId, Pageable pageable);
+}
@@ -0,0 +1,36 @@
+package com.green.watcher.greenwatcher.common.user.repository;
+
+import com.green.watcher.greenwatcher.common.user.dto.AdminUserDTO;
+import com.green.watcher.greenwatcher.common.user.dto.AdminUserQuery;
+import com.green.watcher.greenwatcher.common.user.entity.User;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  사용자 커스텀 레파지토리
+ *  관리자 사용자 검색(keyset, DTO 프로젝션) 추가
+ */
+public interface UserRepositoryCustom {
+
+    /*
+     *  신규 사용자를 select 없이 insert 한다.
+     *  유니크 제약 위반은 flush 시점에 DataIntegrityViolationException 으로 던져진다.
+     */
+    User insert(User user);
+
+    /*
+     *  가입일 최신순 keyset 페이지 조회
+     *  엔티티를 만들지 않고 DTO 로 바로 조회한다.
+     */
+    List<AdminUserDTO> search(AdminUserQuery query);
+
+    /*
+     *  검색 조건에 맞는 모든 사용자를 keyset 페이지 단위로 읽는 Stream
+     *  전체 결과를 메모리에 모으지 않으므로 export 처럼 큰 결과를 다룰 때 사용한다.
+     */
+    Stream<AdminUserDTO> stream(AdminUserQuery query);
+}
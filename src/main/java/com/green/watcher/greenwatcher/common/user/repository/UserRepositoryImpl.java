@@ -0,0 +1,121 @@
+package com.green.watcher.greenwatcher.common.user.repository;
+
+import com.green.watcher.greenwatcher.common.user.dto.AdminUserDTO;
+import com.green.watcher.greenwatcher.common.user.dto.AdminUserQuery;
+import com.green.watcher.greenwatcher.common.user.entity.QUser;
+import com.green.watcher.greenwatcher.common.user.entity.User;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.2
+ *  사용자 커스텀 레파지토리 구현체
+ *  아이디를 직접 지정하는 엔티티라 save() 는 merge(select 후 insert) 로 동작하므로
+ *  회원가입은 persist + flush 한 번으로 처리한다.
+ *  관리자 검색은 (createdAt, id) 커서보다 작은 행을 인덱스 순서대로 읽으므로 OFFSET 없이 어느 페이지든 같은 비용이다.
+ *  1.0.2 가입일이 없는(null) 사용자는 맨 뒤에 id 내림차순으로 두어 커서가 멈추거나 반복하지 않게 한다.
+ */
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private static final QUser user = QUser.user;
+
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+
+    public UserRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    @Override
+    @Transactional
+    public User insert(User user) {
+        entityManager.persist(user);
+        entityManager.flush();
+        return user;
+    }
+
+    @Override
+    public List<AdminUserDTO> search(AdminUserQuery query) {
+        return queryFactory.select(Projections.constructor(AdminUserDTO.class,
+                        user.id,
+                        user.nickname,
+                        user.email,
+                        user.role,
+                        user.createdAt,
+                        user.updatedAt))
+                .from(user)
+                .where(query.getRole() == null ? null : user.role.eq(query.getRole()),
+                        query.getCreatedFrom() == null ? null : user.createdAt.goe(query.getCreatedFrom()),
+                        query.getCreatedTo() == null ? null : user.createdAt.lt(query.getCreatedTo()),
+                        query.getNicknamePrefix() == null ? null : user.nickname.startsWith(query.getNicknamePrefix()),
+                        query.getEmailPrefix() == null ? null : user.email.startsWith(query.getEmailPrefix()),
+                        after(query))
+                .orderBy(user.createdAt.desc().nullsLast(), user.id.desc())
+                .limit(query.getLimit())
+                .fetch();
+    }
+
+    @Override
+    public Stream<AdminUserDTO> stream(AdminUserQuery query) {
+        Iterator<AdminUserDTO> iterator = new Iterator<>() {
+            private AdminUserQuery next = query;
+            private Iterator<AdminUserDTO> page = List.<AdminUserDTO>of().iterator();
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                while (!page.hasNext() && !exhausted) {
+                    List<AdminUserDTO> users = search(next);
+                    exhausted = users.size() < query.getLimit();
+                    if (!users.isEmpty()) {
+                        AdminUserDTO last = users.get(users.size() - 1);
+                        next = next.toBuilder().afterCreatedAt(last.getCreatedAt()).afterId(last.getId()).build();
+                    }
+                    page = users.iterator();
+                }
+                return page.hasNext();
+            }
+
+            @Override
+            public AdminUserDTO next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /*
+     *  (createdAt desc nulls last, id desc) 커서 조건
+     *  createdAt <= 커서를 따로 두어 OR 조건이 있어도 인덱스 범위 검색이 되게 한다.
+     *  커서의 가입일이 null 이면 이미 null 구간이므로 id 만 비교하고,
+     *  아니면 뒤에 오는 null 구간도 포함한다.
+     */
+    private static BooleanExpression after(AdminUserQuery query) {
+        if (query.getAfterId() == null) {
+            return null;
+        }
+        if (query.getAfterCreatedAt() == null) {
+            return user.createdAt.isNull().and(user.id.lt(query.getAfterId()));
+        }
+        return user.createdAt.loe(query.getAfterCreatedAt())
+                .and(user.createdAt.lt(query.getAfterCreatedAt()).or(user.id.lt(query.getAfterId())))
+                .or(user.createdAt.isNull());
+    }
+}
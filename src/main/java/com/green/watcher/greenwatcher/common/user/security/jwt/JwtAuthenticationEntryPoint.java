@@ -1,28 +1,78 @@
 package com.green.watcher.greenwatcher.common.user.security.jwt;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerExceptionResolver;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ *  @author kim
+ *  @since 2024.09.18
+ *  @version 1.0.3
+ *  api 인증 실패 응답
+ *  JwtAuthenticationFilter 가 남긴 검증 결과(TokenStatus)별로 미리 직렬화한 401 본문을 바로 쓴다.
+ *  HandlerExceptionResolver / 예외 핸들러를 거치지 않으므로 토큰 없는 요청이 몰려도 비용이 거의 없다.
+ *  JwtAuthenticationFilter 가 인가 단계 전에 바로 거절할 수 있도록 reject 분리
+ *  사용자 조회가 DB 동시성 한도로 거절된 경우의 503 응답(overloaded) 추가
+ */
 @Component
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
-    private final HandlerExceptionResolver resolver;
 
-    public JwtAuthenticationEntryPoint(@Qualifier("handlerExceptionResolver") HandlerExceptionResolver resolver) {
-        this.resolver = resolver;
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final Map<TokenStatus, byte[]> bodies = new EnumMap<>(TokenStatus.class);
+
+    private final byte[] overloadedBody;
+
+    public JwtAuthenticationEntryPoint(ObjectMapper objectMapper) throws JsonProcessingException {
+        for (TokenStatus status : TokenStatus.values()) {
+            if (status != TokenStatus.VALID) {
+                bodies.put(status, objectMapper.writeValueAsBytes(
+                        UserApiResponse.fail(HttpStatus.UNAUTHORIZED.value(), status.getMessage())));
+            }
+        }
+        this.overloadedBody = objectMapper.writeValueAsBytes(UserApiResponse.fail(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "요청이 많아 사용자 정보를 확인하지 못했습니다. 잠시 후 다시 시도해주세요."));
     }
 
     @Override
-    public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) {
-        Exception exception = (Exception) request.getAttribute("exception");
-        if (exception != null) {
-            resolver.resolveException(request, response, null, exception);
-        } else {
-            resolver.resolveException(request, response, null, authException);
-        }
+    public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException {
+        //토큰은 유효하지만 인증 객체가 없는 경우 등 사유가 없으면 토큰 없음으로 응답한다.
+        Object status = request.getAttribute(JwtAuthenticationFilter.TOKEN_STATUS_ATTRIBUTE);
+        reject(response, status instanceof TokenStatus tokenStatus ? tokenStatus : TokenStatus.MISSING);
+    }
+
+    //검증 결과별 401 본문을 쓴다. (VALID 는 토큰 없음으로 응답)
+    public void reject(HttpServletResponse response, TokenStatus status) throws IOException {
+        write(response, HttpStatus.UNAUTHORIZED, bodies.get(status != TokenStatus.VALID ? status : TokenStatus.MISSING));
+    }
+
+    /*
+     *  DB 동시성 한도로 사용자 조회가 거절된 경우 503 과 Retry-After 로 응답한다.
+     *  security 필터 체인 안에서 던져진 예외는 OverloadExceptionResponseHandler 에 닿지 않으므로 필터가 직접 호출한다.
+     */
+    public void overloaded(HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        write(response, HttpStatus.SERVICE_UNAVAILABLE, overloadedBody);
+    }
+
+    private static void write(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
-}
\ No newline at end of file
+}
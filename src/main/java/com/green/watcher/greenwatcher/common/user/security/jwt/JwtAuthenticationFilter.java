@@ -1,7 +1,11 @@
 package com.green.watcher.greenwatcher.common.user.security.jwt;
 
-import io.jsonwebtoken.MalformedJwtException;
+import com.green.watcher.greenwatcher.common.concurrency.ConcurrencyLimitExceededException;
+import com.green.watcher.greenwatcher.common.tracing.TraceContext;
+import com.green.watcher.greenwatcher.common.tracing.TraceScope;
+import com.green.watcher.greenwatcher.common.tracing.enumerate.SpanKind;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.security.core.Authentication;
@@ -16,18 +20,46 @@ import java.io.IOException;
 /**
  *  @author kim
  *  @since 2024.09.18
- *  @version 1.0.0
+ *  @version 1.0.6
  *  JWT 인증 필터
  *  회원가입, 로그인은 필터를 거치지 않는다.
+ *  요청마다 남기던 동기 info 로그 제거
+ *  검증 실패 시 예외를 만들지 않고 검증 결과(TokenStatus)를 요청 속성에 남긴다. (JwtAuthenticationEntryPoint 가 응답)
+ *  토큰이 있었지만 거절된 경우 JwtTokenRejectedEvent 를 발행한다. (인증 감사 기록)
+ *  토큰 검증과 인증 객체 생성을 jwt.verify 추적 구간으로 남긴다.
+ *  인증이 필요한 경로에서 검증에 실패하면 이후 필터 / 인가 단계(AccessDeniedException)를 거치지 않고 바로 401 로 응답한다.
+ *  사용자 조회가 DB 동시성 한도로 거절되면 500 대신 503 과 Retry-After 로 응답한다.
  */
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    //검증 실패 사유 요청 속성 이름
+    public static final String TOKEN_STATUS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".TOKEN_STATUS";
+
+    //인증 없이 허용하는 api 경로 (SecurityConfig permitAll 과 같은 목록)
+    public static final String[] PUBLIC_PATHS = {"/api/auth/login", "/api/auth/signup", "/api/auth/availability"};
+
     private final JwtTokenProvider jwtTokenProvider;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final JwtAuthenticationEntryPoint entryPoint;
+
     // JwtTokenProvider 주입
     public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+        this(jwtTokenProvider, null, null);
+    }
+
+    /*
+     *  JwtTokenProvider, 이벤트 발행기, 401 응답기 주입
+     *  eventPublisher 가 null 이면 거절 이벤트를 발행하지 않고,
+     *  entryPoint 가 null 이면 바로 거절하지 않고 인가 단계에 맡긴다.
+     */
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, ApplicationEventPublisher eventPublisher,
+                                   JwtAuthenticationEntryPoint entryPoint) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.eventPublisher = eventPublisher;
+        this.entryPoint = entryPoint;
     }
 
     //http 요청 필터
@@ -36,31 +68,58 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
+        //요청 URI 는 AccessLogFilter 가 비동기로 기록한다.
         String path = request.getRequestURI();
-        log.info("Request URI: {}", path);
 
         if ("/api/auth/login".equals(path) || "/api/auth/signup".equals(path)) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        try {
-            String token = resolveToken(request);
-            if (token == null || !jwtTokenProvider.validateToken(token)) {
-                log.info("throw");
-                throw new MalformedJwtException("검증되지 않은 토큰");
+        String token = resolveToken(request);
+        TokenStatus status;
+        try (TraceScope scope = TraceContext.span(SpanKind.SECURITY, "jwt.verify", null)) {
+            status = jwtTokenProvider.verify(token);
+            if (status == TokenStatus.VALID) {
+                Authentication auth;
+                try {
+                    auth = jwtTokenProvider.getAuthentication(token);
+                } catch (RuntimeException e) {
+                    //필터 체인 밖으로 나가면 OverloadExceptionResponseHandler 가 받지 못해 500 이 된다.
+                    if (entryPoint == null || ConcurrencyLimitExceededException.find(e) == null) {
+                        throw e;
+                    }
+                    scope.error();
+                    entryPoint.overloaded(response);
+                    return;
+                }
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            } else if (status != TokenStatus.MISSING) {
+                scope.error();
             }
+        }
+        if (status != TokenStatus.VALID) {
+            log.debug("jwt rejected: {} {}", status, path);
+            request.setAttribute(TOKEN_STATUS_ATTRIBUTE, status);
+            if (status != TokenStatus.MISSING && eventPublisher != null) {
+                eventPublisher.publishEvent(new JwtTokenRejectedEvent(this, status, path));
+            }
+            //인증이 필요한 경로면 예외를 만들지 않고 여기서 응답을 끝낸다.
+            if (entryPoint != null && !isPublic(path)) {
+                entryPoint.reject(response, status);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
 
-            Authentication auth = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(auth);
-
-        } catch (MalformedJwtException e) {
-            // 예외 발생 시 필터 체인 중단
-            log.info("catch");
-            request.setAttribute("exception", e);
-        }finally {
-            filterChain.doFilter(request, response);
+    private static boolean isPublic(String path) {
+        for (String publicPath : PUBLIC_PATHS) {
+            if (publicPath.equals(path)) {
+                return true;
+            }
         }
+        return false;
     }
 
     //토큰 검증
@@ -71,4 +130,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package com.green.watcher.greenwatcher.common.user.security.jwt;
 
+import com.green.watcher.greenwatcher.common.metrics.LatencyRecorder;
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
 import com.green.watcher.greenwatcher.common.user.security.service.UserService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -10,7 +12,16 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.Date;
 import java.util.stream.Collectors;
 import java.util.Collection;
@@ -19,13 +30,18 @@ import org.springframework.security.core.GrantedAuthority;
 /**
  *  @author kim
  *  @since 2024.09.18
- *  @version 1.0.0
+ *  @version 1.0.3
  *  jwt 토큰 관련 유틸 클래스
  *  토큰을 생성하고 관리한다.
+ *  토큰 검증 시간 계측(jwt.verify) 추가
+ *  예외 없이 검증 결과를 분류하는 verify 추가 (형식 / 서명 불일치는 jjwt 파서를 거치지 않는다)
+ *  토큰이 없는 요청(MISSING)은 jwt.verify 표본에 넣지 않는다.
  */
 @Component
 public class JwtTokenProvider {
 
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
     private Key key;
 
     // 토큰 유효 시간 (예: 1시간)
@@ -33,11 +49,35 @@ public class JwtTokenProvider {
 
     private final UserService userService;
 
-    public JwtTokenProvider(UserService userService, @Value("${jwt.secret}") String secretKey) {
+    private final LatencyRecorder verifyRecorder;
+
+    //검증 실패 사유별 카운터 (jwt.rejected.{사유})
+    private final Map<TokenStatus, LongAdder> rejected = new EnumMap<>(TokenStatus.class);
+
+    //서명 계산용 Mac (스레드마다 하나)
+    private final ThreadLocal<Mac> mac;
+
+    public JwtTokenProvider(UserService userService, MetricsRegistry metricsRegistry, @Value("${jwt.secret}") String secretKey) {
         this.userService = userService;
+        this.verifyRecorder = metricsRegistry.recorder("jwt.verify");
         // secretKey를 Base64로 디코딩하여 HS256에 적합한 키 생성
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        for (TokenStatus status : TokenStatus.values()) {
+            if (status != TokenStatus.VALID) {
+                rejected.put(status, metricsRegistry.counter("jwt.rejected." + status.name().toLowerCase()));
+            }
+        }
+        SecretKeySpec macKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(macKey);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
     }
 
     // JWT 토큰 생성
@@ -71,19 +111,66 @@ public class JwtTokenProvider {
                 .parseClaimsJws(token).getBody().getSubject();
     }
 
-    // 토큰의 유효성 + 만료일자 확인
-    public boolean validateToken(String token) {
+    /*
+     *  토큰을 검증하고 결과를 분류한다.
+     *  스캐너나 잘못 설정된 클라이언트가 보내는 토큰은 대부분 형식이 틀리거나 서명이 맞지 않으므로
+     *  세그먼트 형식과 HS256 서명을 먼저 직접 확인하여 예외(스택 트레이스 생성) 없이 거절한다.
+     *  서명이 맞는 토큰만 jjwt 로 파싱하여 만료 여부를 확인한다.
+     */
+    public TokenStatus verify(String token) {
+        long start = System.nanoTime();
+        TokenStatus status = classify(token);
+        //토큰 없이 들어온 요청(공개 경로 등)은 검증한 것이 아니므로 지연 / 오류 표본에서 뺀다.
+        if (status != TokenStatus.MISSING) {
+            verifyRecorder.recordSince(start, status != TokenStatus.VALID);
+        }
+        if (status != TokenStatus.VALID) {
+            rejected.get(status).increment();
+        }
+        return status;
+    }
+
+    private TokenStatus classify(String token) {
+        if (token == null || token.isEmpty()) {
+            return TokenStatus.MISSING;
+        }
+        int first = token.indexOf('.');
+        int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+        if (first <= 0 || second <= first + 1 || second == token.length() - 1
+                || token.indexOf('.', second + 1) >= 0 || !isBase64Url(token)) {
+            return TokenStatus.MALFORMED;
+        }
+        byte[] expected = Base64.getUrlEncoder().withoutPadding()
+                .encode(mac.get().doFinal(token.substring(0, second).getBytes(StandardCharsets.US_ASCII)));
+        byte[] actual = token.substring(second + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return TokenStatus.INVALID_SIGNATURE;
+        }
         try {
             Jwts.parserBuilder().setSigningKey(key)
                     .build()
                     .parseClaimsJws(token);
-            return true;
+            return TokenStatus.VALID;
         } catch (ExpiredJwtException e) {
-            // 토큰 만료
-            return false;
+            return TokenStatus.EXPIRED;
         } catch (JwtException | IllegalArgumentException e) {
-            // 유효하지 않은 토큰
-            return false;
+            return TokenStatus.MALFORMED;
+        }
+    }
+
+    //base64url 문자와 구분자(.)만 있는지 확인
+    private static boolean isBase64Url(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_' || c == '.')) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    // 토큰의 유효성 + 만료일자 확인
+    public boolean validateToken(String token) {
+        return verify(token) == TokenStatus.VALID;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package com.green.watcher.greenwatcher.common.user.security.jwt;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  JWT 검증 실패 이벤트
+ *  토큰이 있었지만 위조 / 만료 등으로 거절되었을 때 JwtAuthenticationFilter 가 요청 스레드에서 발행한다.
+ *  토큰이 없는 요청(MISSING)은 발행하지 않는다.
+ */
+@Getter
+public class JwtTokenRejectedEvent extends ApplicationEvent {
+
+    private final TokenStatus status;
+
+    private final String path;
+
+    public JwtTokenRejectedEvent(Object source, TokenStatus status, String path) {
+        super(source);
+        this.status = status;
+        this.path = path;
+    }
+}
@@ -0,0 +1,26 @@
+package com.green.watcher.greenwatcher.common.user.security.jwt;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  JWT 검증 결과 enum 클래스
+ *  인증 실패 응답 메시지를 함께 가진다.
+ */
+public enum TokenStatus {
+    VALID(null),
+    MISSING("올바르지 않은 토큰입니다."),
+    MALFORMED("올바르지 않은 토큰입니다."),
+    INVALID_SIGNATURE("올바르지 않은 토큰입니다."),
+    EXPIRED("토큰이 만료되었습니다.");
+
+    private final String message;
+
+    TokenStatus(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
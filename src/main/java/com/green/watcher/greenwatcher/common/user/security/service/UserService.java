@@ -1,9 +1,18 @@
 package com.green.watcher.greenwatcher.common.user.security.service;
 
+import com.green.watcher.greenwatcher.common.metrics.LatencyRecorder;
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.tracing.TraceContext;
+import com.green.watcher.greenwatcher.common.tracing.TraceScope;
+import com.green.watcher.greenwatcher.common.tracing.enumerate.SpanKind;
+import com.green.watcher.greenwatcher.common.user.availability.DuplicateUserFieldException;
+import com.green.watcher.greenwatcher.common.user.availability.UserAvailabilityService;
 import com.green.watcher.greenwatcher.common.user.dto.UserRegistrationDTO;
 import com.green.watcher.greenwatcher.common.user.entity.User;
+import com.green.watcher.greenwatcher.common.user.enumerate.UserField;
 import com.green.watcher.greenwatcher.common.user.repository.UserRepository;
 import com.green.watcher.greenwatcher.common.user.security.details.CustomUserDetails;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -19,8 +28,11 @@ import java.util.Collections;
 /**
  *  @author kim
  *  @since 2024.09.17
- *  @version 1.0.0
+ *  @version 1.0.3
  *  사용자 인증 인가처리를 하는 service 클래스
+ *  사용자 조회 시간 계측(user.loadUserByUsername) 추가
+ *  회원가입을 존재 확인 없이 insert 한 번으로 처리하고 제약 위반을 필드별 예외로 변환
+ *  사용자 조회를 추적 구간(user.loadUserByUsername)으로 남긴다.
  */
 @Service
 public class UserService implements UserDetailsService {
@@ -29,14 +41,21 @@ public class UserService implements UserDetailsService {
 
     private final PasswordEncoder passwordEncoder;
 
+    private final LatencyRecorder loadUserRecorder;
+
+    private final UserAvailabilityService availabilityService;
+
     /*
      *  UserService 생성자
      *  PasswordEncoder 빈의 순환참조를 방지하기 위해 Lazy 어노테이션 사용
      */
     @Autowired
-    public UserService(@Lazy PasswordEncoder passwordEncoder, UserRepository userRepository){
+    public UserService(@Lazy PasswordEncoder passwordEncoder, UserRepository userRepository,
+                       MetricsRegistry metricsRegistry, UserAvailabilityService availabilityService){
         this.passwordEncoder = passwordEncoder;
         this.userRepository = userRepository;
+        this.loadUserRecorder = metricsRegistry.recorder("user.loadUserByUsername");
+        this.availabilityService = availabilityService;
     }
 
     /*
@@ -45,31 +64,66 @@ public class UserService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String id) throws UsernameNotFoundException {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UsernameNotFoundException("로그인정보를 확인해주세요: " + id));
+        long start = System.nanoTime();
+        boolean found = false;
+        TraceScope scope = TraceContext.span(SpanKind.SECURITY, "user.loadUserByUsername", null);
+        try {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new UsernameNotFoundException("로그인정보를 확인해주세요: " + id));
+            found = true;
 
-        return new CustomUserDetails(
-                user.getId(),
-                user.getNickname(),
-                user.getEmail(),
-                user.getPassword(),
-                Collections.singleton(new SimpleGrantedAuthority(user.getRole().name()))
-        );
+            return new CustomUserDetails(
+                    user.getId(),
+                    user.getNickname(),
+                    user.getEmail(),
+                    user.getPassword(),
+                    Collections.singleton(new SimpleGrantedAuthority(user.getRole().name()))
+            );
+        } finally {
+            loadUserRecorder.recordSince(start, !found);
+            if (!found) {
+                scope.error();
+            }
+            scope.close();
+        }
     }
 
     /*
      *  회원가입 메서드
+     *  존재 여부를 먼저 조회하지 않고 바로 insert 하며, 중복은 DB 유니크 제약으로 판단한다.
+     *  제약 위반은 어떤 필드가 중복되었는지 담은 DuplicateUserFieldException 으로 변환한다.
      */
     public boolean registerUser(UserRegistrationDTO dto) {
-
-        if(userRepository.existsById(dto.getId())){
-            throw new DataIntegrityViolationException("이미 존재하는 유저입니다.");
-        }
-
         User user = dto.toEntity();
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        User savedUser = userRepository.save(user);
+
+        User savedUser;
+        try {
+            savedUser = userRepository.insert(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateUserFieldException(violatedField(e), e);
+        }
+        availabilityService.register(savedUser);
 
         return savedUser.getId() != null;
     }
-}
\ No newline at end of file
+
+    /*
+     *  제약 위반 예외에서 중복된 필드를 찾는다.
+     *  제약 이름(UK_USER_*) 이나 DB 메시지의 컬럼명으로 판단하고, 둘 다 없으면 기본키(아이디) 중복으로 본다.
+     */
+    public static UserField violatedField(DataIntegrityViolationException e) {
+        Throwable cause = e.getMostSpecificCause();
+        String message = String.valueOf(cause.getMessage()).toUpperCase();
+        if (e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            message = violation.getConstraintName().toUpperCase() + " " + message;
+        }
+        if (message.contains(User.UK_NICKNAME) || message.contains("(NICKNAME")) {
+            return UserField.NICKNAME;
+        }
+        if (message.contains(User.UK_EMAIL) || message.contains("(EMAIL")) {
+            return UserField.EMAIL;
+        }
+        return UserField.ID;
+    }
+}
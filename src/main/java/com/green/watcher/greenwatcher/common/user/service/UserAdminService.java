@@ -0,0 +1,95 @@
+package com.green.watcher.greenwatcher.common.user.service;
+
+import com.green.watcher.greenwatcher.common.user.dto.AdminUserDTO;
+import com.green.watcher.greenwatcher.common.user.dto.AdminUserPageDTO;
+import com.green.watcher.greenwatcher.common.user.dto.AdminUserQuery;
+import com.green.watcher.greenwatcher.common.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.1
+ *  관리자 사용자 검색 service 클래스
+ *  목록은 keyset 페이지로, export 는 페이지 단위 Stream 으로 CSV 를 바로 써서 사용자 수와 관계없이 메모리를 일정하게 유지한다.
+ *  1.0.1 스프레드시트가 수식으로 해석하지 않도록 =, +, -, @, 탭, CR 로 시작하는 값 앞에 ' 를 붙인다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserAdminService {
+
+    //export 시 한 번에 읽는 행 수
+    private static final int EXPORT_PAGE_SIZE = 1000;
+
+    private static final String CSV_HEADER = "id,nickname,email,role,createdAt,updatedAt\n";
+
+    private final UserRepository userRepository;
+
+    /*
+     *  가입일 최신순 keyset 페이지 조회
+     *  limit + 1 건을 읽어 다음 페이지 존재 여부를 판단한다.
+     */
+    @Transactional(readOnly = true)
+    public AdminUserPageDTO findPage(AdminUserQuery query) {
+        int limit = query.getLimit();
+        List<AdminUserDTO> users = userRepository.search(query.toBuilder().limit(limit + 1).build());
+        if (users.size() <= limit) {
+            return new AdminUserPageDTO(users, null);
+        }
+        List<AdminUserDTO> page = List.copyOf(users.subList(0, limit));
+        return new AdminUserPageDTO(page, AdminUserQuery.encodeCursor(page.get(limit - 1)));
+    }
+
+    /*
+     *  검색 조건에 맞는 모든 사용자를 CSV 로 쓴다.
+     */
+    @Transactional(readOnly = true)
+    public long export(AdminUserQuery query, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        long count = 0;
+        try (Stream<AdminUserDTO> users = userRepository.stream(query.toBuilder().limit(EXPORT_PAGE_SIZE).build())) {
+            Iterator<AdminUserDTO> iterator = users.iterator();
+            StringBuilder line = new StringBuilder(128);
+            while (iterator.hasNext()) {
+                AdminUserDTO user = iterator.next();
+                line.setLength(0);
+                appendCsv(line, user.getId()).append(',');
+                appendCsv(line, user.getNickname()).append(',');
+                appendCsv(line, user.getEmail()).append(',');
+                line.append(user.getRole()).append(',')
+                        .append(user.getCreatedAt() == null ? "" : user.getCreatedAt()).append(',')
+                        .append(user.getUpdatedAt() == null ? "" : user.getUpdatedAt()).append('\n');
+                writer.write(line.toString());
+                count++;
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    //수식 문자로 시작하면 ' 를 붙이고, 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싼다.
+    static StringBuilder appendCsv(StringBuilder sb, String value) {
+        if (value == null) {
+            return sb;
+        }
+        if (!value.isEmpty() && isFormulaStart(value.charAt(0))) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return sb.append(value);
+        }
+        return sb.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static boolean isFormulaStart(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+}
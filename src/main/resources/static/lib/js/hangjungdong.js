@@ -1,22434 +0,0 @@
-var hangjungdong = {
-  sido: [
-    {
-      sido: "11",
-      codeNm: "서울특별시"
-    },
-    {
-      sido: "21",
-      codeNm: "부산광역시"
-    },
-    {
-      sido: "22",
-      codeNm: "대구광역시"
-    },
-    {
-      sido: "23",
-      codeNm: "인천광역시"
-    },
-    {
-      sido: "24",
-      codeNm: "광주광역시"
-    },
-    {
-      sido: "25",
-      codeNm: "대전광역시"
-    },
-    {
-      sido: "26",
-      codeNm: "울산광역시"
-    },
-    {
-      sido: "29",
-      codeNm: "세종특별자치시"
-    },
-    {
-      sido: "31",
-      codeNm: "경기도"
-    },
-    {
-      sido: "32",
-      codeNm: "강원도"
-    },
-    {
-      sido: "33",
-      codeNm: "충청북도"
-    },
-    {
-      sido: "34",
-      codeNm: "충청남도"
-    },
-    {
-      sido: "35",
-      codeNm: "전라북도"
-    },
-    {
-      sido: "36",
-      codeNm: "전라남도"
-    },
-    {
-      sido: "37",
-      codeNm: "경상북도"
-    },
-    {
-      sido: "38",
-      codeNm: "경상남도"
-    },
-    {
-      sido: "39",
-      codeNm: "제주특별자치도"
-    }
-  ],
-  sigugun: [
-    {
-      sido: "11",
-      sigugun: "11230",
-      codeNm: "강남구"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      codeNm: "강동구"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      codeNm: "강북구"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      codeNm: "강서구"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      codeNm: "관악구"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      codeNm: "광진구"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      codeNm: "구로구"
-    },
-    {
-      sido: "11",
-      sigugun: "11180",
-      codeNm: "금천구"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      codeNm: "노원구"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      codeNm: "도봉구"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      codeNm: "동대문구"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      codeNm: "동작구"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      codeNm: "마포구"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      codeNm: "서대문구"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      codeNm: "서초구"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      codeNm: "성동구"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      codeNm: "성북구"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      codeNm: "송파구"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      codeNm: "양천구"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      codeNm: "영등포구"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      codeNm: "용산구"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      codeNm: "은평구"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      codeNm: "종로구"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      codeNm: "중구"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      codeNm: "중랑구"
-    },
-    {
-      sido: "21",
-      sigugun: "21120",
-      codeNm: "강서구"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      codeNm: "금정구"
-    },
-    {
-      sido: "21",
-      sigugun: "21510",
-      codeNm: "기장군"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      codeNm: "남구"
-    },
-    {
-      sido: "21",
-      sigugun: "21030",
-      codeNm: "동구"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      codeNm: "동래구"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      codeNm: "부산진구"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      codeNm: "북구"
-    },
-    {
-      sido: "21",
-      sigugun: "21150",
-      codeNm: "사상구"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      codeNm: "사하구"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      codeNm: "서구"
-    },
-    {
-      sido: "21",
-      sigugun: "21140",
-      codeNm: "수영구"
-    },
-    {
-      sido: "21",
-      sigugun: "21130",
-      codeNm: "연제구"
-    },
-    {
-      sido: "21",
-      sigugun: "21040",
-      codeNm: "영도구"
-    },
-    {
-      sido: "21",
-      sigugun: "21010",
-      codeNm: "중구"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      codeNm: "해운대구"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      codeNm: "남구"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      codeNm: "달서구"
-    },
-    {
-      sido: "22",
-      sigugun: "22510",
-      codeNm: "달성군"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      codeNm: "동구"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      codeNm: "북구"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      codeNm: "서구"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      codeNm: "수성구"
-    },
-    {
-      sido: "22",
-      sigugun: "22010",
-      codeNm: "중구"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      codeNm: "강화군"
-    },
-    {
-      sido: "23",
-      sigugun: "23070",
-      codeNm: "계양구"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      codeNm: "남동구"
-    },
-    {
-      sido: "23",
-      sigugun: "23020",
-      codeNm: "동구"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      codeNm: "미추홀구"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      codeNm: "부평구"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      codeNm: "서구"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      codeNm: "연수구"
-    },
-    {
-      sido: "23",
-      sigugun: "23520",
-      codeNm: "옹진군"
-    },
-    {
-      sido: "23",
-      sigugun: "23010",
-      codeNm: "중구"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      codeNm: "광산구"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      codeNm: "남구"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      codeNm: "동구"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      codeNm: "북구"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      codeNm: "서구"
-    },
-    {
-      sido: "25",
-      sigugun: "25050",
-      codeNm: "대덕구"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      codeNm: "동구"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      codeNm: "서구"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      codeNm: "유성구"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      codeNm: "중구"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      codeNm: "남구"
-    },
-    {
-      sido: "26",
-      sigugun: "26030",
-      codeNm: "동구"
-    },
-    {
-      sido: "26",
-      sigugun: "26040",
-      codeNm: "북구"
-    },
-    {
-      sido: "26",
-      sigugun: "26510",
-      codeNm: "울주군"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      codeNm: "중구"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      codeNm: "세종시"
-    },
-    {
-      sido: "31",
-      sigugun: "31570",
-      codeNm: "가평군"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      codeNm: "고양시 덕양구"
-    },
-    {
-      sido: "31",
-      sigugun: "31103",
-      codeNm: "고양시 일산동구"
-    },
-    {
-      sido: "31",
-      sigugun: "31104",
-      codeNm: "고양시 일산서구"
-    },
-    {
-      sido: "31",
-      sigugun: "31110",
-      codeNm: "과천시"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      codeNm: "광명시"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      codeNm: "광주시"
-    },
-    {
-      sido: "31",
-      sigugun: "31120",
-      codeNm: "구리시"
-    },
-    {
-      sido: "31",
-      sigugun: "31160",
-      codeNm: "군포시"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      codeNm: "김포시"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      codeNm: "남양주시"
-    },
-    {
-      sido: "31",
-      sigugun: "31080",
-      codeNm: "동두천시"
-    },
-    {
-      sido: "31",
-      sigugun: "31050",
-      codeNm: "부천시"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      codeNm: "성남시 분당구"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      codeNm: "성남시 수정구"
-    },
-    {
-      sido: "31",
-      sigugun: "31022",
-      codeNm: "성남시 중원구"
-    },
-    {
-      sido: "31",
-      sigugun: "31012",
-      codeNm: "수원시 권선구"
-    },
-    {
-      sido: "31",
-      sigugun: "31014",
-      codeNm: "수원시 영통구"
-    },
-    {
-      sido: "31",
-      sigugun: "31011",
-      codeNm: "수원시 장안구"
-    },
-    {
-      sido: "31",
-      sigugun: "31013",
-      codeNm: "수원시 팔달구"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      codeNm: "시흥시"
-    },
-    {
-      sido: "31",
-      sigugun: "31092",
-      codeNm: "안산시 단원구"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      codeNm: "안산시 상록구"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      codeNm: "안성시"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      codeNm: "안양시 동안구"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      codeNm: "안양시 만안구"
-    },
-    {
-      sido: "31",
-      sigugun: "31260",
-      codeNm: "양주시"
-    },
-    {
-      sido: "31",
-      sigugun: "31580",
-      codeNm: "양평군"
-    },
-    {
-      sido: "31",
-      sigugun: "31280",
-      codeNm: "여주시"
-    },
-    {
-      sido: "31",
-      sigugun: "31550",
-      codeNm: "연천군"
-    },
-    {
-      sido: "31",
-      sigugun: "31140",
-      codeNm: "오산시"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      codeNm: "용인시 기흥구"
-    },
-    {
-      sido: "31",
-      sigugun: "31193",
-      codeNm: "용인시 수지구"
-    },
-    {
-      sido: "31",
-      sigugun: "31191",
-      codeNm: "용인시 처인구"
-    },
-    {
-      sido: "31",
-      sigugun: "31170",
-      codeNm: "의왕시"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      codeNm: "의정부시"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      codeNm: "이천시"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      codeNm: "파주시"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      codeNm: "평택시"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      codeNm: "포천시"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      codeNm: "하남시"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      codeNm: "화성시"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      codeNm: "강릉시"
-    },
-    {
-      sido: "32",
-      sigugun: "32600",
-      codeNm: "고성군"
-    },
-    {
-      sido: "32",
-      sigugun: "32040",
-      codeNm: "동해시"
-    },
-    {
-      sido: "32",
-      sigugun: "32070",
-      codeNm: "삼척시"
-    },
-    {
-      sido: "32",
-      sigugun: "32060",
-      codeNm: "속초시"
-    },
-    {
-      sido: "32",
-      sigugun: "32580",
-      codeNm: "양구군"
-    },
-    {
-      sido: "32",
-      sigugun: "32610",
-      codeNm: "양양군"
-    },
-    {
-      sido: "32",
-      sigugun: "32530",
-      codeNm: "영월군"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      codeNm: "원주시"
-    },
-    {
-      sido: "32",
-      sigugun: "32590",
-      codeNm: "인제군"
-    },
-    {
-      sido: "32",
-      sigugun: "32550",
-      codeNm: "정선군"
-    },
-    {
-      sido: "32",
-      sigugun: "32560",
-      codeNm: "철원군"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      codeNm: "춘천시"
-    },
-    {
-      sido: "32",
-      sigugun: "32050",
-      codeNm: "태백시"
-    },
-    {
-      sido: "32",
-      sigugun: "32540",
-      codeNm: "평창군"
-    },
-    {
-      sido: "32",
-      sigugun: "32510",
-      codeNm: "홍천군"
-    },
-    {
-      sido: "32",
-      sigugun: "32570",
-      codeNm: "화천군"
-    },
-    {
-      sido: "32",
-      sigugun: "32520",
-      codeNm: "횡성군"
-    },
-    {
-      sido: "33",
-      sigugun: "33560",
-      codeNm: "괴산군"
-    },
-    {
-      sido: "33",
-      sigugun: "33580",
-      codeNm: "단양군"
-    },
-    {
-      sido: "33",
-      sigugun: "33520",
-      codeNm: "보은군"
-    },
-    {
-      sido: "33",
-      sigugun: "33540",
-      codeNm: "영동군"
-    },
-    {
-      sido: "33",
-      sigugun: "33530",
-      codeNm: "옥천군"
-    },
-    {
-      sido: "33",
-      sigugun: "33570",
-      codeNm: "음성군"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      codeNm: "제천시"
-    },
-    {
-      sido: "33",
-      sigugun: "33590",
-      codeNm: "증평군"
-    },
-    {
-      sido: "33",
-      sigugun: "33550",
-      codeNm: "진천군"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      codeNm: "청주시 상당구"
-    },
-    {
-      sido: "33",
-      sigugun: "33042",
-      codeNm: "청주시 서원구"
-    },
-    {
-      sido: "33",
-      sigugun: "33044",
-      codeNm: "청주시 청원구"
-    },
-    {
-      sido: "33",
-      sigugun: "33043",
-      codeNm: "청주시 흥덕구"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      codeNm: "충주시"
-    },
-    {
-      sido: "34",
-      sigugun: "34070",
-      codeNm: "계룡시"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      codeNm: "공주시"
-    },
-    {
-      sido: "34",
-      sigugun: "34510",
-      codeNm: "금산군"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      codeNm: "논산시"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      codeNm: "당진시"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      codeNm: "보령시"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      codeNm: "부여군"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      codeNm: "서산시"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      codeNm: "서천군"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      codeNm: "아산시"
-    },
-    {
-      sido: "34",
-      sigugun: "34570",
-      codeNm: "예산군"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      codeNm: "천안시 동남구"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      codeNm: "천안시 서북구"
-    },
-    {
-      sido: "34",
-      sigugun: "34550",
-      codeNm: "청양군"
-    },
-    {
-      sido: "34",
-      sigugun: "34580",
-      codeNm: "태안군"
-    },
-    {
-      sido: "34",
-      sigugun: "34560",
-      codeNm: "홍성군"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      codeNm: "고창군"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      codeNm: "군산시"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      codeNm: "김제시"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      codeNm: "남원시"
-    },
-    {
-      sido: "35",
-      sigugun: "35530",
-      codeNm: "무주군"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      codeNm: "부안군"
-    },
-    {
-      sido: "35",
-      sigugun: "35560",
-      codeNm: "순창군"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      codeNm: "완주군"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      codeNm: "익산시"
-    },
-    {
-      sido: "35",
-      sigugun: "35550",
-      codeNm: "임실군"
-    },
-    {
-      sido: "35",
-      sigugun: "35540",
-      codeNm: "장수군"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      codeNm: "전주시 덕진구"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      codeNm: "전주시 완산구"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      codeNm: "정읍시"
-    },
-    {
-      sido: "35",
-      sigugun: "35520",
-      codeNm: "진안군"
-    },
-    {
-      sido: "36",
-      sigugun: "36590",
-      codeNm: "강진군"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      codeNm: "고흥군"
-    },
-    {
-      sido: "36",
-      sigugun: "36520",
-      codeNm: "곡성군"
-    },
-    {
-      sido: "36",
-      sigugun: "36060",
-      codeNm: "광양시"
-    },
-    {
-      sido: "36",
-      sigugun: "36530",
-      codeNm: "구례군"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      codeNm: "나주시"
-    },
-    {
-      sido: "36",
-      sigugun: "36510",
-      codeNm: "담양군"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      codeNm: "목포시"
-    },
-    {
-      sido: "36",
-      sigugun: "36620",
-      codeNm: "무안군"
-    },
-    {
-      sido: "36",
-      sigugun: "36560",
-      codeNm: "보성군"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      codeNm: "순천시"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      codeNm: "신안군"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      codeNm: "여수시"
-    },
-    {
-      sido: "36",
-      sigugun: "36640",
-      codeNm: "영광군"
-    },
-    {
-      sido: "36",
-      sigugun: "36610",
-      codeNm: "영암군"
-    },
-    {
-      sido: "36",
-      sigugun: "36660",
-      codeNm: "완도군"
-    },
-    {
-      sido: "36",
-      sigugun: "36650",
-      codeNm: "장성군"
-    },
-    {
-      sido: "36",
-      sigugun: "36580",
-      codeNm: "장흥군"
-    },
-    {
-      sido: "36",
-      sigugun: "36670",
-      codeNm: "진도군"
-    },
-    {
-      sido: "36",
-      sigugun: "36630",
-      codeNm: "함평군"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      codeNm: "해남군"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      codeNm: "화순군"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      codeNm: "경산시"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      codeNm: "경주시"
-    },
-    {
-      sido: "37",
-      sigugun: "37570",
-      codeNm: "고령군"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      codeNm: "구미시"
-    },
-    {
-      sido: "37",
-      sigugun: "37510",
-      codeNm: "군위군"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      codeNm: "김천시"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      codeNm: "문경시"
-    },
-    {
-      sido: "37",
-      sigugun: "37610",
-      codeNm: "봉화군"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      codeNm: "상주시"
-    },
-    {
-      sido: "37",
-      sigugun: "37580",
-      codeNm: "성주군"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      codeNm: "안동시"
-    },
-    {
-      sido: "37",
-      sigugun: "37550",
-      codeNm: "영덕군"
-    },
-    {
-      sido: "37",
-      sigugun: "37540",
-      codeNm: "영양군"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      codeNm: "영주시"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      codeNm: "영천시"
-    },
-    {
-      sido: "37",
-      sigugun: "37600",
-      codeNm: "예천군"
-    },
-    {
-      sido: "37",
-      sigugun: "37630",
-      codeNm: "울릉군"
-    },
-    {
-      sido: "37",
-      sigugun: "37620",
-      codeNm: "울진군"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      codeNm: "의성군"
-    },
-    {
-      sido: "37",
-      sigugun: "37560",
-      codeNm: "청도군"
-    },
-    {
-      sido: "37",
-      sigugun: "37530",
-      codeNm: "청송군"
-    },
-    {
-      sido: "37",
-      sigugun: "37590",
-      codeNm: "칠곡군"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      codeNm: "포항시 남구"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      codeNm: "포항시 북구"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      codeNm: "거제시"
-    },
-    {
-      sido: "38",
-      sigugun: "38590",
-      codeNm: "거창군"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      codeNm: "고성군"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      codeNm: "김해시"
-    },
-    {
-      sido: "38",
-      sigugun: "38550",
-      codeNm: "남해군"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      codeNm: "밀양시"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      codeNm: "사천시"
-    },
-    {
-      sido: "38",
-      sigugun: "38570",
-      codeNm: "산청군"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      codeNm: "양산시"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      codeNm: "의령군"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      codeNm: "진주시"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      codeNm: "창녕군"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      codeNm: "창원시 마산합포구"
-    },
-    {
-      sido: "38",
-      sigugun: "38114",
-      codeNm: "창원시 마산회원구"
-    },
-    {
-      sido: "38",
-      sigugun: "38112",
-      codeNm: "창원시 성산구"
-    },
-    {
-      sido: "38",
-      sigugun: "38111",
-      codeNm: "창원시 의창구"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      codeNm: "창원시 진해구"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      codeNm: "통영시"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      codeNm: "하동군"
-    },
-    {
-      sido: "38",
-      sigugun: "38520",
-      codeNm: "함안군"
-    },
-    {
-      sido: "38",
-      sigugun: "38580",
-      codeNm: "함양군"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      codeNm: "합천군"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      codeNm: "서귀포시"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      codeNm: "제주시"
-    }
-  ],
-  dong: [
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230680",
-      codeNm: "개포1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230800",
-      codeNm: "개포2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230710",
-      codeNm: "개포4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230520",
-      codeNm: "논현1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230530",
-      codeNm: "논현2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230600",
-      codeNm: "대치1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230790",
-      codeNm: "대치2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230630",
-      codeNm: "대치4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230660",
-      codeNm: "도곡1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230670",
-      codeNm: "도곡2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230580",
-      codeNm: "삼성1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230590",
-      codeNm: "삼성2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230760",
-      codeNm: "세곡동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230750",
-      codeNm: "수서동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230510",
-      codeNm: "신사동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230770",
-      codeNm: "압구정동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230640",
-      codeNm: "역삼1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230650",
-      codeNm: "역삼2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230730",
-      codeNm: "일원1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230740",
-      codeNm: "일원2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230720",
-      codeNm: "일원본동"
-    },
-    {
-      sido: "11",
-      sigugun: "11230",
-      dong: "11230780",
-      codeNm: "청담동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250750",
-      codeNm: "강일동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250550",
-      codeNm: "고덕1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250560",
-      codeNm: "고덕2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250740",
-      codeNm: "길동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250700",
-      codeNm: "둔촌1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250710",
-      codeNm: "둔촌2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250530",
-      codeNm: "명일1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250540",
-      codeNm: "명일2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250760",
-      codeNm: "상일1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250770",
-      codeNm: "상일2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250650",
-      codeNm: "성내1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250660",
-      codeNm: "성내2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250670",
-      codeNm: "성내3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250720",
-      codeNm: "암사1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250580",
-      codeNm: "암사2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250590",
-      codeNm: "암사3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250610",
-      codeNm: "천호1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250730",
-      codeNm: "천호2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11250",
-      dong: "11250630",
-      codeNm: "천호3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      dong: "11090700",
-      codeNm: "미아동"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      dong: "11090600",
-      codeNm: "번1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      dong: "11090610",
-      codeNm: "번2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      dong: "11090620",
-      codeNm: "번3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      dong: "11090730",
-      codeNm: "삼각산동"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      dong: "11090690",
-      codeNm: "삼양동"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      dong: "11090710",
-      codeNm: "송중동"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      dong: "11090720",
-      codeNm: "송천동"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      dong: "11090630",
-      codeNm: "수유1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      dong: "11090640",
-      codeNm: "수유2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      dong: "11090650",
-      codeNm: "수유3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      dong: "11090740",
-      codeNm: "우이동"
-    },
-    {
-      sido: "11",
-      sigugun: "11090",
-      dong: "11090750",
-      codeNm: "인수동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160640",
-      codeNm: "가양1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160650",
-      codeNm: "가양2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160660",
-      codeNm: "가양3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160690",
-      codeNm: "공항동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160520",
-      codeNm: "등촌1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160530",
-      codeNm: "등촌2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160540",
-      codeNm: "등촌3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160670",
-      codeNm: "발산1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160700",
-      codeNm: "방화1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160710",
-      codeNm: "방화2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160720",
-      codeNm: "방화3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160510",
-      codeNm: "염창동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160740",
-      codeNm: "우장산동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160730",
-      codeNm: "화곡1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160570",
-      codeNm: "화곡2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160580",
-      codeNm: "화곡3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160590",
-      codeNm: "화곡4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160610",
-      codeNm: "화곡6동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160630",
-      codeNm: "화곡8동"
-    },
-    {
-      sido: "11",
-      sigugun: "11160",
-      dong: "11160550",
-      codeNm: "화곡본동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210580",
-      codeNm: "낙성대동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210810",
-      codeNm: "난곡동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210710",
-      codeNm: "난향동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210630",
-      codeNm: "남현동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210730",
-      codeNm: "대학동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210830",
-      codeNm: "미성동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210520",
-      codeNm: "보라매동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210820",
-      codeNm: "삼성동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210660",
-      codeNm: "서림동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210640",
-      codeNm: "서원동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210790",
-      codeNm: "성현동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210690",
-      codeNm: "신림동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210680",
-      codeNm: "신사동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210650",
-      codeNm: "신원동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210780",
-      codeNm: "은천동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210620",
-      codeNm: "인헌동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210720",
-      codeNm: "조원동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210610",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210800",
-      codeNm: "청룡동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210540",
-      codeNm: "청림동"
-    },
-    {
-      sido: "11",
-      sigugun: "11210",
-      dong: "11210570",
-      codeNm: "행운동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050630",
-      codeNm: "광장동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050600",
-      codeNm: "구의1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050610",
-      codeNm: "구의2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050620",
-      codeNm: "구의3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050540",
-      codeNm: "군자동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050590",
-      codeNm: "능동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050640",
-      codeNm: "자양1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050650",
-      codeNm: "자양2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050660",
-      codeNm: "자양3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050670",
-      codeNm: "자양4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050550",
-      codeNm: "중곡1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050560",
-      codeNm: "중곡2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050570",
-      codeNm: "중곡3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050580",
-      codeNm: "중곡4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11050",
-      dong: "11050530",
-      codeNm: "화양동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170700",
-      codeNm: "가리봉동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170720",
-      codeNm: "개봉1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170640",
-      codeNm: "개봉2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170650",
-      codeNm: "개봉3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170610",
-      codeNm: "고척1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170620",
-      codeNm: "고척2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170520",
-      codeNm: "구로1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170710",
-      codeNm: "구로2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170540",
-      codeNm: "구로3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170550",
-      codeNm: "구로4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170560",
-      codeNm: "구로5동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170690",
-      codeNm: "수궁동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170510",
-      codeNm: "신도림동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170670",
-      codeNm: "오류1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170730",
-      codeNm: "오류2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11170",
-      dong: "11170740",
-      codeNm: "항동"
-    },
-    {
-      sido: "11",
-      sigugun: "11180",
-      dong: "11180510",
-      codeNm: "가산동"
-    },
-    {
-      sido: "11",
-      sigugun: "11180",
-      dong: "11180520",
-      codeNm: "독산1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11180",
-      dong: "11180530",
-      codeNm: "독산2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11180",
-      dong: "11180540",
-      codeNm: "독산3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11180",
-      dong: "11180550",
-      codeNm: "독산4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11180",
-      dong: "11180570",
-      codeNm: "시흥1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11180",
-      dong: "11180580",
-      codeNm: "시흥2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11180",
-      dong: "11180590",
-      codeNm: "시흥3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11180",
-      dong: "11180600",
-      codeNm: "시흥4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11180",
-      dong: "11180610",
-      codeNm: "시흥5동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110790",
-      codeNm: "공릉1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110560",
-      codeNm: "공릉2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110740",
-      codeNm: "상계10동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110650",
-      codeNm: "상계1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110660",
-      codeNm: "상계2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110760",
-      codeNm: "상계3·4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110690",
-      codeNm: "상계5동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110770",
-      codeNm: "상계6·7동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110720",
-      codeNm: "상계8동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110730",
-      codeNm: "상계9동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110510",
-      codeNm: "월계1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110520",
-      codeNm: "월계2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110530",
-      codeNm: "월계3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110610",
-      codeNm: "중계1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110780",
-      codeNm: "중계2·3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110640",
-      codeNm: "중계4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110600",
-      codeNm: "중계본동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110580",
-      codeNm: "하계1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11110",
-      dong: "11110590",
-      codeNm: "하계2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100640",
-      codeNm: "도봉1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100650",
-      codeNm: "도봉2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100550",
-      codeNm: "방학1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100560",
-      codeNm: "방학2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100570",
-      codeNm: "방학3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100510",
-      codeNm: "쌍문1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100520",
-      codeNm: "쌍문2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100530",
-      codeNm: "쌍문3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100540",
-      codeNm: "쌍문4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100590",
-      codeNm: "창1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100600",
-      codeNm: "창2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100610",
-      codeNm: "창3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100620",
-      codeNm: "창4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11100",
-      dong: "11100630",
-      codeNm: "창5동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060910",
-      codeNm: "답십리1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060860",
-      codeNm: "답십리2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060810",
-      codeNm: "용신동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060890",
-      codeNm: "이문1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060900",
-      codeNm: "이문2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060870",
-      codeNm: "장안1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060880",
-      codeNm: "장안2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060830",
-      codeNm: "전농1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060840",
-      codeNm: "전농2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060820",
-      codeNm: "제기동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060800",
-      codeNm: "청량리동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060710",
-      codeNm: "회기동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060720",
-      codeNm: "휘경1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11060",
-      dong: "11060730",
-      codeNm: "휘경2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200720",
-      codeNm: "노량진1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200520",
-      codeNm: "노량진2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200680",
-      codeNm: "대방동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200630",
-      codeNm: "사당1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200730",
-      codeNm: "사당2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200650",
-      codeNm: "사당3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200660",
-      codeNm: "사당4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200670",
-      codeNm: "사당5동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200530",
-      codeNm: "상도1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200540",
-      codeNm: "상도2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200550",
-      codeNm: "상도3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200560",
-      codeNm: "상도4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200690",
-      codeNm: "신대방1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200700",
-      codeNm: "신대방2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11200",
-      dong: "11200710",
-      codeNm: "흑석동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140770",
-      codeNm: "공덕동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140600",
-      codeNm: "대흥동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140750",
-      codeNm: "도화동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140690",
-      codeNm: "망원1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140700",
-      codeNm: "망원2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140740",
-      codeNm: "상암동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140760",
-      codeNm: "서강동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140660",
-      codeNm: "서교동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140720",
-      codeNm: "성산1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140730",
-      codeNm: "성산2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140630",
-      codeNm: "신수동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140780",
-      codeNm: "아현동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140710",
-      codeNm: "연남동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140610",
-      codeNm: "염리동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140590",
-      codeNm: "용강동"
-    },
-    {
-      sido: "11",
-      sigugun: "11140",
-      dong: "11140680",
-      codeNm: "합정동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130690",
-      codeNm: "남가좌1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130700",
-      codeNm: "남가좌2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130710",
-      codeNm: "북가좌1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130720",
-      codeNm: "북가좌2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130740",
-      codeNm: "북아현동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130750",
-      codeNm: "신촌동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130760",
-      codeNm: "연희동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130520",
-      codeNm: "천연동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130730",
-      codeNm: "충현동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130660",
-      codeNm: "홍은1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130680",
-      codeNm: "홍은2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130620",
-      codeNm: "홍제1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130650",
-      codeNm: "홍제2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11130",
-      dong: "11130640",
-      codeNm: "홍제3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220680",
-      codeNm: "내곡동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220570",
-      codeNm: "반포1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220580",
-      codeNm: "반포2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220590",
-      codeNm: "반포3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220600",
-      codeNm: "반포4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220560",
-      codeNm: "반포본동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220620",
-      codeNm: "방배1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220630",
-      codeNm: "방배2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220640",
-      codeNm: "방배3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220650",
-      codeNm: "방배4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220610",
-      codeNm: "방배본동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220510",
-      codeNm: "서초1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220520",
-      codeNm: "서초2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220530",
-      codeNm: "서초3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220540",
-      codeNm: "서초4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220660",
-      codeNm: "양재1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220670",
-      codeNm: "양재2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11220",
-      dong: "11220550",
-      codeNm: "잠원동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040590",
-      codeNm: "금호1가동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040720",
-      codeNm: "금호2·3가동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040620",
-      codeNm: "금호4가동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040540",
-      codeNm: "마장동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040550",
-      codeNm: "사근동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040650",
-      codeNm: "성수1가1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040660",
-      codeNm: "성수1가2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040670",
-      codeNm: "성수2가1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040680",
-      codeNm: "성수2가3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040690",
-      codeNm: "송정동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040730",
-      codeNm: "옥수동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040520",
-      codeNm: "왕십리2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040710",
-      codeNm: "왕십리도선동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040700",
-      codeNm: "용답동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040580",
-      codeNm: "응봉동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040560",
-      codeNm: "행당1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11040",
-      dong: "11040570",
-      codeNm: "행당2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080660",
-      codeNm: "길음1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080680",
-      codeNm: "길음2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080580",
-      codeNm: "돈암1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080590",
-      codeNm: "돈암2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080830",
-      codeNm: "동선동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080610",
-      codeNm: "보문동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080820",
-      codeNm: "삼선동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080850",
-      codeNm: "석관동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080810",
-      codeNm: "성북동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080600",
-      codeNm: "안암동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080710",
-      codeNm: "월곡1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080720",
-      codeNm: "월곡2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080760",
-      codeNm: "장위1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080770",
-      codeNm: "장위2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080780",
-      codeNm: "장위3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080620",
-      codeNm: "정릉1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080630",
-      codeNm: "정릉2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080640",
-      codeNm: "정릉3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080650",
-      codeNm: "정릉4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11080",
-      dong: "11080840",
-      codeNm: "종암동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240660",
-      codeNm: "가락1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240670",
-      codeNm: "가락2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240650",
-      codeNm: "가락본동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240530",
-      codeNm: "거여1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240540",
-      codeNm: "거여2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240550",
-      codeNm: "마천1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240560",
-      codeNm: "마천2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240680",
-      codeNm: "문정1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240690",
-      codeNm: "문정2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240570",
-      codeNm: "방이1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240580",
-      codeNm: "방이2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240640",
-      codeNm: "삼전동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240630",
-      codeNm: "석촌동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240610",
-      codeNm: "송파1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240620",
-      codeNm: "송파2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240600",
-      codeNm: "오금동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240590",
-      codeNm: "오륜동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240820",
-      codeNm: "위례동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240790",
-      codeNm: "잠실2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240800",
-      codeNm: "잠실3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240750",
-      codeNm: "잠실4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240770",
-      codeNm: "잠실6동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240780",
-      codeNm: "잠실7동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240710",
-      codeNm: "잠실본동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240810",
-      codeNm: "장지동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240510",
-      codeNm: "풍납1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11240",
-      dong: "11240520",
-      codeNm: "풍납2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150510",
-      codeNm: "목1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150520",
-      codeNm: "목2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150530",
-      codeNm: "목3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150540",
-      codeNm: "목4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150710",
-      codeNm: "목5동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150570",
-      codeNm: "신월1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150580",
-      codeNm: "신월2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150590",
-      codeNm: "신월3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150600",
-      codeNm: "신월4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150610",
-      codeNm: "신월5동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150620",
-      codeNm: "신월6동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150630",
-      codeNm: "신월7동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150640",
-      codeNm: "신정1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150650",
-      codeNm: "신정2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150660",
-      codeNm: "신정3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150720",
-      codeNm: "신정4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150690",
-      codeNm: "신정6동"
-    },
-    {
-      sido: "11",
-      sigugun: "11150",
-      dong: "11150700",
-      codeNm: "신정7동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190550",
-      codeNm: "당산1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190560",
-      codeNm: "당산2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190700",
-      codeNm: "대림1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190710",
-      codeNm: "대림2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190720",
-      codeNm: "대림3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190750",
-      codeNm: "도림동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190760",
-      codeNm: "문래동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190630",
-      codeNm: "신길1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190650",
-      codeNm: "신길3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190660",
-      codeNm: "신길4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190670",
-      codeNm: "신길5동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190680",
-      codeNm: "신길6동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190690",
-      codeNm: "신길7동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190610",
-      codeNm: "양평1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190620",
-      codeNm: "양평2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190540",
-      codeNm: "여의동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190740",
-      codeNm: "영등포동"
-    },
-    {
-      sido: "11",
-      sigugun: "11190",
-      dong: "11190730",
-      codeNm: "영등포본동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030530",
-      codeNm: "남영동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030700",
-      codeNm: "보광동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030690",
-      codeNm: "서빙고동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030590",
-      codeNm: "용문동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030520",
-      codeNm: "용산2가동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030720",
-      codeNm: "원효로1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030570",
-      codeNm: "원효로2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030630",
-      codeNm: "이촌1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030640",
-      codeNm: "이촌2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030650",
-      codeNm: "이태원1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030660",
-      codeNm: "이태원2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030710",
-      codeNm: "청파동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030730",
-      codeNm: "한강로동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030740",
-      codeNm: "한남동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030580",
-      codeNm: "효창동"
-    },
-    {
-      sido: "11",
-      sigugun: "11030",
-      dong: "11030510",
-      codeNm: "후암동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120550",
-      codeNm: "갈현1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120560",
-      codeNm: "갈현2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120570",
-      codeNm: "구산동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120510",
-      codeNm: "녹번동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120580",
-      codeNm: "대조동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120520",
-      codeNm: "불광1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120720",
-      codeNm: "불광2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120680",
-      codeNm: "수색동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120650",
-      codeNm: "신사1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120660",
-      codeNm: "신사2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120740",
-      codeNm: "역촌동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120590",
-      codeNm: "응암1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120600",
-      codeNm: "응암2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120730",
-      codeNm: "응암3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120670",
-      codeNm: "증산동"
-    },
-    {
-      sido: "11",
-      sigugun: "11120",
-      dong: "11120710",
-      codeNm: "진관동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010600",
-      codeNm: "가회동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010580",
-      codeNm: "교남동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010570",
-      codeNm: "무악동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010550",
-      codeNm: "부암동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010530",
-      codeNm: "사직동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010540",
-      codeNm: "삼청동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010700",
-      codeNm: "숭인1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010710",
-      codeNm: "숭인2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010640",
-      codeNm: "이화동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010610",
-      codeNm: "종로1·2·3·4가동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010630",
-      codeNm: "종로5·6가동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010670",
-      codeNm: "창신1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010680",
-      codeNm: "창신2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010690",
-      codeNm: "창신3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010720",
-      codeNm: "청운효자동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010560",
-      codeNm: "평창동"
-    },
-    {
-      sido: "11",
-      sigugun: "11010",
-      dong: "11010730",
-      codeNm: "혜화동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020590",
-      codeNm: "광희동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020700",
-      codeNm: "다산동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020730",
-      codeNm: "동화동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020550",
-      codeNm: "명동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020520",
-      codeNm: "소공동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020650",
-      codeNm: "신당5동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020690",
-      codeNm: "신당동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020710",
-      codeNm: "약수동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020600",
-      codeNm: "을지로동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020580",
-      codeNm: "장충동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020680",
-      codeNm: "중림동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020720",
-      codeNm: "청구동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020570",
-      codeNm: "필동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020670",
-      codeNm: "황학동"
-    },
-    {
-      sido: "11",
-      sigugun: "11020",
-      dong: "11020540",
-      codeNm: "회현동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070680",
-      codeNm: "망우3동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070730",
-      codeNm: "망우본동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070520",
-      codeNm: "면목2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070720",
-      codeNm: "면목3·8동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070540",
-      codeNm: "면목4동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070550",
-      codeNm: "면목5동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070570",
-      codeNm: "면목7동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070710",
-      codeNm: "면목본동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070640",
-      codeNm: "묵1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070650",
-      codeNm: "묵2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070590",
-      codeNm: "상봉1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070600",
-      codeNm: "상봉2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070690",
-      codeNm: "신내1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070700",
-      codeNm: "신내2동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070610",
-      codeNm: "중화1동"
-    },
-    {
-      sido: "11",
-      sigugun: "11070",
-      dong: "11070620",
-      codeNm: "중화2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21120",
-      dong: "21120580",
-      codeNm: "가덕도동"
-    },
-    {
-      sido: "21",
-      sigugun: "21120",
-      dong: "21120550",
-      codeNm: "가락동"
-    },
-    {
-      sido: "21",
-      sigugun: "21120",
-      dong: "21120530",
-      codeNm: "강동동"
-    },
-    {
-      sido: "21",
-      sigugun: "21120",
-      dong: "21120560",
-      codeNm: "녹산동"
-    },
-    {
-      sido: "21",
-      sigugun: "21120",
-      dong: "21120510",
-      codeNm: "대저1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21120",
-      dong: "21120520",
-      codeNm: "대저2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21120",
-      dong: "21120590",
-      codeNm: "명지1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21120",
-      dong: "21120600",
-      codeNm: "명지2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110690",
-      codeNm: "구서1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110700",
-      codeNm: "구서2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110730",
-      codeNm: "금사회동동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110710",
-      codeNm: "금성동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110680",
-      codeNm: "남산동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110570",
-      codeNm: "부곡1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110580",
-      codeNm: "부곡2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110590",
-      codeNm: "부곡3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110600",
-      codeNm: "부곡4동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110510",
-      codeNm: "서1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110520",
-      codeNm: "서2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110720",
-      codeNm: "서3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110640",
-      codeNm: "선두구동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110610",
-      codeNm: "장전1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110740",
-      codeNm: "장전2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21110",
-      dong: "21110670",
-      codeNm: "청룡노포동"
-    },
-    {
-      sido: "21",
-      sigugun: "21510",
-      dong: "21510110",
-      codeNm: "기장읍"
-    },
-    {
-      sido: "21",
-      sigugun: "21510",
-      dong: "21510111",
-      codeNm: "일광읍"
-    },
-    {
-      sido: "21",
-      sigugun: "21510",
-      dong: "21510120",
-      codeNm: "장안읍"
-    },
-    {
-      sido: "21",
-      sigugun: "21510",
-      dong: "21510130",
-      codeNm: "정관읍"
-    },
-    {
-      sido: "21",
-      sigugun: "21510",
-      dong: "21510330",
-      codeNm: "철마면"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070620",
-      codeNm: "감만1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070630",
-      codeNm: "감만2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070700",
-      codeNm: "대연1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070530",
-      codeNm: "대연3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070540",
-      codeNm: "대연4동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070550",
-      codeNm: "대연5동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070560",
-      codeNm: "대연6동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070660",
-      codeNm: "문현1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070670",
-      codeNm: "문현2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070680",
-      codeNm: "문현3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070690",
-      codeNm: "문현4동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070610",
-      codeNm: "용당동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070570",
-      codeNm: "용호1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070580",
-      codeNm: "용호2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070590",
-      codeNm: "용호3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070600",
-      codeNm: "용호4동"
-    },
-    {
-      sido: "21",
-      sigugun: "21070",
-      dong: "21070710",
-      codeNm: "우암동"
-    },
-    {
-      sido: "21",
-      sigugun: "21030",
-      dong: "21030710",
-      codeNm: "범일1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21030",
-      dong: "21030660",
-      codeNm: "범일2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21030",
-      dong: "21030680",
-      codeNm: "범일5동"
-    },
-    {
-      sido: "21",
-      sigugun: "21030",
-      dong: "21030560",
-      codeNm: "수정1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21030",
-      dong: "21030570",
-      codeNm: "수정2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21030",
-      dong: "21030590",
-      codeNm: "수정4동"
-    },
-    {
-      sido: "21",
-      sigugun: "21030",
-      dong: "21030600",
-      codeNm: "수정5동"
-    },
-    {
-      sido: "21",
-      sigugun: "21030",
-      dong: "21030700",
-      codeNm: "좌천동"
-    },
-    {
-      sido: "21",
-      sigugun: "21030",
-      dong: "21030510",
-      codeNm: "초량1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21030",
-      dong: "21030520",
-      codeNm: "초량2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21030",
-      dong: "21030530",
-      codeNm: "초량3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21030",
-      dong: "21030550",
-      codeNm: "초량6동"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      dong: "21060650",
-      codeNm: "명륜동"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      dong: "21060630",
-      codeNm: "명장1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      dong: "21060640",
-      codeNm: "명장2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      dong: "21060520",
-      codeNm: "복산동"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      dong: "21060580",
-      codeNm: "사직1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      dong: "21060590",
-      codeNm: "사직2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      dong: "21060600",
-      codeNm: "사직3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      dong: "21060510",
-      codeNm: "수민동"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      dong: "21060610",
-      codeNm: "안락1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      dong: "21060620",
-      codeNm: "안락2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      dong: "21060550",
-      codeNm: "온천1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      dong: "21060560",
-      codeNm: "온천2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21060",
-      dong: "21060570",
-      codeNm: "온천3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050810",
-      codeNm: "가야1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050720",
-      codeNm: "가야2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050740",
-      codeNm: "개금1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050750",
-      codeNm: "개금2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050760",
-      codeNm: "개금3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050800",
-      codeNm: "당감1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050680",
-      codeNm: "당감2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050700",
-      codeNm: "당감4동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050770",
-      codeNm: "범천1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050840",
-      codeNm: "범천2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050640",
-      codeNm: "부암1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050660",
-      codeNm: "부암3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050820",
-      codeNm: "부전1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050520",
-      codeNm: "부전2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050560",
-      codeNm: "양정1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050570",
-      codeNm: "양정2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050540",
-      codeNm: "연지동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050830",
-      codeNm: "전포1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050610",
-      codeNm: "전포2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21050",
-      dong: "21050550",
-      codeNm: "초읍동"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      dong: "21080510",
-      codeNm: "구포1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      dong: "21080520",
-      codeNm: "구포2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      dong: "21080530",
-      codeNm: "구포3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      dong: "21080540",
-      codeNm: "금곡동"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      dong: "21080560",
-      codeNm: "덕천1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      dong: "21080570",
-      codeNm: "덕천2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      dong: "21080580",
-      codeNm: "덕천3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      dong: "21080590",
-      codeNm: "만덕1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      dong: "21080600",
-      codeNm: "만덕2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      dong: "21080610",
-      codeNm: "만덕3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      dong: "21080550",
-      codeNm: "화명1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      dong: "21080620",
-      codeNm: "화명2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21080",
-      dong: "21080630",
-      codeNm: "화명3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21150",
-      dong: "21150650",
-      codeNm: "감전동"
-    },
-    {
-      sido: "21",
-      sigugun: "21150",
-      dong: "21150570",
-      codeNm: "괘법동"
-    },
-    {
-      sido: "21",
-      sigugun: "21150",
-      dong: "21150550",
-      codeNm: "덕포1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21150",
-      dong: "21150560",
-      codeNm: "덕포2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21150",
-      dong: "21150520",
-      codeNm: "모라1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21150",
-      dong: "21150540",
-      codeNm: "모라3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21150",
-      dong: "21150510",
-      codeNm: "삼락동"
-    },
-    {
-      sido: "21",
-      sigugun: "21150",
-      dong: "21150640",
-      codeNm: "엄궁동"
-    },
-    {
-      sido: "21",
-      sigugun: "21150",
-      dong: "21150600",
-      codeNm: "주례1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21150",
-      dong: "21150610",
-      codeNm: "주례2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21150",
-      dong: "21150620",
-      codeNm: "주례3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21150",
-      dong: "21150630",
-      codeNm: "학장동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100650",
-      codeNm: "감천1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100660",
-      codeNm: "감천2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100510",
-      codeNm: "괴정1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100520",
-      codeNm: "괴정2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100530",
-      codeNm: "괴정3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100540",
-      codeNm: "괴정4동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100640",
-      codeNm: "구평동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100620",
-      codeNm: "다대1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100630",
-      codeNm: "다대2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100550",
-      codeNm: "당리동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100580",
-      codeNm: "신평1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100590",
-      codeNm: "신평2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100600",
-      codeNm: "장림1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100610",
-      codeNm: "장림2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100560",
-      codeNm: "하단1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21100",
-      dong: "21100570",
-      codeNm: "하단2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      dong: "21020650",
-      codeNm: "남부민1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      dong: "21020690",
-      codeNm: "남부민2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      dong: "21020510",
-      codeNm: "동대신1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      dong: "21020520",
-      codeNm: "동대신2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      dong: "21020530",
-      codeNm: "동대신3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      dong: "21020590",
-      codeNm: "부민동"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      dong: "21020540",
-      codeNm: "서대신1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      dong: "21020560",
-      codeNm: "서대신3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      dong: "21020570",
-      codeNm: "서대신4동"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      dong: "21020610",
-      codeNm: "아미동"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      dong: "21020680",
-      codeNm: "암남동"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      dong: "21020630",
-      codeNm: "초장동"
-    },
-    {
-      sido: "21",
-      sigugun: "21020",
-      dong: "21020640",
-      codeNm: "충무동"
-    },
-    {
-      sido: "21",
-      sigugun: "21140",
-      dong: "21140560",
-      codeNm: "광안1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21140",
-      dong: "21140570",
-      codeNm: "광안2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21140",
-      dong: "21140580",
-      codeNm: "광안3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21140",
-      dong: "21140590",
-      codeNm: "광안4동"
-    },
-    {
-      sido: "21",
-      sigugun: "21140",
-      dong: "21140510",
-      codeNm: "남천1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21140",
-      dong: "21140520",
-      codeNm: "남천2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21140",
-      dong: "21140540",
-      codeNm: "망미1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21140",
-      dong: "21140550",
-      codeNm: "망미2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21140",
-      dong: "21140600",
-      codeNm: "민락동"
-    },
-    {
-      sido: "21",
-      sigugun: "21140",
-      dong: "21140530",
-      codeNm: "수영동"
-    },
-    {
-      sido: "21",
-      sigugun: "21130",
-      dong: "21130510",
-      codeNm: "거제1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21130",
-      dong: "21130520",
-      codeNm: "거제2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21130",
-      dong: "21130530",
-      codeNm: "거제3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21130",
-      dong: "21130540",
-      codeNm: "거제4동"
-    },
-    {
-      sido: "21",
-      sigugun: "21130",
-      dong: "21130550",
-      codeNm: "연산1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21130",
-      dong: "21130560",
-      codeNm: "연산2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21130",
-      dong: "21130570",
-      codeNm: "연산3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21130",
-      dong: "21130580",
-      codeNm: "연산4동"
-    },
-    {
-      sido: "21",
-      sigugun: "21130",
-      dong: "21130590",
-      codeNm: "연산5동"
-    },
-    {
-      sido: "21",
-      sigugun: "21130",
-      dong: "21130600",
-      codeNm: "연산6동"
-    },
-    {
-      sido: "21",
-      sigugun: "21130",
-      dong: "21130620",
-      codeNm: "연산8동"
-    },
-    {
-      sido: "21",
-      sigugun: "21130",
-      dong: "21130630",
-      codeNm: "연산9동"
-    },
-    {
-      sido: "21",
-      sigugun: "21040",
-      dong: "21040530",
-      codeNm: "남항동"
-    },
-    {
-      sido: "21",
-      sigugun: "21040",
-      dong: "21040650",
-      codeNm: "동삼1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21040",
-      dong: "21040660",
-      codeNm: "동삼2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21040",
-      dong: "21040670",
-      codeNm: "동삼3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21040",
-      dong: "21040590",
-      codeNm: "봉래1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21040",
-      dong: "21040690",
-      codeNm: "봉래2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21040",
-      dong: "21040680",
-      codeNm: "신선동"
-    },
-    {
-      sido: "21",
-      sigugun: "21040",
-      dong: "21040540",
-      codeNm: "영선1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21040",
-      dong: "21040550",
-      codeNm: "영선2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21040",
-      dong: "21040630",
-      codeNm: "청학1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21040",
-      dong: "21040640",
-      codeNm: "청학2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21010",
-      dong: "21010570",
-      codeNm: "광복동"
-    },
-    {
-      sido: "21",
-      sigugun: "21010",
-      dong: "21010580",
-      codeNm: "남포동"
-    },
-    {
-      sido: "21",
-      sigugun: "21010",
-      dong: "21010530",
-      codeNm: "대청동"
-    },
-    {
-      sido: "21",
-      sigugun: "21010",
-      dong: "21010520",
-      codeNm: "동광동"
-    },
-    {
-      sido: "21",
-      sigugun: "21010",
-      dong: "21010540",
-      codeNm: "보수동"
-    },
-    {
-      sido: "21",
-      sigugun: "21010",
-      dong: "21010560",
-      codeNm: "부평동"
-    },
-    {
-      sido: "21",
-      sigugun: "21010",
-      dong: "21010590",
-      codeNm: "영주1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21010",
-      dong: "21010600",
-      codeNm: "영주2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21010",
-      dong: "21010510",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090720",
-      codeNm: "반송1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090620",
-      codeNm: "반송2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090700",
-      codeNm: "반여1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090580",
-      codeNm: "반여2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090590",
-      codeNm: "반여3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090710",
-      codeNm: "반여4동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090560",
-      codeNm: "송정동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090730",
-      codeNm: "우1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090740",
-      codeNm: "우2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090750",
-      codeNm: "우3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090640",
-      codeNm: "재송1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090650",
-      codeNm: "재송2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090660",
-      codeNm: "좌1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090670",
-      codeNm: "좌2동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090680",
-      codeNm: "좌3동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090690",
-      codeNm: "좌4동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090530",
-      codeNm: "중1동"
-    },
-    {
-      sido: "21",
-      sigugun: "21090",
-      dong: "21090540",
-      codeNm: "중2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      dong: "22040650",
-      codeNm: "대명10동"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      dong: "22040660",
-      codeNm: "대명11동"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      dong: "22040560",
-      codeNm: "대명1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      dong: "22040570",
-      codeNm: "대명2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      dong: "22040580",
-      codeNm: "대명3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      dong: "22040590",
-      codeNm: "대명4동"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      dong: "22040600",
-      codeNm: "대명5동"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      dong: "22040610",
-      codeNm: "대명6동"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      dong: "22040640",
-      codeNm: "대명9동"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      dong: "22040530",
-      codeNm: "봉덕1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      dong: "22040540",
-      codeNm: "봉덕2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      dong: "22040550",
-      codeNm: "봉덕3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22040",
-      dong: "22040510",
-      codeNm: "이천동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070570",
-      codeNm: "감삼동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070680",
-      codeNm: "도원동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070760",
-      codeNm: "두류1·2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070550",
-      codeNm: "두류3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070710",
-      codeNm: "본동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070560",
-      codeNm: "본리동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070650",
-      codeNm: "상인1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070660",
-      codeNm: "상인2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070670",
-      codeNm: "상인3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070750",
-      codeNm: "성당동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070690",
-      codeNm: "송현1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070700",
-      codeNm: "송현2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070610",
-      codeNm: "신당동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070720",
-      codeNm: "용산1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070730",
-      codeNm: "용산2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070770",
-      codeNm: "월성1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070630",
-      codeNm: "월성2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070790",
-      codeNm: "유천동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070600",
-      codeNm: "이곡1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070740",
-      codeNm: "이곡2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070590",
-      codeNm: "장기동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070580",
-      codeNm: "죽전동"
-    },
-    {
-      sido: "22",
-      sigugun: "22070",
-      dong: "22070780",
-      codeNm: "진천동"
-    },
-    {
-      sido: "22",
-      sigugun: "22510",
-      dong: "22510310",
-      codeNm: "가창면"
-    },
-    {
-      sido: "22",
-      sigugun: "22510",
-      dong: "22510360",
-      codeNm: "구지면"
-    },
-    {
-      sido: "22",
-      sigugun: "22510",
-      dong: "22510120",
-      codeNm: "논공읍"
-    },
-    {
-      sido: "22",
-      sigugun: "22510",
-      dong: "22510130",
-      codeNm: "다사읍"
-    },
-    {
-      sido: "22",
-      sigugun: "22510",
-      dong: "22510150",
-      codeNm: "옥포읍"
-    },
-    {
-      sido: "22",
-      sigugun: "22510",
-      dong: "22510140",
-      codeNm: "유가읍"
-    },
-    {
-      sido: "22",
-      sigugun: "22510",
-      dong: "22510320",
-      codeNm: "하빈면"
-    },
-    {
-      sido: "22",
-      sigugun: "22510",
-      dong: "22510160",
-      codeNm: "현풍읍"
-    },
-    {
-      sido: "22",
-      sigugun: "22510",
-      dong: "22510110",
-      codeNm: "화원읍"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020710",
-      codeNm: "공산동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020620",
-      codeNm: "도평동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020660",
-      codeNm: "동촌동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020680",
-      codeNm: "방촌동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020630",
-      codeNm: "불로·봉무동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020510",
-      codeNm: "신암1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020520",
-      codeNm: "신암2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020530",
-      codeNm: "신암3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020540",
-      codeNm: "신암4동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020550",
-      codeNm: "신암5동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020560",
-      codeNm: "신천1·2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020580",
-      codeNm: "신천3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020590",
-      codeNm: "신천4동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020730",
-      codeNm: "안심1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020740",
-      codeNm: "안심2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020760",
-      codeNm: "안심3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020770",
-      codeNm: "안심4동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020650",
-      codeNm: "지저동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020690",
-      codeNm: "해안동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020780",
-      codeNm: "혁신동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020600",
-      codeNm: "효목1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22020",
-      dong: "22020610",
-      codeNm: "효목2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050700",
-      codeNm: "검단동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050510",
-      codeNm: "고성동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050750",
-      codeNm: "관문동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050770",
-      codeNm: "관음동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050790",
-      codeNm: "구암동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050830",
-      codeNm: "국우동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050810",
-      codeNm: "노원동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050840",
-      codeNm: "대현동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050820",
-      codeNm: "동천동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050710",
-      codeNm: "무태조야동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050650",
-      codeNm: "복현1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050660",
-      codeNm: "복현2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050610",
-      codeNm: "산격1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050620",
-      codeNm: "산격2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050630",
-      codeNm: "산격3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050640",
-      codeNm: "산격4동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050760",
-      codeNm: "읍내동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050520",
-      codeNm: "칠성동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050550",
-      codeNm: "침산1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050560",
-      codeNm: "침산2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050570",
-      codeNm: "침산3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050780",
-      codeNm: "태전1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22050",
-      dong: "22050740",
-      codeNm: "태전2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030510",
-      codeNm: "내당1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030520",
-      codeNm: "내당2·3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030530",
-      codeNm: "내당4동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030540",
-      codeNm: "비산1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030550",
-      codeNm: "비산2·3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030560",
-      codeNm: "비산4동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030570",
-      codeNm: "비산5동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030580",
-      codeNm: "비산6동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030590",
-      codeNm: "비산7동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030660",
-      codeNm: "상중이동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030680",
-      codeNm: "원대동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030600",
-      codeNm: "평리1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030610",
-      codeNm: "평리2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030620",
-      codeNm: "평리3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030630",
-      codeNm: "평리4동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030640",
-      codeNm: "평리5동"
-    },
-    {
-      sido: "22",
-      sigugun: "22030",
-      dong: "22030650",
-      codeNm: "평리6동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060710",
-      codeNm: "고산1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060720",
-      codeNm: "고산2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060730",
-      codeNm: "고산3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060660",
-      codeNm: "두산동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060550",
-      codeNm: "만촌1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060560",
-      codeNm: "만촌2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060570",
-      codeNm: "만촌3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060690",
-      codeNm: "범물1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060700",
-      codeNm: "범물2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060510",
-      codeNm: "범어1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060520",
-      codeNm: "범어2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060530",
-      codeNm: "범어3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060540",
-      codeNm: "범어4동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060640",
-      codeNm: "상동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060580",
-      codeNm: "수성1가동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060590",
-      codeNm: "수성2·3가동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060600",
-      codeNm: "수성4가동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060630",
-      codeNm: "중동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060670",
-      codeNm: "지산1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060680",
-      codeNm: "지산2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060650",
-      codeNm: "파동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060610",
-      codeNm: "황금1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22060",
-      dong: "22060620",
-      codeNm: "황금2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22010",
-      dong: "22010640",
-      codeNm: "남산1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22010",
-      dong: "22010650",
-      codeNm: "남산2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22010",
-      dong: "22010660",
-      codeNm: "남산3동"
-    },
-    {
-      sido: "22",
-      sigugun: "22010",
-      dong: "22010670",
-      codeNm: "남산4동"
-    },
-    {
-      sido: "22",
-      sigugun: "22010",
-      dong: "22010680",
-      codeNm: "대봉1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22010",
-      dong: "22010690",
-      codeNm: "대봉2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22010",
-      dong: "22010620",
-      codeNm: "대신동"
-    },
-    {
-      sido: "22",
-      sigugun: "22010",
-      dong: "22010700",
-      codeNm: "동인동"
-    },
-    {
-      sido: "22",
-      sigugun: "22010",
-      dong: "22010540",
-      codeNm: "삼덕동"
-    },
-    {
-      sido: "22",
-      sigugun: "22010",
-      dong: "22010560",
-      codeNm: "성내1동"
-    },
-    {
-      sido: "22",
-      sigugun: "22010",
-      dong: "22010590",
-      codeNm: "성내2동"
-    },
-    {
-      sido: "22",
-      sigugun: "22010",
-      dong: "22010610",
-      codeNm: "성내3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      dong: "23510110",
-      codeNm: "강화읍"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      dong: "23510400",
-      codeNm: "교동면"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      dong: "23510330",
-      codeNm: "길상면"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      dong: "23510360",
-      codeNm: "내가면"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      dong: "23510320",
-      codeNm: "불은면"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      dong: "23510410",
-      codeNm: "삼산면"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      dong: "23510420",
-      codeNm: "서도면"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      dong: "23510310",
-      codeNm: "선원면"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      dong: "23510390",
-      codeNm: "송해면"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      dong: "23510350",
-      codeNm: "양도면"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      dong: "23510380",
-      codeNm: "양사면"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      dong: "23510370",
-      codeNm: "하점면"
-    },
-    {
-      sido: "23",
-      sigugun: "23510",
-      dong: "23510340",
-      codeNm: "화도면"
-    },
-    {
-      sido: "23",
-      sigugun: "23070",
-      dong: "23070530",
-      codeNm: "계산1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23070",
-      dong: "23070540",
-      codeNm: "계산2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23070",
-      dong: "23070550",
-      codeNm: "계산3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23070",
-      dong: "23070620",
-      codeNm: "계산4동"
-    },
-    {
-      sido: "23",
-      sigugun: "23070",
-      dong: "23070630",
-      codeNm: "계양1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23070",
-      dong: "23070610",
-      codeNm: "계양2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23070",
-      dong: "23070640",
-      codeNm: "계양3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23070",
-      dong: "23070560",
-      codeNm: "작전1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23070",
-      dong: "23070570",
-      codeNm: "작전2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23070",
-      dong: "23070580",
-      codeNm: "작전서운동"
-    },
-    {
-      sido: "23",
-      sigugun: "23070",
-      dong: "23070510",
-      codeNm: "효성1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23070",
-      dong: "23070520",
-      codeNm: "효성2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050550",
-      codeNm: "간석1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050560",
-      codeNm: "간석2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050570",
-      codeNm: "간석3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050580",
-      codeNm: "간석4동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050510",
-      codeNm: "구월1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050520",
-      codeNm: "구월2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050530",
-      codeNm: "구월3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050540",
-      codeNm: "구월4동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050670",
-      codeNm: "남촌도림동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050720",
-      codeNm: "논현1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050730",
-      codeNm: "논현2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050740",
-      codeNm: "논현고잔동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050590",
-      codeNm: "만수1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050600",
-      codeNm: "만수2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050610",
-      codeNm: "만수3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050620",
-      codeNm: "만수4동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050630",
-      codeNm: "만수5동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050640",
-      codeNm: "만수6동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050760",
-      codeNm: "서창2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23050",
-      dong: "23050750",
-      codeNm: "장수서창동"
-    },
-    {
-      sido: "23",
-      sigugun: "23020",
-      dong: "23020640",
-      codeNm: "금창동"
-    },
-    {
-      sido: "23",
-      sigugun: "23020",
-      dong: "23020510",
-      codeNm: "만석동"
-    },
-    {
-      sido: "23",
-      sigugun: "23020",
-      dong: "23020580",
-      codeNm: "송림1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23020",
-      dong: "23020590",
-      codeNm: "송림2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23020",
-      dong: "23020600",
-      codeNm: "송림3·5동"
-    },
-    {
-      sido: "23",
-      sigugun: "23020",
-      dong: "23020610",
-      codeNm: "송림4동"
-    },
-    {
-      sido: "23",
-      sigugun: "23020",
-      dong: "23020630",
-      codeNm: "송림6동"
-    },
-    {
-      sido: "23",
-      sigugun: "23020",
-      dong: "23020550",
-      codeNm: "송현1·2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23020",
-      dong: "23020570",
-      codeNm: "송현3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23020",
-      dong: "23020520",
-      codeNm: "화수1·화평동"
-    },
-    {
-      sido: "23",
-      sigugun: "23020",
-      dong: "23020530",
-      codeNm: "화수2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090730",
-      codeNm: "관교동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090620",
-      codeNm: "도화1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090770",
-      codeNm: "도화2·3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090740",
-      codeNm: "문학동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090750",
-      codeNm: "숭의1·3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090520",
-      codeNm: "숭의2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090540",
-      codeNm: "숭의4동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090760",
-      codeNm: "용현1·4동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090560",
-      codeNm: "용현2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090570",
-      codeNm: "용현3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090590",
-      codeNm: "용현5동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090650",
-      codeNm: "주안1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090660",
-      codeNm: "주안2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090670",
-      codeNm: "주안3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090680",
-      codeNm: "주안4동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090690",
-      codeNm: "주안5동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090700",
-      codeNm: "주안6동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090710",
-      codeNm: "주안7동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090720",
-      codeNm: "주안8동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090600",
-      codeNm: "학익1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23090",
-      dong: "23090610",
-      codeNm: "학익2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060630",
-      codeNm: "갈산1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060640",
-      codeNm: "갈산2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060660",
-      codeNm: "부개1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060670",
-      codeNm: "부개2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060680",
-      codeNm: "부개3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060510",
-      codeNm: "부평1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060520",
-      codeNm: "부평2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060530",
-      codeNm: "부평3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060540",
-      codeNm: "부평4동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060550",
-      codeNm: "부평5동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060560",
-      codeNm: "부평6동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060570",
-      codeNm: "산곡1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060580",
-      codeNm: "산곡2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060590",
-      codeNm: "산곡3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060600",
-      codeNm: "산곡4동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060650",
-      codeNm: "삼산1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060720",
-      codeNm: "삼산2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060700",
-      codeNm: "십정1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060710",
-      codeNm: "십정2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060690",
-      codeNm: "일신동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060610",
-      codeNm: "청천1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23060",
-      dong: "23060620",
-      codeNm: "청천2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080540",
-      codeNm: "가정1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080550",
-      codeNm: "가정2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080560",
-      codeNm: "가정3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080620",
-      codeNm: "가좌1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080630",
-      codeNm: "가좌2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080640",
-      codeNm: "가좌3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080650",
-      codeNm: "가좌4동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080800",
-      codeNm: "검단동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080510",
-      codeNm: "검암경서동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080850",
-      codeNm: "당하동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080860",
-      codeNm: "마전동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080810",
-      codeNm: "불로대곡동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080580",
-      codeNm: "석남1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080590",
-      codeNm: "석남2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080600",
-      codeNm: "석남3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080730",
-      codeNm: "신현원창동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080880",
-      codeNm: "아라동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080530",
-      codeNm: "연희동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080840",
-      codeNm: "오류왕길동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080870",
-      codeNm: "원당동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080740",
-      codeNm: "청라1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080780",
-      codeNm: "청라2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23080",
-      dong: "23080790",
-      codeNm: "청라3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040570",
-      codeNm: "동춘1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040580",
-      codeNm: "동춘2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040590",
-      codeNm: "동춘3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040520",
-      codeNm: "선학동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040640",
-      codeNm: "송도1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040660",
-      codeNm: "송도2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040650",
-      codeNm: "송도3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040680",
-      codeNm: "송도4동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040690",
-      codeNm: "송도5동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040530",
-      codeNm: "연수1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040540",
-      codeNm: "연수2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040550",
-      codeNm: "연수3동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040510",
-      codeNm: "옥련1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040600",
-      codeNm: "옥련2동"
-    },
-    {
-      sido: "23",
-      sigugun: "23040",
-      dong: "23040560",
-      codeNm: "청학동"
-    },
-    {
-      sido: "23",
-      sigugun: "23520",
-      dong: "23520340",
-      codeNm: "대청면"
-    },
-    {
-      sido: "23",
-      sigugun: "23520",
-      dong: "23520350",
-      codeNm: "덕적면"
-    },
-    {
-      sido: "23",
-      sigugun: "23520",
-      dong: "23520330",
-      codeNm: "백령면"
-    },
-    {
-      sido: "23",
-      sigugun: "23520",
-      dong: "23520310",
-      codeNm: "북도면"
-    },
-    {
-      sido: "23",
-      sigugun: "23520",
-      dong: "23520320",
-      codeNm: "연평면"
-    },
-    {
-      sido: "23",
-      sigugun: "23520",
-      dong: "23520370",
-      codeNm: "영흥면"
-    },
-    {
-      sido: "23",
-      sigugun: "23520",
-      dong: "23520360",
-      codeNm: "자월면"
-    },
-    {
-      sido: "23",
-      sigugun: "23010",
-      dong: "23010670",
-      codeNm: "개항동"
-    },
-    {
-      sido: "23",
-      sigugun: "23010",
-      dong: "23010560",
-      codeNm: "도원동"
-    },
-    {
-      sido: "23",
-      sigugun: "23010",
-      dong: "23010580",
-      codeNm: "동인천동"
-    },
-    {
-      sido: "23",
-      sigugun: "23010",
-      dong: "23010530",
-      codeNm: "신포동"
-    },
-    {
-      sido: "23",
-      sigugun: "23010",
-      dong: "23010540",
-      codeNm: "신흥동"
-    },
-    {
-      sido: "23",
-      sigugun: "23010",
-      dong: "23010520",
-      codeNm: "연안동"
-    },
-    {
-      sido: "23",
-      sigugun: "23010",
-      dong: "23010660",
-      codeNm: "영종1동"
-    },
-    {
-      sido: "23",
-      sigugun: "23010",
-      dong: "23010650",
-      codeNm: "영종동"
-    },
-    {
-      sido: "23",
-      sigugun: "23010",
-      dong: "23010630",
-      codeNm: "용유동"
-    },
-    {
-      sido: "23",
-      sigugun: "23010",
-      dong: "23010640",
-      codeNm: "운서동"
-    },
-    {
-      sido: "23",
-      sigugun: "23010",
-      dong: "23010570",
-      codeNm: "율목동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050540",
-      codeNm: "도산동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050650",
-      codeNm: "동곡동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050680",
-      codeNm: "본량동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050610",
-      codeNm: "비아동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050670",
-      codeNm: "삼도동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050510",
-      codeNm: "송정1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050520",
-      codeNm: "송정2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050750",
-      codeNm: "수완동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050740",
-      codeNm: "신가동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050730",
-      codeNm: "신창동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050550",
-      codeNm: "신흥동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050560",
-      codeNm: "어룡동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050580",
-      codeNm: "우산동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050710",
-      codeNm: "운남동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050590",
-      codeNm: "월곡1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050600",
-      codeNm: "월곡2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050640",
-      codeNm: "임곡동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050690",
-      codeNm: "첨단1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050700",
-      codeNm: "첨단2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050660",
-      codeNm: "평동"
-    },
-    {
-      sido: "24",
-      sigugun: "24050",
-      dong: "24050630",
-      codeNm: "하남동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030700",
-      codeNm: "대촌동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030520",
-      codeNm: "방림1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030530",
-      codeNm: "방림2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030620",
-      codeNm: "백운1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030630",
-      codeNm: "백운2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030680",
-      codeNm: "봉선1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030690",
-      codeNm: "봉선2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030540",
-      codeNm: "사직동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030670",
-      codeNm: "송암동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030510",
-      codeNm: "양림동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030600",
-      codeNm: "월산4동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030610",
-      codeNm: "월산5동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030570",
-      codeNm: "월산동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030640",
-      codeNm: "주월1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030650",
-      codeNm: "주월2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030710",
-      codeNm: "진월동"
-    },
-    {
-      sido: "24",
-      sigugun: "24030",
-      dong: "24030720",
-      codeNm: "효덕동"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      dong: "24010560",
-      codeNm: "계림1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      dong: "24010580",
-      codeNm: "계림2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      dong: "24010540",
-      codeNm: "동명동"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      dong: "24010590",
-      codeNm: "산수1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      dong: "24010610",
-      codeNm: "산수2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      dong: "24010640",
-      codeNm: "서남동"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      dong: "24010620",
-      codeNm: "지산1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      dong: "24010630",
-      codeNm: "지산2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      dong: "24010720",
-      codeNm: "지원1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      dong: "24010730",
-      codeNm: "지원2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      dong: "24010510",
-      codeNm: "충장동"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      dong: "24010680",
-      codeNm: "학동"
-    },
-    {
-      sido: "24",
-      sigugun: "24010",
-      dong: "24010710",
-      codeNm: "학운동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040810",
-      codeNm: "건국동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040610",
-      codeNm: "동림동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040670",
-      codeNm: "두암1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040680",
-      codeNm: "두암2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040690",
-      codeNm: "두암3동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040710",
-      codeNm: "매곡동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040640",
-      codeNm: "문화동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040650",
-      codeNm: "문흥1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040660",
-      codeNm: "문흥2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040700",
-      codeNm: "삼각동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040740",
-      codeNm: "석곡동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040560",
-      codeNm: "신안동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040820",
-      codeNm: "신용동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040800",
-      codeNm: "양산동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040720",
-      codeNm: "오치1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040730",
-      codeNm: "오치2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040570",
-      codeNm: "용봉동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040620",
-      codeNm: "우산동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040580",
-      codeNm: "운암1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040590",
-      codeNm: "운암2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040600",
-      codeNm: "운암3동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040780",
-      codeNm: "일곡동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040550",
-      codeNm: "임동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040540",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040510",
-      codeNm: "중흥1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040520",
-      codeNm: "중흥2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040530",
-      codeNm: "중흥3동"
-    },
-    {
-      sido: "24",
-      sigugun: "24040",
-      dong: "24040630",
-      codeNm: "풍향동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020560",
-      codeNm: "광천동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020680",
-      codeNm: "금호1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020690",
-      codeNm: "금호2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020540",
-      codeNm: "농성1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020550",
-      codeNm: "농성2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020700",
-      codeNm: "동천동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020580",
-      codeNm: "상무1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020590",
-      codeNm: "상무2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020640",
-      codeNm: "서창동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020530",
-      codeNm: "양3동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020510",
-      codeNm: "양동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020570",
-      codeNm: "유덕동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020660",
-      codeNm: "치평동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020670",
-      codeNm: "풍암동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020600",
-      codeNm: "화정1동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020610",
-      codeNm: "화정2동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020620",
-      codeNm: "화정3동"
-    },
-    {
-      sido: "24",
-      sigugun: "24020",
-      dong: "24020630",
-      codeNm: "화정4동"
-    },
-    {
-      sido: "25",
-      sigugun: "25050",
-      dong: "25050520",
-      codeNm: "대화동"
-    },
-    {
-      sido: "25",
-      sigugun: "25050",
-      dong: "25050600",
-      codeNm: "덕암동"
-    },
-    {
-      sido: "25",
-      sigugun: "25050",
-      dong: "25050610",
-      codeNm: "목상동"
-    },
-    {
-      sido: "25",
-      sigugun: "25050",
-      dong: "25050560",
-      codeNm: "법1동"
-    },
-    {
-      sido: "25",
-      sigugun: "25050",
-      dong: "25050570",
-      codeNm: "법2동"
-    },
-    {
-      sido: "25",
-      sigugun: "25050",
-      dong: "25050540",
-      codeNm: "비래동"
-    },
-    {
-      sido: "25",
-      sigugun: "25050",
-      dong: "25050590",
-      codeNm: "석봉동"
-    },
-    {
-      sido: "25",
-      sigugun: "25050",
-      dong: "25050620",
-      codeNm: "송촌동"
-    },
-    {
-      sido: "25",
-      sigugun: "25050",
-      dong: "25050580",
-      codeNm: "신탄진동"
-    },
-    {
-      sido: "25",
-      sigugun: "25050",
-      dong: "25050510",
-      codeNm: "오정동"
-    },
-    {
-      sido: "25",
-      sigugun: "25050",
-      dong: "25050550",
-      codeNm: "중리동"
-    },
-    {
-      sido: "25",
-      sigugun: "25050",
-      dong: "25050530",
-      codeNm: "회덕동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010630",
-      codeNm: "가양1동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010640",
-      codeNm: "가양2동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010780",
-      codeNm: "대동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010730",
-      codeNm: "대청동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010750",
-      codeNm: "산내동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010800",
-      codeNm: "삼성동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010790",
-      codeNm: "성남동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010770",
-      codeNm: "신인동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010570",
-      codeNm: "용운동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010650",
-      codeNm: "용전동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010600",
-      codeNm: "자양동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010760",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010550",
-      codeNm: "판암1동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010560",
-      codeNm: "판암2동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010680",
-      codeNm: "홍도동"
-    },
-    {
-      sido: "25",
-      sigugun: "25010",
-      dong: "25010530",
-      codeNm: "효동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030511",
-      codeNm: "가수원동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030620",
-      codeNm: "가장동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030640",
-      codeNm: "갈마1동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030650",
-      codeNm: "갈마2동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030720",
-      codeNm: "관저1동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030730",
-      codeNm: "관저2동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030610",
-      codeNm: "괴정동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030710",
-      codeNm: "기성동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030630",
-      codeNm: "내동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030520",
-      codeNm: "도마1동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030530",
-      codeNm: "도마2동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030512",
-      codeNm: "도안동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030590",
-      codeNm: "둔산1동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030600",
-      codeNm: "둔산2동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030740",
-      codeNm: "둔산3동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030690",
-      codeNm: "만년동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030550",
-      codeNm: "변동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030510",
-      codeNm: "복수동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030560",
-      codeNm: "용문동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030660",
-      codeNm: "월평1동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030670",
-      codeNm: "월평2동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030680",
-      codeNm: "월평3동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030540",
-      codeNm: "정림동"
-    },
-    {
-      sido: "25",
-      sigugun: "25030",
-      dong: "25030570",
-      codeNm: "탄방동"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      dong: "25040630",
-      codeNm: "관평동"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      dong: "25040610",
-      codeNm: "구즉동"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      dong: "25040590",
-      codeNm: "노은1동"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      dong: "25040660",
-      codeNm: "노은2동"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      dong: "25040670",
-      codeNm: "노은3동"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      dong: "25040700",
-      codeNm: "상대동"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      dong: "25040550",
-      codeNm: "신성동"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      dong: "25040640",
-      codeNm: "온천1동"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      dong: "25040540",
-      codeNm: "온천2동"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      dong: "25040710",
-      codeNm: "원신흥동"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      dong: "25040570",
-      codeNm: "전민동"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      dong: "25040680",
-      codeNm: "진잠동"
-    },
-    {
-      sido: "25",
-      sigugun: "25040",
-      dong: "25040690",
-      codeNm: "학하동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020580",
-      codeNm: "대사동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020550",
-      codeNm: "대흥동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020530",
-      codeNm: "목동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020560",
-      codeNm: "문창동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020670",
-      codeNm: "문화1동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020680",
-      codeNm: "문화2동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020590",
-      codeNm: "부사동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020690",
-      codeNm: "산성동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020570",
-      codeNm: "석교동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020620",
-      codeNm: "오류동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020600",
-      codeNm: "용두동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020650",
-      codeNm: "유천1동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020660",
-      codeNm: "유천2동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020510",
-      codeNm: "은행선화동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020540",
-      codeNm: "중촌동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020630",
-      codeNm: "태평1동"
-    },
-    {
-      sido: "25",
-      sigugun: "25020",
-      dong: "25020640",
-      codeNm: "태평2동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020560",
-      codeNm: "달동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020620",
-      codeNm: "대현동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020590",
-      codeNm: "무거동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020570",
-      codeNm: "삼산동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020580",
-      codeNm: "삼호동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020640",
-      codeNm: "선암동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020630",
-      codeNm: "수암동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020510",
-      codeNm: "신정1동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020520",
-      codeNm: "신정2동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020530",
-      codeNm: "신정3동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020540",
-      codeNm: "신정4동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020550",
-      codeNm: "신정5동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020610",
-      codeNm: "야음장생포동"
-    },
-    {
-      sido: "26",
-      sigugun: "26020",
-      dong: "26020600",
-      codeNm: "옥동"
-    },
-    {
-      sido: "26",
-      sigugun: "26030",
-      dong: "26030580",
-      codeNm: "남목1동"
-    },
-    {
-      sido: "26",
-      sigugun: "26030",
-      dong: "26030590",
-      codeNm: "남목2동"
-    },
-    {
-      sido: "26",
-      sigugun: "26030",
-      dong: "26030600",
-      codeNm: "남목3동"
-    },
-    {
-      sido: "26",
-      sigugun: "26030",
-      dong: "26030540",
-      codeNm: "대송동"
-    },
-    {
-      sido: "26",
-      sigugun: "26030",
-      dong: "26030510",
-      codeNm: "방어동"
-    },
-    {
-      sido: "26",
-      sigugun: "26030",
-      dong: "26030520",
-      codeNm: "일산동"
-    },
-    {
-      sido: "26",
-      sigugun: "26030",
-      dong: "26030550",
-      codeNm: "전하1동"
-    },
-    {
-      sido: "26",
-      sigugun: "26030",
-      dong: "26030610",
-      codeNm: "전하2동"
-    },
-    {
-      sido: "26",
-      sigugun: "26030",
-      dong: "26030530",
-      codeNm: "화정동"
-    },
-    {
-      sido: "26",
-      sigugun: "26040",
-      dong: "26040540",
-      codeNm: "강동동"
-    },
-    {
-      sido: "26",
-      sigugun: "26040",
-      dong: "26040510",
-      codeNm: "농소1동"
-    },
-    {
-      sido: "26",
-      sigugun: "26040",
-      dong: "26040520",
-      codeNm: "농소2동"
-    },
-    {
-      sido: "26",
-      sigugun: "26040",
-      dong: "26040530",
-      codeNm: "농소3동"
-    },
-    {
-      sido: "26",
-      sigugun: "26040",
-      dong: "26040570",
-      codeNm: "송정동"
-    },
-    {
-      sido: "26",
-      sigugun: "26040",
-      dong: "26040580",
-      codeNm: "양정동"
-    },
-    {
-      sido: "26",
-      sigugun: "26040",
-      dong: "26040590",
-      codeNm: "염포동"
-    },
-    {
-      sido: "26",
-      sigugun: "26040",
-      dong: "26040560",
-      codeNm: "효문동"
-    },
-    {
-      sido: "26",
-      sigugun: "26510",
-      dong: "26510360",
-      codeNm: "두동면"
-    },
-    {
-      sido: "26",
-      sigugun: "26510",
-      dong: "26510370",
-      codeNm: "두서면"
-    },
-    {
-      sido: "26",
-      sigugun: "26510",
-      dong: "26510140",
-      codeNm: "범서읍"
-    },
-    {
-      sido: "26",
-      sigugun: "26510",
-      dong: "26510160",
-      codeNm: "삼남읍"
-    },
-    {
-      sido: "26",
-      sigugun: "26510",
-      dong: "26510400",
-      codeNm: "삼동면"
-    },
-    {
-      sido: "26",
-      sigugun: "26510",
-      dong: "26510380",
-      codeNm: "상북면"
-    },
-    {
-      sido: "26",
-      sigugun: "26510",
-      dong: "26510310",
-      codeNm: "서생면"
-    },
-    {
-      sido: "26",
-      sigugun: "26510",
-      dong: "26510120",
-      codeNm: "언양읍"
-    },
-    {
-      sido: "26",
-      sigugun: "26510",
-      dong: "26510110",
-      codeNm: "온산읍"
-    },
-    {
-      sido: "26",
-      sigugun: "26510",
-      dong: "26510130",
-      codeNm: "온양읍"
-    },
-    {
-      sido: "26",
-      sigugun: "26510",
-      dong: "26510340",
-      codeNm: "웅촌면"
-    },
-    {
-      sido: "26",
-      sigugun: "26510",
-      dong: "26510150",
-      codeNm: "청량읍"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      dong: "26010610",
-      codeNm: "다운동"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      dong: "26010520",
-      codeNm: "반구1동"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      dong: "26010530",
-      codeNm: "반구2동"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      dong: "26010620",
-      codeNm: "병영1동"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      dong: "26010630",
-      codeNm: "병영2동"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      dong: "26010540",
-      codeNm: "복산1동"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      dong: "26010550",
-      codeNm: "복산2동"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      dong: "26010660",
-      codeNm: "성안동"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      dong: "26010640",
-      codeNm: "약사동"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      dong: "26010590",
-      codeNm: "우정동"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      dong: "26010670",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      dong: "26010600",
-      codeNm: "태화동"
-    },
-    {
-      sido: "26",
-      sigugun: "26010",
-      dong: "26010510",
-      codeNm: "학성동"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010600",
-      codeNm: "고운동"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010340",
-      codeNm: "금남면"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010680",
-      codeNm: "다정동"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010640",
-      codeNm: "대평동"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010690",
-      codeNm: "도담동"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010720",
-      codeNm: "반곡동"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010660",
-      codeNm: "보람동"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010330",
-      codeNm: "부강면"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010670",
-      codeNm: "새롬동"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010710",
-      codeNm: "소담동"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010390",
-      codeNm: "소정면"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010590",
-      codeNm: "아름동"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010310",
-      codeNm: "연기면"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010320",
-      codeNm: "연동면"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010360",
-      codeNm: "연서면"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010350",
-      codeNm: "장군면"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010380",
-      codeNm: "전동면"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010370",
-      codeNm: "전의면"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010110",
-      codeNm: "조치원읍"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010560",
-      codeNm: "종촌동"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010610",
-      codeNm: "한솔동"
-    },
-    {
-      sido: "29",
-      sigugun: "29010",
-      dong: "29010700",
-      codeNm: "해밀동"
-    },
-    {
-      sido: "31",
-      sigugun: "31570",
-      dong: "31570110",
-      codeNm: "가평읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31570",
-      dong: "31570350",
-      codeNm: "북면"
-    },
-    {
-      sido: "31",
-      sigugun: "31570",
-      dong: "31570330",
-      codeNm: "상면"
-    },
-    {
-      sido: "31",
-      sigugun: "31570",
-      dong: "31570310",
-      codeNm: "설악면"
-    },
-    {
-      sido: "31",
-      sigugun: "31570",
-      dong: "31570360",
-      codeNm: "조종면"
-    },
-    {
-      sido: "31",
-      sigugun: "31570",
-      dong: "31570320",
-      codeNm: "청평면"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101590",
-      codeNm: "고양동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101600",
-      codeNm: "관산동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101610",
-      codeNm: "능곡동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101680",
-      codeNm: "대덕동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101512",
-      codeNm: "삼송1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101513",
-      codeNm: "삼송2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101540",
-      codeNm: "성사1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101550",
-      codeNm: "성사2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101520",
-      codeNm: "원신동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101510",
-      codeNm: "주교동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101580",
-      codeNm: "창릉동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101650",
-      codeNm: "행신1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101660",
-      codeNm: "행신2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101514",
-      codeNm: "행신3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101515",
-      codeNm: "행신4동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101640",
-      codeNm: "행주동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101670",
-      codeNm: "화전동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101620",
-      codeNm: "화정1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101630",
-      codeNm: "화정2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101560",
-      codeNm: "효자동"
-    },
-    {
-      sido: "31",
-      sigugun: "31101",
-      dong: "31101511",
-      codeNm: "흥도동"
-    },
-    {
-      sido: "31",
-      sigugun: "31103",
-      dong: "31103600",
-      codeNm: "고봉동"
-    },
-    {
-      sido: "31",
-      sigugun: "31103",
-      dong: "31103560",
-      codeNm: "마두1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31103",
-      dong: "31103570",
-      codeNm: "마두2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31103",
-      dong: "31103550",
-      codeNm: "백석1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31103",
-      dong: "31103610",
-      codeNm: "백석2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31103",
-      dong: "31103510",
-      codeNm: "식사동"
-    },
-    {
-      sido: "31",
-      sigugun: "31103",
-      dong: "31103580",
-      codeNm: "장항1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31103",
-      dong: "31103590",
-      codeNm: "장항2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31103",
-      dong: "31103530",
-      codeNm: "정발산동"
-    },
-    {
-      sido: "31",
-      sigugun: "31103",
-      dong: "31103511",
-      codeNm: "중산1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31103",
-      dong: "31103512",
-      codeNm: "중산2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31103",
-      dong: "31103540",
-      codeNm: "풍산동"
-    },
-    {
-      sido: "31",
-      sigugun: "31104",
-      dong: "31104514",
-      codeNm: "가좌동"
-    },
-    {
-      sido: "31",
-      sigugun: "31104",
-      dong: "31104570",
-      codeNm: "대화동"
-    },
-    {
-      sido: "31",
-      sigugun: "31104",
-      dong: "31104513",
-      codeNm: "덕이동"
-    },
-    {
-      sido: "31",
-      sigugun: "31104",
-      dong: "31104580",
-      codeNm: "송포동"
-    },
-    {
-      sido: "31",
-      sigugun: "31104",
-      dong: "31104510",
-      codeNm: "일산1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31104",
-      dong: "31104520",
-      codeNm: "일산2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31104",
-      dong: "31104530",
-      codeNm: "일산3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31104",
-      dong: "31104550",
-      codeNm: "주엽1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31104",
-      dong: "31104560",
-      codeNm: "주엽2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31104",
-      dong: "31104511",
-      codeNm: "탄현1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31104",
-      dong: "31104512",
-      codeNm: "탄현2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31110",
-      dong: "31110520",
-      codeNm: "갈현동"
-    },
-    {
-      sido: "31",
-      sigugun: "31110",
-      dong: "31110550",
-      codeNm: "과천동"
-    },
-    {
-      sido: "31",
-      sigugun: "31110",
-      dong: "31110560",
-      codeNm: "문원동"
-    },
-    {
-      sido: "31",
-      sigugun: "31110",
-      dong: "31110530",
-      codeNm: "별양동"
-    },
-    {
-      sido: "31",
-      sigugun: "31110",
-      dong: "31110540",
-      codeNm: "부림동"
-    },
-    {
-      sido: "31",
-      sigugun: "31110",
-      dong: "31110510",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060510",
-      codeNm: "광명1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060520",
-      codeNm: "광명2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060530",
-      codeNm: "광명3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060540",
-      codeNm: "광명4동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060550",
-      codeNm: "광명5동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060560",
-      codeNm: "광명6동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060570",
-      codeNm: "광명7동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060660",
-      codeNm: "소하1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060690",
-      codeNm: "소하2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060700",
-      codeNm: "일직동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060580",
-      codeNm: "철산1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060590",
-      codeNm: "철산2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060600",
-      codeNm: "철산3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060610",
-      codeNm: "철산4동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060620",
-      codeNm: "하안1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060630",
-      codeNm: "하안2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060640",
-      codeNm: "하안3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060650",
-      codeNm: "하안4동"
-    },
-    {
-      sido: "31",
-      sigugun: "31060",
-      dong: "31060680",
-      codeNm: "학온동"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      dong: "31250540",
-      codeNm: "경안동"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      dong: "31250140",
-      codeNm: "곤지암읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      dong: "31250580",
-      codeNm: "광남1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      dong: "31250590",
-      codeNm: "광남2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      dong: "31250360",
-      codeNm: "남종면"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      dong: "31250380",
-      codeNm: "남한산성면"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      dong: "31250340",
-      codeNm: "도척면"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      dong: "31250550",
-      codeNm: "송정동"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      dong: "31250560",
-      codeNm: "쌍령동"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      dong: "31250110",
-      codeNm: "오포읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      dong: "31250120",
-      codeNm: "초월읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      dong: "31250570",
-      codeNm: "탄벌동"
-    },
-    {
-      sido: "31",
-      sigugun: "31250",
-      dong: "31250350",
-      codeNm: "퇴촌면"
-    },
-    {
-      sido: "31",
-      sigugun: "31120",
-      dong: "31120510",
-      codeNm: "갈매동"
-    },
-    {
-      sido: "31",
-      sigugun: "31120",
-      dong: "31120540",
-      codeNm: "교문1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31120",
-      dong: "31120550",
-      codeNm: "교문2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31120",
-      dong: "31120520",
-      codeNm: "동구동"
-    },
-    {
-      sido: "31",
-      sigugun: "31120",
-      dong: "31120560",
-      codeNm: "수택1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31120",
-      dong: "31120570",
-      codeNm: "수택2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31120",
-      dong: "31120580",
-      codeNm: "수택3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31120",
-      dong: "31120530",
-      codeNm: "인창동"
-    },
-    {
-      sido: "31",
-      sigugun: "31160",
-      dong: "31160610",
-      codeNm: "광정동"
-    },
-    {
-      sido: "31",
-      sigugun: "31160",
-      dong: "31160510",
-      codeNm: "군포1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31160",
-      dong: "31160520",
-      codeNm: "군포2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31160",
-      dong: "31160600",
-      codeNm: "궁내동"
-    },
-    {
-      sido: "31",
-      sigugun: "31160",
-      dong: "31160560",
-      codeNm: "금정동"
-    },
-    {
-      sido: "31",
-      sigugun: "31160",
-      dong: "31160630",
-      codeNm: "대야동"
-    },
-    {
-      sido: "31",
-      sigugun: "31160",
-      dong: "31160540",
-      codeNm: "산본1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31160",
-      dong: "31160550",
-      codeNm: "산본2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31160",
-      dong: "31160640",
-      codeNm: "송부동"
-    },
-    {
-      sido: "31",
-      sigugun: "31160",
-      dong: "31160590",
-      codeNm: "수리동"
-    },
-    {
-      sido: "31",
-      sigugun: "31160",
-      dong: "31160580",
-      codeNm: "오금동"
-    },
-    {
-      sido: "31",
-      sigugun: "31160",
-      dong: "31160570",
-      codeNm: "재궁동"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230120",
-      codeNm: "고촌읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230630",
-      codeNm: "구래동"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230610",
-      codeNm: "김포본동"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230340",
-      codeNm: "대곶면"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230640",
-      codeNm: "마산동"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230530",
-      codeNm: "사우동"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230130",
-      codeNm: "양촌읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230600",
-      codeNm: "운양동"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230350",
-      codeNm: "월곶면"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230560",
-      codeNm: "장기동"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230620",
-      codeNm: "장기본동"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230110",
-      codeNm: "통진읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230540",
-      codeNm: "풍무동"
-    },
-    {
-      sido: "31",
-      sigugun: "31230",
-      dong: "31230360",
-      codeNm: "하성면"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130530",
-      codeNm: "금곡동"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130580",
-      codeNm: "다산1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130590",
-      codeNm: "다산2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130570",
-      codeNm: "별내동"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130310",
-      codeNm: "별내면"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130340",
-      codeNm: "수동면"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130540",
-      codeNm: "양정동"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130150",
-      codeNm: "오남읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130110",
-      codeNm: "와부읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130350",
-      codeNm: "조안면"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130140",
-      codeNm: "진건읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130120",
-      codeNm: "진접읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130160",
-      codeNm: "퇴계원읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130520",
-      codeNm: "평내동"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130510",
-      codeNm: "호평동"
-    },
-    {
-      sido: "31",
-      sigugun: "31130",
-      dong: "31130111",
-      codeNm: "화도읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31080",
-      dong: "31080550",
-      codeNm: "보산동"
-    },
-    {
-      sido: "31",
-      sigugun: "31080",
-      dong: "31080560",
-      codeNm: "불현동"
-    },
-    {
-      sido: "31",
-      sigugun: "31080",
-      dong: "31080600",
-      codeNm: "상패동"
-    },
-    {
-      sido: "31",
-      sigugun: "31080",
-      dong: "31080510",
-      codeNm: "생연1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31080",
-      dong: "31080520",
-      codeNm: "생연2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31080",
-      dong: "31080580",
-      codeNm: "소요동"
-    },
-    {
-      sido: "31",
-      sigugun: "31080",
-      dong: "31080610",
-      codeNm: "송내동"
-    },
-    {
-      sido: "31",
-      sigugun: "31080",
-      dong: "31080530",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "31",
-      sigugun: "31050",
-      dong: "31050920",
-      codeNm: "대산동"
-    },
-    {
-      sido: "31",
-      sigugun: "31050",
-      dong: "31050940",
-      codeNm: "범안동"
-    },
-    {
-      sido: "31",
-      sigugun: "31050",
-      dong: "31050880",
-      codeNm: "부천동"
-    },
-    {
-      sido: "31",
-      sigugun: "31050",
-      dong: "31050910",
-      codeNm: "상동"
-    },
-    {
-      sido: "31",
-      sigugun: "31050",
-      dong: "31050950",
-      codeNm: "성곡동"
-    },
-    {
-      sido: "31",
-      sigugun: "31050",
-      dong: "31050930",
-      codeNm: "소사본동"
-    },
-    {
-      sido: "31",
-      sigugun: "31050",
-      dong: "31050900",
-      codeNm: "신중동"
-    },
-    {
-      sido: "31",
-      sigugun: "31050",
-      dong: "31050870",
-      codeNm: "심곡동"
-    },
-    {
-      sido: "31",
-      sigugun: "31050",
-      dong: "31050960",
-      codeNm: "오정동"
-    },
-    {
-      sido: "31",
-      sigugun: "31050",
-      dong: "31050890",
-      codeNm: "중동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023720",
-      codeNm: "구미1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023670",
-      codeNm: "구미동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023710",
-      codeNm: "금곡동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023760",
-      codeNm: "백현동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023510",
-      codeNm: "분당동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023740",
-      codeNm: "삼평동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023580",
-      codeNm: "서현1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023590",
-      codeNm: "서현2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023530",
-      codeNm: "수내1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023540",
-      codeNm: "수내2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023520",
-      codeNm: "수내3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023620",
-      codeNm: "야탑1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023640",
-      codeNm: "야탑2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023630",
-      codeNm: "야탑3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023680",
-      codeNm: "운중동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023600",
-      codeNm: "이매1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023610",
-      codeNm: "이매2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023770",
-      codeNm: "정자1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023550",
-      codeNm: "정자2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023560",
-      codeNm: "정자3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023780",
-      codeNm: "정자동"
-    },
-    {
-      sido: "31",
-      sigugun: "31023",
-      dong: "31023750",
-      codeNm: "판교동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021650",
-      codeNm: "고등동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021600",
-      codeNm: "단대동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021670",
-      codeNm: "복정동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021610",
-      codeNm: "산성동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021580",
-      codeNm: "수진1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021590",
-      codeNm: "수진2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021660",
-      codeNm: "시흥동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021640",
-      codeNm: "신촌동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021510",
-      codeNm: "신흥1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021520",
-      codeNm: "신흥2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021530",
-      codeNm: "신흥3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021620",
-      codeNm: "양지동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021680",
-      codeNm: "위례동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021540",
-      codeNm: "태평1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021550",
-      codeNm: "태평2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021560",
-      codeNm: "태평3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31021",
-      dong: "31021570",
-      codeNm: "태평4동"
-    },
-    {
-      sido: "31",
-      sigugun: "31022",
-      dong: "31022530",
-      codeNm: "금광1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31022",
-      dong: "31022540",
-      codeNm: "금광2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31022",
-      dong: "31022610",
-      codeNm: "도촌동"
-    },
-    {
-      sido: "31",
-      sigugun: "31022",
-      dong: "31022570",
-      codeNm: "상대원1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31022",
-      dong: "31022580",
-      codeNm: "상대원2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31022",
-      dong: "31022590",
-      codeNm: "상대원3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31022",
-      dong: "31022510",
-      codeNm: "성남동"
-    },
-    {
-      sido: "31",
-      sigugun: "31022",
-      dong: "31022550",
-      codeNm: "은행1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31022",
-      dong: "31022560",
-      codeNm: "은행2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31022",
-      dong: "31022620",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "31",
-      sigugun: "31022",
-      dong: "31022600",
-      codeNm: "하대원동"
-    },
-    {
-      sido: "31",
-      sigugun: "31012",
-      dong: "31012610",
-      codeNm: "곡선동"
-    },
-    {
-      sido: "31",
-      sigugun: "31012",
-      dong: "31012570",
-      codeNm: "구운동"
-    },
-    {
-      sido: "31",
-      sigugun: "31012",
-      dong: "31012600",
-      codeNm: "권선1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31012",
-      dong: "31012640",
-      codeNm: "권선2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31012",
-      dong: "31012650",
-      codeNm: "금곡동"
-    },
-    {
-      sido: "31",
-      sigugun: "31012",
-      dong: "31012560",
-      codeNm: "서둔동"
-    },
-    {
-      sido: "31",
-      sigugun: "31012",
-      dong: "31012520",
-      codeNm: "세류1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31012",
-      dong: "31012530",
-      codeNm: "세류2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31012",
-      dong: "31012540",
-      codeNm: "세류3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31012",
-      dong: "31012620",
-      codeNm: "입북동"
-    },
-    {
-      sido: "31",
-      sigugun: "31012",
-      dong: "31012550",
-      codeNm: "평동"
-    },
-    {
-      sido: "31",
-      sigugun: "31012",
-      dong: "31012660",
-      codeNm: "호매실동"
-    },
-    {
-      sido: "31",
-      sigugun: "31014",
-      dong: "31014620",
-      codeNm: "광교1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31014",
-      dong: "31014630",
-      codeNm: "광교2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31014",
-      dong: "31014670",
-      codeNm: "망포1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31014",
-      dong: "31014680",
-      codeNm: "망포2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31014",
-      dong: "31014510",
-      codeNm: "매탄1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31014",
-      dong: "31014520",
-      codeNm: "매탄2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31014",
-      dong: "31014530",
-      codeNm: "매탄3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31014",
-      dong: "31014540",
-      codeNm: "매탄4동"
-    },
-    {
-      sido: "31",
-      sigugun: "31014",
-      dong: "31014640",
-      codeNm: "영통1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31014",
-      dong: "31014650",
-      codeNm: "영통2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31014",
-      dong: "31014660",
-      codeNm: "영통3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31014",
-      dong: "31014600",
-      codeNm: "원천동"
-    },
-    {
-      sido: "31",
-      sigugun: "31011",
-      dong: "31011590",
-      codeNm: "송죽동"
-    },
-    {
-      sido: "31",
-      sigugun: "31011",
-      dong: "31011610",
-      codeNm: "연무동"
-    },
-    {
-      sido: "31",
-      sigugun: "31011",
-      dong: "31011580",
-      codeNm: "영화동"
-    },
-    {
-      sido: "31",
-      sigugun: "31011",
-      dong: "31011550",
-      codeNm: "율천동"
-    },
-    {
-      sido: "31",
-      sigugun: "31011",
-      dong: "31011560",
-      codeNm: "정자1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31011",
-      dong: "31011570",
-      codeNm: "정자2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31011",
-      dong: "31011620",
-      codeNm: "정자3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31011",
-      dong: "31011600",
-      codeNm: "조원1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31011",
-      dong: "31011630",
-      codeNm: "조원2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31011",
-      dong: "31011540",
-      codeNm: "파장동"
-    },
-    {
-      sido: "31",
-      sigugun: "31013",
-      dong: "31013690",
-      codeNm: "고등동"
-    },
-    {
-      sido: "31",
-      sigugun: "31013",
-      dong: "31013670",
-      codeNm: "매교동"
-    },
-    {
-      sido: "31",
-      sigugun: "31013",
-      dong: "31013680",
-      codeNm: "매산동"
-    },
-    {
-      sido: "31",
-      sigugun: "31013",
-      dong: "31013540",
-      codeNm: "우만1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31013",
-      dong: "31013550",
-      codeNm: "우만2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31013",
-      dong: "31013560",
-      codeNm: "인계동"
-    },
-    {
-      sido: "31",
-      sigugun: "31013",
-      dong: "31013530",
-      codeNm: "지동"
-    },
-    {
-      sido: "31",
-      sigugun: "31013",
-      dong: "31013720",
-      codeNm: "행궁동"
-    },
-    {
-      sido: "31",
-      sigugun: "31013",
-      dong: "31013700",
-      codeNm: "화서1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31013",
-      dong: "31013710",
-      codeNm: "화서2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150590",
-      codeNm: "과림동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150680",
-      codeNm: "군자동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150670",
-      codeNm: "능곡동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150510",
-      codeNm: "대야동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150550",
-      codeNm: "매화동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150560",
-      codeNm: "목감동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150740",
-      codeNm: "배곧1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150750",
-      codeNm: "배곧2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150520",
-      codeNm: "신천동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150530",
-      codeNm: "신현동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150700",
-      codeNm: "연성동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150690",
-      codeNm: "월곶동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150540",
-      codeNm: "은행동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150710",
-      codeNm: "장곡동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150650",
-      codeNm: "정왕1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150610",
-      codeNm: "정왕2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150620",
-      codeNm: "정왕3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150720",
-      codeNm: "정왕4동"
-    },
-    {
-      sido: "31",
-      sigugun: "31150",
-      dong: "31150640",
-      codeNm: "정왕본동"
-    },
-    {
-      sido: "31",
-      sigugun: "31092",
-      dong: "31092740",
-      codeNm: "고잔동"
-    },
-    {
-      sido: "31",
-      sigugun: "31092",
-      dong: "31092720",
-      codeNm: "대부동"
-    },
-    {
-      sido: "31",
-      sigugun: "31092",
-      dong: "31092780",
-      codeNm: "백운동"
-    },
-    {
-      sido: "31",
-      sigugun: "31092",
-      dong: "31092680",
-      codeNm: "선부1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31092",
-      dong: "31092690",
-      codeNm: "선부2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31092",
-      dong: "31092700",
-      codeNm: "선부3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31092",
-      dong: "31092770",
-      codeNm: "신길동"
-    },
-    {
-      sido: "31",
-      sigugun: "31092",
-      dong: "31092590",
-      codeNm: "와동"
-    },
-    {
-      sido: "31",
-      sigugun: "31092",
-      dong: "31092760",
-      codeNm: "원곡동"
-    },
-    {
-      sido: "31",
-      sigugun: "31092",
-      dong: "31092750",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "31",
-      sigugun: "31092",
-      dong: "31092660",
-      codeNm: "초지동"
-    },
-    {
-      sido: "31",
-      sigugun: "31092",
-      dong: "31092730",
-      codeNm: "호수동"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      dong: "31091710",
-      codeNm: "반월동"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      dong: "31091540",
-      codeNm: "본오1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      dong: "31091550",
-      codeNm: "본오2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      dong: "31091560",
-      codeNm: "본오3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      dong: "31091570",
-      codeNm: "부곡동"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      dong: "31091760",
-      codeNm: "사동"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      dong: "31091770",
-      codeNm: "사이동"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      dong: "31091620",
-      codeNm: "성포동"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      dong: "31091730",
-      codeNm: "안산동"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      dong: "31091580",
-      codeNm: "월피동"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      dong: "31091740",
-      codeNm: "이동"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      dong: "31091510",
-      codeNm: "일동"
-    },
-    {
-      sido: "31",
-      sigugun: "31091",
-      dong: "31091780",
-      codeNm: "해양동"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220420",
-      codeNm: "고삼면"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220110",
-      codeNm: "공도읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220320",
-      codeNm: "금광면"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220350",
-      codeNm: "대덕면"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220340",
-      codeNm: "미양면"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220310",
-      codeNm: "보개면"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220410",
-      codeNm: "삼죽면"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220330",
-      codeNm: "서운면"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220510",
-      codeNm: "안성1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220520",
-      codeNm: "안성2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220530",
-      codeNm: "안성3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220360",
-      codeNm: "양성면"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220380",
-      codeNm: "원곡면"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220390",
-      codeNm: "일죽면"
-    },
-    {
-      sido: "31",
-      sigugun: "31220",
-      dong: "31220400",
-      codeNm: "죽산면"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042670",
-      codeNm: "갈산동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042560",
-      codeNm: "관양1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042570",
-      codeNm: "관양2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042610",
-      codeNm: "귀인동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042550",
-      codeNm: "달안동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042650",
-      codeNm: "범계동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042580",
-      codeNm: "부림동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042540",
-      codeNm: "부흥동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042510",
-      codeNm: "비산1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042520",
-      codeNm: "비산2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042530",
-      codeNm: "비산3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042660",
-      codeNm: "신촌동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042600",
-      codeNm: "평안동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042590",
-      codeNm: "평촌동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042620",
-      codeNm: "호계1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042630",
-      codeNm: "호계2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31042",
-      dong: "31042640",
-      codeNm: "호계3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041630",
-      codeNm: "박달1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041640",
-      codeNm: "박달2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041600",
-      codeNm: "석수1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041610",
-      codeNm: "석수2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041620",
-      codeNm: "석수3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041510",
-      codeNm: "안양1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041520",
-      codeNm: "안양2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041530",
-      codeNm: "안양3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041540",
-      codeNm: "안양4동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041550",
-      codeNm: "안양5동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041560",
-      codeNm: "안양6동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041570",
-      codeNm: "안양7동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041580",
-      codeNm: "안양8동"
-    },
-    {
-      sido: "31",
-      sigugun: "31041",
-      dong: "31041590",
-      codeNm: "안양9동"
-    },
-    {
-      sido: "31",
-      sigugun: "31260",
-      dong: "31260330",
-      codeNm: "광적면"
-    },
-    {
-      sido: "31",
-      sigugun: "31260",
-      dong: "31260320",
-      codeNm: "남면"
-    },
-    {
-      sido: "31",
-      sigugun: "31260",
-      dong: "31260110",
-      codeNm: "백석읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31260",
-      dong: "31260510",
-      codeNm: "양주1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31260",
-      dong: "31260520",
-      codeNm: "양주2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31260",
-      dong: "31260310",
-      codeNm: "은현면"
-    },
-    {
-      sido: "31",
-      sigugun: "31260",
-      dong: "31260340",
-      codeNm: "장흥면"
-    },
-    {
-      sido: "31",
-      sigugun: "31260",
-      dong: "31260530",
-      codeNm: "회천1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31260",
-      dong: "31260540",
-      codeNm: "회천2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31260",
-      dong: "31260550",
-      codeNm: "회천3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31260",
-      dong: "31260560",
-      codeNm: "회천4동"
-    },
-    {
-      sido: "31",
-      sigugun: "31580",
-      dong: "31580310",
-      codeNm: "강상면"
-    },
-    {
-      sido: "31",
-      sigugun: "31580",
-      dong: "31580320",
-      codeNm: "강하면"
-    },
-    {
-      sido: "31",
-      sigugun: "31580",
-      dong: "31580410",
-      codeNm: "개군면"
-    },
-    {
-      sido: "31",
-      sigugun: "31580",
-      dong: "31580360",
-      codeNm: "단월면"
-    },
-    {
-      sido: "31",
-      sigugun: "31580",
-      dong: "31580350",
-      codeNm: "서종면"
-    },
-    {
-      sido: "31",
-      sigugun: "31580",
-      dong: "31580380",
-      codeNm: "양동면"
-    },
-    {
-      sido: "31",
-      sigugun: "31580",
-      dong: "31580330",
-      codeNm: "양서면"
-    },
-    {
-      sido: "31",
-      sigugun: "31580",
-      dong: "31580110",
-      codeNm: "양평읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31580",
-      dong: "31580340",
-      codeNm: "옥천면"
-    },
-    {
-      sido: "31",
-      sigugun: "31580",
-      dong: "31580400",
-      codeNm: "용문면"
-    },
-    {
-      sido: "31",
-      sigugun: "31580",
-      dong: "31580390",
-      codeNm: "지평면"
-    },
-    {
-      sido: "31",
-      sigugun: "31580",
-      dong: "31580370",
-      codeNm: "청운면"
-    },
-    {
-      sido: "31",
-      sigugun: "31280",
-      dong: "31280110",
-      codeNm: "가남읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31280",
-      dong: "31280380",
-      codeNm: "강천면"
-    },
-    {
-      sido: "31",
-      sigugun: "31280",
-      dong: "31280340",
-      codeNm: "금사면"
-    },
-    {
-      sido: "31",
-      sigugun: "31280",
-      dong: "31280360",
-      codeNm: "대신면"
-    },
-    {
-      sido: "31",
-      sigugun: "31280",
-      dong: "31280370",
-      codeNm: "북내면"
-    },
-    {
-      sido: "31",
-      sigugun: "31280",
-      dong: "31280350",
-      codeNm: "산북면"
-    },
-    {
-      sido: "31",
-      sigugun: "31280",
-      dong: "31280390",
-      codeNm: "세종대왕면"
-    },
-    {
-      sido: "31",
-      sigugun: "31280",
-      dong: "31280510",
-      codeNm: "여흥동"
-    },
-    {
-      sido: "31",
-      sigugun: "31280",
-      dong: "31280530",
-      codeNm: "오학동"
-    },
-    {
-      sido: "31",
-      sigugun: "31280",
-      dong: "31280310",
-      codeNm: "점동면"
-    },
-    {
-      sido: "31",
-      sigugun: "31280",
-      dong: "31280520",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "31",
-      sigugun: "31280",
-      dong: "31280330",
-      codeNm: "흥천면"
-    },
-    {
-      sido: "31",
-      sigugun: "31550",
-      dong: "31550310",
-      codeNm: "군남면"
-    },
-    {
-      sido: "31",
-      sigugun: "31550",
-      dong: "31550340",
-      codeNm: "미산면"
-    },
-    {
-      sido: "31",
-      sigugun: "31550",
-      dong: "31550330",
-      codeNm: "백학면"
-    },
-    {
-      sido: "31",
-      sigugun: "31550",
-      dong: "31550360",
-      codeNm: "신서면"
-    },
-    {
-      sido: "31",
-      sigugun: "31550",
-      dong: "31550110",
-      codeNm: "연천읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31550",
-      dong: "31550350",
-      codeNm: "왕징면"
-    },
-    {
-      sido: "31",
-      sigugun: "31550",
-      dong: "31550380",
-      codeNm: "장남면"
-    },
-    {
-      sido: "31",
-      sigugun: "31550",
-      dong: "31550120",
-      codeNm: "전곡읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31550",
-      dong: "31550370",
-      codeNm: "중면"
-    },
-    {
-      sido: "31",
-      sigugun: "31550",
-      dong: "31550320",
-      codeNm: "청산면"
-    },
-    {
-      sido: "31",
-      sigugun: "31140",
-      dong: "31140530",
-      codeNm: "남촌동"
-    },
-    {
-      sido: "31",
-      sigugun: "31140",
-      dong: "31140520",
-      codeNm: "대원동"
-    },
-    {
-      sido: "31",
-      sigugun: "31140",
-      dong: "31140550",
-      codeNm: "세마동"
-    },
-    {
-      sido: "31",
-      sigugun: "31140",
-      dong: "31140540",
-      codeNm: "신장동"
-    },
-    {
-      sido: "31",
-      sigugun: "31140",
-      dong: "31140510",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "31",
-      sigugun: "31140",
-      dong: "31140560",
-      codeNm: "초평동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192520",
-      codeNm: "구갈동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192560",
-      codeNm: "구성동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192540",
-      codeNm: "기흥동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192670",
-      codeNm: "동백1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192680",
-      codeNm: "동백2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192690",
-      codeNm: "동백3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192570",
-      codeNm: "마북동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192660",
-      codeNm: "보라동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192590",
-      codeNm: "보정동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192650",
-      codeNm: "상갈동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192600",
-      codeNm: "상하동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192550",
-      codeNm: "서농동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192610",
-      codeNm: "신갈동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192630",
-      codeNm: "영덕1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31192",
-      dong: "31192640",
-      codeNm: "영덕2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31193",
-      dong: "31193560",
-      codeNm: "동천동"
-    },
-    {
-      sido: "31",
-      sigugun: "31193",
-      dong: "31193620",
-      codeNm: "상현1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31193",
-      dong: "31193580",
-      codeNm: "상현2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31193",
-      dong: "31193630",
-      codeNm: "상현3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31193",
-      dong: "31193590",
-      codeNm: "성복동"
-    },
-    {
-      sido: "31",
-      sigugun: "31193",
-      dong: "31193530",
-      codeNm: "신봉동"
-    },
-    {
-      sido: "31",
-      sigugun: "31193",
-      dong: "31193600",
-      codeNm: "죽전1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31193",
-      dong: "31193550",
-      codeNm: "죽전2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31193",
-      dong: "31193610",
-      codeNm: "죽전3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31193",
-      dong: "31193510",
-      codeNm: "풍덕천1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31193",
-      dong: "31193520",
-      codeNm: "풍덕천2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31191",
-      dong: "31191140",
-      codeNm: "남사읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31191",
-      dong: "31191540",
-      codeNm: "동부동"
-    },
-    {
-      sido: "31",
-      sigugun: "31191",
-      dong: "31191120",
-      codeNm: "모현읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31191",
-      dong: "31191350",
-      codeNm: "백암면"
-    },
-    {
-      sido: "31",
-      sigugun: "31191",
-      dong: "31191560",
-      codeNm: "삼가동"
-    },
-    {
-      sido: "31",
-      sigugun: "31191",
-      dong: "31191360",
-      codeNm: "양지면"
-    },
-    {
-      sido: "31",
-      sigugun: "31191",
-      dong: "31191550",
-      codeNm: "역북동"
-    },
-    {
-      sido: "31",
-      sigugun: "31191",
-      dong: "31191340",
-      codeNm: "원삼면"
-    },
-    {
-      sido: "31",
-      sigugun: "31191",
-      dong: "31191530",
-      codeNm: "유림동"
-    },
-    {
-      sido: "31",
-      sigugun: "31191",
-      dong: "31191130",
-      codeNm: "이동읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31191",
-      dong: "31191510",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "31",
-      sigugun: "31191",
-      dong: "31191110",
-      codeNm: "포곡읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31170",
-      dong: "31170510",
-      codeNm: "고천동"
-    },
-    {
-      sido: "31",
-      sigugun: "31170",
-      dong: "31170540",
-      codeNm: "내손1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31170",
-      dong: "31170550",
-      codeNm: "내손2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31170",
-      dong: "31170520",
-      codeNm: "부곡동"
-    },
-    {
-      sido: "31",
-      sigugun: "31170",
-      dong: "31170530",
-      codeNm: "오전동"
-    },
-    {
-      sido: "31",
-      sigugun: "31170",
-      dong: "31170560",
-      codeNm: "청계동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030680",
-      codeNm: "가능동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030640",
-      codeNm: "녹양동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030590",
-      codeNm: "송산1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030700",
-      codeNm: "송산2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030710",
-      codeNm: "송산3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030570",
-      codeNm: "신곡1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030580",
-      codeNm: "신곡2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030690",
-      codeNm: "의정부1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030520",
-      codeNm: "의정부2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030600",
-      codeNm: "자금동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030560",
-      codeNm: "장암동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030550",
-      codeNm: "호원1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030650",
-      codeNm: "호원2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31030",
-      dong: "31030670",
-      codeNm: "흥선동"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210530",
-      codeNm: "관고동"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210350",
-      codeNm: "대월면"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210340",
-      codeNm: "마장면"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210360",
-      codeNm: "모가면"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210320",
-      codeNm: "백사면"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210120",
-      codeNm: "부발읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210370",
-      codeNm: "설성면"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210310",
-      codeNm: "신둔면"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210380",
-      codeNm: "율면"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210110",
-      codeNm: "장호원읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210520",
-      codeNm: "중리동"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210540",
-      codeNm: "증포동"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210510",
-      codeNm: "창전동"
-    },
-    {
-      sido: "31",
-      sigugun: "31210",
-      dong: "31210330",
-      codeNm: "호법면"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200350",
-      codeNm: "광탄면"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200550",
-      codeNm: "교하동"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200530",
-      codeNm: "금촌1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200520",
-      codeNm: "금촌2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200540",
-      codeNm: "금촌3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200110",
-      codeNm: "문산읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200130",
-      codeNm: "법원읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200560",
-      codeNm: "운정1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200570",
-      codeNm: "운정2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200580",
-      codeNm: "운정3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200310",
-      codeNm: "월롱면"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200390",
-      codeNm: "장단면"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200370",
-      codeNm: "적성면"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200150",
-      codeNm: "조리읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200320",
-      codeNm: "탄현면"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200120",
-      codeNm: "파주읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31200",
-      dong: "31200360",
-      codeNm: "파평면"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070690",
-      codeNm: "고덕동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070330",
-      codeNm: "고덕면"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070680",
-      codeNm: "동삭동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070670",
-      codeNm: "비전1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070650",
-      codeNm: "비전2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070520",
-      codeNm: "서정동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070320",
-      codeNm: "서탄면"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070640",
-      codeNm: "세교동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070560",
-      codeNm: "송북동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070530",
-      codeNm: "송탄동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070570",
-      codeNm: "신장1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070580",
-      codeNm: "신장2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070590",
-      codeNm: "신평동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070120",
-      codeNm: "안중읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070340",
-      codeNm: "오성면"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070660",
-      codeNm: "용이동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070600",
-      codeNm: "원평동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070510",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070550",
-      codeNm: "지산동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070310",
-      codeNm: "진위면"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070140",
-      codeNm: "청북읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070610",
-      codeNm: "통복동"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070110",
-      codeNm: "팽성읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070130",
-      codeNm: "포승읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31070",
-      dong: "31070370",
-      codeNm: "현덕면"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270330",
-      codeNm: "가산면"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270400",
-      codeNm: "관인면"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270310",
-      codeNm: "군내면"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270320",
-      codeNm: "내촌면"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270520",
-      codeNm: "선단동"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270110",
-      codeNm: "소흘읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270340",
-      codeNm: "신북면"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270390",
-      codeNm: "영북면"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270360",
-      codeNm: "영중면"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270380",
-      codeNm: "이동면"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270370",
-      codeNm: "일동면"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270350",
-      codeNm: "창수면"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270510",
-      codeNm: "포천동"
-    },
-    {
-      sido: "31",
-      sigugun: "31270",
-      dong: "31270410",
-      codeNm: "화현면"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180660",
-      codeNm: "감북동"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180670",
-      codeNm: "감일동"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180540",
-      codeNm: "덕풍1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180550",
-      codeNm: "덕풍2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180560",
-      codeNm: "덕풍3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180620",
-      codeNm: "미사1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180630",
-      codeNm: "미사2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180520",
-      codeNm: "신장1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180530",
-      codeNm: "신장2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180650",
-      codeNm: "위례동"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180510",
-      codeNm: "천현동"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180600",
-      codeNm: "초이동"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180590",
-      codeNm: "춘궁동"
-    },
-    {
-      sido: "31",
-      sigugun: "31180",
-      dong: "31180610",
-      codeNm: "풍산동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240560",
-      codeNm: "기배동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240150",
-      codeNm: "남양읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240610",
-      codeNm: "동탄1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240600",
-      codeNm: "동탄2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240620",
-      codeNm: "동탄3동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240640",
-      codeNm: "동탄4동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240650",
-      codeNm: "동탄5동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240700",
-      codeNm: "동탄6동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240690",
-      codeNm: "동탄7동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240710",
-      codeNm: "동탄8동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240350",
-      codeNm: "마도면"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240310",
-      codeNm: "매송면"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240550",
-      codeNm: "반월동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240530",
-      codeNm: "병점1동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240540",
-      codeNm: "병점2동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240120",
-      codeNm: "봉담읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240330",
-      codeNm: "비봉면"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240670",
-      codeNm: "새솔동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240370",
-      codeNm: "서신면"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240360",
-      codeNm: "송산면"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240420",
-      codeNm: "양감면"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240130",
-      codeNm: "우정읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240390",
-      codeNm: "장안면"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240430",
-      codeNm: "정남면"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240520",
-      codeNm: "진안동"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240380",
-      codeNm: "팔탄면"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240140",
-      codeNm: "향남읍"
-    },
-    {
-      sido: "31",
-      sigugun: "31240",
-      dong: "31240570",
-      codeNm: "화산동"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030620",
-      codeNm: "강남동"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030340",
-      codeNm: "강동면"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030670",
-      codeNm: "경포동"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030550",
-      codeNm: "교1동"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030560",
-      codeNm: "교2동"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030330",
-      codeNm: "구정면"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030610",
-      codeNm: "내곡동"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030360",
-      codeNm: "사천면"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030650",
-      codeNm: "성덕동"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030310",
-      codeNm: "성산면"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030600",
-      codeNm: "송정동"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030370",
-      codeNm: "연곡면"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030350",
-      codeNm: "옥계면"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030540",
-      codeNm: "옥천동"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030320",
-      codeNm: "왕산면"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030110",
-      codeNm: "주문진읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030520",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030590",
-      codeNm: "초당동"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030570",
-      codeNm: "포남1동"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030580",
-      codeNm: "포남2동"
-    },
-    {
-      sido: "32",
-      sigugun: "32030",
-      dong: "32030510",
-      codeNm: "홍제동"
-    },
-    {
-      sido: "32",
-      sigugun: "32600",
-      dong: "32600110",
-      codeNm: "간성읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32600",
-      dong: "32600120",
-      codeNm: "거진읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32600",
-      dong: "32600260",
-      codeNm: "수동면"
-    },
-    {
-      sido: "32",
-      sigugun: "32600",
-      dong: "32600320",
-      codeNm: "죽왕면"
-    },
-    {
-      sido: "32",
-      sigugun: "32600",
-      dong: "32600330",
-      codeNm: "토성면"
-    },
-    {
-      sido: "32",
-      sigugun: "32600",
-      dong: "32600310",
-      codeNm: "현내면"
-    },
-    {
-      sido: "32",
-      sigugun: "32040",
-      dong: "32040550",
-      codeNm: "동호동"
-    },
-    {
-      sido: "32",
-      sigugun: "32040",
-      dong: "32040630",
-      codeNm: "망상동"
-    },
-    {
-      sido: "32",
-      sigugun: "32040",
-      dong: "32040590",
-      codeNm: "묵호동"
-    },
-    {
-      sido: "32",
-      sigugun: "32040",
-      dong: "32040570",
-      codeNm: "발한동"
-    },
-    {
-      sido: "32",
-      sigugun: "32040",
-      dong: "32040540",
-      codeNm: "부곡동"
-    },
-    {
-      sido: "32",
-      sigugun: "32040",
-      dong: "32040530",
-      codeNm: "북삼동"
-    },
-    {
-      sido: "32",
-      sigugun: "32040",
-      dong: "32040600",
-      codeNm: "북평동"
-    },
-    {
-      sido: "32",
-      sigugun: "32040",
-      dong: "32040650",
-      codeNm: "삼화동"
-    },
-    {
-      sido: "32",
-      sigugun: "32040",
-      dong: "32040520",
-      codeNm: "송정동"
-    },
-    {
-      sido: "32",
-      sigugun: "32040",
-      dong: "32040510",
-      codeNm: "천곡동"
-    },
-    {
-      sido: "32",
-      sigugun: "32070",
-      dong: "32070350",
-      codeNm: "가곡면"
-    },
-    {
-      sido: "32",
-      sigugun: "32070",
-      dong: "32070530",
-      codeNm: "교동"
-    },
-    {
-      sido: "32",
-      sigugun: "32070",
-      dong: "32070310",
-      codeNm: "근덕면"
-    },
-    {
-      sido: "32",
-      sigugun: "32070",
-      dong: "32070510",
-      codeNm: "남양동"
-    },
-    {
-      sido: "32",
-      sigugun: "32070",
-      dong: "32070330",
-      codeNm: "노곡면"
-    },
-    {
-      sido: "32",
-      sigugun: "32070",
-      dong: "32070110",
-      codeNm: "도계읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32070",
-      dong: "32070340",
-      codeNm: "미로면"
-    },
-    {
-      sido: "32",
-      sigugun: "32070",
-      dong: "32070520",
-      codeNm: "성내동"
-    },
-    {
-      sido: "32",
-      sigugun: "32070",
-      dong: "32070360",
-      codeNm: "신기면"
-    },
-    {
-      sido: "32",
-      sigugun: "32070",
-      dong: "32070120",
-      codeNm: "원덕읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32070",
-      dong: "32070540",
-      codeNm: "정라동"
-    },
-    {
-      sido: "32",
-      sigugun: "32070",
-      dong: "32070320",
-      codeNm: "하장면"
-    },
-    {
-      sido: "32",
-      sigugun: "32060",
-      dong: "32060560",
-      codeNm: "교동"
-    },
-    {
-      sido: "32",
-      sigugun: "32060",
-      dong: "32060540",
-      codeNm: "금호동"
-    },
-    {
-      sido: "32",
-      sigugun: "32060",
-      dong: "32060570",
-      codeNm: "노학동"
-    },
-    {
-      sido: "32",
-      sigugun: "32060",
-      dong: "32060600",
-      codeNm: "대포동"
-    },
-    {
-      sido: "32",
-      sigugun: "32060",
-      dong: "32060520",
-      codeNm: "동명동"
-    },
-    {
-      sido: "32",
-      sigugun: "32060",
-      dong: "32060510",
-      codeNm: "영랑동"
-    },
-    {
-      sido: "32",
-      sigugun: "32060",
-      dong: "32060580",
-      codeNm: "조양동"
-    },
-    {
-      sido: "32",
-      sigugun: "32060",
-      dong: "32060590",
-      codeNm: "청호동"
-    },
-    {
-      sido: "32",
-      sigugun: "32580",
-      dong: "32580350",
-      codeNm: "국토정중앙면"
-    },
-    {
-      sido: "32",
-      sigugun: "32580",
-      dong: "32580320",
-      codeNm: "동면"
-    },
-    {
-      sido: "32",
-      sigugun: "32580",
-      dong: "32580330",
-      codeNm: "방산면"
-    },
-    {
-      sido: "32",
-      sigugun: "32580",
-      dong: "32580110",
-      codeNm: "양구읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32580",
-      dong: "32580340",
-      codeNm: "해안면"
-    },
-    {
-      sido: "32",
-      sigugun: "32610",
-      dong: "32610350",
-      codeNm: "강현면"
-    },
-    {
-      sido: "32",
-      sigugun: "32610",
-      dong: "32610310",
-      codeNm: "서면"
-    },
-    {
-      sido: "32",
-      sigugun: "32610",
-      dong: "32610320",
-      codeNm: "손양면"
-    },
-    {
-      sido: "32",
-      sigugun: "32610",
-      dong: "32610110",
-      codeNm: "양양읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32610",
-      dong: "32610340",
-      codeNm: "현남면"
-    },
-    {
-      sido: "32",
-      sigugun: "32610",
-      dong: "32610330",
-      codeNm: "현북면"
-    },
-    {
-      sido: "32",
-      sigugun: "32530",
-      dong: "32530380",
-      codeNm: "김삿갓면"
-    },
-    {
-      sido: "32",
-      sigugun: "32530",
-      dong: "32530340",
-      codeNm: "남면"
-    },
-    {
-      sido: "32",
-      sigugun: "32530",
-      dong: "32530400",
-      codeNm: "무릉도원면"
-    },
-    {
-      sido: "32",
-      sigugun: "32530",
-      dong: "32530330",
-      codeNm: "북면"
-    },
-    {
-      sido: "32",
-      sigugun: "32530",
-      dong: "32530410",
-      codeNm: "산솔면"
-    },
-    {
-      sido: "32",
-      sigugun: "32530",
-      dong: "32530120",
-      codeNm: "상동읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32530",
-      dong: "32530110",
-      codeNm: "영월읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32530",
-      dong: "32530360",
-      codeNm: "주천면"
-    },
-    {
-      sido: "32",
-      sigugun: "32530",
-      dong: "32530390",
-      codeNm: "한반도면"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020530",
-      codeNm: "개운동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020350",
-      codeNm: "귀래면"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020600",
-      codeNm: "단계동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020560",
-      codeNm: "단구동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020540",
-      codeNm: "명륜1동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020550",
-      codeNm: "명륜2동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020670",
-      codeNm: "무실동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020110",
-      codeNm: "문막읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020680",
-      codeNm: "반곡관설동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020640",
-      codeNm: "봉산동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020340",
-      codeNm: "부론면"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020310",
-      codeNm: "소초면"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020380",
-      codeNm: "신림면"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020610",
-      codeNm: "우산동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020520",
-      codeNm: "원인동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020570",
-      codeNm: "일산동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020510",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020330",
-      codeNm: "지정면"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020620",
-      codeNm: "태장1동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020630",
-      codeNm: "태장2동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020370",
-      codeNm: "판부면"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020580",
-      codeNm: "학성동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020660",
-      codeNm: "행구동"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020320",
-      codeNm: "호저면"
-    },
-    {
-      sido: "32",
-      sigugun: "32020",
-      dong: "32020360",
-      codeNm: "흥업면"
-    },
-    {
-      sido: "32",
-      sigugun: "32590",
-      dong: "32590330",
-      codeNm: "기린면"
-    },
-    {
-      sido: "32",
-      sigugun: "32590",
-      dong: "32590310",
-      codeNm: "남면"
-    },
-    {
-      sido: "32",
-      sigugun: "32590",
-      dong: "32590320",
-      codeNm: "북면"
-    },
-    {
-      sido: "32",
-      sigugun: "32590",
-      dong: "32590350",
-      codeNm: "상남면"
-    },
-    {
-      sido: "32",
-      sigugun: "32590",
-      dong: "32590340",
-      codeNm: "서화면"
-    },
-    {
-      sido: "32",
-      sigugun: "32590",
-      dong: "32590110",
-      codeNm: "인제읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32550",
-      dong: "32550120",
-      codeNm: "고한읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32550",
-      dong: "32550320",
-      codeNm: "남면"
-    },
-    {
-      sido: "32",
-      sigugun: "32550",
-      dong: "32550340",
-      codeNm: "북평면"
-    },
-    {
-      sido: "32",
-      sigugun: "32550",
-      dong: "32550130",
-      codeNm: "사북읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32550",
-      dong: "32550140",
-      codeNm: "신동읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32550",
-      dong: "32550370",
-      codeNm: "여량면"
-    },
-    {
-      sido: "32",
-      sigugun: "32550",
-      dong: "32550350",
-      codeNm: "임계면"
-    },
-    {
-      sido: "32",
-      sigugun: "32550",
-      dong: "32550110",
-      codeNm: "정선읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32550",
-      dong: "32550360",
-      codeNm: "화암면"
-    },
-    {
-      sido: "32",
-      sigugun: "32560",
-      dong: "32560130",
-      codeNm: "갈말읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32560",
-      dong: "32560320",
-      codeNm: "근남면"
-    },
-    {
-      sido: "32",
-      sigugun: "32560",
-      dong: "32560260",
-      codeNm: "근동면"
-    },
-    {
-      sido: "32",
-      sigugun: "32560",
-      dong: "32560210",
-      codeNm: "근북면"
-    },
-    {
-      sido: "32",
-      sigugun: "32560",
-      dong: "32560120",
-      codeNm: "김화읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32560",
-      dong: "32560140",
-      codeNm: "동송읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32560",
-      dong: "32560310",
-      codeNm: "서면"
-    },
-    {
-      sido: "32",
-      sigugun: "32560",
-      dong: "32560280",
-      codeNm: "원남면"
-    },
-    {
-      sido: "32",
-      sigugun: "32560",
-      dong: "32560270",
-      codeNm: "원동면"
-    },
-    {
-      sido: "32",
-      sigugun: "32560",
-      dong: "32560290",
-      codeNm: "임남면"
-    },
-    {
-      sido: "32",
-      sigugun: "32560",
-      dong: "32560110",
-      codeNm: "철원읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010680",
-      codeNm: "강남동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010520",
-      codeNm: "교동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010570",
-      codeNm: "근화동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010350",
-      codeNm: "남면"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010360",
-      codeNm: "남산면"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010340",
-      codeNm: "동내면"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010310",
-      codeNm: "동면"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010320",
-      codeNm: "동산면"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010390",
-      codeNm: "북산면"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010380",
-      codeNm: "사북면"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010370",
-      codeNm: "서면"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010660",
-      codeNm: "석사동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010580",
-      codeNm: "소양동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010330",
-      codeNm: "신동면"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010110",
-      codeNm: "신북읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010710",
-      codeNm: "신사우동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010540",
-      codeNm: "약사명동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010530",
-      codeNm: "조운동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010670",
-      codeNm: "퇴계동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010630",
-      codeNm: "효자1동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010640",
-      codeNm: "효자2동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010650",
-      codeNm: "효자3동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010600",
-      codeNm: "후평1동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010610",
-      codeNm: "후평2동"
-    },
-    {
-      sido: "32",
-      sigugun: "32010",
-      dong: "32010620",
-      codeNm: "후평3동"
-    },
-    {
-      sido: "32",
-      sigugun: "32050",
-      dong: "32050550",
-      codeNm: "구문소동"
-    },
-    {
-      sido: "32",
-      sigugun: "32050",
-      dong: "32050620",
-      codeNm: "문곡소도동"
-    },
-    {
-      sido: "32",
-      sigugun: "32050",
-      dong: "32050530",
-      codeNm: "삼수동"
-    },
-    {
-      sido: "32",
-      sigugun: "32050",
-      dong: "32050540",
-      codeNm: "상장동"
-    },
-    {
-      sido: "32",
-      sigugun: "32050",
-      dong: "32050560",
-      codeNm: "장성동"
-    },
-    {
-      sido: "32",
-      sigugun: "32050",
-      dong: "32050580",
-      codeNm: "철암동"
-    },
-    {
-      sido: "32",
-      sigugun: "32050",
-      dong: "32050520",
-      codeNm: "황연동"
-    },
-    {
-      sido: "32",
-      sigugun: "32050",
-      dong: "32050510",
-      codeNm: "황지동"
-    },
-    {
-      sido: "32",
-      sigugun: "32540",
-      dong: "32540370",
-      codeNm: "대관령면"
-    },
-    {
-      sido: "32",
-      sigugun: "32540",
-      dong: "32540330",
-      codeNm: "대화면"
-    },
-    {
-      sido: "32",
-      sigugun: "32540",
-      dong: "32540310",
-      codeNm: "미탄면"
-    },
-    {
-      sido: "32",
-      sigugun: "32540",
-      dong: "32540320",
-      codeNm: "방림면"
-    },
-    {
-      sido: "32",
-      sigugun: "32540",
-      dong: "32540340",
-      codeNm: "봉평면"
-    },
-    {
-      sido: "32",
-      sigugun: "32540",
-      dong: "32540350",
-      codeNm: "용평면"
-    },
-    {
-      sido: "32",
-      sigugun: "32540",
-      dong: "32540360",
-      codeNm: "진부면"
-    },
-    {
-      sido: "32",
-      sigugun: "32540",
-      dong: "32540110",
-      codeNm: "평창읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32510",
-      dong: "32510360",
-      codeNm: "남면"
-    },
-    {
-      sido: "32",
-      sigugun: "32510",
-      dong: "32510390",
-      codeNm: "내면"
-    },
-    {
-      sido: "32",
-      sigugun: "32510",
-      dong: "32510330",
-      codeNm: "내촌면"
-    },
-    {
-      sido: "32",
-      sigugun: "32510",
-      dong: "32510320",
-      codeNm: "두촌면"
-    },
-    {
-      sido: "32",
-      sigugun: "32510",
-      dong: "32510380",
-      codeNm: "북방면"
-    },
-    {
-      sido: "32",
-      sigugun: "32510",
-      dong: "32510370",
-      codeNm: "서면"
-    },
-    {
-      sido: "32",
-      sigugun: "32510",
-      dong: "32510340",
-      codeNm: "서석면"
-    },
-    {
-      sido: "32",
-      sigugun: "32510",
-      dong: "32510400",
-      codeNm: "영귀미면"
-    },
-    {
-      sido: "32",
-      sigugun: "32510",
-      dong: "32510110",
-      codeNm: "홍천읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32510",
-      dong: "32510310",
-      codeNm: "화촌면"
-    },
-    {
-      sido: "32",
-      sigugun: "32570",
-      dong: "32570310",
-      codeNm: "간동면"
-    },
-    {
-      sido: "32",
-      sigugun: "32570",
-      dong: "32570340",
-      codeNm: "사내면"
-    },
-    {
-      sido: "32",
-      sigugun: "32570",
-      dong: "32570330",
-      codeNm: "상서면"
-    },
-    {
-      sido: "32",
-      sigugun: "32570",
-      dong: "32570320",
-      codeNm: "하남면"
-    },
-    {
-      sido: "32",
-      sigugun: "32570",
-      dong: "32570110",
-      codeNm: "화천읍"
-    },
-    {
-      sido: "32",
-      sigugun: "32520",
-      dong: "32520340",
-      codeNm: "갑천면"
-    },
-    {
-      sido: "32",
-      sigugun: "32520",
-      dong: "32520380",
-      codeNm: "강림면"
-    },
-    {
-      sido: "32",
-      sigugun: "32520",
-      dong: "32520360",
-      codeNm: "공근면"
-    },
-    {
-      sido: "32",
-      sigugun: "32520",
-      dong: "32520330",
-      codeNm: "둔내면"
-    },
-    {
-      sido: "32",
-      sigugun: "32520",
-      dong: "32520370",
-      codeNm: "서원면"
-    },
-    {
-      sido: "32",
-      sigugun: "32520",
-      dong: "32520320",
-      codeNm: "안흥면"
-    },
-    {
-      sido: "32",
-      sigugun: "32520",
-      dong: "32520310",
-      codeNm: "우천면"
-    },
-    {
-      sido: "32",
-      sigugun: "32520",
-      dong: "32520350",
-      codeNm: "청일면"
-    },
-    {
-      sido: "32",
-      sigugun: "32520",
-      dong: "32520110",
-      codeNm: "횡성읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33560",
-      dong: "33560310",
-      codeNm: "감물면"
-    },
-    {
-      sido: "33",
-      sigugun: "33560",
-      dong: "33560110",
-      codeNm: "괴산읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33560",
-      dong: "33560350",
-      codeNm: "문광면"
-    },
-    {
-      sido: "33",
-      sigugun: "33560",
-      dong: "33560400",
-      codeNm: "불정면"
-    },
-    {
-      sido: "33",
-      sigugun: "33560",
-      dong: "33560380",
-      codeNm: "사리면"
-    },
-    {
-      sido: "33",
-      sigugun: "33560",
-      dong: "33560390",
-      codeNm: "소수면"
-    },
-    {
-      sido: "33",
-      sigugun: "33560",
-      dong: "33560330",
-      codeNm: "연풍면"
-    },
-    {
-      sido: "33",
-      sigugun: "33560",
-      dong: "33560320",
-      codeNm: "장연면"
-    },
-    {
-      sido: "33",
-      sigugun: "33560",
-      dong: "33560370",
-      codeNm: "청안면"
-    },
-    {
-      sido: "33",
-      sigugun: "33560",
-      dong: "33560360",
-      codeNm: "청천면"
-    },
-    {
-      sido: "33",
-      sigugun: "33560",
-      dong: "33560340",
-      codeNm: "칠성면"
-    },
-    {
-      sido: "33",
-      sigugun: "33580",
-      dong: "33580330",
-      codeNm: "가곡면"
-    },
-    {
-      sido: "33",
-      sigugun: "33580",
-      dong: "33580310",
-      codeNm: "단성면"
-    },
-    {
-      sido: "33",
-      sigugun: "33580",
-      dong: "33580110",
-      codeNm: "단양읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33580",
-      dong: "33580320",
-      codeNm: "대강면"
-    },
-    {
-      sido: "33",
-      sigugun: "33580",
-      dong: "33580120",
-      codeNm: "매포읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33580",
-      dong: "33580350",
-      codeNm: "어상천면"
-    },
-    {
-      sido: "33",
-      sigugun: "33580",
-      dong: "33580340",
-      codeNm: "영춘면"
-    },
-    {
-      sido: "33",
-      sigugun: "33580",
-      dong: "33580360",
-      codeNm: "적성면"
-    },
-    {
-      sido: "33",
-      sigugun: "33520",
-      dong: "33520390",
-      codeNm: "내북면"
-    },
-    {
-      sido: "33",
-      sigugun: "33520",
-      dong: "33520330",
-      codeNm: "마로면"
-    },
-    {
-      sido: "33",
-      sigugun: "33520",
-      dong: "33520110",
-      codeNm: "보은읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33520",
-      dong: "33520400",
-      codeNm: "산외면"
-    },
-    {
-      sido: "33",
-      sigugun: "33520",
-      dong: "33520350",
-      codeNm: "삼승면"
-    },
-    {
-      sido: "33",
-      sigugun: "33520",
-      dong: "33520310",
-      codeNm: "속리산면"
-    },
-    {
-      sido: "33",
-      sigugun: "33520",
-      dong: "33520360",
-      codeNm: "수한면"
-    },
-    {
-      sido: "33",
-      sigugun: "33520",
-      dong: "33520320",
-      codeNm: "장안면"
-    },
-    {
-      sido: "33",
-      sigugun: "33520",
-      dong: "33520340",
-      codeNm: "탄부면"
-    },
-    {
-      sido: "33",
-      sigugun: "33520",
-      dong: "33520370",
-      codeNm: "회남면"
-    },
-    {
-      sido: "33",
-      sigugun: "33520",
-      dong: "33520380",
-      codeNm: "회인면"
-    },
-    {
-      sido: "33",
-      sigugun: "33540",
-      dong: "33540340",
-      codeNm: "매곡면"
-    },
-    {
-      sido: "33",
-      sigugun: "33540",
-      dong: "33540350",
-      codeNm: "상촌면"
-    },
-    {
-      sido: "33",
-      sigugun: "33540",
-      dong: "33540400",
-      codeNm: "심천면"
-    },
-    {
-      sido: "33",
-      sigugun: "33540",
-      dong: "33540360",
-      codeNm: "양강면"
-    },
-    {
-      sido: "33",
-      sigugun: "33540",
-      dong: "33540390",
-      codeNm: "양산면"
-    },
-    {
-      sido: "33",
-      sigugun: "33540",
-      dong: "33540110",
-      codeNm: "영동읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33540",
-      dong: "33540310",
-      codeNm: "용산면"
-    },
-    {
-      sido: "33",
-      sigugun: "33540",
-      dong: "33540370",
-      codeNm: "용화면"
-    },
-    {
-      sido: "33",
-      sigugun: "33540",
-      dong: "33540330",
-      codeNm: "추풍령면"
-    },
-    {
-      sido: "33",
-      sigugun: "33540",
-      dong: "33540380",
-      codeNm: "학산면"
-    },
-    {
-      sido: "33",
-      sigugun: "33540",
-      dong: "33540320",
-      codeNm: "황간면"
-    },
-    {
-      sido: "33",
-      sigugun: "33530",
-      dong: "33530380",
-      codeNm: "군북면"
-    },
-    {
-      sido: "33",
-      sigugun: "33530",
-      dong: "33530370",
-      codeNm: "군서면"
-    },
-    {
-      sido: "33",
-      sigugun: "33530",
-      dong: "33530310",
-      codeNm: "동이면"
-    },
-    {
-      sido: "33",
-      sigugun: "33530",
-      dong: "33530320",
-      codeNm: "안남면"
-    },
-    {
-      sido: "33",
-      sigugun: "33530",
-      dong: "33530330",
-      codeNm: "안내면"
-    },
-    {
-      sido: "33",
-      sigugun: "33530",
-      dong: "33530110",
-      codeNm: "옥천읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33530",
-      dong: "33530360",
-      codeNm: "이원면"
-    },
-    {
-      sido: "33",
-      sigugun: "33530",
-      dong: "33530350",
-      codeNm: "청산면"
-    },
-    {
-      sido: "33",
-      sigugun: "33530",
-      dong: "33530340",
-      codeNm: "청성면"
-    },
-    {
-      sido: "33",
-      sigugun: "33570",
-      dong: "33570370",
-      codeNm: "감곡면"
-    },
-    {
-      sido: "33",
-      sigugun: "33570",
-      dong: "33570120",
-      codeNm: "금왕읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33570",
-      dong: "33570340",
-      codeNm: "대소면"
-    },
-    {
-      sido: "33",
-      sigugun: "33570",
-      dong: "33570330",
-      codeNm: "맹동면"
-    },
-    {
-      sido: "33",
-      sigugun: "33570",
-      dong: "33570350",
-      codeNm: "삼성면"
-    },
-    {
-      sido: "33",
-      sigugun: "33570",
-      dong: "33570360",
-      codeNm: "생극면"
-    },
-    {
-      sido: "33",
-      sigugun: "33570",
-      dong: "33570310",
-      codeNm: "소이면"
-    },
-    {
-      sido: "33",
-      sigugun: "33570",
-      dong: "33570320",
-      codeNm: "원남면"
-    },
-    {
-      sido: "33",
-      sigugun: "33570",
-      dong: "33570110",
-      codeNm: "음성읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030510",
-      codeNm: "교동"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030310",
-      codeNm: "금성면"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030700",
-      codeNm: "남현동"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030340",
-      codeNm: "덕산면"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030360",
-      codeNm: "백운면"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030110",
-      codeNm: "봉양읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030370",
-      codeNm: "송학면"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030330",
-      codeNm: "수산면"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030720",
-      codeNm: "신백동"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030710",
-      codeNm: "영서동"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030560",
-      codeNm: "용두동"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030730",
-      codeNm: "의림지동"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030740",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030590",
-      codeNm: "청전동"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030320",
-      codeNm: "청풍면"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030350",
-      codeNm: "한수면"
-    },
-    {
-      sido: "33",
-      sigugun: "33030",
-      dong: "33030600",
-      codeNm: "화산동"
-    },
-    {
-      sido: "33",
-      sigugun: "33590",
-      dong: "33590310",
-      codeNm: "도안면"
-    },
-    {
-      sido: "33",
-      sigugun: "33590",
-      dong: "33590140",
-      codeNm: "증평읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33550",
-      dong: "33550360",
-      codeNm: "광혜원면"
-    },
-    {
-      sido: "33",
-      sigugun: "33550",
-      dong: "33550120",
-      codeNm: "덕산읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33550",
-      dong: "33550330",
-      codeNm: "문백면"
-    },
-    {
-      sido: "33",
-      sigugun: "33550",
-      dong: "33550340",
-      codeNm: "백곡면"
-    },
-    {
-      sido: "33",
-      sigugun: "33550",
-      dong: "33550350",
-      codeNm: "이월면"
-    },
-    {
-      sido: "33",
-      sigugun: "33550",
-      dong: "33550110",
-      codeNm: "진천읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33550",
-      dong: "33550320",
-      codeNm: "초평면"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      dong: "33041330",
-      codeNm: "가덕면"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      dong: "33041550",
-      codeNm: "금천동"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      dong: "33041340",
-      codeNm: "남일면"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      dong: "33041310",
-      codeNm: "낭성면"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      dong: "33041350",
-      codeNm: "문의면"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      dong: "33041320",
-      codeNm: "미원면"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      dong: "33041520",
-      codeNm: "성안동"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      dong: "33041540",
-      codeNm: "영운동"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      dong: "33041560",
-      codeNm: "용담·명암·산성동"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      dong: "33041570",
-      codeNm: "용암1동"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      dong: "33041580",
-      codeNm: "용암2동"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      dong: "33041510",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "33",
-      sigugun: "33041",
-      dong: "33041530",
-      codeNm: "탑·대성동"
-    },
-    {
-      sido: "33",
-      sigugun: "33042",
-      dong: "33042310",
-      codeNm: "남이면"
-    },
-    {
-      sido: "33",
-      sigugun: "33042",
-      dong: "33042540",
-      codeNm: "모충동"
-    },
-    {
-      sido: "33",
-      sigugun: "33042",
-      dong: "33042560",
-      codeNm: "분평동"
-    },
-    {
-      sido: "33",
-      sigugun: "33042",
-      dong: "33042510",
-      codeNm: "사직1동"
-    },
-    {
-      sido: "33",
-      sigugun: "33042",
-      dong: "33042520",
-      codeNm: "사직2동"
-    },
-    {
-      sido: "33",
-      sigugun: "33042",
-      dong: "33042530",
-      codeNm: "사창동"
-    },
-    {
-      sido: "33",
-      sigugun: "33042",
-      dong: "33042550",
-      codeNm: "산남동"
-    },
-    {
-      sido: "33",
-      sigugun: "33042",
-      dong: "33042590",
-      codeNm: "성화·개신·죽림동"
-    },
-    {
-      sido: "33",
-      sigugun: "33042",
-      dong: "33042570",
-      codeNm: "수곡1동"
-    },
-    {
-      sido: "33",
-      sigugun: "33042",
-      dong: "33042580",
-      codeNm: "수곡2동"
-    },
-    {
-      sido: "33",
-      sigugun: "33042",
-      dong: "33042320",
-      codeNm: "현도면"
-    },
-    {
-      sido: "33",
-      sigugun: "33044",
-      dong: "33044530",
-      codeNm: "내덕1동"
-    },
-    {
-      sido: "33",
-      sigugun: "33044",
-      dong: "33044540",
-      codeNm: "내덕2동"
-    },
-    {
-      sido: "33",
-      sigugun: "33044",
-      dong: "33044110",
-      codeNm: "내수읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33044",
-      dong: "33044310",
-      codeNm: "북이면"
-    },
-    {
-      sido: "33",
-      sigugun: "33044",
-      dong: "33044510",
-      codeNm: "오근장동"
-    },
-    {
-      sido: "33",
-      sigugun: "33044",
-      dong: "33044120",
-      codeNm: "오창읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33044",
-      dong: "33044520",
-      codeNm: "우암동"
-    },
-    {
-      sido: "33",
-      sigugun: "33044",
-      dong: "33044550",
-      codeNm: "율량·사천동"
-    },
-    {
-      sido: "33",
-      sigugun: "33043",
-      dong: "33043540",
-      codeNm: "가경동"
-    },
-    {
-      sido: "33",
-      sigugun: "33043",
-      dong: "33043310",
-      codeNm: "강내면"
-    },
-    {
-      sido: "33",
-      sigugun: "33043",
-      dong: "33043570",
-      codeNm: "강서1동"
-    },
-    {
-      sido: "33",
-      sigugun: "33043",
-      dong: "33043580",
-      codeNm: "강서2동"
-    },
-    {
-      sido: "33",
-      sigugun: "33043",
-      dong: "33043520",
-      codeNm: "복대1동"
-    },
-    {
-      sido: "33",
-      sigugun: "33043",
-      dong: "33043530",
-      codeNm: "복대2동"
-    },
-    {
-      sido: "33",
-      sigugun: "33043",
-      dong: "33043550",
-      codeNm: "봉명1동"
-    },
-    {
-      sido: "33",
-      sigugun: "33043",
-      dong: "33043560",
-      codeNm: "봉명2·송정동"
-    },
-    {
-      sido: "33",
-      sigugun: "33043",
-      dong: "33043110",
-      codeNm: "오송읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33043",
-      dong: "33043320",
-      codeNm: "옥산면"
-    },
-    {
-      sido: "33",
-      sigugun: "33043",
-      dong: "33043510",
-      codeNm: "운천·신봉동"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020540",
-      codeNm: "교현2동"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020530",
-      codeNm: "교현·안림동"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020380",
-      codeNm: "금가면"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020350",
-      codeNm: "노은면"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020600",
-      codeNm: "달천동"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020430",
-      codeNm: "대소원면"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020390",
-      codeNm: "동량면"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020640",
-      codeNm: "목행·용탄동"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020570",
-      codeNm: "문화동"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020610",
-      codeNm: "봉방동"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020400",
-      codeNm: "산척면"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020310",
-      codeNm: "살미면"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020510",
-      codeNm: "성내·충인동"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020420",
-      codeNm: "소태면"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020320",
-      codeNm: "수안보면"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020340",
-      codeNm: "신니면"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020360",
-      codeNm: "앙성면"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020410",
-      codeNm: "엄정면"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020630",
-      codeNm: "연수동"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020550",
-      codeNm: "용산동"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020110",
-      codeNm: "주덕읍"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020440",
-      codeNm: "중앙탑면"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020560",
-      codeNm: "지현동"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020620",
-      codeNm: "칠금·금릉동"
-    },
-    {
-      sido: "33",
-      sigugun: "33020",
-      dong: "33020580",
-      codeNm: "호암·직동"
-    },
-    {
-      sido: "34",
-      sigugun: "34070",
-      dong: "34070510",
-      codeNm: "금암동"
-    },
-    {
-      sido: "34",
-      sigugun: "34070",
-      dong: "34070310",
-      codeNm: "두마면"
-    },
-    {
-      sido: "34",
-      sigugun: "34070",
-      dong: "34070340",
-      codeNm: "신도안면"
-    },
-    {
-      sido: "34",
-      sigugun: "34070",
-      dong: "34070330",
-      codeNm: "엄사면"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020330",
-      codeNm: "계룡면"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020550",
-      codeNm: "금학동"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020340",
-      codeNm: "반포면"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020390",
-      codeNm: "사곡면"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020570",
-      codeNm: "신관동"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020400",
-      codeNm: "신풍면"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020560",
-      codeNm: "옥룡동"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020380",
-      codeNm: "우성면"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020580",
-      codeNm: "웅진동"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020590",
-      codeNm: "월송동"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020110",
-      codeNm: "유구읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020360",
-      codeNm: "의당면"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020310",
-      codeNm: "이인면"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020370",
-      codeNm: "정안면"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020510",
-      codeNm: "중학동"
-    },
-    {
-      sido: "34",
-      sigugun: "34020",
-      dong: "34020320",
-      codeNm: "탄천면"
-    },
-    {
-      sido: "34",
-      sigugun: "34510",
-      dong: "34510340",
-      codeNm: "군북면"
-    },
-    {
-      sido: "34",
-      sigugun: "34510",
-      dong: "34510110",
-      codeNm: "금산읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34510",
-      dong: "34510310",
-      codeNm: "금성면"
-    },
-    {
-      sido: "34",
-      sigugun: "34510",
-      dong: "34510360",
-      codeNm: "남이면"
-    },
-    {
-      sido: "34",
-      sigugun: "34510",
-      dong: "34510350",
-      codeNm: "남일면"
-    },
-    {
-      sido: "34",
-      sigugun: "34510",
-      dong: "34510380",
-      codeNm: "복수면"
-    },
-    {
-      sido: "34",
-      sigugun: "34510",
-      dong: "34510330",
-      codeNm: "부리면"
-    },
-    {
-      sido: "34",
-      sigugun: "34510",
-      dong: "34510320",
-      codeNm: "제원면"
-    },
-    {
-      sido: "34",
-      sigugun: "34510",
-      dong: "34510370",
-      codeNm: "진산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34510",
-      dong: "34510390",
-      codeNm: "추부면"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060390",
-      codeNm: "가야곡면"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060110",
-      codeNm: "강경읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060320",
-      codeNm: "광석면"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060330",
-      codeNm: "노성면"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060370",
-      codeNm: "벌곡면"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060350",
-      codeNm: "부적면"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060520",
-      codeNm: "부창동"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060340",
-      codeNm: "상월면"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060310",
-      codeNm: "성동면"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060380",
-      codeNm: "양촌면"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060120",
-      codeNm: "연무읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060360",
-      codeNm: "연산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060400",
-      codeNm: "은진면"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060410",
-      codeNm: "채운면"
-    },
-    {
-      sido: "34",
-      sigugun: "34060",
-      dong: "34060510",
-      codeNm: "취암동"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080310",
-      codeNm: "고대면"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080510",
-      codeNm: "당진1동"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080520",
-      codeNm: "당진2동"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080530",
-      codeNm: "당진3동"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080330",
-      codeNm: "대호지면"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080350",
-      codeNm: "면천면"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080320",
-      codeNm: "석문면"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080390",
-      codeNm: "송산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080120",
-      codeNm: "송악읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080360",
-      codeNm: "순성면"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080380",
-      codeNm: "신평면"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080370",
-      codeNm: "우강면"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080340",
-      codeNm: "정미면"
-    },
-    {
-      sido: "34",
-      sigugun: "34080",
-      dong: "34080110",
-      codeNm: "합덕읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030370",
-      codeNm: "남포면"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030510",
-      codeNm: "대천1동"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030520",
-      codeNm: "대천2동"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030530",
-      codeNm: "대천3동"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030540",
-      codeNm: "대천4동"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030560",
-      codeNm: "대천5동"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030390",
-      codeNm: "미산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030400",
-      codeNm: "성주면"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030330",
-      codeNm: "오천면"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030110",
-      codeNm: "웅천읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030320",
-      codeNm: "주교면"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030380",
-      codeNm: "주산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030310",
-      codeNm: "주포면"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030340",
-      codeNm: "천북면"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030360",
-      codeNm: "청라면"
-    },
-    {
-      sido: "34",
-      sigugun: "34030",
-      dong: "34030350",
-      codeNm: "청소면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530350",
-      codeNm: "구룡면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530310",
-      codeNm: "규암면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530380",
-      codeNm: "남면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530340",
-      codeNm: "내산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530110",
-      codeNm: "부여읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530440",
-      codeNm: "석성면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530430",
-      codeNm: "세도면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530400",
-      codeNm: "양화면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530370",
-      codeNm: "옥산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530330",
-      codeNm: "외산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530320",
-      codeNm: "은산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530410",
-      codeNm: "임천면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530420",
-      codeNm: "장암면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530450",
-      codeNm: "초촌면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530390",
-      codeNm: "충화면"
-    },
-    {
-      sido: "34",
-      sigugun: "34530",
-      dong: "34530360",
-      codeNm: "홍산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050390",
-      codeNm: "고북면"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050110",
-      codeNm: "대산읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050520",
-      codeNm: "동문1동"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050530",
-      codeNm: "동문2동"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050320",
-      codeNm: "부석면"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050510",
-      codeNm: "부춘동"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050550",
-      codeNm: "석남동"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050350",
-      codeNm: "성연면"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050540",
-      codeNm: "수석동"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050370",
-      codeNm: "운산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050360",
-      codeNm: "음암면"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050310",
-      codeNm: "인지면"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050340",
-      codeNm: "지곡면"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050330",
-      codeNm: "팔봉면"
-    },
-    {
-      sido: "34",
-      sigugun: "34050",
-      dong: "34050380",
-      codeNm: "해미면"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      dong: "34540330",
-      codeNm: "기산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      dong: "34540350",
-      codeNm: "마산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      dong: "34540310",
-      codeNm: "마서면"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      dong: "34540370",
-      codeNm: "문산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      dong: "34540400",
-      codeNm: "비인면"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      dong: "34540410",
-      codeNm: "서면"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      dong: "34540120",
-      codeNm: "서천읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      dong: "34540360",
-      codeNm: "시초면"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      dong: "34540110",
-      codeNm: "장항읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      dong: "34540390",
-      codeNm: "종천면"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      dong: "34540380",
-      codeNm: "판교면"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      dong: "34540340",
-      codeNm: "한산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34540",
-      dong: "34540320",
-      codeNm: "화양면"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040390",
-      codeNm: "도고면"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040350",
-      codeNm: "둔포면"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040120",
-      codeNm: "배방읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040380",
-      codeNm: "선장면"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040310",
-      codeNm: "송악면"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040400",
-      codeNm: "신창면"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040110",
-      codeNm: "염치읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040360",
-      codeNm: "영인면"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040510",
-      codeNm: "온양1동"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040520",
-      codeNm: "온양2동"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040530",
-      codeNm: "온양3동"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040540",
-      codeNm: "온양4동"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040550",
-      codeNm: "온양5동"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040560",
-      codeNm: "온양6동"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040340",
-      codeNm: "음봉면"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040370",
-      codeNm: "인주면"
-    },
-    {
-      sido: "34",
-      sigugun: "34040",
-      dong: "34040330",
-      codeNm: "탕정면"
-    },
-    {
-      sido: "34",
-      sigugun: "34570",
-      dong: "34570380",
-      codeNm: "고덕면"
-    },
-    {
-      sido: "34",
-      sigugun: "34570",
-      dong: "34570330",
-      codeNm: "광시면"
-    },
-    {
-      sido: "34",
-      sigugun: "34570",
-      dong: "34570310",
-      codeNm: "대술면"
-    },
-    {
-      sido: "34",
-      sigugun: "34570",
-      dong: "34570340",
-      codeNm: "대흥면"
-    },
-    {
-      sido: "34",
-      sigugun: "34570",
-      dong: "34570360",
-      codeNm: "덕산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34570",
-      dong: "34570370",
-      codeNm: "봉산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34570",
-      dong: "34570120",
-      codeNm: "삽교읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34570",
-      dong: "34570390",
-      codeNm: "신암면"
-    },
-    {
-      sido: "34",
-      sigugun: "34570",
-      dong: "34570320",
-      codeNm: "신양면"
-    },
-    {
-      sido: "34",
-      sigugun: "34570",
-      dong: "34570110",
-      codeNm: "예산읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34570",
-      dong: "34570400",
-      codeNm: "오가면"
-    },
-    {
-      sido: "34",
-      sigugun: "34570",
-      dong: "34570350",
-      codeNm: "응봉면"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011320",
-      codeNm: "광덕면"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011370",
-      codeNm: "동면"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011110",
-      codeNm: "목천읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011520",
-      codeNm: "문성동"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011360",
-      codeNm: "병천면"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011550",
-      codeNm: "봉명동"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011330",
-      codeNm: "북면"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011340",
-      codeNm: "성남면"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011350",
-      codeNm: "수신면"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011570",
-      codeNm: "신방동"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011590",
-      codeNm: "신안동"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011530",
-      codeNm: "원성1동"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011540",
-      codeNm: "원성2동"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011560",
-      codeNm: "일봉동"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011510",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011580",
-      codeNm: "청룡동"
-    },
-    {
-      sido: "34",
-      sigugun: "34011",
-      dong: "34011310",
-      codeNm: "풍세면"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012580",
-      codeNm: "백석동"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012600",
-      codeNm: "부성1동"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012610",
-      codeNm: "부성2동"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012620",
-      codeNm: "불당1동"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012630",
-      codeNm: "불당2동"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012120",
-      codeNm: "성거읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012510",
-      codeNm: "성정1동"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012520",
-      codeNm: "성정2동"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012110",
-      codeNm: "성환읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012530",
-      codeNm: "쌍용1동"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012540",
-      codeNm: "쌍용2동"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012550",
-      codeNm: "쌍용3동"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012310",
-      codeNm: "입장면"
-    },
-    {
-      sido: "34",
-      sigugun: "34012",
-      dong: "34012130",
-      codeNm: "직산읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34550",
-      dong: "34550370",
-      codeNm: "남양면"
-    },
-    {
-      sido: "34",
-      sigugun: "34550",
-      dong: "34550320",
-      codeNm: "대치면"
-    },
-    {
-      sido: "34",
-      sigugun: "34550",
-      dong: "34550340",
-      codeNm: "목면"
-    },
-    {
-      sido: "34",
-      sigugun: "34550",
-      dong: "34550390",
-      codeNm: "비봉면"
-    },
-    {
-      sido: "34",
-      sigugun: "34550",
-      dong: "34550310",
-      codeNm: "운곡면"
-    },
-    {
-      sido: "34",
-      sigugun: "34550",
-      dong: "34550360",
-      codeNm: "장평면"
-    },
-    {
-      sido: "34",
-      sigugun: "34550",
-      dong: "34550330",
-      codeNm: "정산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34550",
-      dong: "34550350",
-      codeNm: "청남면"
-    },
-    {
-      sido: "34",
-      sigugun: "34550",
-      dong: "34550110",
-      codeNm: "청양읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34550",
-      dong: "34550380",
-      codeNm: "화성면"
-    },
-    {
-      sido: "34",
-      sigugun: "34580",
-      dong: "34580310",
-      codeNm: "고남면"
-    },
-    {
-      sido: "34",
-      sigugun: "34580",
-      dong: "34580330",
-      codeNm: "근흥면"
-    },
-    {
-      sido: "34",
-      sigugun: "34580",
-      dong: "34580320",
-      codeNm: "남면"
-    },
-    {
-      sido: "34",
-      sigugun: "34580",
-      dong: "34580340",
-      codeNm: "소원면"
-    },
-    {
-      sido: "34",
-      sigugun: "34580",
-      dong: "34580120",
-      codeNm: "안면읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34580",
-      dong: "34580350",
-      codeNm: "원북면"
-    },
-    {
-      sido: "34",
-      sigugun: "34580",
-      dong: "34580360",
-      codeNm: "이원면"
-    },
-    {
-      sido: "34",
-      sigugun: "34580",
-      dong: "34580110",
-      codeNm: "태안읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34560",
-      dong: "34560380",
-      codeNm: "갈산면"
-    },
-    {
-      sido: "34",
-      sigugun: "34560",
-      dong: "34560360",
-      codeNm: "결성면"
-    },
-    {
-      sido: "34",
-      sigugun: "34560",
-      dong: "34560120",
-      codeNm: "광천읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34560",
-      dong: "34560390",
-      codeNm: "구항면"
-    },
-    {
-      sido: "34",
-      sigugun: "34560",
-      dong: "34560320",
-      codeNm: "금마면"
-    },
-    {
-      sido: "34",
-      sigugun: "34560",
-      dong: "34560370",
-      codeNm: "서부면"
-    },
-    {
-      sido: "34",
-      sigugun: "34560",
-      dong: "34560350",
-      codeNm: "은하면"
-    },
-    {
-      sido: "34",
-      sigugun: "34560",
-      dong: "34560340",
-      codeNm: "장곡면"
-    },
-    {
-      sido: "34",
-      sigugun: "34560",
-      dong: "34560330",
-      codeNm: "홍동면"
-    },
-    {
-      sido: "34",
-      sigugun: "34560",
-      dong: "34560130",
-      codeNm: "홍북읍"
-    },
-    {
-      sido: "34",
-      sigugun: "34560",
-      dong: "34560110",
-      codeNm: "홍성읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570310",
-      codeNm: "고수면"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570110",
-      codeNm: "고창읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570340",
-      codeNm: "공음면"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570380",
-      codeNm: "대산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570330",
-      codeNm: "무장면"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570430",
-      codeNm: "부안면"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570350",
-      codeNm: "상하면"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570410",
-      codeNm: "성내면"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570370",
-      codeNm: "성송면"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570420",
-      codeNm: "신림면"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570390",
-      codeNm: "심원면"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570320",
-      codeNm: "아산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570360",
-      codeNm: "해리면"
-    },
-    {
-      sido: "35",
-      sigugun: "35570",
-      dong: "35570400",
-      codeNm: "흥덕면"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020680",
-      codeNm: "개정동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020360",
-      codeNm: "개정면"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020660",
-      codeNm: "경암동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020670",
-      codeNm: "구암동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020700",
-      codeNm: "나운1동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020710",
-      codeNm: "나운2동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020740",
-      codeNm: "나운3동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020380",
-      codeNm: "나포면"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020350",
-      codeNm: "대야면"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020730",
-      codeNm: "미성동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020560",
-      codeNm: "삼학동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020340",
-      codeNm: "서수면"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020370",
-      codeNm: "성산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020720",
-      codeNm: "소룡동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020690",
-      codeNm: "수송동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020550",
-      codeNm: "신풍동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020110",
-      codeNm: "옥구읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020390",
-      codeNm: "옥도면"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020310",
-      codeNm: "옥산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020400",
-      codeNm: "옥서면"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020530",
-      codeNm: "월명동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020330",
-      codeNm: "임피면"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020650",
-      codeNm: "조촌동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020600",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020510",
-      codeNm: "해신동"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020320",
-      codeNm: "회현면"
-    },
-    {
-      sido: "35",
-      sigugun: "35020",
-      dong: "35020640",
-      codeNm: "흥남동"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060540",
-      codeNm: "검산동"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060360",
-      codeNm: "공덕면"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060440",
-      codeNm: "광활면"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060580",
-      codeNm: "교월동"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060400",
-      codeNm: "금구면"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060430",
-      codeNm: "금산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060110",
-      codeNm: "만경읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060340",
-      codeNm: "백구면"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060320",
-      codeNm: "백산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060410",
-      codeNm: "봉남면"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060350",
-      codeNm: "부량면"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060380",
-      codeNm: "성덕면"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060520",
-      codeNm: "신풍동"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060510",
-      codeNm: "요촌동"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060330",
-      codeNm: "용지면"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060310",
-      codeNm: "죽산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060390",
-      codeNm: "진봉면"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060370",
-      codeNm: "청하면"
-    },
-    {
-      sido: "35",
-      sigugun: "35060",
-      dong: "35060420",
-      codeNm: "황산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050550",
-      codeNm: "금동"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050350",
-      codeNm: "금지면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050540",
-      codeNm: "노암동"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050360",
-      codeNm: "대강면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050370",
-      codeNm: "대산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050390",
-      codeNm: "덕과면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050590",
-      codeNm: "도통동"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050510",
-      codeNm: "동충동"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050400",
-      codeNm: "보절면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050380",
-      codeNm: "사매면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050450",
-      codeNm: "산내면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050410",
-      codeNm: "산동면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050330",
-      codeNm: "송동면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050320",
-      codeNm: "수지면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050440",
-      codeNm: "아영면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050560",
-      codeNm: "왕정동"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050110",
-      codeNm: "운봉읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050420",
-      codeNm: "이백면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050430",
-      codeNm: "인월면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050340",
-      codeNm: "주생면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050310",
-      codeNm: "주천면"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050520",
-      codeNm: "죽항동"
-    },
-    {
-      sido: "35",
-      sigugun: "35050",
-      dong: "35050570",
-      codeNm: "향교동"
-    },
-    {
-      sido: "35",
-      sigugun: "35530",
-      dong: "35530110",
-      codeNm: "무주읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35530",
-      dong: "35530310",
-      codeNm: "무풍면"
-    },
-    {
-      sido: "35",
-      sigugun: "35530",
-      dong: "35530350",
-      codeNm: "부남면"
-    },
-    {
-      sido: "35",
-      sigugun: "35530",
-      dong: "35530320",
-      codeNm: "설천면"
-    },
-    {
-      sido: "35",
-      sigugun: "35530",
-      dong: "35530340",
-      codeNm: "안성면"
-    },
-    {
-      sido: "35",
-      sigugun: "35530",
-      dong: "35530330",
-      codeNm: "적상면"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      dong: "35580340",
-      codeNm: "계화면"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      dong: "35580320",
-      codeNm: "동진면"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      dong: "35580380",
-      codeNm: "백산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      dong: "35580360",
-      codeNm: "변산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      dong: "35580350",
-      codeNm: "보안면"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      dong: "35580110",
-      codeNm: "부안읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      dong: "35580390",
-      codeNm: "상서면"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      dong: "35580420",
-      codeNm: "위도면"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      dong: "35580310",
-      codeNm: "주산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      dong: "35580410",
-      codeNm: "줄포면"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      dong: "35580370",
-      codeNm: "진서면"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      dong: "35580400",
-      codeNm: "하서면"
-    },
-    {
-      sido: "35",
-      sigugun: "35580",
-      dong: "35580330",
-      codeNm: "행안면"
-    },
-    {
-      sido: "35",
-      sigugun: "35560",
-      dong: "35560400",
-      codeNm: "구림면"
-    },
-    {
-      sido: "35",
-      sigugun: "35560",
-      dong: "35560360",
-      codeNm: "금과면"
-    },
-    {
-      sido: "35",
-      sigugun: "35560",
-      dong: "35560320",
-      codeNm: "동계면"
-    },
-    {
-      sido: "35",
-      sigugun: "35560",
-      dong: "35560380",
-      codeNm: "복흥면"
-    },
-    {
-      sido: "35",
-      sigugun: "35560",
-      dong: "35560110",
-      codeNm: "순창읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35560",
-      dong: "35560390",
-      codeNm: "쌍치면"
-    },
-    {
-      sido: "35",
-      sigugun: "35560",
-      dong: "35560340",
-      codeNm: "유등면"
-    },
-    {
-      sido: "35",
-      sigugun: "35560",
-      dong: "35560310",
-      codeNm: "인계면"
-    },
-    {
-      sido: "35",
-      sigugun: "35560",
-      dong: "35560330",
-      codeNm: "적성면"
-    },
-    {
-      sido: "35",
-      sigugun: "35560",
-      dong: "35560370",
-      codeNm: "팔덕면"
-    },
-    {
-      sido: "35",
-      sigugun: "35560",
-      dong: "35560350",
-      codeNm: "풍산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      dong: "35510410",
-      codeNm: "경천면"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      dong: "35510360",
-      codeNm: "고산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      dong: "35510350",
-      codeNm: "구이면"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      dong: "35510400",
-      codeNm: "동상면"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      dong: "35510120",
-      codeNm: "봉동읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      dong: "35510370",
-      codeNm: "비봉면"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      dong: "35510110",
-      codeNm: "삼례읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      dong: "35510320",
-      codeNm: "상관면"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      dong: "35510340",
-      codeNm: "소양면"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      dong: "35510130",
-      codeNm: "용진읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      dong: "35510380",
-      codeNm: "운주면"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      dong: "35510330",
-      codeNm: "이서면"
-    },
-    {
-      sido: "35",
-      sigugun: "35510",
-      dong: "35510390",
-      codeNm: "화산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030400",
-      codeNm: "금마면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030590",
-      codeNm: "남중동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030370",
-      codeNm: "낭산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030570",
-      codeNm: "동산동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030580",
-      codeNm: "마동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030380",
-      codeNm: "망성면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030610",
-      codeNm: "모현동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030430",
-      codeNm: "삼기면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030700",
-      codeNm: "삼성동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030350",
-      codeNm: "성당면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030620",
-      codeNm: "송학동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030650",
-      codeNm: "신동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030720",
-      codeNm: "어양동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030390",
-      codeNm: "여산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030660",
-      codeNm: "영등1동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030710",
-      codeNm: "영등2동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030310",
-      codeNm: "오산면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030410",
-      codeNm: "왕궁면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030440",
-      codeNm: "용동면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030360",
-      codeNm: "용안면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030340",
-      codeNm: "웅포면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030550",
-      codeNm: "인화동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030510",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030420",
-      codeNm: "춘포면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030690",
-      codeNm: "팔봉동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030530",
-      codeNm: "평화동"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030330",
-      codeNm: "함라면"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030110",
-      codeNm: "함열읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35030",
-      dong: "35030320",
-      codeNm: "황등면"
-    },
-    {
-      sido: "35",
-      sigugun: "35550",
-      dong: "35550390",
-      codeNm: "강진면"
-    },
-    {
-      sido: "35",
-      sigugun: "35550",
-      dong: "35550380",
-      codeNm: "관촌면"
-    },
-    {
-      sido: "35",
-      sigugun: "35550",
-      dong: "35550400",
-      codeNm: "덕치면"
-    },
-    {
-      sido: "35",
-      sigugun: "35550",
-      dong: "35550370",
-      codeNm: "삼계면"
-    },
-    {
-      sido: "35",
-      sigugun: "35550",
-      dong: "35550340",
-      codeNm: "성수면"
-    },
-    {
-      sido: "35",
-      sigugun: "35550",
-      dong: "35550360",
-      codeNm: "신덕면"
-    },
-    {
-      sido: "35",
-      sigugun: "35550",
-      dong: "35550330",
-      codeNm: "신평면"
-    },
-    {
-      sido: "35",
-      sigugun: "35550",
-      dong: "35550350",
-      codeNm: "오수면"
-    },
-    {
-      sido: "35",
-      sigugun: "35550",
-      dong: "35550320",
-      codeNm: "운암면"
-    },
-    {
-      sido: "35",
-      sigugun: "35550",
-      dong: "35550110",
-      codeNm: "임실읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35550",
-      dong: "35550410",
-      codeNm: "지사면"
-    },
-    {
-      sido: "35",
-      sigugun: "35550",
-      dong: "35550310",
-      codeNm: "청웅면"
-    },
-    {
-      sido: "35",
-      sigugun: "35540",
-      dong: "35540350",
-      codeNm: "계남면"
-    },
-    {
-      sido: "35",
-      sigugun: "35540",
-      dong: "35540360",
-      codeNm: "계북면"
-    },
-    {
-      sido: "35",
-      sigugun: "35540",
-      dong: "35540320",
-      codeNm: "번암면"
-    },
-    {
-      sido: "35",
-      sigugun: "35540",
-      dong: "35540310",
-      codeNm: "산서면"
-    },
-    {
-      sido: "35",
-      sigugun: "35540",
-      dong: "35540330",
-      codeNm: "장계면"
-    },
-    {
-      sido: "35",
-      sigugun: "35540",
-      dong: "35540110",
-      codeNm: "장수읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35540",
-      dong: "35540340",
-      codeNm: "천천면"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012580",
-      codeNm: "금암1동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012590",
-      codeNm: "금암2동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012570",
-      codeNm: "덕진동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012650",
-      codeNm: "송천1동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012660",
-      codeNm: "송천2동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012710",
-      codeNm: "여의동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012610",
-      codeNm: "우아1동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012620",
-      codeNm: "우아2동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012540",
-      codeNm: "인후1동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012550",
-      codeNm: "인후2동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012560",
-      codeNm: "인후3동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012670",
-      codeNm: "조촌동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012690",
-      codeNm: "진북동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012600",
-      codeNm: "팔복동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012700",
-      codeNm: "혁신동"
-    },
-    {
-      sido: "35",
-      sigugun: "35012",
-      dong: "35012630",
-      codeNm: "호성동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011760",
-      codeNm: "노송동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011600",
-      codeNm: "동서학동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011670",
-      codeNm: "삼천1동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011680",
-      codeNm: "삼천2동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011690",
-      codeNm: "삼천3동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011610",
-      codeNm: "서서학동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011660",
-      codeNm: "서신동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011770",
-      codeNm: "완산동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011740",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011620",
-      codeNm: "중화산1동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011630",
-      codeNm: "중화산2동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011640",
-      codeNm: "평화1동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011650",
-      codeNm: "평화2동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011750",
-      codeNm: "풍남동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011700",
-      codeNm: "효자1동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011710",
-      codeNm: "효자2동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011720",
-      codeNm: "효자3동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011780",
-      codeNm: "효자4동"
-    },
-    {
-      sido: "35",
-      sigugun: "35011",
-      dong: "35011790",
-      codeNm: "효자5동"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040400",
-      codeNm: "감곡면"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040340",
-      codeNm: "고부면"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040530",
-      codeNm: "내장상동"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040580",
-      codeNm: "농소동"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040360",
-      codeNm: "덕천면"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040310",
-      codeNm: "북면"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040430",
-      codeNm: "산내면"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040440",
-      codeNm: "산외면"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040590",
-      codeNm: "상교동"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040330",
-      codeNm: "소성면"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040510",
-      codeNm: "수성동"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040540",
-      codeNm: "시기동"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040110",
-      codeNm: "신태인읍"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040570",
-      codeNm: "연지동"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040350",
-      codeNm: "영원면"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040410",
-      codeNm: "옹동면"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040370",
-      codeNm: "이평면"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040320",
-      codeNm: "입암면"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040520",
-      codeNm: "장명동"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040380",
-      codeNm: "정우면"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040600",
-      codeNm: "초산동"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040420",
-      codeNm: "칠보면"
-    },
-    {
-      sido: "35",
-      sigugun: "35040",
-      dong: "35040390",
-      codeNm: "태인면"
-    },
-    {
-      sido: "35",
-      sigugun: "35520",
-      dong: "35520330",
-      codeNm: "동향면"
-    },
-    {
-      sido: "35",
-      sigugun: "35520",
-      dong: "35520370",
-      codeNm: "마령면"
-    },
-    {
-      sido: "35",
-      sigugun: "35520",
-      dong: "35520350",
-      codeNm: "백운면"
-    },
-    {
-      sido: "35",
-      sigugun: "35520",
-      dong: "35520380",
-      codeNm: "부귀면"
-    },
-    {
-      sido: "35",
-      sigugun: "35520",
-      dong: "35520340",
-      codeNm: "상전면"
-    },
-    {
-      sido: "35",
-      sigugun: "35520",
-      dong: "35520360",
-      codeNm: "성수면"
-    },
-    {
-      sido: "35",
-      sigugun: "35520",
-      dong: "35520320",
-      codeNm: "안천면"
-    },
-    {
-      sido: "35",
-      sigugun: "35520",
-      dong: "35520310",
-      codeNm: "용담면"
-    },
-    {
-      sido: "35",
-      sigugun: "35520",
-      dong: "35520390",
-      codeNm: "정천면"
-    },
-    {
-      sido: "35",
-      sigugun: "35520",
-      dong: "35520400",
-      codeNm: "주천면"
-    },
-    {
-      sido: "35",
-      sigugun: "35520",
-      dong: "35520110",
-      codeNm: "진안읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36590",
-      dong: "36590110",
-      codeNm: "강진읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36590",
-      dong: "36590310",
-      codeNm: "군동면"
-    },
-    {
-      sido: "36",
-      sigugun: "36590",
-      dong: "36590330",
-      codeNm: "대구면"
-    },
-    {
-      sido: "36",
-      sigugun: "36590",
-      dong: "36590350",
-      codeNm: "도암면"
-    },
-    {
-      sido: "36",
-      sigugun: "36590",
-      dong: "36590340",
-      codeNm: "마량면"
-    },
-    {
-      sido: "36",
-      sigugun: "36590",
-      dong: "36590390",
-      codeNm: "병영면"
-    },
-    {
-      sido: "36",
-      sigugun: "36590",
-      dong: "36590370",
-      codeNm: "성전면"
-    },
-    {
-      sido: "36",
-      sigugun: "36590",
-      dong: "36590360",
-      codeNm: "신전면"
-    },
-    {
-      sido: "36",
-      sigugun: "36590",
-      dong: "36590400",
-      codeNm: "옴천면"
-    },
-    {
-      sido: "36",
-      sigugun: "36590",
-      dong: "36590380",
-      codeNm: "작천면"
-    },
-    {
-      sido: "36",
-      sigugun: "36590",
-      dong: "36590320",
-      codeNm: "칠량면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550110",
-      codeNm: "고흥읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550400",
-      codeNm: "과역면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550330",
-      codeNm: "금산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550410",
-      codeNm: "남양면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550430",
-      codeNm: "대서면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550320",
-      codeNm: "도덕면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550120",
-      codeNm: "도양읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550340",
-      codeNm: "도화면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550420",
-      codeNm: "동강면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550370",
-      codeNm: "동일면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550440",
-      codeNm: "두원면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550360",
-      codeNm: "봉래면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550390",
-      codeNm: "영남면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550380",
-      codeNm: "점암면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550350",
-      codeNm: "포두면"
-    },
-    {
-      sido: "36",
-      sigugun: "36550",
-      dong: "36550310",
-      codeNm: "풍양면"
-    },
-    {
-      sido: "36",
-      sigugun: "36520",
-      dong: "36520390",
-      codeNm: "겸면"
-    },
-    {
-      sido: "36",
-      sigugun: "36520",
-      dong: "36520360",
-      codeNm: "고달면"
-    },
-    {
-      sido: "36",
-      sigugun: "36520",
-      dong: "36520110",
-      codeNm: "곡성읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36520",
-      dong: "36520340",
-      codeNm: "목사동면"
-    },
-    {
-      sido: "36",
-      sigugun: "36520",
-      dong: "36520320",
-      codeNm: "삼기면"
-    },
-    {
-      sido: "36",
-      sigugun: "36520",
-      dong: "36520330",
-      codeNm: "석곡면"
-    },
-    {
-      sido: "36",
-      sigugun: "36520",
-      dong: "36520310",
-      codeNm: "오곡면"
-    },
-    {
-      sido: "36",
-      sigugun: "36520",
-      dong: "36520400",
-      codeNm: "오산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36520",
-      dong: "36520370",
-      codeNm: "옥과면"
-    },
-    {
-      sido: "36",
-      sigugun: "36520",
-      dong: "36520380",
-      codeNm: "입면"
-    },
-    {
-      sido: "36",
-      sigugun: "36520",
-      dong: "36520350",
-      codeNm: "죽곡면"
-    },
-    {
-      sido: "36",
-      sigugun: "36060",
-      dong: "36060510",
-      codeNm: "골약동"
-    },
-    {
-      sido: "36",
-      sigugun: "36060",
-      dong: "36060110",
-      codeNm: "광양읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36060",
-      dong: "36060540",
-      codeNm: "광영동"
-    },
-    {
-      sido: "36",
-      sigugun: "36060",
-      dong: "36060560",
-      codeNm: "금호동"
-    },
-    {
-      sido: "36",
-      sigugun: "36060",
-      dong: "36060360",
-      codeNm: "다압면"
-    },
-    {
-      sido: "36",
-      sigugun: "36060",
-      dong: "36060310",
-      codeNm: "봉강면"
-    },
-    {
-      sido: "36",
-      sigugun: "36060",
-      dong: "36060330",
-      codeNm: "옥곡면"
-    },
-    {
-      sido: "36",
-      sigugun: "36060",
-      dong: "36060320",
-      codeNm: "옥룡면"
-    },
-    {
-      sido: "36",
-      sigugun: "36060",
-      dong: "36060530",
-      codeNm: "중마동"
-    },
-    {
-      sido: "36",
-      sigugun: "36060",
-      dong: "36060340",
-      codeNm: "진상면"
-    },
-    {
-      sido: "36",
-      sigugun: "36060",
-      dong: "36060350",
-      codeNm: "진월면"
-    },
-    {
-      sido: "36",
-      sigugun: "36060",
-      dong: "36060550",
-      codeNm: "태인동"
-    },
-    {
-      sido: "36",
-      sigugun: "36530",
-      dong: "36530320",
-      codeNm: "간전면"
-    },
-    {
-      sido: "36",
-      sigugun: "36530",
-      dong: "36530350",
-      codeNm: "광의면"
-    },
-    {
-      sido: "36",
-      sigugun: "36530",
-      dong: "36530110",
-      codeNm: "구례읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36530",
-      dong: "36530340",
-      codeNm: "마산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36530",
-      dong: "36530310",
-      codeNm: "문척면"
-    },
-    {
-      sido: "36",
-      sigugun: "36530",
-      dong: "36530370",
-      codeNm: "산동면"
-    },
-    {
-      sido: "36",
-      sigugun: "36530",
-      dong: "36530360",
-      codeNm: "용방면"
-    },
-    {
-      sido: "36",
-      sigugun: "36530",
-      dong: "36530330",
-      codeNm: "토지면"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040340",
-      codeNm: "공산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040540",
-      codeNm: "금남동"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040390",
-      codeNm: "금천면"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040110",
-      codeNm: "남평읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040380",
-      codeNm: "노안면"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040410",
-      codeNm: "다도면"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040360",
-      codeNm: "다시면"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040350",
-      codeNm: "동강면"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040370",
-      codeNm: "문평면"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040330",
-      codeNm: "반남면"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040420",
-      codeNm: "봉황면"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040610",
-      codeNm: "빛가람동"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040400",
-      codeNm: "산포면"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040550",
-      codeNm: "성북동"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040310",
-      codeNm: "세지면"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040510",
-      codeNm: "송월동"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040520",
-      codeNm: "영강동"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040580",
-      codeNm: "영산동"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040320",
-      codeNm: "왕곡면"
-    },
-    {
-      sido: "36",
-      sigugun: "36040",
-      dong: "36040600",
-      codeNm: "이창동"
-    },
-    {
-      sido: "36",
-      sigugun: "36510",
-      dong: "36510420",
-      codeNm: "가사문학면"
-    },
-    {
-      sido: "36",
-      sigugun: "36510",
-      dong: "36510320",
-      codeNm: "고서면"
-    },
-    {
-      sido: "36",
-      sigugun: "36510",
-      dong: "36510370",
-      codeNm: "금성면"
-    },
-    {
-      sido: "36",
-      sigugun: "36510",
-      dong: "36510110",
-      codeNm: "담양읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36510",
-      dong: "36510350",
-      codeNm: "대덕면"
-    },
-    {
-      sido: "36",
-      sigugun: "36510",
-      dong: "36510410",
-      codeNm: "대전면"
-    },
-    {
-      sido: "36",
-      sigugun: "36510",
-      dong: "36510360",
-      codeNm: "무정면"
-    },
-    {
-      sido: "36",
-      sigugun: "36510",
-      dong: "36510310",
-      codeNm: "봉산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36510",
-      dong: "36510400",
-      codeNm: "수북면"
-    },
-    {
-      sido: "36",
-      sigugun: "36510",
-      dong: "36510380",
-      codeNm: "용면"
-    },
-    {
-      sido: "36",
-      sigugun: "36510",
-      dong: "36510390",
-      codeNm: "월산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36510",
-      dong: "36510340",
-      codeNm: "창평면"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010580",
-      codeNm: "대성동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010620",
-      codeNm: "동명동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010640",
-      codeNm: "만호동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010600",
-      codeNm: "목원동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010770",
-      codeNm: "부주동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010760",
-      codeNm: "부흥동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010680",
-      codeNm: "북항동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010550",
-      codeNm: "산정동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010630",
-      codeNm: "삼학동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010740",
-      codeNm: "삼향동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010710",
-      codeNm: "상동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010730",
-      codeNm: "신흥동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010530",
-      codeNm: "연동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010560",
-      codeNm: "연산동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010750",
-      codeNm: "옥암동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010510",
-      codeNm: "용당1동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010520",
-      codeNm: "용당2동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010690",
-      codeNm: "용해동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010570",
-      codeNm: "원산동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010650",
-      codeNm: "유달동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010700",
-      codeNm: "이로동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010670",
-      codeNm: "죽교동"
-    },
-    {
-      sido: "36",
-      sigugun: "36010",
-      dong: "36010720",
-      codeNm: "하당동"
-    },
-    {
-      sido: "36",
-      sigugun: "36620",
-      dong: "36620350",
-      codeNm: "망운면"
-    },
-    {
-      sido: "36",
-      sigugun: "36620",
-      dong: "36620320",
-      codeNm: "몽탄면"
-    },
-    {
-      sido: "36",
-      sigugun: "36620",
-      dong: "36620110",
-      codeNm: "무안읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36620",
-      dong: "36620130",
-      codeNm: "삼향읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36620",
-      dong: "36620370",
-      codeNm: "운남면"
-    },
-    {
-      sido: "36",
-      sigugun: "36620",
-      dong: "36620120",
-      codeNm: "일로읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36620",
-      dong: "36620330",
-      codeNm: "청계면"
-    },
-    {
-      sido: "36",
-      sigugun: "36620",
-      dong: "36620360",
-      codeNm: "해제면"
-    },
-    {
-      sido: "36",
-      sigugun: "36620",
-      dong: "36620340",
-      codeNm: "현경면"
-    },
-    {
-      sido: "36",
-      sigugun: "36560",
-      dong: "36560330",
-      codeNm: "겸백면"
-    },
-    {
-      sido: "36",
-      sigugun: "36560",
-      dong: "36560310",
-      codeNm: "노동면"
-    },
-    {
-      sido: "36",
-      sigugun: "36560",
-      dong: "36560380",
-      codeNm: "득량면"
-    },
-    {
-      sido: "36",
-      sigugun: "36560",
-      dong: "36560360",
-      codeNm: "문덕면"
-    },
-    {
-      sido: "36",
-      sigugun: "36560",
-      dong: "36560320",
-      codeNm: "미력면"
-    },
-    {
-      sido: "36",
-      sigugun: "36560",
-      dong: "36560120",
-      codeNm: "벌교읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36560",
-      dong: "36560110",
-      codeNm: "보성읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36560",
-      dong: "36560350",
-      codeNm: "복내면"
-    },
-    {
-      sido: "36",
-      sigugun: "36560",
-      dong: "36560400",
-      codeNm: "웅치면"
-    },
-    {
-      sido: "36",
-      sigugun: "36560",
-      dong: "36560340",
-      codeNm: "율어면"
-    },
-    {
-      sido: "36",
-      sigugun: "36560",
-      dong: "36560370",
-      codeNm: "조성면"
-    },
-    {
-      sido: "36",
-      sigugun: "36560",
-      dong: "36560390",
-      codeNm: "회천면"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030340",
-      codeNm: "낙안면"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030590",
-      codeNm: "남제동"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030570",
-      codeNm: "덕연동"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030630",
-      codeNm: "도사동"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030540",
-      codeNm: "매곡동"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030350",
-      codeNm: "별량면"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030550",
-      codeNm: "삼산동"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030360",
-      codeNm: "상사면"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030380",
-      codeNm: "서면"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030320",
-      codeNm: "송광면"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030110",
-      codeNm: "승주읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030660",
-      codeNm: "왕조1동"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030670",
-      codeNm: "왕조2동"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030330",
-      codeNm: "외서면"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030400",
-      codeNm: "월등면"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030610",
-      codeNm: "장천동"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030600",
-      codeNm: "저전동"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030560",
-      codeNm: "조곡동"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030310",
-      codeNm: "주암면"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030620",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030580",
-      codeNm: "풍덕동"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030370",
-      codeNm: "해룡면"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030510",
-      codeNm: "향동"
-    },
-    {
-      sido: "36",
-      sigugun: "36030",
-      dong: "36030390",
-      codeNm: "황전면"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680350",
-      codeNm: "도초면"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680340",
-      codeNm: "비금면"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680380",
-      codeNm: "신의면"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680400",
-      codeNm: "안좌면"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680420",
-      codeNm: "암태면"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680120",
-      codeNm: "압해읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680320",
-      codeNm: "임자면"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680330",
-      codeNm: "자은면"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680390",
-      codeNm: "장산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680310",
-      codeNm: "증도면"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680110",
-      codeNm: "지도읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680410",
-      codeNm: "팔금면"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680370",
-      codeNm: "하의면"
-    },
-    {
-      sido: "36",
-      sigugun: "36680",
-      dong: "36680360",
-      codeNm: "흑산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020550",
-      codeNm: "광림동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020580",
-      codeNm: "국동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020340",
-      codeNm: "남면"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020570",
-      codeNm: "대교동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020110",
-      codeNm: "돌산읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020510",
-      codeNm: "동문동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020630",
-      codeNm: "둔덕동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020640",
-      codeNm: "만덕동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020700",
-      codeNm: "묘도동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020610",
-      codeNm: "문수동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020620",
-      codeNm: "미평동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020360",
-      codeNm: "삼산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020690",
-      codeNm: "삼일동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020560",
-      codeNm: "서강동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020310",
-      codeNm: "소라면"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020660",
-      codeNm: "시전동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020650",
-      codeNm: "쌍봉동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020600",
-      codeNm: "여서동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020670",
-      codeNm: "여천동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020590",
-      codeNm: "월호동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020320",
-      codeNm: "율촌면"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020680",
-      codeNm: "주삼동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020530",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020540",
-      codeNm: "충무동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020520",
-      codeNm: "한려동"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020330",
-      codeNm: "화양면"
-    },
-    {
-      sido: "36",
-      sigugun: "36020",
-      dong: "36020350",
-      codeNm: "화정면"
-    },
-    {
-      sido: "36",
-      sigugun: "36640",
-      dong: "36640350",
-      codeNm: "군남면"
-    },
-    {
-      sido: "36",
-      sigugun: "36640",
-      dong: "36640340",
-      codeNm: "군서면"
-    },
-    {
-      sido: "36",
-      sigugun: "36640",
-      dong: "36640380",
-      codeNm: "낙월면"
-    },
-    {
-      sido: "36",
-      sigugun: "36640",
-      dong: "36640310",
-      codeNm: "대마면"
-    },
-    {
-      sido: "36",
-      sigugun: "36640",
-      dong: "36640320",
-      codeNm: "묘량면"
-    },
-    {
-      sido: "36",
-      sigugun: "36640",
-      dong: "36640120",
-      codeNm: "백수읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36640",
-      dong: "36640370",
-      codeNm: "법성면"
-    },
-    {
-      sido: "36",
-      sigugun: "36640",
-      dong: "36640330",
-      codeNm: "불갑면"
-    },
-    {
-      sido: "36",
-      sigugun: "36640",
-      dong: "36640360",
-      codeNm: "염산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36640",
-      dong: "36640110",
-      codeNm: "영광읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36640",
-      dong: "36640130",
-      codeNm: "홍농읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36610",
-      dong: "36610360",
-      codeNm: "군서면"
-    },
-    {
-      sido: "36",
-      sigugun: "36610",
-      dong: "36610320",
-      codeNm: "금정면"
-    },
-    {
-      sido: "36",
-      sigugun: "36610",
-      dong: "36610310",
-      codeNm: "덕진면"
-    },
-    {
-      sido: "36",
-      sigugun: "36610",
-      dong: "36610350",
-      codeNm: "도포면"
-    },
-    {
-      sido: "36",
-      sigugun: "36610",
-      dong: "36610390",
-      codeNm: "미암면"
-    },
-    {
-      sido: "36",
-      sigugun: "36610",
-      dong: "36610120",
-      codeNm: "삼호읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36610",
-      dong: "36610370",
-      codeNm: "서호면"
-    },
-    {
-      sido: "36",
-      sigugun: "36610",
-      dong: "36610340",
-      codeNm: "시종면"
-    },
-    {
-      sido: "36",
-      sigugun: "36610",
-      dong: "36610330",
-      codeNm: "신북면"
-    },
-    {
-      sido: "36",
-      sigugun: "36610",
-      dong: "36610110",
-      codeNm: "영암읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36610",
-      dong: "36610380",
-      codeNm: "학산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36660",
-      dong: "36660330",
-      codeNm: "고금면"
-    },
-    {
-      sido: "36",
-      sigugun: "36660",
-      dong: "36660310",
-      codeNm: "군외면"
-    },
-    {
-      sido: "36",
-      sigugun: "36660",
-      dong: "36660370",
-      codeNm: "금당면"
-    },
-    {
-      sido: "36",
-      sigugun: "36660",
-      dong: "36660120",
-      codeNm: "금일읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36660",
-      dong: "36660130",
-      codeNm: "노화읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36660",
-      dong: "36660380",
-      codeNm: "보길면"
-    },
-    {
-      sido: "36",
-      sigugun: "36660",
-      dong: "36660390",
-      codeNm: "생일면"
-    },
-    {
-      sido: "36",
-      sigugun: "36660",
-      dong: "36660360",
-      codeNm: "소안면"
-    },
-    {
-      sido: "36",
-      sigugun: "36660",
-      dong: "36660320",
-      codeNm: "신지면"
-    },
-    {
-      sido: "36",
-      sigugun: "36660",
-      dong: "36660340",
-      codeNm: "약산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36660",
-      dong: "36660110",
-      codeNm: "완도읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36660",
-      dong: "36660350",
-      codeNm: "청산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36650",
-      dong: "36650320",
-      codeNm: "남면"
-    },
-    {
-      sido: "36",
-      sigugun: "36650",
-      dong: "36650330",
-      codeNm: "동화면"
-    },
-    {
-      sido: "36",
-      sigugun: "36650",
-      dong: "36650390",
-      codeNm: "북이면"
-    },
-    {
-      sido: "36",
-      sigugun: "36650",
-      dong: "36650380",
-      codeNm: "북일면"
-    },
-    {
-      sido: "36",
-      sigugun: "36650",
-      dong: "36650400",
-      codeNm: "북하면"
-    },
-    {
-      sido: "36",
-      sigugun: "36650",
-      dong: "36650350",
-      codeNm: "삼계면"
-    },
-    {
-      sido: "36",
-      sigugun: "36650",
-      dong: "36650340",
-      codeNm: "삼서면"
-    },
-    {
-      sido: "36",
-      sigugun: "36650",
-      dong: "36650370",
-      codeNm: "서삼면"
-    },
-    {
-      sido: "36",
-      sigugun: "36650",
-      dong: "36650110",
-      codeNm: "장성읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36650",
-      dong: "36650310",
-      codeNm: "진원면"
-    },
-    {
-      sido: "36",
-      sigugun: "36650",
-      dong: "36650360",
-      codeNm: "황룡면"
-    },
-    {
-      sido: "36",
-      sigugun: "36580",
-      dong: "36580120",
-      codeNm: "관산읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36580",
-      dong: "36580130",
-      codeNm: "대덕읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36580",
-      dong: "36580360",
-      codeNm: "부산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36580",
-      dong: "36580320",
-      codeNm: "안양면"
-    },
-    {
-      sido: "36",
-      sigugun: "36580",
-      dong: "36580310",
-      codeNm: "용산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36580",
-      dong: "36580350",
-      codeNm: "유치면"
-    },
-    {
-      sido: "36",
-      sigugun: "36580",
-      dong: "36580330",
-      codeNm: "장동면"
-    },
-    {
-      sido: "36",
-      sigugun: "36580",
-      dong: "36580340",
-      codeNm: "장평면"
-    },
-    {
-      sido: "36",
-      sigugun: "36580",
-      dong: "36580110",
-      codeNm: "장흥읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36580",
-      dong: "36580370",
-      codeNm: "회진면"
-    },
-    {
-      sido: "36",
-      sigugun: "36670",
-      dong: "36670320",
-      codeNm: "고군면"
-    },
-    {
-      sido: "36",
-      sigugun: "36670",
-      dong: "36670310",
-      codeNm: "군내면"
-    },
-    {
-      sido: "36",
-      sigugun: "36670",
-      dong: "36670330",
-      codeNm: "의신면"
-    },
-    {
-      sido: "36",
-      sigugun: "36670",
-      dong: "36670340",
-      codeNm: "임회면"
-    },
-    {
-      sido: "36",
-      sigugun: "36670",
-      dong: "36670360",
-      codeNm: "조도면"
-    },
-    {
-      sido: "36",
-      sigugun: "36670",
-      dong: "36670350",
-      codeNm: "지산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36670",
-      dong: "36670110",
-      codeNm: "진도읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36630",
-      dong: "36630360",
-      codeNm: "나산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36630",
-      dong: "36630350",
-      codeNm: "대동면"
-    },
-    {
-      sido: "36",
-      sigugun: "36630",
-      dong: "36630310",
-      codeNm: "손불면"
-    },
-    {
-      sido: "36",
-      sigugun: "36630",
-      dong: "36630320",
-      codeNm: "신광면"
-    },
-    {
-      sido: "36",
-      sigugun: "36630",
-      dong: "36630340",
-      codeNm: "엄다면"
-    },
-    {
-      sido: "36",
-      sigugun: "36630",
-      dong: "36630380",
-      codeNm: "월야면"
-    },
-    {
-      sido: "36",
-      sigugun: "36630",
-      dong: "36630330",
-      codeNm: "학교면"
-    },
-    {
-      sido: "36",
-      sigugun: "36630",
-      dong: "36630110",
-      codeNm: "함평읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36630",
-      dong: "36630370",
-      codeNm: "해보면"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600380",
-      codeNm: "계곡면"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600390",
-      codeNm: "마산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600420",
-      codeNm: "문내면"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600360",
-      codeNm: "북일면"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600350",
-      codeNm: "북평면"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600410",
-      codeNm: "산이면"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600310",
-      codeNm: "삼산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600340",
-      codeNm: "송지면"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600370",
-      codeNm: "옥천면"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600110",
-      codeNm: "해남읍"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600330",
-      codeNm: "현산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600320",
-      codeNm: "화산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600430",
-      codeNm: "화원면"
-    },
-    {
-      sido: "36",
-      sigugun: "36600",
-      dong: "36600400",
-      codeNm: "황산면"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      dong: "36570350",
-      codeNm: "능주면"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      dong: "36570360",
-      codeNm: "도곡면"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      dong: "36570370",
-      codeNm: "도암면"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      dong: "36570420",
-      codeNm: "동면"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      dong: "36570400",
-      codeNm: "동복면"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      dong: "36570430",
-      codeNm: "백아면"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      dong: "36570440",
-      codeNm: "사평면"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      dong: "36570380",
-      codeNm: "이서면"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      dong: "36570340",
-      codeNm: "이양면"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      dong: "36570330",
-      codeNm: "청풍면"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      dong: "36570320",
-      codeNm: "춘양면"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      dong: "36570310",
-      codeNm: "한천면"
-    },
-    {
-      sido: "36",
-      sigugun: "36570",
-      dong: "36570110",
-      codeNm: "화순읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100540",
-      codeNm: "남부동"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100340",
-      codeNm: "남산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100360",
-      codeNm: "남천면"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100520",
-      codeNm: "동부동"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100550",
-      codeNm: "북부동"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100530",
-      codeNm: "서부1동"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100570",
-      codeNm: "서부2동"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100130",
-      codeNm: "압량읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100310",
-      codeNm: "와촌면"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100330",
-      codeNm: "용성면"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100320",
-      codeNm: "자인면"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100560",
-      codeNm: "중방동"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100510",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100120",
-      codeNm: "진량읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37100",
-      dong: "37100110",
-      codeNm: "하양읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020110",
-      codeNm: "감포읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020370",
-      codeNm: "강동면"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020130",
-      codeNm: "건천읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020330",
-      codeNm: "내남면"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020640",
-      codeNm: "동천동"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020390",
-      codeNm: "문무대왕면"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020670",
-      codeNm: "보덕동"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020660",
-      codeNm: "불국동"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020340",
-      codeNm: "산내면"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020350",
-      codeNm: "서면"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020590",
-      codeNm: "선도동"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020550",
-      codeNm: "성건동"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020120",
-      codeNm: "안강읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020320",
-      codeNm: "양남면"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020140",
-      codeNm: "외동읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020620",
-      codeNm: "용강동"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020580",
-      codeNm: "월성동"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020510",
-      codeNm: "중부동"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020380",
-      codeNm: "천북면"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020360",
-      codeNm: "현곡면"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020690",
-      codeNm: "황남동"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020630",
-      codeNm: "황성동"
-    },
-    {
-      sido: "37",
-      sigugun: "37020",
-      dong: "37020680",
-      codeNm: "황오동"
-    },
-    {
-      sido: "37",
-      sigugun: "37570",
-      dong: "37570350",
-      codeNm: "개진면"
-    },
-    {
-      sido: "37",
-      sigugun: "37570",
-      dong: "37570340",
-      codeNm: "다산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37570",
-      dong: "37570120",
-      codeNm: "대가야읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37570",
-      dong: "37570310",
-      codeNm: "덕곡면"
-    },
-    {
-      sido: "37",
-      sigugun: "37570",
-      dong: "37570330",
-      codeNm: "성산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37570",
-      dong: "37570370",
-      codeNm: "쌍림면"
-    },
-    {
-      sido: "37",
-      sigugun: "37570",
-      dong: "37570360",
-      codeNm: "우곡면"
-    },
-    {
-      sido: "37",
-      sigugun: "37570",
-      dong: "37570320",
-      codeNm: "운수면"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050120",
-      codeNm: "고아읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050740",
-      codeNm: "공단동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050660",
-      codeNm: "광평동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050330",
-      codeNm: "도개면"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050550",
-      codeNm: "도량동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050310",
-      codeNm: "무을면"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050730",
-      codeNm: "비산동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050130",
-      codeNm: "산동읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050670",
-      codeNm: "상모사곡동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050110",
-      codeNm: "선산읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050570",
-      codeNm: "선주원남동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050510",
-      codeNm: "송정동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050610",
-      codeNm: "신평1동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050620",
-      codeNm: "신평2동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050720",
-      codeNm: "양포동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050320",
-      codeNm: "옥성면"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050750",
-      codeNm: "원평동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050700",
-      codeNm: "인동동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050690",
-      codeNm: "임오동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050360",
-      codeNm: "장천면"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050560",
-      codeNm: "지산동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050710",
-      codeNm: "진미동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050340",
-      codeNm: "해평면"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050590",
-      codeNm: "형곡1동"
-    },
-    {
-      sido: "37",
-      sigugun: "37050",
-      dong: "37050600",
-      codeNm: "형곡2동"
-    },
-    {
-      sido: "37",
-      sigugun: "37510",
-      dong: "37510110",
-      codeNm: "군위읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37510",
-      dong: "37510330",
-      codeNm: "부계면"
-    },
-    {
-      sido: "37",
-      sigugun: "37510",
-      dong: "37510360",
-      codeNm: "산성면"
-    },
-    {
-      sido: "37",
-      sigugun: "37510",
-      dong: "37510380",
-      codeNm: "삼국유사면"
-    },
-    {
-      sido: "37",
-      sigugun: "37510",
-      dong: "37510310",
-      codeNm: "소보면"
-    },
-    {
-      sido: "37",
-      sigugun: "37510",
-      dong: "37510340",
-      codeNm: "우보면"
-    },
-    {
-      sido: "37",
-      sigugun: "37510",
-      dong: "37510350",
-      codeNm: "의흥면"
-    },
-    {
-      sido: "37",
-      sigugun: "37510",
-      dong: "37510320",
-      codeNm: "효령면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030340",
-      codeNm: "감문면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030380",
-      codeNm: "감천면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030330",
-      codeNm: "개령면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030400",
-      codeNm: "구성면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030320",
-      codeNm: "남면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030310",
-      codeNm: "농소면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030580",
-      codeNm: "대곡동"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030430",
-      codeNm: "대덕면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030560",
-      codeNm: "대신동"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030370",
-      codeNm: "대항면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030360",
-      codeNm: "봉산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030420",
-      codeNm: "부항면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030110",
-      codeNm: "아포읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030550",
-      codeNm: "양금동"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030350",
-      codeNm: "어모면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030620",
-      codeNm: "율곡동"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030600",
-      codeNm: "자산동"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030390",
-      codeNm: "조마면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030440",
-      codeNm: "증산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030410",
-      codeNm: "지례면"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030590",
-      codeNm: "지좌동"
-    },
-    {
-      sido: "37",
-      sigugun: "37030",
-      dong: "37030610",
-      codeNm: "평화남산동"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090120",
-      codeNm: "가은읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090370",
-      codeNm: "농암면"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090350",
-      codeNm: "동로면"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090360",
-      codeNm: "마성면"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090110",
-      codeNm: "문경읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090340",
-      codeNm: "산북면"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090320",
-      codeNm: "산양면"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090310",
-      codeNm: "영순면"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090570",
-      codeNm: "점촌1동"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090580",
-      codeNm: "점촌2동"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090590",
-      codeNm: "점촌3동"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090600",
-      codeNm: "점촌4동"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090610",
-      codeNm: "점촌5동"
-    },
-    {
-      sido: "37",
-      sigugun: "37090",
-      dong: "37090330",
-      codeNm: "호계면"
-    },
-    {
-      sido: "37",
-      sigugun: "37610",
-      dong: "37610380",
-      codeNm: "명호면"
-    },
-    {
-      sido: "37",
-      sigugun: "37610",
-      dong: "37610310",
-      codeNm: "물야면"
-    },
-    {
-      sido: "37",
-      sigugun: "37610",
-      dong: "37610330",
-      codeNm: "법전면"
-    },
-    {
-      sido: "37",
-      sigugun: "37610",
-      dong: "37610320",
-      codeNm: "봉성면"
-    },
-    {
-      sido: "37",
-      sigugun: "37610",
-      dong: "37610110",
-      codeNm: "봉화읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37610",
-      dong: "37610390",
-      codeNm: "상운면"
-    },
-    {
-      sido: "37",
-      sigugun: "37610",
-      dong: "37610360",
-      codeNm: "석포면"
-    },
-    {
-      sido: "37",
-      sigugun: "37610",
-      dong: "37610350",
-      codeNm: "소천면"
-    },
-    {
-      sido: "37",
-      sigugun: "37610",
-      dong: "37610370",
-      codeNm: "재산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37610",
-      dong: "37610340",
-      codeNm: "춘양면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080540",
-      codeNm: "계림동"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080450",
-      codeNm: "공검면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080350",
-      codeNm: "공성면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080330",
-      codeNm: "낙동면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080520",
-      codeNm: "남원동"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080370",
-      codeNm: "내서면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080550",
-      codeNm: "동문동"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080560",
-      codeNm: "동성동"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080380",
-      codeNm: "모동면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080390",
-      codeNm: "모서면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080530",
-      codeNm: "북문동"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080480",
-      codeNm: "사벌국면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080570",
-      codeNm: "신흥동"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080360",
-      codeNm: "외남면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080430",
-      codeNm: "외서면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080440",
-      codeNm: "은척면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080460",
-      codeNm: "이안면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080320",
-      codeNm: "중동면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080340",
-      codeNm: "청리면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080110",
-      codeNm: "함창읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080470",
-      codeNm: "화남면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080400",
-      codeNm: "화동면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080420",
-      codeNm: "화북면"
-    },
-    {
-      sido: "37",
-      sigugun: "37080",
-      dong: "37080410",
-      codeNm: "화서면"
-    },
-    {
-      sido: "37",
-      sigugun: "37580",
-      dong: "37580340",
-      codeNm: "가천면"
-    },
-    {
-      sido: "37",
-      sigugun: "37580",
-      dong: "37580350",
-      codeNm: "금수면"
-    },
-    {
-      sido: "37",
-      sigugun: "37580",
-      dong: "37580360",
-      codeNm: "대가면"
-    },
-    {
-      sido: "37",
-      sigugun: "37580",
-      dong: "37580370",
-      codeNm: "벽진면"
-    },
-    {
-      sido: "37",
-      sigugun: "37580",
-      dong: "37580310",
-      codeNm: "선남면"
-    },
-    {
-      sido: "37",
-      sigugun: "37580",
-      dong: "37580110",
-      codeNm: "성주읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37580",
-      dong: "37580330",
-      codeNm: "수륜면"
-    },
-    {
-      sido: "37",
-      sigugun: "37580",
-      dong: "37580320",
-      codeNm: "용암면"
-    },
-    {
-      sido: "37",
-      sigugun: "37580",
-      dong: "37580390",
-      codeNm: "월항면"
-    },
-    {
-      sido: "37",
-      sigugun: "37580",
-      dong: "37580380",
-      codeNm: "초전면"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040630",
-      codeNm: "강남동"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040390",
-      codeNm: "길안면"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040370",
-      codeNm: "남선면"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040360",
-      codeNm: "남후면"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040430",
-      codeNm: "녹전면"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040420",
-      codeNm: "도산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040520",
-      codeNm: "명륜동"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040320",
-      codeNm: "북후면"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040620",
-      codeNm: "서구동"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040330",
-      codeNm: "서후면"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040610",
-      codeNm: "송하동"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040590",
-      codeNm: "안기동"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040410",
-      codeNm: "예안면"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040600",
-      codeNm: "옥동"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040310",
-      codeNm: "와룡면"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040540",
-      codeNm: "용상동"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040350",
-      codeNm: "일직면"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040400",
-      codeNm: "임동면"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040380",
-      codeNm: "임하면"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040510",
-      codeNm: "중구동"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040560",
-      codeNm: "태화동"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040580",
-      codeNm: "평화동"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040110",
-      codeNm: "풍산읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37040",
-      dong: "37040340",
-      codeNm: "풍천면"
-    },
-    {
-      sido: "37",
-      sigugun: "37550",
-      dong: "37550310",
-      codeNm: "강구면"
-    },
-    {
-      sido: "37",
-      sigugun: "37550",
-      dong: "37550320",
-      codeNm: "남정면"
-    },
-    {
-      sido: "37",
-      sigugun: "37550",
-      dong: "37550330",
-      codeNm: "달산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37550",
-      dong: "37550370",
-      codeNm: "병곡면"
-    },
-    {
-      sido: "37",
-      sigugun: "37550",
-      dong: "37550110",
-      codeNm: "영덕읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37550",
-      dong: "37550360",
-      codeNm: "영해면"
-    },
-    {
-      sido: "37",
-      sigugun: "37550",
-      dong: "37550340",
-      codeNm: "지품면"
-    },
-    {
-      sido: "37",
-      sigugun: "37550",
-      dong: "37550380",
-      codeNm: "창수면"
-    },
-    {
-      sido: "37",
-      sigugun: "37550",
-      dong: "37550350",
-      codeNm: "축산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37540",
-      dong: "37540350",
-      codeNm: "석보면"
-    },
-    {
-      sido: "37",
-      sigugun: "37540",
-      dong: "37540340",
-      codeNm: "수비면"
-    },
-    {
-      sido: "37",
-      sigugun: "37540",
-      dong: "37540110",
-      codeNm: "영양읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37540",
-      dong: "37540330",
-      codeNm: "일월면"
-    },
-    {
-      sido: "37",
-      sigugun: "37540",
-      dong: "37540310",
-      codeNm: "입암면"
-    },
-    {
-      sido: "37",
-      sigugun: "37540",
-      dong: "37540320",
-      codeNm: "청기면"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060620",
-      codeNm: "가흥1동"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060630",
-      codeNm: "가흥2동"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060380",
-      codeNm: "단산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060330",
-      codeNm: "문수면"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060360",
-      codeNm: "봉현면"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060390",
-      codeNm: "부석면"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060510",
-      codeNm: "상망동"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060370",
-      codeNm: "순흥면"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060350",
-      codeNm: "안정면"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060550",
-      codeNm: "영주1동"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060580",
-      codeNm: "영주2동"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060310",
-      codeNm: "이산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060340",
-      codeNm: "장수면"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060320",
-      codeNm: "평은면"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060110",
-      codeNm: "풍기읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060530",
-      codeNm: "하망동"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060590",
-      codeNm: "휴천1동"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060600",
-      codeNm: "휴천2동"
-    },
-    {
-      sido: "37",
-      sigugun: "37060",
-      dong: "37060610",
-      codeNm: "휴천3동"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070380",
-      codeNm: "고경면"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070110",
-      codeNm: "금호읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070550",
-      codeNm: "남부동"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070400",
-      codeNm: "대창면"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070510",
-      codeNm: "동부동"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070390",
-      codeNm: "북안면"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070530",
-      codeNm: "서부동"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070320",
-      codeNm: "신녕면"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070540",
-      codeNm: "완산동"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070370",
-      codeNm: "임고면"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070360",
-      codeNm: "자양면"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070520",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070310",
-      codeNm: "청통면"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070350",
-      codeNm: "화남면"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070340",
-      codeNm: "화북면"
-    },
-    {
-      sido: "37",
-      sigugun: "37070",
-      dong: "37070330",
-      codeNm: "화산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37600",
-      dong: "37600340",
-      codeNm: "감천면"
-    },
-    {
-      sido: "37",
-      sigugun: "37600",
-      dong: "37600390",
-      codeNm: "개포면"
-    },
-    {
-      sido: "37",
-      sigugun: "37600",
-      dong: "37600350",
-      codeNm: "보문면"
-    },
-    {
-      sido: "37",
-      sigugun: "37600",
-      dong: "37600110",
-      codeNm: "예천읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37600",
-      dong: "37600380",
-      codeNm: "용궁면"
-    },
-    {
-      sido: "37",
-      sigugun: "37600",
-      dong: "37600310",
-      codeNm: "용문면"
-    },
-    {
-      sido: "37",
-      sigugun: "37600",
-      dong: "37600370",
-      codeNm: "유천면"
-    },
-    {
-      sido: "37",
-      sigugun: "37600",
-      dong: "37600430",
-      codeNm: "은풍면"
-    },
-    {
-      sido: "37",
-      sigugun: "37600",
-      dong: "37600400",
-      codeNm: "지보면"
-    },
-    {
-      sido: "37",
-      sigugun: "37600",
-      dong: "37600410",
-      codeNm: "풍양면"
-    },
-    {
-      sido: "37",
-      sigugun: "37600",
-      dong: "37600360",
-      codeNm: "호명면"
-    },
-    {
-      sido: "37",
-      sigugun: "37600",
-      dong: "37600420",
-      codeNm: "효자면"
-    },
-    {
-      sido: "37",
-      sigugun: "37630",
-      dong: "37630320",
-      codeNm: "북면"
-    },
-    {
-      sido: "37",
-      sigugun: "37630",
-      dong: "37630310",
-      codeNm: "서면"
-    },
-    {
-      sido: "37",
-      sigugun: "37630",
-      dong: "37630110",
-      codeNm: "울릉읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37620",
-      dong: "37620330",
-      codeNm: "근남면"
-    },
-    {
-      sido: "37",
-      sigugun: "37620",
-      dong: "37620390",
-      codeNm: "금강송면"
-    },
-    {
-      sido: "37",
-      sigugun: "37620",
-      dong: "37620350",
-      codeNm: "기성면"
-    },
-    {
-      sido: "37",
-      sigugun: "37620",
-      dong: "37620400",
-      codeNm: "매화면"
-    },
-    {
-      sido: "37",
-      sigugun: "37620",
-      dong: "37620310",
-      codeNm: "북면"
-    },
-    {
-      sido: "37",
-      sigugun: "37620",
-      dong: "37620360",
-      codeNm: "온정면"
-    },
-    {
-      sido: "37",
-      sigugun: "37620",
-      dong: "37620110",
-      codeNm: "울진읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37620",
-      dong: "37620370",
-      codeNm: "죽변면"
-    },
-    {
-      sido: "37",
-      sigugun: "37620",
-      dong: "37620120",
-      codeNm: "평해읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37620",
-      dong: "37620380",
-      codeNm: "후포면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520360",
-      codeNm: "가음면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520400",
-      codeNm: "구천면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520370",
-      codeNm: "금성면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520440",
-      codeNm: "다인면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520410",
-      codeNm: "단밀면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520420",
-      codeNm: "단북면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520310",
-      codeNm: "단촌면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520380",
-      codeNm: "봉양면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520390",
-      codeNm: "비안면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520340",
-      codeNm: "사곡면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520450",
-      codeNm: "신평면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520430",
-      codeNm: "안계면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520470",
-      codeNm: "안사면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520460",
-      codeNm: "안평면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520330",
-      codeNm: "옥산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520110",
-      codeNm: "의성읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520320",
-      codeNm: "점곡면"
-    },
-    {
-      sido: "37",
-      sigugun: "37520",
-      dong: "37520350",
-      codeNm: "춘산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37560",
-      dong: "37560310",
-      codeNm: "각남면"
-    },
-    {
-      sido: "37",
-      sigugun: "37560",
-      dong: "37560330",
-      codeNm: "각북면"
-    },
-    {
-      sido: "37",
-      sigugun: "37560",
-      dong: "37560360",
-      codeNm: "금천면"
-    },
-    {
-      sido: "37",
-      sigugun: "37560",
-      dong: "37560370",
-      codeNm: "매전면"
-    },
-    {
-      sido: "37",
-      sigugun: "37560",
-      dong: "37560350",
-      codeNm: "운문면"
-    },
-    {
-      sido: "37",
-      sigugun: "37560",
-      dong: "37560340",
-      codeNm: "이서면"
-    },
-    {
-      sido: "37",
-      sigugun: "37560",
-      dong: "37560120",
-      codeNm: "청도읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37560",
-      dong: "37560320",
-      codeNm: "풍각면"
-    },
-    {
-      sido: "37",
-      sigugun: "37560",
-      dong: "37560110",
-      codeNm: "화양읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37530",
-      dong: "37530320",
-      codeNm: "부남면"
-    },
-    {
-      sido: "37",
-      sigugun: "37530",
-      dong: "37530350",
-      codeNm: "안덕면"
-    },
-    {
-      sido: "37",
-      sigugun: "37530",
-      dong: "37530380",
-      codeNm: "주왕산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37530",
-      dong: "37530370",
-      codeNm: "진보면"
-    },
-    {
-      sido: "37",
-      sigugun: "37530",
-      dong: "37530110",
-      codeNm: "청송읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37530",
-      dong: "37530360",
-      codeNm: "파천면"
-    },
-    {
-      sido: "37",
-      sigugun: "37530",
-      dong: "37530330",
-      codeNm: "현동면"
-    },
-    {
-      sido: "37",
-      sigugun: "37530",
-      dong: "37530340",
-      codeNm: "현서면"
-    },
-    {
-      sido: "37",
-      sigugun: "37590",
-      dong: "37590330",
-      codeNm: "가산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37590",
-      dong: "37590370",
-      codeNm: "기산면"
-    },
-    {
-      sido: "37",
-      sigugun: "37590",
-      dong: "37590320",
-      codeNm: "동명면"
-    },
-    {
-      sido: "37",
-      sigugun: "37590",
-      dong: "37590120",
-      codeNm: "북삼읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37590",
-      dong: "37590130",
-      codeNm: "석적읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37590",
-      dong: "37590360",
-      codeNm: "약목면"
-    },
-    {
-      sido: "37",
-      sigugun: "37590",
-      dong: "37590110",
-      codeNm: "왜관읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37590",
-      dong: "37590310",
-      codeNm: "지천면"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011110",
-      codeNm: "구룡포읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011310",
-      codeNm: "대송면"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011590",
-      codeNm: "대이동"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011320",
-      codeNm: "동해면"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011600",
-      codeNm: "상대동"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011550",
-      codeNm: "송도동"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011120",
-      codeNm: "연일읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011130",
-      codeNm: "오천읍"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011330",
-      codeNm: "장기면"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011570",
-      codeNm: "제철동"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011560",
-      codeNm: "청림동"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011610",
-      codeNm: "해도동"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011350",
-      codeNm: "호미곶면"
-    },
-    {
-      sido: "37",
-      sigugun: "37011",
-      dong: "37011580",
-      codeNm: "효곡동"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012340",
-      codeNm: "기계면"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012360",
-      codeNm: "기북면"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012640",
-      codeNm: "두호동"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012330",
-      codeNm: "송라면"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012310",
-      codeNm: "신광면"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012580",
-      codeNm: "양학동"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012610",
-      codeNm: "용흥동"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012630",
-      codeNm: "우창동"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012650",
-      codeNm: "장량동"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012680",
-      codeNm: "죽도동"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012350",
-      codeNm: "죽장면"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012670",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012320",
-      codeNm: "청하면"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012660",
-      codeNm: "환여동"
-    },
-    {
-      sido: "37",
-      sigugun: "37012",
-      dong: "37012110",
-      codeNm: "흥해읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090340",
-      codeNm: "거제면"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090580",
-      codeNm: "고현동"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090330",
-      codeNm: "남부면"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090530",
-      codeNm: "능포동"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090320",
-      codeNm: "동부면"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090350",
-      codeNm: "둔덕면"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090360",
-      codeNm: "사등면"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090590",
-      codeNm: "상문동"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090600",
-      codeNm: "수양동"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090540",
-      codeNm: "아주동"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090370",
-      codeNm: "연초면"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090550",
-      codeNm: "옥포1동"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090560",
-      codeNm: "옥포2동"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090310",
-      codeNm: "일운면"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090390",
-      codeNm: "장목면"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090610",
-      codeNm: "장승포동"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090570",
-      codeNm: "장평동"
-    },
-    {
-      sido: "38",
-      sigugun: "38090",
-      dong: "38090380",
-      codeNm: "하청면"
-    },
-    {
-      sido: "38",
-      sigugun: "38590",
-      dong: "38590410",
-      codeNm: "가북면"
-    },
-    {
-      sido: "38",
-      sigugun: "38590",
-      dong: "38590400",
-      codeNm: "가조면"
-    },
-    {
-      sido: "38",
-      sigugun: "38590",
-      dong: "38590110",
-      codeNm: "거창읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38590",
-      dong: "38590330",
-      codeNm: "고제면"
-    },
-    {
-      sido: "38",
-      sigugun: "38590",
-      dong: "38590370",
-      codeNm: "남상면"
-    },
-    {
-      sido: "38",
-      sigugun: "38590",
-      dong: "38590380",
-      codeNm: "남하면"
-    },
-    {
-      sido: "38",
-      sigugun: "38590",
-      dong: "38590360",
-      codeNm: "마리면"
-    },
-    {
-      sido: "38",
-      sigugun: "38590",
-      dong: "38590340",
-      codeNm: "북상면"
-    },
-    {
-      sido: "38",
-      sigugun: "38590",
-      dong: "38590390",
-      codeNm: "신원면"
-    },
-    {
-      sido: "38",
-      sigugun: "38590",
-      dong: "38590320",
-      codeNm: "웅양면"
-    },
-    {
-      sido: "38",
-      sigugun: "38590",
-      dong: "38590350",
-      codeNm: "위천면"
-    },
-    {
-      sido: "38",
-      sigugun: "38590",
-      dong: "38590310",
-      codeNm: "주상면"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540380",
-      codeNm: "개천면"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540430",
-      codeNm: "거류면"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540110",
-      codeNm: "고성읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540390",
-      codeNm: "구만면"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540350",
-      codeNm: "대가면"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540420",
-      codeNm: "동해면"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540410",
-      codeNm: "마암면"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540310",
-      codeNm: "삼산면"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540340",
-      codeNm: "상리면"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540370",
-      codeNm: "영오면"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540360",
-      codeNm: "영현면"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540330",
-      codeNm: "하이면"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540320",
-      codeNm: "하일면"
-    },
-    {
-      sido: "38",
-      sigugun: "38540",
-      dong: "38540400",
-      codeNm: "회화면"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070540",
-      codeNm: "내외동"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070370",
-      codeNm: "대동면"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070510",
-      codeNm: "동상동"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070530",
-      codeNm: "부원동"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070550",
-      codeNm: "북부동"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070600",
-      codeNm: "불암동"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070590",
-      codeNm: "삼안동"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070360",
-      codeNm: "상동면"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070350",
-      codeNm: "생림면"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070610",
-      codeNm: "장유1동"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070620",
-      codeNm: "장유2동"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070630",
-      codeNm: "장유3동"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070320",
-      codeNm: "주촌면"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070330",
-      codeNm: "진례면"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070110",
-      codeNm: "진영읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070560",
-      codeNm: "칠산서부동"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070340",
-      codeNm: "한림면"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070580",
-      codeNm: "활천동"
-    },
-    {
-      sido: "38",
-      sigugun: "38070",
-      dong: "38070520",
-      codeNm: "회현동"
-    },
-    {
-      sido: "38",
-      sigugun: "38550",
-      dong: "38550370",
-      codeNm: "고현면"
-    },
-    {
-      sido: "38",
-      sigugun: "38550",
-      dong: "38550350",
-      codeNm: "남면"
-    },
-    {
-      sido: "38",
-      sigugun: "38550",
-      dong: "38550110",
-      codeNm: "남해읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38550",
-      dong: "38550340",
-      codeNm: "미조면"
-    },
-    {
-      sido: "38",
-      sigugun: "38550",
-      dong: "38550330",
-      codeNm: "삼동면"
-    },
-    {
-      sido: "38",
-      sigugun: "38550",
-      dong: "38550320",
-      codeNm: "상주면"
-    },
-    {
-      sido: "38",
-      sigugun: "38550",
-      dong: "38550360",
-      codeNm: "서면"
-    },
-    {
-      sido: "38",
-      sigugun: "38550",
-      dong: "38550380",
-      codeNm: "설천면"
-    },
-    {
-      sido: "38",
-      sigugun: "38550",
-      dong: "38550310",
-      codeNm: "이동면"
-    },
-    {
-      sido: "38",
-      sigugun: "38550",
-      dong: "38550390",
-      codeNm: "창선면"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080550",
-      codeNm: "가곡동"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080530",
-      codeNm: "교동"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080520",
-      codeNm: "내이동"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080510",
-      codeNm: "내일동"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080350",
-      codeNm: "단장면"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080380",
-      codeNm: "무안면"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080310",
-      codeNm: "부북면"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080340",
-      codeNm: "산내면"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080330",
-      codeNm: "산외면"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080110",
-      codeNm: "삼랑진읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080540",
-      codeNm: "삼문동"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080360",
-      codeNm: "상남면"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080320",
-      codeNm: "상동면"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080390",
-      codeNm: "청도면"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080370",
-      codeNm: "초동면"
-    },
-    {
-      sido: "38",
-      sigugun: "38080",
-      dong: "38080120",
-      codeNm: "하남읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060360",
-      codeNm: "곤명면"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060350",
-      codeNm: "곤양면"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060590",
-      codeNm: "남양동"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060530",
-      codeNm: "동서금동"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060510",
-      codeNm: "동서동"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060550",
-      codeNm: "벌용동"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060320",
-      codeNm: "사남면"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060110",
-      codeNm: "사천읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060370",
-      codeNm: "서포면"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060520",
-      codeNm: "선구동"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060330",
-      codeNm: "용현면"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060310",
-      codeNm: "정동면"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060340",
-      codeNm: "축동면"
-    },
-    {
-      sido: "38",
-      sigugun: "38060",
-      dong: "38060570",
-      codeNm: "향촌동"
-    },
-    {
-      sido: "38",
-      sigugun: "38570",
-      dong: "38570340",
-      codeNm: "금서면"
-    },
-    {
-      sido: "38",
-      sigugun: "38570",
-      dong: "38570370",
-      codeNm: "단성면"
-    },
-    {
-      sido: "38",
-      sigugun: "38570",
-      dong: "38570110",
-      codeNm: "산청읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38570",
-      dong: "38570350",
-      codeNm: "삼장면"
-    },
-    {
-      sido: "38",
-      sigugun: "38570",
-      dong: "38570390",
-      codeNm: "생비량면"
-    },
-    {
-      sido: "38",
-      sigugun: "38570",
-      dong: "38570330",
-      codeNm: "생초면"
-    },
-    {
-      sido: "38",
-      sigugun: "38570",
-      dong: "38570360",
-      codeNm: "시천면"
-    },
-    {
-      sido: "38",
-      sigugun: "38570",
-      dong: "38570400",
-      codeNm: "신등면"
-    },
-    {
-      sido: "38",
-      sigugun: "38570",
-      dong: "38570380",
-      codeNm: "신안면"
-    },
-    {
-      sido: "38",
-      sigugun: "38570",
-      dong: "38570320",
-      codeNm: "오부면"
-    },
-    {
-      sido: "38",
-      sigugun: "38570",
-      dong: "38570310",
-      codeNm: "차황면"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      dong: "38100530",
-      codeNm: "강서동"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      dong: "38100570",
-      codeNm: "덕계동"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      dong: "38100310",
-      codeNm: "동면"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      dong: "38100120",
-      codeNm: "물금읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      dong: "38100520",
-      codeNm: "삼성동"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      dong: "38100330",
-      codeNm: "상북면"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      dong: "38100540",
-      codeNm: "서창동"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      dong: "38100550",
-      codeNm: "소주동"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      dong: "38100590",
-      codeNm: "양주동"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      dong: "38100320",
-      codeNm: "원동면"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      dong: "38100580",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      dong: "38100560",
-      codeNm: "평산동"
-    },
-    {
-      sido: "38",
-      sigugun: "38100",
-      dong: "38100340",
-      codeNm: "하북면"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      dong: "38510310",
-      codeNm: "가례면"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      dong: "38510410",
-      codeNm: "궁류면"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      dong: "38510380",
-      codeNm: "낙서면"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      dong: "38510330",
-      codeNm: "대의면"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      dong: "38510400",
-      codeNm: "봉수면"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      dong: "38510390",
-      codeNm: "부림면"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      dong: "38510350",
-      codeNm: "용덕면"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      dong: "38510420",
-      codeNm: "유곡면"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      dong: "38510110",
-      codeNm: "의령읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      dong: "38510360",
-      codeNm: "정곡면"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      dong: "38510370",
-      codeNm: "지정면"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      dong: "38510320",
-      codeNm: "칠곡면"
-    },
-    {
-      sido: "38",
-      sigugun: "38510",
-      dong: "38510340",
-      codeNm: "화정면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030710",
-      codeNm: "가호동"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030330",
-      codeNm: "금곡면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030400",
-      codeNm: "금산면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030310",
-      codeNm: "내동면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030390",
-      codeNm: "대곡면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030440",
-      codeNm: "대평면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030430",
-      codeNm: "명석면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030110",
-      codeNm: "문산읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030420",
-      codeNm: "미천면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030370",
-      codeNm: "사봉면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030770",
-      codeNm: "상대동"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030750",
-      codeNm: "상봉동"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030650",
-      codeNm: "상평동"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030730",
-      codeNm: "성북동"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030450",
-      codeNm: "수곡면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030680",
-      codeNm: "신안동"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030360",
-      codeNm: "이반성면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030690",
-      codeNm: "이현동"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030350",
-      codeNm: "일반성면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030320",
-      codeNm: "정촌면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030740",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030380",
-      codeNm: "지수면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030340",
-      codeNm: "진성면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030410",
-      codeNm: "집현면"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030720",
-      codeNm: "천전동"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030660",
-      codeNm: "초장동"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030760",
-      codeNm: "충무공동"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030700",
-      codeNm: "판문동"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030670",
-      codeNm: "평거동"
-    },
-    {
-      sido: "38",
-      sigugun: "38030",
-      dong: "38030780",
-      codeNm: "하대동"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530370",
-      codeNm: "계성면"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530310",
-      codeNm: "고암면"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530410",
-      codeNm: "길곡면"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530120",
-      codeNm: "남지읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530360",
-      codeNm: "대지면"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530330",
-      codeNm: "대합면"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530400",
-      codeNm: "도천면"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530420",
-      codeNm: "부곡면"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530320",
-      codeNm: "성산면"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530380",
-      codeNm: "영산면"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530350",
-      codeNm: "유어면"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530340",
-      codeNm: "이방면"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530390",
-      codeNm: "장마면"
-    },
-    {
-      sido: "38",
-      sigugun: "38530",
-      dong: "38530110",
-      codeNm: "창녕읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113520",
-      codeNm: "가포동"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113680",
-      codeNm: "교방동"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113310",
-      codeNm: "구산면"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113540",
-      codeNm: "문화동"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113660",
-      codeNm: "반월중앙동"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113650",
-      codeNm: "산호동"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113670",
-      codeNm: "오동동"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113570",
-      codeNm: "완월동"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113530",
-      codeNm: "월영동"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113580",
-      codeNm: "자산동"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113320",
-      codeNm: "진동면"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113330",
-      codeNm: "진북면"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113340",
-      codeNm: "진전면"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113640",
-      codeNm: "합포동"
-    },
-    {
-      sido: "38",
-      sigugun: "38113",
-      dong: "38113510",
-      codeNm: "현동"
-    },
-    {
-      sido: "38",
-      sigugun: "38114",
-      dong: "38114600",
-      codeNm: "구암1동"
-    },
-    {
-      sido: "38",
-      sigugun: "38114",
-      dong: "38114610",
-      codeNm: "구암2동"
-    },
-    {
-      sido: "38",
-      sigugun: "38114",
-      dong: "38114110",
-      codeNm: "내서읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38114",
-      dong: "38114620",
-      codeNm: "봉암동"
-    },
-    {
-      sido: "38",
-      sigugun: "38114",
-      dong: "38114630",
-      codeNm: "석전동"
-    },
-    {
-      sido: "38",
-      sigugun: "38114",
-      dong: "38114560",
-      codeNm: "양덕1동"
-    },
-    {
-      sido: "38",
-      sigugun: "38114",
-      dong: "38114570",
-      codeNm: "양덕2동"
-    },
-    {
-      sido: "38",
-      sigugun: "38114",
-      dong: "38114580",
-      codeNm: "합성1동"
-    },
-    {
-      sido: "38",
-      sigugun: "38114",
-      dong: "38114590",
-      codeNm: "합성2동"
-    },
-    {
-      sido: "38",
-      sigugun: "38114",
-      dong: "38114550",
-      codeNm: "회성동"
-    },
-    {
-      sido: "38",
-      sigugun: "38114",
-      dong: "38114510",
-      codeNm: "회원1동"
-    },
-    {
-      sido: "38",
-      sigugun: "38114",
-      dong: "38114520",
-      codeNm: "회원2동"
-    },
-    {
-      sido: "38",
-      sigugun: "38112",
-      dong: "38112550",
-      codeNm: "가음정동"
-    },
-    {
-      sido: "38",
-      sigugun: "38112",
-      dong: "38112510",
-      codeNm: "반송동"
-    },
-    {
-      sido: "38",
-      sigugun: "38112",
-      dong: "38112540",
-      codeNm: "사파동"
-    },
-    {
-      sido: "38",
-      sigugun: "38112",
-      dong: "38112530",
-      codeNm: "상남동"
-    },
-    {
-      sido: "38",
-      sigugun: "38112",
-      dong: "38112560",
-      codeNm: "성주동"
-    },
-    {
-      sido: "38",
-      sigugun: "38112",
-      dong: "38112580",
-      codeNm: "용지동"
-    },
-    {
-      sido: "38",
-      sigugun: "38112",
-      dong: "38112570",
-      codeNm: "웅남동"
-    },
-    {
-      sido: "38",
-      sigugun: "38112",
-      dong: "38112520",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "38",
-      sigugun: "38111",
-      dong: "38111320",
-      codeNm: "대산면"
-    },
-    {
-      sido: "38",
-      sigugun: "38111",
-      dong: "38111110",
-      codeNm: "동읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38111",
-      dong: "38111530",
-      codeNm: "명곡동"
-    },
-    {
-      sido: "38",
-      sigugun: "38111",
-      dong: "38111540",
-      codeNm: "봉림동"
-    },
-    {
-      sido: "38",
-      sigugun: "38111",
-      dong: "38111310",
-      codeNm: "북면"
-    },
-    {
-      sido: "38",
-      sigugun: "38111",
-      dong: "38111510",
-      codeNm: "의창동"
-    },
-    {
-      sido: "38",
-      sigugun: "38111",
-      dong: "38111520",
-      codeNm: "팔룡동"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      dong: "38115560",
-      codeNm: "경화동"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      dong: "38115610",
-      codeNm: "덕산동"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      dong: "38115570",
-      codeNm: "병암동"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      dong: "38115580",
-      codeNm: "석동"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      dong: "38115540",
-      codeNm: "여좌동"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      dong: "38115640",
-      codeNm: "웅동1동"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      dong: "38115650",
-      codeNm: "웅동2동"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      dong: "38115630",
-      codeNm: "웅천동"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      dong: "38115590",
-      codeNm: "이동"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      dong: "38115600",
-      codeNm: "자은동"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      dong: "38115660",
-      codeNm: "충무동"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      dong: "38115550",
-      codeNm: "태백동"
-    },
-    {
-      sido: "38",
-      sigugun: "38115",
-      dong: "38115620",
-      codeNm: "풍호동"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050330",
-      codeNm: "광도면"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050320",
-      codeNm: "도산면"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050620",
-      codeNm: "도천동"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050520",
-      codeNm: "명정동"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050560",
-      codeNm: "무전동"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050630",
-      codeNm: "미수동"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050640",
-      codeNm: "봉평동"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050550",
-      codeNm: "북신동"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050360",
-      codeNm: "사량면"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050110",
-      codeNm: "산양읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050340",
-      codeNm: "욕지면"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050310",
-      codeNm: "용남면"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050540",
-      codeNm: "정량동"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050530",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "38",
-      sigugun: "38050",
-      dong: "38050350",
-      codeNm: "한산면"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      dong: "38560350",
-      codeNm: "고전면"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      dong: "38560360",
-      codeNm: "금남면"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      dong: "38560370",
-      codeNm: "금성면"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      dong: "38560400",
-      codeNm: "북천면"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      dong: "38560320",
-      codeNm: "악양면"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      dong: "38560390",
-      codeNm: "양보면"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      dong: "38560420",
-      codeNm: "옥종면"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      dong: "38560330",
-      codeNm: "적량면"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      dong: "38560380",
-      codeNm: "진교면"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      dong: "38560410",
-      codeNm: "청암면"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      dong: "38560110",
-      codeNm: "하동읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      dong: "38560310",
-      codeNm: "화개면"
-    },
-    {
-      sido: "38",
-      sigugun: "38560",
-      dong: "38560340",
-      codeNm: "횡천면"
-    },
-    {
-      sido: "38",
-      sigugun: "38520",
-      dong: "38520110",
-      codeNm: "가야읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38520",
-      dong: "38520320",
-      codeNm: "군북면"
-    },
-    {
-      sido: "38",
-      sigugun: "38520",
-      dong: "38520340",
-      codeNm: "대산면"
-    },
-    {
-      sido: "38",
-      sigugun: "38520",
-      dong: "38520330",
-      codeNm: "법수면"
-    },
-    {
-      sido: "38",
-      sigugun: "38520",
-      dong: "38520380",
-      codeNm: "산인면"
-    },
-    {
-      sido: "38",
-      sigugun: "38520",
-      dong: "38520390",
-      codeNm: "여항면"
-    },
-    {
-      sido: "38",
-      sigugun: "38520",
-      dong: "38520360",
-      codeNm: "칠북면"
-    },
-    {
-      sido: "38",
-      sigugun: "38520",
-      dong: "38520350",
-      codeNm: "칠서면"
-    },
-    {
-      sido: "38",
-      sigugun: "38520",
-      dong: "38520120",
-      codeNm: "칠원읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38520",
-      dong: "38520310",
-      codeNm: "함안면"
-    },
-    {
-      sido: "38",
-      sigugun: "38580",
-      dong: "38580310",
-      codeNm: "마천면"
-    },
-    {
-      sido: "38",
-      sigugun: "38580",
-      dong: "38580390",
-      codeNm: "백전면"
-    },
-    {
-      sido: "38",
-      sigugun: "38580",
-      dong: "38580400",
-      codeNm: "병곡면"
-    },
-    {
-      sido: "38",
-      sigugun: "38580",
-      dong: "38580380",
-      codeNm: "서상면"
-    },
-    {
-      sido: "38",
-      sigugun: "38580",
-      dong: "38580370",
-      codeNm: "서하면"
-    },
-    {
-      sido: "38",
-      sigugun: "38580",
-      dong: "38580340",
-      codeNm: "수동면"
-    },
-    {
-      sido: "38",
-      sigugun: "38580",
-      dong: "38580360",
-      codeNm: "안의면"
-    },
-    {
-      sido: "38",
-      sigugun: "38580",
-      dong: "38580330",
-      codeNm: "유림면"
-    },
-    {
-      sido: "38",
-      sigugun: "38580",
-      dong: "38580350",
-      codeNm: "지곡면"
-    },
-    {
-      sido: "38",
-      sigugun: "38580",
-      dong: "38580110",
-      codeNm: "함양읍"
-    },
-    {
-      sido: "38",
-      sigugun: "38580",
-      dong: "38580320",
-      codeNm: "휴천면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600330",
-      codeNm: "가야면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600440",
-      codeNm: "가회면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600450",
-      codeNm: "대병면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600410",
-      codeNm: "대양면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600380",
-      codeNm: "덕곡면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600320",
-      codeNm: "묘산면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600310",
-      codeNm: "봉산면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600430",
-      codeNm: "삼가면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600420",
-      codeNm: "쌍백면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600370",
-      codeNm: "쌍책면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600340",
-      codeNm: "야로면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600460",
-      codeNm: "용주면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600350",
-      codeNm: "율곡면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600400",
-      codeNm: "적중면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600390",
-      codeNm: "청덕면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600360",
-      codeNm: "초계면"
-    },
-    {
-      sido: "38",
-      sigugun: "38600",
-      dong: "38600110",
-      codeNm: "합천읍"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020120",
-      codeNm: "남원읍"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020590",
-      codeNm: "대륜동"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020110",
-      codeNm: "대정읍"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020600",
-      codeNm: "대천동"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020570",
-      codeNm: "동홍동"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020580",
-      codeNm: "서홍동"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020130",
-      codeNm: "성산읍"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020510",
-      codeNm: "송산동"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020310",
-      codeNm: "안덕면"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020560",
-      codeNm: "영천동"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020620",
-      codeNm: "예래동"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020520",
-      codeNm: "정방동"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020610",
-      codeNm: "중문동"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020530",
-      codeNm: "중앙동"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020540",
-      codeNm: "천지동"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020320",
-      codeNm: "표선면"
-    },
-    {
-      sido: "39",
-      sigugun: "39020",
-      dong: "39020550",
-      codeNm: "효돈동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010590",
-      codeNm: "건입동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010130",
-      codeNm: "구좌읍"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010660",
-      codeNm: "노형동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010690",
-      codeNm: "도두동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010620",
-      codeNm: "봉개동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010550",
-      codeNm: "삼도1동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010560",
-      codeNm: "삼도2동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010610",
-      codeNm: "삼양동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010630",
-      codeNm: "아라동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010120",
-      codeNm: "애월읍"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010650",
-      codeNm: "연동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010640",
-      codeNm: "오라동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010670",
-      codeNm: "외도동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010570",
-      codeNm: "용담1동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010580",
-      codeNm: "용담2동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010330",
-      codeNm: "우도면"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010530",
-      codeNm: "이도1동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010540",
-      codeNm: "이도2동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010680",
-      codeNm: "이호동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010510",
-      codeNm: "일도1동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010520",
-      codeNm: "일도2동"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010140",
-      codeNm: "조천읍"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010320",
-      codeNm: "추자면"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010310",
-      codeNm: "한경면"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010110",
-      codeNm: "한림읍"
-    },
-    {
-      sido: "39",
-      sigugun: "39010",
-      dong: "39010600",
-      codeNm: "화북동"
-    }
-  ]
-};
\ No newline at end of file
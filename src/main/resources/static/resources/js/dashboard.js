@@ -0,0 +1,50 @@
+/**
+ *  @author 김봉준
+ *  @date   2026-10-19
+ *  관리자 대시보드의 지연 시간 / 처리량 표를 주기적으로 갱신하는 파일
+ */
+
+const DASHBOARD_REFRESH_MS = 2000;
+
+//지연 시간 표 갱신 함수
+async function refreshLatencyTable() {
+    try {
+        const response = await axios.get(`${metricsBaseUrl}/latency`);
+        const rows = response.data.data.map((snapshot) => `
+            <tr class="${snapshot.errorRate > 0.01 ? "table-danger" : ""}">
+                <td>${snapshot.name}</td>
+                <td class="text-end">${snapshot.throughput.toFixed(1)}</td>
+                <td class="text-end">${(snapshot.errorRate * 100).toFixed(2)}%</td>
+                <td class="text-end">${snapshot.p50.toFixed(2)}</td>
+                <td class="text-end">${snapshot.p99.toFixed(2)}</td>
+                <td class="text-end">${snapshot.p999.toFixed(2)}</td>
+                <td class="text-end">${snapshot.max.toFixed(2)}</td>
+                <td class="text-end">${snapshot.count}</td>
+                <td class="text-end">${snapshot.errors}</td>
+            </tr>`);
+        document.getElementById("latency-table-body").innerHTML = rows.join("");
+        document.getElementById("latency-updated").textContent = new Date().toLocaleTimeString();
+    } catch (error) {
+        console.error("Error:", error);
+    }
+}
+
+//카운터 표 갱신 함수
+async function refreshCounterTable() {
+    try {
+        const response = await axios.get(`${metricsBaseUrl}/counters`);
+        const rows = Object.entries(response.data.data).map(([name, value]) => `
+            <tr><td>${name}</td><td class="text-end">${value}</td></tr>`);
+        document.getElementById("counter-table-body").innerHTML = rows.join("");
+    } catch (error) {
+        console.error("Error:", error);
+    }
+}
+
+function refreshDashboard() {
+    refreshLatencyTable();
+    refreshCounterTable();
+}
+
+refreshDashboard();
+setInterval(refreshDashboard, DASHBOARD_REFRESH_MS);
@@ -53,6 +53,7 @@ function searchRouteSummury(startFeature, endFeature, routeFlag) {
             instructionsElement.innerHTML = `<h4>${startFeature.get("address")} -> <br> ${endFeature.get("address")}</h4>`;
             instructionsElement.innerHTML += `<h5>${convertMetersToKilometersAndMeters(data.routes[0].distance)}, ${convertSecondsToHoursAndMinutes( data.routes[0].duration)}</h5>`;
             instructionsElement.innerHTML += instructions;
+            appendRouteCorridorCctv(instructionsElement, data.routes[0].geometry);
             const coordinates = data.routes[0].geometry.coordinates.map((c) =>ol.proj.transform(c, "EPSG:4326", "EPSG:3857"));
 
             let toolTipElement = createDrawTooltip(-15, 0, "top-left");
@@ -245,6 +246,33 @@ function routeKindSelectChangeListener(e){
     }
 }
 
+//경로 주변 CCTV 를 경로 진행 순서로 조회하여 경로탐색 결과 아래에 붙인다. 좌표는 data-coordinate 로 저장하여 클릭/호버 리스너를 그대로 쓴다.
+//피처 이름은 import 된 값이므로 innerHTML 대신 textContent 로 넣는다.
+async function appendRouteCorridorCctv(container, routeGeometry) {
+    try {
+        const response = await axios.post("/map/corridor", { geometry: routeGeometry, buffer: 100 });
+        const corridor = response.data.data;
+        if (!corridor || corridor.features.length === 0) {
+            return;
+        }
+        const title = document.createElement("h5");
+        title.textContent = `경로 주변 CCTV ${corridor.count}개`;
+        container.appendChild(title);
+        corridor.features.forEach((feature, index) => {
+            if (index > 0) {
+                container.appendChild(document.createElement("br"));
+            }
+            const link = document.createElement("a");
+            link.setAttribute("href", "#");
+            link.setAttribute("data-coordinate", ol.proj.transform([feature.x, feature.y], "EPSG:4326", "EPSG:3857").join(","));
+            link.textContent = `${convertMetersToKilometersAndMeters(Math.round(feature.offset))} ${feature.name ?? feature.id} (${Math.round(feature.distance)}m)`;
+            container.appendChild(link);
+        });
+    } catch (error) {
+        console.error("경로 주변 CCTV 조회 실패", error);
+    }
+}
+
 //경로탐색 결과 컨테이너를 클릭할 때 동작하는 이벤트 리스너. a태그를 클릭할 때 data로 저장된 좌표를 이용해 지도의 중앙을 이동한다.
 function routeResultContainerClickListener(event){
     if (event.target.tagName === "A") {
@@ -0,0 +1,47 @@
+/**
+ *  @author 김봉준
+ *  @date   2026-10-19
+ *  회원가입 화면에서 아이디 / 닉네임 / 이메일 사용 가능 여부를 확인하는 파일
+ */
+
+const AVAILABILITY_DEBOUNCE_MS = 300;
+
+//입력값 사용 가능 여부 조회 함수
+async function checkAvailability(input) {
+    const field = input.dataset.availability;
+    const value = input.value.trim();
+    const message = document.getElementById(`${field}-availability`);
+    if (!value) {
+        message.textContent = '';
+        message.className = 'availability-message';
+        return;
+    }
+    try {
+        const params = new URLSearchParams({ field, value });
+        const response = await fetch(`${AVAILABILITY_URL}?${params}`);
+        const body = await response.json();
+        //응답이 오는 사이 값이 바뀌었으면 무시한다.
+        if (input.value.trim() !== value) {
+            return;
+        }
+        if (!response.ok) {
+            message.textContent = body.message;
+            message.className = 'availability-message unavailable';
+            return;
+        }
+        const label = input.labels[0].textContent;
+        message.textContent = body.data.available ? `사용 가능한 ${label}입니다.` : `이미 사용 중인 ${label}입니다.`;
+        message.className = `availability-message ${body.data.available ? 'available' : 'unavailable'}`;
+    } catch (error) {
+        console.error('사용 가능 여부 확인 실패', error);
+    }
+}
+
+//입력이 멈춘 뒤에 한 번만 조회한다.
+document.querySelectorAll('[data-availability]').forEach(input => {
+    let timer = null;
+    input.addEventListener('input', () => {
+        clearTimeout(timer);
+        timer = setTimeout(() => checkAvailability(input), AVAILABILITY_DEBOUNCE_MS);
+    });
+});
@@ -178,7 +178,7 @@ async function reverseGeoCodingToRegion(event, coordinateX, coordinateY) {
                 ? "세종시"
                 : res.documents[1].region_2depth_name;
         const depth3Address = res.documents[1].region_3depth_name;
-        findCodeByNames(depth1Address, depth2Address, depth3Address);
+        await findCodeByNames(depth1Address, depth2Address, depth3Address);
     } catch (error) {
         addressInfo.innerHTML = "주소를 찾을 수 없습니다.";
     }
@@ -473,51 +473,25 @@ function sample4_execDaumPostcode() {
     }).open();
 }
 
-//시도, 시군구, 읍면동을 코드를 이용해 조회 및 셀렉트에 적용하는 함수
-function findCodeByNames(sidoName, gugunName, dongName) {
-    let sidoCode, gugunCode, dongCode;
+//시도, 시군구, 읍면동 이름으로 코드를 조회하여 셀렉트에 적용하는 함수. 하위 셀렉트 목록을 불러온 뒤 값을 선택해야 하므로 순서대로 기다린다.
+async function findCodeByNames(sidoName, gugunName, dongName) {
     if (sidoName == "" && gugunName == "" && dongName == "") {
-        $("#sido").val("").trigger("change");
-        $("#sigugun").val("").trigger("change");
-        $("#dong").val("").trigger("change");
+        $("#sido").val("");
+        await loadSigugunOptions("");
         return;
     }
-    
-    for (let i = 0; i < hangjungdong.sido.length; i++) {
-        if (hangjungdong.sido[i].codeNm === sidoName) {
-            sidoCode = hangjungdong.sido[i].sido;
-            console.log(sidoCode);
-            $("#sido").val(hangjungdong.sido[i].sido).trigger("change");
-            console.log(hangjungdong.sido[i].sido)
-            break;
-        }
-    }
-
-    for (let i = 0; i < hangjungdong.sigugun.length; i++) {
-        if (
-            hangjungdong.sigugun[i].codeNm === gugunName &&
-            hangjungdong.sigugun[i].sido === sidoCode
-        ) {
-            gugunCode = hangjungdong.sigugun[i].sigugun;
-            $("#sigugun")
-                .val(hangjungdong.sigugun[i].sigugun)
-                .trigger("change");
-            break;
-        }
-    }
 
-    for (let i = 0; i < hangjungdong.dong.length; i++) {
-        if (
-            hangjungdong.dong[i].codeNm === dongName &&
-            hangjungdong.dong[i].sido === sidoCode &&
-            hangjungdong.dong[i].sigugun === gugunCode
-        ) {
-            dongCode = hangjungdong.dong[i].dong;
-            $("#dong").val(hangjungdong.dong[i].dong).trigger("change");
-            break;
-        }
-    }
-    return dongCode;
+    const response = await axios.get(`${ADMIN_CODE_URL}/resolve`, {
+        params: { sido: sidoName, sigugun: gugunName, dong: dongName },
+    });
+    const { sido, sigugun, dong } = response.data.data;
+
+    $("#sido").val(sido ?? "");
+    await loadSigugunOptions(sido ?? "");
+    $("#sigugun").val(sigugun ?? "");
+    await loadDongOptions(sigugun ?? "");
+    $("#dong").val(dong ?? "").trigger("change");
+    return dong;
 }
 
 //외부 라이브러리에서 기본으로 제공되는 html의 title값을 변경하는 함수.
@@ -624,46 +598,51 @@ function changeAddressSelectValue(code, name) {
     return '<option value="' + code + '">' + name + "</option>";
 }
 
-//SGIS API를 이용해 저장한 행정동 정보 파일을 이용해 행정동 셀렉트 박스의 값을 변경하기 위한 함수
-function initializeAddressSelection() {
-    //행정동 정보 파일을 이용해 행정동 시도 셀렉트의 값을 변경
-    $.each(hangjungdong.sido, function (idx, code) {
-        //append를 이용하여 option 하위에 붙여넣음
-        $("#sido").append(changeAddressSelectValue(code.sido, code.codeNm));
-    });
+//상위 코드별 행정동 하위 목록 캐시. 같은 목록은 서버에 다시 요청하지 않는다.
+const adminCodeCache = new Map();
+
+//서버의 행정동 코드 사전에서 상위 코드의 하위 목록을 가져오는 함수. 상위 코드가 ""이면 시도 목록이다.
+function fetchAdminCodes(parentCode) {
+    if (!adminCodeCache.has(parentCode)) {
+        const request = axios.get(ADMIN_CODE_URL, { params: { parent: parentCode } })
+            .then((response) => response.data.data)
+            .catch((error) => {
+                adminCodeCache.delete(parentCode);
+                throw error;
+            });
+        adminCodeCache.set(parentCode, request);
+    }
+    return adminCodeCache.get(parentCode);
+}
 
-    //시도 셀렉트가 변경될 때 발생하는 이벤트. 시군구, 읍면동 셀렉트를 초기화하고 시도 코드가 일치하는 코드를 가져와 옵션의 밸류에 세팅한다.
+//셀렉트를 "선택" 옵션과 코드 목록으로 다시 채우는 함수
+function fillAddressSelect(select, codes) {
+    const options = [changeAddressSelectValue("", "선택")];
+    codes.forEach((code) => options.push(changeAddressSelectValue(code.code, code.name)));
+    select.html(options.join(""));
+}
+
+//선택한 시도의 시군구 목록을 불러오는 함수. 읍면동 셀렉트는 초기화한다.
+async function loadSigugunOptions(sidoCode) {
+    fillAddressSelect($("#dong"), []);
+    fillAddressSelect($("#sigugun"), sidoCode ? await fetchAdminCodes(sidoCode) : []);
+}
+
+//선택한 시군구의 읍면동 목록을 불러오는 함수
+async function loadDongOptions(sigugunCode) {
+    fillAddressSelect($("#dong"), sigugunCode ? await fetchAdminCodes(sigugunCode) : []);
+}
+
+//서버의 행정동 코드 사전을 이용해 행정동 셀렉트 박스를 초기화하는 함수. 선택한 단계의 하위 목록만 요청한다.
+async function initializeAddressSelection() {
+    //시도 셀렉트가 변경될 때 발생하는 이벤트. 시군구, 읍면동 셀렉트를 초기화하고 선택한 시도의 시군구 목록을 가져온다.
     $("#sido").change(function () {
-        console.log("zzz1?")
-        $("#sigugun").empty();
-        $("#sigugun").append(changeAddressSelectValue("", "선택")); //
-        $("#dong").empty();
-        $("#dong").append(changeAddressSelectValue("", "선택")); //
-        $.each(hangjungdong.sigugun, function (idx, code) {
-            if ($("#sido > option:selected").val() == code.sido)
-                $("#sigugun").append(
-                    changeAddressSelectValue(code.sigugun, code.codeNm)
-                );
-        });
+        loadSigugunOptions($(this).val()).catch((error) => console.error("Error:", error));
     });
 
-    //시군구 셀렉트가 변경될 때 발생하는 이벤트. 읍면동 셀렉트를 초기화하고 시도, 시군구 코드가 일치하는 코드를 가져와 옵션의 밸류에 세팅한다.
+    //시군구 셀렉트가 변경될 때 발생하는 이벤트. 선택한 시군구의 읍면동 목록을 가져온다.
     $("#sigugun").change(function () {
-        //option 제거
-        $("#dong").empty();
-        $.each(hangjungdong.dong, function (idx, code) {
-            if (
-                $("#sido > option:selected").val() == code.sido &&
-                $("#sigugun > option:selected").val() == code.sigugun
-            )
-                $("#dong").append(
-                    changeAddressSelectValue(code.dong, code.codeNm)
-                );
-        });
-        //option의 맨앞에 추가
-        $("#dong").prepend(changeAddressSelectValue("", "선택"));
-        //option중 선택을 기본으로 선택
-        $('#dong option:eq("")').attr("selected", "selected");
+        loadDongOptions($(this).val()).catch((error) => console.error("Error:", error));
     });
 
     //읍면동 셀렉트가 변경될 때 발생하는 이벤트.
@@ -675,6 +654,12 @@ function initializeAddressSelection() {
         const dongName = sido.text() + " " + sigugun.text() + " " + dong.text(); // 시도/시군구/읍면동 이름
         console.log(dongName);
     });
+
+    try {
+        fillAddressSelect($("#sido"), await fetchAdminCodes(""));
+    } catch (error) {
+        console.error("Error:", error);
+    }
 }
 
 //CCTV API에서 제공하는 도로 CCTV 영상 재생 함수
@@ -0,0 +1,58 @@
+package com.green.watcher.greenwatcher.common.admincode.service;
+
+import com.green.watcher.greenwatcher.common.admincode.dto.AdminCodeDTO;
+import com.green.watcher.greenwatcher.common.admincode.dto.AdminCodePathDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminCodeServiceTest {
+
+    private final AdminCodeService adminCodeService = new AdminCodeService();
+
+    @Test
+    @DisplayName("상위 코드별 하위 목록 조회")
+    void testFindChildren() {
+        // when
+        List<AdminCodeDTO> sido = adminCodeService.findChildren(AdminCodeService.ROOT);
+        List<AdminCodeDTO> seoul = adminCodeService.findChildren("11");
+        List<AdminCodeDTO> jeju = adminCodeService.findChildren("39010");
+
+        // then
+        assertEquals(17, sido.size());
+        assertEquals("서울특별시", sido.get(0).getName());
+        assertTrue(seoul.stream().anyMatch(code -> code.getCode().equals("11230") && code.getName().equals("강남구")));
+        assertTrue(jeju.stream().allMatch(code -> code.getCode().startsWith("39010") && code.getCode().length() == 8));
+        assertTrue(adminCodeService.findChildren("99").isEmpty());
+    }
+
+    @Test
+    @DisplayName("시도 / 시군구 / 읍면동 이름으로 코드 조회")
+    void testResolve() {
+        // when
+        AdminCodePathDTO path = adminCodeService.resolve("제주특별자치도", "제주시", "한림읍");
+        AdminCodePathDTO partial = adminCodeService.resolve("세종특별자치시", "세종시", "없는동");
+        AdminCodePathDTO none = adminCodeService.resolve("없는시", "강남구", null);
+
+        // then
+        assertEquals("39", path.getSido());
+        assertEquals("39010", path.getSigugun());
+        assertEquals("39010110", path.getDong());
+        assertEquals("29010", partial.getSigugun());
+        assertNull(partial.getDong());
+        assertNull(none.getSido());
+        assertNull(none.getSigugun());
+    }
+
+    @Test
+    @DisplayName("코드 길이로 상위 코드 계산")
+    void testParentCode() {
+        assertEquals(AdminCodeService.ROOT, AdminCodeService.parentCode("11"));
+        assertEquals("11", AdminCodeService.parentCode("11230"));
+        assertEquals("11230", AdminCodeService.parentCode("11230510"));
+        assertThrows(IllegalArgumentException.class, () -> AdminCodeService.parentCode("1"));
+    }
+}
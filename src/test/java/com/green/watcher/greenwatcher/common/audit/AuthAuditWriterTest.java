@@ -0,0 +1,166 @@
+package com.green.watcher.greenwatcher.common.audit;
+
+import com.green.watcher.greenwatcher.common.audit.enumerate.AuthEventType;
+import com.green.watcher.greenwatcher.common.concurrency.ConcurrencyLimitExceededException;
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.user.security.jwt.JwtTokenRejectedEvent;
+import com.green.watcher.greenwatcher.common.user.security.jwt.TokenStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.RememberMeAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authentication.event.AuthenticationFailureServiceExceptionEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthAuditWriterTest {
+
+    @Test
+    @DisplayName("인증 이벤트를 종류별로 구분하여 배치 insert 한다")
+    void testListenerAndBatchInsert() {
+        // given
+        AuthAuditRingBuffer buffer = new AuthAuditRingBuffer(16);
+        AuthAuditListener listener = new AuthAuditListener(buffer, new TokenRejectionCounter());
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(0);
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        AuthAuditWriter writer = new AuthAuditWriter(buffer, new TokenRejectionCounter(), jdbcTemplate, properties(), metricsRegistry);
+
+        // when
+        listener.onSuccess(new AuthenticationSuccessEvent(
+                UsernamePasswordAuthenticationToken.authenticated("user1", null, AuthorityUtils.NO_AUTHORITIES)));
+        listener.onSuccess(new AuthenticationSuccessEvent(
+                new RememberMeAuthenticationToken("key", "user2", AuthorityUtils.createAuthorityList("ROLE_USER"))));
+        listener.onFailure(new AuthenticationFailureBadCredentialsEvent(
+                UsernamePasswordAuthenticationToken.unauthenticated("user3", "secret"), new BadCredentialsException("bad")));
+        //DB 동시성 한도로 사용자 조회가 거절된 로그인은 기록하지 않는다.
+        listener.onFailure(new AuthenticationFailureServiceExceptionEvent(
+                UsernamePasswordAuthenticationToken.unauthenticated("user4", "secret"),
+                new InternalAuthenticationServiceException("overloaded", new ConcurrencyLimitExceededException("repository", "busy"))));
+        int flushed = writer.flushBatch();
+
+        // then
+        assertEquals(3, flushed);
+        assertEquals(1, jdbcTemplate.calls);
+        List<Object[]> rows = jdbcTemplate.rows;
+        assertEquals(AuthEventType.LOGIN_SUCCESS.name(), rows.get(0)[0]);
+        assertEquals("user1", rows.get(0)[1]);
+        assertEquals(AuthEventType.REMEMBER_ME_LOGIN.name(), rows.get(1)[0]);
+        assertEquals(AuthEventType.LOGIN_FAILURE.name(), rows.get(2)[0]);
+        assertEquals("BadCredentialsException", rows.get(2)[4]);
+        for (Object[] row : rows) {
+            for (Object value : row) {
+                assertNotEquals("secret", value);
+            }
+        }
+        assertEquals(3L, metricsRegistry.counterValues().get("audit.auth.written"));
+    }
+
+    @Test
+    @DisplayName("DB 장애 시 재시도 후 배치를 버리고 예외를 던지지 않는다")
+    void testDropAfterRetries() {
+        // given
+        AuthAuditRingBuffer buffer = new AuthAuditRingBuffer(16);
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(Integer.MAX_VALUE);
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        AuthAuditWriter writer = new AuthAuditWriter(buffer, new TokenRejectionCounter(), jdbcTemplate, properties(), metricsRegistry);
+        buffer.offer(1L, AuthEventType.LOGIN_FAILURE, "user1", "WEB", "127.0.0.1", null);
+        buffer.offer(2L, AuthEventType.LOGIN_FAILURE, "user1", "WEB", "127.0.0.1", null);
+
+        // when
+        int flushed = assertDoesNotThrow(writer::flushBatch);
+
+        // then
+        assertEquals(2, flushed);
+        assertEquals(3, jdbcTemplate.calls);
+        assertEquals(2L, metricsRegistry.counterValues().get("audit.auth.dropped"));
+        assertEquals(0, writer.flushBatch());
+    }
+
+    @Test
+    @DisplayName("일시적인 실패는 재시도로 저장한다")
+    void testRetrySucceeds() {
+        // given
+        AuthAuditRingBuffer buffer = new AuthAuditRingBuffer(16);
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(1);
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        AuthAuditWriter writer = new AuthAuditWriter(buffer, new TokenRejectionCounter(), jdbcTemplate, properties(), metricsRegistry);
+        buffer.offer(1L, AuthEventType.TOKEN_REJECTED, null, "API", "127.0.0.1", "EXPIRED /api/test");
+
+        // when
+        writer.flushBatch();
+
+        // then
+        assertEquals(2, jdbcTemplate.calls);
+        assertEquals(1, jdbcTemplate.rows.size());
+        assertEquals(1L, metricsRegistry.counterValues().get("audit.auth.written"));
+    }
+
+    @Test
+    @DisplayName("JWT 거절은 버퍼를 차지하지 않고 사유별 건수 한 행으로 기록한다")
+    void testTokenRejectionsAggregated() {
+        // given : 버퍼보다 훨씬 많은 거절 뒤의 로그인
+        AuthAuditRingBuffer buffer = new AuthAuditRingBuffer(16);
+        TokenRejectionCounter tokenRejections = new TokenRejectionCounter();
+        AuthAuditListener listener = new AuthAuditListener(buffer, tokenRejections);
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(0);
+        AuthAuditWriter writer = new AuthAuditWriter(buffer, tokenRejections, jdbcTemplate, properties(), new MetricsRegistry());
+        for (int i = 0; i < 10_000; i++) {
+            listener.onTokenRejected(new JwtTokenRejectedEvent(this, i % 10 == 0 ? TokenStatus.EXPIRED : TokenStatus.MALFORMED, "/api/test"));
+        }
+        listener.onSuccess(new AuthenticationSuccessEvent(
+                UsernamePasswordAuthenticationToken.authenticated("user1", null, AuthorityUtils.NO_AUTHORITIES)));
+
+        // when
+        int logins = writer.flushBatch();
+        int aggregated = writer.flushTokenRejections();
+
+        // then
+        assertEquals(1, logins);
+        assertEquals(0, buffer.dropped());
+        assertEquals(2, aggregated);
+        assertEquals(AuthEventType.LOGIN_SUCCESS.name(), jdbcTemplate.rows.get(0)[0]);
+        assertEquals(AuthEventType.TOKEN_REJECTED.name(), jdbcTemplate.rows.get(1)[0]);
+        assertEquals("MALFORMED x9000", jdbcTemplate.rows.get(1)[4]);
+        assertEquals("EXPIRED x1000", jdbcTemplate.rows.get(2)[4]);
+        assertEquals(0, writer.flushTokenRejections());
+    }
+
+    private static AuthAuditProperties properties() {
+        AuthAuditProperties properties = new AuthAuditProperties();
+        properties.setMaxRetries(2);
+        properties.setRetryBackoff(Duration.ofMillis(1));
+        return properties;
+    }
+
+    //처음 failures 번은 실패하고 이후 batch 파라미터를 기록하는 JdbcTemplate
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final int failures;
+        private final List<Object[]> rows = new ArrayList<>();
+        private int calls;
+
+        RecordingJdbcTemplate(int failures) {
+            this.failures = failures;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            if (calls++ < failures) {
+                throw new DataAccessResourceFailureException("connection refused");
+            }
+            rows.addAll(batchArgs);
+            return new int[batchArgs.size()];
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.green.watcher.greenwatcher.common.concurrency;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    //매 표본마다 한도를 다시 계산하는 설정
+    private static AdaptiveLimitSettings settings(int initialLimit) {
+        AdaptiveLimitSettings settings = new AdaptiveLimitSettings();
+        settings.setInitialLimit(initialLimit);
+        settings.setMinLimit(2);
+        settings.setWindow(Duration.ZERO);
+        settings.setMinWindowSamples(1);
+        settings.setSmoothing(0.5);
+        return settings;
+    }
+
+    //한도만큼 채운 뒤 모두 같은 지연으로 반납한다.
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.onSuccess(rttNanos);
+        }
+    }
+
+    @Test
+    @DisplayName("한도를 넘은 요청은 기다리지 않고 거절하고 거절 수와 한도를 메트릭으로 남긴다")
+    void testRejectWithoutQueueing() {
+        // given
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", settings(4), 10, metricsRegistry);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        boolean fifth = limiter.tryAcquire();
+
+        // then
+        assertFalse(fifth);
+        assertEquals(1L, metricsRegistry.counterValues().get("test.rejected"));
+        assertEquals(4L, metricsRegistry.gaugeValues().get("test.limit"));
+        assertEquals(4L, metricsRegistry.gaugeValues().get("test.inFlight"));
+    }
+
+    @Test
+    @DisplayName("지연이 일정하면 한도를 최대값까지 늘리고, 지연이 크게 늘면 줄인다")
+    void testGradient() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", settings(4), 64, new MetricsRegistry());
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            saturate(limiter, 10 * MILLIS);
+        }
+        int grown = limiter.getLimit();
+        for (int i = 0; i < 20; i++) {
+            saturate(limiter, 200 * MILLIS);
+        }
+        int shrunk = limiter.getLimit();
+
+        // then
+        assertEquals(64, grown);
+        assertTrue(shrunk < grown / 2, "shrunk=" + shrunk);
+        assertTrue(shrunk >= 2);
+    }
+
+    @Test
+    @DisplayName("타임아웃 등 과부하 실패는 한도를 줄이고, 사용량이 적으면 한도를 늘리지 않는다")
+    void testDropAndAppLimited() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", settings(20), 64, new MetricsRegistry());
+
+        // when
+        assertTrue(limiter.tryAcquire());
+        limiter.onDropped();
+        int afterDrop = limiter.getLimit();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onSuccess(MILLIS);
+        }
+
+        // then
+        assertEquals(18, afterDrop);
+        assertEquals(afterDrop, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+}
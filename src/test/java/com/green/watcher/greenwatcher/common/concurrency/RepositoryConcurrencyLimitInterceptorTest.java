@@ -0,0 +1,59 @@
+package com.green.watcher.greenwatcher.common.concurrency;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+class RepositoryConcurrencyLimitInterceptorTest {
+
+    private interface Body {
+        Object run() throws Throwable;
+    }
+
+    private static MethodInvocation invocation(Body body) throws Throwable {
+        MethodInvocation invocation = Mockito.mock(MethodInvocation.class);
+        given(invocation.getMethod()).willReturn(String.class.getMethod("length"));
+        given(invocation.proceed()).willAnswer(answer -> body.run());
+        return invocation;
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 repository 호출은 자리를 다시 잡지 않고, 다른 스레드는 한도에서 거절된다")
+    void testReentrant() throws Throwable {
+        // given
+        AdaptiveLimitSettings settings = new AdaptiveLimitSettings();
+        settings.setInitialLimit(1);
+        settings.setMinLimit(1);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", settings, 1, new MetricsRegistry());
+        RepositoryConcurrencyLimitInterceptor interceptor = new RepositoryConcurrencyLimitInterceptor(limiter);
+        MethodInvocation repositoryCall = invocation(() -> "row");
+
+        // when
+        Object result = interceptor.invoke(invocation(() -> {
+            //트랜잭션 안: 같은 스레드의 repository 호출은 통과, 다른 스레드는 거절
+            Object inner = interceptor.invoke(repositoryCall);
+            ExecutionException other = assertThrows(ExecutionException.class, () ->
+                    CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return interceptor.invoke(repositoryCall);
+                        } catch (Throwable e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }).get());
+            assertInstanceOf(ConcurrencyLimitExceededException.class, other.getCause().getCause());
+            return inner;
+        }));
+
+        // then
+        assertEquals("row", result);
+        assertEquals(0, limiter.getInFlight());
+    }
+}
@@ -0,0 +1,34 @@
+package com.green.watcher.greenwatcher.common.concurrency;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecurityOverloadFilterTest {
+
+    @Test
+    @DisplayName("필터 단계에서 동시성 한도 초과가 나면 503 과 Retry-After, 다른 예외는 그대로 던진다")
+    void overloaded() throws Exception {
+        // given
+        SecurityOverloadFilter filter = new SecurityOverloadFilter();
+        MockHttpServletResponse overloaded = new MockHttpServletResponse();
+        MockHttpServletResponse failed = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/map"), overloaded, (request, response) -> {
+            throw new ServletException(new ConcurrencyLimitExceededException("repository", "DB 동시 호출 한도(1)를 초과했습니다."));
+        });
+
+        // then
+        assertEquals(503, overloaded.getStatus());
+        assertEquals("1", overloaded.getHeader("Retry-After"));
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(new MockHttpServletRequest("GET", "/map"), failed,
+                (request, response) -> {
+                    throw new IllegalStateException("other");
+                }));
+    }
+}
@@ -0,0 +1,80 @@
+package com.green.watcher.greenwatcher.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.DigestUtils;
+
+import java.io.InputStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StaticResourceConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("템플릿의 정적 리소스 링크가 content hash url 로 바뀐다")
+    void testVersionedLinks() throws Exception {
+        // given
+        String hash = md5("static/lib/js/axios-1.4.0.js");
+
+        // when // then
+        mockMvc.perform(get("/map"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("/lib/js/axios-1.4.0-" + hash + ".js")));
+    }
+
+    @Test
+    @DisplayName("버전 url 은 immutable 캐시 헤더와 brotli 압축본으로 응답")
+    void testPrecompressedImmutable() throws Exception {
+        // given
+        String hash = md5("static/lib/js/axios-1.4.0.js");
+
+        // when // then
+        mockMvc.perform(get("/lib/js/axios-1.4.0-" + hash + ".js").header("Accept-Encoding", "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "br"))
+                .andExpect(header().string("Vary", containsString("Accept-Encoding")))
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andExpect(header().string("Cache-Control", containsString("max-age=31536000")));
+    }
+
+    @Test
+    @DisplayName("버전 없는 url 은 immutable 없이 no-cache 로 응답")
+    void testUnversionedNoCache() throws Exception {
+        // when // then
+        mockMvc.perform(get("/lib/js/axios-1.4.0.js"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("no-cache")))
+                .andExpect(header().string("Cache-Control", not(containsString("immutable"))));
+    }
+
+    @Test
+    @DisplayName("압축을 받지 않는 클라이언트는 원본을 받는다")
+    void testIdentityFallback() throws Exception {
+        // given
+        String hash = md5("static/resources/js/map.js");
+
+        // when // then
+        mockMvc.perform(get("/resources/js/map-" + hash + ".js"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"));
+    }
+
+    private static String md5(String path) throws Exception {
+        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+            return DigestUtils.md5DigestAsHex(in);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.green.watcher.greenwatcher.common.crs.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CoordinateTransformControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("최대 점 수를 넘는 좌표 변환 요청은 400")
+    void transformTooManyPoints() throws Exception {
+        // given : 50,001 개 점
+        StringBuilder coordinates = new StringBuilder("127.0,37.5");
+        for (int i = 1; i < 50_001; i++) {
+            coordinates.append(",127.0,37.5");
+        }
+
+        // when, then
+        mockMvc.perform(post("/map/crs/transform").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"from\":\"EPSG:4326\",\"to\":\"EPSG:5179\",\"coordinates\":[127.0,37.5]}")
+                        .with(user("user").roles("USER")))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/map/crs/transform").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"from\":\"EPSG:4326\",\"to\":\"EPSG:5179\",\"coordinates\":[" + coordinates + "]}")
+                        .with(user("user").roles("USER")))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,98 @@
+package com.green.watcher.greenwatcher.common.crs.service;
+
+import com.green.watcher.greenwatcher.common.crs.CrsProperties;
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CoordinateTransformServiceTest {
+
+    private final CoordinateTransformService service = new CoordinateTransformService(new CrsProperties());
+
+    @Test
+    @DisplayName("투영 원점과 알려진 좌표 변환 테스트")
+    public void testKnownPoints() {
+        // given : 5186 원점(127, 38), 5179 원점(127.5, 38), 서울시청
+        double[] origin5186 = {127, 38};
+        double[] origin5179 = {127.5, 38};
+        double[] cityHall = {126.978, 37.5665};
+        double[] webMercator = {126.978, 37.5665};
+
+        // when
+        service.transform("EPSG:4326", "EPSG:5186", origin5186);
+        service.transform("EPSG:4326", "epsg:5179", origin5179);
+        service.transform("EPSG:4326", "EPSG:5186", cityHall);
+        service.transform("EPSG:4326", "EPSG:3857", webMercator);
+
+        // then
+        assertArrayEquals(new double[]{200000, 600000}, origin5186, 1e-6);
+        assertArrayEquals(new double[]{1000000, 2000000}, origin5179, 1e-6);
+        assertArrayEquals(new double[]{198056.367, 551885.031}, cityHall, 1e-3);
+        assertArrayEquals(new double[]{14135126.30, 4518366.51}, webMercator, 1e-2);
+    }
+
+    @Test
+    @DisplayName("기준계가 다른 좌표계(EPSG:5174)를 거쳐 되돌아오는 변환 테스트")
+    public void testRoundTripWithDatumShift() {
+        // given
+        double[] xy = {126.978, 37.5665, 129.0756, 35.1796};
+
+        // when
+        service.transform("EPSG:4326", "EPSG:5174", xy);
+        double[] bessel = xy.clone();
+        service.transform("EPSG:5174", "EPSG:4326", xy);
+
+        // then : Bessel 기준계는 수백 m 떨어지고, 되돌아온 좌표는 1e-7 도(약 1cm) 이내
+        assertTrue(Math.abs(bessel[0] - 197986.7) < 1 && Math.abs(bessel[1] - 451579.9) < 1);
+        assertArrayEquals(new double[]{126.978, 37.5665, 129.0756, 35.1796}, xy, 1e-7);
+    }
+
+    @Test
+    @DisplayName("많은 점을 병렬로 변환한 결과가 순차 변환과 같은지 테스트")
+    public void testParallelTransform() {
+        // given
+        CrsProperties properties = new CrsProperties();
+        properties.setParallelThreshold(1000);
+        properties.setParallelChunk(777);
+        CoordinateTransformService parallelService = new CoordinateTransformService(properties);
+        SplittableRandom random = new SplittableRandom(1);
+        double[] xy = new double[20_000];
+        for (int i = 0; i < xy.length; i += 2) {
+            xy[i] = 125 + random.nextDouble() * 5;
+            xy[i + 1] = 33 + random.nextDouble() * 6;
+        }
+        double[] expected = xy.clone();
+
+        // when
+        service.pipeline("EPSG:4326", "EPSG:5179").transform(expected);
+        parallelService.transform("EPSG:4326", "EPSG:5179", xy);
+
+        // then
+        assertArrayEquals(expected, xy);
+        assertSame(service.pipeline("EPSG:4326", "EPSG:5179"), service.pipeline("epsg:4326", "EPSG:5179"));
+    }
+
+    @Test
+    @DisplayName("geometry 변환과 등록되지 않은 좌표계 테스트")
+    public void testGeometryTransform() {
+        // given
+        GeometryFactory geometryFactory = GeometryConverter.geometryFactory();
+        Geometry line = geometryFactory.createLineString(new Coordinate[]{new Coordinate(200000, 600000), new Coordinate(210000, 610000)});
+
+        // when
+        Geometry transformed = service.transform(line, "EPSG:5186", "EPSG:4326");
+
+        // then
+        assertEquals(127, transformed.getCoordinates()[0].x, 1e-9);
+        assertEquals(38, transformed.getCoordinates()[0].y, 1e-9);
+        assertEquals(200000, line.getCoordinates()[0].x);
+        assertThrows(IllegalArgumentException.class, () -> service.pipeline("EPSG:9999", "EPSG:4326"));
+    }
+}
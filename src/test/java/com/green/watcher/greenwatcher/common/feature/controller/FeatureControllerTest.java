@@ -0,0 +1,110 @@
+package com.green.watcher.greenwatcher.common.feature.controller;
+
+import com.green.watcher.greenwatcher.common.feature.repository.SpatialFeatureRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class FeatureControllerTest {
+
+    private static final String LAYER = "import-security-test";
+    private static final String BODY = "{\"type\":\"FeatureCollection\",\"features\":["
+            + "{\"type\":\"Feature\",\"properties\":{\"name\":\"a\"},\"geometry\":{\"type\":\"Point\",\"coordinates\":[127.0,37.5]}}]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SpatialFeatureRepository featureRepository;
+
+    @Test
+    @DisplayName("로그인하지 않은 사용자와 일반 사용자의 피처 import 는 거절됨")
+    void importRequiresAdmin() throws Exception {
+        // when, then
+        mockMvc.perform(post("/map/features/" + LAYER).contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/auth/login"));
+        mockMvc.perform(post("/map/features/" + LAYER).contentType(MediaType.APPLICATION_JSON).content(BODY)
+                        .with(user("user").roles("USER")))
+                .andExpect(status().isForbidden());
+        assertTrue(featureRepository.findAll().stream().noneMatch(feature -> LAYER.equals(feature.getLayer())));
+    }
+
+    @Test
+    @Transactional
+    @Rollback
+    @DisplayName("관리자 피처 import, geometry 가 없거나 null 인 피처는 400 으로 거절됨")
+    void importByAdmin() throws Exception {
+        // when, then
+        mockMvc.perform(post("/map/features/" + LAYER).contentType(MediaType.APPLICATION_JSON).content(BODY)
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(1));
+        mockMvc.perform(post("/map/features/" + LAYER).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"features\":[{\"type\":\"Feature\",\"properties\":{}}]}")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("1번째 피처에 geometry 가 없습니다."));
+        mockMvc.perform(post("/map/features/" + LAYER).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"features\":[{\"type\":\"Feature\",\"properties\":{},\"geometry\":null}]}")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("properties 가 컬럼 길이를 넘거나 JSON 이 깨진 import 는 몇 번째 피처인지 담아 400")
+    void importInvalidFeature() throws Exception {
+        // given
+        String point = "\"geometry\":{\"type\":\"Point\",\"coordinates\":[127.0,37.5]}";
+        String large = "{\"type\":\"Feature\",\"properties\":{\"memo\":\"" + "a".repeat(4000) + "\"}," + point + "}";
+
+        // when, then
+        mockMvc.perform(post("/map/features/" + LAYER).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"features\":[{\"type\":\"Feature\",\"properties\":{}," + point + "}," + large + "]}")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(startsWith("2번째 피처의 properties 가 4000자를 넘습니다.")));
+        mockMvc.perform(post("/map/features/" + LAYER).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"features\":[{\"type\":\"Feature\",\"properties\":{}," + point + "},{\"type\":")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(startsWith("2번째 피처 부근의 JSON 을 읽을 수 없습니다")));
+    }
+
+    @Test
+    @DisplayName("피처가 없는 레이어의 .fgb 파일 요청은 404")
+    void layerFileNotFound() throws Exception {
+        // when, then
+        mockMvc.perform(get("/map/features/no-such-layer/layer.fgb"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("가까운 피처 조회의 k, maxDistance 가 범위를 벗어나면 400")
+    void nearestValidation() throws Exception {
+        // when, then
+        mockMvc.perform(get("/map/features/cctv/nearest").param("x", "127.0").param("y", "37.5").param("k", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/map/features/cctv/nearest").param("x", "127.0").param("y", "37.5").param("k", "100000"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/map/features/cctv/nearest").param("x", "127.0").param("y", "37.5").param("maxDistance", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/map/features/cctv/nearest").param("x", "127.0").param("y", "37.5").param("k", "5"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,87 @@
+package com.green.watcher.greenwatcher.common.feature.flatgeobuf;
+
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import com.green.watcher.greenwatcher.common.feature.entity.SpatialFeature;
+import com.green.watcher.greenwatcher.common.feature.repository.FeatureEnvelopeRepository;
+import com.green.watcher.greenwatcher.common.feature.repository.FeatureLayerVersion;
+import com.green.watcher.greenwatcher.common.feature.service.SpatialFeatureService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.locationtech.jts.geom.Coordinate;
+import org.mockito.Mockito;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+class FlatGeobufServiceTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private final SpatialFeatureService featureService = Mockito.mock(SpatialFeatureService.class);
+    private final FeatureEnvelopeRepository envelopeRepository = Mockito.mock(FeatureEnvelopeRepository.class);
+
+    @Test
+    @DisplayName("레이어가 바뀌어도 이전 파일은 deleteGrace 가 지나기 전까지 남아 있다")
+    void keepReplacedFileDuringGrace() throws Exception {
+        // given
+        FlatGeobufService service = service(Duration.ofHours(1));
+        givenVersion(1L, 1L);
+        Path first = service.layerFile("cctv").orElseThrow().getPath();
+
+        // when
+        givenVersion(2L, 2L);
+        Path second = service.layerFile("cctv").orElseThrow().getPath();
+
+        // then
+        assertNotEquals(first, second);
+        assertTrue(Files.exists(first));
+        assertTrue(Files.exists(second));
+    }
+
+    @Test
+    @DisplayName("deleteGrace 가 지난 이전 파일은 다음 호출에서 지운다")
+    void deleteReplacedFileAfterGrace() throws Exception {
+        // given
+        FlatGeobufService service = service(Duration.ZERO);
+        givenVersion(1L, 1L);
+        Path first = service.layerFile("cctv").orElseThrow().getPath();
+        givenVersion(2L, 2L);
+        Path second = service.layerFile("cctv").orElseThrow().getPath();
+
+        // when
+        service.layerFile("cctv");
+
+        // then
+        assertFalse(Files.exists(first));
+        assertTrue(Files.exists(second));
+    }
+
+    private FlatGeobufService service(Duration deleteGrace) {
+        willAnswer(invocation -> {
+            Consumer<SpatialFeature> consumer = invocation.getArgument(1);
+            consumer.accept(SpatialFeature.builder()
+                    .id(1L)
+                    .layer("cctv")
+                    .geometry(GeometryConverter.geometryFactory().createPoint(new Coordinate(127.0, 37.5)))
+                    .build());
+            return null;
+        }).given(featureService).forEach(any(), any());
+        return new FlatGeobufService(featureService, envelopeRepository, cacheDir, 8, deleteGrace);
+    }
+
+    private void givenVersion(Long count, Long maxId) {
+        FeatureLayerVersion version = Mockito.mock(FeatureLayerVersion.class);
+        given(version.getCount()).willReturn(count);
+        given(version.getMaxId()).willReturn(maxId);
+        given(envelopeRepository.findLayerVersion("cctv")).willReturn(version);
+    }
+}
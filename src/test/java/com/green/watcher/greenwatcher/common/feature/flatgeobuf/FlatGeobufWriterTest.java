@@ -0,0 +1,136 @@
+package com.green.watcher.greenwatcher.common.feature.flatgeobuf;
+
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import com.green.watcher.greenwatcher.common.feature.entity.SpatialFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlatGeobufWriterTest {
+
+    private final GeometryFactory geometryFactory = GeometryConverter.geometryFactory();
+
+    @Test
+    @DisplayName("R-tree 레벨 경계 계산")
+    void levelBounds() {
+        // given
+        // when
+        long[][] one = PackedRTree.levelBounds(1, 16);
+        long[][] many = PackedRTree.levelBounds(300, 16);
+
+        // then
+        assertArrayEquals(new long[]{1, 2}, one[0]);
+        assertArrayEquals(new long[]{0, 1}, one[1]);
+        //300 → 19 → 2 → 1
+        assertEquals(4, many.length);
+        assertEquals(322, PackedRTree.numNodes(300, 16));
+        assertArrayEquals(new long[]{22, 322}, many[0]);
+        assertArrayEquals(new long[]{0, 1}, many[3]);
+    }
+
+    @Test
+    @DisplayName("Hilbert 값은 격자 네 귀퉁이에서 서로 다름")
+    void hilbert() {
+        // given
+        // when
+        Set<Long> values = new HashSet<>(Arrays.asList(
+                PackedRTree.hilbert(0, 0), PackedRTree.hilbert(0, 0xFFFF),
+                PackedRTree.hilbert(0xFFFF, 0), PackedRTree.hilbert(0xFFFF, 0xFFFF)));
+
+        // then
+        assertEquals(4, values.size());
+        assertEquals(0L, PackedRTree.hilbert(0, 0));
+    }
+
+    @Test
+    @DisplayName("magic, header, 인덱스, 피처가 순서대로 기록되고 리프 offset 이 피처 위치를 가리킴")
+    void layout() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int count = 0;
+        try (FlatGeobufWriter writer = new FlatGeobufWriter("cctv")) {
+            for (int x = 0; x < 20; x++) {
+                for (int y = 0; y < 10; y++) {
+                    writer.add(feature(++count, geometryFactory.createPoint(new Coordinate(126 + x * 0.01, 37 + y * 0.01))));
+                }
+            }
+            writer.add(feature(++count, geometryFactory.createPolygon(new Coordinate[]{
+                    new Coordinate(126, 37), new Coordinate(127, 37), new Coordinate(127, 38), new Coordinate(126, 37)})));
+            writer.add(feature(++count, geometryFactory.createPoint()));
+
+            // when
+            writer.writeTo(out);
+            assertEquals(201, writer.getCount());
+        }
+
+        // then
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] magic = new byte[8];
+        buffer.get(magic);
+        assertArrayEquals(new byte[]{0x66, 0x67, 0x62, 0x03, 0x66, 0x67, 0x62, 0x00}, magic);
+        int headerSize = buffer.getInt();
+        buffer.position(buffer.position() + headerSize);
+
+        int numNodes = (int) PackedRTree.numNodes(201, 16);
+        int indexStart = buffer.position();
+        //루트 bbox 는 전체 범위
+        assertEquals(126, buffer.getDouble(indexStart), 1e-9);
+        assertEquals(37, buffer.getDouble(indexStart + 8), 1e-9);
+        assertEquals(127, buffer.getDouble(indexStart + 16), 1e-9);
+        assertEquals(38, buffer.getDouble(indexStart + 24), 1e-9);
+
+        Set<Long> leafOffsets = new HashSet<>();
+        for (int i = numNodes - 201; i < numNodes; i++) {
+            leafOffsets.add(buffer.getLong(indexStart + i * PackedRTree.NODE_ITEM_BYTES + 32));
+        }
+
+        int featureStart = indexStart + numNodes * PackedRTree.NODE_ITEM_BYTES;
+        Set<Long> featureOffsets = new HashSet<>();
+        int position = featureStart;
+        while (position < buffer.limit()) {
+            featureOffsets.add((long) (position - featureStart));
+            position += 4 + buffer.getInt(position);
+        }
+        assertEquals(buffer.limit(), position);
+        assertEquals(201, featureOffsets.size());
+        assertEquals(featureOffsets, leafOffsets);
+    }
+
+    @Test
+    @DisplayName("피처가 없으면 header 만 기록")
+    void empty() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (FlatGeobufWriter writer = new FlatGeobufWriter("empty")) {
+            writer.writeTo(out);
+        }
+
+        // then
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(8 + 4 + buffer.getInt(8), buffer.limit());
+    }
+
+    private static SpatialFeature feature(long id, Geometry geometry) {
+        return SpatialFeature.builder()
+                .id(id)
+                .layer("cctv")
+                .name("cctv-" + id)
+                .properties("{\"id\":" + id + "}")
+                .geometry(geometry)
+                .build();
+    }
+}
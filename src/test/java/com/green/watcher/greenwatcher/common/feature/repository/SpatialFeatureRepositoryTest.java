@@ -0,0 +1,136 @@
+package com.green.watcher.greenwatcher.common.feature.repository;
+
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import com.green.watcher.greenwatcher.common.feature.dto.FeatureQuery;
+import com.green.watcher.greenwatcher.common.feature.entity.FeatureEnvelope;
+import com.green.watcher.greenwatcher.common.feature.entity.SpatialFeature;
+import com.green.watcher.greenwatcher.common.feature.enumerate.SpatialRelation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class SpatialFeatureRepositoryTest {
+
+    @Autowired
+    private SpatialFeatureRepository featureRepository;
+
+    @Autowired
+    private FeatureEnvelopeRepository envelopeRepository;
+
+    private final GeometryFactory geometryFactory = GeometryConverter.geometryFactory();
+
+    @BeforeEach
+    public void setUp() {
+        // given : (0,0) ~ (9,9) 격자 점 100개
+        for (int x = 0; x < 10; x++) {
+            for (int y = 0; y < 10; y++) {
+                save("cctv", geometryFactory.createPoint(new Coordinate(x, y)));
+            }
+        }
+        save("other", geometryFactory.createPoint(new Coordinate(1, 1)));
+    }
+
+    private void save(String layer, Geometry geometry) {
+        SpatialFeature feature = featureRepository.save(SpatialFeature.builder()
+                .layer(layer)
+                .name(geometry.toText())
+                .geometry(geometry)
+                .build());
+        envelopeRepository.save(FeatureEnvelope.of(feature));
+    }
+
+    @Test
+    @DisplayName("bbox 로 뷰포트 피처를 조회하는 테스트")
+    public void testFindPageByBbox() {
+        // when
+        List<SpatialFeature> features = featureRepository.findPage(FeatureQuery.builder()
+                .layer("cctv")
+                .bbox(new Envelope(0.5, 2.5, 0.5, 2.5))
+                .build());
+
+        // then : (1,1) (1,2) (2,1) (2,2), 다른 레이어는 제외
+        assertThat(features).hasSize(4);
+        assertThat(features).allMatch(feature -> "cctv".equals(feature.getLayer()));
+    }
+
+    @Test
+    @DisplayName("keyset 페이지를 이어서 조회하면 중복 없이 전체를 순회하는 테스트")
+    public void testKeysetPagination() {
+        FeatureQuery query = FeatureQuery.builder()
+                .layer("cctv")
+                .bbox(new Envelope(-1, 10, -1, 10))
+                .limit(30)
+                .build();
+
+        // when
+        List<SpatialFeature> first = featureRepository.findPage(query);
+        List<SpatialFeature> second = featureRepository.findPage(query.toBuilder()
+                .afterId(first.get(first.size() - 1).getId()).build());
+
+        // then
+        assertThat(first).hasSize(30);
+        assertThat(second).hasSize(30);
+        assertThat(second.get(0).getId()).isGreaterThan(first.get(29).getId());
+        assertThat(featureRepository.stream(query).collect(Collectors.toList())).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("검색 geometry 로 정밀 검사하는 테스트")
+    public void testFindPageWithinGeometry() {
+        // given : x + y <= 4.1 삼각형
+        Geometry triangle = geometryFactory.createPolygon(new Coordinate[]{
+                new Coordinate(-0.1, -0.1), new Coordinate(4.2, -0.1), new Coordinate(-0.1, 4.2), new Coordinate(-0.1, -0.1)});
+
+        // when
+        List<SpatialFeature> features = featureRepository.findPage(FeatureQuery.builder()
+                .layer("cctv")
+                .geometry(triangle)
+                .relation(SpatialRelation.WITHIN)
+                .build());
+
+        // then : x + y <= 4 인 점 15개
+        assertThat(features).hasSize(15);
+    }
+
+    @Test
+    @DisplayName("가까운 피처를 거리순으로 조회하는 테스트")
+    public void testFindNearest() {
+        // when
+        List<SpatialFeature> features = featureRepository.findNearest("cctv",
+                geometryFactory.createPoint(new Coordinate(5.1, 5.1)), 3, 2.0);
+
+        // then
+        assertThat(features).hasSize(3);
+        assertThat(features.get(0).getName()).isEqualTo("POINT (5 5)");
+    }
+
+    @Test
+    @DisplayName("후보가 잘려도 가장 가까운 피처를 조회하는 테스트")
+    public void testFindNearestWhenTruncated() {
+        // given : id 가 앞선 밀집 피처 2001 개 뒤에 조금 더 가까운 피처 1 개
+        for (int i = 0; i < 2001; i++) {
+            save("dense", geometryFactory.createPoint(new Coordinate(0.4, 0)));
+        }
+        save("dense", geometryFactory.createPoint(new Coordinate(0.4 + 1e-9, 0)));
+
+        // when
+        List<SpatialFeature> features = featureRepository.findNearest("dense",
+                geometryFactory.createPoint(new Coordinate(1, 0)), 1, 2.0);
+
+        // then
+        assertThat(features).hasSize(1);
+        assertThat(features.get(0).getGeometry().getCoordinate().x).isEqualTo(0.4 + 1e-9);
+    }
+}
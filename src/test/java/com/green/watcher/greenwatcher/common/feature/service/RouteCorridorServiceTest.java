@@ -0,0 +1,122 @@
+package com.green.watcher.greenwatcher.common.feature.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.watcher.greenwatcher.common.feature.dto.RouteCorridorRequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RouteCorridorServiceTest {
+
+    //위도 1도 거리(m)
+    private static final double METERS_PER_DEGREE = 6_371_008.8 * Math.PI / 180;
+
+    @Test
+    @DisplayName("경로 주변 피처가 경로 진행 순서와 거리로 조회되는지 테스트")
+    public void testSearchOrder() {
+        // given : 위도 37.5 를 따라 동쪽으로 가는 경로, 북쪽 55m(A), 남쪽 55m(B), 1.1km 떨어진 C
+        CorridorIndex index = CorridorIndex.builder("3-3")
+                .add(1, "A", 127.05, 37.5005)
+                .add(2, "B", 127.01, 37.4995)
+                .add(3, "C", 127.05, 37.51)
+                .build();
+        CorridorIndex.Route route = CorridorIndex.Route.of(new Coordinate[]{
+                new Coordinate(127.0, 37.5), new Coordinate(127.1, 37.5)});
+        double lonMeters = METERS_PER_DEGREE * Math.cos(Math.toRadians(37.5));
+
+        // when
+        List<CorridorIndex.Hit> hits = RouteCorridorService.search(index, route, 100, 256, Runnable::run);
+
+        // then
+        assertEquals(2, hits.size());
+        assertEquals(2, index.id(hits.get(0).getIndex()));
+        assertEquals(1, index.id(hits.get(1).getIndex()));
+        assertEquals(0.01 * lonMeters, hits.get(0).getOffset(), 0.5);
+        assertEquals(0.05 * lonMeters, hits.get(1).getOffset(), 0.5);
+        assertEquals(0.0005 * METERS_PER_DEGREE, hits.get(1).getDistance(), 0.5);
+        assertEquals(0.1 * lonMeters, route.length(), 0.5);
+    }
+
+    @Test
+    @DisplayName("선분 묶음으로 나누어 검색해도 결과가 같고, 두 번 지나가는 피처는 가까운 쪽이 남는지 테스트")
+    public void testChunkedSearch() {
+        // given : 동쪽으로 갔다가 북쪽으로 조금 비켜 서쪽으로 돌아오는 경로 (선분 200개)
+        Coordinate[] coordinates = new Coordinate[201];
+        for (int i = 0; i <= 100; i++) {
+            coordinates[i] = new Coordinate(127.0 + i * 0.001, 37.5);
+        }
+        for (int i = 1; i <= 100; i++) {
+            coordinates[100 + i] = new Coordinate(127.1 - i * 0.001, 37.5008);
+        }
+        CorridorIndex.Route route = CorridorIndex.Route.of(coordinates);
+        CorridorIndex.Builder builder = CorridorIndex.builder("tag");
+        for (int i = 0; i < 50; i++) {
+            builder.add(i, "cctv-" + i, 127.0 + i * 0.002, 37.5002);
+        }
+        CorridorIndex index = builder.build();
+
+        // when
+        List<CorridorIndex.Hit> single = RouteCorridorService.search(index, route, 100, 1000, Runnable::run);
+        List<CorridorIndex.Hit> chunked = RouteCorridorService.search(index, route, 100, 7, Runnable::run);
+
+        // then : 모든 피처가 가는 길(22m)에 더 가까우므로 offset 이 가는 길 기준이다.
+        assertEquals(50, single.size());
+        assertEquals(single.size(), chunked.size());
+        for (int i = 0; i < single.size(); i++) {
+            assertEquals(single.get(i).getIndex(), chunked.get(i).getIndex());
+            assertEquals(single.get(i).getOffset(), chunked.get(i).getOffset(), 1e-6);
+            assertEquals(i, index.id(chunked.get(i).getIndex()));
+            assertEquals(0.0002 * METERS_PER_DEGREE, chunked.get(i).getDistance(), 0.5);
+        }
+        assertTrue(chunked.get(49).getOffset() < route.length() / 2);
+    }
+
+    @Test
+    @DisplayName("경로 geometry 요청 검증 테스트")
+    public void testRoute() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+        RouteCorridorRequestDTO line = RouteCorridorRequestDTO.builder()
+                .geometry(objectMapper.readTree("{\"type\":\"LineString\",\"coordinates\":[[127.0,37.5],[127.1,37.5],[127.1,37.6]]}"))
+                .build();
+        RouteCorridorRequestDTO point = RouteCorridorRequestDTO.builder()
+                .geometry(objectMapper.readTree("{\"type\":\"Point\",\"coordinates\":[127.0,37.5]}"))
+                .build();
+        RouteCorridorRequestDTO empty = RouteCorridorRequestDTO.builder().build();
+
+        // when
+        int points = RouteCorridorService.route(line, 100).getNumPoints();
+
+        // then
+        assertEquals(3, points);
+        assertThrows(IllegalArgumentException.class, () -> RouteCorridorService.route(line, 2));
+        assertThrows(IllegalArgumentException.class, () -> RouteCorridorService.route(point, 100));
+        assertThrows(IllegalArgumentException.class, () -> RouteCorridorService.route(empty, 100));
+    }
+
+    @Test
+    @DisplayName("허용하지 않은 레이어는 거절되고, 긴 경로도 병렬 묶음 수가 최대를 넘지 않는지 테스트")
+    public void testLayerAndChunkLimit() throws Exception {
+        // given
+        RouteCorridorService service = new RouteCorridorService(null, null, Runnable::run,
+                "cctv", List.of("cctv"), 100, 2000, 256, 16, 20000);
+        RouteCorridorRequestDTO request = RouteCorridorRequestDTO.builder()
+                .geometry(new ObjectMapper().readTree("{\"type\":\"LineString\",\"coordinates\":[[127.0,37.5],[127.1,37.5]]}"))
+                .layer("admin")
+                .build();
+
+        // when
+        int shortRoute = RouteCorridorService.chunkSize(1000, 256, 16);
+        int longRoute = RouteCorridorService.chunkSize(20000, 256, 16);
+
+        // then
+        assertThrows(IllegalArgumentException.class, () -> service.findAlongRoute(request));
+        assertEquals(256, shortRoute);
+        assertEquals(1250, longRoute);
+        assertTrue((20000 + longRoute - 1) / longRoute <= 16);
+    }
+}
@@ -0,0 +1,95 @@
+package com.green.watcher.greenwatcher.common.feature.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import com.green.watcher.greenwatcher.common.feature.dto.SpatialAnalysisRequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpatialAnalysisServiceTest {
+
+    private final GeometryFactory geometryFactory = GeometryConverter.geometryFactory();
+
+    @Test
+    @DisplayName("원 도형의 면적이 반경으로 계산한 면적과 같은지 테스트")
+    public void testCircleArea() {
+        // given
+        Geometry circle = SpatialAnalysisService.circle(127.0, 37.5, 1000);
+
+        // when
+        double area = SpatialAnalysisService.squareMeters(circle);
+
+        // then : 64각형 근사이므로 1% 이내
+        assertEquals(Math.PI * 1000 * 1000, area, Math.PI * 1000 * 1000 * 0.01);
+        assertTrue(circle.contains(geometryFactory.createPoint(new Coordinate(127.0, 37.5))));
+    }
+
+    @Test
+    @DisplayName("위도 1도 x 경도 1도 사각형 면적 테스트")
+    public void testSquareMeters() {
+        // given : 적도 부근 1도 사각형은 약 111.2km x 111.2km
+        Geometry square = geometryFactory.toGeometry(new Envelope(0, 1, 0, 1));
+
+        // when
+        double area = SpatialAnalysisService.squareMeters(square);
+
+        // then
+        assertEquals(111_195.0 * 111_195.0, area, 111_195.0 * 111_195.0 * 0.001);
+        assertEquals(0, SpatialAnalysisService.squareMeters(geometryFactory.createPoint(new Coordinate(0, 0))));
+    }
+
+    @Test
+    @DisplayName("GeoJSON 도형 요청과 잘못된 요청 처리 테스트")
+    public void testShape() throws Exception {
+        // given
+        SpatialAnalysisRequestDTO polygon = SpatialAnalysisRequestDTO.builder()
+                .geometry(new ObjectMapper().readTree("{\"type\":\"Polygon\",\"coordinates\":[[[0,0],[1,0],[1,1],[0,1],[0,0]]]}"))
+                .build();
+        SpatialAnalysisRequestDTO empty = SpatialAnalysisRequestDTO.builder().build();
+        SpatialAnalysisRequestDTO tooLarge = SpatialAnalysisRequestDTO.builder()
+                .center(new double[]{127.0, 37.5})
+                .radius(100_000.0)
+                .build();
+        SpatialAnalysisRequestDTO badCenter = SpatialAnalysisRequestDTO.builder()
+                .center(new double[]{37.5, 127.0})
+                .radius(1_000.0)
+                .build();
+        SpatialAnalysisRequestDTO sliver = SpatialAnalysisRequestDTO.builder()
+                .geometry(new ObjectMapper().readTree("{\"type\":\"Polygon\",\"coordinates\":[[[0,0],[10,10],[10,10.001],[0,0]]]}"))
+                .build();
+
+        // when
+        Geometry shape = SpatialAnalysisService.shape(polygon, 50_000, 2e10);
+
+        // then
+        assertEquals(1.0, shape.getArea(), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> SpatialAnalysisService.shape(empty, 50_000, 2e10));
+        assertThrows(IllegalArgumentException.class, () -> SpatialAnalysisService.shape(tooLarge, 50_000, 2e10));
+        assertThrows(IllegalArgumentException.class, () -> SpatialAnalysisService.shape(badCenter, 50_000, 2e10));
+        assertThrows(IllegalArgumentException.class, () -> SpatialAnalysisService.shape(polygon, 50_000, 1e10));
+        assertThrows(IllegalArgumentException.class, () -> SpatialAnalysisService.shape(sliver, 50_000, 2e10));
+    }
+
+    @Test
+    @DisplayName("레이어 수가 최대를 넘으면 분석하지 않고 거절되는지 테스트")
+    public void testMaxLayers() {
+        // given
+        SpatialAnalysisService service = new SpatialAnalysisService(null, Runnable::run, List.of("cctv"), 50_000, 10_000, 2);
+        SpatialAnalysisRequestDTO request = SpatialAnalysisRequestDTO.builder()
+                .center(new double[]{127.0, 37.5})
+                .radius(1_000.0)
+                .layers(List.of("a", "b", "c"))
+                .build();
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> service.analyze(request));
+    }
+}
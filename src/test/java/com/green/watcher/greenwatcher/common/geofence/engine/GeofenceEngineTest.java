@@ -0,0 +1,153 @@
+package com.green.watcher.greenwatcher.common.geofence.engine;
+
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import com.green.watcher.greenwatcher.common.geofence.dto.GeofenceAlertDTO;
+import com.green.watcher.greenwatcher.common.geofence.entity.Geofence;
+import com.green.watcher.greenwatcher.common.geofence.enumerate.GeofenceAlertType;
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.radar.CappiCoordinates;
+import com.green.watcher.greenwatcher.common.radar.CappiGrid;
+import com.green.watcher.greenwatcher.common.radar.RadarFrame;
+import com.green.watcher.greenwatcher.common.radar.RadarPoints;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeofenceEngineTest {
+
+    private static final int XDIM = 300;
+    private static final int YDIM = 280;
+
+    private final GeometryFactory geometryFactory = GeometryConverter.geometryFactory();
+    private final CappiGrid grid = new CappiGrid(125.0, 34.0, 1.0, XDIM, YDIM, 1.5);
+
+    //격자 중심 부근의 마름모 (경위도)
+    private Geometry diamond() {
+        return geometryFactory.createPolygon(new Coordinate[]{
+                new Coordinate(126.6, 34.3), new Coordinate(127.9, 35.3), new Coordinate(126.6, 36.3),
+                new Coordinate(125.3, 35.3), new Coordinate(126.6, 34.3)});
+    }
+
+    @Test
+    @DisplayName("격자 좌표 정변환이 CappiCoordinates 와 같고 역변환이 행, 열을 돌려주는지 테스트")
+    public void testGridCoordinates() {
+        // given
+        RadarPoints points = CappiCoordinates.assign(125.0, 34.0, 1.0, new double[YDIM][XDIM], XDIM, YDIM, 1.5);
+
+        // when / then
+        int k = 0;
+        for (int i = 0; i < YDIM; i++) {
+            for (int j = 0; j < XDIM; j++, k++) {
+                assertEquals(points.lon(k), grid.longitude(i, j), 1e-9);
+                assertEquals(points.lat(k), grid.latitude(i), 1e-9);
+                if (j > 0) {
+                    assertEquals(j, grid.column(points.lon(k), points.lat(k)), 1e-6);
+                }
+                assertEquals(i, grid.row(points.lat(k)), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("래스터화한 칸과 집계가 칸 중심 점 검사 결과와 같은지 테스트")
+    public void testRasterizeAndAggregate() {
+        // given
+        Geometry polygon = diamond();
+        double[][] values = randomFrame(7);
+        long expectedCells = 0;
+        long expectedObserved = 0;
+        double expectedSum = 0;
+        double expectedMax = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < YDIM; i++) {
+            for (int j = 0; j < XDIM; j++) {
+                if (polygon.contains(geometryFactory.createPoint(new Coordinate(grid.longitude(i, j), grid.latitude(i))))) {
+                    expectedCells++;
+                    if (RadarFrame.isObserved(values[i][j])) {
+                        expectedObserved++;
+                        expectedSum += values[i][j];
+                        expectedMax = Math.max(expectedMax, values[i][j]);
+                    }
+                }
+            }
+        }
+
+        // when
+        GridMask mask = GridMask.rasterize(polygon, grid);
+        RainfallIndex index = new RainfallIndex();
+        index.build(new RadarFrame("202610191200", grid, values));
+        RainfallStats stats = index.aggregate(mask);
+
+        // then : 경계 칸은 변을 격자 좌표의 직선으로 보므로 0.5% 까지 차이를 허용한다.
+        assertEquals(expectedCells, mask.cellCount(), expectedCells * 0.005);
+        assertTrue(mask.rectCount() < mask.cellCount() / 10);
+        assertEquals(expectedObserved, stats.getObservedCells(), expectedObserved * 0.005);
+        assertEquals(expectedSum / expectedObserved, stats.mean(), 0.5);
+        assertEquals(expectedMax, stats.maxOrNull());
+    }
+
+    @Test
+    @DisplayName("경보 기준을 넘을 때 한 번 RAISED, 내려갈 때 한 번 CLEARED 를 보내는지 테스트")
+    public void testAlertTransitions() {
+        // given
+        GeofenceEngine engine = new GeofenceEngine(new MetricsRegistry());
+        engine.register(Geofence.builder().id(1L).owner("user1").name("유역").geometry(diamond()).maxThreshold(50.0).build());
+        engine.register(Geofence.builder().id(2L).owner("user2").name("먼 곳")
+                .geometry(geometryFactory.createPolygon(new Coordinate[]{
+                        new Coordinate(125.1, 34.1), new Coordinate(125.2, 34.1), new Coordinate(125.2, 34.2),
+                        new Coordinate(125.1, 34.2), new Coordinate(125.1, 34.1)}))
+                .meanThreshold(1.0).build());
+
+        // when
+        List<GeofenceAlertDTO> dry = engine.evaluate(new RadarFrame("202610191200", grid, filledFrame(0)));
+        double[][] storm = filledFrame(0);
+        storm[150][150] = 70;
+        List<GeofenceAlertDTO> raised = engine.evaluate(new RadarFrame("202610191210", grid, storm));
+        List<GeofenceAlertDTO> still = engine.evaluate(new RadarFrame("202610191220", grid, storm));
+        List<GeofenceAlertDTO> cleared = engine.evaluate(new RadarFrame("202610191230", grid, filledFrame(0)));
+
+        // then
+        assertTrue(dry.isEmpty());
+        assertEquals(1, raised.size());
+        assertEquals(GeofenceAlertType.RAISED, raised.get(0).getType());
+        assertEquals("user1", raised.get(0).getOwner());
+        assertEquals(70.0, raised.get(0).getMax());
+        assertTrue(still.isEmpty());
+        assertEquals(1, cleared.size());
+        assertEquals(GeofenceAlertType.CLEARED, cleared.get(0).getType());
+        assertFalse(engine.status(1L).isAlerting());
+        assertThrows(IllegalArgumentException.class, () -> engine.register(Geofence.builder().id(3L).owner("user1").name("격자 밖")
+                .geometry(geometryFactory.createPolygon(new Coordinate[]{
+                        new Coordinate(140, 40), new Coordinate(141, 40), new Coordinate(141, 41),
+                        new Coordinate(140, 41), new Coordinate(140, 40)}))
+                .maxThreshold(1.0).build()));
+    }
+
+    private static double[][] filledFrame(double value) {
+        double[][] values = new double[YDIM][XDIM];
+        for (double[] row : values) {
+            Arrays.fill(row, value);
+        }
+        return values;
+    }
+
+    //영역 밖(-128), 관측 없음(-127), 0 ~ 80mm/h 가 섞인 frame
+    private static double[][] randomFrame(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[][] values = new double[YDIM][XDIM];
+        for (double[] row : values) {
+            for (int j = 0; j < XDIM; j++) {
+                double r = random.nextDouble();
+                row[j] = r < 0.2 ? -128 : r < 0.4 ? -127 : Math.round(random.nextDouble() * 800) / 10.0;
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,61 @@
+package com.green.watcher.greenwatcher.common.geofence.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.watcher.greenwatcher.common.geofence.dto.GeofenceDTO;
+import com.green.watcher.greenwatcher.common.geofence.dto.GeofenceRequestDTO;
+import com.green.watcher.greenwatcher.common.geofence.engine.GeofenceEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class GeofenceServiceTest {
+
+    private static final String OWNER = "geofence-service-test";
+
+    @Autowired
+    private GeofenceService geofenceService;
+
+    @Autowired
+    private GeofenceEngine engine;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("지오펜스는 트랜잭션이 커밋된 뒤에만 엔진에 등록 / 삭제되고, 롤백되면 엔진에 남지 않는다")
+    void engineFollowsCommit() throws Exception {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        GeofenceRequestDTO request = GeofenceRequestDTO.builder()
+                .name("rain")
+                .geometry(new ObjectMapper().readTree(
+                        "{\"type\":\"Polygon\",\"coordinates\":[[[127.0,37.5],[127.1,37.5],[127.1,37.6],[127.0,37.6],[127.0,37.5]]]}"))
+                .maxThreshold(10.0)
+                .build();
+
+        // when
+        GeofenceDTO rolledBack = transaction.execute(status -> {
+            GeofenceDTO created = geofenceService.register(OWNER, request);
+            assertNull(engine.status(created.getId()));
+            status.setRollbackOnly();
+            return created;
+        });
+        GeofenceDTO committed = transaction.execute(status -> geofenceService.register(OWNER, request));
+
+        // then
+        assertNull(engine.status(rolledBack.getId()));
+        assertNotNull(engine.status(committed.getId()));
+
+        transaction.executeWithoutResult(status -> {
+            assertTrue(geofenceService.delete(OWNER, committed.getId()));
+            assertNotNull(engine.status(committed.getId()));
+        });
+        assertNull(engine.status(committed.getId()));
+    }
+}
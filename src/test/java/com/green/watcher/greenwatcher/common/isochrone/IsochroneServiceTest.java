@@ -0,0 +1,237 @@
+package com.green.watcher.greenwatcher.common.isochrone;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.watcher.greenwatcher.common.concurrency.ConcurrencyLimitExceededException;
+import com.green.watcher.greenwatcher.common.feature.converter.GeometryConverter;
+import com.green.watcher.greenwatcher.common.isochrone.dto.IsochroneDTO;
+import com.green.watcher.greenwatcher.common.isochrone.engine.TravelTimeGrid;
+import com.green.watcher.greenwatcher.common.isochrone.enumerate.TravelProfile;
+import com.green.watcher.greenwatcher.common.isochrone.service.IsochroneService;
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamCallLimiter;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamClient;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamProperties;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamProvider;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamRequest;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamResponse;
+import com.green.watcher.greenwatcher.common.upstream.UpstreamTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.geojson.GeoJsonReader;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IsochroneServiceTest {
+
+    private static final double METERS_PER_DEGREE = 6_371_008.8 * Math.PI / 180;
+
+    private MetricsRegistry metricsRegistry;
+    private IsochroneProperties properties;
+    private StubOsrmTransport osrm;
+    private UpstreamClient upstreamClient;
+    private IsochroneService isochroneService;
+
+    @BeforeEach
+    void setUp() {
+        metricsRegistry = new MetricsRegistry();
+        UpstreamProperties upstreamProperties = new UpstreamProperties();
+        UpstreamProperties.Client client = new UpstreamProperties.Client();
+        client.setBaseUrl("http://stub/osrm");
+        client.setRequestTimeout(Duration.ofSeconds(1));
+        upstreamProperties.getProviders().put(UpstreamProvider.OSRM, client);
+        properties = new IsochroneProperties();
+        //출발지에서 동쪽으로 3km 를 넘으면 길이 없고, 나머지는 직선 거리를 10m/s 로 가는 OSRM
+        osrm = new StubOsrmTransport(10, 3000);
+        upstreamClient = new UpstreamClient(upstreamProperties,
+                new UpstreamCallLimiter(upstreamProperties, metricsRegistry), osrm, metricsRegistry);
+        isochroneService = new IsochroneService(upstreamClient, new ObjectMapper(), properties, Runnable::run, metricsRegistry);
+    }
+
+    @Test
+    @DisplayName("격자점 이동 시간으로 만든 등시선 면적이 원 면적과 같은지 테스트")
+    void contourArea() {
+        // given : 이동 시간(초) = 출발지까지 거리(m) 인 격자
+        TravelTimeGrid grid = new TravelTimeGrid(127.0, 37.5, 40, 100);
+        int side = grid.getSize() + 1;
+        for (int point = 0; point < grid.points(); point++) {
+            grid.set(point, Math.hypot(point % side - 20, point / side - 20) * 100);
+        }
+
+        // when
+        Geometry contour = grid.contour(1500);
+
+        // then
+        double squareMeters = contour.getArea() * METERS_PER_DEGREE * METERS_PER_DEGREE * Math.cos(Math.toRadians(37.5));
+        assertEquals(Math.PI * 1500 * 1500, squareMeters, Math.PI * 1500 * 1500 * 0.03);
+        assertTrue(grid.contour(-1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("OSRM table 을 batch 로 나누어 조회하고 갈 수 없는 격자점은 영역에서 빠지는지 테스트")
+    void isochrone() throws Exception {
+        // when : 10분, 10m/s 이면 반경 6km
+        IsochroneDTO result = isochroneService.isochrone(127.0, 37.5, TravelProfile.CAR, 10);
+
+        // then : 625 개 격자점을 99 개씩 7 번에 나누어 조회한다.
+        assertEquals(625, result.getSampled());
+        assertEquals(7, osrm.requests());
+        Geometry area = new GeoJsonReader(GeometryConverter.geometryFactory()).read(result.getGeometry());
+        assertTrue(area.contains(point(result, 0, 0)));
+        assertTrue(area.contains(point(result, -4000, 0)));
+        assertTrue(area.contains(point(result, 0, 4000)));
+        assertFalse(area.contains(point(result, -8000, 0)));
+        assertFalse(area.contains(point(result, 4000, 0)));
+        assertTrue(result.getReachable() > 0 && result.getReachable() < result.getSampled());
+    }
+
+    @Test
+    @DisplayName("같은 격자에 맞춰지는 출발지, 프로필, 시간 예산은 캐시된 결과를 쓰는지 테스트")
+    void cache() throws Exception {
+        // given
+        IsochroneDTO first = isochroneService.isochrone(127.0, 37.5, TravelProfile.CAR, 10);
+
+        // when : 20m 떨어진 출발지
+        IsochroneDTO second = isochroneService.isochrone(127.0, 37.5 + 20 / METERS_PER_DEGREE, TravelProfile.CAR, 10);
+        isochroneService.isochrone(127.0, 37.5, TravelProfile.CAR, 5);
+
+        // then
+        assertSame(first, second);
+        assertEquals(14, osrm.requests());
+        assertEquals(1L, metricsRegistry.counterValues().get("isochrone.cacheHits"));
+        assertEquals(2L, metricsRegistry.counterValues().get("isochrone.cacheMisses"));
+    }
+
+    @Test
+    @DisplayName("잘못된 요청과 OSRM 오류 응답 처리 테스트")
+    void failures() {
+        // given
+        osrm.fail = true;
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> isochroneService.isochrone(127.0, 37.5, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> isochroneService.isochrone(127.0, 37.5, TravelProfile.CAR, 0));
+        assertThrows(IllegalArgumentException.class, () -> isochroneService.isochrone(200.0, 37.5, TravelProfile.CAR, 10));
+        assertThrows(IOException.class, () -> isochroneService.isochrone(127.0, 37.5, TravelProfile.CAR, 10));
+        //실패한 결과는 캐시하지 않는다.
+        osrm.fail = false;
+        assertDoesNotThrow(() -> isochroneService.isochrone(127.0, 37.5, TravelProfile.CAR, 10));
+    }
+
+    @Test
+    @DisplayName("계산 하나의 동시 table 요청 수가 parallel-batches 를 넘지 않고, 전용 풀이 가득 차면 503 예외로 거절되는지 테스트")
+    void parallelBatches() throws Exception {
+        // given
+        properties.setParallelBatches(2);
+        osrm.delayMillis = 20;
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        IsochroneService pooled = new IsochroneService(upstreamClient, new ObjectMapper(), properties, pool, metricsRegistry);
+        IsochroneService full = new IsochroneService(upstreamClient, new ObjectMapper(), properties, runnable -> {
+            throw new RejectedExecutionException();
+        }, metricsRegistry);
+
+        try {
+            // when
+            IsochroneDTO result = pooled.isochrone(127.0, 37.5, TravelProfile.CAR, 10);
+
+            // then
+            assertEquals(625, result.getSampled());
+            assertEquals(7, osrm.requests());
+            assertTrue(osrm.maxInFlight() <= 2);
+            assertThrows(ConcurrencyLimitExceededException.class, () -> full.isochrone(127.0, 37.5, TravelProfile.CAR, 20));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    //출발지에서 동쪽 east(m), 북쪽 north(m) 떨어진 점
+    private static org.locationtech.jts.geom.Point point(IsochroneDTO result, double east, double north) {
+        return GeometryConverter.geometryFactory().createPoint(new Coordinate(
+                result.getX() + east / (METERS_PER_DEGREE * Math.cos(Math.toRadians(result.getY()))),
+                result.getY() + north / METERS_PER_DEGREE));
+    }
+
+    /*
+     *  OSRM table API 를 흉내 내는 UpstreamTransport
+     *  첫 좌표(출발지)에서 각 목적지까지 직선 거리를 speed(m/s) 로 간 시간을 돌려주고,
+     *  출발지보다 동쪽으로 eastLimit(m) 를 넘는 목적지는 경로 없음(null) 으로 돌려준다.
+     */
+    static class StubOsrmTransport implements UpstreamTransport {
+
+        private final double speed;
+        private final double eastLimit;
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        volatile boolean fail;
+        volatile long delayMillis;
+
+        StubOsrmTransport(double speed, double eastLimit) {
+            this.speed = speed;
+            this.eastLimit = eastLimit;
+        }
+
+        int requests() {
+            return requests.get();
+        }
+
+        int maxInFlight() {
+            return maxInFlight.get();
+        }
+
+        @Override
+        public CompletableFuture<UpstreamResponse> send(UpstreamProvider provider, URI uri, UpstreamRequest request, Duration timeout) {
+            requests.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            if (fail) {
+                return CompletableFuture.completedFuture(response(400, "{\"code\":\"TooBig\",\"message\":\"Too many table coordinates\"}"));
+            }
+            String[] coordinates = uri.getPath().substring(uri.getPath().lastIndexOf('/') + 1).split(";");
+            double[] origin = parse(coordinates[0]);
+            double scale = METERS_PER_DEGREE * Math.cos(Math.toRadians(origin[1]));
+            StringBuilder durations = new StringBuilder();
+            StringBuilder destinations = new StringBuilder();
+            for (int i = 1; i < coordinates.length; i++) {
+                double[] destination = parse(coordinates[i]);
+                double east = (destination[0] - origin[0]) * scale;
+                double north = (destination[1] - origin[1]) * METERS_PER_DEGREE;
+                durations.append(i == 1 ? "" : ",").append(east > eastLimit ? "null" : String.valueOf(Math.hypot(east, north) / speed));
+                destinations.append(i == 1 ? "" : ",").append("{\"distance\":0}");
+            }
+            return CompletableFuture.completedFuture(response(200, "{\"code\":\"Ok\",\"durations\":[[" + durations
+                    + "]],\"sources\":[{\"distance\":0}],\"destinations\":[" + destinations + "]}"));
+        }
+
+        private static double[] parse(String coordinate) {
+            String[] parts = coordinate.split(",");
+            return new double[]{Double.parseDouble(parts[0]), Double.parseDouble(parts[1])};
+        }
+
+        private static UpstreamResponse response(int status, String body) {
+            return new UpstreamResponse(status, Map.of("Content-Type", List.of("application/json")), body.getBytes());
+        }
+    }
+}
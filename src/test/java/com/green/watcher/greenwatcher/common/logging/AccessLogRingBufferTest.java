@@ -0,0 +1,96 @@
+package com.green.watcher.greenwatcher.common.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내고 JSON 한 줄로 직렬화")
+    void testOfferAndDrain() {
+        // given
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(8);
+        buffer.offer(1L, "GET", "/map", 200, 1500, "127.0.0.1", false);
+        buffer.offer(2L, "POST", "/api/auth/login?q=\"x\"", 401, 20, "10.0.0.1", true);
+
+        // when
+        List<String> lines = new ArrayList<>();
+        int drained = buffer.drain(entry -> {
+            StringBuilder sb = new StringBuilder();
+            entry.appendJson(sb);
+            lines.add(sb.toString());
+        }, 10);
+
+        // then
+        assertEquals(2, drained);
+        assertEquals("{\"ts\":1,\"method\":\"GET\",\"uri\":\"/map\",\"status\":200,\"durationUs\":1500,\"ip\":\"127.0.0.1\",\"slow\":false}", lines.get(0));
+        assertTrue(lines.get(1).contains("\"uri\":\"/api/auth/login?q=\\\"x\\\"\""));
+        assertEquals(0, buffer.drain(entry -> fail("비어 있어야 합니다."), 10));
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 요청 스레드를 막지 않고 버린다")
+    void testDropWhenFull() {
+        // given
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            buffer.offer(i, "GET", "/" + i, 200, 1, null, false);
+        }
+
+        // then
+        assertEquals(4, buffer.capacity());
+        assertEquals(2, buffer.dropped());
+        assertEquals(4, buffer.drain(entry -> { }, 10));
+        assertTrue(buffer.offer(7, "GET", "/7", 200, 1, null, false));
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 유실이나 중복이 없다")
+    void testConcurrentProducers() throws Exception {
+        // given
+        int producers = 8;
+        int perProducer = 10_000;
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    long id = (long) producer * perProducer + i;
+                    while (!buffer.offer(id, "GET", "/", 200, 1, null, false)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        Set<Long> seen = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (seen.size() < producers * perProducer && System.nanoTime() < deadline) {
+            buffer.drain(entry -> assertTrue(seen.add(entry.timestamp)), 256);
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(producers * perProducer, seen.size());
+    }
+}
@@ -0,0 +1,89 @@
+package com.green.watcher.greenwatcher.common.metrics;
+
+import com.green.watcher.greenwatcher.common.metrics.dto.LatencySnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyRecorderTest {
+
+    @Test
+    @DisplayName("구간 백분위, 오류율, 누적 건수 계산")
+    void testSnapshot() {
+        // given
+        LatencyRecorder recorder = new LatencyRecorder("test");
+        for (int i = 1; i <= 1000; i++) {
+            recorder.record(TimeUnit.MILLISECONDS.toNanos(i), i > 990);
+        }
+
+        // when
+        LatencySnapshot snapshot = recorder.snapshot(0);
+
+        // then
+        assertEquals(1000, snapshot.getCount());
+        //1 + 2 + ... + 1000 ms
+        assertEquals(500_500, snapshot.getSum(), 1e-6);
+        assertEquals(10, snapshot.getErrors());
+        assertEquals(0.01, snapshot.getErrorRate(), 1e-9);
+        assertEquals(500, snapshot.getP50(), 5);
+        assertEquals(990, snapshot.getP99(), 10);
+        assertEquals(1000, snapshot.getMax(), 10);
+    }
+
+    @Test
+    @DisplayName("window 가 지나면 새 구간만 반영하고 누적 값은 유지")
+    void testRollWindow() {
+        // given
+        LatencyRecorder recorder = new LatencyRecorder("test");
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(100), false);
+        recorder.snapshot(0);
+
+        // when
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(2), true);
+        LatencySnapshot snapshot = recorder.snapshot(0);
+
+        // then
+        assertEquals(2, snapshot.getCount());
+        assertEquals(1, snapshot.getErrors());
+        assertEquals(1.0, snapshot.getErrorRate(), 1e-9);
+        assertEquals(2, snapshot.getMax(), 0.1);
+    }
+
+    @Test
+    @DisplayName("조회 없이 구간을 교체하면 이전 구간의 기록이 다음 구간에 섞이지 않음")
+    void testRollWithoutRead() {
+        // given
+        LatencyRecorder recorder = new LatencyRecorder("test");
+        recorder.snapshot(0);
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(100), true);
+
+        // when : 조회 없이 window 가 지나 교체된 뒤의 조회
+        recorder.rollIfDue(0);
+        LatencySnapshot snapshot = recorder.snapshot(Long.MAX_VALUE);
+
+        // then
+        assertEquals(1, snapshot.getCount());
+        assertEquals(1, snapshot.getErrors());
+        assertEquals(100, snapshot.getMax(), 1);
+        assertEquals(100, snapshot.getSum(), 1e-6);
+    }
+
+    @Test
+    @DisplayName("같은 이름의 기록기는 하나만 생성")
+    void testRegistryReusesRecorder() {
+        // given
+        MetricsRegistry registry = new MetricsRegistry();
+
+        // when
+        registry.recorder("a").record(1000, false);
+        registry.counter("c").increment();
+
+        // then
+        assertSame(registry.recorder("a"), registry.recorder("a"));
+        assertEquals(1, registry.latencySnapshots().size());
+        assertEquals(1L, registry.counterValues().get("c"));
+    }
+}
@@ -0,0 +1,27 @@
+package com.green.watcher.greenwatcher.common.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrometheusExpositionTest {
+
+    @Test
+    @DisplayName("summary 는 _sum 과 _count 를 함께 쓴다")
+    void summarySumAndCount() {
+        // given
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recorder("a").record(TimeUnit.MILLISECONDS.toNanos(40), false);
+        registry.recorder("a").record(TimeUnit.MILLISECONDS.toNanos(60), false);
+
+        // when
+        String body = new PrometheusExposition(registry).render();
+
+        // then
+        assertTrue(body.contains("greenwatcher_latency_seconds_sum{name=\"a\"} 0.1\n"));
+        assertTrue(body.contains("greenwatcher_latency_seconds_count{name=\"a\"} 2\n"));
+    }
+}
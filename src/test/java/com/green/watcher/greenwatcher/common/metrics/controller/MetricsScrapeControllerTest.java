@@ -0,0 +1,43 @@
+package com.green.watcher.greenwatcher.common.metrics.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "metrics.scrape-token=scrape-test-token")
+@AutoConfigureMockMvc
+public class MetricsScrapeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("스크랩 토큰이 맞으면 세션 없이 prometheus 본문 응답")
+    public void scrapeWithToken() throws Exception {
+        // given // when // then
+        mockMvc.perform(get("/metrics/prometheus")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer scrape-test-token"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("# TYPE greenwatcher_latency_seconds summary")));
+    }
+
+    @Test
+    @DisplayName("스크랩 토큰이 없거나 다르면 401")
+    public void scrapeWithoutToken() throws Exception {
+        // given // when // then
+        mockMvc.perform(get("/metrics/prometheus"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().exists(HttpHeaders.WWW_AUTHENTICATE));
+        mockMvc.perform(get("/metrics/prometheus")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer wrong-token"))
+                .andExpect(status().isUnauthorized());
+    }
+}
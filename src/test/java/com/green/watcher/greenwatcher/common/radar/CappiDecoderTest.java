@@ -0,0 +1,62 @@
+package com.green.watcher.greenwatcher.common.radar;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CappiDecoderTest {
+
+    @Test
+    @DisplayName("BASE64 + zlib 압축 CSV 를 행 단위 값으로 디코딩")
+    void testDecode() throws Exception {
+        // given
+        String encoded = compress("0.5,-127,12.25\n-128,3,0\n");
+
+        // when
+        double[][] grid = CappiDecoder.decode(encoded);
+
+        // then
+        assertEquals(2, grid.length);
+        assertArrayEquals(new double[]{0.5, -127, 12.25}, grid[0], 1e-9);
+        assertArrayEquals(new double[]{-128, 3, 0}, grid[1], 1e-9);
+    }
+
+    @Test
+    @DisplayName("관측 없음 값을 제외하고 turf.destination 과 같은 좌표를 할당")
+    void testAssignCoordinates() {
+        // given
+        double[][] grid = {
+                {1, -127, 2},
+                {-128, 3, 4}
+        };
+
+        // when
+        RadarPoints points = CappiCoordinates.assign(121.0, 32.0, 1.0, grid, 3, 2, 0);
+
+        // then
+        assertEquals(4, points.size());
+        //첫 열은 시작 경도 그대로
+        assertEquals(121.0, points.lon(0), 1e-12);
+        assertEquals(32.0, points.lat(0), 1e-12);
+        //동쪽 2km, 위도 32도에서 경도 1도는 약 94.4km
+        assertEquals(121.0 + 2 / 94.41, points.lon(1), 1e-3);
+        //다음 행은 북쪽으로 1km(약 0.008993도) 이동
+        assertEquals(32.0 + 1 / 111.195, points.lat(2), 1e-5);
+        assertEquals(3, points.value(2));
+        assertEquals(4, points.value(3));
+    }
+
+    private static String compress(String csv) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(csv.getBytes(StandardCharsets.US_ASCII));
+        }
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+}
@@ -0,0 +1,133 @@
+package com.green.watcher.greenwatcher.common.ratelimit;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("버킷 용량만큼 허용한 뒤 거절")
+    void tokenBucketCapacity() {
+        // given
+        TokenBucketArray buckets = new TokenBucketArray(1, 5, 0.001);
+
+        // when
+        long acquired = IntStream.range(0, 10).filter(i -> buckets.tryAcquire(0)).count();
+
+        // then
+        assertEquals(5, acquired);
+        assertTrue(buckets.millisUntilAvailable(0) > 0);
+    }
+
+    @Test
+    @DisplayName("동시에 꺼내도 용량을 넘지 않음")
+    void tokenBucketConcurrent() {
+        // given
+        TokenBucketArray buckets = new TokenBucketArray(1, 1000, 0.001);
+        AtomicInteger acquired = new AtomicInteger();
+
+        // when
+        IntStream.range(0, 5000).parallel().forEach(i -> {
+            if (buckets.tryAcquire(0)) {
+                acquired.incrementAndGet();
+            }
+        });
+
+        // then
+        assertEquals(1000, acquired.get());
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 충전됨")
+    void tokenBucketRefill() throws InterruptedException {
+        // given
+        TokenBucketArray buckets = new TokenBucketArray(1, 1, 100);
+        assertTrue(buckets.tryAcquire(0));
+        assertFalse(buckets.tryAcquire(0));
+
+        // when
+        Thread.sleep(50);
+
+        // then
+        assertTrue(buckets.tryAcquire(0));
+    }
+
+    @Test
+    @DisplayName("IP 기준 정책은 IP 마다 따로 제한하고 거절 수를 기록")
+    void limitByIp() {
+        // given
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        RateLimiter rateLimiter = new RateLimiter(properties(policy("login", "/api/auth/login", "POST", RateLimitKey.IP, 3)), metricsRegistry);
+
+        // when
+        long rejected = IntStream.range(0, 5).filter(i -> rateLimiter.tryAcquire(request("POST", "/api/auth/login", "10.0.0.1")) > 0).count();
+        long otherIp = rateLimiter.tryAcquire(request("POST", "/api/auth/login", "10.0.0.2"));
+        long otherMethod = rateLimiter.tryAcquire(request("GET", "/api/auth/login", "10.0.0.1"));
+
+        // then
+        assertEquals(2, rejected);
+        assertEquals(0, otherIp);
+        assertEquals(0, otherMethod);
+        assertEquals(2L, metricsRegistry.counterValues().get("ratelimit.rejected.login"));
+    }
+
+    @Test
+    @DisplayName("인증된 요청은 IP 가 달라도 사용자 id 기준으로 제한")
+    void limitByUser() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(properties(policy("api", "/api/**", null, RateLimitKey.USER_OR_IP, 2)), new MetricsRegistry());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user1", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        // when
+        long first = rateLimiter.tryAcquire(request("GET", "/api/test", "10.0.0.1"));
+        long second = rateLimiter.tryAcquire(request("GET", "/api/test", "10.0.0.2"));
+        long third = rateLimiter.tryAcquire(request("GET", "/api/test", "10.0.0.3"));
+
+        // then
+        assertEquals(0, first);
+        assertEquals(0, second);
+        assertTrue(third > 0);
+    }
+
+    private static RateLimitProperties properties(RateLimitProperties.Policy policy) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setStripes(1024);
+        properties.setPolicies(List.of(policy));
+        return properties;
+    }
+
+    private static RateLimitProperties.Policy policy(String name, String pattern, String method, RateLimitKey key, long capacity) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setName(name);
+        policy.setPattern(pattern);
+        policy.setMethod(method);
+        policy.setKey(key);
+        policy.setCapacity(capacity);
+        policy.setRefillPerSecond(0.001);
+        return policy;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
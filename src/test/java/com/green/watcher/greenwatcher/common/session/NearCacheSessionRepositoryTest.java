@@ -0,0 +1,179 @@
+package com.green.watcher.greenwatcher.common.session;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class NearCacheSessionRepositoryTest {
+
+    private InMemorySessionRepository delegate;
+    private JdbcTemplate jdbcTemplate;
+    private MetricsRegistry metricsRegistry;
+    private NearCacheSessionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new InMemorySessionRepository();
+        jdbcTemplate = mock(JdbcTemplate.class);
+        metricsRegistry = new MetricsRegistry();
+        SessionStoreProperties properties = new SessionStoreProperties();
+        properties.setNearCacheTtl(Duration.ofMinutes(1));
+        properties.setLastAccessFlushInterval(Duration.ofHours(1));
+        repository = new NearCacheSessionRepository(delegate, jdbcTemplate, "SPRING_SESSION", properties, metricsRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.destroy();
+    }
+
+    @Test
+    @DisplayName("near-cache 에 올린 세션은 DB 를 다시 조회하지 않음")
+    void findByIdUsesNearCache() {
+        // given
+        NearCacheSession session = repository.createSession();
+        session.setAttribute("user", "user1");
+        repository.save(session);
+        int loads = delegate.finds.get();
+
+        // when
+        NearCacheSession first = repository.findById(session.getId());
+        NearCacheSession second = repository.findById(session.getId());
+
+        // then
+        assertEquals("user1", first.getAttribute("user"));
+        assertEquals("user1", second.getAttribute("user"));
+        assertEquals(loads, delegate.finds.get());
+        assertEquals(2, metricsRegistry.counterValues().get("session.nearCache.hit"));
+    }
+
+    @Test
+    @DisplayName("마지막 접근 시간만 바뀌면 즉시 쓰지 않고 일괄 반영")
+    void lastAccessIsFlushedInBatch() {
+        // given
+        NearCacheSession created = repository.createSession();
+        repository.save(created);
+        int saves = delegate.saves.get();
+
+        // when
+        NearCacheSession session = repository.findById(created.getId());
+        session.setLastAccessedTime(Instant.now().plusSeconds(1));
+        repository.save(session);
+
+        // then
+        assertEquals(saves, delegate.saves.get());
+        repository.flushLastAccess();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("속성 변경은 원본 세션에 즉시 반영")
+    void attributeChangeWritesThrough() {
+        // given
+        NearCacheSession created = repository.createSession();
+        repository.save(created);
+
+        // when
+        NearCacheSession session = repository.findById(created.getId());
+        session.setAttribute("expired", Boolean.TRUE);
+        repository.save(session);
+
+        // then
+        assertEquals(Boolean.TRUE, delegate.sessions.get(created.getId()).getAttribute("expired"));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("세션 id 변경 시 이전 id 는 조회되지 않음")
+    void changeSessionId() {
+        // given
+        NearCacheSession created = repository.createSession();
+        repository.save(created);
+        String oldId = created.getId();
+
+        // when
+        NearCacheSession session = repository.findById(oldId);
+        String newId = session.changeSessionId();
+        repository.save(session);
+
+        // then
+        assertNotEquals(oldId, newId);
+        assertNull(repository.findById(oldId));
+        assertNotNull(repository.findById(newId));
+    }
+
+    @Test
+    @DisplayName("사용자 이름으로 조회하면 항상 원본 저장소를 조회")
+    void findByPrincipalNameReadsDelegate() {
+        // given
+        NearCacheSession session = repository.createSession();
+        session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "user1");
+        repository.save(session);
+
+        // when
+        Map<String, NearCacheSession> sessions = repository.findByPrincipalName("user1");
+
+        // then
+        assertEquals(List.of(session.getId()), List.copyOf(sessions.keySet()));
+    }
+
+    //id 변경과 사용자 이름 인덱스를 지원하는 메모리 세션 저장소
+    private static class InMemorySessionRepository implements FindByIndexNameSessionRepository<MapSession> {
+
+        private final Map<String, MapSession> sessions = new HashMap<>();
+        private final AtomicInteger finds = new AtomicInteger();
+        private final AtomicInteger saves = new AtomicInteger();
+
+        @Override
+        public MapSession createSession() {
+            return new MapSession();
+        }
+
+        @Override
+        public void save(MapSession session) {
+            saves.incrementAndGet();
+            sessions.remove(session.getOriginalId());
+            sessions.put(session.getId(), new MapSession(session));
+        }
+
+        @Override
+        public MapSession findById(String id) {
+            finds.incrementAndGet();
+            MapSession session = sessions.get(id);
+            return session == null ? null : new MapSession(session);
+        }
+
+        @Override
+        public void deleteById(String id) {
+            sessions.remove(id);
+        }
+
+        @Override
+        public Map<String, MapSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+            Map<String, MapSession> result = new HashMap<>();
+            sessions.forEach((id, session) -> {
+                if (indexValue.equals(session.getAttribute(PRINCIPAL_NAME_INDEX_NAME))) {
+                    result.put(id, new MapSession(session));
+                }
+            });
+            return result;
+        }
+    }
+}
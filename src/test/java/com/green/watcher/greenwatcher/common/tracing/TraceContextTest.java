@@ -0,0 +1,90 @@
+package com.green.watcher.greenwatcher.common.tracing;
+
+import com.green.watcher.greenwatcher.common.tracing.dto.SpanDTO;
+import com.green.watcher.greenwatcher.common.tracing.dto.TraceDTO;
+import com.green.watcher.greenwatcher.common.tracing.enumerate.SpanKind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceContextTest {
+
+    @AfterEach
+    void tearDown() {
+        TraceContext.end();
+    }
+
+    @Test
+    @DisplayName("중첩된 구간을 span 트리로 만든다")
+    void testSpanTree() {
+        // given
+        Trace trace = TraceContext.begin("abc", "GET", "/map", 16);
+
+        // when
+        try (TraceScope ignored = TraceContext.span(SpanKind.SECURITY, "jwt.verify", null)) {
+            try (TraceScope query = TraceContext.span(SpanKind.DB_QUERY, "db.query", "select 1")) {
+                query.error();
+            }
+        }
+        try (TraceScope ignored = TraceContext.span(SpanKind.UPSTREAM, "upstream.kma", "apihub.kma.go.kr/api")) {
+            // upstream
+        }
+        TraceContext.end();
+        trace.finish(200);
+        TraceDTO dto = TraceDTO.tree(trace);
+
+        // then
+        assertEquals("abc", dto.getId());
+        assertEquals(3, dto.getSpanCount());
+        List<SpanDTO> roots = dto.getSpans();
+        assertEquals(2, roots.size());
+        assertEquals("jwt.verify", roots.get(0).getName());
+        assertEquals(1, roots.get(0).getChildren().size());
+        SpanDTO query = roots.get(0).getChildren().get(0);
+        assertEquals("select 1", query.getDetail());
+        assertTrue(query.isError());
+        assertEquals("upstream.kma", roots.get(1).getName());
+        assertTrue(roots.get(1).getChildren().isEmpty());
+        assertTrue(dto.getSelfMillis() >= 0);
+        assertNull(TraceDTO.summary(trace).getSpans());
+    }
+
+    @Test
+    @DisplayName("추적 중이 아니면 NOOP, 최대 span 수를 넘으면 버린다")
+    void testNoopAndMaxSpans() {
+        // given
+        assertSame(TraceScope.NOOP, TraceContext.span(SpanKind.INTERNAL, "outside", null));
+        Trace trace = TraceContext.begin("abc", "GET", "/map", 2);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            TraceContext.span(SpanKind.DB_QUERY, "db.query", null).close();
+        }
+
+        // then
+        assertEquals(2, trace.getSpanCount());
+        assertEquals(3, trace.getDroppedSpans());
+    }
+
+    @Test
+    @DisplayName("느린 요청 링은 최신순으로 반환하고 가장 오래된 기록을 덮어쓴다")
+    void testSlowTraceRing() {
+        // given
+        SlowTraceRing ring = new SlowTraceRing(3);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            ring.add(new Trace("t" + i, "GET", "/", 4));
+        }
+
+        // then
+        List<Trace> recent = ring.recent(10);
+        assertEquals(List.of("t4", "t3", "t2"), recent.stream().map(Trace::getId).toList());
+        assertNull(ring.find("t0"));
+        assertNotNull(ring.find("t3"));
+    }
+}
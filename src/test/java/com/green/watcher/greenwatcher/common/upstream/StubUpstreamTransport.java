@@ -0,0 +1,56 @@
+package com.green.watcher.greenwatcher.common.upstream;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ *  @author kim
+ *  @since 2026.10.19
+ *  @version 1.0.0
+ *  네트워크 없이 미리 정한 응답을 차례대로 돌려주는 UpstreamTransport
+ *  마지막으로 등록한 응답은 큐가 비어도 계속 돌려준다.
+ */
+public class StubUpstreamTransport implements UpstreamTransport {
+
+    private final Deque<Supplier<CompletableFuture<UpstreamResponse>>> responses = new ArrayDeque<>();
+    private final AtomicInteger sent = new AtomicInteger();
+    private Supplier<CompletableFuture<UpstreamResponse>> last;
+
+    public StubUpstreamTransport respond(int status, String body) {
+        return then(() -> CompletableFuture.completedFuture(response(status, body)));
+    }
+
+    //응답하지 않는 요청 (헤징 / 타임아웃 확인용)
+    public StubUpstreamTransport hang() {
+        return then(CompletableFuture::new);
+    }
+
+    public StubUpstreamTransport then(Supplier<CompletableFuture<UpstreamResponse>> response) {
+        responses.add(response);
+        return this;
+    }
+
+    public int sent() {
+        return sent.get();
+    }
+
+    @Override
+    public synchronized CompletableFuture<UpstreamResponse> send(UpstreamProvider provider, URI uri, UpstreamRequest request, Duration timeout) {
+        sent.incrementAndGet();
+        if (!responses.isEmpty()) {
+            last = responses.poll();
+        }
+        return last.get();
+    }
+
+    public static UpstreamResponse response(int status, String body) {
+        return new UpstreamResponse(status, Map.of("Content-Type", List.of("application/json")), body.getBytes());
+    }
+}
@@ -0,0 +1,168 @@
+package com.green.watcher.greenwatcher.common.upstream;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamClientTest {
+
+    private MetricsRegistry metricsRegistry;
+    private UpstreamProperties properties;
+    private UpstreamProperties.Client client;
+    private StubUpstreamTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        metricsRegistry = new MetricsRegistry();
+        properties = new UpstreamProperties();
+        client = new UpstreamProperties.Client();
+        client.setBaseUrl("http://stub/kakao");
+        client.setRequestTimeout(Duration.ofSeconds(1));
+        client.setRetryBackoff(Duration.ofMillis(1));
+        client.getCircuit().setWindowSize(4);
+        client.getCircuit().setMinimumCalls(4);
+        properties.getProviders().put(UpstreamProvider.KAKAO, client);
+        transport = new StubUpstreamTransport();
+    }
+
+    private UpstreamClient upstreamClient() {
+        return new UpstreamClient(properties, new UpstreamCallLimiter(properties, metricsRegistry), transport, metricsRegistry);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 재시도하여 성공 응답을 돌려줌")
+    void retryServerError() throws IOException {
+        // given
+        transport.respond(503, "{}").respond(200, "{\"ok\":true}");
+
+        // when
+        UpstreamResponse response = upstreamClient().get(UpstreamProvider.KAKAO, "/v2/local/geo/coord2address.json");
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertEquals(2, transport.sent());
+        assertEquals(1L, metricsRegistry.counterValues().get("upstream.kakao.retries"));
+    }
+
+    @Test
+    @DisplayName("idempotent 가 아닌 요청은 재시도하지 않음")
+    void noRetryForPost() throws IOException {
+        // given
+        transport.respond(503, "{}").respond(200, "{}");
+
+        // when
+        UpstreamResponse response = upstreamClient().execute(UpstreamProvider.KAKAO,
+                UpstreamRequest.builder().method("POST").pathAndQuery("/v2/local").body(new byte[0]).build());
+
+        // then
+        assertEquals(503, response.getStatus());
+        assertEquals(1, transport.sent());
+    }
+
+    @Test
+    @DisplayName("첫 응답이 hedgeDelay 안에 오지 않으면 헤징 요청의 응답을 사용")
+    void hedge() throws IOException {
+        // given
+        client.setHedgeDelay(Duration.ofMillis(20));
+        transport.hang().respond(200, "{\"hedged\":true}");
+
+        // when
+        UpstreamResponse response = upstreamClient().get(UpstreamProvider.KAKAO, "/v2/local/geo/coord2regioncode.json");
+
+        // then
+        assertEquals("{\"hedged\":true}", response.bodyAsString());
+        assertEquals(2, transport.sent());
+        assertEquals(1L, metricsRegistry.counterValues().get("upstream.kakao.hedges"));
+    }
+
+    @Test
+    @DisplayName("재시도와 헤징도 요청마다 호출량 예산을 쓰고, 예산이 없으면 재시도 / 헤징하지 않음")
+    void quotaPerSend() throws IOException {
+        // given
+        UpstreamProperties.Quota quota = new UpstreamProperties.Quota();
+        quota.setCapacity(1);
+        quota.setRefillPerSecond(0.001);
+        properties.getQuota().put(UpstreamProvider.KAKAO, quota);
+        client.setHedgeDelay(Duration.ofMillis(20));
+        transport.then(() -> CompletableFuture.supplyAsync(() -> StubUpstreamTransport.response(503, "{}"),
+                CompletableFuture.delayedExecutor(60, TimeUnit.MILLISECONDS)));
+        UpstreamClient upstreamClient = upstreamClient();
+
+        // when
+        UpstreamResponse response = upstreamClient.get(UpstreamProvider.KAKAO, "/v2/local/geo/coord2address.json");
+
+        // then
+        assertEquals(503, response.getStatus());
+        assertEquals(1, transport.sent());
+        assertEquals(0L, metricsRegistry.counterValues().get("upstream.kakao.hedges"));
+        assertEquals(0L, metricsRegistry.counterValues().get("upstream.kakao.retries"));
+        assertThrows(UpstreamRejectedException.class, () -> upstreamClient.get(UpstreamProvider.KAKAO, "/next"));
+        assertEquals(3L, metricsRegistry.counterValues().get("upstream.kakao.quotaRejected"));
+    }
+
+    @Test
+    @DisplayName("응답이 없으면 타임아웃 후 IOException")
+    void timeout() {
+        // given
+        client.setRequestTimeout(Duration.ofMillis(20));
+        client.setMaxAttempts(1);
+        transport.hang();
+
+        // when
+        // then
+        assertThrows(IOException.class, () -> upstreamClient().get(UpstreamProvider.KAKAO, "/slow"));
+    }
+
+    @Test
+    @DisplayName("실패율이 기준을 넘으면 서킷을 열고 호출하지 않음")
+    void circuitOpen() throws IOException {
+        // given
+        client.setMaxAttempts(1);
+        transport.respond(500, "{}");
+        UpstreamClient upstreamClient = upstreamClient();
+        for (int i = 0; i < 4; i++) {
+            upstreamClient.get(UpstreamProvider.KAKAO, "/fail");
+        }
+
+        // when
+        // then
+        assertThrows(UpstreamCircuitOpenException.class, () -> upstreamClient.get(UpstreamProvider.KAKAO, "/fail"));
+        assertEquals(4, transport.sent());
+        assertEquals(1L, metricsRegistry.counterValues().get("upstream.kakao.circuitRejected"));
+    }
+
+    @Test
+    @DisplayName("서킷이 열린 뒤 openDuration 이 지나면 시험 호출 하나만 허용하고 성공하면 닫음")
+    void circuitHalfOpen() {
+        // given
+        long[] now = {0};
+        UpstreamProperties.Circuit circuit = new UpstreamProperties.Circuit();
+        circuit.setWindowSize(2);
+        circuit.setMinimumCalls(2);
+        circuit.setOpenDuration(Duration.ofNanos(100));
+        UpstreamCircuitBreaker circuitBreaker = new UpstreamCircuitBreaker(circuit, () -> now[0]);
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertFalse(circuitBreaker.tryAcquire());
+
+        // when
+        now[0] = 100;
+        boolean probe = circuitBreaker.tryAcquire();
+        boolean second = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertTrue(probe);
+        assertFalse(second);
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+}
@@ -0,0 +1,59 @@
+package com.green.watcher.greenwatcher.common.user.availability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 있을 수 있음으로 응답")
+    void noFalseNegatives() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        // when
+        IntStream.range(0, 10_000).parallel().forEach(i -> filter.add("user" + i));
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i));
+        }
+        assertEquals(10_000, filter.getInsertions());
+        assertFalse(filter.isSaturated());
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 목표 근처")
+    void falsePositiveRate() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user" + i + "@example.com");
+        }
+
+        // when
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other" + i + "@example.com"))
+                .count();
+
+        // then
+        assertTrue(falsePositives < 2_000, "오탐 수: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("예상 원소 수를 넘기면 포화 상태")
+    void saturated() {
+        // given
+        BloomFilter filter = BloomFilter.create(10, 0.01);
+
+        // when
+        IntStream.range(0, 11).forEach(i -> filter.add("닉네임" + i));
+
+        // then
+        assertTrue(filter.isSaturated());
+    }
+}
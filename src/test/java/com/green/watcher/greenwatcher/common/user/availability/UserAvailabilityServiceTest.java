@@ -0,0 +1,45 @@
+package com.green.watcher.greenwatcher.common.user.availability;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.user.entity.User;
+import com.green.watcher.greenwatcher.common.user.enumerate.UserField;
+import com.green.watcher.greenwatcher.common.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+class UserAvailabilityServiceTest {
+
+    @Test
+    @DisplayName("필터 재생성 중 가입한 값은 교체된 필터에도 남아 DB 로 확인한다")
+    void registerDuringLoad() {
+        // given
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        UserAvailabilityService service = new UserAvailabilityService(userRepository, new MetricsRegistry(), Runnable::run, 1000, 0.01);
+        User user = User.builder().id("late").nickname("late-nick").email("late@test.com").build();
+        given(userRepository.count()).willReturn(0L);
+        //스캔이 끝난 뒤(마지막 페이지를 읽은 시점) 가입이 커밋된 경우
+        given(userRepository.findIdentitiesAfter(anyString(), any(Pageable.class))).willAnswer(invocation -> {
+            service.register(user);
+            return List.of();
+        });
+        given(userRepository.existsById("late")).willReturn(true);
+
+        // when
+        service.load();
+        boolean available = service.isAvailable(UserField.ID, "late");
+
+        // then
+        assertFalse(available);
+        verify(userRepository).existsById("late");
+    }
+}
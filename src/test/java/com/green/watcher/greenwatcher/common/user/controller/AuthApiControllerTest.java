@@ -1,11 +1,13 @@
 package com.green.watcher.greenwatcher.common.user.controller;
 
+import com.green.watcher.greenwatcher.common.concurrency.ConcurrencyLimitExceededException;
 import com.green.watcher.greenwatcher.common.config.SecurityConfig;
 import com.green.watcher.greenwatcher.common.user.dto.UserApiResponse;
 import com.green.watcher.greenwatcher.common.user.dto.UserRegistrationDTO;
 import com.green.watcher.greenwatcher.common.user.security.jwt.JwtAuthenticationEntryPoint;
 import com.green.watcher.greenwatcher.common.user.security.jwt.JwtAuthenticationFilter;
 import com.green.watcher.greenwatcher.common.user.security.jwt.JwtTokenProvider;
+import com.green.watcher.greenwatcher.common.user.security.jwt.TokenStatus;
 import com.green.watcher.greenwatcher.common.user.security.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -23,6 +25,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -159,12 +162,30 @@ class AuthApiControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("DB 동시성 한도로 로그인 사용자 조회가 거절되면 401 이 아닌 503")
+    @WithMockUser
+    void login_overloaded() throws Exception {
+        // 사용자 조회가 repository 동시성 한도로 거절된 경우 (DaoAuthenticationProvider 가 감싼다)
+        given(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .willThrow(new InternalAuthenticationServiceException("overloaded",
+                        new ConcurrencyLimitExceededException("repository", "DB 동시 호출 한도(16)를 초과했습니다.")));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/auth/login")
+                        .with(SecurityMockMvcRequestPostProcessors.csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":\"testId\", \"password\":\"testPassword\"}"))
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+                .andExpect(MockMvcResultMatchers.header().string("Retry-After", "1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.statusCode").value(503));
+    }
+
     @Test
     @DisplayName("JWT 검증 성공 테스트")
     void jwt_verification_success() throws Exception {
         // JWT 토큰을 모킹하여 특정 값을 반환하도록 설정
         String testToken = "valid-test-token";
-        given(jwtTokenProvider.validateToken(testToken)).willReturn(true);
+        given(jwtTokenProvider.verify(testToken)).willReturn(TokenStatus.VALID);
         given(jwtTokenProvider.getAuthentication(testToken)).willReturn(
                 new UsernamePasswordAuthenticationToken(
                         "testId",
@@ -181,8 +202,8 @@ class AuthApiControllerTest {
                 .andExpect(MockMvcResultMatchers.content().string("test"))
                 .andDo(MockMvcResultHandlers.print());
 
-        // validateToken과 getAuthentication이 호출되었는지 검증
-        verify(jwtTokenProvider, times(1)).validateToken(testToken);
+        // verify와 getAuthentication이 호출되었는지 검증
+        verify(jwtTokenProvider, times(1)).verify(testToken);
         verify(jwtTokenProvider, times(1)).getAuthentication(testToken);
 
     }
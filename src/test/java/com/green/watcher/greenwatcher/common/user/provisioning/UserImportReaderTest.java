@@ -0,0 +1,98 @@
+package com.green.watcher.greenwatcher.common.user.provisioning;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("CSV 헤더 순서와 큰따옴표 인용 처리")
+    void readCsv() throws IOException {
+        // given
+        String csv = "email,id,password,nickname,role\n"
+                + "user1@example.com,user1,\"pa,ss\",닉네임1,admin\n"
+                + "\n"
+                + "\"user2@example.com\",user2,\"say \"\"hi\"\"\",닉네임2,\n"
+                + "user3@example.com,user3\n";
+
+        // when
+        List<UserImportRow> rows = readAll("text/csv; charset=UTF-8", csv);
+
+        // then
+        assertEquals(3, rows.size());
+        assertEquals(2, rows.get(0).getRow());
+        assertEquals("user1", rows.get(0).getId());
+        assertEquals("pa,ss", rows.get(0).getPassword());
+        assertEquals("admin", rows.get(0).getRole());
+        assertEquals(4, rows.get(1).getRow());
+        assertEquals("say \"hi\"", rows.get(1).getPassword());
+        assertNull(rows.get(1).getRole());
+        assertNotNull(rows.get(2).getError());
+    }
+
+    @Test
+    @DisplayName("CSV 필수 컬럼이 없으면 예외")
+    void csvMissingColumn() {
+        assertThrows(IllegalArgumentException.class, () -> readAll("text/csv", "id,nickname,email\nuser1,닉네임,a@b.c\n"));
+    }
+
+    @Test
+    @DisplayName("JSON 배열과 NDJSON 읽기")
+    void readJson() throws IOException {
+        // given
+        String array = "[{\"id\":\"user1\",\"nickname\":\"닉네임1\",\"email\":\"a@b.c\",\"password\":\"pw\"},"
+                + "{\"id\":\"user2\",\"nickname\":null,\"email\":\"d@e.f\",\"password\":\"pw\",\"role\":\"ROLE_ADMIN\"}]";
+        String ndjson = "{\"id\":\"user1\"}\n{\"id\":\"user2\"}\n";
+
+        // when
+        List<UserImportRow> arrayRows = readAll("application/json", array);
+        List<UserImportRow> ndjsonRows = readAll("application/x-ndjson", ndjson);
+
+        // then
+        assertEquals(2, arrayRows.size());
+        assertEquals(2, arrayRows.get(1).getRow());
+        assertNull(arrayRows.get(1).getNickname());
+        assertEquals("ROLE_ADMIN", arrayRows.get(1).getRole());
+        assertEquals(2, ndjsonRows.size());
+        assertEquals("user2", ndjsonRows.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("잘린 JSON 은 IllegalArgumentException (400 응답)")
+    void truncatedJson() {
+        // given
+        String truncated = "[{\"id\":\"user1\",\"nickname\":\"닉네임1\"},{\"id\":\"us";
+
+        // when
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> readAll("application/json", truncated));
+
+        // then
+        assertTrue(e.getMessage().contains("2번째 객체"));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이면 예외")
+    void unsupportedContentType() {
+        assertThrows(IllegalArgumentException.class, () -> readAll("application/xml", "<users/>"));
+    }
+
+    private List<UserImportRow> readAll(String contentType, String body) throws IOException {
+        List<UserImportRow> rows = new ArrayList<>();
+        try (UserImportReader reader = UserImportReader.of(contentType,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), objectMapper)) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+}
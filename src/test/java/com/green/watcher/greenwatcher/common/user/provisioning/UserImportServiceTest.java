@@ -0,0 +1,132 @@
+package com.green.watcher.greenwatcher.common.user.provisioning;
+
+import com.green.watcher.greenwatcher.common.user.availability.UserAvailabilityService;
+import com.green.watcher.greenwatcher.common.user.dto.UserImportReportDTO;
+import com.green.watcher.greenwatcher.common.user.dto.UserImportRowDTO;
+import com.green.watcher.greenwatcher.common.user.entity.User;
+import com.green.watcher.greenwatcher.common.user.enumerate.Role;
+import com.green.watcher.greenwatcher.common.user.enumerate.UserField;
+import com.green.watcher.greenwatcher.common.user.enumerate.UserImportStatus;
+import com.green.watcher.greenwatcher.common.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest(properties = "user.import.chunk-size=2")
+class UserImportServiceTest {
+
+    private static final String HEADER = "id,nickname,email,password,role\n";
+
+    @Autowired
+    private UserImportService importService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @SpyBean
+    private UserAvailabilityService availabilityService;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll(userRepository.findAll().stream()
+                .filter(user -> user.getId().startsWith("imp-"))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("검증을 통과한 행은 chunk 단위로 batch insert 되고, 실패 행은 사유와 함께 행 번호 순으로 보고된다")
+    void importUsers() throws IOException {
+        // given : 기존 사용자 imp-old, chunk-size 2
+        availabilityService.register(userRepository.insert(user("imp-old", "impOldNick", "imp-old@example.com")));
+        String csv = HEADER
+                + "imp-1,impNick1,imp-1@example.com,pw1,\n"
+                + "imp-2,impNick2,imp-2@example.com,pw2,admin\n"
+                + "imp-3,impNick1,imp-3@example.com,pw3,\n"
+                + "imp-4,impNick4,not-an-email,pw4,\n"
+                + "imp-old,impNick5,imp-5@example.com,pw5,\n"
+                + "imp-6,impNick6,imp-6@example.com,pw6,\n"
+                + "imp-7,impNick7,imp-7@example.com,pw7,\n";
+
+        // when
+        UserImportReportDTO report = importCsv(csv);
+
+        // then
+        assertEquals(7, report.getTotal());
+        assertEquals(4, report.getCreated());
+        assertEquals(3, report.getFailed());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L, 8L), report.getRows().stream().map(UserImportRowDTO::getRow).toList());
+        assertEquals(List.of("imp-1", "imp-2", "imp-6", "imp-7"), created(report));
+        assertEquals(UserField.NICKNAME.getKey(), report.getRows().get(2).getField());
+        assertEquals(UserField.EMAIL.getKey(), report.getRows().get(3).getField());
+        assertEquals(UserField.ID.getKey(), report.getRows().get(4).getField());
+
+        User admin = userRepository.findById("imp-2").orElseThrow();
+        assertEquals(Role.ROLE_ADMIN, admin.getRole());
+        assertTrue(passwordEncoder.matches("pw2", admin.getPassword()));
+        assertNotNull(admin.getCreatedAt());
+        assertEquals("impOldNick", userRepository.findById("imp-old").orElseThrow().getNickname());
+    }
+
+    @Test
+    @DisplayName("검증 이후 같은 값이 먼저 등록되어 batch 가 실패하면 그 chunk 만 행 단위로 다시 넣는다")
+    void retryChunkOnConflict() throws IOException {
+        // given : 검증 시점에는 사용 가능하다고 답하지만 이미 등록된 아이디 (동시 가입 상황)
+        userRepository.insert(user("imp-race", "impRaceNick", "imp-race@example.com"));
+        doReturn(true).when(availabilityService).isAvailable(UserField.ID, "imp-race");
+        String csv = HEADER
+                + "imp-a,impNickA,imp-a@example.com,pw,\n"
+                + "imp-race,impNickRace,imp-race2@example.com,pw,\n"
+                + "imp-b,impNickB,imp-b@example.com,pw,\n";
+
+        // when
+        UserImportReportDTO report = importCsv(csv);
+
+        // then : 첫 chunk(imp-a, imp-race) 는 행 단위로 다시 넣어 imp-a 만 등록되고, 다음 chunk 는 그대로 등록된다.
+        assertEquals(3, report.getTotal());
+        assertEquals(2, report.getCreated());
+        assertEquals(1, report.getFailed());
+        assertEquals(List.of("imp-a", "imp-b"), created(report));
+        UserImportRowDTO conflict = report.getRows().get(1);
+        assertEquals(UserImportStatus.FAILED, conflict.getStatus());
+        assertEquals(UserField.ID.getKey(), conflict.getField());
+        assertEquals("impRaceNick", userRepository.findById("imp-race").orElseThrow().getNickname());
+        assertTrue(userRepository.findById("imp-a").isPresent());
+    }
+
+    private UserImportReportDTO importCsv(String csv) throws IOException {
+        return importService.importUsers("text/csv", new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> created(UserImportReportDTO report) {
+        return report.getRows().stream()
+                .filter(row -> row.getStatus() == UserImportStatus.CREATED)
+                .map(UserImportRowDTO::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static User user(String id, String nickname, String email) {
+        return User.builder()
+                .id(id)
+                .nickname(nickname)
+                .email(email)
+                .password("password")
+                .role(Role.ROLE_USER)
+                .build();
+    }
+}
@@ -1,4 +1,6 @@
 package com.green.watcher.greenwatcher.common.user.repository;
+import com.green.watcher.greenwatcher.common.user.dto.AdminUserDTO;
+import com.green.watcher.greenwatcher.common.user.dto.AdminUserQuery;
 import com.green.watcher.greenwatcher.common.user.entity.User;
 import com.green.watcher.greenwatcher.common.user.enumerate.Role;
 import com.green.watcher.greenwatcher.common.user.repository.UserRepository;
@@ -11,6 +13,9 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -79,4 +84,87 @@ public class UserRepositoryTest {
         assertEquals("testnickname1", savedUser.getNickname());
         assertEquals("testuser1@example.com", savedUser.getEmail());
     }
+
+    @Test
+    @Transactional
+    @Rollback
+    @DisplayName("관리자 검색은 가입일이 같은 사용자가 있어도 keyset 페이지로 중복 / 누락 없이 최신순 조회")
+    public void testSearchKeyset() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2026, 10, 1, 9, 0);
+        for (int i = 0; i < 7; i++) {
+            User saved = userRepository.insert(User.builder()
+                    .id("keyset" + i)
+                    .nickname("keysetNick" + i)
+                    .email("keyset" + i + "@example.com")
+                    .password("password")
+                    .role(i % 2 == 0 ? Role.ROLE_USER : Role.ROLE_ADMIN)
+                    .build());
+            //두 명씩 같은 가입일
+            saved.setCreatedAt(base.plusMinutes(i / 2));
+        }
+        userRepository.flush();
+
+        // when
+        List<String> ids = new ArrayList<>();
+        AdminUserQuery query = AdminUserQuery.builder().nicknamePrefix("keysetNick").limit(3).build();
+        while (true) {
+            List<AdminUserDTO> page = userRepository.search(query);
+            page.forEach(user -> ids.add(user.getId()));
+            if (page.size() < query.getLimit()) {
+                break;
+            }
+            query = query.after(AdminUserQuery.encodeCursor(page.get(page.size() - 1)));
+        }
+
+        // then
+        assertEquals(List.of("keyset6", "keyset5", "keyset4", "keyset3", "keyset2", "keyset1", "keyset0"), ids);
+        assertEquals(3, userRepository.search(AdminUserQuery.builder().nicknamePrefix("keysetNick").role(Role.ROLE_ADMIN).build()).size());
+        assertEquals(7, userRepository.stream(AdminUserQuery.builder().emailPrefix("keyset").limit(2).build()).count());
+        assertEquals(2, userRepository.search(AdminUserQuery.builder().emailPrefix("keyset")
+                .createdFrom(base.plusMinutes(1)).createdTo(base.plusMinutes(2)).build()).size());
+    }
+
+    @Test
+    @Transactional
+    @Rollback
+    @DisplayName("가입일이 없는 사용자는 맨 뒤에 오고 커서 / 스트림이 멈추거나 반복하지 않는다")
+    public void testSearchKeysetNullCreatedAt() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2026, 10, 1, 9, 0);
+        for (int i = 0; i < 6; i++) {
+            User saved = userRepository.insert(User.builder()
+                    .id("nullkey" + i)
+                    .nickname("nullkeyNick" + i)
+                    .email("nullkey" + i + "@example.com")
+                    .password("password")
+                    .role(Role.ROLE_USER)
+                    .build());
+            //짝수는 가입일 없음
+            saved.setCreatedAt(i % 2 == 0 ? null : base.plusMinutes(i));
+        }
+        userRepository.flush();
+
+        // when
+        List<String> ids = new ArrayList<>();
+        AdminUserQuery query = AdminUserQuery.builder().nicknamePrefix("nullkeyNick").limit(2).build();
+        for (int guard = 0; guard < 10; guard++) {
+            List<AdminUserDTO> page = userRepository.search(query);
+            page.forEach(user -> ids.add(user.getId()));
+            if (page.size() < query.getLimit()) {
+                break;
+            }
+            query = query.after(AdminUserQuery.encodeCursor(page.get(page.size() - 1)));
+        }
+
+        // then
+        assertEquals(List.of("nullkey5", "nullkey3", "nullkey1", "nullkey4", "nullkey2", "nullkey0"), ids);
+        assertEquals(6, userRepository.stream(AdminUserQuery.builder().emailPrefix("nullkey").limit(2).build()).count());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException")
+    public void testInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> AdminUserQuery.builder().build().after("not-a-cursor"));
+    }
 }
@@ -0,0 +1,84 @@
+package com.green.watcher.greenwatcher.common.user.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.watcher.greenwatcher.common.concurrency.ConcurrencyLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwtTokenProvider = Mockito.mock(JwtTokenProvider.class);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, null, new JwtAuthenticationEntryPoint(new ObjectMapper()));
+    }
+
+    @Test
+    @DisplayName("인증이 필요한 경로에서 검증에 실패하면 다음 필터를 거치지 않고 401")
+    void rejectProtected() throws Exception {
+        // given
+        given(jwtTokenProvider.verify("bad")).willReturn(TokenStatus.MALFORMED);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        request.addHeader("Authorization", "Bearer bad");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains(TokenStatus.MALFORMED.getMessage()));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("허용 경로는 토큰이 없어도 다음 필터로 넘긴다")
+    void passPublic() throws Exception {
+        // given
+        given(jwtTokenProvider.verify(null)).willReturn(TokenStatus.MISSING);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/availability");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(TokenStatus.MISSING, request.getAttribute(JwtAuthenticationFilter.TOKEN_STATUS_ATTRIBUTE));
+    }
+
+    @Test
+    @DisplayName("사용자 조회가 DB 동시성 한도로 거절되면 503 과 Retry-After")
+    void overloaded() throws Exception {
+        // given
+        given(jwtTokenProvider.verify("good")).willReturn(TokenStatus.VALID);
+        given(jwtTokenProvider.getAuthentication("good"))
+                .willThrow(new ConcurrencyLimitExceededException("repository", "DB 동시 호출 한도(1)를 초과했습니다."));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        request.addHeader("Authorization", "Bearer good");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+    }
+}
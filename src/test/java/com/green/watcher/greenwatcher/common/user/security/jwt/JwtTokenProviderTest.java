@@ -0,0 +1,102 @@
+package com.green.watcher.greenwatcher.common.user.security.jwt;
+
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.user.security.service.UserService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tcHJvdmlkZXItdGVzdA==";
+
+    private MetricsRegistry metricsRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        metricsRegistry = new MetricsRegistry();
+        jwtTokenProvider = new JwtTokenProvider(Mockito.mock(UserService.class), metricsRegistry, SECRET);
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 VALID")
+    void valid() {
+        // given
+        String token = jwtTokenProvider.createToken("user1",
+                new UsernamePasswordAuthenticationToken("user1", "", AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        // when
+        TokenStatus status = jwtTokenProvider.verify(token);
+
+        // then
+        assertEquals(TokenStatus.VALID, status);
+        assertTrue(jwtTokenProvider.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("토큰이 없거나 형식이 틀리면 MISSING / MALFORMED")
+    void missingOrMalformed() {
+        // given
+        // when
+        // then
+        assertEquals(TokenStatus.MISSING, jwtTokenProvider.verify(null));
+        assertEquals(TokenStatus.MISSING, jwtTokenProvider.verify(""));
+        assertEquals(TokenStatus.MALFORMED, jwtTokenProvider.verify("null"));
+        assertEquals(TokenStatus.MALFORMED, jwtTokenProvider.verify("a.b"));
+        assertEquals(TokenStatus.MALFORMED, jwtTokenProvider.verify("a.b.c.d"));
+        assertEquals(TokenStatus.MALFORMED, jwtTokenProvider.verify("a..c"));
+        assertEquals(TokenStatus.MALFORMED, jwtTokenProvider.verify("가.나.다"));
+        assertEquals(2L, metricsRegistry.counterValues().get("jwt.rejected.missing"));
+        assertEquals(5L, metricsRegistry.counterValues().get("jwt.rejected.malformed"));
+        //MISSING 은 jwt.verify 표본에 넣지 않는다.
+        assertEquals(5L, metricsRegistry.recorder("jwt.verify").snapshot(0).getCount());
+        assertEquals(5L, metricsRegistry.recorder("jwt.verify").snapshot(0).getErrors());
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 INVALID_SIGNATURE")
+    void invalidSignature() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("user1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode("b3RoZXItc2VjcmV0LWtleS1mb3Itand0LXRva2VuLXByb3ZpZGVyLXRlc3Q=")),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        TokenStatus status = jwtTokenProvider.verify(token);
+
+        // then
+        assertEquals(TokenStatus.INVALID_SIGNATURE, status);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 EXPIRED")
+    void expired() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("user1")
+                .setExpiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        TokenStatus status = jwtTokenProvider.verify(token);
+
+        // then
+        assertEquals(TokenStatus.EXPIRED, status);
+    }
+}
@@ -1,8 +1,12 @@
 package com.green.watcher.greenwatcher.common.user.security.service;
 
+import com.green.watcher.greenwatcher.common.metrics.MetricsRegistry;
+import com.green.watcher.greenwatcher.common.user.availability.DuplicateUserFieldException;
+import com.green.watcher.greenwatcher.common.user.availability.UserAvailabilityService;
 import com.green.watcher.greenwatcher.common.user.dto.UserRegistrationDTO;
 import com.green.watcher.greenwatcher.common.user.entity.User;
 import com.green.watcher.greenwatcher.common.user.enumerate.Role;
+import com.green.watcher.greenwatcher.common.user.enumerate.UserField;
 import com.green.watcher.greenwatcher.common.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +17,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,7 +37,9 @@ class UserServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        userService = new UserService(passwordEncoder, userRepository);
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        userService = new UserService(passwordEncoder, userRepository, metricsRegistry,
+                new UserAvailabilityService(userRepository, metricsRegistry, Runnable::run, 1000, 0.01));
     }
 
     @Test
@@ -64,16 +71,16 @@ class UserServiceTest {
         dto.setPassword("password");
 
         User user = dto.toEntity();
-        when(userRepository.existsById(dto.getId())).thenReturn(false);
         when(passwordEncoder.encode(dto.getPassword())).thenReturn("encodedPass");
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.insert(any(User.class))).thenReturn(user);
 
         // when
         boolean result = userService.registerUser(dto);
 
         // then
         assertTrue(result);
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).insert(any(User.class));
+        verify(userRepository, never()).existsById(any());
     }
 
     @Test
@@ -84,12 +91,31 @@ class UserServiceTest {
         dto.setId("user1");
         dto.setPassword("password");
 
-        when(userRepository.existsById(dto.getId())).thenReturn(true);
+        when(userRepository.insert(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("A different object with the same identifier value was already associated with the session"));
 
         // when & then
-        assertThrows(DataIntegrityViolationException.class, () -> {
+        DuplicateUserFieldException exception = assertThrows(DuplicateUserFieldException.class, () -> {
             userService.registerUser(dto);
         });
+        assertEquals(UserField.ID, exception.getField());
     }
-    
+
+    @Test
+    @DisplayName("중복 닉네임 / 이메일 제약 위반 필드 구분")
+    void testViolatedField() {
+        // given
+        DataIntegrityViolationException nickname = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Unique index or primary key violation: \"PUBLIC.UK_USER_NICKNAME_INDEX_9 ON PUBLIC.T_USER(NICKNAME NULLS FIRST) VALUES ('닉네임')\""));
+        DataIntegrityViolationException email = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Unique index or primary key violation: \"PUBLIC.CONSTRAINT_INDEX_A ON PUBLIC.T_USER(EMAIL NULLS FIRST) VALUES ('a@b.c')\""));
+        DataIntegrityViolationException id = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Unique index or primary key violation: \"PUBLIC.PRIMARY_KEY_9 ON PUBLIC.T_USER(ID) VALUES ('user1')\""));
+
+        // when & then
+        assertEquals(UserField.NICKNAME, UserService.violatedField(nickname));
+        assertEquals(UserField.EMAIL, UserService.violatedField(email));
+        assertEquals(UserField.ID, UserService.violatedField(id));
+    }
+
 }
\ No newline at end of file
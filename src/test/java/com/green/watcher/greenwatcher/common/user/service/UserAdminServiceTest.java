@@ -0,0 +1,27 @@
+package com.green.watcher.greenwatcher.common.user.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserAdminServiceTest {
+
+    @Test
+    @DisplayName("수식 문자로 시작하는 CSV 값은 ' 를 붙여 수식으로 해석되지 않게 한다")
+    public void testAppendCsvEscapesFormula() {
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\"", csv("=HYPERLINK(\"x\")"));
+        assertEquals("'+1", csv("+1"));
+        assertEquals("'-1", csv("-1"));
+        assertEquals("'@SUM(A1)", csv("@SUM(A1)"));
+        assertEquals("\"'=1,2\"", csv("=1,2"));
+        assertEquals("nick-name", csv("nick-name"));
+        assertEquals("\"a,b\"", csv("a,b"));
+        assertEquals("", csv(""));
+        assertEquals("", csv(null));
+    }
+
+    private static String csv(String value) {
+        return UserAdminService.appendCsv(new StringBuilder(), value).toString();
+    }
+}